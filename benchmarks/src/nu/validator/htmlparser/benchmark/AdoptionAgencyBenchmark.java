@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.benchmark;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import nu.validator.htmlparser.common.XmlViolationPolicy;
+import nu.validator.htmlparser.sax.HtmlParser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Measures the tree builder on adversarial documents that make the adoption
+ * agency algorithm do as much work as possible. Comparing the scores for
+ * the two sizes shows whether the work grows linearly with the number of
+ * misnested elements.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AdoptionAgencyBenchmark {
+
+    /**
+     * Many unclosed <code>b</code> elements followed by a block and the
+     * matching end tags, one adoption agency run per end tag.
+     */
+    public static final String UNCLOSED = "unclosed";
+
+    /**
+     * A <code>b</code> end tag with long runs of ordinary elements both
+     * below and above the furthest block, so that the inner loop removes a
+     * long run from the middle of the stack.
+     */
+    public static final String DEEP = "deep";
+
+    /**
+     * A <code>b</code> end tag with a long run of distinct formatting
+     * elements below the furthest block, so that the inner loop looks up
+     * many nodes on a long list of active formatting elements and removes
+     * them from it. Building the list runs the Noah's Ark check of each start
+     * tag against many elements with the same name.
+     */
+    public static final String FORMATTING = "formatting";
+
+    /**
+     * Like <code>FORMATTING</code> but with as many formatting elements
+     * above the furthest block, so that each removal from the list of active
+     * formatting elements has a long tail behind it.
+     */
+    public static final String TAIL = "tail";
+
+    /**
+     * A paragraph with many unclosed <code>b</code> elements that differ
+     * only in their attributes, so that each start tag runs the Noah's Ark
+     * check against a long list of active formatting elements.
+     */
+    public static final String NOAHS_ARK = "noahsark";
+
+    @Param({ UNCLOSED, DEEP, FORMATTING, TAIL, NOAHS_ARK })
+    public String shape;
+
+    @Param({ "1000", "10000" })
+    public int size;
+
+    private String document;
+
+    private HtmlParser parser;
+
+    @Setup public void setUp() {
+        document = generate(shape, size);
+        parser = new HtmlParser(XmlViolationPolicy.ALLOW);
+        parser.setContentHandler(new DefaultHandler());
+    }
+
+    @Benchmark public HtmlParser parse() throws IOException, SAXException {
+        parser.parse(new InputSource(new StringReader(document)));
+        return parser;
+    }
+
+    /**
+     * Generates an adversarial document.
+     * 
+     * @param shape
+     *            one of the shape constants
+     * @param size
+     *            the number of misnested elements per adoption agency run
+     * @return the document
+     */
+    public static String generate(String shape, int size) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("<!DOCTYPE html>\n<title>Adoption agency</title>\n");
+        if (UNCLOSED.equals(shape)) {
+            for (int i = 0; i < size; i++) {
+                sb.append("<b>x");
+            }
+            sb.append("<div>");
+            for (int i = 0; i < size; i++) {
+                sb.append("</b>y");
+            }
+        } else if (DEEP.equals(shape)) {
+            for (int run = 0; run < 10; run++) {
+                sb.append("<b>");
+                for (int i = 0; i < size; i++) {
+                    sb.append("<span>");
+                }
+                sb.append("<div>");
+                for (int i = 0; i < size; i++) {
+                    sb.append("<span>");
+                }
+                sb.append("x</b>");
+            }
+        } else if (FORMATTING.equals(shape)) {
+            for (int run = 0; run < 10; run++) {
+                sb.append("<b>");
+                for (int i = 0; i < size; i++) {
+                    // Distinct attributes keep the Noah's Ark clause from
+                    // trimming the list.
+                    sb.append("<u id=u").append(run).append('-').append(i).append('>');
+                }
+                sb.append("<div>x</b>");
+            }
+        } else if (TAIL.equals(shape)) {
+            for (int run = 0; run < 10; run++) {
+                sb.append("<b>");
+                for (int i = 0; i < size; i++) {
+                    sb.append("<u id=u").append(run).append('-').append(i).append('>');
+                }
+                sb.append("<div>");
+                for (int i = 0; i < size; i++) {
+                    sb.append("<i id=i").append(run).append('-').append(i).append('>');
+                }
+                sb.append("x</b>");
+            }
+        } else if (NOAHS_ARK.equals(shape)) {
+            sb.append("<p>");
+            for (int i = 0; i < size; i++) {
+                sb.append("<b class=c").append(i).append(">x");
+            }
+        } else {
+            throw new IllegalArgumentException("Unknown shape: " + shape);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,371 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.util.Random;
+
+/**
+ * The documents the benchmarks parse. Each document is generated
+ * deterministically in memory unless a directory containing a file of the
+ * same name is named by the <code>nu.validator.htmlparser.benchmark.corpus</code>
+ * system property, in which case the file is used instead.
+ */
+public final class Corpus {
+
+    /**
+     * The system property that names a directory of real-world pages.
+     */
+    public static final String CORPUS_PROPERTY = "nu.validator.htmlparser.benchmark.corpus";
+
+    /**
+     * A typical page of about 16 KB.
+     */
+    public static final String SMALL = "small";
+
+    /**
+     * A long article page of about 1 MB.
+     */
+    public static final String ONE_MB = "1mb";
+
+    /**
+     * A very long article page of about 50 MB.
+     */
+    public static final String FIFTY_MB = "50mb";
+
+    /**
+     * A page with elements nested thousands of levels deep.
+     */
+    public static final String NESTED = "nested";
+
+    /**
+     * A page that consists mainly of tables, some of them misnested.
+     */
+    public static final String TABLES = "tables";
+
+    /**
+     * A page that consists mainly of character references.
+     */
+    public static final String ENTITIES = "entities";
+
+    private static final String[] WORDS = { "the", "parser", "of", "and",
+            "document", "to", "in", "a", "element", "is", "tree", "that",
+            "for", "it", "attribute", "as", "with", "token", "be", "on",
+            "not", "this", "by", "are", "or", "state", "from", "at", "which",
+            "character", "an", "have", "encoding", "but", "stream", "all",
+            "they", "table", "were", "been", "stack", "more", "when", "node",
+            "will", "would", "formatting", "there", "insertion", "their" };
+
+    private static final String[] ENTITY_REFS = { "&amp;", "&lt;", "&gt;",
+            "&quot;", "&nbsp;", "&copy;", "&eacute;", "&Eacute;", "&uuml;",
+            "&szlig;", "&hellip;", "&mdash;", "&ndash;", "&rarr;", "&larr;",
+            "&alpha;", "&beta;", "&gamma;", "&Delta;", "&sum;", "&int;",
+            "&infin;", "&le;", "&ge;", "&ne;", "&NotNestedGreaterGreater;",
+            "&CounterClockwiseContourIntegral;", "&amp", "&copy", "&#160;",
+            "&#x2014;", "&#8364;", "&#x1F600;", "&notin;", "&not", "&ampx" };
+
+    private Corpus() {
+    }
+
+    /**
+     * Returns the names of all the documents in the corpus.
+     * 
+     * @return the names
+     */
+    public static String[] names() {
+        return new String[] { SMALL, ONE_MB, FIFTY_MB, NESTED, TABLES,
+                ENTITIES };
+    }
+
+    /**
+     * Returns a document as UTF-8 bytes.
+     * 
+     * @param name
+     *            the name of the document
+     * @return the bytes
+     * @throws IOException
+     *             if reading a real-world page failed
+     */
+    public static byte[] bytes(String name) throws IOException {
+        String dir = System.getProperty(CORPUS_PROPERTY);
+        if (dir != null) {
+            File file = new File(dir, name + ".html");
+            if (file.isFile()) {
+                return readFully(file);
+            }
+        }
+        return toUtf8(generate(name));
+    }
+
+    /**
+     * Returns a document decoded as UTF-8.
+     * 
+     * @param name
+     *            the name of the document
+     * @return the characters
+     * @throws IOException
+     *             if reading a real-world page failed
+     */
+    public static char[] chars(String name) throws IOException {
+        return new String(bytes(name), "UTF-8").toCharArray();
+    }
+
+    /**
+     * Generates a synthetic document.
+     * 
+     * @param name
+     *            the name of the document
+     * @return the document source
+     */
+    public static String generate(String name) {
+        Random random = new Random(name.hashCode());
+        StringBuilder sb = new StringBuilder();
+        if (SMALL.equals(name)) {
+            page(sb, random, 16 * 1024);
+        } else if (ONE_MB.equals(name)) {
+            page(sb, random, 1024 * 1024);
+        } else if (FIFTY_MB.equals(name)) {
+            page(sb, random, 50 * 1024 * 1024);
+        } else if (NESTED.equals(name)) {
+            nested(sb, random, 5000);
+        } else if (TABLES.equals(name)) {
+            tables(sb, random, 1024 * 1024);
+        } else if (ENTITIES.equals(name)) {
+            entities(sb, random, 1024 * 1024);
+        } else {
+            throw new IllegalArgumentException("Unknown document: " + name);
+        }
+        return sb.toString();
+    }
+
+    private static void head(StringBuilder sb, Random random) {
+        sb.append("<!DOCTYPE html>\n<html lang=\"en\">\n<head>\n");
+        sb.append("<meta charset=\"utf-8\">\n");
+        sb.append("<meta name=\"viewport\" content=\"width=device-width, initial-scale=1\">\n");
+        sb.append("<title>");
+        words(sb, random, 8);
+        sb.append("</title>\n");
+        sb.append("<link rel=\"stylesheet\" href=\"/static/css/site.css\">\n");
+        sb.append("<style>\nbody { font-family: sans-serif; margin: 0 auto; max-width: 60em; }\n");
+        sb.append(".nav > li { display: inline-block; } a[href^=\"http\"]::after { content: \"\\2197\"; }\n</style>\n");
+        sb.append("<script>\nvar dataLayer = window.dataLayer || [];\n");
+        sb.append("function track(e) { if (e && e.target && e.target.href.length < 2048) { dataLayer.push({event: 'click', href: e.target.href}); } }\n");
+        sb.append("</script>\n</head>\n");
+    }
+
+    private static void words(StringBuilder sb, Random random, int count) {
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+    }
+
+    private static void paragraph(StringBuilder sb, Random random) {
+        sb.append("<p>");
+        int sentences = 2 + random.nextInt(5);
+        for (int i = 0; i < sentences; i++) {
+            words(sb, random, 3 + random.nextInt(10));
+            switch (random.nextInt(6)) {
+                case 0:
+                    sb.append(" <a href=\"https://example.com/");
+                    sb.append(WORDS[random.nextInt(WORDS.length)]);
+                    sb.append("/");
+                    sb.append(random.nextInt(100000));
+                    sb.append("\" class=\"link external\" rel=\"nofollow\">");
+                    words(sb, random, 1 + random.nextInt(4));
+                    sb.append("</a>");
+                    break;
+                case 1:
+                    sb.append(" <em>");
+                    words(sb, random, 1 + random.nextInt(3));
+                    sb.append("</em>");
+                    break;
+                case 2:
+                    sb.append(" <b>");
+                    words(sb, random, 1 + random.nextInt(3));
+                    sb.append("</b>");
+                    break;
+                case 3:
+                    sb.append(" <code>");
+                    words(sb, random, 1);
+                    sb.append("</code>");
+                    break;
+                default:
+                    break;
+            }
+            sb.append(". ");
+        }
+        sb.append("</p>\n");
+    }
+
+    private static void article(StringBuilder sb, Random random) {
+        sb.append("<article class=\"post\" data-id=\"");
+        sb.append(random.nextInt(1000000));
+        sb.append("\">\n<h2>");
+        words(sb, random, 5);
+        sb.append("</h2>\n");
+        int paragraphs = 3 + random.nextInt(6);
+        for (int i = 0; i < paragraphs; i++) {
+            paragraph(sb, random);
+        }
+        if (random.nextInt(3) == 0) {
+            sb.append("<img src=\"/img/");
+            sb.append(random.nextInt(10000));
+            sb.append(".jpg\" alt=\"\" width=\"640\" height=\"480\">\n");
+        }
+        if (random.nextInt(4) == 0) {
+            sb.append("<ul>\n");
+            int items = 2 + random.nextInt(6);
+            for (int i = 0; i < items; i++) {
+                sb.append("<li>");
+                words(sb, random, 4);
+                sb.append("\n");
+            }
+            sb.append("</ul>\n");
+        }
+        sb.append("</article>\n");
+    }
+
+    private static void page(StringBuilder sb, Random random, int size) {
+        head(sb, random);
+        sb.append("<body class=\"page\">\n<header>\n<nav><ul class=\"nav\">\n");
+        for (int i = 0; i < 10; i++) {
+            sb.append("<li><a href=\"/section/");
+            sb.append(i);
+            sb.append("\">");
+            words(sb, random, 1);
+            sb.append("</a></li>\n");
+        }
+        sb.append("</ul></nav>\n</header>\n<main>\n");
+        while (sb.length() < size - 1024) {
+            article(sb, random);
+        }
+        sb.append("</main>\n<footer><form action=\"/search\" method=\"get\">");
+        sb.append("<input type=\"text\" name=\"q\" placeholder=\"Search\">");
+        sb.append("<input type=\"submit\" value=\"Go\"></form>");
+        sb.append("<p>&copy; 2026 Example</p></footer>\n</body>\n</html>\n");
+    }
+
+    private static void nested(StringBuilder sb, Random random, int depth) {
+        head(sb, random);
+        sb.append("<body>\n");
+        for (int i = 0; i < depth; i++) {
+            sb.append((i & 1) == 0 ? "<div class=\"level\">" : "<span>");
+            words(sb, random, 2);
+            sb.append('\n');
+        }
+        for (int i = depth - 1; i >= 0; i--) {
+            sb.append((i & 1) == 0 ? "</div>" : "</span>");
+        }
+        sb.append("\n</body>\n</html>\n");
+    }
+
+    private static void tables(StringBuilder sb, Random random, int size) {
+        head(sb, random);
+        sb.append("<body>\n");
+        while (sb.length() < size) {
+            sb.append("<table class=\"data\">\n<thead><tr>");
+            int columns = 3 + random.nextInt(8);
+            for (int i = 0; i < columns; i++) {
+                sb.append("<th>");
+                words(sb, random, 1);
+            }
+            sb.append("\n<tbody>\n");
+            int rows = 10 + random.nextInt(40);
+            for (int j = 0; j < rows; j++) {
+                sb.append("<tr>");
+                for (int i = 0; i < columns; i++) {
+                    sb.append("<td align=\"right\">");
+                    if (random.nextInt(10) == 0) {
+                        sb.append("<table><tr><td>");
+                        sb.append(random.nextInt(1000));
+                        sb.append("</table>");
+                    } else {
+                        sb.append(random.nextInt(100000));
+                    }
+                }
+                if (random.nextInt(20) == 0) {
+                    // Misnested content that gets foster parented
+                    sb.append("<b>");
+                    words(sb, random, 2);
+                }
+                sb.append('\n');
+            }
+            sb.append("</table>\n");
+        }
+        sb.append("</body>\n</html>\n");
+    }
+
+    private static void entities(StringBuilder sb, Random random, int size) {
+        head(sb, random);
+        sb.append("<body>\n");
+        while (sb.length() < size) {
+            sb.append("<p title=\"");
+            sb.append(ENTITY_REFS[random.nextInt(ENTITY_REFS.length)]);
+            sb.append(ENTITY_REFS[random.nextInt(ENTITY_REFS.length)]);
+            sb.append("\">");
+            int count = 10 + random.nextInt(30);
+            for (int i = 0; i < count; i++) {
+                sb.append(ENTITY_REFS[random.nextInt(ENTITY_REFS.length)]);
+                if (random.nextInt(3) == 0) {
+                    sb.append(' ');
+                    sb.append(WORDS[random.nextInt(WORDS.length)]);
+                    sb.append(' ');
+                }
+            }
+            sb.append("</p>\n");
+        }
+        sb.append("</body>\n</html>\n");
+    }
+
+    private static byte[] toUtf8(String str) {
+        try {
+            return str.getBytes("UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static byte[] readFully(File file) throws IOException {
+        InputStream in = new FileInputStream(file);
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(
+                    (int) file.length());
+            byte[] buffer = new byte[8192];
+            int len;
+            while ((len = in.read(buffer)) != -1) {
+                out.write(buffer, 0, len);
+            }
+            return out.toByteArray();
+        } finally {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.benchmark;
+
+import nu.validator.htmlparser.common.TokenHandler;
+import nu.validator.htmlparser.impl.ElementName;
+import nu.validator.htmlparser.impl.HtmlAttributes;
+import nu.validator.htmlparser.impl.Tokenizer;
+
+import org.xml.sax.SAXException;
+
+/**
+ * A <code>TokenHandler</code> that only counts the tokens it receives so
+ * that the tokenizer can be measured in isolation.
+ */
+public final class CountingTokenHandler implements TokenHandler {
+
+    private int count;
+
+    /**
+     * Returns the number of tokens received since the start of tokenization.
+     * 
+     * @return the token count
+     */
+    public int getCount() {
+        return count;
+    }
+
+    public void startTokenization(Tokenizer self) throws SAXException {
+        count = 0;
+    }
+
+    public boolean wantsComments() throws SAXException {
+        return true;
+    }
+
+    public void doctype(String name, String publicIdentifier,
+            String systemIdentifier, boolean forceQuirks) throws SAXException {
+        count++;
+    }
+
+    public void startTag(ElementName eltName, HtmlAttributes attributes,
+            boolean selfClosing) throws SAXException {
+        count += 1 + attributes.getLength();
+    }
+
+    public void endTag(ElementName eltName) throws SAXException {
+        count++;
+    }
+
+    public void comment(char[] buf, int start, int length)
+            throws SAXException {
+        count++;
+    }
+
+    public void characters(char[] buf, int start, int length)
+            throws SAXException {
+        count++;
+    }
+
+    public void zeroOriginatingReplacementCharacter() throws SAXException {
+        count++;
+    }
+
+    public void eof() throws SAXException {
+    }
+
+    public void endTokenization() throws SAXException {
+    }
+
+    public boolean cdataSectionAllowed() throws SAXException {
+        return false;
+    }
+
+    public void ensureBufferSpace(int inputLength) throws SAXException {
+    }
+}
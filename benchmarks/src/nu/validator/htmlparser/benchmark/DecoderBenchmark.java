@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.benchmark;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.util.concurrent.TimeUnit;
+
+import nu.validator.encoding.Encoding;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures each <code>nu.validator.encoding</code> decoder decoding a page
+ * of markup interspersed with text in a variety of scripts. The input bytes
+ * are produced with the JDK encoder of the same name (replacing unmappable
+ * characters) or, if the JDK lacks the encoding, with ISO-8859-1.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DecoderBenchmark {
+
+    private static final String[] SAMPLES = {
+            "Français: l’élément naïf ",
+            "Русский текст ",
+            "Ελληνικά ",
+            "עברית ",
+            "العربية ",
+            "日本語のテキスト ",
+            "中文文本 ",
+            "한국어 텍스트 ",
+            "ภาษาไทย ",
+            "Ščeština Łódź ",
+            "😀 " };
+
+    @Param({ "utf-8", "utf-16le", "utf-16be", "windows-1252", "windows-1250",
+            "windows-1251", "windows-1253", "windows-1254", "windows-1255",
+            "windows-1256", "windows-1257", "windows-1258", "windows-874",
+            "iso-8859-2", "iso-8859-3", "iso-8859-4", "iso-8859-5",
+            "iso-8859-6", "iso-8859-7", "iso-8859-8", "iso-8859-8-i",
+            "iso-8859-10", "iso-8859-13", "iso-8859-14", "iso-8859-15",
+            "iso-8859-16", "koi8-r", "koi8-u", "ibm866", "macintosh",
+            "x-mac-cyrillic", "x-user-defined", "gbk", "gb18030", "big5",
+            "euc-jp", "iso-2022-jp", "shift_jis", "euc-kr" })
+    public String encoding;
+
+    @Param({ Corpus.SMALL, Corpus.ONE_MB })
+    public String document;
+
+    private ByteBuffer bytes;
+
+    private CharBuffer chars;
+
+    private CharsetDecoder decoder;
+
+    @Setup public void setUp() throws CharacterCodingException {
+        String markup = Corpus.generate(document);
+        StringBuilder sb = new StringBuilder(markup.length() * 2);
+        int sample = 0;
+        int start = 0;
+        for (;;) {
+            int gt = markup.indexOf('>', start + 200);
+            if (gt == -1) {
+                sb.append(markup, start, markup.length());
+                break;
+            }
+            sb.append(markup, start, gt + 1);
+            sb.append(SAMPLES[sample++ % SAMPLES.length]);
+            start = gt + 1;
+        }
+        bytes = encode(sb);
+        decoder = Encoding.forName(encoding).newDecoder();
+        decoder.onMalformedInput(CodingErrorAction.REPLACE);
+        decoder.onUnmappableCharacter(CodingErrorAction.REPLACE);
+        chars = CharBuffer.allocate((int) (bytes.remaining()
+                * decoder.maxCharsPerByte()) + 16);
+    }
+
+    private ByteBuffer encode(CharSequence text)
+            throws CharacterCodingException {
+        Charset jdk;
+        try {
+            jdk = Charset.forName(jdkName(encoding));
+        } catch (IllegalArgumentException e) {
+            jdk = Charset.forName("ISO-8859-1");
+        }
+        CharsetEncoder encoder = jdk.newEncoder();
+        encoder.onMalformedInput(CodingErrorAction.REPLACE);
+        encoder.onUnmappableCharacter(CodingErrorAction.REPLACE);
+        return encoder.encode(CharBuffer.wrap(text));
+    }
+
+    private static String jdkName(String label) {
+        if ("x-mac-cyrillic".equals(label)) {
+            return "x-MacCyrillic";
+        } else if ("macintosh".equals(label)) {
+            return "x-MacRoman";
+        } else if ("iso-8859-8-i".equals(label)) {
+            return "ISO-8859-8";
+        } else if ("windows-874".equals(label)) {
+            return "x-windows-874";
+        } else if ("x-user-defined".equals(label)) {
+            return "ISO-8859-1";
+        } else if ("big5".equals(label)) {
+            return "Big5-HKSCS";
+        }
+        return label;
+    }
+
+    @Benchmark public int decode() {
+        ByteBuffer in = bytes.duplicate();
+        chars.clear();
+        decoder.reset();
+        decoder.decode(in, chars, true);
+        decoder.flush(chars);
+        return chars.position();
+    }
+}
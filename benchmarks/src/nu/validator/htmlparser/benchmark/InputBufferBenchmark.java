@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+package nu.validator.htmlparser.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import nu.validator.htmlparser.common.XmlViolationPolicy;
+import nu.validator.htmlparser.sax.HtmlParser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Measures <code>sax.HtmlParser.parse()</code> from a byte stream across
+ * driver input buffer sizes, with and without adaptive buffer growth.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class InputBufferBenchmark {
+
+    @Param({ Corpus.SMALL, Corpus.ONE_MB, Corpus.FIFTY_MB })
+    public String document;
+
+    @Param({ "2048", "8192", "32768" })
+    public int bufferSize;
+
+    @Param({ "false", "true" })
+    public boolean adaptive;
+
+    private byte[] bytes;
+
+    private HtmlParser parser;
+
+    @Setup public void setUp() throws IOException, SAXException {
+        bytes = Corpus.bytes(document);
+        parser = new HtmlParser(XmlViolationPolicy.ALTER_INFOSET);
+        parser.setProperty("http://validator.nu/properties/input-buffer-size",
+                Integer.valueOf(bufferSize));
+        parser.setFeature("http://validator.nu/features/adaptive-input-buffer",
+                adaptive);
+        parser.setContentHandler(new DefaultHandler());
+    }
+
+    @Benchmark public HtmlParser parse() throws IOException, SAXException {
+        parser.parse(new InputSource(new ByteArrayInputStream(bytes)));
+        return parser;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+import nu.validator.htmlparser.common.XmlViolationPolicy;
+import nu.validator.htmlparser.sax.HtmlParser;
+import nu.validator.htmlparser.sax.HtmlSerializer;
+import nu.validator.saxtree.Node;
+import nu.validator.saxtree.TreeBuilder;
+import nu.validator.saxtree.TreeParser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+/**
+ * Measures <code>HtmlSerializer</code> serializing a pre-parsed tree to a
+ * writer that discards its output.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SerializerBenchmark {
+
+    /**
+     * A writer that only counts what is written to it.
+     */
+    private static final class CountingWriter extends Writer {
+
+        long count;
+
+        @Override public void write(char[] cbuf, int off, int len) {
+            count += len;
+        }
+
+        @Override public void write(int c) {
+            count++;
+        }
+
+        @Override public void write(String str, int off, int len) {
+            count += len;
+        }
+
+        @Override public void flush() {
+        }
+
+        @Override public void close() {
+        }
+    }
+
+    @Param({ Corpus.SMALL, Corpus.ONE_MB, Corpus.FIFTY_MB, Corpus.NESTED,
+            Corpus.TABLES, Corpus.ENTITIES })
+    public String document;
+
+    private Node tree;
+
+    @Setup public void setUp() throws IOException, SAXException {
+        TreeBuilder treeBuilder = new TreeBuilder();
+        HtmlParser parser = new HtmlParser(XmlViolationPolicy.ALLOW);
+        parser.setContentHandler(treeBuilder);
+        parser.setLexicalHandler(treeBuilder);
+        parser.parse(new InputSource(new ByteArrayInputStream(
+                Corpus.bytes(document))));
+        tree = treeBuilder.getRoot();
+    }
+
+    @Benchmark public long serialize() throws SAXException {
+        CountingWriter writer = new CountingWriter();
+        HtmlSerializer serializer = new HtmlSerializer(writer);
+        new TreeParser(serializer, serializer).parse(tree);
+        return writer.count;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+package nu.validator.htmlparser.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import nu.validator.htmlparser.common.XmlViolationPolicy;
+import nu.validator.htmlparser.dom.HtmlDocumentBuilder;
+import nu.validator.htmlparser.sax.HtmlParser;
+import nu.validator.htmlparser.xom.HtmlBuilder;
+import nu.xom.ParsingException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Measures time-to-first-parse: constructing a parser and parsing a small
+ * document once in a fresh JVM, including the loading and initialization of
+ * the parser classes. The setup must not touch any parser class, so every
+ * fork starts cold. See the usage notes in pom.xml for running this against
+ * an AppCDS archive.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark {
+
+    private byte[] bytes;
+
+    @Setup public void setUp() throws IOException {
+        bytes = Corpus.bytes(Corpus.SMALL);
+    }
+
+    @Benchmark public HtmlParser sax() throws IOException, SAXException {
+        HtmlParser parser = new HtmlParser(XmlViolationPolicy.ALTER_INFOSET);
+        parser.setContentHandler(new DefaultHandler());
+        parser.parse(new InputSource(new ByteArrayInputStream(bytes)));
+        return parser;
+    }
+
+    @Benchmark public Document dom() throws IOException, SAXException {
+        HtmlDocumentBuilder builder = new HtmlDocumentBuilder(
+                XmlViolationPolicy.ALTER_INFOSET);
+        return builder.parse(new InputSource(new ByteArrayInputStream(bytes)));
+    }
+
+    @Benchmark public nu.xom.Document xom() throws IOException,
+            ParsingException {
+        HtmlBuilder builder = new HtmlBuilder(XmlViolationPolicy.ALTER_INFOSET);
+        return builder.build(new ByteArrayInputStream(bytes));
+    }
+}
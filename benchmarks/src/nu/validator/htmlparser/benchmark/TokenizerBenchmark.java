@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import nu.validator.htmlparser.impl.Tokenizer;
+import nu.validator.htmlparser.impl.UTF16Buffer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xml.sax.SAXException;
+
+/**
+ * Measures <code>Tokenizer.tokenizeBuffer()</code> driving a token handler
+ * that does no work. The input is fed in chunks of the same size as the
+ * ones <code>Driver</code> uses.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TokenizerBenchmark {
+
+    @Param({ Corpus.SMALL, Corpus.ONE_MB, Corpus.FIFTY_MB, Corpus.NESTED,
+            Corpus.TABLES, Corpus.ENTITIES })
+    public String document;
+
+    @Param({ "2048" })
+    public int chunkSize;
+
+    private char[] chars;
+
+    private char[] chunk;
+
+    private CountingTokenHandler handler;
+
+    private Tokenizer tokenizer;
+
+    @Setup public void setUp() throws IOException {
+        chars = Corpus.chars(document);
+        chunk = new char[chunkSize];
+        handler = new CountingTokenHandler();
+        tokenizer = new Tokenizer(handler, false);
+    }
+
+    @Benchmark public int tokenize() throws SAXException {
+        tokenizer.start();
+        try {
+            UTF16Buffer buffer = new UTF16Buffer(chunk, 0, 0);
+            boolean lastWasCR = false;
+            int offset = 0;
+            while (offset < chars.length) {
+                int len = Math.min(chunk.length, chars.length - offset);
+                System.arraycopy(chars, offset, chunk, 0, len);
+                offset += len;
+                buffer.setStart(0);
+                buffer.setEnd(len);
+                while (buffer.hasMore()) {
+                    buffer.adjust(lastWasCR);
+                    lastWasCR = false;
+                    if (buffer.hasMore()) {
+                        lastWasCR = tokenizer.tokenizeBuffer(buffer);
+                    }
+                }
+            }
+            tokenizer.eof();
+        } finally {
+            tokenizer.end();
+        }
+        return handler.getCount();
+    }
+}
@@ -23,13 +23,33 @@
 package nu.validator.htmlparser.common;
 
 /**
- * A placeholder type that translates into the type of the C++ class that
- * implements an interning service for local names (<code>@Local</code> in
- * Java).
+ * A type that translates into the type of the C++ class that implements an
+ * interning service for local names (<code>@Local</code> in Java). In Java,
+ * implementations return canonical strings for names that are not in the
+ * static tables.
+ * 
+ * <p>A parser calls its interner only on the thread that runs the parse, so
+ * an implementation needs to be thread-safe only if it is shared between
+ * parsers that run concurrently.
  * 
  * @version $Id$
  * @author hsivonen
  */
 public interface Interner {
 
+    /**
+     * Returns the canonical string for a local name. The return value must
+     * be identical to <code>String.intern()</code> called on a string with
+     * the same characters.
+     * 
+     * @param buf
+     *            the buffer holding the name
+     * @param offset
+     *            the start of the name in the buffer
+     * @param length
+     *            the length of the name
+     * @return the canonical string
+     */
+    public String intern(char[] buf, int offset, int length);
+
 }
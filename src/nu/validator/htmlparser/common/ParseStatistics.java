@@ -0,0 +1,467 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+package nu.validator.htmlparser.common;
+
+/**
+ * The counts and timings of one parse, reported to a
+ * <code>ParserMetrics</code>. The <code>count</code> and <code>record</code>
+ * methods are called by the parser; applications only read the values.
+ * 
+ * <p>
+ * Tags, attributes and character runs are counted as the tree builder
+ * receives them, so they include tokens replayed from speculative
+ * tokenization. Character references are counted by the tokenizer of the
+ * driver and do not include speculatively tokenized chunks that were
+ * replayed.
+ * 
+ * @version $Id$
+ */
+public final class ParseStatistics {
+
+    /**
+     * How the character encoding of the document was determined.
+     */
+    public enum EncodingSource {
+        /**
+         * A character stream was parsed, so nothing was decoded.
+         */
+        CHARACTER_STREAM,
+
+        /**
+         * The encoding was given by the transport layer or the application.
+         */
+        TRANSPORT,
+
+        /**
+         * A byte order mark.
+         */
+        BOM,
+
+        /**
+         * A <code>meta</code> found by the prescan of the first 1024 bytes.
+         */
+        PRESCAN,
+
+        /**
+         * A detector enabled by the heuristics setting.
+         */
+        HEURISTICS,
+
+        /**
+         * Nothing, so the default was used.
+         */
+        DEFAULT,
+
+        /**
+         * A <code>meta</code> found by the tree builder after the prescan,
+         * which made the driver reparse the document.
+         */
+        DECLARATION
+    }
+
+    private int startTags;
+
+    private int endTags;
+
+    private int attributes;
+
+    private int characterRuns;
+
+    private int namedCharacterReferences;
+
+    private int numericCharacterReferences;
+
+    private long bytesDecoded;
+
+    private String encoding;
+
+    private String decoder;
+
+    private EncodingSource encodingSource;
+
+    private int reparses;
+
+    private int maxStackDepth;
+
+    private int fosterParentings;
+
+    private int adoptionAgencyInvocations;
+
+    private long adoptionAgencyIterations;
+
+    private long mark = System.nanoTime();
+
+    private long sniffingTime;
+
+    private long parsingTime;
+
+    private long finishingTime;
+
+    /**
+     * Counts a start tag received by the tree builder.
+     * 
+     * @param attributeCount
+     *            the number of attributes on the tag
+     */
+    public void countStartTag(int attributeCount) {
+        startTags++;
+        attributes += attributeCount;
+    }
+
+    /**
+     * Counts an end tag received by the tree builder.
+     */
+    public void countEndTag() {
+        endTags++;
+    }
+
+    /**
+     * Counts a run of characters received by the tree builder.
+     */
+    public void countCharacterRun() {
+        characterRuns++;
+    }
+
+    /**
+     * Counts a named character reference resolved by the tokenizer.
+     */
+    public void countNamedCharacterReference() {
+        namedCharacterReferences++;
+    }
+
+    /**
+     * Counts a numeric character reference resolved by the tokenizer.
+     */
+    public void countNumericCharacterReference() {
+        numericCharacterReferences++;
+    }
+
+    /**
+     * Counts character references resolved by a speculative tokenizer whose
+     * tokens were replayed.
+     * 
+     * @param named
+     *            the number of named character references
+     * @param numeric
+     *            the number of numeric character references
+     */
+    public void countCharacterReferences(int named, int numeric) {
+        namedCharacterReferences += named;
+        numericCharacterReferences += numeric;
+    }
+
+    /**
+     * Counts bytes that went through a decoder.
+     * 
+     * @param count
+     *            the number of bytes
+     */
+    public void countBytesDecoded(int count) {
+        bytesDecoded += count;
+    }
+
+    /**
+     * Counts a reparse caused by a change of the character encoding.
+     */
+    public void countReparse() {
+        reparses++;
+    }
+
+    /**
+     * Counts an element or a run of text inserted by foster parenting.
+     */
+    public void countFosterParenting() {
+        fosterParentings++;
+    }
+
+    /**
+     * Counts an invocation of the adoption agency algorithm.
+     */
+    public void countAdoptionAgency() {
+        adoptionAgencyInvocations++;
+    }
+
+    /**
+     * Counts iterations of the outer and inner loops of the adoption agency
+     * algorithm.
+     * 
+     * @param iterations
+     *            the number of iterations
+     */
+    public void countAdoptionAgencyIterations(int iterations) {
+        adoptionAgencyIterations += iterations;
+    }
+
+    /**
+     * Records the depth of the stack of open elements after a push.
+     * 
+     * @param depth
+     *            the number of open elements
+     */
+    public void recordStackDepth(int depth) {
+        if (depth > maxStackDepth) {
+            maxStackDepth = depth;
+        }
+    }
+
+    /**
+     * Records the encoding the document was decoded with.
+     * 
+     * @param encoding
+     *            the canonical name of the encoding
+     */
+    public void recordEncoding(String encoding) {
+        this.encoding = encoding;
+    }
+
+    /**
+     * Records the decoder the document was decoded with.
+     * 
+     * @param decoder
+     *            the class name of the decoder
+     */
+    public void recordDecoder(String decoder) {
+        this.decoder = decoder;
+    }
+
+    /**
+     * Records how the encoding was determined.
+     * 
+     * @param encodingSource
+     *            the source
+     */
+    public void recordEncodingSource(EncodingSource encodingSource) {
+        this.encodingSource = encodingSource;
+    }
+
+    /**
+     * Ends the sniffing phase, which started when this object was created.
+     */
+    public void recordSniffingDone() {
+        long now = System.nanoTime();
+        sniffingTime = now - mark;
+        mark = now;
+    }
+
+    /**
+     * Ends the parsing phase, which includes any reparses.
+     */
+    public void recordParsingDone() {
+        long now = System.nanoTime();
+        parsingTime = now - mark;
+        mark = now;
+    }
+
+    /**
+     * Ends the finishing phase, which ends the tokenization and the tree.
+     */
+    public void recordFinishingDone() {
+        long now = System.nanoTime();
+        finishingTime = now - mark;
+        mark = now;
+    }
+
+    /**
+     * Returns the number of start tags.
+     * 
+     * @return the number of start tags
+     */
+    public int getStartTags() {
+        return startTags;
+    }
+
+    /**
+     * Returns the number of end tags.
+     * 
+     * @return the number of end tags
+     */
+    public int getEndTags() {
+        return endTags;
+    }
+
+    /**
+     * Returns the number of attributes on start tags.
+     * 
+     * @return the number of attributes
+     */
+    public int getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Returns the number of character runs.
+     * 
+     * @return the number of character runs
+     */
+    public int getCharacterRuns() {
+        return characterRuns;
+    }
+
+    /**
+     * Returns the number of named character references.
+     * 
+     * @return the number of named character references
+     */
+    public int getNamedCharacterReferences() {
+        return namedCharacterReferences;
+    }
+
+    /**
+     * Returns the number of numeric character references.
+     * 
+     * @return the number of numeric character references
+     */
+    public int getNumericCharacterReferences() {
+        return numericCharacterReferences;
+    }
+
+    /**
+     * Returns the number of bytes decoded, counting reparses again.
+     * 
+     * @return the number of bytes decoded
+     */
+    public long getBytesDecoded() {
+        return bytesDecoded;
+    }
+
+    /**
+     * Returns the canonical name of the encoding.
+     * 
+     * @return the encoding or <code>null</code> for a character stream
+     */
+    public String getEncoding() {
+        return encoding;
+    }
+
+    /**
+     * Returns the class name of the last decoder used.
+     * 
+     * @return the decoder or <code>null</code> for a character stream
+     */
+    public String getDecoder() {
+        return decoder;
+    }
+
+    /**
+     * Returns how the encoding was determined.
+     * 
+     * @return the source of the encoding
+     */
+    public EncodingSource getEncodingSource() {
+        return encodingSource;
+    }
+
+    /**
+     * Returns the number of reparses.
+     * 
+     * @return the number of reparses
+     */
+    public int getReparses() {
+        return reparses;
+    }
+
+    /**
+     * Returns the maximum depth of the stack of open elements.
+     * 
+     * @return the maximum depth
+     */
+    public int getMaxStackDepth() {
+        return maxStackDepth;
+    }
+
+    /**
+     * Returns the number of foster-parented insertions.
+     * 
+     * @return the number of foster-parented insertions
+     */
+    public int getFosterParentings() {
+        return fosterParentings;
+    }
+
+    /**
+     * Returns the number of adoption agency algorithm invocations.
+     * 
+     * @return the number of invocations
+     */
+    public int getAdoptionAgencyInvocations() {
+        return adoptionAgencyInvocations;
+    }
+
+    /**
+     * Returns the combined number of outer and inner loop iterations of the
+     * adoption agency algorithm. Well-formed markup does not get past the
+     * first outer iteration; a count that grows much faster than the number
+     * of invocations points at heavily misnested formatting elements.
+     * 
+     * @return the number of iterations
+     */
+    public long getAdoptionAgencyIterations() {
+        return adoptionAgencyIterations;
+    }
+
+    /**
+     * Returns the time spent before the parse proper, mostly sniffing the
+     * encoding.
+     * 
+     * @return the time in nanoseconds
+     */
+    public long getSniffingTime() {
+        return sniffingTime;
+    }
+
+    /**
+     * Returns the time spent tokenizing and building the tree.
+     * 
+     * @return the time in nanoseconds
+     */
+    public long getParsingTime() {
+        return parsingTime;
+    }
+
+    /**
+     * Returns the time spent ending the tokenization and the tree.
+     * 
+     * @return the time in nanoseconds
+     */
+    public long getFinishingTime() {
+        return finishingTime;
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override public String toString() {
+        return "startTags=" + startTags + " endTags=" + endTags
+                + " attributes=" + attributes + " characterRuns="
+                + characterRuns + " namedCharacterReferences="
+                + namedCharacterReferences + " numericCharacterReferences="
+                + numericCharacterReferences + " bytesDecoded="
+                + bytesDecoded + " encoding=" + encoding + " decoder="
+                + decoder + " encodingSource=" + encodingSource
+                + " reparses=" + reparses + " maxStackDepth="
+                + maxStackDepth + " fosterParentings=" + fosterParentings
+                + " adoptionAgencyInvocations=" + adoptionAgencyInvocations
+                + " adoptionAgencyIterations=" + adoptionAgencyIterations
+                + " sniffingTime=" + sniffingTime + " parsingTime="
+                + parsingTime + " finishingTime=" + finishingTime;
+    }
+}
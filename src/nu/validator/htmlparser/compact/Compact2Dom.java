@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+package nu.validator.htmlparser.compact;
+
+import org.w3c.dom.DOMException;
+import org.w3c.dom.DOMImplementation;
+import org.w3c.dom.Document;
+import org.w3c.dom.DocumentFragment;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+/**
+ * Copies a <code>CompactDocument</code> or a subtree of it into a DOM so
+ * that code written against <code>org.w3c.dom</code> can be used on cached
+ * compact documents when needed. The result looks like what
+ * <code>HtmlDocumentBuilder</code> would have built.
+ * 
+ * @version $Id$
+ */
+public class Compact2Dom {
+
+    private final DOMImplementation implementation;
+
+    /**
+     * @param implementation
+     *            the DOM implementation that creates the documents
+     */
+    public Compact2Dom(DOMImplementation implementation) {
+        if (implementation == null) {
+            throw new IllegalArgumentException(
+                    "DOMImplementation must not be null.");
+        }
+        this.implementation = implementation;
+    }
+
+    /**
+     * Copies a compact document into a new DOM document.
+     * 
+     * @param compact
+     *            the compact document, which must not be a fragment
+     * @return the DOM document
+     * @throws DOMException
+     *             if the DOM implementation rejects a name
+     */
+    public Document toDocument(CompactDocument compact) throws DOMException {
+        if (compact.getNodeType(0) != CompactDocument.DOCUMENT_NODE) {
+            throw new IllegalArgumentException("Not a document.");
+        }
+        Document document = implementation.createDocument(null, null, null);
+        copyChildren(compact, 0, document, document);
+        return document;
+    }
+
+    /**
+     * Copies the children of node <code>0</code> of a compact document (a
+     * document or a fragment) into a new DOM document fragment.
+     * 
+     * @param compact
+     *            the compact document
+     * @param owner
+     *            the owner document of the fragment
+     * @return the DOM document fragment
+     * @throws DOMException
+     *             if the DOM implementation rejects a name
+     */
+    public DocumentFragment toDocumentFragment(CompactDocument compact,
+            Document owner) throws DOMException {
+        DocumentFragment fragment = owner.createDocumentFragment();
+        copyChildren(compact, 0, fragment, owner);
+        return fragment;
+    }
+
+    /**
+     * Copies a node of a compact document and its descendants.
+     * 
+     * @param compact
+     *            the compact document
+     * @param node
+     *            an element, text or comment node
+     * @param owner
+     *            the owner document of the copy
+     * @return the copy
+     * @throws DOMException
+     *             if the DOM implementation rejects a name
+     */
+    public Node toNode(CompactDocument compact, int node, Document owner)
+            throws DOMException {
+        Node copy = createNode(compact, node, owner);
+        copyChildren(compact, node, copy, owner);
+        return copy;
+    }
+
+    private void copyChildren(CompactDocument compact, int root,
+            Node rootCopy, Document owner) throws DOMException {
+        int current = compact.getFirstChild(root);
+        Node parentCopy = rootCopy;
+        while (current != CompactDocument.NONE) {
+            Node copy = createNode(compact, current, owner);
+            parentCopy.appendChild(copy);
+            int next = compact.getFirstChild(current);
+            if (next != CompactDocument.NONE) {
+                parentCopy = copy;
+            } else {
+                while ((next = compact.getNextSibling(current)) == CompactDocument.NONE) {
+                    current = compact.getParent(current);
+                    if (current == root) {
+                        return;
+                    }
+                    parentCopy = parentCopy.getParentNode();
+                }
+            }
+            current = next;
+        }
+    }
+
+    private Node createNode(CompactDocument compact, int node, Document owner)
+            throws DOMException {
+        switch (compact.getNodeType(node)) {
+            case CompactDocument.ELEMENT_NODE:
+                Element element = owner.createElementNS(
+                        compact.getNamespaceURI(node),
+                        compact.getLocalName(node));
+                int length = compact.getAttributeCount(node);
+                for (int i = 0; i < length; i++) {
+                    String uri = compact.getAttributeNamespaceURI(node, i);
+                    String localName = compact.getAttributeLocalName(node, i);
+                    element.setAttributeNS(uri, localName,
+                            compact.getAttributeValue(node, i));
+                    if ("id".equals(localName) && uri.length() == 0) {
+                        element.setIdAttributeNS(null, "id", true);
+                    }
+                }
+                return element;
+            case CompactDocument.TEXT_NODE:
+                return owner.createTextNode(compact.getData(node));
+            case CompactDocument.COMMENT_NODE:
+                return owner.createComment(compact.getData(node));
+            default:
+                throw new IllegalArgumentException("Cannot copy node type "
+                        + compact.getNodeType(node) + ".");
+        }
+    }
+}
@@ -0,0 +1,354 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+package nu.validator.htmlparser.compact;
+
+import nu.validator.htmlparser.common.DocumentMode;
+
+/**
+ * A read-only document tree stored in flat tables instead of node objects.
+ * Nodes are identified by <code>int</code>s. The document or document
+ * fragment node is always <code>0</code> and <code>NONE</code> stands for a
+ * missing node. The text of text and comment nodes and the attribute values
+ * are ranges of a single shared character table, and element and attribute
+ * names are indexes into a per-document name table, so a document takes a
+ * few dozen bytes per node plus its text.
+ * 
+ * <p>The node type constants have the values of the corresponding
+ * <code>org.w3c.dom.Node</code> constants. Use <code>Compact2Dom</code> to
+ * get a DOM tree.
+ * 
+ * <p>The doctype is not represented in the tree but is available through
+ * <code>getDoctypeName()</code> and friends.
+ * 
+ * @version $Id$
+ */
+public abstract class CompactDocument {
+
+    /**
+     * The value for a missing node.
+     */
+    public static final int NONE = -1;
+
+    public static final byte ELEMENT_NODE = 1;
+
+    public static final byte TEXT_NODE = 3;
+
+    public static final byte COMMENT_NODE = 8;
+
+    public static final byte DOCUMENT_NODE = 9;
+
+    public static final byte DOCUMENT_FRAGMENT_NODE = 11;
+
+    private final String[] localNames;
+
+    private final String[] qNames;
+
+    private final String[] namespaces;
+
+    private final DocumentMode documentMode;
+
+    private final String doctypeName;
+
+    private final String doctypePublicId;
+
+    private final String doctypeSystemId;
+
+    CompactDocument(String[] localNames, String[] qNames,
+            String[] namespaces, DocumentMode documentMode,
+            String doctypeName, String doctypePublicId,
+            String doctypeSystemId) {
+        this.localNames = localNames;
+        this.qNames = qNames;
+        this.namespaces = namespaces;
+        this.documentMode = documentMode;
+        this.doctypeName = doctypeName;
+        this.doctypePublicId = doctypePublicId;
+        this.doctypeSystemId = doctypeSystemId;
+    }
+
+    /**
+     * Returns the name index of an element.
+     * 
+     * @param node the node
+     * @return the name index or <code>NONE</code> if the node is not an
+     *         element
+     */
+    abstract int getNameIndex(int node);
+
+    /**
+     * Returns the name index of an attribute.
+     * 
+     * @param node the element
+     * @param index the index of the attribute, which has been checked
+     * @return the name index
+     */
+    abstract int getAttributeNameIndex(int node, int index);
+
+    /**
+     * Returns the number of node slots. Nodes that were removed from the tree
+     * during parsing keep their slots but are not reachable from the root.
+     * 
+     * @return the number of node slots
+     */
+    public abstract int getNodeCount();
+
+    /**
+     * Returns the type of a node.
+     * 
+     * @param node the node
+     * @return one of the node type constants
+     */
+    public abstract byte getNodeType(int node);
+
+    /**
+     * Returns the parent of a node.
+     * 
+     * @param node the node
+     * @return the parent or <code>NONE</code>
+     */
+    public abstract int getParent(int node);
+
+    /**
+     * Returns the first child of a node.
+     * 
+     * @param node the node
+     * @return the first child or <code>NONE</code>
+     */
+    public abstract int getFirstChild(int node);
+
+    /**
+     * Returns the next sibling of a node.
+     * 
+     * @param node the node
+     * @return the next sibling or <code>NONE</code>
+     */
+    public abstract int getNextSibling(int node);
+
+    /**
+     * Returns the length of the data of a text or comment node.
+     * 
+     * @param node the node
+     * @return the length
+     */
+    public abstract int getDataLength(int node);
+
+    /**
+     * Returns the data of a text or comment node.
+     * 
+     * @param node the node
+     * @return the data or <code>null</code> for other nodes
+     */
+    public abstract String getData(int node);
+
+    /**
+     * Appends the data of a text or comment node to a buffer without
+     * creating a string.
+     * 
+     * @param node the node
+     * @param sb the buffer
+     */
+    public abstract void appendData(int node, StringBuilder sb);
+
+    /**
+     * Returns the number of attributes of an element.
+     * 
+     * @param node the node
+     * @return the number of attributes
+     */
+    public abstract int getAttributeCount(int node);
+
+    /**
+     * Returns the value of an attribute.
+     * 
+     * @param node the element
+     * @param index the index of the attribute
+     * @return the value
+     */
+    public abstract String getAttributeValue(int node, int index);
+
+    /**
+     * Returns the first element child of the document node.
+     * 
+     * @return the root element or <code>NONE</code>
+     */
+    public int getDocumentElement() {
+        for (int child = getFirstChild(0); child != NONE; child = getNextSibling(child)) {
+            if (getNodeType(child) == ELEMENT_NODE) {
+                return child;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Returns the local name of an element.
+     * 
+     * @param node the node
+     * @return the local name or <code>null</code> if the node is not an
+     *         element
+     */
+    public String getLocalName(int node) {
+        int name = getNameIndex(node);
+        return name == NONE ? null : localNames[name];
+    }
+
+    /**
+     * Returns the namespace URI of an element.
+     * 
+     * @param node the node
+     * @return the namespace URI or <code>null</code> if the node is not an
+     *         element
+     */
+    public String getNamespaceURI(int node) {
+        int name = getNameIndex(node);
+        return name == NONE ? null : namespaces[name];
+    }
+
+    /**
+     * Appends the text of the descendant text nodes of a node in tree order
+     * to a buffer.
+     * 
+     * @param node the node
+     * @param sb the buffer
+     */
+    public void appendTextContent(int node, StringBuilder sb) {
+        if (getNodeType(node) == TEXT_NODE) {
+            appendData(node, sb);
+            return;
+        }
+        int current = getFirstChild(node);
+        while (current != NONE) {
+            if (getNodeType(current) == TEXT_NODE) {
+                appendData(current, sb);
+            }
+            int next = getFirstChild(current);
+            if (next == NONE) {
+                while ((next = getNextSibling(current)) == NONE) {
+                    current = getParent(current);
+                    if (current == node) {
+                        return;
+                    }
+                }
+            }
+            current = next;
+        }
+    }
+
+    /**
+     * Returns the local name of an attribute.
+     * 
+     * @param node the element
+     * @param index the index of the attribute
+     * @return the local name
+     */
+    public String getAttributeLocalName(int node, int index) {
+        checkAttributeIndex(node, index);
+        return localNames[getAttributeNameIndex(node, index)];
+    }
+
+    /**
+     * Returns the qualified name of an attribute.
+     * 
+     * @param node the element
+     * @param index the index of the attribute
+     * @return the qualified name
+     */
+    public String getAttributeQName(int node, int index) {
+        checkAttributeIndex(node, index);
+        return qNames[getAttributeNameIndex(node, index)];
+    }
+
+    /**
+     * Returns the namespace URI of an attribute.
+     * 
+     * @param node the element
+     * @param index the index of the attribute
+     * @return the namespace URI, the empty string for no namespace
+     */
+    public String getAttributeNamespaceURI(int node, int index) {
+        checkAttributeIndex(node, index);
+        return namespaces[getAttributeNameIndex(node, index)];
+    }
+
+    /**
+     * Returns the value of an attribute by name.
+     * 
+     * @param node the element
+     * @param uri the namespace URI, the empty string for no namespace
+     * @param localName the local name
+     * @return the value or <code>null</code> if the element does not have
+     *         the attribute
+     */
+    public String getAttributeValue(int node, String uri, String localName) {
+        int length = getAttributeCount(node);
+        for (int i = 0; i < length; i++) {
+            int name = getAttributeNameIndex(node, i);
+            if (localNames[name].equals(localName)
+                    && namespaces[name].equals(uri)) {
+                return getAttributeValue(node, i);
+            }
+        }
+        return null;
+    }
+
+    final void checkAttributeIndex(int node, int index) {
+        if (index < 0 || index >= getAttributeCount(node)) {
+            throw new IndexOutOfBoundsException(Integer.toString(index));
+        }
+    }
+
+    /**
+     * Returns the document mode.
+     * 
+     * @return the document mode or <code>null</code> for fragments
+     */
+    public DocumentMode getDocumentMode() {
+        return documentMode;
+    }
+
+    /**
+     * Returns the name of the doctype.
+     * 
+     * @return the name or <code>null</code> if there was no doctype
+     */
+    public String getDoctypeName() {
+        return doctypeName;
+    }
+
+    /**
+     * Returns the public identifier of the doctype.
+     * 
+     * @return the public identifier or <code>null</code>
+     */
+    public String getDoctypePublicId() {
+        return doctypePublicId;
+    }
+
+    /**
+     * Returns the system identifier of the doctype.
+     * 
+     * @return the system identifier or <code>null</code>
+     */
+    public String getDoctypeSystemId() {
+        return doctypeSystemId;
+    }
+}
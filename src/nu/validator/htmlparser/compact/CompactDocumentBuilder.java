@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+package nu.validator.htmlparser.compact;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+
+import nu.validator.htmlparser.common.Heuristics;
+import nu.validator.htmlparser.common.Interner;
+import nu.validator.htmlparser.common.XmlViolationPolicy;
+import nu.validator.htmlparser.impl.AttributeValueCache;
+import nu.validator.htmlparser.impl.ErrorReportingTokenizer;
+import nu.validator.htmlparser.impl.Tokenizer;
+import nu.validator.htmlparser.io.Driver;
+
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+/**
+ * This class implements an HTML5 parser that builds a
+ * <code>CompactDocument</code>. A compact document takes several times less
+ * memory than a DOM of the same document, which makes it suitable for
+ * keeping large numbers of parsed documents around.
+ * 
+ * <p>By default, the parser coerces XML 1.0-incompatible infosets into XML
+ * 1.0-compatible infosets so that documents can be copied into a standard DOM
+ * implementation with <code>Compact2Dom</code>.
+ * 
+ * <p>Instances are not thread-safe but can parse any number of documents one
+ * after the other.
+ * 
+ * @version $Id$
+ */
+public class CompactDocumentBuilder {
+
+    private final CompactTreeBuilder treeBuilder;
+
+    private Driver driver = null;
+
+    private ErrorHandler errorHandler = null;
+
+    private XmlViolationPolicy xmlPolicy;
+
+    private Heuristics heuristics = Heuristics.NONE;
+
+    private int inputBufferSize = Driver.DEFAULT_INPUT_BUFFER_SIZE;
+
+    private Interner interner = null;
+
+    private AttributeValueCache attributeValueCache = null;
+
+    /**
+     * Instantiates the builder with the infoset-altering XML violation
+     * policy.
+     */
+    public CompactDocumentBuilder() {
+        this(XmlViolationPolicy.ALTER_INFOSET);
+    }
+
+    /**
+     * Instantiates the builder with a specific XML violation policy.
+     * 
+     * @param xmlPolicy
+     *            the policy for names, content space, non-XML characters
+     *            and comments
+     */
+    public CompactDocumentBuilder(XmlViolationPolicy xmlPolicy) {
+        this(new CompactTreeBuilder(), xmlPolicy);
+    }
+
+    CompactDocumentBuilder(CompactTreeBuilder treeBuilder,
+            XmlViolationPolicy xmlPolicy) {
+        this.treeBuilder = treeBuilder;
+        this.xmlPolicy = xmlPolicy;
+        treeBuilder.setNamePolicy(xmlPolicy);
+    }
+
+    private void lazyInit() {
+        if (driver == null) {
+            Tokenizer tokenizer;
+            if (errorHandler == null && xmlPolicy == XmlViolationPolicy.ALLOW) {
+                tokenizer = new Tokenizer(treeBuilder, false);
+            } else {
+                tokenizer = new ErrorReportingTokenizer(treeBuilder, false);
+            }
+            driver = new Driver(tokenizer);
+            driver.setErrorHandler(errorHandler);
+            driver.setCommentPolicy(xmlPolicy);
+            driver.setContentNonXmlCharPolicy(xmlPolicy);
+            driver.setContentSpacePolicy(xmlPolicy);
+            driver.setNamePolicy(xmlPolicy);
+            driver.setXmlnsPolicy(xmlPolicy == XmlViolationPolicy.FATAL ? XmlViolationPolicy.ALTER_INFOSET
+                    : xmlPolicy);
+            driver.setHeuristics(heuristics);
+            driver.setInputBufferSize(inputBufferSize);
+            driver.setInterner(interner);
+            driver.setAttributeValueCache(attributeValueCache);
+        }
+    }
+
+    /**
+     * Parses a document from a SAX <code>InputSource</code>.
+     * 
+     * @param is
+     *            the source
+     * @return the document
+     * @throws SAXException
+     *             if stuff goes wrong
+     * @throws IOException
+     *             if IO goes wrong
+     */
+    public CompactDocument parse(InputSource is) throws SAXException,
+            IOException {
+        treeBuilder.setFragmentContext(null);
+        tokenize(is);
+        return treeBuilder.getDocument();
+    }
+
+    /**
+     * Parses a document that is already in memory.
+     * 
+     * @param bytes
+     *            the document from the position of the buffer to its limit
+     * @param encoding
+     *            the encoding label from the transport layer or
+     *            <code>null</code> to sniff
+     * @param systemId
+     *            the system id for locators or <code>null</code>
+     * @return the document
+     * @throws SAXException
+     *             if stuff goes wrong
+     * @throws IOException
+     *             if a character handler threw
+     */
+    public CompactDocument parse(ByteBuffer bytes, String encoding,
+            String systemId) throws SAXException, IOException {
+        treeBuilder.setFragmentContext(null);
+        lazyInit();
+        driver.tokenize(bytes, encoding, null, systemId);
+        return treeBuilder.getDocument();
+    }
+
+    /**
+     * Parses a document that is already in memory.
+     * 
+     * @param bytes
+     *            the document
+     * @param encoding
+     *            the encoding label from the transport layer or
+     *            <code>null</code> to sniff
+     * @param systemId
+     *            the system id for locators or <code>null</code>
+     * @return the document
+     * @throws SAXException
+     *             if stuff goes wrong
+     * @throws IOException
+     *             if a character handler threw
+     */
+    public CompactDocument parse(byte[] bytes, String encoding, String systemId)
+            throws SAXException, IOException {
+        return parse(ByteBuffer.wrap(bytes), encoding, systemId);
+    }
+
+    /**
+     * Parses a document fragment with an HTML element as the context.
+     * 
+     * @param is
+     *            the source
+     * @param context
+     *            the context element name (HTML namespace assumed)
+     * @return the fragment, whose node <code>0</code> is a document
+     *         fragment node
+     * @throws SAXException
+     *             if stuff goes wrong
+     * @throws IOException
+     *             if IO goes wrong
+     */
+    public CompactDocument parseFragment(InputSource is, String context)
+            throws IOException, SAXException {
+        treeBuilder.setFragmentContext(context.intern());
+        tokenize(is);
+        return treeBuilder.getDocumentFragment();
+    }
+
+    private void tokenize(InputSource is) throws SAXException, IOException {
+        if (is == null) {
+            throw new IllegalArgumentException("Null input.");
+        }
+        if (is.getByteStream() == null && is.getCharacterStream() == null) {
+            String systemId = is.getSystemId();
+            if (systemId == null) {
+                throw new IllegalArgumentException(
+                        "No byte stream, no character stream nor URI.");
+            }
+            is = new InputSource();
+            is.setSystemId(systemId);
+            is.setByteStream(new URL(systemId).openStream());
+        }
+        lazyInit();
+        driver.tokenize(is);
+    }
+
+    /**
+     * Sets the error handler.
+     * 
+     * @param errorHandler
+     *            the handler or <code>null</code>
+     */
+    public void setErrorHandler(ErrorHandler errorHandler) {
+        this.errorHandler = errorHandler;
+        treeBuilder.setErrorHandler(errorHandler);
+        driver = null;
+    }
+
+    /**
+     * Sets whether the parser considers scripting to be enabled for noscript
+     * treatment.
+     * 
+     * @param scriptingEnabled
+     *            <code>true</code> to enable
+     * @see nu.validator.htmlparser.impl.TreeBuilder#setScriptingEnabled(boolean)
+     */
+    public void setScriptingEnabled(boolean scriptingEnabled) {
+        treeBuilder.setScriptingEnabled(scriptingEnabled);
+    }
+
+    /**
+     * Sets the encoding sniffing heuristics.
+     * 
+     * @param heuristics
+     *            the heuristics to set
+     * @see nu.validator.htmlparser.impl.Tokenizer#setHeuristics(nu.validator.htmlparser.common.Heuristics)
+     */
+    public void setHeuristics(Heuristics heuristics) {
+        this.heuristics = heuristics;
+        if (driver != null) {
+            driver.setHeuristics(heuristics);
+        }
+    }
+
+    /**
+     * Sets the size of the buffer that decoded characters are passed to the
+     * tokenizer in.
+     * 
+     * @param inputBufferSize
+     *            the size in UTF-16 code units, at least 2
+     * @see nu.validator.htmlparser.io.Driver#setInputBufferSize(int)
+     */
+    public void setInputBufferSize(int inputBufferSize) {
+        if (inputBufferSize < 2) {
+            throw new IllegalArgumentException(
+                    "The input buffer size must be at least 2.");
+        }
+        this.inputBufferSize = inputBufferSize;
+        if (driver != null) {
+            driver.setInputBufferSize(inputBufferSize);
+        }
+    }
+
+    /**
+     * Sets the interner for element and attribute names that are not in the
+     * built-in tables.
+     * 
+     * @param interner
+     *            the interner or <code>null</code> for the shared default
+     * @see nu.validator.htmlparser.io.Driver#setInterner(nu.validator.htmlparser.common.Interner)
+     */
+    public void setInterner(Interner interner) {
+        this.interner = interner;
+        if (driver != null) {
+            driver.setInterner(interner);
+        }
+    }
+
+    /**
+     * Sets the cache that attribute values are looked up in.
+     * 
+     * @param attributeValueCache
+     *            the cache or <code>null</code> to allocate each value
+     */
+    public void setAttributeValueCache(AttributeValueCache attributeValueCache) {
+        this.attributeValueCache = attributeValueCache;
+        if (driver != null) {
+            driver.setAttributeValueCache(attributeValueCache);
+        }
+    }
+}
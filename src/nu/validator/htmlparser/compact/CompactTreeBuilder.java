@@ -0,0 +1,573 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+package nu.validator.htmlparser.compact;
+
+import java.util.HashMap;
+
+import nu.validator.htmlparser.common.DocumentMode;
+import nu.validator.htmlparser.impl.HtmlAttributes;
+import nu.validator.htmlparser.impl.TreeBuilder;
+
+import org.xml.sax.SAXException;
+
+/**
+ * The tree builder glue for building a <code>CompactDocument</code>. Nodes
+ * are handed to the tree builder as boxed indexes into the node arrays. The
+ * arrays are kept between documents and trimmed copies are handed to each
+ * <code>CompactDocument</code>.
+ * 
+ * @version $Id$
+ */
+class CompactTreeBuilder extends TreeBuilder<Integer> {
+
+    private static final int NONE = CompactDocument.NONE;
+
+    private static final char[] ISINDEX_PROMPT = "This is a searchable index. Enter search keywords: ".toCharArray();
+
+    byte[] types = new byte[256];
+
+    int[] parents = new int[256];
+
+    int[] firstChildren = new int[256];
+
+    private int[] lastChildren = new int[256];
+
+    private int[] previousSiblings = new int[256];
+
+    int[] nextSiblings = new int[256];
+
+    int[] names = new int[256];
+
+    int[] offsets = new int[256];
+
+    int[] lengths = new int[256];
+
+    int nodeCount;
+
+    char[] chars = new char[4096];
+
+    int charsLength;
+
+    int[] attributeNames = new int[256];
+
+    int[] attributeValueOffsets = new int[256];
+
+    int[] attributeValueLengths = new int[256];
+
+    int attributeCount;
+
+    String[] localNames = new String[64];
+
+    String[] qNames = new String[64];
+
+    String[] namespaces = new String[64];
+
+    int nameCount;
+
+    /**
+     * Maps namespace URIs to maps from qualified names to name indexes.
+     */
+    private final HashMap<String, HashMap<String, Integer>> nameIndexes = new HashMap<String, HashMap<String, Integer>>();
+
+    DocumentMode documentMode;
+
+    String doctypeName;
+
+    String doctypePublicId;
+
+    String doctypeSystemId;
+
+    CompactTreeBuilder() {
+        super();
+    }
+
+    private static int[] grow(int[] array) {
+        int[] newArray = new int[array.length << 1];
+        System.arraycopy(array, 0, newArray, 0, array.length);
+        return newArray;
+    }
+
+    private static String[] grow(String[] array) {
+        String[] newArray = new String[array.length << 1];
+        System.arraycopy(array, 0, newArray, 0, array.length);
+        return newArray;
+    }
+
+    private static int[] trim(int[] array, int length) {
+        int[] newArray = new int[length];
+        System.arraycopy(array, 0, newArray, 0, length);
+        return newArray;
+    }
+
+    private static String[] trim(String[] array, int length) {
+        String[] newArray = new String[length];
+        System.arraycopy(array, 0, newArray, 0, length);
+        return newArray;
+    }
+
+    private int newNode(byte type) {
+        if (nodeCount == types.length) {
+            byte[] newTypes = new byte[types.length << 1];
+            System.arraycopy(types, 0, newTypes, 0, types.length);
+            types = newTypes;
+            parents = grow(parents);
+            firstChildren = grow(firstChildren);
+            lastChildren = grow(lastChildren);
+            previousSiblings = grow(previousSiblings);
+            nextSiblings = grow(nextSiblings);
+            names = grow(names);
+            offsets = grow(offsets);
+            lengths = grow(lengths);
+        }
+        int node = nodeCount++;
+        types[node] = type;
+        parents[node] = NONE;
+        firstChildren[node] = NONE;
+        lastChildren[node] = NONE;
+        previousSiblings[node] = NONE;
+        nextSiblings[node] = NONE;
+        names[node] = NONE;
+        offsets[node] = 0;
+        lengths[node] = 0;
+        return node;
+    }
+
+    private void ensureChars(int length) {
+        int needed = charsLength + length;
+        if (needed > chars.length) {
+            int newLength = chars.length << 1;
+            if (newLength < needed) {
+                newLength = needed;
+            }
+            char[] newChars = new char[newLength];
+            System.arraycopy(chars, 0, newChars, 0, charsLength);
+            chars = newChars;
+        }
+    }
+
+    private int appendChars(char[] buf, int start, int length) {
+        ensureChars(length);
+        int offset = charsLength;
+        System.arraycopy(buf, start, chars, offset, length);
+        charsLength += length;
+        return offset;
+    }
+
+    private int appendChars(String str) {
+        int length = str.length();
+        ensureChars(length);
+        int offset = charsLength;
+        str.getChars(0, length, chars, offset);
+        charsLength += length;
+        return offset;
+    }
+
+    private int nameIndex(String uri, String localName, String qName) {
+        HashMap<String, Integer> indexes = nameIndexes.get(uri);
+        if (indexes == null) {
+            indexes = new HashMap<String, Integer>();
+            nameIndexes.put(uri, indexes);
+        }
+        Integer index = indexes.get(qName);
+        if (index != null) {
+            return index.intValue();
+        }
+        if (nameCount == localNames.length) {
+            localNames = grow(localNames);
+            qNames = grow(qNames);
+            namespaces = grow(namespaces);
+        }
+        localNames[nameCount] = localName;
+        qNames[nameCount] = qName;
+        namespaces[nameCount] = uri;
+        indexes.put(qName, Integer.valueOf(nameCount));
+        return nameCount++;
+    }
+
+    private void addAttribute(String uri, String localName, String qName,
+            String value) {
+        if (attributeCount == attributeNames.length) {
+            attributeNames = grow(attributeNames);
+            attributeValueOffsets = grow(attributeValueOffsets);
+            attributeValueLengths = grow(attributeValueLengths);
+        }
+        attributeNames[attributeCount] = nameIndex(uri, localName, qName);
+        attributeValueOffsets[attributeCount] = appendChars(value);
+        attributeValueLengths[attributeCount] = value.length();
+        attributeCount++;
+    }
+
+    private void appendChild(int parent, int child) {
+        int last = lastChildren[parent];
+        parents[child] = parent;
+        previousSiblings[child] = last;
+        nextSiblings[child] = NONE;
+        if (last == NONE) {
+            firstChildren[parent] = child;
+        } else {
+            nextSiblings[last] = child;
+        }
+        lastChildren[parent] = child;
+    }
+
+    private void insertBefore(int child, int reference) {
+        int parent = parents[reference];
+        int previous = previousSiblings[reference];
+        parents[child] = parent;
+        previousSiblings[child] = previous;
+        nextSiblings[child] = reference;
+        previousSiblings[reference] = child;
+        if (previous == NONE) {
+            firstChildren[parent] = child;
+        } else {
+            nextSiblings[previous] = child;
+        }
+    }
+
+    private void detach(int node) {
+        int parent = parents[node];
+        if (parent == NONE) {
+            return;
+        }
+        int previous = previousSiblings[node];
+        int next = nextSiblings[node];
+        if (previous == NONE) {
+            firstChildren[parent] = next;
+        } else {
+            nextSiblings[previous] = next;
+        }
+        if (next == NONE) {
+            lastChildren[parent] = previous;
+        } else {
+            previousSiblings[next] = previous;
+        }
+        parents[node] = NONE;
+        previousSiblings[node] = NONE;
+        nextSiblings[node] = NONE;
+    }
+
+    private int newCharacterNode(byte type, char[] buf, int start, int length) {
+        int node = newNode(type);
+        offsets[node] = appendChars(buf, start, length);
+        lengths[node] = length;
+        return node;
+    }
+
+    /**
+     * Appends characters to a text node, moving its data to the end of the
+     * shared buffer first unless it is already there.
+     */
+    private void appendToText(int node, char[] buf, int start, int length) {
+        int offset = offsets[node];
+        int oldLength = lengths[node];
+        if (offset + oldLength != charsLength) {
+            ensureChars(oldLength);
+            System.arraycopy(chars, offset, chars, charsLength, oldLength);
+            offsets[node] = charsLength;
+            charsLength += oldLength;
+        }
+        appendChars(buf, start, length);
+        lengths[node] = oldLength + length;
+    }
+
+    /**
+     * @see nu.validator.htmlparser.impl.TreeBuilder#start(boolean)
+     */
+    @Override protected void start(boolean fragment) throws SAXException {
+        nodeCount = 0;
+        charsLength = 0;
+        attributeCount = 0;
+        nameCount = 0;
+        nameIndexes.clear();
+        documentMode = null;
+        doctypeName = null;
+        doctypePublicId = null;
+        doctypeSystemId = null;
+        newNode(CompactDocument.DOCUMENT_NODE);
+    }
+
+    @Override protected Integer createElement(String ns, String name,
+            HtmlAttributes attributes, Integer intendedParent)
+            throws SAXException {
+        int node = newNode(CompactDocument.ELEMENT_NODE);
+        names[node] = nameIndex(ns, name, name);
+        int length = attributes.getLength();
+        offsets[node] = attributeCount;
+        lengths[node] = length;
+        for (int i = 0; i < length; i++) {
+            addAttribute(attributes.getURINoBoundsCheck(i),
+                    attributes.getLocalNameNoBoundsCheck(i),
+                    attributes.getQNameNoBoundsCheck(i),
+                    attributes.getValueNoBoundsCheck(i));
+        }
+        return Integer.valueOf(node);
+    }
+
+    /**
+     * @see nu.validator.htmlparser.impl.TreeBuilder#createElement(String,
+     *      java.lang.String, nu.validator.htmlparser.impl.HtmlAttributes, java.lang.Object, java.lang.Object)
+     */
+    @Override protected Integer createElement(String ns, String name,
+            HtmlAttributes attributes, Integer form, Integer intendedParent)
+            throws SAXException {
+        return createElement(ns, name, attributes, intendedParent);
+    }
+
+    @Override protected Integer createHtmlElementSetAsRoot(
+            HtmlAttributes attributes) throws SAXException {
+        Integer html = createElement("http://www.w3.org/1999/xhtml", "html",
+                attributes, null);
+        appendChild(0, html.intValue());
+        return html;
+    }
+
+    @Override protected void addAttributesToElement(Integer element,
+            HtmlAttributes attributes) throws SAXException {
+        int node = element.intValue();
+        int offset = offsets[node];
+        int oldLength = lengths[node];
+        int newOffset = NONE;
+        for (int i = 0; i < attributes.getLength(); i++) {
+            String uri = attributes.getURINoBoundsCheck(i);
+            String localName = attributes.getLocalNameNoBoundsCheck(i);
+            boolean present = false;
+            for (int j = 0; j < oldLength; j++) {
+                int name = attributeNames[offset + j];
+                if (localNames[name].equals(localName)
+                        && namespaces[name].equals(uri)) {
+                    present = true;
+                    break;
+                }
+            }
+            if (present) {
+                continue;
+            }
+            if (newOffset == NONE) {
+                // Move the existing attributes to the end so that the new
+                // ones can follow them.
+                newOffset = attributeCount;
+                for (int j = 0; j < oldLength; j++) {
+                    if (attributeCount == attributeNames.length) {
+                        attributeNames = grow(attributeNames);
+                        attributeValueOffsets = grow(attributeValueOffsets);
+                        attributeValueLengths = grow(attributeValueLengths);
+                    }
+                    attributeNames[attributeCount] = attributeNames[offset + j];
+                    attributeValueOffsets[attributeCount] = attributeValueOffsets[offset + j];
+                    attributeValueLengths[attributeCount] = attributeValueLengths[offset + j];
+                    attributeCount++;
+                }
+            }
+            addAttribute(uri, localName,
+                    attributes.getQNameNoBoundsCheck(i),
+                    attributes.getValueNoBoundsCheck(i));
+        }
+        if (newOffset != NONE) {
+            offsets[node] = newOffset;
+            lengths[node] = attributeCount - newOffset;
+        }
+    }
+
+    @Override protected void appendElement(Integer child, Integer newParent)
+            throws SAXException {
+        int node = child.intValue();
+        detach(node);
+        appendChild(newParent.intValue(), node);
+    }
+
+    @Override protected void appendChildrenToNewParent(Integer oldParent,
+            Integer newParent) throws SAXException {
+        moveChildren(oldParent.intValue(), newParent.intValue());
+    }
+
+    private void moveChildren(int from, int to) {
+        int first = firstChildren[from];
+        if (first == NONE) {
+            return;
+        }
+        for (int child = first; child != NONE; child = nextSiblings[child]) {
+            parents[child] = to;
+        }
+        int last = lastChildren[to];
+        previousSiblings[first] = last;
+        if (last == NONE) {
+            firstChildren[to] = first;
+        } else {
+            nextSiblings[last] = first;
+        }
+        lastChildren[to] = lastChildren[from];
+        firstChildren[from] = NONE;
+        lastChildren[from] = NONE;
+    }
+
+    @Override protected void detachFromParent(Integer element)
+            throws SAXException {
+        detach(element.intValue());
+    }
+
+    @Override protected boolean hasChildren(Integer element)
+            throws SAXException {
+        return firstChildren[element.intValue()] != NONE;
+    }
+
+    @Override protected Integer createAndInsertFosterParentedElement(
+            String ns, String name, HtmlAttributes attributes, Integer table,
+            Integer stackParent) throws SAXException {
+        int parent = parents[table.intValue()];
+        Integer child = createElement(ns, name, attributes,
+                parent != NONE ? Integer.valueOf(parent) : stackParent);
+        if (parent != NONE) {
+            insertBefore(child.intValue(), table.intValue());
+        } else {
+            appendChild(stackParent.intValue(), child.intValue());
+        }
+        return child;
+    }
+
+    @Override protected void insertFosterParentedChild(Integer child,
+            Integer table, Integer stackParent) throws SAXException {
+        int node = child.intValue();
+        int tableNode = table.intValue();
+        detach(node);
+        if (parents[tableNode] != NONE) {
+            insertBefore(node, tableNode);
+        } else {
+            appendChild(stackParent.intValue(), node);
+        }
+    }
+
+    @Override protected void insertFosterParentedCharacters(char[] buf,
+            int start, int length, Integer table, Integer stackParent)
+            throws SAXException {
+        int tableNode = table.intValue();
+        if (parents[tableNode] != NONE) {
+            int previous = previousSiblings[tableNode];
+            if (previous != NONE
+                    && types[previous] == CompactDocument.TEXT_NODE) {
+                appendToText(previous, buf, start, length);
+                return;
+            }
+            insertBefore(newCharacterNode(CompactDocument.TEXT_NODE, buf,
+                    start, length), tableNode);
+            return;
+        }
+        appendCharacters(stackParent, buf, start, length);
+    }
+
+    @Override protected void appendCharacters(Integer parent, char[] buf,
+            int start, int length) throws SAXException {
+        int parentNode = parent.intValue();
+        int last = lastChildren[parentNode];
+        if (last != NONE && types[last] == CompactDocument.TEXT_NODE) {
+            appendToText(last, buf, start, length);
+            return;
+        }
+        appendChild(parentNode, newCharacterNode(CompactDocument.TEXT_NODE,
+                buf, start, length));
+    }
+
+    /**
+     * @see nu.validator.htmlparser.impl.TreeBuilder#appendIsindexPrompt(java.lang.Object)
+     */
+    @Override protected void appendIsindexPrompt(Integer parent)
+            throws SAXException {
+        appendCharacters(parent, ISINDEX_PROMPT, 0, ISINDEX_PROMPT.length);
+    }
+
+    @Override protected void appendComment(Integer parent, char[] buf,
+            int start, int length) throws SAXException {
+        appendChild(parent.intValue(), newCharacterNode(
+                CompactDocument.COMMENT_NODE, buf, start, length));
+    }
+
+    @Override protected void appendCommentToDocument(char[] buf, int start,
+            int length) throws SAXException {
+        appendChild(0, newCharacterNode(CompactDocument.COMMENT_NODE, buf,
+                start, length));
+    }
+
+    /**
+     * @see nu.validator.htmlparser.impl.TreeBuilder#appendDoctypeToDocument(java.lang.String, java.lang.String, java.lang.String)
+     */
+    @Override protected void appendDoctypeToDocument(String name,
+            String publicIdentifier, String systemIdentifier)
+            throws SAXException {
+        doctypeName = name;
+        doctypePublicId = publicIdentifier;
+        doctypeSystemId = systemIdentifier;
+    }
+
+    /**
+     * @see nu.validator.htmlparser.impl.TreeBuilder#documentMode(nu.validator.htmlparser.common.DocumentMode, java.lang.String, java.lang.String, boolean)
+     */
+    @Override protected void documentMode(DocumentMode mode,
+            String publicIdentifier, String systemIdentifier,
+            boolean html4SpecificAdditionalErrorChecks) throws SAXException {
+        documentMode = mode;
+    }
+
+    /**
+     * Returns the document.
+     * 
+     * @return the document
+     */
+    CompactDocument getDocument() {
+        return newDocument();
+    }
+
+    /**
+     * Copies the tables into a new document. The package-private fields
+     * are read by subclasses that store the document elsewhere.
+     * 
+     * @return the document
+     */
+    CompactDocument newDocument() {
+        byte[] trimmedTypes = new byte[nodeCount];
+        System.arraycopy(types, 0, trimmedTypes, 0, nodeCount);
+        char[] trimmedChars = new char[charsLength];
+        System.arraycopy(chars, 0, trimmedChars, 0, charsLength);
+        return new HeapCompactDocument(trimmedTypes, trim(parents, nodeCount),
+                trim(firstChildren, nodeCount), trim(nextSiblings, nodeCount),
+                trim(names, nodeCount), trim(offsets, nodeCount), trim(lengths,
+                        nodeCount), trimmedChars, trim(attributeNames,
+                        attributeCount), trim(attributeValueOffsets,
+                        attributeCount), trim(attributeValueLengths,
+                        attributeCount), trim(localNames, nameCount), trim(
+                        qNames, nameCount), trim(namespaces, nameCount),
+                documentMode, doctypeName, doctypePublicId, doctypeSystemId);
+    }
+
+    /**
+     * Returns the document fragment. The children of the root element
+     * become the children of node <code>0</code>.
+     * 
+     * @return the document fragment
+     */
+    CompactDocument getDocumentFragment() {
+        int root = firstChildren[0];
+        detach(root);
+        moveChildren(root, 0);
+        types[0] = CompactDocument.DOCUMENT_FRAGMENT_NODE;
+        documentMode = null;
+        return getDocument();
+    }
+}
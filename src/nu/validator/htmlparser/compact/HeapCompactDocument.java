@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+package nu.validator.htmlparser.compact;
+
+import nu.validator.htmlparser.common.DocumentMode;
+
+/**
+ * A <code>CompactDocument</code> whose tables are Java arrays.
+ * 
+ * @version $Id$
+ */
+final class HeapCompactDocument extends CompactDocument {
+
+    private final byte[] types;
+
+    private final int[] parents;
+
+    private final int[] firstChildren;
+
+    private final int[] nextSiblings;
+
+    /**
+     * The name index of elements and <code>NONE</code> for other nodes.
+     */
+    private final int[] names;
+
+    /**
+     * The offset of the text in <code>chars</code> or the index of the first
+     * attribute.
+     */
+    private final int[] offsets;
+
+    /**
+     * The length of the text or the number of attributes.
+     */
+    private final int[] lengths;
+
+    private final char[] chars;
+
+    private final int[] attributeNames;
+
+    private final int[] attributeValueOffsets;
+
+    private final int[] attributeValueLengths;
+
+    HeapCompactDocument(byte[] types, int[] parents, int[] firstChildren,
+            int[] nextSiblings, int[] names, int[] offsets, int[] lengths,
+            char[] chars, int[] attributeNames, int[] attributeValueOffsets,
+            int[] attributeValueLengths, String[] localNames,
+            String[] qNames, String[] namespaces, DocumentMode documentMode,
+            String doctypeName, String doctypePublicId,
+            String doctypeSystemId) {
+        super(localNames, qNames, namespaces, documentMode, doctypeName,
+                doctypePublicId, doctypeSystemId);
+        this.types = types;
+        this.parents = parents;
+        this.firstChildren = firstChildren;
+        this.nextSiblings = nextSiblings;
+        this.names = names;
+        this.offsets = offsets;
+        this.lengths = lengths;
+        this.chars = chars;
+        this.attributeNames = attributeNames;
+        this.attributeValueOffsets = attributeValueOffsets;
+        this.attributeValueLengths = attributeValueLengths;
+    }
+
+    @Override int getNameIndex(int node) {
+        return names[node];
+    }
+
+    @Override int getAttributeNameIndex(int node, int index) {
+        return attributeNames[offsets[node] + index];
+    }
+
+    @Override public int getNodeCount() {
+        return types.length;
+    }
+
+    @Override public byte getNodeType(int node) {
+        return types[node];
+    }
+
+    @Override public int getParent(int node) {
+        return parents[node];
+    }
+
+    @Override public int getFirstChild(int node) {
+        return firstChildren[node];
+    }
+
+    @Override public int getNextSibling(int node) {
+        return nextSiblings[node];
+    }
+
+    @Override public int getDataLength(int node) {
+        byte type = types[node];
+        return (type == TEXT_NODE || type == COMMENT_NODE) ? lengths[node] : 0;
+    }
+
+    @Override public String getData(int node) {
+        byte type = types[node];
+        if (type != TEXT_NODE && type != COMMENT_NODE) {
+            return null;
+        }
+        return new String(chars, offsets[node], lengths[node]);
+    }
+
+    @Override public void appendData(int node, StringBuilder sb) {
+        byte type = types[node];
+        if (type == TEXT_NODE || type == COMMENT_NODE) {
+            sb.append(chars, offsets[node], lengths[node]);
+        }
+    }
+
+    @Override public int getAttributeCount(int node) {
+        return types[node] == ELEMENT_NODE ? lengths[node] : 0;
+    }
+
+    @Override public String getAttributeValue(int node, int index) {
+        checkAttributeIndex(node, index);
+        int attribute = offsets[node] + index;
+        return new String(chars, attributeValueOffsets[attribute],
+                attributeValueLengths[attribute]);
+    }
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+package nu.validator.htmlparser.compact;
+
+import java.io.Closeable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.IntBuffer;
+
+import nu.validator.htmlparser.common.DocumentMode;
+
+/**
+ * A <code>CompactDocument</code> whose node, attribute and character tables
+ * live in a single direct <code>ByteBuffer</code> outside the Java heap.
+ * Only the name table and the doctype stay on the heap, so a cache of many
+ * such documents neither grows the heap nor adds to the work of the garbage
+ * collector.
+ * 
+ * <p>The off-heap memory is released by <code>close()</code> or, failing
+ * that, when the document is garbage collected. Reading a closed document
+ * throws <code>IllegalStateException</code>. Reading from several threads at
+ * once is safe, but <code>close()</code> must not be called while other
+ * threads may still be reading.
+ * 
+ * @version $Id$
+ */
+public final class OffHeapDocument extends CompactDocument implements
+        Closeable {
+
+    private static final int PARENTS = 0;
+
+    private static final int FIRST_CHILDREN = 1;
+
+    private static final int NEXT_SIBLINGS = 2;
+
+    private static final int NAMES = 3;
+
+    private static final int OFFSETS = 4;
+
+    private static final int LENGTHS = 5;
+
+    private static final int NODE_TABLES = 6;
+
+    private static final int ATTRIBUTE_NAMES = 0;
+
+    private static final int ATTRIBUTE_VALUE_OFFSETS = 1;
+
+    private static final int ATTRIBUTE_VALUE_LENGTHS = 2;
+
+    private final int nodeCount;
+
+    private final int attributeCount;
+
+    private final int size;
+
+    private ByteBuffer buffer;
+
+    private ByteBuffer types;
+
+    /**
+     * The node tables followed by the attribute tables.
+     */
+    private IntBuffer ints;
+
+    private CharBuffer chars;
+
+    OffHeapDocument(byte[] types, int[] parents, int[] firstChildren,
+            int[] nextSiblings, int[] names, int[] offsets, int[] lengths,
+            int nodeCount, char[] chars, int charsLength,
+            int[] attributeNames, int[] attributeValueOffsets,
+            int[] attributeValueLengths, int attributeCount,
+            String[] localNames, String[] qNames, String[] namespaces,
+            DocumentMode documentMode, String doctypeName,
+            String doctypePublicId, String doctypeSystemId) {
+        super(localNames, qNames, namespaces, documentMode, doctypeName,
+                doctypePublicId, doctypeSystemId);
+        this.nodeCount = nodeCount;
+        this.attributeCount = attributeCount;
+        int typesSize = (nodeCount + 3) & ~3;
+        int intsSize = ((NODE_TABLES * nodeCount) + (3 * attributeCount)) << 2;
+        this.size = typesSize + intsSize + (charsLength << 1);
+        this.buffer = ByteBuffer.allocateDirect(size).order(
+                ByteOrder.nativeOrder());
+
+        buffer.limit(nodeCount);
+        this.types = buffer.slice();
+        this.types.put(types, 0, nodeCount);
+
+        buffer.limit(typesSize + intsSize).position(typesSize);
+        this.ints = buffer.slice().order(ByteOrder.nativeOrder()).asIntBuffer();
+        this.ints.put(parents, 0, nodeCount);
+        this.ints.put(firstChildren, 0, nodeCount);
+        this.ints.put(nextSiblings, 0, nodeCount);
+        this.ints.put(names, 0, nodeCount);
+        this.ints.put(offsets, 0, nodeCount);
+        this.ints.put(lengths, 0, nodeCount);
+        this.ints.put(attributeNames, 0, attributeCount);
+        this.ints.put(attributeValueOffsets, 0, attributeCount);
+        this.ints.put(attributeValueLengths, 0, attributeCount);
+
+        buffer.limit(size).position(typesSize + intsSize);
+        this.chars = buffer.slice().order(ByteOrder.nativeOrder()).asCharBuffer();
+        this.chars.put(chars, 0, charsLength);
+
+        // Only absolute access from here on, except for appendData(), which
+        // needs the character table at position 0.
+        this.types.rewind();
+        this.ints.rewind();
+        this.chars.rewind();
+        buffer.clear();
+    }
+
+    private IntBuffer ints() {
+        IntBuffer rv = ints;
+        if (rv == null) {
+            throw new IllegalStateException("The document has been closed.");
+        }
+        return rv;
+    }
+
+    private CharBuffer chars() {
+        CharBuffer rv = chars;
+        if (rv == null) {
+            throw new IllegalStateException("The document has been closed.");
+        }
+        return rv;
+    }
+
+    private int node(int table, int node) {
+        if (node < 0 || node >= nodeCount) {
+            throw new IndexOutOfBoundsException(Integer.toString(node));
+        }
+        return ints().get(table * nodeCount + node);
+    }
+
+    private int attribute(int table, int attribute) {
+        return ints().get(NODE_TABLES * nodeCount + table * attributeCount
+                + attribute);
+    }
+
+    @Override int getNameIndex(int node) {
+        return node(NAMES, node);
+    }
+
+    @Override int getAttributeNameIndex(int node, int index) {
+        return attribute(ATTRIBUTE_NAMES, node(OFFSETS, node) + index);
+    }
+
+    @Override public int getNodeCount() {
+        return nodeCount;
+    }
+
+    @Override public byte getNodeType(int node) {
+        ByteBuffer rv = types;
+        if (rv == null) {
+            throw new IllegalStateException("The document has been closed.");
+        }
+        return rv.get(node);
+    }
+
+    @Override public int getParent(int node) {
+        return node(PARENTS, node);
+    }
+
+    @Override public int getFirstChild(int node) {
+        return node(FIRST_CHILDREN, node);
+    }
+
+    @Override public int getNextSibling(int node) {
+        return node(NEXT_SIBLINGS, node);
+    }
+
+    @Override public int getDataLength(int node) {
+        byte type = getNodeType(node);
+        return (type == TEXT_NODE || type == COMMENT_NODE) ? node(LENGTHS,
+                node) : 0;
+    }
+
+    private String string(int offset, int length) {
+        CharBuffer duplicate = chars().duplicate();
+        duplicate.position(offset);
+        char[] buf = new char[length];
+        duplicate.get(buf);
+        return new String(buf);
+    }
+
+    @Override public String getData(int node) {
+        byte type = getNodeType(node);
+        if (type != TEXT_NODE && type != COMMENT_NODE) {
+            return null;
+        }
+        return string(node(OFFSETS, node), node(LENGTHS, node));
+    }
+
+    @Override public void appendData(int node, StringBuilder sb) {
+        byte type = getNodeType(node);
+        if (type == TEXT_NODE || type == COMMENT_NODE) {
+            int offset = node(OFFSETS, node);
+            sb.append(chars(), offset, offset + node(LENGTHS, node));
+        }
+    }
+
+    @Override public int getAttributeCount(int node) {
+        return getNodeType(node) == ELEMENT_NODE ? node(LENGTHS, node) : 0;
+    }
+
+    @Override public String getAttributeValue(int node, int index) {
+        checkAttributeIndex(node, index);
+        int attribute = node(OFFSETS, node) + index;
+        return string(attribute(ATTRIBUTE_VALUE_OFFSETS, attribute),
+                attribute(ATTRIBUTE_VALUE_LENGTHS, attribute));
+    }
+
+    /**
+     * Returns the number of off-heap bytes that the document holds.
+     * 
+     * @return the size in bytes or <code>0</code> after closing
+     */
+    public int getOffHeapSize() {
+        return buffer == null ? 0 : size;
+    }
+
+    /**
+     * Returns whether the document has been closed.
+     * 
+     * @return <code>true</code> if the document has been closed
+     */
+    public boolean isClosed() {
+        return buffer == null;
+    }
+
+    /**
+     * Releases the off-heap memory. Closing a closed document has no
+     * effect.
+     * 
+     * @see java.io.Closeable#close()
+     */
+    public void close() {
+        ByteBuffer released = buffer;
+        if (released == null) {
+            return;
+        }
+        buffer = null;
+        types = null;
+        ints = null;
+        chars = null;
+        release(released);
+    }
+
+    /**
+     * Frees a direct buffer right away where the runtime allows it. Otherwise
+     * the memory is freed when the buffer is garbage collected.
+     * 
+     * @param buffer
+     *            the buffer, which must not be used afterwards
+     */
+    private static void release(ByteBuffer buffer) {
+        try {
+            // Java 9 and later
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner",
+                    ByteBuffer.class);
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            invokeCleaner.invoke(theUnsafe.get(null), buffer);
+            return;
+        } catch (Throwable t) {
+            // fall through
+        }
+        try {
+            // Java 8 and earlier
+            Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+            cleanerMethod.setAccessible(true);
+            Object cleaner = cleanerMethod.invoke(buffer);
+            if (cleaner != null) {
+                cleaner.getClass().getMethod("clean").invoke(cleaner);
+            }
+        } catch (Throwable t) {
+            // leave it to the garbage collector
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+package nu.validator.htmlparser.compact;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import nu.validator.htmlparser.common.XmlViolationPolicy;
+
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+/**
+ * This class implements an HTML5 parser that builds an
+ * <code>OffHeapDocument</code>. It takes the same settings as
+ * <code>CompactDocumentBuilder</code>. The caller owns the returned documents
+ * and should close them when they are evicted from whatever holds them.
+ * 
+ * @version $Id$
+ */
+public class OffHeapDocumentBuilder extends CompactDocumentBuilder {
+
+    /**
+     * Instantiates the builder with the infoset-altering XML violation
+     * policy.
+     */
+    public OffHeapDocumentBuilder() {
+        this(XmlViolationPolicy.ALTER_INFOSET);
+    }
+
+    /**
+     * Instantiates the builder with a specific XML violation policy.
+     * 
+     * @param xmlPolicy
+     *            the policy for names, content space, non-XML characters
+     *            and comments
+     */
+    public OffHeapDocumentBuilder(XmlViolationPolicy xmlPolicy) {
+        super(new OffHeapTreeBuilder(), xmlPolicy);
+    }
+
+    /**
+     * @see nu.validator.htmlparser.compact.CompactDocumentBuilder#parse(org.xml.sax.InputSource)
+     */
+    @Override public OffHeapDocument parse(InputSource is)
+            throws SAXException, IOException {
+        return (OffHeapDocument) super.parse(is);
+    }
+
+    /**
+     * @see nu.validator.htmlparser.compact.CompactDocumentBuilder#parse(java.nio.ByteBuffer, java.lang.String, java.lang.String)
+     */
+    @Override public OffHeapDocument parse(ByteBuffer bytes, String encoding,
+            String systemId) throws SAXException, IOException {
+        return (OffHeapDocument) super.parse(bytes, encoding, systemId);
+    }
+
+    /**
+     * @see nu.validator.htmlparser.compact.CompactDocumentBuilder#parse(byte[], java.lang.String, java.lang.String)
+     */
+    @Override public OffHeapDocument parse(byte[] bytes, String encoding,
+            String systemId) throws SAXException, IOException {
+        return (OffHeapDocument) super.parse(bytes, encoding, systemId);
+    }
+
+    /**
+     * @see nu.validator.htmlparser.compact.CompactDocumentBuilder#parseFragment(org.xml.sax.InputSource, java.lang.String)
+     */
+    @Override public OffHeapDocument parseFragment(InputSource is,
+            String context) throws IOException, SAXException {
+        return (OffHeapDocument) super.parseFragment(is, context);
+    }
+}
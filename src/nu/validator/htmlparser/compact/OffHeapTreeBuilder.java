@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+package nu.validator.htmlparser.compact;
+
+/**
+ * The tree builder glue for building an <code>OffHeapDocument</code>. The
+ * tree is built in reusable heap arrays and copied off the heap in one go
+ * when the document is complete, so the only heap allocations that outlive
+ * the parse are the name table and the document object.
+ * 
+ * @version $Id$
+ */
+class OffHeapTreeBuilder extends CompactTreeBuilder {
+
+    OffHeapTreeBuilder() {
+        super();
+    }
+
+    /**
+     * @see nu.validator.htmlparser.compact.CompactTreeBuilder#newDocument()
+     */
+    @Override CompactDocument newDocument() {
+        String[] documentLocalNames = new String[nameCount];
+        System.arraycopy(localNames, 0, documentLocalNames, 0, nameCount);
+        String[] documentQNames = new String[nameCount];
+        System.arraycopy(qNames, 0, documentQNames, 0, nameCount);
+        String[] documentNamespaces = new String[nameCount];
+        System.arraycopy(namespaces, 0, documentNamespaces, 0, nameCount);
+        return new OffHeapDocument(types, parents, firstChildren,
+                nextSiblings, names, offsets, lengths, nodeCount, chars,
+                charsLength, attributeNames, attributeValueOffsets,
+                attributeValueLengths, attributeCount, documentLocalNames,
+                documentQNames, documentNamespaces, documentMode,
+                doctypeName, doctypePublicId, doctypeSystemId);
+    }
+}
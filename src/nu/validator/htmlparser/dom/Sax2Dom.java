@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+package nu.validator.htmlparser.dom;
+
+import org.w3c.dom.DOMException;
+import org.w3c.dom.DOMImplementation;
+import org.w3c.dom.Document;
+import org.w3c.dom.DocumentFragment;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.Locator;
+import org.xml.sax.SAXException;
+import org.xml.sax.ext.LexicalHandler;
+
+/**
+ * Builds a DOM from the SAX events of the HTML parser or of 
+ * <code>nu.validator.htmlparser.sax.BinaryTreeReader</code>. The result is 
+ * the same as what <code>HtmlDocumentBuilder</code> builds: the doctype is 
+ * not represented and attributes named <code>id</code> are ID attributes.
+ * 
+ * <p>If the events do not start with <code>startDocument()</code>, they are 
+ * taken to be a fragment and the nodes are put into a 
+ * <code>DocumentFragment</code>. Attributes are created with their qualified 
+ * names, so unlike in <code>HtmlDocumentBuilder</code>, 
+ * <code>xlink:href</code> keeps its prefix.
+ * 
+ * @version $Id$
+ */
+public class Sax2Dom implements ContentHandler, LexicalHandler {
+
+    private final DOMImplementation implementation;
+
+    private Document document;
+
+    private DocumentFragment fragment;
+
+    private Node current;
+
+    private final StringBuilder text = new StringBuilder();
+
+    /**
+     * Constructor.
+     * 
+     * @param implementation
+     *            the DOM implementation for creating the document, e.g. 
+     *            <code>HtmlDocumentBuilder.getDOMImplementation()</code>
+     */
+    public Sax2Dom(DOMImplementation implementation) {
+        if (implementation == null) {
+            throw new IllegalArgumentException(
+                    "DOMImplementation must not be null.");
+        }
+        this.implementation = implementation;
+    }
+
+    /**
+     * Returns the document built from the last events or <code>null</code> 
+     * if the events were a fragment.
+     * 
+     * @return the document
+     */
+    public Document getDocument() {
+        if (fragment != null) {
+            return null;
+        }
+        appendPendingText();
+        return document;
+    }
+
+    /**
+     * Returns the fragment built from the last events or <code>null</code> 
+     * if the events were a document.
+     * 
+     * @return the fragment
+     */
+    public DocumentFragment getDocumentFragment() {
+        appendPendingText();
+        return fragment;
+    }
+
+    private void ensureStarted() {
+        if (current == null) {
+            document = implementation.createDocument(null, null, null);
+            fragment = document.createDocumentFragment();
+            current = fragment;
+        }
+    }
+
+    /**
+     * Appends the text that has not been followed by another event yet. The 
+     * HTML parser does not report the end of a fragment.
+     */
+    private void appendPendingText() {
+        if (text.length() > 0 && current != null) {
+            current.appendChild(document.createTextNode(text.toString()));
+            text.setLength(0);
+        }
+    }
+
+    private void flushText() throws SAXException {
+        try {
+            appendPendingText();
+        } catch (DOMException e) {
+            throw new SAXException(e);
+        }
+    }
+
+    /**
+     * @see org.xml.sax.ContentHandler#characters(char[], int, int)
+     */
+    public void characters(char[] ch, int start, int length)
+            throws SAXException {
+        ensureStarted();
+        text.append(ch, start, length);
+    }
+
+    /**
+     * @see org.xml.sax.ContentHandler#endDocument()
+     */
+    public void endDocument() throws SAXException {
+        ensureStarted();
+        flushText();
+        current = null;
+    }
+
+    /**
+     * @see org.xml.sax.ContentHandler#endElement(java.lang.String,
+     *      java.lang.String, java.lang.String)
+     */
+    public void endElement(String uri, String localName, String qName)
+            throws SAXException {
+        flushText();
+        current = current.getParentNode();
+    }
+
+    /**
+     * @see org.xml.sax.ContentHandler#endPrefixMapping(java.lang.String)
+     */
+    public void endPrefixMapping(String prefix) throws SAXException {
+    }
+
+    /**
+     * @see org.xml.sax.ContentHandler#ignorableWhitespace(char[], int, int)
+     */
+    public void ignorableWhitespace(char[] ch, int start, int length)
+            throws SAXException {
+        characters(ch, start, length);
+    }
+
+    /**
+     * @see org.xml.sax.ContentHandler#processingInstruction(java.lang.String,
+     *      java.lang.String)
+     */
+    public void processingInstruction(String target, String data)
+            throws SAXException {
+        ensureStarted();
+        flushText();
+        try {
+            current.appendChild(document.createProcessingInstruction(target,
+                    data));
+        } catch (DOMException e) {
+            throw new SAXException(e);
+        }
+    }
+
+    /**
+     * @see org.xml.sax.ContentHandler#setDocumentLocator(org.xml.sax.Locator)
+     */
+    public void setDocumentLocator(Locator locator) {
+    }
+
+    /**
+     * @see org.xml.sax.ContentHandler#skippedEntity(java.lang.String)
+     */
+    public void skippedEntity(String name) throws SAXException {
+    }
+
+    /**
+     * @see org.xml.sax.ContentHandler#startDocument()
+     */
+    public void startDocument() throws SAXException {
+        document = implementation.createDocument(null, null, null);
+        fragment = null;
+        current = document;
+        text.setLength(0);
+    }
+
+    /**
+     * @see org.xml.sax.ContentHandler#startElement(java.lang.String,
+     *      java.lang.String, java.lang.String, org.xml.sax.Attributes)
+     */
+    public void startElement(String uri, String localName, String qName,
+            Attributes atts) throws SAXException {
+        ensureStarted();
+        flushText();
+        try {
+            Element element = document.createElementNS(uri, localName);
+            for (int i = 0; i < atts.getLength(); i++) {
+                element.setAttributeNS(atts.getURI(i), atts.getQName(i),
+                        atts.getValue(i));
+                if ("ID" == atts.getType(i)) {
+                    element.setIdAttributeNS(null, atts.getLocalName(i), true);
+                }
+            }
+            current.appendChild(element);
+            current = element;
+        } catch (DOMException e) {
+            throw new SAXException(e);
+        }
+    }
+
+    /**
+     * @see org.xml.sax.ContentHandler#startPrefixMapping(java.lang.String,
+     *      java.lang.String)
+     */
+    public void startPrefixMapping(String prefix, String uri)
+            throws SAXException {
+    }
+
+    /**
+     * @see org.xml.sax.ext.LexicalHandler#comment(char[], int, int)
+     */
+    public void comment(char[] ch, int start, int length) throws SAXException {
+        ensureStarted();
+        flushText();
+        try {
+            current.appendChild(document.createComment(new String(ch, start,
+                    length)));
+        } catch (DOMException e) {
+            throw new SAXException(e);
+        }
+    }
+
+    /**
+     * @see org.xml.sax.ext.LexicalHandler#endCDATA()
+     */
+    public void endCDATA() throws SAXException {
+    }
+
+    /**
+     * @see org.xml.sax.ext.LexicalHandler#endDTD()
+     */
+    public void endDTD() throws SAXException {
+    }
+
+    /**
+     * @see org.xml.sax.ext.LexicalHandler#endEntity(java.lang.String)
+     */
+    public void endEntity(String name) throws SAXException {
+    }
+
+    /**
+     * @see org.xml.sax.ext.LexicalHandler#startCDATA()
+     */
+    public void startCDATA() throws SAXException {
+    }
+
+    /**
+     * @see org.xml.sax.ext.LexicalHandler#startDTD(java.lang.String,
+     *      java.lang.String, java.lang.String)
+     */
+    public void startDTD(String name, String publicId, String systemId)
+            throws SAXException {
+    }
+
+    /**
+     * @see org.xml.sax.ext.LexicalHandler#startEntity(java.lang.String)
+     */
+    public void startEntity(String name) throws SAXException {
+    }
+}
@@ -22,8 +22,6 @@
 
 package nu.validator.htmlparser.impl;
 
-import java.util.Arrays;
-
 import nu.validator.htmlparser.annotation.Local;
 import nu.validator.htmlparser.annotation.NoLength;
 import nu.validator.htmlparser.annotation.NsUri;
@@ -154,6 +152,11 @@ public final class AttributeName
             null, "xml" };
 
     private static @QName String[] COMPUTE_QNAME(String[] local, String[] prefix) {
+        if (prefix == ALL_NO_PREFIX) {
+            // Without prefixes the qnames are the local names, and neither
+            // array is ever written after construction, so share it.
+            return local;
+        }
         @QName String[] arr = new String[4];
         for (int i = 0; i < arr.length; i++) {
             if (prefix[i] == null) {
@@ -277,8 +280,8 @@ public final class AttributeName
             , Interner interner) {
         // XXX deal with offset
         int hash = AttributeName.bufToHash(buf, length);
-        int index = Arrays.binarySearch(AttributeName.ATTRIBUTE_HASHES, hash);
-        if (index < 0) {
+        int index = AttributeName.slot(hash);
+        if (AttributeName.ATTRIBUTE_HASHES[index] != hash) {
             return AttributeName.createAttributeName(
                     Portability.newLocalNameFromBuffer(buf, offset, length,
                             interner)
@@ -326,6 +329,26 @@ public final class AttributeName
         return hash ^ hash2;
     }
 
+    /**
+     * Maps the hash of a name to its slot in the minimal perfect hash table
+     * generated by <code>GeneratePerfectHashes</code>. A well-known name
+     * always maps to its own slot; any other name maps to some slot whose
+     * hash differs from its own.
+     * 
+     * @param hash
+     *            the value returned by <code>bufToHash</code>
+     * @return the slot in <code>ATTRIBUTE_NAMES</code> and
+     *         <code>ATTRIBUTE_HASHES</code>
+     */
+    private static int slot(int hash) {
+        int bucket = (hash ^ (hash >> 10) ^ (hash >> 20))
+                & (AttributeName.ATTRIBUTE_DISPLACEMENTS.length - 1);
+        int mixed = hash ^ AttributeName.ATTRIBUTE_DISPLACEMENTS[bucket];
+        mixed ^= mixed >> 16;
+        mixed ^= mixed >> 7;
+        return (mixed & 0x7FFFFFFF) % AttributeName.ATTRIBUTE_HASHES.length;
+    }
+
     /**
      * The mode value for HTML.
      */
@@ -510,6 +533,27 @@ public final class AttributeName
         return qName[mode];
     }
 
+    /**
+     * Returns the number of well-known attribute names.
+     * 
+     * @return the number of well-known attribute names
+     */
+    public static int getWellKnownCount() {
+        return ATTRIBUTE_NAMES.length;
+    }
+
+    /**
+     * Returns a well-known attribute name. The order is that of the generated 
+     * lookup table, so it is stable only within one version of the parser.
+     * 
+     * @param index
+     *            the index between 0 and <code>getWellKnownCount() - 1</code>
+     * @return the attribute name
+     */
+    public static AttributeName getWellKnown(int index) {
+        return ATTRIBUTE_NAMES[index];
+    }
+
     // ]NOCPP]
 
     public @NsUri String getUri(int mode) {
@@ -702,18 +746,8 @@ public final class AttributeName
 //                    + att.constName() + " = new AttributeName" + att.toString()
 //                    + ";");
 //        }
-//        System.out.println("private final static @NoLength AttributeName[] ATTRIBUTE_NAMES = {");
-//        for (int i = 0; i < ATTRIBUTE_NAMES.length; i++) {
-//            AttributeName att = ATTRIBUTE_NAMES[i];
-//            System.out.println(att.constName() + ",");
-//        }
-//        System.out.println("};");
-//        System.out.println("private final static int[] ATTRIBUTE_HASHES = {");
-//        for (int i = 0; i < ATTRIBUTE_NAMES.length; i++) {
-//            AttributeName att = ATTRIBUTE_NAMES[i];
-//            System.out.println(Integer.toString(att.hash()) + ",");
-//        }
-//        System.out.println("};");
+//        // The ATTRIBUTE_NAMES, ATTRIBUTE_HASHES and ATTRIBUTE_DISPLACEMENTS tables are
+//        // generated by nu.validator.htmlparser.generator.GeneratePerfectHashes.
 //    }
 
     // START GENERATED CODE
@@ -1301,1173 +1335,1687 @@ public final class AttributeName
     public static final AttributeName COLOR_INTERPOLATION_FILTERS = new AttributeName(ALL_NO_NS, SAME_LOCAL("color-interpolation-filters"), ALL_NO_PREFIX, NCNAME_HTML | NCNAME_FOREIGN | NCNAME_LANG);
     public static final AttributeName GLYPH_ORIENTATION_HORIZONTAL = new AttributeName(ALL_NO_NS, SAME_LOCAL("glyph-orientation-horizontal"), ALL_NO_PREFIX, NCNAME_HTML | NCNAME_FOREIGN | NCNAME_LANG);
     private final static @NoLength AttributeName[] ATTRIBUTE_NAMES = {
-    D,
-    K,
-    R,
-    X,
-    Y,
-    Z,
-    BY,
-    CX,
-    CY,
-    DX,
-    DY,
-    G2,
+    SHAPE,
+    SLOPE,
+    UNDERLINE_POSITION,
+    ARIA_INVALID,
     G1,
-    FX,
-    FY,
-    K4,
-    K2,
-    K3,
-    K1,
-    ID,
-    IN,
-    U2,
-    U1,
-    RT,
-    RX,
-    RY,
-    TO,
-    Y2,
-    Y1,
-    X1,
-    X2,
-    ALT,
-    DIR,
-    DUR,
-    END,
-    FOR,
-    IN2,
-    MAX,
-    MIN,
-    LOW,
-    REL,
-    REV,
-    SRC,
-    AXIS,
-    ABBR,
-    BBOX,
-    CITE,
-    CODE,
-    BIAS,
-    COLS,
-    CLIP,
-    CHAR,
-    BASE,
-    EDGE,
-    DATA,
-    FILL,
-    FROM,
-    FORM,
-    FACE,
-    HIGH,
-    HREF,
-    OPEN,
-    ICON,
-    NAME,
-    MODE,
-    MASK,
-    LINK,
-    LANG,
-    LOOP,
-    LIST,
-    TYPE,
-    WHEN,
-    WRAP,
-    TEXT,
-    PATH,
-    PING,
-    REFX,
-    REFY,
-    SIZE,
-    SEED,
-    ROWS,
-    SPAN,
+    CLASSID,
+    HORIZ_ORIGIN_X,
+    SEPARATOR,
+    COLUMNSPACING,
+    FLOOD_COLOR,
+    HEIGHT,
+    ONMOUSEOUT,
+    LANGUAGE,
+    ARIA_BUSY,
+    ACTIVE,
+    UNICODE,
+    ARIA_RELEVANT,
     STEP,
-    ROLE,
-    XREF,
-    ASYNC,
-    ALINK,
-    ALIGN,
-    CLOSE,
-    COLOR,
-    CLASS,
-    CLEAR,
-    BEGIN,
-    DEPTH,
-    DEFER,
-    FENCE,
-    FRAME,
-    ISMAP,
-    ONEND,
-    INDEX,
-    ORDER,
-    OTHER,
+    ONFINISH,
+    FORMAT,
+    XLINK_SHOW,
+    LINEBREAK,
+    ACTIONTYPE,
+    PRIMITIVEUNITS,
+    HSPACE,
+    ACCEPT,
+    ENCODING,
+    FACE,
+    TEXT_ANCHOR,
+    CHARSET,
+    FONTFAMILY,
+    ADDITIVE,
+    ONMOUSEUP,
+    PROMPT,
+    ONAFTERUPDATE,
+    ACCESSKEY,
     ONCUT,
-    NARGS,
-    MEDIA,
-    LABEL,
-    LOCAL,
-    WIDTH,
-    TITLE,
-    VLINK,
+    SCRIPTLEVEL,
     VALUE,
-    SLOPE,
-    SHAPE,
-    SCOPE,
-    SCALE,
-    SPEED,
-    STYLE,
-    RULES,
-    STEMH,
-    SIZES,
-    STEMV,
-    START,
-    XMLNS,
-    ACCEPT,
-    ACCENT,
-    ASCENT,
-    ACTIVE,
-    ALTIMG,
-    ACTION,
-    BORDER,
+    CELLSPACING,
+    FONT_FAMILY,
+    ARIA_SELECTED,
+    ONDROP,
+    LOCAL,
+    POINTSATY,
+    NORESIZE,
+    OTHER,
+    MULTIPLE,
+    TEXT,
+    SYSTEMLANGUAGE,
+    ENABLE_BACKGROUND,
+    REFX,
     CURSOR,
-    COORDS,
-    FILTER,
-    FORMAT,
+    ARIA_VALUEMAX,
+    MATHBACKGROUND,
+    CLOSURE,
+    MATHSIZE,
+    X,
+    ONUNLOAD,
+    ARABIC_FORM,
+    X2,
+    GRADIENTTRANSFORM,
+    STOP_OPACITY,
+    VERT_ADV_Y,
+    ONDRAGDROP,
+    MACROS,
+    REPEAT,
+    ONROWSINSERTED,
     HIDDEN,
-    HSPACE,
-    HEIGHT,
-    ONMOVE,
-    ONLOAD,
-    ONDRAG,
-    ORIGIN,
-    ONZOOM,
+    YCHANNELSELECTOR,
+    ARIA_CHANNEL,
     ONHELP,
+    SUMMARY,
+    INPUTMODE,
+    KEYSYSTEM,
+    ARIA_DESCRIBEDBY,
     ONSTOP,
-    ONDROP,
-    ONBLUR,
-    OBJECT,
-    OFFSET,
-    ORIENT,
-    ONCOPY,
-    NOWRAP,
-    NOHREF,
-    MACROS,
-    METHOD,
-    LOWSRC,
-    LSPACE,
-    LQUOTE,
-    USEMAP,
-    WIDTHS,
-    TARGET,
-    VALUES,
-    VALIGN,
-    VSPACE,
-    POSTER,
-    POINTS,
-    PROMPT,
-    SRCDOC,
-    SCOPED,
-    STRING,
-    SCHEME,
-    STROKE,
-    RADIUS,
     RESULT,
-    REPEAT,
-    SRCSET,
-    RSPACE,
-    ROTATE,
-    RQUOTE,
-    ALTTEXT,
-    ARCHIVE,
-    AZIMUTH,
-    CLOSURE,
-    CHECKED,
-    CLASSID,
-    CHAROFF,
-    BGCOLOR,
-    COLSPAN,
-    CHARSET,
-    COMPACT,
-    CONTENT,
-    ENCTYPE,
-    DATASRC,
-    DATAFLD,
-    DECLARE,
-    DISPLAY,
-    DIVISOR,
-    DEFAULT,
-    DESCENT,
-    KERNING,
-    HANGING,
-    HEADERS,
-    ONPASTE,
-    ONCLICK,
-    OPTIMUM,
-    ONBEGIN,
-    ONKEYUP,
+    K4,
     ONFOCUS,
-    ONERROR,
-    ONINPUT,
-    ONABORT,
-    ONSTART,
-    ONRESET,
-    OPACITY,
-    NOSHADE,
-    MINSIZE,
-    MAXSIZE,
-    LARGEOP,
-    UNICODE,
-    TARGETX,
+    ROLE,
+    ONROWSDELETE,
+    ONMOUSEWHEEL,
+    RULES,
+    ARIA_CHECKED,
+    ONPASTE,
+    XML_SPACE,
+    PATTERNUNITS,
+    Y,
+    PATTERNCONTENTUNITS,
+    CLASS,
+    GLYPH_NAME,
+    LENGTHADJUST,
+    RT,
+    BBOX,
+    ONFOCUSOUT,
+    PATHLENGTH,
+    EXPONENT,
+    CONTEXTMENU,
+    TEMPLATE,
+    ARIA_SETSIZE,
+    FONT_WEIGHT,
+    ARIA_VALUENOW,
+    V_MATHEMATICAL,
+    XLINK_ACTUATE,
+    ONBEFOREPASTE,
+    ONDATASETCOMPLETE,
+    CHECKED,
     TARGETY,
-    VIEWBOX,
-    VERSION,
-    PATTERN,
-    PROFILE,
-    SPACING,
-    RESTART,
-    ROWSPAN,
-    SANDBOX,
-    SUMMARY,
-    STANDBY,
-    REPLACE,
+    CLIPPATHUNITS,
+    AUTOSUBMIT,
+    ARIA_REQUIRED,
+    ONBEFOREPRINT,
+    ARIA_READONLY,
+    TO,
+    ARIA_DATATYPE,
+    BASEFREQUENCY,
+    LOWSRC,
+    SRCDOC,
+    TEXT_RENDERING,
+    Z,
+    ATTRIBUTENAME,
+    INTEGRITY,
+    STEMV,
+    FLOOD_OPACITY,
+    OPERATOR,
+    PATH,
+    FRAMESPACING,
+    LIST,
+    FONTWEIGHT,
+    ONDRAGLEAVE,
+    WRITING_MODE,
+    FILL_RULE,
+    THICKMATHSPACE,
+    ONMOVE,
+    OVERFLOW,
+    SPECULAREXPONENT,
+    BASEPROFILE,
+    POINTER_EVENTS,
+    ACCENTUNDER,
+    ONKEYPRESS,
+    ACTION,
+    TARGET,
     AUTOPLAY,
-    ADDITIVE,
-    CALCMODE,
+    LETTER_SPACING,
+    ONBEFORECUT,
+    ACCEPT_CHARSET,
+    Y2,
+    ALIGN,
+    INDEX,
     CODETYPE,
-    CODEBASE,
+    AXIS,
+    VSPACE,
+    ONINPUT,
+    LIMITINGCONEANGLE,
+    SRC,
+    CHAR,
+    END,
+    ARIA_ATOMIC,
+    DATASRC,
+    ONLOAD,
+    ONBEFORECOPY,
+    FOR,
+    HEADERS,
+    SCOPE,
+    VERSION,
+    SPAN,
+    COLUMNLINES,
+    V_ALPHABETIC,
+    ONREADYSTATECHANGE,
+    OVERLINE_THICKNESS,
+    FY,
+    RQUOTE,
+    GROUPALIGN,
     CONTROLS,
-    BEVELLED,
-    BASELINE,
-    EXPONENT,
-    EDGEMODE,
-    ENCODING,
-    GLYPHREF,
-    DATETIME,
-    DISABLED,
-    FONTSIZE,
-    KEYTIMES,
+    STROKE_LINECAP,
+    ONCONTEXTMENU,
+    HANGING,
+    Y1,
+    STROKE_MITERLIMIT,
+    ALT,
+    LANG,
+    ONCLICK,
+    SRCSET,
+    DATA,
+    CODE,
+    SCALE,
+    MASK,
+    XML_BASE,
+    UNITS_PER_EM,
+    STRIKETHROUGH_THICKNESS,
+    KERNELMATRIX,
+    X_HEIGHT,
+    ONDEACTIVATE,
+    REQUIREDFEATURES,
+    ID,
+    REFY,
+    INTERCEPT,
+    BORDER,
+    STRETCHY,
+    ONFORMCHANGE,
+    VALUES,
+    REPEAT_MIN,
+    ONCONTROLSELECT,
+    FX,
     PANOSE_1,
-    HREFLANG,
-    ONRESIZE,
-    ONCHANGE,
-    ONBOUNCE,
-    ONUNLOAD,
-    ONFINISH,
-    ONSCROLL,
-    OPERATOR,
-    OVERFLOW,
-    ONSUBMIT,
-    ONREPEAT,
-    ONSELECT,
-    NOTATION,
-    NORESIZE,
-    MANIFEST,
-    MATHSIZE,
-    MULTIPLE,
-    LONGDESC,
-    LANGUAGE,
-    TEMPLATE,
-    TABINDEX,
-    PROPERTY,
-    READONLY,
     SELECTED,
-    ROWLINES,
-    SEAMLESS,
-    ROWALIGN,
-    STRETCHY,
-    REQUIRED,
-    XML_BASE,
+    NAME,
+    SPEED,
+    DECLARE,
+    PRESERVEASPECTRATIO,
+    RX,
+    BEGIN,
+    UNICODE_BIDI,
+    PATTERN,
+    XLINK_ROLE,
+    SPREADMETHOD,
+    LINETHICKNESS,
+    ROWSPACING,
+    REV,
+    SYMMETRIC,
+    ONDATAAVAILABLE,
+    HIGH,
+    ARIA_DISABLED,
+    OPEN,
+    K,
+    USEMAP,
+    OVERLINE_POSITION,
+    COLOR_INTERPOLATION,
     XML_LANG,
-    X_HEIGHT,
-    ARIA_OWNS,
-    AUTOFOCUS,
-    ARIA_SORT,
-    ACCESSKEY,
-    ARIA_BUSY,
-    ARIA_GRAB,
-    AMPLITUDE,
-    ARIA_LIVE,
-    CLIP_RULE,
-    CLIP_PATH,
-    EQUALROWS,
-    ELEVATION,
-    DIRECTION,
     DRAGGABLE,
-    FILL_RULE,
-    FONTSTYLE,
-    FONT_SIZE,
-    KEYSYSTEM,
-    KEYPOINTS,
-    HIDEFOCUS,
-    ONMESSAGE,
-    INTERCEPT,
-    ONDRAGEND,
-    ONMOVEEND,
-    ONINVALID,
-    INTEGRITY,
-    ONKEYDOWN,
-    ONFOCUSIN,
-    ONMOUSEUP,
-    INPUTMODE,
-    ONROWEXIT,
-    MATHCOLOR,
-    MASKUNITS,
-    MAXLENGTH,
-    LINEBREAK,
-    TRANSFORM,
-    V_HANGING,
-    VALUETYPE,
-    POINTSATZ,
-    POINTSATX,
-    POINTSATY,
-    SYMMETRIC,
-    SCROLLING,
-    REPEATDUR,
-    SELECTION,
-    SEPARATOR,
-    XML_SPACE,
-    AUTOSUBMIT,
-    ALPHABETIC,
-    ACTIONTYPE,
-    ACCUMULATE,
-    ARIA_LEVEL,
-    COLUMNSPAN,
-    CAP_HEIGHT,
-    BACKGROUND,
-    GLYPH_NAME,
-    GROUPALIGN,
-    FONTFAMILY,
-    FONTWEIGHT,
-    FONT_STYLE,
-    KEYSPLINES,
-    HTTP_EQUIV,
-    ONACTIVATE,
-    OCCURRENCE,
-    IRRELEVANT,
-    ONDBLCLICK,
-    ONDRAGDROP,
-    ONKEYPRESS,
+    KERNING,
+    LIGHTING_COLOR,
+    CELLPADDING,
+    MARGINHEIGHT,
+    MARKERHEIGHT,
+    ARIA_LABELLEDBY,
+    K1,
+    ONBEFOREACTIVATE,
+    ACCENT_HEIGHT,
+    SURFACESCALE,
+    TARGETX,
+    OPTIMUM,
+    NOSHADE,
     ONROWENTER,
-    ONDRAGOVER,
-    ONFOCUSOUT,
-    ONMOUSEOUT,
-    NUMOCTAVES,
-    MARKER_MID,
-    MARKER_END,
-    TEXTLENGTH,
-    VISIBILITY,
-    VIEWTARGET,
-    VERT_ADV_Y,
-    PATHLENGTH,
-    REPEAT_MAX,
+    REQUIREDEXTENSIONS,
+    RY,
+    STYLE,
+    DOMINANT_BASELINE,
+    K2,
+    ARIA_ACTIVEDESCENDANT,
+    HTTP_EQUIV,
+    ONREPEAT,
+    PRESERVEALPHA,
+    FORM,
+    NOTATION,
+    STROKE_DASHOFFSET,
+    MIN,
+    XMLNS,
+    SPECULARCONSTANT,
     RADIOGROUP,
-    STOP_COLOR,
-    SEPARATORS,
-    REPEAT_MIN,
-    ROWSPACING,
-    ZOOMANDPAN,
+    ONCHANGE,
+    VERYTHICKMATHSPACE,
+    ONPROPERTYCHANGE,
+    COLUMNSPAN,
+    COLOR_INTERPOLATION_FILTERS,
+    ONSELECTSTART,
+    READONLY,
+    FRAMEBORDER,
+    COLOR_PROFILE,
     XLINK_TYPE,
-    XLINK_ROLE,
+    CODEBASE,
+    TRANSFORM,
+    CROSSORIGIN,
+    ARIA_LIVE,
+    ONINVALID,
+    ACCENT,
+    CONTENTEDITABLE,
     XLINK_HREF,
-    XLINK_SHOW,
-    ACCENTUNDER,
-    ARIA_SECRET,
-    ARIA_ATOMIC,
-    ARIA_HIDDEN,
+    BIAS,
+    ARCHIVE,
+    COMPACT,
+    IMAGE_RENDERING,
     ARIA_FLOWTO,
-    ARABIC_FORM,
-    CELLPADDING,
-    CELLSPACING,
-    COLUMNWIDTH,
-    CROSSORIGIN,
-    COLUMNALIGN,
-    COLUMNLINES,
-    CONTEXTMENU,
-    BASEPROFILE,
-    FONT_FAMILY,
-    FRAMEBORDER,
-    FILTERUNITS,
-    FLOOD_COLOR,
-    FONT_WEIGHT,
-    HORIZ_ADV_X,
-    ONDRAGLEAVE,
-    ONMOUSEMOVE,
-    ORIENTATION,
-    ONMOUSEDOWN,
-    ONMOUSEOVER,
-    ONDRAGENTER,
-    IDEOGRAPHIC,
-    ONBEFORECUT,
-    ONFORMINPUT,
-    ONDRAGSTART,
-    ONMOVESTART,
-    MARKERUNITS,
-    MATHVARIANT,
-    MARGINWIDTH,
-    MARKERWIDTH,
-    TEXT_ANCHOR,
-    TABLEVALUES,
-    SCRIPTLEVEL,
-    REPEATCOUNT,
+    MAXLENGTH,
+    ONCELLCHANGE,
+    ONDRAG,
+    UNDERLINE_THICKNESS,
+    ARIA_MULTISELECTABLE,
     STITCHTILES,
-    STARTOFFSET,
-    SCROLLDELAY,
+    REFERRERPOLICY,
+    MASKCONTENTUNITS,
+    ONBLUR,
+    ONSTART,
+    MEDIA,
+    BASE,
+    ONERROR,
+    CLIP_PATH,
+    HORIZ_ADV_X,
+    STROKE,
+    K3,
     XMLNS_XLINK,
-    XLINK_TITLE,
-    ARIA_INVALID,
-    ARIA_PRESSED,
-    ARIA_CHECKED,
-    AUTOCOMPLETE,
-    ARIA_SETSIZE,
-    ARIA_CHANNEL,
-    EQUALCOLUMNS,
-    DISPLAYSTYLE,
+    ONERRORUPDATE,
+    ONMESSAGE,
+    ARIA_SECRET,
+    ONCOPY,
+    IDEOGRAPHIC,
+    CLIP_RULE,
+    FILL,
+    EQUALROWS,
     DATAFORMATAS,
+    PATTERNTRANSFORM,
+    OPACITY,
+    ONEND,
+    MINSIZE,
+    LSPACE,
+    VERYVERYTHICKMATHSPACE,
+    ONDRAGOVER,
+    ROTATE,
+    LOOP,
+    STROKE_LINEJOIN,
+    MATHCOLOR,
     FILL_OPACITY,
-    FONT_VARIANT,
-    FONT_STRETCH,
-    FRAMESPACING,
-    KERNELMATRIX,
-    ONDEACTIVATE,
-    ONROWSDELETE,
+    ARIA_HIDDEN,
+    ARIA_GRAB,
+    UNICODE_RANGE,
     ONMOUSELEAVE,
-    ONFORMCHANGE,
-    ONCELLCHANGE,
-    ONMOUSEWHEEL,
-    ONMOUSEENTER,
-    ONAFTERPRINT,
-    ONBEFORECOPY,
-    MARGINHEIGHT,
-    MARKERHEIGHT,
-    MARKER_START,
-    MATHEMATICAL,
-    LENGTHADJUST,
-    UNSELECTABLE,
-    UNICODE_BIDI,
-    UNITS_PER_EM,
-    WORD_SPACING,
-    WRITING_MODE,
-    V_ALPHABETIC,
-    PATTERNUNITS,
-    SPREADMETHOD,
-    SURFACESCALE,
-    STROKE_WIDTH,
-    REPEAT_START,
-    STDDEVIATION,
-    STOP_OPACITY,
-    ARIA_CONTROLS,
-    ARIA_HASPOPUP,
-    ACCENT_HEIGHT,
-    ARIA_VALUENOW,
-    ARIA_RELEVANT,
-    ARIA_POSINSET,
-    ARIA_VALUEMAX,
-    ARIA_READONLY,
-    ARIA_SELECTED,
-    ARIA_REQUIRED,
-    ARIA_EXPANDED,
-    ARIA_DISABLED,
-    ATTRIBUTETYPE,
-    ATTRIBUTENAME,
-    ARIA_DATATYPE,
-    ARIA_VALUEMIN,
-    BASEFREQUENCY,
-    COLUMNSPACING,
-    COLOR_PROFILE,
-    CLIPPATHUNITS,
-    DEFINITIONURL,
-    GRADIENTUNITS,
-    FLOOD_OPACITY,
-    ONAFTERUPDATE,
-    ONERRORUPDATE,
-    ONBEFOREPASTE,
-    ONLOSECAPTURE,
-    ONCONTEXTMENU,
-    ONSELECTSTART,
-    ONBEFOREPRINT,
+    EDGEMODE,
+    DEPTH,
     MOVABLELIMITS,
-    LINETHICKNESS,
-    UNICODE_RANGE,
-    THINMATHSPACE,
-    VERT_ORIGIN_X,
+    BEVELLED,
+    DIRECTION,
+    SPACING,
+    NOWRAP,
+    DATETIME,
+    CONTENT,
+    ARIA_OWNS,
+    DISPLAYSTYLE,
+    ARIA_SORT,
+    TEXTLENGTH,
+    BGCOLOR,
+    CITE,
+    ONZOOM,
+    IN2,
+    POINTSATZ,
+    ROWLINES,
+    DY,
+    FROM,
+    ONMOUSEDOWN,
+    COLUMNALIGN,
+    ONDRAGSTART,
+    TABLEVALUES,
+    DEFAULT,
+    ARIA_LEVEL,
+    DEFINITIONURL,
+    ENCTYPE,
+    VISIBILITY,
     VERT_ORIGIN_Y,
-    V_IDEOGRAPHIC,
-    PRESERVEALPHA,
-    SCRIPTMINSIZE,
-    SPECIFICATION,
-    XLINK_ACTUATE,
+    ISMAP,
+    ONMOVESTART,
+    AUTOFOCUS,
+    DATAFLD,
+    FONTSTYLE,
+    ONMOUSEOVER,
+    ELEVATION,
+    FONT_VARIANT,
+    ARIA_PRESSED,
+    SUPERSCRIPTSHIFT,
+    ONBEFOREUNLOAD,
+    NUMOCTAVES,
+    LONGDESC,
+    START,
+    REPEATDUR,
+    COORDS,
+    IRRELEVANT,
+    STARTOFFSET,
+    DX,
+    ONABORT,
+    ZOOMANDPAN,
+    DUR,
+    SIZES,
+    VLINK,
+    DIR,
+    STROKE_DASHARRAY,
+    ACCUMULATE,
+    COLSPAN,
+    FONT_SIZE,
+    FONTSIZE,
+    ONRESET,
+    PING,
+    DIFFUSECONSTANT,
+    SEED,
+    AMPLITUDE,
+    IN,
+    STROKE_OPACITY,
+    REL,
     XLINK_ARCROLE,
-    ACCEPT_CHARSET,
-    ALIGNMENTSCOPE,
-    ARIA_MULTILINE,
+    DESCENT,
+    POSTER,
+    RADIUS,
+    ATTRIBUTETYPE,
+    ONSUBMIT,
+    CX,
+    GLYPH_ORIENTATION_VERTICAL,
+    TABINDEX,
+    LABEL,
+    VIEWTARGET,
+    DEFER,
+    EDGE,
+    RESTART,
     BASELINE_SHIFT,
-    HORIZ_ORIGIN_X,
-    HORIZ_ORIGIN_Y,
+    LOW,
+    OFFSET,
+    SIZE,
+    ALTIMG,
+    ONBEFORDEACTIVATE,
+    MANIFEST,
+    ALIGNMENT_BASELINE,
+    DISABLED,
+    CLOSE,
+    REPLACE,
+    ALINK,
+    DIVISOR,
+    TITLE,
+    ONFORMINPUT,
+    STANDBY,
+    COLOR,
+    ONDRAGENTER,
+    COLS,
+    ARIA_MULTILINE,
+    UNSELECTABLE,
     ONBEFOREUPDATE,
-    ONFILTERCHANGE,
-    ONROWSINSERTED,
-    ONBEFOREUNLOAD,
-    MATHBACKGROUND,
-    LETTER_SPACING,
-    LIGHTING_COLOR,
-    THICKMATHSPACE,
-    TEXT_RENDERING,
-    V_MATHEMATICAL,
-    POINTER_EVENTS,
-    PRIMITIVEUNITS,
-    REFERRERPOLICY,
-    SYSTEMLANGUAGE,
-    STROKE_LINECAP,
-    SUBSCRIPTSHIFT,
-    STROKE_OPACITY,
-    ARIA_DROPEFFECT,
-    ARIA_LABELLEDBY,
-    ARIA_TEMPLATEID,
+    AZIMUTH,
     COLOR_RENDERING,
-    CONTENTEDITABLE,
-    DIFFUSECONSTANT,
-    ONDATAAVAILABLE,
-    ONCONTROLSELECT,
-    IMAGE_RENDERING,
-    MEDIUMMATHSPACE,
-    TEXT_DECORATION,
-    SHAPE_RENDERING,
-    STROKE_LINEJOIN,
+    HORIZ_ORIGIN_Y,
+    CY,
+    ONMOUSEENTER,
+    FONT_STRETCH,
+    ONMOVEEND,
+    MARKER_END,
+    XREF,
+    ASCENT,
+    XLINK_TITLE,
+    BASELINE,
+    CLEAR,
+    ORIENT,
+    ARIA_DROPEFFECT,
+    BY,
+    R,
+    KEYSPLINES,
+    REPEAT_START,
+    ALTTEXT,
+    LINK,
+    CHAROFF,
+    ONKEYDOWN,
+    WORD_SPACING,
+    EQUALCOLUMNS,
+    OBJECT,
+    FENCE,
+    CALCMODE,
+    STRIKETHROUGH_POSITION,
+    ARIA_CONTROLS,
+    ABBR,
+    MARGINWIDTH,
+    U1,
+    ONAFTERPRINT,
+    U2,
+    MARKERWIDTH,
+    STRING,
+    VIEWBOX,
+    CAP_HEIGHT,
+    LQUOTE,
+    STOP_COLOR,
+    SCOPED,
+    ONLOSECAPTURE,
+    ONSELECT,
+    GLYPH_ORIENTATION_HORIZONTAL,
+    ALPHABETIC,
+    FILTERUNITS,
+    PROFILE,
+    WIDTH,
+    STEMH,
+    MARKER_START,
+    V_IDEOGRAPHIC,
+    ARIA_HASPOPUP,
+    ONBOUNCE,
+    ONACTIVATE,
+    ONDBLCLICK,
+    SCHEME,
+    LARGEOP,
+    ROWALIGN,
+    ONKEYUP,
+    SELECTION,
+    ONBEFOREEDITFOCUS,
+    ONROWEXIT,
+    V_HANGING,
+    ARIA_POSINSET,
     REPEAT_TEMPLATE,
-    ARIA_DESCRIBEDBY,
-    FONT_SIZE_ADJUST,
-    KERNELUNITLENGTH,
-    ONBEFOREACTIVATE,
-    ONPROPERTYCHANGE,
-    ONDATASETCHANGED,
-    MASKCONTENTUNITS,
-    PATTERNTRANSFORM,
-    REQUIREDFEATURES,
+    MATHVARIANT,
+    SUBSCRIPTSHIFT,
+    NARGS,
+    MARKERUNITS,
+    FONT_STYLE,
     RENDERING_INTENT,
-    SPECULAREXPONENT,
-    SPECULARCONSTANT,
-    SUPERSCRIPTSHIFT,
-    STROKE_DASHARRAY,
+    GLYPHREF,
+    OCCURRENCE,
+    SCROLLING,
+    VALUETYPE,
+    ASYNC,
+    FONT_SIZE_ADJUST,
+    POINTSATX,
+    THINMATHSPACE,
+    MAX,
+    SCROLLDELAY,
+    STROKE_WIDTH,
+    CLIP,
+    MODE,
+    SPECIFICATION,
+    SANDBOX,
+    STDDEVIATION,
+    FILTER,
+    REPEAT_MAX,
+    ONMOUSEMOVE,
+    AUTOCOMPLETE,
+    ARIA_VALUEMIN,
+    ALIGNMENTSCOPE,
     XCHANNELSELECTOR,
-    YCHANNELSELECTOR,
-    ARIA_AUTOCOMPLETE,
-    ENABLE_BACKGROUND,
-    DOMINANT_BASELINE,
-    GRADIENTTRANSFORM,
-    ONBEFORDEACTIVATE,
-    ONDATASETCOMPLETE,
-    OVERLINE_POSITION,
-    ONBEFOREEDITFOCUS,
-    LIMITINGCONEANGLE,
+    MASKUNITS,
+    BACKGROUND,
+    FRAME,
+    POINTS,
+    ROWSPAN,
+    SCRIPTMINSIZE,
+    ONDATASETCHANGED,
+    KEYTIMES,
+    MARKER_MID,
+    REQUIRED,
+    ONBEGIN,
+    METHOD,
+    ORIGIN,
+    RSPACE,
+    HIDEFOCUS,
+    SHAPE_RENDERING,
+    SEAMLESS,
+    WHEN,
+    KEYPOINTS,
+    PROPERTY,
+    X1,
     VERYTHINMATHSPACE,
-    STROKE_DASHOFFSET,
-    STROKE_MITERLIMIT,
-    ALIGNMENT_BASELINE,
-    ONREADYSTATECHANGE,
-    OVERLINE_THICKNESS,
-    UNDERLINE_POSITION,
-    VERYTHICKMATHSPACE,
-    REQUIREDEXTENSIONS,
-    COLOR_INTERPOLATION,
-    UNDERLINE_THICKNESS,
-    PRESERVEASPECTRATIO,
-    PATTERNCONTENTUNITS,
-    ARIA_MULTISELECTABLE,
-    SCRIPTSIZEMULTIPLIER,
-    ARIA_ACTIVEDESCENDANT,
-    VERYVERYTHINMATHSPACE,
-    VERYVERYTHICKMATHSPACE,
-    STRIKETHROUGH_POSITION,
-    STRIKETHROUGH_THICKNESS,
-    GLYPH_ORIENTATION_VERTICAL,
-    COLOR_INTERPOLATION_FILTERS,
-    GLYPH_ORIENTATION_HORIZONTAL,
-    };
-    private final static int[] ATTRIBUTE_HASHES = {
-    1153,
-    1383,
-    1601,
-    1793,
-    1827,
-    1857,
-    68600,
-    69146,
-    69177,
-    70237,
-    70270,
-    71572,
-    71669,
-    72415,
-    72444,
-    74846,
-    74904,
-    74943,
-    75001,
-    75276,
-    75590,
-    84742,
-    84839,
-    85575,
-    85963,
-    85992,
-    87204,
-    88074,
-    88171,
-    89130,
-    89163,
-    3207892,
-    3283895,
-    3284791,
-    3338752,
-    3358197,
-    3369562,
-    3539124,
-    3562402,
-    3574260,
-    3670335,
-    3696933,
-    3721879,
-    135280021,
-    135346322,
-    136317019,
-    136475749,
-    136548517,
-    136652214,
-    136884919,
-    136902418,
-    136942992,
-    137292068,
-    139120259,
-    139785574,
-    142250603,
-    142314056,
-    142331176,
-    142519584,
-    144752417,
-    145106895,
-    146147200,
-    146765926,
-    148805544,
-    149655723,
-    149809441,
-    150018784,
-    150445028,
-    150813181,
-    150923321,
-    152528754,
-    152536216,
-    152647366,
-    152962785,
-    155219321,
-    155654904,
-    157317483,
-    157350248,
-    157437941,
-    157447478,
-    157604838,
-    157685404,
+    ARIA_EXPANDED,
+    MATHEMATICAL,
+    MAXSIZE,
+    HREFLANG,
+    ICON,
+    TEXT_DECORATION,
+    TYPE,
+    G2,
+    ONDRAGEND,
+    VERT_ORIGIN_X,
+    ONRESIZE,
+    ONFILTERCHANGE,
+    SEPARATORS,
+    ARIA_TEMPLATEID,
+    REPEATCOUNT,
+    WIDTHS,
+    ONFOCUSIN,
+    MEDIUMMATHSPACE,
+    ROWS,
+    COLUMNWIDTH,
+    SCRIPTSIZEMULTIPLIER,
+    ONSCROLL,
+    VERYVERYTHINMATHSPACE,
+    ORIENTATION,
+    KERNELUNITLENGTH,
+    WRAP,
+    HREF,
+    NOHREF,
+    D,
+    ORDER,
+    ARIA_AUTOCOMPLETE,
+    GRADIENTUNITS,
+    DISPLAY,
+    VALIGN,
+    };
+    private final static int[] ATTRIBUTE_HASHES = {
+    190992569,
+    190977533,
+    621792370,
+    404428547,
+    71669,
+    237172455,
+    481177859,
+    325671619,
+    438483573,
+    376826271,
+    212746849,
+    347776629,
+    284606461,
+    303430688,
+    203070590,
+    252339047,
+    437455540,
     157894402,
-    158315188,
-    166078431,
-    169409980,
-    169700259,
-    169856932,
-    170007032,
-    170409695,
-    170466488,
-    170513710,
-    170608367,
-    173028944,
-    173896963,
-    176090625,
-    176129212,
-    179390001,
-    179489057,
-    179627464,
-    179840468,
-    179849042,
+    280280292,
+    209125756,
+    368013212,
+    317794164,
+    337282686,
+    491578272,
+    212322418,
+    202506661,
+    273369140,
+    142519584,
+    387799894,
+    237668065,
+    342995704,
+    270174334,
+    314091299,
+    223311265,
+    447881379,
+    303354997,
     180004216,
-    181779081,
-    183027151,
-    183645319,
-    183698797,
-    185922012,
-    185997252,
-    188312483,
+    392581647,
     188675799,
-    190977533,
-    190992569,
-    191006194,
-    191033518,
-    191038774,
-    191096249,
-    191166163,
-    191194426,
-    191443343,
-    191522106,
-    191568039,
-    200104642,
-    202506661,
-    202537381,
-    202602917,
-    203070590,
-    203120766,
-    203389054,
-    203690071,
+    371448430,
+    376550136,
+    437986305,
+    213438231,
+    183698797,
+    323605180,
+    283110901,
+    179849042,
+    283890012,
+    152962785,
+    493041952,
+    575326764,
+    157317483,
     203971238,
-    203986524,
-    209040857,
-    209125756,
+    437597991,
+    485105638,
+    237117095,
+    283823226,
+    1793,
+    280162403,
+    371194213,
+    89163,
+    576190819,
+    426607922,
+    355979793,
+    347655959,
+    216112976,
+    224813302,
+    481485378,
     212055489,
-    212322418,
-    212746849,
-    213002877,
-    213055164,
-    213088023,
-    213259873,
-    213273386,
+    569474241,
+    404694860,
     213435118,
+    258845603,
+    314205627,
+    310833159,
+    538294791,
     213437318,
-    213438231,
-    213493071,
-    213532268,
-    213542834,
-    213584431,
-    213659891,
-    215285828,
-    215880731,
-    216112976,
-    216684637,
-    217369699,
-    217565298,
-    217576549,
-    218186795,
-    219743185,
-    220082234,
-    221623802,
-    221986406,
-    222283890,
-    223089542,
-    223138630,
-    223311265,
-    224431494,
-    224547358,
-    224587256,
-    224589550,
-    224655650,
-    224785518,
     224810917,
-    224813302,
-    225126263,
-    225429618,
-    225432950,
-    225440869,
-    236107233,
-    236709921,
-    236838947,
-    237117095,
+    74846,
+    247014847,
+    158315188,
+    414327932,
+    414639928,
+    191166163,
+    404432865,
+    246556195,
+    333868843,
+    424539259,
+    1827,
+    659420283,
+    170466488,
+    340943551,
+    419310946,
+    85575,
+    136317019,
+    347776035,
+    356545959,
+    272870654,
+    371964792,
+    286700477,
+    404478897,
+    376906556,
+    437423943,
+    490661867,
+    468058810,
+    447881895,
+    582099438,
     237143271,
-    237172455,
-    237209953,
-    237354143,
-    237372743,
-    237668065,
-    237703073,
-    237714273,
-    239743521,
+    253293679,
+    438895551,
+    336806130,
+    437986507,
+    448449012,
+    437617485,
+    87204,
+    438038966,
+    438347971,
+    217369699,
+    224431494,
+    488103783,
+    1857,
+    438034813,
+    313795700,
+    191522106,
+    443548979,
+    280506130,
+    155219321,
+    410945965,
+    150923321,
+    343352124,
+    380774774,
+    420717432,
+    310252031,
+    487988916,
+    213002877,
+    280677397,
+    560671018,
+    372151328,
+    491574090,
+    370234760,
+    347684788,
+    203389054,
+    220082234,
+    269869248,
+    486005878,
+    381330595,
+    470964084,
+    88074,
+    169856932,
+    179627464,
+    270778994,
+    135280021,
+    222283890,
+    247112833,
+    586552164,
+    3721879,
+    136942992,
+    3338752,
+    370710317,
     240512803,
-    240522627,
-    240560417,
-    240656513,
-    241015715,
-    241062755,
-    241065383,
-    243523041,
-    245865199,
+    213055164,
+    414986533,
+    3358197,
     246261793,
-    246556195,
-    246774817,
-    246923491,
-    246928419,
-    246981667,
-    247014847,
-    247058369,
-    247112833,
-    247118177,
-    247119137,
-    247128739,
-    247316903,
-    249533729,
-    250235623,
-    250269543,
-    251402351,
-    252339047,
-    253260911,
-    253293679,
-    254844367,
+    191006194,
     255547879,
-    256077281,
-    256345377,
-    258124199,
-    258354465,
-    258605063,
-    258744193,
-    258845603,
-    258856961,
-    258926689,
-    269869248,
-    270174334,
-    270709417,
-    270778994,
-    270781796,
+    157685404,
+    371758751,
+    423183880,
+    615672071,
+    616086845,
+    72444,
+    225440869,
+    341190970,
     271102503,
-    271478858,
-    271490090,
-    272870654,
-    273335275,
-    273369140,
-    273924313,
-    274108530,
-    274116736,
-    276818662,
-    277476156,
-    279156579,
-    279349675,
-    280108533,
-    280128712,
-    280132869,
-    280162403,
-    280280292,
-    280413430,
-    280506130,
-    280677397,
-    280678580,
-    280686710,
-    280689066,
-    282736758,
-    283110901,
-    283275116,
-    283823226,
-    283890012,
-    284479340,
-    284606461,
-    286700477,
-    286798916,
-    290055764,
-    291557706,
-    291665349,
-    291804100,
-    292138018,
-    292166446,
-    292418738,
-    292451039,
+    493441205,
+    448416189,
+    245865199,
+    88171,
+    594243961,
+    3207892,
+    150445028,
+    246774817,
+    225126263,
+    139785574,
+    136548517,
+    191033518,
+    149809441,
     300298041,
-    300374839,
+    420380455,
+    795383908,
+    411845275,
     300597935,
-    303073389,
-    303083839,
-    303266673,
-    303354997,
-    303430688,
-    303576261,
-    303724281,
-    303819694,
-    304242723,
-    304382625,
-    306247792,
-    307227811,
-    307468786,
-    307724489,
-    310252031,
-    310358241,
-    310373094,
-    310833159,
-    311015256,
-    313357609,
-    313683893,
+    414327152,
+    560329411,
+    75276,
+    157350248,
     313701861,
-    313706996,
-    313707317,
-    313710350,
-    313795700,
-    314027746,
-    314038181,
-    314091299,
-    314205627,
-    314233813,
-    316741830,
-    316797986,
-    317486755,
-    317794164,
-    320076137,
-    322657125,
-    322887778,
-    323506876,
-    323572412,
-    323605180,
+    203690071,
+    292418738,
+    414346257,
+    221623802,
+    359350571,
+    515571132,
+    72415,
+    279156579,
+    291665349,
+    148805544,
+    191038774,
+    240560417,
+    658675477,
+    85963,
+    170608367,
+    420242342,
+    256077281,
+    367420285,
+    425929170,
+    452816744,
+    359579447,
+    3696933,
     325060058,
-    325320188,
-    325398738,
-    325541490,
-    325671619,
-    333868843,
-    336806130,
-    337212108,
-    337282686,
-    337285434,
-    337585223,
-    338036037,
-    338298087,
-    338566051,
-    340943551,
-    341190970,
-    342995704,
-    343352124,
-    343912673,
-    344585053,
-    346977248,
-    347218098,
-    347262163,
-    347278576,
-    347438191,
-    347655959,
-    347684788,
+    514998531,
+    144752417,
+    437987072,
+    146147200,
+    1383,
+    218186795,
+    582372519,
+    640040548,
+    300374839,
+    307724489,
+    243523041,
+    486383494,
+    371448425,
+    417465377,
+    417465381,
+    504740359,
+    75001,
+    548544752,
+    437412335,
+    425972964,
+    253260911,
+    246923491,
+    249533729,
     347726430,
-    347727772,
-    347776035,
-    347776629,
-    349500753,
-    350880161,
-    350887073,
-    353384123,
-    355496998,
-    355906922,
-    355979793,
-    356545959,
-    358637867,
+    627432831,
+    85992,
+    191096249,
+    576174758,
+    74904,
+    705890982,
+    346977248,
+    280686710,
+    457544600,
+    142331176,
+    282736758,
+    594231990,
+    3562402,
+    200104642,
+    560671152,
     358905016,
-    359164318,
-    359247286,
-    359350571,
-    359579447,
-    365560330,
+    280128712,
+    624879850,
+    548563346,
+    338036037,
+    908643300,
+    448445746,
+    291557706,
+    376710172,
+    438547062,
     367399355,
-    367420285,
+    270781796,
+    320076137,
+    371593469,
+    303819694,
+    313710350,
+    202537381,
+    505656212,
     367510727,
-    368013212,
-    370234760,
-    370353345,
-    370710317,
-    371074566,
+    136652214,
+    236709921,
+    237703073,
+    515594682,
     371122285,
-    371194213,
-    371448425,
-    371448430,
-    371545055,
-    371593469,
-    371596922,
-    371758751,
-    371964792,
-    372151328,
-    376550136,
-    376710172,
-    376795771,
-    376826271,
-    376906556,
-    380514830,
-    380774774,
-    380775037,
-    381030322,
-    381136500,
-    381281631,
-    381282269,
-    381285504,
-    381330595,
-    381331422,
-    381335911,
-    381336484,
-    383907298,
-    383917408,
-    384595009,
-    384595013,
-    387799894,
-    387823201,
-    392581647,
-    392584937,
+    317486755,
+    414346439,
+    213088023,
+    654392808,
+    672891587,
     392742684,
-    392906485,
-    393003349,
+    492891370,
+    551679010,
+    213493071,
+    247119137,
+    183027151,
+    137292068,
+    247058369,
+    304382625,
+    380514830,
+    224655650,
+    74943,
     400644707,
-    400973830,
-    404428547,
-    404432113,
-    404432865,
-    404469244,
-    404478897,
-    404694860,
-    406887479,
-    408294949,
+    447881655,
+    313683893,
+    370353345,
+    213659891,
+    381285504,
+    304242723,
+    142250603,
+    306247792,
     408789955,
+    558034099,
+    247316903,
+    179489057,
+    250235623,
+    217565298,
+    759097578,
+    347727772,
+    225432950,
+    150813181,
+    526807354,
+    316741830,
     410022510,
-    410467324,
-    410586448,
-    410945965,
-    411845275,
-    414327152,
-    414327932,
+    371074566,
+    303576261,
+    453668677,
     414329781,
-    414346257,
-    414346439,
-    414639928,
-    414835998,
-    414894517,
-    414986533,
-    417465377,
-    417465381,
-    417492216,
-    418259232,
-    419310946,
+    273335275,
+    173028944,
+    450942191,
+    271478858,
+    307468786,
+    258124199,
+    215285828,
+    274108530,
+    237714273,
+    303073389,
+    408294949,
+    303266673,
+    353384123,
+    237354143,
+    136475749,
+    213273386,
+    3369562,
+    323506876,
+    291804100,
+    70270,
+    142314056,
+    381136500,
+    371596922,
+    381335911,
+    387823201,
+    241062755,
+    337585223,
+    441592676,
+    239743521,
+    355496998,
+    456642844,
+    179390001,
+    381336484,
+    303083839,
+    240522627,
+    310358241,
+    381281631,
+    307227811,
+    410467324,
+    404432113,
+    560692590,
+    481490218,
+    349500753,
+    284479340,
+    191568039,
+    325398738,
+    203986524,
+    347278576,
+    392906485,
+    70237,
+    247118177,
+    365560330,
+    3284791,
+    191443343,
+    188312483,
+    3283895,
+    560845442,
+    337285434,
+    237372743,
+    310373094,
+    276818662,
+    247128739,
+    155654904,
+    509516275,
+    157447478,
+    303724281,
+    75590,
+    493716979,
+    3670335,
+    468083581,
+    241065383,
+    223089542,
+    224785518,
+    438015591,
+    280678580,
+    69146,
+    878105336,
+    286798916,
+    183645319,
+    355906922,
+    173896963,
+    139120259,
+    258354465,
+    472267822,
+    3574260,
+    213542834,
+    157437941,
+    203120766,
+    582099184,
+    283275116,
+    605711268,
+    274116736,
+    170007032,
+    258926689,
+    169700259,
+    241015715,
+    185997252,
+    381331422,
+    258856961,
+    170409695,
+    381282269,
+    136884919,
+    471567278,
     420103495,
-    420242342,
-    420380455,
-    420658662,
-    420717432,
-    423183880,
-    424539259,
-    425929170,
-    425972964,
-    426050649,
+    481435874,
+    236838947,
+    505592418,
+    481210627,
+    69177,
+    414835998,
+    410586448,
+    313707317,
+    350887073,
+    166078431,
+    202602917,
+    400973830,
+    271490090,
+    170513710,
+    213584431,
+    504577572,
+    68600,
+    1601,
+    344585053,
     426126450,
-    426142833,
-    426607922,
+    236107233,
+    150018784,
+    237209953,
+    314027746,
+    420658662,
+    406887479,
+    213532268,
+    176090625,
+    270709417,
+    761686526,
     437289840,
+    135346322,
+    384595009,
+    84839,
+    414894517,
+    84742,
+    384595013,
+    224587256,
+    254844367,
+    338298087,
+    217576549,
+    359164318,
+    224547358,
+    447887844,
+    280689066,
+    945213471,
+    337212108,
+    376795771,
+    256345377,
+    185922012,
+    191194426,
+    417492216,
+    456738709,
     437347469,
-    437412335,
-    437423943,
-    437455540,
+    280132869,
+    347218098,
+    347438191,
+    224589550,
+    251402351,
+    292166446,
+    246981667,
+    325541490,
+    582558889,
+    314233813,
+    322657125,
     437462252,
-    437597991,
-    437617485,
-    437986305,
-    437986507,
-    437986828,
-    437987072,
-    438015591,
-    438034813,
-    438038966,
-    438179623,
-    438347971,
-    438483573,
-    438547062,
-    438895551,
-    441592676,
-    442032555,
-    443548979,
-    447881379,
-    447881655,
-    447881895,
-    447887844,
-    448416189,
-    448445746,
-    448449012,
-    450942191,
-    452816744,
-    453668677,
+    527348842,
+    383917408,
+    493582844,
+    181779081,
+    383907298,
+    343912673,
+    560356209,
+    273924313,
+    347262163,
+    325320188,
+    322887778,
+    169409980,
+    544689535,
+    323572412,
     454434495,
-    456610076,
-    456642844,
-    456738709,
-    457544600,
-    459451897,
+    3539124,
+    393003349,
+    426050649,
+    136902418,
+    149655723,
     459680944,
-    468058810,
-    468083581,
-    470964084,
+    258744193,
+    426142833,
+    209040857,
+    358637867,
+    380775037,
+    404469244,
+    438179623,
     471470955,
-    471567278,
-    472267822,
-    481177859,
-    481210627,
-    481435874,
+    569212097,
+    316797986,
+    338566051,
+    176129212,
+    223138630,
+    258605063,
+    459451897,
+    548595116,
+    277476156,
+    350880161,
+    292451039,
+    246928419,
+    216684637,
+    213259873,
+    225429618,
+    313357609,
+    526592419,
+    292138018,
+    152536216,
+    311015256,
+    290055764,
+    89130,
+    591325418,
+    437986828,
+    418259232,
+    250269543,
+    279349675,
+    146765926,
+    521362273,
+    152528754,
+    71572,
+    313706996,
+    456610076,
+    280108533,
     481455115,
-    481485378,
-    481490218,
-    485105638,
-    486005878,
-    486383494,
-    487988916,
-    488103783,
-    490661867,
-    491574090,
-    491578272,
-    492891370,
-    493041952,
-    493441205,
-    493582844,
-    493716979,
-    504577572,
-    504740359,
+    359247286,
     505091638,
-    505592418,
-    505656212,
-    509516275,
-    514998531,
-    515571132,
-    515594682,
+    392584937,
+    219743185,
+    314038181,
     518712698,
-    521362273,
-    526592419,
-    526807354,
-    527348842,
-    538294791,
-    544689535,
-    545535009,
-    548544752,
-    548563346,
-    548595116,
-    551679010,
-    558034099,
-    560329411,
-    560356209,
-    560671018,
-    560671152,
-    560692590,
-    560845442,
-    569212097,
-    569474241,
-    572252718,
-    575326764,
-    576174758,
-    576190819,
-    582099184,
-    582099438,
-    582372519,
-    582558889,
-    586552164,
-    591325418,
-    594231990,
-    594243961,
-    605711268,
-    615672071,
-    616086845,
-    621792370,
-    624879850,
-    627432831,
-    640040548,
-    654392808,
-    658675477,
-    659420283,
-    672891587,
+    157604838,
+    371545055,
     694768102,
-    705890982,
+    280413430,
     725543146,
-    759097578,
-    761686526,
-    795383908,
-    878105336,
-    908643300,
-    945213471,
+    381030322,
+    545535009,
+    152647366,
+    145106895,
+    215880731,
+    1153,
+    179840468,
+    572252718,
+    442032555,
+    240656513,
+    221986406,
+    };
+    private final static int[] ATTRIBUTE_DISPLACEMENTS = {
+    0,
+    1,
+    0,
+    0,
+    0,
+    0,
+    0,
+    0,
+    0,
+    2,
+    0,
+    0,
+    0,
+    0,
+    0,
+    0,
+    0,
+    0,
+    0,
+    0,
+    1,
+    2,
+    0,
+    2,
+    0,
+    1,
+    0,
+    0,
+    0,
+    0,
+    0,
+    3,
+    1,
+    0,
+    0,
+    0,
+    0,
+    0,
+    0,
+    0,
+    4,
+    1,
+    0,
+    0,
+    0,
+    6,
+    0,
+    3,
+    0,
+    0,
+    0,
+    0,
+    6,
+    8,
+    0,
+    0,
+    2,
+    0,
+    0,
+    1,
+    0,
+    0,
+    0,
+    3,
+    3,
+    0,
+    0,
+    0,
+    1,
+    2,
+    0,
+    1,
+    0,
+    0,
+    0,
+    15,
+    5,
+    1,
+    0,
+    0,
+    3,
+    1,
+    0,
+    0,
+    0,
+    0,
+    1,
+    0,
+    9,
+    2,
+    0,
+    0,
+    0,
+    1,
+    2,
+    1,
+    0,
+    0,
+    0,
+    0,
+    0,
+    4,
+    0,
+    0,
+    2,
+    2,
+    0,
+    0,
+    5,
+    3,
+    2,
+    6,
+    7,
+    4,
+    6,
+    0,
+    0,
+    11,
+    0,
+    1,
+    1,
+    2,
+    2,
+    0,
+    4,
+    1,
+    0,
+    0,
+    0,
+    0,
+    0,
+    0,
+    1,
+    9,
+    0,
+    11,
+    1,
+    1,
+    5,
+    4,
+    2,
+    0,
+    0,
+    0,
+    9,
+    3,
+    0,
+    9,
+    2,
+    1,
+    0,
+    1,
+    0,
+    2,
+    12,
+    7,
+    4,
+    0,
+    0,
+    1,
+    0,
+    0,
+    0,
+    5,
+    3,
+    0,
+    0,
+    0,
+    0,
+    0,
+    4,
+    3,
+    1,
+    1,
+    5,
+    0,
+    5,
+    0,
+    19,
+    0,
+    0,
+    0,
+    4,
+    0,
+    1,
+    7,
+    0,
+    0,
+    7,
+    9,
+    12,
+    8,
+    0,
+    0,
+    1,
+    0,
+    0,
+    36,
+    11,
+    0,
+    9,
+    0,
+    1,
+    0,
+    1,
+    0,
+    0,
+    1,
+    0,
+    16,
+    10,
+    0,
+    0,
+    0,
+    0,
+    17,
+    10,
+    0,
+    0,
+    0,
+    0,
+    0,
+    4,
+    1,
+    1,
+    2,
+    3,
+    5,
+    4,
+    0,
+    0,
+    10,
+    0,
+    11,
+    0,
+    1,
+    9,
+    0,
+    3,
+    0,
+    0,
+    0,
+    0,
+    18,
+    2,
+    0,
+    4,
+    4,
+    2,
+    41,
+    0,
+    5,
+    0,
+    0,
+    0,
+    0,
+    1,
+    0,
+    0,
+    1,
+    4,
+    0,
+    0,
+    1,
+    0,
+    1,
+    0,
+    10,
+    0,
+    0,
+    0,
+    0,
+    0,
+    4,
+    3,
+    5,
+    0,
+    3,
+    0,
+    0,
+    0,
+    1,
+    0,
+    1,
+    0,
+    1,
+    11,
+    2,
+    0,
+    16,
+    0,
+    11,
+    0,
+    0,
+    0,
+    0,
+    9,
+    0,
+    2,
+    26,
+    28,
+    17,
+    1,
+    29,
+    0,
+    2,
+    0,
+    9,
+    8,
+    48,
+    6,
+    0,
+    2,
+    0,
+    32,
+    4,
+    6,
+    0,
+    0,
+    0,
+    2,
+    0,
+    0,
+    0,
+    62,
+    1,
+    0,
+    0,
+    3,
+    0,
+    0,
+    3,
+    8,
+    2,
+    1,
+    18,
+    2,
+    0,
+    13,
+    2,
+    83,
+    0,
+    40,
+    88,
+    2,
+    1,
+    132,
+    0,
+    16,
+    132,
+    49,
+    64,
+    0,
+    0,
+    1,
+    0,
+    13,
+    18,
+    2,
+    12,
+    0,
+    0,
+    24,
+    0,
+    1,
+    1,
+    9,
+    0,
+    0,
+    0,
+    2,
+    18,
+    4,
+    0,
+    70,
+    21,
+    7,
+    192,
+    99,
+    6,
+    0,
+    0,
+    4,
+    1,
+    0,
+    2,
+    40,
+    35,
+    0,
+    0,
+    15,
+    12,
+    6,
+    5,
+    0,
+    0,
+    154,
+    0,
+    27,
+    40,
+    0,
+    3,
+    0,
+    0,
+    0,
+    10,
+    2,
+    65,
+    4,
+    13,
+    0,
+    0,
+    2,
+    0,
+    173,
+    23,
+    0,
+    1,
+    32,
+    1,
+    0,
+    0,
+    0,
+    73,
+    0,
+    3,
+    1,
+    0,
+    75,
+    1,
+    11,
+    0,
+    1,
+    0,
+    0,
+    26,
+    0,
+    136,
+    0,
+    0,
+    132,
+    12,
+    5,
+    2,
+    0,
+    0,
+    0,
+    0,
+    27,
+    0,
+    10,
+    0,
+    15,
+    2,
+    0,
+    194,
+    0,
+    161,
+    66,
+    129,
+    0,
+    0,
+    0,
+    0,
+    0,
+    1,
+    0,
+    35,
+    21,
+    0,
+    8,
+    2,
+    109,
+    68,
+    0,
+    0,
+    4,
+    65,
+    0,
+    0,
+    13,
+    0,
+    26,
+    1,
+    6,
+    65,
+    206,
+    73,
+    15,
+    1,
+    0,
+    0,
+    0,
+    7,
+    0,
+    41,
+    0,
+    64,
+    0,
+    133,
+    0,
+    0,
+    1,
+    0,
+    10,
+    1,
+    0,
+    17,
+    110,
+    385,
+    307,
+    46,
     };
 }
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+package nu.validator.htmlparser.impl;
+
+import nu.validator.htmlparser.annotation.NoLength;
+
+/**
+ * A bounded cache of attribute value strings keyed by the attribute's local
+ * name and the value's characters. With a cache set, the tokenizer hands out
+ * the same <code>String</code> instance for repeated values such as
+ * <code>type="text"</code> or <code>class="btn btn-primary"</code> instead of
+ * allocating a new one for each occurrence.
+ * 
+ * <p>The cache is four-way set-associative. Each set evicts with the clock
+ * algorithm: a hit marks an entry as referenced, and the clock hand of the
+ * set skips (and clears) referenced entries when choosing one to replace.
+ * Values longer than <code>MAX_CACHED_LENGTH</code> are not cached.
+ * 
+ * <p>An instance created with <code>concurrent</code> set to
+ * <code>false</code> is meant for one parser at a time. A concurrent instance
+ * can be shared between parsers on different threads; its sets are guarded
+ * by striped locks.
+ * 
+ * @version $Id$
+ */
+public final class AttributeValueCache {
+
+    /**
+     * The default number of entries.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * Values longer than this are not cached.
+     */
+    public static final int MAX_CACHED_LENGTH = 128;
+
+    private static final int WAYS = 4;
+
+    private static final int STRIPES = 16;
+
+    private final String[] names;
+
+    private final String[] values;
+
+    private final boolean[] referenced;
+
+    private final int[] hands;
+
+    private final int setMask;
+
+    private final Object[] locks;
+
+    private final long[] hits;
+
+    private final long[] misses;
+
+    /**
+     * Instantiates a cache for a single parser with
+     * <code>DEFAULT_CAPACITY</code> entries.
+     */
+    public AttributeValueCache() {
+        this(DEFAULT_CAPACITY, false);
+    }
+
+    /**
+     * Instantiates a cache.
+     * 
+     * @param capacity
+     *            the number of entries, rounded up to a power of two (at
+     *            least 4)
+     * @param concurrent
+     *            <code>true</code> if the cache is to be shared between
+     *            threads
+     */
+    public AttributeValueCache(int capacity, boolean concurrent) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Bad capacity: " + capacity);
+        }
+        int size = capacity <= WAYS ? WAYS
+                : Integer.highestOneBit(capacity - 1) << 1;
+        int sets = size / WAYS;
+        names = new String[size];
+        values = new String[size];
+        referenced = new boolean[size];
+        hands = new int[sets];
+        setMask = sets - 1;
+        int stripes = 1;
+        if (concurrent) {
+            stripes = STRIPES;
+            locks = new Object[STRIPES];
+            for (int i = 0; i < STRIPES; i++) {
+                locks[i] = new Object();
+            }
+        } else {
+            locks = null;
+        }
+        hits = new long[stripes];
+        misses = new long[stripes];
+    }
+
+    /**
+     * Returns the cached value string for an attribute, creating and
+     * caching it on a miss.
+     * 
+     * @param attributeName
+     *            the attribute
+     * @param buf
+     *            the buffer holding the value
+     * @param offset
+     *            the start of the value in the buffer
+     * @param length
+     *            the length of the value
+     * @return a string with the characters of the value
+     */
+    public String get(AttributeName attributeName, @NoLength char[] buf,
+            int offset, int length) {
+        if (length > MAX_CACHED_LENGTH) {
+            return new String(buf, offset, length);
+        }
+        String name = attributeName.getLocal(AttributeName.HTML);
+        int hash = name.hashCode();
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + buf[i];
+        }
+        int set = (hash ^ (hash >>> 16)) & setMask;
+        if (locks == null) {
+            return lookup(set, 0, name, buf, offset, length);
+        }
+        int stripe = set & (STRIPES - 1);
+        synchronized (locks[stripe]) {
+            return lookup(set, stripe, name, buf, offset, length);
+        }
+    }
+
+    private String lookup(int set, int stripe, String name,
+            @NoLength char[] buf, int offset, int length) {
+        int base = set * WAYS;
+        for (int i = base; i < base + WAYS; i++) {
+            String value = values[i];
+            // Local names are interned.
+            if (value != null && names[i] == name
+                    && matches(value, buf, offset, length)) {
+                referenced[i] = true;
+                hits[stripe]++;
+                return value;
+            }
+        }
+        misses[stripe]++;
+        int hand = hands[set];
+        while (referenced[base + hand]) {
+            referenced[base + hand] = false;
+            hand = (hand + 1) & (WAYS - 1);
+        }
+        String value = new String(buf, offset, length);
+        names[base + hand] = name;
+        values[base + hand] = value;
+        hands[set] = (hand + 1) & (WAYS - 1);
+        return value;
+    }
+
+    private static boolean matches(String value, @NoLength char[] buf,
+            int offset, int length) {
+        if (value.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) != buf[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of entries.
+     * 
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return values.length;
+    }
+
+    /**
+     * Returns the number of lookups that found a cached value. For a
+     * concurrent cache in use, the count is approximate.
+     * 
+     * @return the hit count
+     */
+    public long getHitCount() {
+        long sum = 0;
+        for (int i = 0; i < hits.length; i++) {
+            sum += hits[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the number of lookups of cacheable values that did not find a
+     * cached value. For a concurrent cache in use, the count is approximate.
+     * 
+     * @return the miss count
+     */
+    public long getMissCount() {
+        long sum = 0;
+        for (int i = 0; i < misses.length; i++) {
+            sum += misses[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the share of lookups that hit.
+     * 
+     * @return the hit rate between 0 and 1 (0 if there have been no lookups)
+     */
+    public double getHitRate() {
+        long hitCount = getHitCount();
+        long total = hitCount + getMissCount();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    /**
+     * Resets the hit and miss counts.
+     */
+    public void resetStatistics() {
+        for (int i = 0; i < hits.length; i++) {
+            hits[i] = 0;
+            misses[i] = 0;
+        }
+    }
+
+    /**
+     * Forgets all cached values. Must not be called while a parser is using
+     * the cache.
+     */
+    public void clear() {
+        for (int i = 0; i < values.length; i++) {
+            names[i] = null;
+            values[i] = null;
+            referenced[i] = false;
+        }
+        for (int i = 0; i < hands.length; i++) {
+            hands[i] = 0;
+        }
+    }
+}
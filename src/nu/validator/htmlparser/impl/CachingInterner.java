@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+package nu.validator.htmlparser.impl;
+
+import nu.validator.htmlparser.annotation.NoLength;
+import nu.validator.htmlparser.common.Interner;
+
+/**
+ * An <code>Interner</code> that remembers recently seen local names in a
+ * bounded cache keyed on their characters, so that a repeated custom element
+ * or attribute name is found without creating a <code>String</code> or
+ * calling <code>String.intern()</code>.
+ * 
+ * <p>The cache is a two-way set-associative table of canonical (interned)
+ * strings. Lookups and updates take no locks: a slot holds either
+ * <code>null</code> or an immutable canonical string, so a racing reader
+ * sees a valid entry or misses, and a miss only costs the
+ * <code>String.intern()</code> that would have happened anyway. This makes a
+ * single instance safe to share between parsers on different threads.
+ * 
+ * @version $Id$
+ */
+public final class CachingInterner implements Interner {
+
+    /**
+     * The number of entries in the cache of the shared instance and of
+     * instances created with the no-argument constructor.
+     */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /**
+     * Names longer than this are interned without being cached.
+     */
+    private static final int MAX_CACHED_LENGTH = 64;
+
+    private static final CachingInterner SHARED = new CachingInterner();
+
+    private final String[] cache;
+
+    private final int mask;
+
+    /**
+     * Returns the instance that parsers use when no interner has been set.
+     * 
+     * @return the shared instance
+     */
+    public static CachingInterner getSharedInstance() {
+        return SHARED;
+    }
+
+    /**
+     * Instantiates with <code>DEFAULT_CAPACITY</code> entries.
+     */
+    public CachingInterner() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Instantiates with a given number of entries.
+     * 
+     * @param capacity
+     *            the number of entries, rounded up to a power of two (at
+     *            least 2)
+     */
+    public CachingInterner(int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Bad capacity: " + capacity);
+        }
+        int size = capacity < 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        cache = new String[size];
+        mask = size - 2;
+    }
+
+    /**
+     * @see nu.validator.htmlparser.common.Interner#intern(char[], int, int)
+     */
+    public String intern(@NoLength char[] buf, int offset, int length) {
+        if (length > MAX_CACHED_LENGTH) {
+            return new String(buf, offset, length).intern();
+        }
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + buf[i];
+        }
+        int set = (hash ^ (hash >>> 16)) & mask;
+        String first = cache[set];
+        if (first != null && matches(first, buf, offset, length)) {
+            return first;
+        }
+        String second = cache[set + 1];
+        if (second != null && matches(second, buf, offset, length)) {
+            return second;
+        }
+        String name = new String(buf, offset, length).intern();
+        cache[set + 1] = first;
+        cache[set] = name;
+        return name;
+    }
+
+    /**
+     * Returns the number of entries.
+     * 
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return cache.length;
+    }
+
+    /**
+     * Forgets all cached names.
+     */
+    public void clear() {
+        for (int i = 0; i < cache.length; i++) {
+            cache[i] = null;
+        }
+    }
+
+    private static boolean matches(String name, @NoLength char[] buf,
+            int offset, int length) {
+        if (name.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (name.charAt(i) != buf[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
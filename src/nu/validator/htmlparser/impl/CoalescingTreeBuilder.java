@@ -34,12 +34,42 @@ import org.xml.sax.SAXException;
  */
 public abstract class CoalescingTreeBuilder<T> extends TreeBuilder<T> {
 
+    private boolean directCharacters = false;
+
     protected final void accumulateCharacters(@NoLength char[] buf, int start,
             int length) throws SAXException {
+        if (directCharacters && accumulateCharView(buf, start, length)) {
+            return;
+        }
+        materializeCharView();
         System.arraycopy(buf, start, charBuffer, charBufferLen, length);
         charBufferLen += length;
     }
 
+    /**
+     * Sets whether a run of text that ends up as a single text node is
+     * turned into a string straight from the tokenizer's input buffer instead
+     * of being copied into the coalescing buffer first. Text that is split
+     * across input buffers, interleaved with character references or
+     * subject to foster parenting is still coalesced by copying.
+     * 
+     * @param directCharacters
+     *            <code>true</code> to deliver text from the input buffer
+     *            when possible
+     */
+    public void setDirectCharacters(boolean directCharacters) {
+        this.directCharacters = directCharacters;
+    }
+
+    /**
+     * Returns whether text is delivered from the input buffer when possible.
+     * 
+     * @return <code>true</code> if text is delivered from the input buffer
+     */
+    public boolean isDirectCharacters() {
+        return directCharacters;
+    }
+
     /**
      * @see nu.validator.htmlparser.impl.TreeBuilder#appendCharacters(java.lang.Object, char[], int, int)
      */
@@ -22,8 +22,6 @@
 
 package nu.validator.htmlparser.impl;
 
-import java.util.Arrays;
-
 import nu.validator.htmlparser.annotation.Inline;
 import nu.validator.htmlparser.annotation.Local;
 import nu.validator.htmlparser.annotation.NoLength;
@@ -109,8 +107,8 @@ public final class ElementName
 
     static ElementName elementNameByBuffer(@NoLength char[] buf, int offset, int length, Interner interner) {
         int hash = ElementName.bufToHash(buf, length);
-        int index = Arrays.binarySearch(ElementName.ELEMENT_HASHES, hash);
-        if (index < 0) {
+        int index = ElementName.slot(hash);
+        if (ElementName.ELEMENT_HASHES[index] != hash) {
             return new ElementName(Portability.newLocalNameFromBuffer(buf, offset, length, interner));
         } else {
             ElementName elementName = ElementName.ELEMENT_NAMES[index];
@@ -144,6 +142,26 @@ public final class ElementName
         return hash;
     }
 
+    /**
+     * Maps the hash of a name to its slot in the minimal perfect hash table
+     * generated by <code>GeneratePerfectHashes</code>. A well-known name
+     * always maps to its own slot; any other name maps to some slot whose
+     * hash differs from its own.
+     * 
+     * @param hash
+     *            the value returned by <code>bufToHash</code>
+     * @return the slot in <code>ELEMENT_NAMES</code> and
+     *         <code>ELEMENT_HASHES</code>
+     */
+    private static int slot(int hash) {
+        int bucket = (hash ^ (hash >> 10) ^ (hash >> 20))
+                & (ElementName.ELEMENT_DISPLACEMENTS.length - 1);
+        int mixed = hash ^ ElementName.ELEMENT_DISPLACEMENTS[bucket];
+        mixed ^= mixed >> 16;
+        mixed ^= mixed >> 7;
+        return (mixed & 0x7FFFFFFF) % ElementName.ELEMENT_HASHES.length;
+    }
+
     private ElementName(@Local String name, @Local String camelCaseName,
             int flags) {
         this.name = name;
@@ -169,6 +187,31 @@ public final class ElementName
     @Virtual public ElementName cloneElementName(Interner interner) {
         return this;
     }
+
+    // [NOCPP[
+
+    /**
+     * Returns the number of well-known element names.
+     * 
+     * @return the number of well-known element names
+     */
+    public static int getWellKnownCount() {
+        return ELEMENT_NAMES.length;
+    }
+
+    /**
+     * Returns a well-known element name. The order is that of the generated 
+     * lookup table, so it is stable only within one version of the parser.
+     * 
+     * @param index
+     *            the index between 0 and <code>getWellKnownCount() - 1</code>
+     * @return the element name
+     */
+    public static ElementName getWellKnown(int index) {
+        return ELEMENT_NAMES[index];
+    }
+
+    // ]NOCPP]
     
     // START CODE ONLY USED FOR GENERATING CODE uncomment and run to regenerate
 
@@ -396,18 +439,8 @@ public final class ElementName
 //                    + el.constName() + " = new ElementName" + el.toString()
 //                    + ";");
 //        }
-//        System.out.println("private final static @NoLength ElementName[] ELEMENT_NAMES = {");
-//        for (int i = 0; i < ELEMENT_NAMES.length; i++) {
-//            ElementName el = ELEMENT_NAMES[i];
-//            System.out.println(el.constName() + ",");
-//        }
-//        System.out.println("};");
-//        System.out.println("private final static int[] ELEMENT_HASHES = {");
-//        for (int i = 0; i < ELEMENT_NAMES.length; i++) {
-//            ElementName el = ELEMENT_NAMES[i];
-//            System.out.println(Integer.toString(el.hash()) + ",");
-//        }
-//        System.out.println("};");
+//        // The ELEMENT_NAMES, ELEMENT_HASHES and ELEMENT_DISPLACEMENTS tables are
+//        // generated by nu.validator.htmlparser.generator.GeneratePerfectHashes.
 //    }
 
     // START GENERATED CODE
@@ -809,801 +842,1059 @@ public final class ElementName
     public static final ElementName DOMAINOFAPPLICATION = new ElementName("domainofapplication", "domainofapplication", TreeBuilder.OTHER);
     public static final ElementName FECOMPONENTTRANSFER = new ElementName("fecomponenttransfer", "feComponentTransfer", TreeBuilder.OTHER);
     private final static @NoLength ElementName[] ELEMENT_NAMES = {
-    A,
-    B,
-    G,
-    I,
-    P,
+    MTR,
     Q,
-    S,
-    U,
-    BR,
-    CI,
-    CN,
-    DD,
-    DL,
-    DT,
-    EM,
-    EQ,
-    FN,
-    H1,
-    H2,
-    H3,
+    MERROR,
+    INT,
+    SIN,
+    SAMP,
+    RULE,
+    MALIGNGROUP,
+    DEGREE,
+    PATTERN,
+    TENDSTO,
     H4,
-    H5,
-    H6,
-    GT,
-    HR,
-    IN,
-    LI,
-    LN,
-    LT,
-    MI,
-    MN,
-    MO,
-    MS,
-    OL,
-    OR,
-    PI,
-    RB,
-    RP,
-    RT,
-    TD,
-    TH,
-    TR,
-    TT,
-    UL,
+    LOWLIMIT,
+    MTD,
+    FEOFFSET,
+    LIMIT,
+    FIELDSET,
+    PROGRESS,
+    TEXTPATH,
+    TFOOT,
+    NATURALNUMBERS,
     AND,
-    ARG,
-    ABS,
-    BIG,
-    BDO,
-    CSC,
-    COL,
-    COS,
-    COT,
-    DEL,
-    DFN,
-    DIR,
-    DIV,
-    EXP,
-    GCD,
-    GEQ,
-    IMG,
+    FRAMESET,
+    TH,
+    LIST,
+    MENUITEM,
+    ARCSEC,
+    MENU,
+    MPHANTOM,
     INS,
-    INT,
-    KBD,
-    LOG,
-    LCM,
-    LEQ,
-    MTD,
-    MIN,
-    MAP,
-    MTR,
-    MAX,
-    NEQ,
-    NOT,
-    NAV,
-    PRE,
-    RTC,
-    REM,
-    SUB,
-    SEC,
-    SVG,
+    FEFUNCG,
+    FEIMAGE,
     SUM,
-    SIN,
-    SEP,
-    SUP,
-    SET,
+    DOMAINOFAPPLICATION,
+    TD,
+    LEQ,
+    MASK,
+    PREFETCH,
+    ABBR,
+    DD,
+    FETURBULENCE,
+    FN,
+    DETAILS,
+    MUNDEROVER,
+    FONT_FACE_NAME,
+    UNION,
+    FIGCAPTION,
     TAN,
+    IDENT,
+    MAP,
+    MEAN,
+    LAMBDA,
+    EQUIVALENT,
+    ANIMATE,
+    MOVER,
+    INTEGERS,
+    TBREAK,
+    SEMANTICS,
+    POLYLINE,
+    MSUP,
     USE,
-    VAR,
-    WBR,
-    XMP,
-    XOR,
-    AREA,
-    ABBR,
-    BASE,
-    BVAR,
-    BODY,
+    G,
+    REM,
+    FEBLEND,
+    MSPACE,
+    LI,
+    S,
+    GEQ,
+    OBJECT,
+    H6,
+    CURL,
     CARD,
-    CODE,
+    PIECEWISE,
+    NOT,
+    MIN,
+    STRIKE,
+    SELECT,
+    FILTER,
+    TEXT,
+    PATH,
+    FOOTER,
+    MACTION,
     CITE,
-    CSCH,
-    COSH,
-    COTH,
-    CURL,
-    DESC,
-    DIFF,
-    DEFS,
-    FORM,
-    FONT,
-    GRAD,
-    HEAD,
-    HTML,
-    LINE,
+    COLOR_PROFILE,
+    COS,
+    NOFRAMES,
+    SUBSET,
+    TBODY,
     LINK,
-    LIST,
-    META,
-    MSUB,
-    MODE,
+    FONT_FACE_SRC,
+    INPUT,
+    KBD,
+    FEFUNCR,
+    CIRCLE,
+    MPATH,
+    IMAGE,
+    MEDIAN,
+    TIMES,
     MATH,
-    MARK,
-    MASK,
-    MEAN,
-    MAIN,
-    MSUP,
-    MENU,
-    MROW,
-    NONE,
-    NOBR,
-    NEST,
-    PATH,
-    PLUS,
-    RULE,
+    SEC,
+    HTML,
+    LCM,
+    FONT_FACE,
+    DIR,
+    EMPTYSET,
+    CONJUGATE,
+    CSCH,
+    EM,
+    TR,
+    FEDIFFUSELIGHTING,
     REAL,
-    RELN,
-    RECT,
-    ROOT,
-    RUBY,
-    SECH,
-    SINH,
-    SPAN,
-    SAMP,
-    STOP,
-    SDEV,
-    TIME,
-    TRUE,
-    TREF,
-    TANH,
-    TEXT,
-    VIEW,
-    ASIDE,
-    AUDIO,
-    APPLY,
-    EMBED,
-    FRAME,
-    FALSE,
-    FLOOR,
-    GLYPH,
-    HKERN,
-    IMAGE,
-    IDENT,
-    INPUT,
-    LABEL,
-    LIMIT,
-    MFRAC,
-    MPATH,
+    LINE,
     METER,
-    MOVER,
-    MINUS,
-    MROOT,
-    MSQRT,
-    MTEXT,
-    NOTIN,
-    PIECE,
-    PARAM,
-    POWER,
-    REALS,
-    STYLE,
-    SMALL,
-    THEAD,
-    TABLE,
-    TITLE,
+    LINEARGRADIENT,
+    RB,
+    BUTTON,
+    VECTOR,
+    ALTGLYPHITEM,
+    CN,
+    DESC,
+    FEGAUSSIANBLUR,
+    FESPECULARLIGHTING,
+    BVAR,
+    ALTGLYPHDEF,
+    NOEMBED,
+    OTHERWISE,
+    DEFS,
+    OL,
+    PRE,
+    LOGBASE,
+    I,
+    TRANSPOSE,
+    LISTENER,
+    U,
+    UL,
+    SYMBOL,
+    ACRONYM,
+    DIV,
+    PRIMES,
+    ANIMATECOLOR,
+    BLOCKQUOTE,
+    AREA,
+    NOBR,
+    FEDISTANTLIGHT,
+    BASE,
+    RELN,
+    HANDLER,
+    RADIALGRADIENT,
+    ARG,
+    MALIGNMARK,
+    COLGROUP,
+    NOTPRSUBSET,
+    TEXTAREA,
+    ARCTANH,
+    PRODUCT,
+    EXP,
+    EMBED,
+    NEST,
+    CONDITION,
+    ARCCOTH,
+    LN,
+    FECONVOLVEMATRIX,
+    WBR,
     TRACK,
-    TSPAN,
-    TIMES,
-    TFOOT,
-    TBODY,
-    UNION,
-    VKERN,
-    VIDEO,
-    ARCSEC,
-    ARCCSC,
-    ARCTAN,
-    ARCSIN,
+    SUB,
+    MGLYPH,
+    MSUB,
+    SUMMARY,
+    FEDROPSHADOW,
+    NEQ,
+    SELECTOR,
+    NOTSUBSET,
+    ROOT,
+    MARKER,
+    PICTURE,
+    CAPTION,
+    MTABLE,
+    PRSUBSET,
+    FECOMPONENTTRANSFER,
     ARCCOS,
+    XOR,
+    BR,
+    XMP,
+    UPLIMIT,
     APPLET,
-    ARCCOT,
-    APPROX,
-    BUTTON,
-    CIRCLE,
-    CENTER,
-    CURSOR,
-    CANVAS,
-    DIVIDE,
-    DEGREE,
+    STOP,
+    QUOTIENT,
+    SDEV,
+    DEFINITION_SRC,
+    FEFLOOD,
+    ANNOTATION,
+    POLYGON,
+    SVG,
+    BGSOUND,
     DOMAIN,
-    EXISTS,
-    FETILE,
-    FIGURE,
-    FORALL,
-    FILTER,
-    FOOTER,
-    HGROUP,
-    HEADER,
-    IFRAME,
-    KEYGEN,
-    LAMBDA,
+    SPAN,
+    NOSCRIPT,
+    STYLE,
+    FACTORIAL,
     LEGEND,
-    MSPACE,
-    MTABLE,
-    MSTYLE,
-    MGLYPH,
-    MEDIAN,
-    MUNDER,
-    MARKER,
-    MERROR,
-    MOMENT,
-    MATRIX,
-    OPTION,
-    OBJECT,
-    OUTPUT,
-    PRIMES,
+    IFRAME,
+    METADATA,
+    OUTERPRODUCT,
+    SECH,
+    FEMERGE,
+    CLIPPATH,
+    FEFUNCB,
+    RT,
+    MARK,
+    FIGURE,
+    FONT_FACE_URI,
+    LISTING,
+    META,
+    ANNOTATION_XML,
+    POWER,
+    NAV,
+    FEFUNCA,
     SOURCE,
-    STRIKE,
+    GCD,
+    MENCLOSE,
+    PARTIALDIFF,
+    IN,
+    DFN,
     STRONG,
-    SWITCH,
-    SYMBOL,
-    SELECT,
-    SUBSET,
-    SCRIPT,
-    TBREAK,
-    VECTOR,
-    ARTICLE,
-    ANIMATE,
-    ARCSECH,
+    MARQUEE,
+    FESPOTLIGHT,
+    GRAD,
+    COTH,
+    DIVIDE,
     ARCCSCH,
-    ARCTANH,
+    FEPOINTLIGHT,
+    TITLE,
+    DIVERGENCE,
+    FRAME,
+    ARCCSC,
+    FORALL,
+    ANIMATEMOTION,
+    PLUS,
+    CANVAS,
+    MATRIXROW,
+    GT,
+    ALTGLYPH,
+    FEMORPHOLOGY,
+    MS,
+    LT,
+    VARIANCE,
+    EULERGAMMA,
+    NOTANUMBER,
+    SUP,
+    EXISTS,
+    ARCTAN,
+    TRUE,
+    SECTION,
+    LAPLACIAN,
+    HEAD,
+    CODE,
+    ELLIPSE,
+    INFINITY,
+    MMULTISCRIPTS,
+    LOG,
+    FALSE,
+    NOTIN,
+    MAIN,
+    THEAD,
+    MSQRT,
+    SET,
+    OPTION,
+    COMPOSE,
+    FECOMPOSITE,
+    IMAGINARY,
+    A,
+    DEL,
+    MTEXT,
+    ARCCOT,
+    SCALARPRODUCT,
+    MAX,
+    COL,
+    FONT,
     ARCSINH,
+    MLABELEDTR,
+    MOMENT,
+    MROOT,
+    HKERN,
+    HEADER,
+    RUBY,
+    REALS,
+    MI,
+    TABLE,
+    SETDIFF,
+    ARCSIN,
+    CARTESIANPRODUCT,
+    PI,
+    GLYPH,
+    FEDISPLACEMENTMAP,
+    PIECE,
+    CURSOR,
+    HR,
+    DL,
+    FONT_FACE_FORMAT,
+    FOREIGNOBJECT,
+    ANIMATION,
+    FEMERGENODE,
+    TEMPLATE,
+    SMALL,
+    H1,
+    BASEFONT,
     ARCCOSH,
-    ARCCOTH,
-    ACRONYM,
     ADDRESS,
-    BGSOUND,
-    COMPOSE,
-    CEILING,
-    CSYMBOL,
-    CAPTION,
-    DISCARD,
-    DECLARE,
-    DETAILS,
-    ELLIPSE,
-    FEFUNCA,
-    FEFUNCB,
-    FEBLEND,
-    FEFLOOD,
-    FEIMAGE,
-    FEMERGE,
-    FEFUNCG,
-    FEFUNCR,
-    HANDLER,
-    INVERSE,
-    IMPLIES,
-    ISINDEX,
-    LOGBASE,
-    LISTING,
-    MFENCED,
+    B,
+    HGROUP,
+    APPROX,
+    H3,
+    TT,
+    MUNDER,
     MPADDED,
-    MARQUEE,
-    MACTION,
-    MSUBSUP,
-    NOEMBED,
-    POLYGON,
-    PATTERN,
-    PICTURE,
-    PRODUCT,
-    SETDIFF,
-    SECTION,
-    SUMMARY,
-    TENDSTO,
-    UPLIMIT,
-    ALTGLYPH,
-    BASEFONT,
-    CLIPPATH,
-    CODOMAIN,
-    COLGROUP,
-    EMPTYSET,
+    FECOLORMATRIX,
+    MPRESCRIPTS,
+    DT,
     FACTOROF,
-    FIELDSET,
-    FRAMESET,
-    FEOFFSET,
-    GLYPHREF,
-    INTERVAL,
-    INTEGERS,
-    INFINITY,
-    LISTENER,
-    LOWLIMIT,
-    METADATA,
-    MENCLOSE,
-    MENUITEM,
-    MPHANTOM,
-    NOFRAMES,
-    NOSCRIPT,
+    SCRIPT,
+    MATRIX,
+    COSH,
+    IMG,
+    DECLARE,
+    VKERN,
+    MOMENTABOUT,
+    IMPLIES,
+    DETERMINANT,
+    IMAGINARYI,
     OPTGROUP,
-    POLYLINE,
-    PREFETCH,
-    PROGRESS,
-    PRSUBSET,
-    QUOTIENT,
-    SELECTOR,
-    TEXTAREA,
-    TEMPLATE,
-    TEXTPATH,
-    VARIANCE,
-    ANIMATION,
-    CONJUGATE,
-    CONDITION,
+    CSYMBOL,
+    BIG,
+    INTERVAL,
     COMPLEXES,
-    FONT_FACE,
-    FACTORIAL,
+    VIDEO,
+    RP,
+    CENTER,
+    MFRAC,
+    CSC,
+    AUDIO,
     INTERSECT,
-    IMAGINARY,
-    LAPLACIAN,
-    MATRIXROW,
-    NOTSUBSET,
-    OTHERWISE,
-    PIECEWISE,
+    KEYGEN,
+    MSUBSUP,
+    ANIMATETRANSFORM,
+    H2,
+    MODE,
+    RTC,
+    TSPAN,
+    FORM,
+    MO,
+    MISSING_GLYPH,
     PLAINTEXT,
-    RATIONALS,
-    SEMANTICS,
-    TRANSPOSE,
-    ANNOTATION,
-    BLOCKQUOTE,
-    DIVERGENCE,
-    EULERGAMMA,
-    EQUIVALENT,
-    FIGCAPTION,
-    IMAGINARYI,
-    MALIGNMARK,
-    MUNDEROVER,
-    MLABELEDTR,
-    NOTANUMBER,
+    MSTYLE,
     SOLIDCOLOR,
-    ALTGLYPHDEF,
-    DETERMINANT,
-    FEMERGENODE,
-    FECOMPOSITE,
-    FESPOTLIGHT,
-    MALIGNGROUP,
-    MPRESCRIPTS,
-    MOMENTABOUT,
-    NOTPRSUBSET,
-    PARTIALDIFF,
-    ALTGLYPHITEM,
-    ANIMATECOLOR,
-    DATATEMPLATE,
+    CI,
+    OR,
+    FETILE,
+    DISCARD,
     EXPONENTIALE,
-    FETURBULENCE,
-    FEPOINTLIGHT,
-    FEDROPSHADOW,
-    FEMORPHOLOGY,
-    OUTERPRODUCT,
-    ANIMATEMOTION,
-    COLOR_PROFILE,
-    FONT_FACE_SRC,
-    FONT_FACE_URI,
-    FOREIGNOBJECT,
-    FECOLORMATRIX,
-    MISSING_GLYPH,
-    MMULTISCRIPTS,
-    SCALARPRODUCT,
+    SEP,
+    MINUS,
+    RATIONALS,
+    COT,
+    RECT,
+    FLOOR,
+    ARTICLE,
+    GLYPHREF,
+    SINH,
+    SWITCH,
+    ABS,
+    MFENCED,
+    DIFF,
+    TIME,
+    CEILING,
+    ASIDE,
+    H5,
+    P,
+    BDO,
+    TANH,
+    DATATEMPLATE,
+    ARCSECH,
+    CODOMAIN,
     VECTORPRODUCT,
-    ANNOTATION_XML,
-    DEFINITION_SRC,
-    FONT_FACE_NAME,
-    FEGAUSSIANBLUR,
-    FEDISTANTLIGHT,
-    LINEARGRADIENT,
-    NATURALNUMBERS,
-    RADIALGRADIENT,
-    ANIMATETRANSFORM,
-    CARTESIANPRODUCT,
-    FONT_FACE_FORMAT,
-    FECONVOLVEMATRIX,
-    FEDIFFUSELIGHTING,
-    FEDISPLACEMENTMAP,
-    FESPECULARLIGHTING,
-    DOMAINOFAPPLICATION,
-    FECOMPONENTTRANSFER,
+    MN,
+    ISINDEX,
+    MROW,
+    NONE,
+    OUTPUT,
+    VIEW,
+    VAR,
+    PARAM,
+    APPLY,
+    LABEL,
+    INVERSE,
+    BODY,
+    EQ,
+    TREF,
     };
     private final static int[] ELEMENT_HASHES = {
-    1057,
-    1090,
-    1255,
-    1321,
-    1552,
+    3590797,
     1585,
-    1651,
-    1717,
-    68162,
-    68899,
-    69059,
-    69764,
-    70020,
-    70276,
-    71077,
-    71205,
-    72134,
-    72232,
-    72264,
-    72296,
+    215563858,
+    3461577,
+    3782963,
+    154678323,
+    153268914,
+    383276530,
+    205690439,
+    252135604,
+    256365156,
     72328,
-    72360,
-    72392,
-    73351,
-    74312,
-    75209,
-    78124,
-    78284,
-    78476,
-    79149,
-    79309,
-    79341,
-    79469,
-    81295,
-    81487,
-    82224,
-    84050,
-    84498,
-    84626,
-    86164,
-    86292,
-    86612,
-    86676,
-    87445,
+    281683369,
+    3576461,
+    275388006,
+    181020073,
+    275388004,
+    285854898,
+    289689648,
+    189414886,
+    485083298,
     3183041,
-    3186241,
-    3198017,
-    3218722,
-    3226754,
-    3247715,
-    3256803,
-    3263971,
-    3264995,
-    3289252,
-    3291332,
-    3295524,
-    3299620,
-    3326725,
-    3379303,
-    3392679,
-    3448233,
+    275388005,
+    86292,
+    147475756,
+    282498697,
+    202479203,
+    148551853,
+    282508942,
     3460553,
-    3461577,
-    3510347,
-    3546604,
-    3552364,
-    3556524,
-    3576461,
-    3586349,
-    3588141,
-    3590797,
-    3596333,
-    3622062,
-    3625454,
-    3627054,
-    3675728,
-    3739282,
-    3749042,
-    3771059,
-    3771571,
-    3776211,
+    241405397,
+    241343533,
     3782323,
-    3782963,
-    3784883,
-    3785395,
-    3788979,
-    3815476,
-    3839605,
-    3885110,
-    3917911,
-    3948984,
-    3951096,
-    135304769,
-    135858241,
-    136498210,
-    136906434,
-    137138658,
-    137512995,
-    137531875,
-    137548067,
-    137629283,
-    137645539,
-    137646563,
-    137775779,
-    138529956,
-    138615076,
-    139040932,
-    140954086,
-    141179366,
-    141690439,
-    142738600,
-    143013512,
-    146979116,
-    147175724,
-    147475756,
-    147902637,
-    147936877,
-    148017645,
-    148131885,
-    148228141,
+    642202932,
+    86164,
+    3556524,
     148229165,
+    285478533,
+    135858241,
+    69764,
+    409112005,
+    72134,
+    239710497,
+    349771471,
+    476230702,
+    190266670,
+    342310196,
+    3815476,
+    177879204,
+    3588141,
     148309165,
-    148317229,
+    213946445,
+    341457068,
+    236113965,
+    181999311,
+    278513831,
+    222659762,
+    322538804,
+    285391148,
     148395629,
-    148551853,
-    148618829,
-    149076462,
-    149490158,
-    149572782,
-    151277616,
-    151639440,
-    153268914,
-    153486514,
-    153563314,
-    153750706,
-    153763314,
-    153914034,
-    154406067,
-    154417459,
-    154600979,
-    154678323,
-    154680979,
-    154866835,
-    155366708,
-    155375188,
-    155391572,
-    155465780,
-    155869364,
-    158045494,
-    168988979,
-    169321621,
-    169652752,
-    173151309,
-    174240818,
-    174247297,
-    174669292,
-    175391532,
-    176638123,
-    177380397,
-    177879204,
+    3839605,
+    1255,
+    3749042,
+    241318060,
+    215125040,
+    78124,
+    1651,
+    3392679,
+    217713834,
+    72392,
+    137775779,
+    137512995,
+    318950711,
+    3625454,
+    3586349,
+    221424946,
+    221908140,
+    208213644,
+    155869364,
+    151277616,
+    208213647,
+    248986932,
+    137548067,
+    439529766,
+    3263971,
+    283743649,
+    221910626,
+    189567458,
+    147175724,
+    442616365,
     177886734,
-    180753473,
-    181020073,
-    181503558,
+    3510347,
+    241765845,
+    204648562,
     181686320,
+    177380397,
+    215418148,
+    189371817,
+    148131885,
+    3771571,
+    143013512,
+    3552364,
+    308448294,
+    3295524,
+    274339449,
+    305319975,
+    137629283,
+    71077,
+    86612,
+    576960820,
+    153486514,
+    146979116,
     181999237,
-    181999311,
-    182048201,
-    182074866,
-    182078003,
-    182083764,
-    182920847,
-    184716457,
-    184976961,
-    185145071,
-    187281445,
-    187872052,
-    188100653,
-    188875944,
-    188919873,
-    188920457,
+    483014825,
+    84050,
+    203898516,
+    225001091,
+    404133513,
+    69059,
+    138529956,
+    476665218,
+    610515252,
+    136906434,
+    370349192,
+    249697357,
+    317902135,
+    139040932,
+    81295,
+    3675728,
+    247647266,
+    1321,
+    323145200,
+    281613765,
+    1717,
+    87445,
+    221658189,
+    236381647,
+    3299620,
+    218731945,
+    404307343,
+    337826293,
+    135304769,
+    149490158,
+    476717289,
+    136498210,
+    153563314,
+    243864964,
+    489306281,
+    3186241,
+    349554733,
+    272127474,
+    384439906,
+    289445441,
+    236206132,
+    252317348,
+    3326725,
+    173151309,
+    149572782,
+    305610036,
+    236212707,
+    78284,
+    543958612,
+    3917911,
     189107250,
-    189203987,
-    189371817,
-    189414886,
-    189567458,
-    190266670,
-    191318187,
-    191337609,
-    202479203,
-    202493027,
-    202835587,
-    202843747,
+    3771059,
+    215237420,
+    147936877,
+    255641645,
+    409713793,
+    3622062,
+    288964227,
+    317331042,
+    153763314,
+    215553394,
+    251841204,
+    238501172,
+    215134273,
+    285873762,
+    644420819,
     203013219,
+    3951096,
+    68162,
+    3948984,
+    257566121,
     203036048,
-    203045987,
-    203177552,
-    203898516,
-    204648562,
-    205067918,
-    205078130,
-    205096654,
-    205689142,
-    205690439,
+    154680979,
+    286931113,
+    154866835,
+    474073645,
+    241319404,
+    337067316,
+    252132601,
+    3776211,
+    237124271,
     205988909,
-    207213161,
-    207794484,
-    207800999,
-    208023602,
-    208213644,
-    208213647,
-    210261490,
-    210310273,
-    210940978,
-    213325049,
-    213946445,
+    154600979,
+    283787570,
+    187872052,
+    308675890,
     214055079,
-    215125040,
-    215134273,
-    215135028,
-    215237420,
-    215418148,
-    215553166,
-    215553394,
-    215563858,
-    215627949,
-    215754324,
-    217529652,
-    217713834,
-    217732628,
-    218731945,
+    210940978,
+    282120228,
+    419040932,
+    154406067,
+    241344069,
+    271863856,
+    241241557,
+    84626,
+    148228141,
+    207800999,
+    442813037,
+    247707956,
+    147902637,
+    471217869,
+    185145071,
+    3627054,
+    241208789,
     221417045,
-    221424946,
+    3379303,
+    282250732,
+    386079012,
+    75209,
+    3291332,
     221493746,
-    221515401,
-    221658189,
-    221908140,
-    221910626,
-    221921586,
-    222659762,
-    225001091,
-    236105833,
-    236113965,
-    236194995,
+    248682161,
+    376053993,
+    141690439,
+    137646563,
+    205689142,
     236195427,
-    236206132,
+    409608425,
+    188920457,
+    339905989,
+    174240818,
+    202493027,
+    208023602,
+    437730612,
+    151639440,
+    205096654,
+    316391000,
+    73351,
+    269763372,
+    409771500,
+    79469,
+    78476,
+    291671489,
+    340833697,
+    350819405,
+    3785395,
+    207213161,
+    202835587,
+    155375188,
+    255278388,
+    315032867,
+    142738600,
+    137531875,
+    240307721,
+    278712622,
+    450482697,
+    3546604,
+    174247297,
+    182920847,
+    148317229,
+    188875944,
+    182078003,
+    3788979,
+    217529652,
+    238210544,
+    375574835,
+    312264750,
+    1057,
+    3289252,
+    182083764,
+    203045987,
+    456789668,
+    3596333,
+    3256803,
+    141179366,
     236206387,
+    349786245,
+    215627949,
+    182074866,
+    176638123,
+    210310273,
+    153914034,
+    187281445,
+    79149,
+    188919873,
+    255007012,
+    202843747,
+    540675748,
+    82224,
+    175391532,
+    577242548,
+    184716457,
+    205078130,
+    74312,
+    70020,
+    543819186,
+    443157674,
+    303512884,
+    375558638,
+    289591340,
+    188100653,
+    72232,
+    271202790,
     236211683,
-    236212707,
-    236381647,
     236571826,
-    237124271,
-    238210544,
-    238270764,
-    238435405,
-    238501172,
-    239224867,
-    239257644,
-    239710497,
-    240307721,
-    241208789,
-    241241557,
-    241318060,
-    241319404,
-    241343533,
-    241344069,
-    241405397,
-    241765845,
-    243864964,
-    244502085,
-    244946220,
-    245109902,
-    247647266,
-    247707956,
-    248648814,
+    1090,
+    210261490,
+    203177552,
+    72296,
+    86676,
+    215553166,
     248648836,
-    248682161,
-    248986932,
-    249058914,
-    249697357,
-    252132601,
-    252135604,
-    251841204,
-    252317348,
-    255007012,
-    255278388,
-    255641645,
-    256365156,
-    257566121,
-    269763372,
-    271202790,
-    271863856,
-    272049197,
-    272127474,
-    274339449,
+    443295316,
+    383373833,
+    70276,
     274939471,
-    275388004,
-    275388005,
-    275388006,
-    275977800,
-    278267602,
-    278513831,
-    278712622,
-    281613765,
-    281683369,
-    282120228,
-    282250732,
-    282498697,
-    282508942,
-    283743649,
-    283787570,
+    221921586,
+    215754324,
+    137645539,
+    3448233,
+    239257644,
+    191318187,
+    383407586,
+    244946220,
+    373962798,
+    345302593,
     284710386,
-    285391148,
-    285478533,
-    285854898,
-    285873762,
-    286931113,
-    288964227,
-    289445441,
-    289591340,
-    289689648,
-    291671489,
-    303512884,
-    305319975,
-    305610036,
+    238435405,
+    3218722,
+    278267602,
     305764101,
-    308448294,
-    308675890,
+    191337609,
+    84498,
+    205067918,
+    181503558,
+    3247715,
+    169321621,
     312085683,
-    312264750,
-    315032867,
-    316391000,
-    317331042,
-    317902135,
-    318950711,
+    213325049,
+    249058914,
+    538364390,
+    72264,
+    148017645,
+    3739282,
+    189203987,
+    140954086,
+    79341,
+    450118444,
     319447220,
-    321499182,
-    322538804,
-    323145200,
-    337067316,
-    337826293,
-    339905989,
-    340833697,
-    341457068,
-    342310196,
-    345302593,
-    349554733,
-    349771471,
-    349786245,
-    350819405,
+    215135028,
     356072847,
-    370349192,
-    373962798,
-    375558638,
-    375574835,
-    376053993,
-    383276530,
-    383373833,
-    383407586,
-    384439906,
-    386079012,
-    404133513,
-    404307343,
-    407031852,
+    68899,
+    81487,
+    207794484,
+    239224867,
     408072233,
-    409112005,
-    409608425,
-    409713793,
-    409771500,
-    419040932,
-    437730612,
-    439529766,
-    442616365,
-    442813037,
-    443157674,
-    443295316,
-    450118444,
-    450482697,
-    456789668,
+    3784883,
+    182048201,
+    321499182,
+    3264995,
+    153750706,
+    174669292,
+    236105833,
+    275977800,
+    154417459,
+    221515401,
+    3198017,
+    248648814,
+    138615076,
+    155366708,
+    238270764,
+    168988979,
+    72360,
+    1552,
+    3226754,
+    155465780,
+    407031852,
+    236194995,
+    272049197,
     459935396,
-    471217869,
-    474073645,
-    476230702,
-    476665218,
-    476717289,
-    483014825,
-    485083298,
-    489306281,
-    538364390,
-    540675748,
-    543819186,
-    543958612,
-    576960820,
-    577242548,
-    610515252,
-    642202932,
-    644420819,
+    79309,
+    245109902,
+    148618829,
+    149076462,
+    217732628,
+    158045494,
+    3885110,
+    184976961,
+    169652752,
+    180753473,
+    244502085,
+    137138658,
+    71205,
+    155391572,
+    };
+    private final static int[] ELEMENT_DISPLACEMENTS = {
+    0,
+    5,
+    2,
+    1,
+    5,
+    0,
+    18,
+    4,
+    0,
+    0,
+    0,
+    0,
+    0,
+    4,
+    1,
+    0,
+    2,
+    3,
+    0,
+    5,
+    3,
+    0,
+    0,
+    0,
+    0,
+    5,
+    0,
+    0,
+    1,
+    2,
+    6,
+    32,
+    1,
+    0,
+    0,
+    6,
+    0,
+    1,
+    0,
+    4,
+    10,
+    0,
+    6,
+    4,
+    0,
+    4,
+    6,
+    0,
+    8,
+    36,
+    10,
+    6,
+    2,
+    9,
+    1,
+    0,
+    0,
+    19,
+    0,
+    0,
+    8,
+    2,
+    12,
+    0,
+    1,
+    3,
+    0,
+    4,
+    27,
+    3,
+    0,
+    0,
+    0,
+    4,
+    1,
+    0,
+    0,
+    3,
+    24,
+    0,
+    36,
+    57,
+    10,
+    0,
+    32,
+    2,
+    2,
+    0,
+    0,
+    0,
+    18,
+    3,
+    0,
+    0,
+    0,
+    58,
+    0,
+    0,
+    10,
+    0,
+    18,
+    1,
+    4,
+    10,
+    3,
+    16,
+    71,
+    7,
+    4,
+    0,
+    73,
+    0,
+    2,
+    17,
+    9,
+    68,
+    5,
+    7,
+    0,
+    2,
+    1,
+    0,
+    65,
+    0,
+    3,
+    14,
+    0,
+    0,
+    0,
+    0,
+    4,
+    16,
+    0,
+    33,
+    67,
+    0,
+    0,
+    7,
+    8,
+    0,
+    5,
+    5,
+    10,
+    8,
+    67,
+    8,
+    22,
+    0,
+    8,
+    0,
+    7,
+    4,
+    0,
+    5,
+    12,
+    5,
+    0,
+    18,
+    16,
+    149,
+    2,
+    19,
+    0,
+    12,
+    0,
+    68,
+    1,
+    7,
+    48,
+    72,
+    0,
+    0,
+    107,
+    53,
+    31,
+    0,
+    128,
+    143,
+    232,
+    197,
+    1,
+    2,
+    1,
+    132,
+    65,
+    152,
+    19,
+    0,
+    0,
+    77,
+    0,
+    0,
+    0,
+    0,
+    0,
+    4,
+    0,
+    3,
+    16,
+    13,
+    0,
+    1,
+    58,
+    0,
+    0,
+    18,
+    0,
+    3,
+    2,
+    8,
+    1,
+    2,
+    26,
+    0,
+    0,
+    0,
+    21,
+    0,
+    6,
+    144,
+    19,
+    10,
+    0,
+    42,
+    0,
+    18,
+    70,
+    170,
+    130,
+    1,
+    10,
+    1,
+    3,
+    19,
+    0,
+    3,
+    1,
+    0,
+    7,
+    210,
+    25,
+    133,
+    0,
+    0,
+    0,
+    17,
+    208,
+    6,
+    0,
+    1,
+    239,
+    0,
+    3,
+    0,
+    40,
+    0,
     };
 }
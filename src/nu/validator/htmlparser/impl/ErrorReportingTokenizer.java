@@ -296,6 +296,54 @@ public class ErrorReportingTokenizer extends Tokenizer {
         return c;
     }
 
+    /**
+     * Skips printable ASCII, tab and line feed while keeping the line and
+     * column bookkeeping of <code>checkChar()</code>. Any other character
+     * ends the run so that <code>checkChar()</code> can report it.
+     * 
+     * @see nu.validator.htmlparser.impl.Tokenizer#skipText(char[], int, int,
+     *      char, char)
+     */
+    @Override protected int skipText(@NoLength char[] buf, int pos,
+            int endPos, char stop, char otherStop) {
+        int l = line;
+        int cl = col;
+        boolean newLine = nextCharOnNewLine;
+        char c = prev;
+        while (++pos < endPos) {
+            char next = buf[pos];
+            if (next > '<') {
+                if (next >= '\u007F') {
+                    break;
+                }
+            } else if (next < ' ') {
+                if (next != '\n' && next != '\t') {
+                    break;
+                }
+            } else if (next == stop || next == otherStop) {
+                break;
+            }
+            linePrev = l;
+            colPrev = cl;
+            if (newLine) {
+                l++;
+                cl = 1;
+                newLine = false;
+            } else {
+                cl++;
+            }
+            if (next == '\n') {
+                newLine = true;
+            }
+            c = next;
+        }
+        line = l;
+        col = cl;
+        nextCharOnNewLine = newLine;
+        prev = c;
+        return pos - 1;
+    }
+
     /**
      * @throws SAXException
      * @see nu.validator.htmlparser.impl.Tokenizer#transition(int, int, boolean,
@@ -73,6 +73,11 @@ public final class HtmlAttributes implements Attributes {
 
     private String[] xmlnsValues;
 
+    /**
+     * Whether this object is in a tokenizer's pool of recycled attributes.
+     */
+    boolean recycled;
+
     // ]NOCPP]
 
     public HtmlAttributes(int mode) {
@@ -16,296 +16,5630 @@ import nu.validator.htmlparser.annotation.NoLength;
  */
 public final class NamedCharactersAccel {
 
-    static final @NoLength int[][] HILO_ACCEL = {
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            { 0, 0, 0, 0, 0, 0, 0, 12386493, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    0, 0, 0, 0, 0, 40174181, 0, 0, 0, 0, 60162966, 0, 0, 0,
-                    75367550, 0, 0, 0, 82183396, 0, 0, 0, 0, 0, 115148507, 0,
-                    0, 135989275, 139397199, 0, 0, 0, 0, },
-            { 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 28770743, 0,
-                    0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    82248935, 0, 0, 0, 0, 0, 115214046, 0, 0, 0, 139528272, 0,
-                    0, 0, 0, },
-            null,
-            { 0, 0, 0, 4980811, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    0, 38470219, 0, 0, 0, 0, 0, 0, 0, 0, 64553944, 0, 0, 0, 0,
-                    0, 0, 0, 92145022, 0, 0, 0, 0, 0, 0, 0, 0, 139593810, 0, 0,
-                    0, 0, },
-            { 65536, 0, 0, 0, 0, 0, 0, 0, 13172937, 0, 0, 0, 0, 0, 25297282, 0,
-                    0, 28901816, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    71500866, 0, 0, 0, 0, 82380008, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    0, 0, 0, 0, 0, },
-            null,
-            { 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    94897574, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, },
-            { 0, 0, 2555943, 0, 0, 0, 0, 0, 0, 0, 15532269, 0, 0, 0, 0, 0, 0,
-                    0, 31785444, 34406924, 0, 0, 0, 0, 0, 40895088, 0, 0, 0,
-                    60228503, 0, 0, 0, 0, 0, 0, 0, 82445546, 0, 0, 0, 0, 0,
-                    115279583, 0, 0, 136054812, 0, 0, 0, 0, 0, },
-            { 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    0, 0, 40239718, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, },
-            { 0, 0, 0, 5046349, 0, 0, 10944679, 0, 13238474, 0, 15597806,
-                    16056565, 0, 20578618, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    0, 0, 0, 0, 0, 0, },
-            null,
-            { 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    95225257, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, },
-            { 196610, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, },
-            { 0, 0, 0, 0, 8454273, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    0, 0, 0, 0, 0, 0, 0, 46072511, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, },
-            { 0, 0, 2687016, 0, 0, 0, 0, 0, 13304011, 0, 0, 0, 0, 0, 0, 0, 0,
-                    0, 31850982, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, },
-            null,
-            null,
-            { 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    34472462, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    0, 0, 0, 95290798, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, },
-            { 0, 0, 0, 5111886, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    34603535, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    0, 0, 0, 0, 105776718, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, },
-            { 0, 0, 0, 0, 8585346, 0, 11075752, 0, 0, 0, 0, 16187638, 0, 0, 0,
-                    0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, },
-            { 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 28508594, 0, 0,
-                    0, 0, 0, 0, 0, 40305255, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, },
-            { 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    95421871, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, },
-            null,
-            null,
-            null,
-            { 0, 0, 0, 5177423, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, },
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            { 327684, 1900571, 2949162, 5374032, 8716420, 0, 11206826,
-                    12517566, 13435084, 0, 15663343, 16515320, 19988785,
-                    20644155, 25428355, 27197855, 0, 29163962, 31916519,
-                    34734609, 36045347, 0, 0, 0, 40436328, 40960625, 41615994,
-                    46596800, 54264627, 60556184, 64750554, 68879387, 71763012,
-                    75826303, 77268122, 0, 81462490, 83952875, 92865919,
-                    96142769, 105973327, 110167691, 0, 116917984, 121833283,
-                    132253665, 136251421, 140707923, 0, 0, 144574620,
-                    145361066, },
-            { 393222, 0, 0, 0, 0, 0, 11272364, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    0, 0, 36176423, 38535756, 0, 0, 0, 0, 41681532, 46727880,
-                    0, 60687261, 0, 0, 71828552, 75891846, 0, 0, 0, 84411650,
-                    0, 96404924, 0, 0, 0, 117376761, 121898820, 132319203,
-                    136382496, 0, 0, 0, 0, 0, },
-            { 589831, 1966110, 3276846, 5505107, 8978566, 10420383, 11468973,
-                    12583104, 13631694, 15139046, 15794416, 16711933, 20054322,
-                    20840764, 25624965, 27263392, 0, 29360574, 32244200,
-                    34931219, 36373033, 38601293, 39584348, 0, 40567402,
-                    41091698, 42205821, 46858954, 54723389, 60818335, 65143773,
-                    68944924, 71959625, 75957383, 77530268, 80938194, 81593564,
-                    84739337, 92997002, 96863680, 106235474, 110233234, 0,
-                    117704448, 122816325, 132515812, 136579106, 140773476,
-                    142149753, 143001732, 144705695, 145492139, },
-            { 0, 0, 3342387, 0, 9044106, 0, 11534512, 0, 13697233, 0, 0, 0, 0,
-                    0, 25690504, 0, 0, 0, 0, 0, 36438572, 38732366, 0, 0, 0,
-                    41157236, 0, 46924492, 54788932, 61080481, 65209315, 0,
-                    72025163, 0, 0, 0, 0, 85132558, 93062540, 96929223,
-                    106563158, 0, 0, 118032133, 123012947, 132581351,
-                    136775717, 140839013, 0, 143067271, 0, 145557677, },
-            { 0, 2162719, 3473460, 5636181, 0, 0, 0, 0, 0, 0, 0, 18809088,
-                    20185395, 21299519, 0, 0, 0, 29622721, 0, 0, 0, 39256656,
-                    39649885, 0, 0, 41288309, 42336901, 47448781, 55182149,
-                    61342629, 65274852, 69010461, 72811596, 76219528, 77726880,
-                    0, 0, 86967572, 93128077, 97650120, 106628699, 110560915,
-                    0, 118490890, 123733846, 132646888, 0, 141232230,
-                    142411898, 0, 144836769, 145688750, },
-            { 655370, 2228258, 3538998, 5701719, 9109643, 10485920, 11600049,
-                    12648641, 13762770, 15204584, 15859954, 18874656, 20250933,
-                    21365062, 25756041, 27328929, 28574132, 29688261, 32309741,
-                    34996758, 36504109, 39322200, 39715422, 39912033, 40632940,
-                    41353847, 42467975, 47514325, 55247691, 61473705, 65405925,
-                    69272606, 72877144, 76285068, 77857955, 81003732, 81659102,
-                    87164208, 93193614, 97715667, 106759772, 110626456,
-                    114296528, 118687505, 123864929, 132712425, 136906792,
-                    141297772, 142477438, 143132808, 144902307, 145754288, },
-            { 786443, 0, 0, 0, 9240716, 0, 11665586, 0, 13893843, 0, 0, 0, 0,
-                    0, 25887114, 0, 0, 0, 0, 0, 36635182, 0, 0, 0, 0, 0,
-                    42599049, 0, 0, 0, 65733607, 0, 73008217, 0, 77989029, 0,
-                    81724639, 87295283, 0, 98305492, 107021918, 0, 0, 0, 0, 0,
-                    137037866, 0, 0, 0, 0, 0, },
-            { 0, 0, 3604535, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 27394466, 0,
-                    29753798, 32571886, 35258903, 0, 0, 0, 0, 0, 0, 0, 0,
-                    55509836, 61604779, 0, 0, 0, 0, 0, 0, 81790176, 87557429,
-                    93259151, 98502109, 107152994, 110888601, 0, 119015188,
-                    124323683, 133498858, 137234476, 0, 0, 143263881, 0,
-                    145819825, },
-            { 0, 0, 3866680, 6160472, 0, 10616993, 0, 12714178, 0, 0, 0, 0,
-                    20316470, 0, 0, 27460003, 0, 31261127, 32637426, 35521051,
-                    0, 0, 0, 39977570, 0, 0, 0, 48366294, 56492880, 62391213,
-                    0, 69338146, 73073755, 0, 78316711, 0, 0, 0, 93980048,
-                    98764256, 107218532, 111085213, 114362065, 119736089,
-                    125241194, 133957622, 0, 0, 0, 143329419, 144967844,
-                    145885362, },
-            { 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    0, 0, 0, 0, 0, 0, 0, 62456761, 0, 69403683, 73139292, 0,
-                    78382252, 0, 81855713, 87622969, 0, 98829796, 0, 0, 0, 0,
-                    0, 0, 0, 0, 0, 0, 0, 0, },
-            { 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    0, 0, 0, 0, 0, 48431843, 0, 0, 0, 0, 0, 76416141, 0, 0, 0,
-                    0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, },
-            { 851981, 0, 4063292, 0, 9306254, 0, 0, 0, 0, 0, 0, 19005729, 0, 0,
-                    0, 27525540, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 42795659,
-                    49152740, 56623967, 62587834, 66061292, 69600292, 73401437,
-                    0, 0, 0, 0, 87950650, 94111131, 99878373, 107546213,
-                    112002720, 0, 119932708, 125306744, 0, 137496623,
-                    141363309, 0, 143460492, 0, 0, },
-            { 917518, 0, 0, 0, 9502863, 0, 0, 0, 14155989, 0, 0, 19071267, 0,
-                    0, 26083724, 0, 0, 0, 32702963, 0, 36700720, 0, 0, 0, 0, 0,
-                    43057806, 0, 0, 0, 66520049, 0, 0, 0, 78841005, 81069269,
-                    0, 88147263, 0, 99943925, 107873898, 112068270, 0,
-                    120063783, 125831033, 0, 137693235, 0, 0, 143526030, 0, 0, },
-            { 983055, 0, 0, 0, 0, 0, 0, 0, 14483673, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    0, 0, 37093937, 0, 0, 0, 0, 0, 44565138, 49349359, 0, 0,
-                    66651128, 69665831, 73860193, 0, 79561908, 0, 0, 88606018,
-                    94176669, 0, 0, 0, 0, 120129321, 0, 0, 0, 141494382, 0,
-                    143591567, 0, 0, },
-            { 1114128, 2293795, 4587583, 8257631, 9633938, 10813603, 11731123,
-                    12845251, 14680286, 15270121, 15925491, 19661092, 20382007,
-                    24969543, 26149263, 27656613, 28639669, 31392222, 32768500,
-                    35586591, 37225015, 39387737, 39780959, 40043107, 40698477,
-                    41419384, 44696233, 52495090, 57738081, 63439804, 66782202,
-                    69927976, 73925736, 76809359, 79824063, 81134806, 81921250,
-                    89785673, 94307742, 100795894, 107939439, 112330415,
-                    114427602, 120588074, 126158721, 134416381, 137824310,
-                    141559920, 142542975, 143853712, 145033381, 145950899, },
-            { 1179666, 0, 0, 0, 9699476, 0, 0, 0, 0, 0, 0, 0, 0, 0, 26280336,
-                    0, 0, 0, 0, 0, 38076985, 0, 0, 0, 0, 0, 45220523, 52560674,
-                    0, 0, 67175420, 69993516, 0, 0, 79889603, 0, 0, 89916763,
-                    94373280, 101451267, 108136048, 0, 114493139, 120784689,
-                    126355334, 134481924, 138414136, 141625457, 142608512, 0,
-                    0, 0, },
-            { 0, 0, 0, 0, 9896085, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    33292789, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 67830786, 0, 0,
-                    0, 80020676, 0, 0, 0, 0, 0, 0, 0, 0, 0, 127403913, 0, 0, 0,
-                    0, 0, 0, 0, },
-            { 1310739, 2359332, 4653127, 0, 0, 0, 12189876, 0, 0, 0, 0, 0, 0,
-                    0, 26345874, 28246439, 0, 31457760, 0, 35652128, 38142534,
-                    0, 0, 0, 0, 0, 45351603, 52757283, 57869170, 63636425,
-                    67961868, 71304237, 73991273, 0, 0, 0, 0, 90309981, 0,
-                    101910029, 108988019, 114034355, 0, 120850228, 127469465,
-                    135464965, 138741825, 141690994, 142739585, 143984788, 0,
-                    0, },
-            { 1441813, 2424869, 4718664, 8388735, 10027160, 10879142, 12255419,
-                    12976325, 14745825, 15401194, 15991028, 19857709, 20447544,
-                    25035134, 26542483, 28377520, 28705206, 31588833, 33358333,
-                    35783201, 38208071, 39453274, 39846496, 40108644, 40764014,
-                    41484921, 45613749, 53216038, 58196852, 63898572, 68158478,
-                    71369793, 74253418, 77005973, 80479430, 81265879, 81986787,
-                    90965347, 94504353, 103679508, 109250176, 114165453,
-                    114558676, 121243445, 127731610, 135727124, 138807366,
-                    142018675, 142805123, 144115862, 145098918, 146016436, },
-            { 1572887, 0, 0, 0, 10092698, 0, 12320956, 0, 14811362, 0, 0,
-                    19923248, 0, 25166207, 26739094, 0, 0, 0, 33423870, 0,
-                    38273608, 0, 0, 0, 0, 0, 45744825, 0, 58262393, 64095184,
-                    68355089, 0, 75170926, 0, 80610509, 0, 0, 91817325, 0,
-                    104203823, 109512324, 0, 0, 121636667, 128059294, 0,
-                    139069511, 0, 0, 0, 0, 0, },
-            { 1703961, 2490406, 4849737, 0, 10223771, 0, 0, 13107399, 15007971,
-                    15466732, 0, 0, 20513081, 25231745, 26870169, 0, 0,
-                    31654371, 34275839, 0, 38404681, 0, 0, 0, 40829551, 0,
-                    45875899, 53609261, 59900794, 64226259, 68551700, 0, 0, 0,
-                    80807119, 81331417, 0, 91948410, 94700963, 104465975,
-                    109643400, 114230991, 114951893, 121702209, 131663779, 0,
-                    139266123, 0, 0, 144246936, 145295527, 0, },
-            { 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 27132315, 0, 0, 0, 0,
-                    0, 0, 39518811, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 75302012, 0,
-                    0, 0, 0, 92079484, 0, 105383483, 109708938, 0, 0, 0, 0, 0,
-                    0, 0, 0, 144312474, 0, 0, },
-            { 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    0, 0, 0, 0, 46006973, 0, 60031891, 64291797, 0, 0, 0, 0, 0,
-                    0, 0, 0, 0, 105711177, 0, 0, 0, 0, 131991514, 135923736,
-                    139331662, 0, 0, 144378011, 0, 146147509, },
-            { 0, 0, 0, 0, 10354845, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 68813847, 0, 0, 0, 0, 0,
-                    0, 0, 0, 0, 0, 0, 0, 121767746, 0, 0, 0, 0, 0, 0, 0, 0, },
-            { 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    0, 0, 0, 0, 0, 0, 60097429, 0, 0, 0, 0, 77137048, 0, 0, 0,
-                    0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, },
-            { 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    0, 0, 0, 0, 0, 0, 0, 64422870, 0, 0, 0, 0, 0, 0, 0, 0, 0,
-                    0, 0, 0, 0, 0, 132122591, 0, 0, 142084216, 0, 0, 0, 0, }, };
+    /**
+     * Maps the first two characters of a character reference name to the
+     * trie node reached after them. The major index is the second character
+     * (code point as index) and the minor index is the first character
+     * (packed so that A-Z runs from 0 to 25 and a-z runs from 26 to 51). Zero
+     * means that no name starts with that prefix. Rows that would be all zero
+     * are null.
+     */
+    static final @NoLength int[][] HILO_ACCEL = new int['z' + 1][];
+
+    /**
+     * The non-null rows of <code>HILO_ACCEL</code> packed by
+     * <code>PackedTables</code>, each as its index followed by its 52 entries.
+     */
+    private static final String HILO_ACCEL_ROWS =
+            "\u0000\u0000\u0000A\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0087\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0001$\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0001d\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u00a6"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0001\u00cd\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0002."
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0002c\u0000\u0000\u0002u\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000B\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u00e0\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0001\u00ce\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0002"
+            + "/\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0002v\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000D\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000[\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0001\u0012\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001"
+            + "w\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0001\u00e4\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0002w\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000E\u0000"
+            + "\u0000\u00005\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u008f\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00c5\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u00e1\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001"
+            + "\u0095\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001"
+            + "\u00cf\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "G\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001"
+            + "\u00f2\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000H\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000M\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u00a2\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00ec\u0000"
+            + "\u0000\u0000\u00f9\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0001-\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0001e\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0001\u00d0\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00020\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0002"
+            + "d\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000I\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0001%\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000J\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\\\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000{\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0090\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u00a3\u0000\u0000\u0000\u00a9\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u00bc\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000L\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u00f3\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "M\u0000\u0000\u00006\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000N\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000f\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0001E\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000O\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000N\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0091"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00ed"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000R\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u00fa\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0001\u00f4\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000S\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000]\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00fb\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0002\n\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000T"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000g"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000|\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00aa\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000U\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00dc"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0001&\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000V\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0001\u00f5\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000Z\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000^\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000a\u0000\u0000"
+            + "\u00007\u0000\u0000\u0000E\u0000\u0000\u0000O\u0000\u0000"
+            + "\u0000_\u0000\u0000\u0000h\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000}\u0000\u0000\u0000\u0088\u0000\u0000\u0000"
+            + "\u0092\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00a4\u0000"
+            + "\u0000\u0000\u00ab\u0000\u0000\u0000\u00b4\u0000\u0000\u0000"
+            + "\u00bd\u0000\u0000\u0000\u00c6\u0000\u0000\u0000\u00d3\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u00e2\u0000\u0000\u0000"
+            + "\u00ee\u0000\u0000\u0000\u00fc\u0000\u0000\u0001\u0004\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0001'\u0000\u0000\u0001.\u0000\u0000"
+            + "\u00015\u0000\u0000\u0001F\u0000\u0000\u0001U\u0000\u0000"
+            + "\u0001f\u0000\u0000\u0001x\u0000\u0000\u0001\u0089\u0000"
+            + "\u0000\u0001\u0096\u0000\u0000\u0001\u00a7\u0000\u0000\u0001"
+            + "\u00b0\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u00c5\u0000"
+            + "\u0000\u0001\u00d1\u0000\u0000\u0001\u00e5\u0000\u0000\u0001"
+            + "\u00f6\u0000\u0000\u0002\u000b\u0000\u0000\u0002\u001c\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u00021\u0000\u0000\u0002C"
+            + "\u0000\u0000\u0002V\u0000\u0000\u0002e\u0000\u0000\u0002x"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0002\u0099\u0000\u0000\u0002\u00a1\u0000\u0000\u0000b"
+            + "\u0000\u0000\u00008\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000~\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0001\u0005\u0000\u0000\u0001\u0013\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u00016\u0000\u0000"
+            + "\u0001G\u0000\u0000\u0000\u0000\u0000\u0000\u0001g\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001"
+            + "\u0097\u0000\u0000\u0001\u00a8\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001"
+            + "\u00d2\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u00f7\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u00022\u0000\u0000\u0002D\u0000\u0000"
+            + "\u0002W\u0000\u0000\u0002f\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000c\u0000"
+            + "\u0000\u00009\u0000\u0000\u0000F\u0000\u0000\u0000P\u0000"
+            + "\u0000\u0000`\u0000\u0000\u0000i\u0000\u0000\u0000v\u0000"
+            + "\u0000\u0000\u007f\u0000\u0000\u0000\u0089\u0000\u0000\u0000"
+            + "\u0093\u0000\u0000\u0000\u009d\u0000\u0000\u0000\u00a5\u0000"
+            + "\u0000\u0000\u00ac\u0000\u0000\u0000\u00b5\u0000\u0000\u0000"
+            + "\u00be\u0000\u0000\u0000\u00c7\u0000\u0000\u0000\u00d4\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u00e3\u0000\u0000\u0000"
+            + "\u00ef\u0000\u0000\u0000\u00fd\u0000\u0000\u0001\u0006\u0000"
+            + "\u0000\u0001\u0014\u0000\u0000\u0001\u001b\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0001(\u0000\u0000\u0001/\u0000\u0000"
+            + "\u00017\u0000\u0000\u0001H\u0000\u0000\u0001V\u0000\u0000"
+            + "\u0001h\u0000\u0000\u0001y\u0000\u0000\u0001\u008a\u0000"
+            + "\u0000\u0001\u0098\u0000\u0000\u0001\u00a9\u0000\u0000\u0001"
+            + "\u00b1\u0000\u0000\u0001\u00bf\u0000\u0000\u0001\u00c6\u0000"
+            + "\u0000\u0001\u00d3\u0000\u0000\u0001\u00e6\u0000\u0000\u0001"
+            + "\u00f8\u0000\u0000\u0002\u000c\u0000\u0000\u0002\u001d\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u00023\u0000\u0000\u0002E"
+            + "\u0000\u0000\u0002X\u0000\u0000\u0002g\u0000\u0000\u0002y"
+            + "\u0000\u0000\u0002\u0084\u0000\u0000\u0002\u008b\u0000\u0000"
+            + "\u0002\u009a\u0000\u0000\u0002\u00a2\u0000\u0000\u0000d"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000Q\u0000\u0000\u0000\u0000\u0000\u0000\u0000j\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0080\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0094\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00c8\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0001\u0007\u0000\u0000\u0001\u0015\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u00010\u0000\u0000\u0000\u0000\u0000\u0000\u0001I"
+            + "\u0000\u0000\u0001W\u0000\u0000\u0001i\u0000\u0000\u0001z"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u0099\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u00d4\u0000\u0000"
+            + "\u0001\u00e7\u0000\u0000\u0001\u00f9\u0000\u0000\u0002\r"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u00024\u0000\u0000\u0002F\u0000\u0000\u0002Y\u0000\u0000"
+            + "\u0002h\u0000\u0000\u0002z\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0002\u008c\u0000\u0000\u0000\u0000\u0000\u0000\u0002"
+            + "\u00a3\u0000\u0000\u0000e\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000G\u0000\u0000\u0000R\u0000\u0000\u0000a\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u00ad\u0000\u0000\u0000\u00b6\u0000\u0000\u0000\u00bf\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u00e4\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001"
+            + "\u0016\u0000\u0000\u0001\u001c\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u00011\u0000\u0000\u00018"
+            + "\u0000\u0000\u0001J\u0000\u0000\u0001X\u0000\u0000\u0001j"
+            + "\u0000\u0000\u0001{\u0000\u0000\u0001\u008b\u0000\u0000"
+            + "\u0001\u009a\u0000\u0000\u0001\u00aa\u0000\u0000\u0001\u00b2"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0001\u00d5\u0000\u0000\u0001\u00e8\u0000\u0000\u0001\u00fa"
+            + "\u0000\u0000\u0002\u000e\u0000\u0000\u0002\u001e\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u00025\u0000\u0000\u0002G\u0000"
+            + "\u0000\u0002Z\u0000\u0000\u0000\u0000\u0000\u0000\u0002{"
+            + "\u0000\u0000\u0002\u0085\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0002\u009b\u0000\u0000\u0002\u00a4\u0000\u0000\u0000f"
+            + "\u0000\u0000\u0000:\u0000\u0000\u0000H\u0000\u0000\u0000S"
+            + "\u0000\u0000\u0000b\u0000\u0000\u0000k\u0000\u0000\u0000w"
+            + "\u0000\u0000\u0000\u0081\u0000\u0000\u0000\u008a\u0000\u0000"
+            + "\u0000\u0095\u0000\u0000\u0000\u009e\u0000\u0000\u0000\u00a6"
+            + "\u0000\u0000\u0000\u00ae\u0000\u0000\u0000\u00b7\u0000\u0000"
+            + "\u0000\u00c0\u0000\u0000\u0000\u00c9\u0000\u0000\u0000\u00d5"
+            + "\u0000\u0000\u0000\u00dd\u0000\u0000\u0000\u00e5\u0000\u0000"
+            + "\u0000\u00f0\u0000\u0000\u0000\u00fe\u0000\u0000\u0001\u0008"
+            + "\u0000\u0000\u0001\u0017\u0000\u0000\u0001\u001d\u0000\u0000"
+            + "\u0001 \u0000\u0000\u0001)\u0000\u0000\u00012\u0000\u0000"
+            + "\u00019\u0000\u0000\u0001K\u0000\u0000\u0001Y\u0000\u0000"
+            + "\u0001k\u0000\u0000\u0001|\u0000\u0000\u0001\u008c\u0000"
+            + "\u0000\u0001\u009b\u0000\u0000\u0001\u00ab\u0000\u0000\u0001"
+            + "\u00b3\u0000\u0000\u0001\u00c0\u0000\u0000\u0001\u00c7\u0000"
+            + "\u0000\u0001\u00d6\u0000\u0000\u0001\u00e9\u0000\u0000\u0001"
+            + "\u00fb\u0000\u0000\u0002\u000f\u0000\u0000\u0002\u001f\u0000"
+            + "\u0000\u0002(\u0000\u0000\u00026\u0000\u0000\u0002H\u0000"
+            + "\u0000\u0002[\u0000\u0000\u0002i\u0000\u0000\u0002|\u0000"
+            + "\u0000\u0002\u0086\u0000\u0000\u0002\u008d\u0000\u0000\u0002"
+            + "\u009c\u0000\u0000\u0002\u00a5\u0000\u0000\u0000g\u0000"
+            + "\u0000\u0000;\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000l\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0082\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0096\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00ca\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0001\u0009\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0001:\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0001}\u0000\u0000\u0000\u0000\u0000\u0000\u0001"
+            + "\u009c\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u00b4\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0001\u00c8\u0000\u0000\u0001"
+            + "\u00d7\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u00fc\u0000"
+            + "\u0000\u0002\u0010\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0002j\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "h\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000T\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u00d6\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u00e6\u0000\u0000\u0000\u00f1\u0000\u0000\u0000"
+            + "\u00ff\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0001Z\u0000\u0000\u0001l"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u00c9\u0000\u0000"
+            + "\u0001\u00d8\u0000\u0000\u0001\u00ea\u0000\u0000\u0001\u00fd"
+            + "\u0000\u0000\u0002\u0011\u0000\u0000\u0002 \u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u00027\u0000\u0000\u0002I\u0000"
+            + "\u0000\u0002\\\u0000\u0000\u0002k\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0002\u008e\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0002\u00a6\u0000\u0000\u0000i"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000U\u0000\u0000\u0000c\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000x\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u008b\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u00b8\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u00d7\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u00e7\u0000\u0000\u0000\u00f2\u0000\u0000\u0001\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0001!\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001"
+            + "L\u0000\u0000\u0001[\u0000\u0000\u0001m\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0001\u008d\u0000\u0000\u0001\u009d\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0001\u00b5\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0001\u00eb\u0000\u0000\u0001\u00fe\u0000\u0000\u0002"
+            + "\u0012\u0000\u0000\u0002!\u0000\u0000\u0002)\u0000\u0000"
+            + "\u00028\u0000\u0000\u0002J\u0000\u0000\u0002]\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0002\u008f\u0000\u0000\u0002\u009d\u0000\u0000"
+            + "\u0002\u00a7\u0000\u0000\u0000j\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0001n\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0001\u008e\u0000\u0000\u0001\u009e\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0001\u00b6\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0001\u00ca\u0000\u0000\u0001\u00d9\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0001\u00ff\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000k\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001M"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0001\u00ac\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000l"
+            + "\u0000\u0000\u0000<\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000V\u0000\u0000\u0000\u0000\u0000\u0000\u0000m\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u00af\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u00d8\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0001;\u0000\u0000\u0001N"
+            + "\u0000\u0000\u0001\\\u0000\u0000\u0001o\u0000\u0000\u0001~"
+            + "\u0000\u0000\u0001\u008f\u0000\u0000\u0001\u009f\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u00da\u0000\u0000"
+            + "\u0001\u00ec\u0000\u0000\u0002\u0000\u0000\u0000\u0002\u0013"
+            + "\u0000\u0000\u0002\"\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u00029\u0000\u0000\u0002K\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0002l\u0000\u0000\u0002}\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0002\u0090\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000m\u0000\u0000\u0000=\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000n\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0097\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u00b0\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u00cb\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u00f3\u0000\u0000\u0000\u0000\u0000\u0000\u0001\n\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0001<\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u007f\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0001\u00b7\u0000\u0000\u0001\u00c1\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0001\u00db\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0002\u0001\u0000\u0000\u0002\u0014\u0000"
+            + "\u0000\u0002#\u0000\u0000\u0000\u0000\u0000\u0000\u0002:"
+            + "\u0000\u0000\u0002L\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0002m\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0002\u0091\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000n\u0000\u0000\u0000>\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0098\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u000b\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0001=\u0000\u0000\u0001O\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u0080\u0000\u0000"
+            + "\u0001\u0090\u0000\u0000\u0001\u00a0\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0001\u00b8\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0001\u00dc\u0000\u0000\u0001\u00ed"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0002;"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0002~\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0002\u0092\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000o\u0000\u0000\u0000?\u0000"
+            + "\u0000\u0000I\u0000\u0000\u0000W\u0000\u0000\u0000d\u0000"
+            + "\u0000\u0000o\u0000\u0000\u0000y\u0000\u0000\u0000\u0083"
+            + "\u0000\u0000\u0000\u008c\u0000\u0000\u0000\u0099\u0000\u0000"
+            + "\u0000\u009f\u0000\u0000\u0000\u00a7\u0000\u0000\u0000\u00b1"
+            + "\u0000\u0000\u0000\u00b9\u0000\u0000\u0000\u00c1\u0000\u0000"
+            + "\u0000\u00cc\u0000\u0000\u0000\u00d9\u0000\u0000\u0000\u00de"
+            + "\u0000\u0000\u0000\u00e8\u0000\u0000\u0000\u00f4\u0000\u0000"
+            + "\u0001\u0001\u0000\u0000\u0001\u000c\u0000\u0000\u0001\u0018"
+            + "\u0000\u0000\u0001\u001e\u0000\u0000\u0001\"\u0000\u0000"
+            + "\u0001*\u0000\u0000\u00013\u0000\u0000\u0001>\u0000\u0000"
+            + "\u0001P\u0000\u0000\u0001]\u0000\u0000\u0001p\u0000\u0000"
+            + "\u0001\u0081\u0000\u0000\u0001\u0091\u0000\u0000\u0001\u00a1"
+            + "\u0000\u0000\u0001\u00ad\u0000\u0000\u0001\u00b9\u0000\u0000"
+            + "\u0001\u00c2\u0000\u0000\u0001\u00cb\u0000\u0000\u0001\u00dd"
+            + "\u0000\u0000\u0001\u00ee\u0000\u0000\u0002\u0002\u0000\u0000"
+            + "\u0002\u0015\u0000\u0000\u0002$\u0000\u0000\u0002*\u0000"
+            + "\u0000\u0002<\u0000\u0000\u0002M\u0000\u0000\u0002^\u0000"
+            + "\u0000\u0002n\u0000\u0000\u0002\u007f\u0000\u0000\u0002"
+            + "\u0087\u0000\u0000\u0002\u0093\u0000\u0000\u0002\u009e\u0000"
+            + "\u0000\u0002\u00a8\u0000\u0000\u0000p\u0000\u0000\u0000@"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000p\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u00cd\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001\r"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0001?\u0000\u0000\u0001Q\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u0082\u0000"
+            + "\u0000\u0001\u0092\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0001\u00ba\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0001\u00de\u0000\u0000\u0001"
+            + "\u00ef\u0000\u0000\u0002\u0003\u0000\u0000\u0002\u0016\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0002+\u0000\u0000\u0002="
+            + "\u0000\u0000\u0002N\u0000\u0000\u0002_\u0000\u0000\u0002o"
+            + "\u0000\u0000\u0002\u0080\u0000\u0000\u0002\u0088\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000q\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000q\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00f5"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u0083\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0001\u00bb\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0002O\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000r\u0000\u0000\u0000A\u0000"
+            + "\u0000\u0000J\u0000\u0000\u0000X\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0084\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u00ce\u0000\u0000\u0000\u00da\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u00e9\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0001\u0002\u0000\u0000\u0001\u000e\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0001@\u0000\u0000\u0001R\u0000\u0000\u0001^\u0000\u0000"
+            + "\u0001q\u0000\u0000\u0001\u0084\u0000\u0000\u0001\u0093"
+            + "\u0000\u0000\u0001\u00a2\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0001\u00df\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0002\u0004\u0000\u0000\u0002\u0017\u0000\u0000\u0002%"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0002>\u0000\u0000"
+            + "\u0002P\u0000\u0000\u0002`\u0000\u0000\u0002p\u0000\u0000"
+            + "\u0002\u0081\u0000\u0000\u0002\u0089\u0000\u0000\u0002\u0094"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000s\u0000\u0000\u0000B\u0000\u0000\u0000K\u0000\u0000"
+            + "\u0000Y\u0000\u0000\u0000e\u0000\u0000\u0000r\u0000\u0000"
+            + "\u0000z\u0000\u0000\u0000\u0085\u0000\u0000\u0000\u008d"
+            + "\u0000\u0000\u0000\u009a\u0000\u0000\u0000\u00a0\u0000\u0000"
+            + "\u0000\u00a8\u0000\u0000\u0000\u00b2\u0000\u0000\u0000\u00ba"
+            + "\u0000\u0000\u0000\u00c2\u0000\u0000\u0000\u00cf\u0000\u0000"
+            + "\u0000\u00db\u0000\u0000\u0000\u00df\u0000\u0000\u0000\u00ea"
+            + "\u0000\u0000\u0000\u00f6\u0000\u0000\u0001\u0003\u0000\u0000"
+            + "\u0001\u000f\u0000\u0000\u0001\u0019\u0000\u0000\u0001\u001f"
+            + "\u0000\u0000\u0001#\u0000\u0000\u0001+\u0000\u0000\u00014"
+            + "\u0000\u0000\u0001A\u0000\u0000\u0001S\u0000\u0000\u0001_"
+            + "\u0000\u0000\u0001r\u0000\u0000\u0001\u0085\u0000\u0000"
+            + "\u0001\u0094\u0000\u0000\u0001\u00a3\u0000\u0000\u0001\u00ae"
+            + "\u0000\u0000\u0001\u00bc\u0000\u0000\u0001\u00c3\u0000\u0000"
+            + "\u0001\u00cc\u0000\u0000\u0001\u00e0\u0000\u0000\u0001\u00f0"
+            + "\u0000\u0000\u0002\u0005\u0000\u0000\u0002\u0018\u0000\u0000"
+            + "\u0002&\u0000\u0000\u0002,\u0000\u0000\u0002?\u0000\u0000"
+            + "\u0002Q\u0000\u0000\u0002a\u0000\u0000\u0002q\u0000\u0000"
+            + "\u0002\u0082\u0000\u0000\u0002\u008a\u0000\u0000\u0002\u0095"
+            + "\u0000\u0000\u0002\u009f\u0000\u0000\u0002\u00a9\u0000\u0000"
+            + "\u0000t\u0000\u0000\u0000C\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "s\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0086\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u009b\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00b3\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u00c3\u0000\u0000\u0000"
+            + "\u00d0\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u00f7\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0001\u0010\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001B\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0001`\u0000\u0000\u0001s"
+            + "\u0000\u0000\u0001\u0086\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0001\u00a4\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u00bd"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0001\u00e1\u0000\u0000\u0000\u0000\u0000\u0000\u0002\u0006"
+            + "\u0000\u0000\u0002\u0019\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0002@\u0000\u0000\u0002R\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0002r\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "u\u0000\u0000\u0000D\u0000\u0000\u0000L\u0000\u0000\u0000Z"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000t\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u008e"
+            + "\u0000\u0000\u0000\u009c\u0000\u0000\u0000\u00a1\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00bb"
+            + "\u0000\u0000\u0000\u00c4\u0000\u0000\u0000\u00d1\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00eb"
+            + "\u0000\u0000\u0000\u00f8\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0001\u0011\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0001,\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0001C\u0000\u0000\u0001T\u0000"
+            + "\u0000\u0001a\u0000\u0000\u0001t\u0000\u0000\u0001\u0087"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0001\u00be\u0000\u0000\u0001\u00c4"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u00e2\u0000\u0000"
+            + "\u0001\u00f1\u0000\u0000\u0002\u0007\u0000\u0000\u0002\u001a"
+            + "\u0000\u0000\u0002'\u0000\u0000\u0002-\u0000\u0000\u0002A"
+            + "\u0000\u0000\u0002S\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0002s\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0002\u0096\u0000\u0000\u0002\u00a0\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000v\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u00d2\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0001\u001a\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u00a5\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u00e3\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0002\u0008\u0000\u0000\u0002\u001b"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0002\u0097\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000w\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0001D\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0001b\u0000\u0000\u0001u\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0002\u0009\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0002T\u0000\u0000\u0002b"
+            + "\u0000\u0000\u0002t\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0002\u0098\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0002\u00aa\u0000\u0000\u0000x\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000u\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0001\u0088\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0002B\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000y"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0001c\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0001\u00af\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000z\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0001v\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0002U\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0002\u0083\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000";
+
+    static {
+        int[] data = PackedTables.unpackInts(HILO_ACCEL_ROWS);
+        int rowLength = 'Z' - 'A' + 1 + 'z' - 'a' + 1;
+        for (int pos = 0; pos < data.length; pos += rowLength + 1) {
+            int[] row = new int[rowLength];
+            System.arraycopy(data, pos + 1, row, 0, rowLength);
+            HILO_ACCEL[data[pos]] = row;
+        }
+    }
+
+    /**
+     * The character on the edge leading to each trie node.
+     */
+    static final @NoLength char[] TRIE_LABELS = PackedTables.unpackChars(
+            "\u0000\u0000\u0000A\u0000B\u0000C\u0000D\u0000E\u0000F\u0000"
+            + "G\u0000H\u0000I\u0000J\u0000K\u0000L\u0000M\u0000N\u0000O"
+            + "\u0000P\u0000Q\u0000R\u0000S\u0000T\u0000U\u0000V\u0000W"
+            + "\u0000X\u0000Y\u0000Z\u0000a\u0000b\u0000c\u0000d\u0000e"
+            + "\u0000f\u0000g\u0000h\u0000i\u0000j\u0000k\u0000l\u0000m"
+            + "\u0000n\u0000o\u0000p\u0000q\u0000r\u0000s\u0000t\u0000u"
+            + "\u0000v\u0000w\u0000x\u0000y\u0000z\u0000E\u0000M\u0000a"
+            + "\u0000b\u0000c\u0000f\u0000g\u0000l\u0000m\u0000n\u0000o"
+            + "\u0000p\u0000r\u0000s\u0000t\u0000u\u0000a\u0000c\u0000e"
+            + "\u0000f\u0000o\u0000r\u0000s\u0000u\u0000H\u0000O\u0000a"
+            + "\u0000c\u0000d\u0000e\u0000f\u0000h\u0000i\u0000l\u0000o"
+            + "\u0000r\u0000s\u0000u\u0000D\u0000J\u0000S\u0000Z\u0000a"
+            + "\u0000c\u0000e\u0000f\u0000i\u0000o\u0000s\u0000N\u0000T"
+            + "\u0000a\u0000c\u0000d\u0000f\u0000g\u0000l\u0000m\u0000o"
+            + "\u0000p\u0000q\u0000s\u0000t\u0000u\u0000x\u0000c\u0000f"
+            + "\u0000i\u0000o\u0000s\u0000J\u0000T\u0000a\u0000b\u0000c"
+            + "\u0000d\u0000f\u0000g\u0000o\u0000r\u0000s\u0000t\u0000A"
+            + "\u0000a\u0000c\u0000f\u0000i\u0000o\u0000s\u0000u\u0000E"
+            + "\u0000J\u0000O\u0000a\u0000c\u0000d\u0000f\u0000g\u0000m"
+            + "\u0000n\u0000o\u0000s\u0000t\u0000u\u0000c\u0000f\u0000o"
+            + "\u0000s\u0000u\u0000H\u0000J\u0000a\u0000c\u0000f\u0000o"
+            + "\u0000s\u0000J\u0000T\u0000a\u0000c\u0000e\u0000f\u0000l"
+            + "\u0000m\u0000o\u0000s\u0000t\u0000a\u0000c\u0000e\u0000f"
+            + "\u0000i\u0000o\u0000s\u0000u\u0000J\u0000a\u0000c\u0000e"
+            + "\u0000f\u0000o\u0000s\u0000t\u0000u\u0000E\u0000a\u0000c"
+            + "\u0000d\u0000f\u0000g\u0000m\u0000o\u0000p\u0000r\u0000s"
+            + "\u0000t\u0000u\u0000v\u0000a\u0000c\u0000f\u0000h\u0000i"
+            + "\u0000l\u0000o\u0000r\u0000s\u0000U\u0000f\u0000o\u0000s"
+            + "\u0000B\u0000E\u0000a\u0000c\u0000e\u0000f\u0000h\u0000i"
+            + "\u0000o\u0000r\u0000s\u0000u\u0000H\u0000O\u0000a\u0000c"
+            + "\u0000f\u0000h\u0000i\u0000m\u0000o\u0000q\u0000s\u0000t"
+            + "\u0000u\u0000H\u0000R\u0000S\u0000a\u0000c\u0000f\u0000h"
+            + "\u0000i\u0000o\u0000r\u0000s\u0000a\u0000b\u0000c\u0000d"
+            + "\u0000f\u0000g\u0000m\u0000n\u0000o\u0000p\u0000r\u0000s"
+            + "\u0000t\u0000u\u0000D\u0000b\u0000c\u0000d\u0000e\u0000f"
+            + "\u0000o\u0000s\u0000v\u0000c\u0000e\u0000f\u0000o\u0000s"
+            + "\u0000f\u0000i\u0000o\u0000s\u0000A\u0000I\u0000U\u0000a"
+            + "\u0000c\u0000f\u0000o\u0000s\u0000u\u0000H\u0000a\u0000c"
+            + "\u0000d\u0000e\u0000f\u0000o\u0000s\u0000a\u0000b\u0000c"
+            + "\u0000e\u0000f\u0000g\u0000l\u0000m\u0000n\u0000o\u0000p"
+            + "\u0000r\u0000s\u0000t\u0000u\u0000w\u0000N\u0000a\u0000b"
+            + "\u0000c\u0000d\u0000e\u0000f\u0000i\u0000k\u0000l\u0000n"
+            + "\u0000o\u0000p\u0000r\u0000s\u0000u\u0000a\u0000c\u0000d"
+            + "\u0000e\u0000f\u0000h\u0000i\u0000l\u0000o\u0000r\u0000s"
+            + "\u0000t\u0000u\u0000w\u0000y\u0000A\u0000H\u0000a\u0000b"
+            + "\u0000c\u0000d\u0000e\u0000f\u0000h\u0000i\u0000j\u0000l"
+            + "\u0000o\u0000r\u0000s\u0000t\u0000u\u0000w\u0000z\u0000D"
+            + "\u0000a\u0000c\u0000d\u0000e\u0000f\u0000g\u0000l\u0000m"
+            + "\u0000n\u0000o\u0000p\u0000q\u0000r\u0000s\u0000t\u0000u"
+            + "\u0000x\u0000a\u0000c\u0000e\u0000f\u0000i\u0000j\u0000l"
+            + "\u0000n\u0000o\u0000p\u0000r\u0000s\u0000E\u0000a\u0000b"
+            + "\u0000c\u0000d\u0000e\u0000f\u0000g\u0000i\u0000j\u0000l"
+            + "\u0000n\u0000o\u0000r\u0000s\u0000t\u0000v\u0000A\u0000a"
+            + "\u0000b\u0000c\u0000e\u0000f\u0000k\u0000o\u0000s\u0000y"
+            + "\u0000a\u0000c\u0000e\u0000f\u0000g\u0000i\u0000j\u0000m"
+            + "\u0000n\u0000o\u0000p\u0000q\u0000s\u0000t\u0000u\u0000c"
+            + "\u0000f\u0000m\u0000o\u0000s\u0000u\u0000a\u0000c\u0000f"
+            + "\u0000g\u0000h\u0000j\u0000o\u0000s\u0000A\u0000B\u0000E"
+            + "\u0000H\u0000a\u0000b\u0000c\u0000d\u0000e\u0000f\u0000g"
+            + "\u0000h\u0000j\u0000l\u0000m\u0000n\u0000o\u0000p\u0000r"
+            + "\u0000s\u0000t\u0000u\u0000v\u0000D\u0000a\u0000c\u0000d"
+            + "\u0000e\u0000f\u0000h\u0000i\u0000l\u0000n\u0000o\u0000p"
+            + "\u0000s\u0000u\u0000G\u0000L\u0000R\u0000V\u0000a\u0000b"
+            + "\u0000c\u0000d\u0000e\u0000f\u0000g\u0000h\u0000i\u0000j"
+            + "\u0000l\u0000m\u0000o\u0000p\u0000r\u0000s\u0000t\u0000u"
+            + "\u0000v\u0000w\u0000S\u0000a\u0000c\u0000d\u0000e\u0000f"
+            + "\u0000g\u0000h\u0000i\u0000l\u0000m\u0000o\u0000p\u0000r"
+            + "\u0000s\u0000t\u0000u\u0000v\u0000a\u0000c\u0000e\u0000f"
+            + "\u0000h\u0000i\u0000l\u0000m\u0000o\u0000r\u0000s\u0000u"
+            + "\u0000f\u0000i\u0000o\u0000p\u0000s\u0000u\u0000A\u0000B"
+            + "\u0000H\u0000a\u0000b\u0000c\u0000d\u0000e\u0000f\u0000h"
+            + "\u0000i\u0000l\u0000m\u0000n\u0000o\u0000p\u0000r\u0000s"
+            + "\u0000t\u0000u\u0000x\u0000a\u0000b\u0000c\u0000d\u0000e"
+            + "\u0000f\u0000h\u0000i\u0000l\u0000m\u0000o\u0000p\u0000q"
+            + "\u0000r\u0000s\u0000t\u0000u\u0000w\u0000z\u0000a\u0000b"
+            + "\u0000c\u0000d\u0000e\u0000f\u0000h\u0000i\u0000o\u0000p"
+            + "\u0000r\u0000s\u0000w\u0000A\u0000H\u0000a\u0000b\u0000c"
+            + "\u0000d\u0000f\u0000g\u0000h\u0000l\u0000m\u0000o\u0000p"
+            + "\u0000r\u0000s\u0000t\u0000u\u0000w\u0000A\u0000B\u0000D"
+            + "\u0000a\u0000c\u0000d\u0000e\u0000f\u0000l\u0000n\u0000o"
+            + "\u0000p\u0000r\u0000s\u0000z\u0000c\u0000e\u0000f\u0000o"
+            + "\u0000p\u0000r\u0000s\u0000c\u0000d\u0000f\u0000h\u0000i"
+            + "\u0000l\u0000m\u0000n\u0000o\u0000r\u0000s\u0000u\u0000v"
+            + "\u0000w\u0000a\u0000c\u0000e\u0000f\u0000i\u0000o\u0000s"
+            + "\u0000u\u0000a\u0000c\u0000d\u0000e\u0000f\u0000h\u0000i"
+            + "\u0000o\u0000s\u0000w\u0000l\u0000P\u0000c\u0000r\u0000i"
+            + "\u0000y\u0000r\u0000r\u0000p\u0000a\u0000d\u0000g\u0000p"
+            + "\u0000p\u0000i\u0000c\u0000s\u0000i\u0000m\u0000c\u0000r"
+            + "\u0000y\u0000c\u0000r\u0000t\u0000r\u0000p\u0000e\u0000c"
+            + "\u0000m\u0000c\u0000P\u0000c\u0000p\u0000y\u0000a\u0000e"
+            + "\u0000i\u0000o\u0000o\u0000d\u0000n\u0000r\u0000i\u0000r"
+            + "\u0000o\u0000l\u0000n\u0000p\u0000u\u0000o\u0000c\u0000p"
+            + "\u0000;\u0000o\u0000c\u0000c\u0000c\u0000g\u0000r\u0000s"
+            + "\u0000a\u0000y\u0000l\u0000r\u0000a\u0000f\u0000p\u0000t"
+            + "\u0000u\u0000w\u0000c\u0000t\u0000G\u0000H\u0000c\u0000a"
+            + "\u0000i\u0000y\u0000o\u0000r\u0000r\u0000e\u0000a\u0000p"
+            + "\u0000g\u0000p\u0000s\u0000u\u0000c\u0000i\u0000a\u0000m"
+            + "\u0000i\u0000p\u0000y\u0000r\u0000l\u0000p\u0000r\u0000u"
+            + "\u0000c\u0000c\u0000;\u0000m\u0000r\u0000e\u0000i\u0000y"
+            + "\u0000o\u0000r\u0000;\u0000p\u0000e\u0000c\u0000;\u0000R"
+            + "\u0000c\u0000t\u0000i\u0000r\u0000l\u0000p\u0000r\u0000c"
+            + "\u0000t\u0000m\u0000c\u0000l\u0000c\u0000c\u0000i\u0000y"
+            + "\u0000o\u0000r\u0000r\u0000;\u0000a\u0000p\u0000t\u0000v"
+            + "\u0000g\u0000p\u0000t\u0000c\u0000i\u0000k\u0000m\u0000i"
+            + "\u0000y\u0000r\u0000p\u0000c\u0000e\u0000k\u0000c\u0000c"
+            + "\u0000p\u0000e\u0000y\u0000r\u0000p\u0000c\u0000c\u0000;"
+            + "\u0000c\u0000m\u0000n\u0000p\u0000r\u0000a\u0000e\u0000y"
+            + "\u0000f\u0000s\u0000r\u0000;\u0000e\u0000i\u0000n\u0000p"
+            + "\u0000w\u0000c\u0000h\u0000t\u0000;\u0000p\u0000y\u0000d"
+            + "\u0000l\u0000r\u0000n\u0000p\u0000c\u0000;\u0000c\u0000c"
+            + "\u0000a\u0000e\u0000y\u0000g\u0000s\u0000w\u0000r\u0000B"
+            + "\u0000n\u0000p\u0000t\u0000c\u0000i\u0000;\u0000l\u0000c"
+            + "\u0000i\u0000y\u0000b\u0000r\u0000r\u0000a\u0000e\u0000i"
+            + "\u0000p\u0000e\u0000;\u0000c\u0000l\u0000i\u0000m\u0000e"
+            + "\u0000r\u0000y\u0000r\u0000i\u0000;\u0000u\u0000i\u0000p"
+            + "\u0000;\u0000e\u0000i\u0000o\u0000c\u0000i\u0000O\u0000r"
+            + "\u0000p\u0000c\u0000a\u0000G\u0000c\u0000n\u0000r\u0000a"
+            + "\u0000e\u0000y\u0000;\u0000v\u0000r\u0000o\u0000g\u0000p"
+            + "\u0000u\u0000i\u0000c\u0000h\u0000l\u0000C\u0000c\u0000F"
+            + "\u0000c\u0000;\u0000a\u0000e\u0000i\u0000y\u0000r\u0000o"
+            + "\u0000g\u0000a\u0000p\u0000r\u0000u\u0000c\u0000a\u0000b"
+            + "\u0000c\u0000m\u0000p\u0000O\u0000A\u0000H\u0000c\u0000b"
+            + "\u0000u\u0000a\u0000e\u0000y\u0000r\u0000e\u0000i\u0000l"
+            + "\u0000p\u0000i\u0000c\u0000t\u0000c\u0000r\u0000r\u0000i"
+            + "\u0000y\u0000b\u0000r\u0000r\u0000a\u0000d\u0000i\u0000g"
+            + "\u0000p\u0000A\u0000D\u0000E\u0000T\u0000a\u0000d\u0000p"
+            + "\u0000s\u0000i\u0000c\u0000i\u0000m\u0000a\u0000a\u0000y"
+            + "\u0000a\u0000e\u0000r\u0000r\u0000p\u0000c\u0000d\u0000i"
+            + "\u0000d\u0000r\u0000p\u0000c\u0000r\u0000;\u0000p\u0000c"
+            + "\u0000c\u0000c\u0000c\u0000c\u0000i\u0000y\u0000r\u0000p"
+            + "\u0000c\u0000m\u0000c\u0000c\u0000a\u0000y\u0000o\u0000r"
+            + "\u0000t\u0000r\u0000p\u0000c\u0000c\u0000r\u0000;\u0000E"
+            + "\u0000d\u0000i\u0000u\u0000y\u0000l\u0000;\u0000r\u0000r"
+            + "\u0000e\u0000p\u0000a\u0000p\u0000d\u0000g\u0000g\u0000p"
+            + "\u0000;\u0000E\u0000a\u0000e\u0000i\u0000o\u0000p\u0000i"
+            + "\u0000c\u0000t\u0000y\u0000i\u0000m\u0000c\u0000i\u0000o"
+            + "\u0000c\u0000r\u0000r\u0000o\u0000y\u0000q\u0000c\u0000m"
+            + "\u0000p\u0000r\u0000t\u0000r\u0000g\u0000a\u0000a\u0000k"
+            + "\u0000o\u0000e\u0000o\u0000p\u0000t\u0000w\u0000x\u0000r"
+            + "\u0000e\u0000v\u0000c\u0000e\u0000i\u0000o\u0000l\u0000m"
+            + "\u0000c\u0000p\u0000r\u0000a\u0000e\u0000i\u0000u\u0000o"
+            + "\u0000d\u0000m\u0000n\u0000r\u0000c\u0000e\u0000i\u0000r"
+            + "\u0000u\u0000l\u0000m\u0000n\u0000p\u0000a\u0000o\u0000c"
+            + "\u0000u\u0000d\u0000d\u0000e\u0000l\u0000p\u0000r\u0000v"
+            + "\u0000w\u0000c\u0000i\u0000l\u0000r\u0000a\u0000g\u0000l"
+            + "\u0000r\u0000s\u0000k\u0000l\u0000a\u0000y\u0000;\u0000a"
+            + "\u0000o\u0000g\u0000l\u0000m\u0000i\u0000r\u0000a\u0000a"
+            + "\u0000e\u0000g\u0000s\u0000v\u0000c\u0000c\u0000l\u0000p"
+            + "\u0000t\u0000u\u0000w\u0000b\u0000c\u0000c\u0000o\u0000t"
+            + "\u0000d\u0000r\u0000a\u0000h\u0000a\u0000c\u0000i\u0000D"
+            + "\u0000o\u0000c\u0000s\u0000a\u0000i\u0000o\u0000y\u0000o"
+            + "\u0000;\u0000D\u0000r\u0000;\u0000r\u0000s\u0000;\u0000i"
+            + "\u0000l\u0000s\u0000a\u0000p\u0000s\u0000g\u0000s\u0000g"
+            + "\u0000p\u0000a\u0000l\u0000s\u0000c\u0000s\u0000u\u0000v"
+            + "\u0000D\u0000a\u0000c\u0000d\u0000i\u0000a\u0000h\u0000m"
+            + "\u0000r\u0000c\u0000i\u0000p\u0000l\u0000y\u0000m\u0000i"
+            + "\u0000l\u0000r\u0000l\u0000l\u0000a\u0000l\u0000t\u0000o"
+            + "\u0000p\u0000r\u0000a\u0000a\u0000o\u0000c\u0000;\u0000l"
+            + "\u0000c\u0000m\u0000p\u0000r\u0000i\u0000y\u0000o\u0000;"
+            + "\u0000l\u0000q\u0000s\u0000r\u0000;\u0000g\u0000m\u0000c"
+            + "\u0000;\u0000E\u0000a\u0000j\u0000E\u0000a\u0000e\u0000s"
+            + "\u0000p\u0000a\u0000c\u0000i\u0000;\u0000c\u0000d\u0000l"
+            + "\u0000q\u0000r\u0000e\u0000n\u0000r\u0000i\u0000l\u0000m"
+            + "\u0000r\u0000a\u0000i\u0000a\u0000l\u0000r\u0000r\u0000s"
+            + "\u0000a\u0000m\u0000o\u0000p\u0000r\u0000c\u0000l\u0000t"
+            + "\u0000b\u0000p\u0000c\u0000;\u0000i\u0000y\u0000c\u0000x"
+            + "\u0000f\u0000r\u0000r\u0000;\u0000i\u0000n\u0000o\u0000l"
+            + "\u0000a\u0000o\u0000p\u0000;\u0000c\u0000f\u0000o\u0000t"
+            + "\u0000c\u0000g\u0000p\u0000t\u0000r\u0000u\u0000c\u0000i"
+            + "\u0000;\u0000i\u0000k\u0000m\u0000i\u0000y\u0000r\u0000a"
+            + "\u0000p\u0000c\u0000e\u0000k\u0000p\u0000e\u0000y\u0000r"
+            + "\u0000r\u0000c\u0000c\u0000p\u0000c\u0000a\u0000r\u0000t"
+            + "\u0000a\u0000;\u0000g\u0000a\u0000c\u0000e\u0000g\u0000m"
+            + "\u0000n\u0000p\u0000q\u0000r\u0000t\u0000a\u0000b\u0000r"
+            + "\u0000a\u0000e\u0000u\u0000y\u0000c\u0000q\u0000r\u0000s"
+            + "\u0000;\u0000f\u0000g\u0000q\u0000s\u0000i\u0000l\u0000r"
+            + "\u0000;\u0000E\u0000a\u0000b\u0000c\u0000;\u0000a\u0000c"
+            + "\u0000h\u0000t\u0000i\u0000o\u0000E\u0000a\u0000e\u0000s"
+            + "\u0000a\u0000b\u0000n\u0000o\u0000p\u0000t\u0000w\u0000z"
+            + "\u0000a\u0000a\u0000c\u0000h\u0000m\u0000t\u0000a\u0000c"
+            + "\u0000h\u0000i\u0000q\u0000t\u0000;\u0000c\u0000d\u0000h"
+            + "\u0000i\u0000l\u0000q\u0000r\u0000r\u0000e\u0000n\u0000D"
+            + "\u0000c\u0000l\u0000p\u0000r\u0000o\u0000y\u0000a\u0000a"
+            + "\u0000r\u0000o\u0000c\u0000d\u0000n\u0000c\u0000d\u0000p"
+            + "\u0000d\u0000p\u0000;\u0000c\u0000t\u0000;\u0000l\u0000m"
+            + "\u0000g\u0000t\u0000e\u0000l\u0000t\u0000i\u0000D\u0000d"
+            + "\u0000b\u0000c\u0000n\u0000p\u0000t\u0000s\u0000u\u0000a"
+            + "\u0000e\u0000o\u0000u\u0000y\u0000a\u0000;\u0000A\u0000a"
+            + "\u0000d\u0000q\u0000s\u0000x\u0000r\u0000E\u0000e\u0000s"
+            + "\u0000t\u0000A\u0000a\u0000p\u0000;\u0000s\u0000v\u0000c"
+            + "\u0000A\u0000E\u0000a\u0000d\u0000e\u0000s\u0000t\u0000i"
+            + "\u0000p\u0000t\u0000a\u0000o\u0000r\u0000A\u0000a\u0000i"
+            + "\u0000t\u0000c\u0000h\u0000i\u0000m\u0000p\u0000q\u0000u"
+            + "\u0000g\u0000i\u0000l\u0000r\u0000;\u0000m\u0000D\u0000H"
+            + "\u0000a\u0000d\u0000g\u0000i\u0000l\u0000r\u0000s\u0000A"
+            + "\u0000a\u0000n\u0000;\u0000c\u0000s\u0000i\u0000y\u0000a"
+            + "\u0000b\u0000i\u0000o\u0000s\u0000l\u0000c\u0000r\u0000o"
+            + "\u0000r\u0000t\u0000b\u0000m\u0000n\u0000a\u0000c\u0000i"
+            + "\u0000t\u0000a\u0000e\u0000i\u0000p\u0000a\u0000e\u0000l"
+            + "\u0000;\u0000a\u0000d\u0000i\u0000o\u0000s\u0000v\u0000c"
+            + "\u0000l\u0000o\u0000i\u0000m\u0000b\u0000r\u0000y\u0000r"
+            + "\u0000r\u0000i\u0000m\u0000o\u0000;\u0000t\u0000v\u0000a"
+            + "\u0000u\u0000;\u0000i\u0000p\u0000u\u0000;\u0000E\u0000a"
+            + "\u0000c\u0000e\u0000i\u0000n\u0000o\u0000s\u0000u\u0000c"
+            + "\u0000i\u0000n\u0000r\u0000n\u0000p\u0000r\u0000c\u0000a"
+            + "\u0000e\u0000o\u0000a\u0000r\u0000t\u0000a\u0000a\u0000c"
+            + "\u0000d\u0000e\u0000n\u0000q\u0000r\u0000t\u0000a\u0000b"
+            + "\u0000r\u0000a\u0000e\u0000u\u0000y\u0000c\u0000l\u0000q"
+            + "\u0000s\u0000a\u0000c\u0000g\u0000i\u0000l\u0000r\u0000a"
+            + "\u0000o\u0000g\u0000n\u0000s\u0000a\u0000h\u0000m\u0000o"
+            + "\u0000m\u0000a\u0000b\u0000p\u0000t\u0000a\u0000p\u0000a"
+            + "\u0000a\u0000c\u0000h\u0000q\u0000h\u0000i\u0000r\u0000l"
+            + "\u0000;\u0000c\u0000q\u0000;\u0000E\u0000a\u0000c\u0000e"
+            + "\u0000i\u0000n\u0000p\u0000s\u0000y\u0000o\u0000A\u0000a"
+            + "\u0000c\u0000m\u0000s\u0000t\u0000x\u0000r\u0000a\u0000c"
+            + "\u0000o\u0000y\u0000g\u0000m\u0000a\u0000a\u0000e\u0000i"
+            + "\u0000t\u0000f\u0000l\u0000p\u0000a\u0000c\u0000s\u0000u"
+            + "\u0000a\u0000c\u0000e\u0000m\u0000t\u0000a\u0000r\u0000b"
+            + "\u0000c\u0000m\u0000n\u0000p\u0000A\u0000a\u0000n\u0000l"
+            + "\u0000r\u0000u\u0000r\u0000a\u0000e\u0000y\u0000o\u0000l"
+            + "\u0000r\u0000e\u0000i\u0000k\u0000o\u0000l\u0000m\u0000n"
+            + "\u0000e\u0000p\u0000s\u0000r\u0000a\u0000i\u0000p\u0000c"
+            + "\u0000h\u0000t\u0000i\u0000o\u0000r\u0000a\u0000c\u0000r"
+            + "\u0000r\u0000i\u0000y\u0000a\u0000b\u0000h\u0000i\u0000r"
+            + "\u0000r\u0000a\u0000b\u0000c\u0000t\u0000a\u0000l\u0000g"
+            + "\u0000p\u0000a\u0000d\u0000h\u0000l\u0000s\u0000u\u0000c"
+            + "\u0000i\u0000t\u0000c\u0000d\u0000i\u0000r\u0000a\u0000m"
+            + "\u0000a\u0000r\u0000a\u0000a\u0000n\u0000r\u0000y\u0000a"
+            + "\u0000e\u0000l\u0000r\u0000r\u0000t\u0000s\u0000p\u0000r"
+            + "\u0000t\u0000c\u0000u\u0000i\u0000i\u0000d\u0000i\u0000r"
+            + "\u0000p\u0000;\u0000;\u0000e\u0000c\u0000a\u0000i\u0000u"
+            + "\u0000t\u0000r\u0000A\u0000a\u0000;\u0000A\u0000a\u0000a"
+            + "\u0000i\u0000d\u0000p\u0000t\u0000A\u0000a\u0000c\u0000q"
+            + "\u0000p\u0000t\u0000e\u0000e\u0000c\u0000i\u0000y\u0000n"
+            + "\u0000r\u0000c\u0000p\u0000c\u0000c\u0000m\u0000c\u0000a"
+            + "\u0000y\u0000o\u0000e\u0000t\u0000r\u0000c\u0000g\u0000p"
+            + "\u0000c\u0000j\u0000n\u0000i\u0000;\u0000u\u0000e\u0000r"
+            + "\u0000;\u0000;\u0000a\u0000h\u0000c\u0000;\u0000o\u0000f"
+            + "\u0000l\u0000n\u0000r\u0000i\u0000l\u0000l\u0000k\u0000v"
+            + "\u0000w\u0000;\u0000a\u0000n\u0000a\u0000;\u0000f\u0000v"
+            + "\u0000r\u0000p\u0000y\u0000Y\u0000u\u0000;\u0000i\u0000l"
+            + "\u0000r\u0000d\u0000r\u0000n\u0000t\u0000i\u0000t\u0000;"
+            + "\u0000;\u0000c\u0000c\u0000s\u0000o\u0000g\u0000i\u0000t"
+            + "\u0000f\u0000r\u0000n\u0000s\u0000r\u0000;\u0000C\u0000t"
+            + "\u0000y\u0000y\u0000y\u0000g\u0000r\u0000h\u0000r\u0000;"
+            + "\u0000;\u0000t\u0000;\u0000c\u0000m\u0000f\u0000f\u0000;"
+            + "\u0000D\u0000E\u0000b\u0000n\u0000r\u0000r\u0000;\u0000;"
+            + "\u0000u\u0000r\u0000r\u0000;\u0000t\u0000;\u0000a\u0000m"
+            + "\u0000c\u0000t\u0000o\u0000f\u0000i\u0000a\u0000i\u0000r"
+            + "\u0000m\u0000;\u0000l\u0000s\u0000o\u0000;\u0000;\u0000l"
+            + "\u0000f\u0000A\u0000r\u0000r\u0000y\u0000m\u0000e\u0000d"
+            + "\u0000r\u0000;\u0000t\u0000;\u0000f\u0000a\u0000r\u0000D"
+            + "\u0000e\u0000;\u0000r\u0000;\u0000b\u0000f\u0000i\u0000r"
+            + "\u0000r\u0000p\u0000y\u0000i\u0000y\u0000u\u0000r\u0000;"
+            + "\u0000t\u0000;\u0000a\u0000c\u0000g\u0000l\u0000;\u0000e"
+            + "\u0000i\u0000o\u0000f\u0000a\u0000r\u0000l\u0000c\u0000l"
+            + "\u0000r\u0000;\u0000;\u0000f\u0000r\u0000r\u0000c\u0000y"
+            + "\u0000y\u0000p\u0000d\u0000;\u0000;\u0000f\u0000r\u0000y"
+            + "\u0000u\u0000b\u0000g\u0000l\u0000r\u0000r\u0000d\u0000;"
+            + "\u0000t\u0000s\u0000;\u0000f\u0000d\u0000g\u0000f\u0000e"
+            + "\u0000r\u0000;\u0000r\u0000;\u0000;\u0000i\u0000l\u0000;"
+            + "\u0000u\u0000f\u0000r\u0000y\u0000u\u0000r\u0000d\u0000;"
+            + "\u0000a\u0000t\u0000L\u0000;\u0000r\u0000B\u0000f\u0000;"
+            + "\u0000C\u0000D\u0000E\u0000G\u0000H\u0000L\u0000N\u0000P"
+            + "\u0000R\u0000S\u0000T\u0000V\u0000r\u0000l\u0000i\u0000u"
+            + "\u0000r\u0000;\u0000l\u0000;\u0000a\u0000c\u0000g\u0000c"
+            + "\u0000f\u0000n\u0000r\u0000a\u0000l\u0000m\u0000l\u0000r"
+            + "\u0000t\u0000;\u0000;\u0000;\u0000s\u0000n\u0000f\u0000c"
+            + "\u0000m\u0000d\u0000p\u0000r\u0000;\u0000T\u0000;\u0000f"
+            + "\u0000r\u0000r\u0000;\u0000u\u0000g\u0000r\u0000r\u0000d"
+            + "\u0000;\u0000e\u0000;\u0000;\u0000h\u0000f\u0000n\u0000g"
+            + "\u0000r\u0000;\u0000e\u0000H\u0000y\u0000T\u0000u\u0000r"
+            + "\u0000d\u0000r\u0000;\u0000;\u0000r\u0000m\u0000l\u0000f"
+            + "\u0000t\u0000a\u0000r\u0000r\u0000;\u0000s\u0000c\u0000h"
+            + "\u0000;\u0000;\u0000e\u0000s\u0000R\u0000D\u0000c\u0000y"
+            + "\u0000;\u0000;\u0000r\u0000d\u0000;\u0000;\u0000r\u0000t"
+            + "\u0000c\u0000n\u0000d\u0000f\u0000p\u0000r\u0000r\u0000u"
+            + "\u0000r\u0000c\u0000e\u0000r\u0000;\u0000l\u0000;\u0000a"
+            + "\u0000c\u0000e\u0000o\u0000o\u0000f\u0000r\u0000o\u0000q"
+            + "\u0000e\u0000r\u0000o\u0000e\u0000i\u0000n\u0000r\u0000l"
+            + "\u0000l\u0000s\u0000r\u0000;\u0000s\u0000;\u0000b\u0000t"
+            + "\u0000y\u0000;\u0000f\u0000r\u0000a\u0000r\u0000g\u0000;"
+            + "\u0000f\u0000r\u0000;\u0000f\u0000r\u0000y\u0000y\u0000y"
+            + "\u0000u\u0000r\u0000;\u0000;\u0000f\u0000r\u0000l\u0000y"
+            + "\u0000u\u0000r\u0000;\u0000t\u0000o\u0000a\u0000;\u0000f"
+            + "\u0000r\u0000u\u0000e\u0000;\u0000;\u0000r\u0000t\u0000;"
+            + "\u0000i\u0000;\u0000a\u0000f\u0000p\u0000h\u0000c\u0000l"
+            + "\u0000;\u0000;\u0000a\u0000d\u0000s\u0000v\u0000;\u0000e"
+            + "\u0000l\u0000m\u0000r\u0000s\u0000z\u0000o\u0000f\u0000;"
+            + "\u0000c\u0000;\u0000d\u0000s\u0000r\u0000n\u0000r\u0000;"
+            + "\u0000m\u0000l\u0000l\u0000o\u0000n\u0000t\u0000k\u0000v"
+            + "\u0000w\u0000k\u0000n\u0000;\u0000u\u0000a\u0000p\u0000s"
+            + "\u0000n\u0000a\u0000h\u0000w\u0000;\u0000c\u0000o\u0000s"
+            + "\u0000t\u0000u\u0000v\u0000w\u0000r\u0000c\u0000n\u00001"
+            + "\u00003\u0000c\u0000;\u0000q\u0000t\u0000f\u0000;\u0000t"
+            + "\u0000t\u0000D\u0000H\u0000U\u0000V\u0000b\u0000d\u0000h"
+            + "\u0000m\u0000p\u0000t\u0000u\u0000v\u0000i\u0000v\u0000b"
+            + "\u0000r\u0000m\u0000m\u0000l\u0000l\u0000p\u0000u\u0000;"
+            + "\u0000a\u0000b\u0000c\u0000d\u0000s\u0000e\u0000o\u0000p"
+            + "\u0000r\u0000d\u0000r\u0000p\u0000t\u0000i\u0000p\u0000t"
+            + "\u0000;\u0000y\u0000c\u0000;\u0000;\u0000E\u0000c\u0000e"
+            + "\u0000f\u0000m\u0000s\u0000b\u0000o\u0000m\u0000p\u0000g"
+            + "\u0000i\u0000f\u0000r\u0000y\u0000r\u0000s\u0000r\u0000b"
+            + "\u0000p\u0000o\u0000a\u0000p\u0000s\u0000a\u0000;\u0000b"
+            + "\u0000c\u0000d\u0000o\u0000s\u0000a\u0000l\u0000r\u0000v"
+            + "\u0000e\u0000e\u0000o\u0000n\u0000c\u0000r\u0000r\u0000g"
+            + "\u0000e\u0000r\u0000h\u0000a\u0000a\u0000r\u0000;\u0000g"
+            + "\u0000r\u0000t\u0000;\u0000t\u0000p\u0000s\u0000;\u0000r"
+            + "\u0000m\u0000;\u0000a\u0000i\u0000;\u0000i\u0000o\u0000y"
+            + "\u0000o\u0000r\u0000l\u0000f\u0000;\u0000e\u0000m\u0000p"
+            + "\u0000s\u0000b\u0000n\u0000k\u0000o\u0000r\u0000r\u0000y"
+            + "\u0000l\u0000r\u0000o\u0000i\u0000r\u0000a\u0000n\u0000y"
+            + "\u0000g\u0000o\u0000t\u0000u\u0000t\u0000r\u0000r\u0000l"
+            + "\u0000;\u0000t\u0000o\u0000;\u0000a\u0000;\u0000d\u0000n"
+            + "\u0000;\u0000;\u0000d\u0000c\u0000t\u0000p\u0000;\u0000p"
+            + "\u0000o\u0000f\u0000r\u0000u\u0000i\u0000i\u0000o\u0000i"
+            + "\u0000l\u0000a\u0000e\u0000i\u0000p\u0000o\u0000r\u0000r"
+            + "\u0000o\u0000m\u0000;\u0000;\u0000l\u0000o\u0000l\u0000s"
+            + "\u0000e\u0000o\u0000l\u0000;\u0000a\u0000l\u0000i\u0000l"
+            + "\u0000;\u0000i\u0000i\u0000t\u0000i\u0000n\u0000f\u0000f"
+            + "\u0000a\u0000k\u0000r\u0000c\u0000s\u0000w\u0000r\u0000;"
+            + "\u0000u\u0000m\u0000;\u0000e\u0000r\u0000;\u0000t\u0000;"
+            + "\u0000;\u0000q\u0000s\u0000;\u0000c\u0000d\u0000l\u0000;"
+            + "\u0000;\u0000e\u0000y\u0000;\u0000;\u0000;\u0000;\u0000p"
+            + "\u0000;\u0000q\u0000i\u0000f\u0000v\u0000r\u0000m\u0000c"
+            + "\u0000i\u0000o\u0000P\u0000u\u0000a\u0000d\u0000e\u0000l"
+            + "\u0000s\u0000r\u0000E\u0000r\u0000r\u0000f\u0000i\u0000d"
+            + "\u0000r\u0000r\u0000r\u0000r\u0000l\u0000c\u0000;\u0000e"
+            + "\u0000w\u0000r\u0000t\u0000k\u0000f\u0000b\u0000r\u0000a"
+            + "\u0000r\u0000u\u0000h\u0000u\u0000r\u0000;\u0000y\u0000c"
+            + "\u0000;\u0000;\u0000a\u0000i\u0000n\u0000f\u0000t\u0000i"
+            + "\u0000c\u0000g\u0000t\u0000f\u0000e\u0000a\u0000i\u0000d"
+            + "\u0000;\u0000c\u0000e\u0000l\u0000p\u0000y\u0000o\u0000f"
+            + "\u0000a\u0000o\u0000e\u0000r\u0000n\u0000l\u0000c\u0000l"
+            + "\u0000r\u0000;\u0000;\u0000t\u0000f\u0000r\u0000r\u0000c"
+            + "\u0000p\u0000d\u0000;\u0000;\u0000e\u0000y\u0000y\u0000f"
+            + "\u0000r\u0000r\u0000r\u0000a\u0000r\u0000;\u0000r\u0000u"
+            + "\u0000m\u0000r\u0000b\u0000g\u0000;\u0000u\u0000r\u0000;"
+            + "\u0000a\u0000e\u0000r\u0000r\u0000a\u0000k\u0000r\u0000d"
+            + "\u0000i\u0000b\u0000;\u0000a\u0000u\u0000d\u0000u\u0000h"
+            + "\u0000t\u0000;\u0000;\u0000q\u0000s\u0000;\u0000c\u0000d"
+            + "\u0000g\u0000s\u0000s\u0000o\u0000;\u0000;\u0000r\u0000l"
+            + "\u0000y\u0000r\u0000o\u0000a\u0000r\u0000d\u0000u\u0000;"
+            + "\u0000p\u0000;\u0000q\u0000i\u0000n\u0000r\u0000r\u0000g"
+            + "\u0000p\u0000a\u0000f\u0000l\u0000i\u0000a\u0000b\u0000;"
+            + "\u0000e\u0000f\u0000r\u0000r\u0000o\u0000a\u0000;\u0000r"
+            + "\u0000q\u0000r\u0000;\u0000m\u0000b\u0000u\u0000r\u0000c"
+            + "\u0000i\u0000o\u0000r\u0000m\u0000a\u0000u\u0000P\u0000i"
+            + "\u0000d\u0000u\u0000r\u0000E\u0000o\u0000r\u0000e\u0000t"
+            + "\u0000;\u0000s\u0000k\u0000m\u0000;\u0000s\u0000s\u0000;"
+            + "\u0000;\u0000r\u0000;\u0000a\u0000c\u0000d\u0000u\u0000p"
+            + "\u0000r\u0000l\u0000e\u0000f\u0000r\u0000p\u0000t\u0000a"
+            + "\u0000;\u0000;\u0000v\u0000f\u0000;\u0000;\u0000v\u0000g"
+            + "\u0000a\u0000a\u0000l\u0000u\u0000g\u0000;\u0000E\u0000i"
+            + "\u0000o\u0000p\u0000u\u0000p\u0000m\u0000p\u0000r\u0000d"
+            + "\u0000n\u0000p\u0000;\u0000s\u0000r\u0000r\u0000o\u0000u"
+            + "\u0000e\u0000i\u0000i\u0000;\u0000;\u0000;\u0000q\u0000s"
+            + "\u0000i\u0000;\u0000r\u0000r\u0000r\u0000a\u0000;\u0000d"
+            + "\u0000;\u0000y\u0000r\u0000;\u0000r\u0000r\u0000;\u0000f"
+            + "\u0000q\u0000s\u0000i\u0000;\u0000r\u0000d\u0000f\u0000;"
+            + "\u0000i\u0000n\u0000r\u0000l\u0000;\u0000c\u0000e\u0000r"
+            + "\u0000r\u0000g\u0000r\u0000;\u0000c\u0000e\u0000r\u0000o"
+            + "\u0000m\u0000i\u0000a\u0000s\u0000b\u0000c\u0000p\u0000l"
+            + "\u0000l\u0000g\u0000i\u0000;\u0000e\u0000s\u0000a\u0000a"
+            + "\u0000p\u0000a\u0000e\u0000t\u0000n\u0000A\u0000e\u0000t"
+            + "\u0000A\u0000t\u0000i\u0000r\u0000r\u0000e\u0000u\u0000t"
+            + "\u0000r\u0000;\u0000s\u0000l\u0000v\u0000t\u0000o\u0000i"
+            + "\u0000i\u0000;\u0000n\u0000a\u0000;\u0000a\u0000;\u0000t"
+            + "\u0000r\u0000i\u0000r\u0000n\u0000;\u0000c\u0000g\u0000c"
+            + "\u0000d\u0000n\u0000f\u0000r\u0000r\u0000u\u0000r\u0000;"
+            + "\u0000e\u0000f\u0000m\u0000g\u0000r\u0000l\u0000;\u0000r"
+            + "\u0000a\u0000l\u0000l\u0000m\u0000l\u0000a\u0000;\u0000a"
+            + "\u0000s\u0000t\u0000;\u0000c\u0000i\u0000m\u0000p\u0000t"
+            + "\u0000;\u0000;\u0000v\u0000m\u0000n\u0000c\u0000;\u0000n"
+            + "\u0000s\u0000n\u0000f\u0000n\u0000;\u0000p\u0000u\u0000;"
+            + "\u0000c\u0000m\u0000E\u0000a\u0000s\u0000d\u0000f\u0000p"
+            + "\u0000i\u0000r\u0000r\u0000;\u0000c\u0000;\u0000t\u0000f"
+            + "\u0000i\u0000r\u0000t\u0000s\u0000t\u0000r\u0000r\u0000a"
+            + "\u0000r\u0000r\u0000e\u0000u\u0000i\u0000m\u0000g\u0000u"
+            + "\u0000r\u0000a\u0000i\u0000r\u0000r\u0000a\u0000k\u0000r"
+            + "\u0000d\u0000i\u0000b\u0000;\u0000a\u0000d\u0000u\u0000h"
+            + "\u0000l\u0000t\u0000;\u0000s\u0000o\u0000;\u0000r\u0000;"
+            + "\u0000v\u0000h\u0000g\u0000i\u0000r\u0000a\u0000;\u0000u"
+            + "\u0000i\u0000n\u0000r\u0000r\u0000a\u0000f\u0000l\u0000i"
+            + "\u0000r\u0000o\u0000r\u0000q\u0000r\u0000;\u0000b\u0000u"
+            + "\u0000r\u0000m\u0000i\u0000u\u0000u\u0000u\u0000;\u0000p"
+            + "\u0000r\u0000u\u0000;\u0000d\u0000r\u0000E\u0000a\u0000s"
+            + "\u0000o\u0000i\u0000;\u0000t\u0000r\u0000r\u0000t\u0000i"
+            + "\u0000w\u0000m\u0000t\u0000;\u0000o\u0000r\u0000h\u0000y"
+            + "\u0000r\u0000;\u0000m\u0000;\u0000d\u0000e\u0000g\u0000l"
+            + "\u0000n\u0000p\u0000r\u0000r\u0000l\u0000s\u0000p\u0000d"
+            + "\u0000l\u0000;\u0000e\u0000t\u0000;\u0000b\u0000f\u0000d"
+            + "\u0000r\u0000a\u0000u\u0000u\u0000;\u0000a\u0000f\u0000r"
+            + "\u0000r\u0000t\u0000i\u0000a\u0000r\u0000a\u0000n\u0000;"
+            + "\u0000E\u0000d\u0000e\u0000m\u0000n\u0000p\u0000r\u0000s"
+            + "\u0000c\u0000;\u0000g\u00001\u00002\u00003\u0000;\u0000E"
+            + "\u0000d\u0000e\u0000h\u0000l\u0000m\u0000n\u0000p\u0000s"
+            + "\u0000r\u0000r\u0000w\u0000i\u0000g\u0000;\u0000k\u0000r"
+            + "\u0000d\u0000;\u0000t\u0000r\u0000;\u0000r\u0000t\u0000c"
+            + "\u0000n\u0000a\u0000s\u0000r\u0000d\u0000e\u0000t\u0000a"
+            + "\u0000;\u0000b\u0000c\u0000f\u0000a\u0000i\u0000d\u0000a"
+            + "\u0000d\u0000e\u0000m\u0000p\u0000s\u0000t\u0000e\u0000r"
+            + "\u0000y\u0000c\u0000r\u0000x\u0000h\u0000r\u0000r\u0000u"
+            + "\u0000r\u0000c\u0000e\u0000r\u0000;\u0000r\u0000l\u0000a"
+            + "\u0000s\u0000;\u0000a\u0000r\u0000l\u0000o\u0000r\u0000r"
+            + "\u0000c\u0000;\u0000o\u0000f\u0000r\u0000o\u0000a\u0000u"
+            + "\u0000i\u0000p\u0000o\u0000r\u0000n\u0000r\u0000r\u0000o"
+            + "\u0000l\u0000i\u0000r\u0000l\u0000n\u0000r\u0000r\u0000s"
+            + "\u0000g\u0000e\u0000k\u0000n\u0000p\u0000r\u0000s\u0000t"
+            + "\u0000;\u0000s\u0000;\u0000b\u0000e\u0000l\u0000b\u0000t"
+            + "\u0000;\u0000r\u0000u\u0000f\u0000o\u0000r\u0000r\u0000b"
+            + "\u0000p\u0000g\u0000r\u0000b\u0000g\u0000e\u0000;\u0000f"
+            + "\u0000a\u0000r\u0000p\u0000r\u0000p\u0000r\u0000;\u0000r"
+            + "\u0000r\u0000r\u0000r\u0000p\u0000s\u0000o\u0000f\u0000l"
+            + "\u0000i\u0000r\u0000r\u0000r\u0000c\u0000l\u0000r\u0000e"
+            + "\u0000d\u0000u\u0000y\u0000r\u0000;\u0000;\u0000;\u0000y"
+            + "\u0000f\u0000r\u0000y\u0000l\u0000u\u0000r\u0000;\u0000t"
+            + "\u0000t\u0000a\u0000;\u0000y\u0000r\u0000f\u0000r\u0000;"
+            + "\u0000j\u0000g\u0000t\u0000v\u0000c\u0000v\u0000a\u0000r"
+            + "\u0000n\u0000;\u0000y\u0000g\u0000;\u0000g\u0000d\u0000;"
+            + "\u0000s\u0000;\u0000e\u0000u\u0000o\u0000;\u0000;\u0000e"
+            + "\u0000;\u0000e\u0000;\u0000;\u0000t\u0000t\u0000e\u0000o"
+            + "\u0000i\u0000c\u0000i\u0000;\u0000l\u0000e\u0000l\u0000k"
+            + "\u0000e\u0000n\u0000r\u0000n\u0000o\u0000;\u0000o\u0000t"
+            + "\u0000s\u0000;\u0000a\u0000r\u0000;\u0000;\u0000;\u0000e"
+            + "\u0000;\u0000v\u0000o\u0000a\u0000r\u0000o\u0000e\u0000;"
+            + "\u0000o\u0000q\u0000l\u0000A\u0000B\u0000L\u0000R\u0000T"
+            + "\u0000a\u0000;\u0000o\u0000t\u0000o\u0000c\u0000;\u0000v"
+            + "\u0000e\u0000r\u0000y\u0000n\u0000;\u0000l\u0000l\u0000l"
+            + "\u0000;\u0000;\u0000;\u0000t\u0000n\u0000e\u0000;\u0000l"
+            + "\u0000i\u0000;\u0000;\u0000a\u0000v\u0000i\u0000c\u0000;"
+            + "\u0000;\u0000t\u0000;\u0000c\u0000k\u0000c\u0000e\u0000;"
+            + "\u0000z\u0000;\u0000o\u0000D\u0000E\u0000;\u0000g\u0000;"
+            + "\u0000t\u0000c\u0000;\u0000v\u0000r\u0000i\u0000i\u0000g"
+            + "\u0000r\u0000s\u0000n\u0000;\u0000;\u0000;\u0000d\u0000y"
+            + "\u0000;\u0000c\u0000;\u0000;\u0000c\u0000y\u0000;\u0000;"
+            + "\u0000a\u0000i\u0000;\u0000;\u0000;\u0000t\u0000d\u0000;"
+            + "\u0000a\u0000;\u0000o\u0000i\u0000A\u0000C\u0000D\u0000F"
+            + "\u0000R\u0000T\u0000U\u0000V\u0000a\u0000r\u0000E\u0000F"
+            + "\u0000G\u0000L\u0000S\u0000T\u0000t\u0000o\u0000L\u0000R"
+            + "\u0000l\u0000r\u0000;\u0000r\u0000;\u0000o\u0000u\u0000i"
+            + "\u0000s\u0000;\u0000;\u0000;\u0000t\u0000o\u0000i\u0000t"
+            + "\u0000e\u0000i\u0000e\u0000r\u0000;\u0000o\u0000u\u0000o"
+            + "\u0000l\u0000q\u0000x\u0000r\u0000u\u0000e\u0000e\u0000r"
+            + "\u0000e\u0000i\u0000q\u0000u\u0000i\u0000e\u0000;\u0000d"
+            + "\u0000g\u0000t\u0000c\u0000a\u0000v\u0000r\u0000a\u0000r"
+            + "\u0000;\u0000C\u0000;\u0000s\u0000d\u0000e\u0000;\u0000B"
+            + "\u0000P\u0000i\u0000M\u0000c\u0000;\u0000e\u0000e\u0000u"
+            + "\u0000o\u0000;\u0000;\u0000;\u0000;\u0000r\u0000t\u0000;"
+            + "\u0000;\u0000t\u0000o\u0000i\u0000r\u0000t\u0000;\u0000d"
+            + "\u0000h\u0000;\u0000D\u0000c\u0000;\u0000c\u0000t\u0000o"
+            + "\u0000i\u0000c\u0000t\u0000a\u0000l\u0000;\u0000;\u0000r"
+            + "\u0000;\u0000;\u0000e\u0000e\u0000T\u0000r\u0000e\u0000N"
+            + "\u0000E\u0000y\u0000;\u0000o\u0000i\u0000e\u0000a\u0000k"
+            + "\u0000S\u0000e\u0000;\u0000l\u0000;\u0000o\u0000t\u0000;"
+            + "\u0000o\u0000y\u0000v\u0000c\u0000a\u0000v\u0000r\u0000r"
+            + "\u0000n\u0000n\u0000;\u0000r\u0000w\u0000u\u0000e\u0000r"
+            + "\u0000w\u0000r\u0000;\u0000l\u0000g\u0000;\u0000d\u0000;"
+            + "\u0000h\u0000;\u0000h\u0000a\u0000;\u0000i\u0000T\u0000;"
+            + "\u0000;\u0000s\u0000c\u0000e\u0000;\u0000;\u0000;\u0000;"
+            + "\u0000;\u0000;\u0000;\u0000t\u0000c\u0000;\u0000;\u0000;"
+            + "\u0000;\u0000t\u0000o\u0000;\u0000W\u0000;\u0000;\u0000;"
+            + "\u0000t\u0000v\u0000c\u0000e\u0000g\u0000v\u0000s\u0000h"
+            + "\u0000a\u0000r\u0000g\u0000n\u0000;\u0000l\u0000;\u0000;"
+            + "\u0000e\u0000s\u0000t\u0000p\u0000t\u0000a\u0000n\u0000;"
+            + "\u0000i\u0000;\u0000;\u0000o\u0000g\u0000;\u0000p\u0000d"
+            + "\u0000;\u0000n\u0000t\u0000;\u0000c\u0000e\u0000p\u0000s"
+            + "\u0000e\u0000e\u0000;\u0000t\u0000g\u0000o\u0000u\u0000t"
+            + "\u0000i\u0000o\u0000;\u0000;\u0000e\u0000a\u0000i\u0000u"
+            + "\u0000d\u0000p\u0000t\u0000q\u0000t\u0000r\u0000p\u0000e"
+            + "\u0000e\u0000o\u0000k\u0000k\u00002\u00004\u00004\u0000k"
+            + "\u0000u\u0000;\u0000;\u0000o\u0000i\u0000L\u0000R\u0000l"
+            + "\u0000r\u0000;\u0000D\u0000U\u0000d\u0000u\u0000L\u0000R"
+            + "\u0000l\u0000r\u0000;\u0000H\u0000L\u0000R\u0000h\u0000l"
+            + "\u0000r\u0000o\u0000L\u0000R\u0000l\u0000r\u0000;\u0000D"
+            + "\u0000U\u0000d\u0000u\u0000i\u0000l\u0000i\u0000L\u0000R"
+            + "\u0000l\u0000r\u0000;\u0000H\u0000L\u0000R\u0000h\u0000l"
+            + "\u0000r\u0000m\u0000e\u0000a\u0000;\u0000i\u0000;\u0000e"
+            + "\u0000;\u0000b\u0000h\u0000;\u0000e\u0000;\u0000E\u0000e"
+            + "\u0000t\u0000n\u0000r\u0000a\u0000u\u0000o\u0000;\u0000t"
+            + "\u0000n\u0000s\u0000o\u0000i\u0000c\u0000s\u0000;\u0000l"
+            + "\u0000t\u0000;\u0000e\u0000;\u0000k\u0000;\u0000;\u0000e"
+            + "\u0000l\u0000;\u0000n\u0000i\u0000c\u0000s\u0000n\u0000a"
+            + "\u0000;\u0000f\u0000l\u0000;\u0000d\u0000n\u0000;\u0000o"
+            + "\u0000;\u0000s\u0000r\u0000s\u0000;\u0000;\u0000e\u0000;"
+            + "\u0000e\u0000t\u0000r\u0000r\u0000c\u0000r\u0000r\u0000a"
+            + "\u0000u\u0000o\u0000r\u0000;\u0000r\u0000y\u0000e\u0000e"
+            + "\u0000e\u0000d\u0000n\u0000t\u0000t\u0000;\u0000;\u0000e"
+            + "\u0000t\u0000;\u0000;\u0000v\u0000r\u0000c\u0000o\u0000g"
+            + "\u0000r\u0000s\u0000a\u0000t\u0000h\u0000l\u0000r\u0000;"
+            + "\u0000o\u0000s\u0000m\u0000n\u0000d\u0000n\u0000;\u0000r"
+            + "\u0000o\u0000a\u0000;\u0000q\u0000i\u0000l\u0000q\u0000l"
+            + "\u0000a\u0000d\u0000h\u0000a\u0000r\u0000o\u0000;\u0000;"
+            + "\u0000;\u0000o\u0000t\u0000;\u0000f\u0000r\u0000r\u0000g"
+            + "\u0000;\u0000r\u0000t\u0000;\u0000t\u0000e\u0000o\u0000;"
+            + "\u0000c\u0000o\u0000;\u0000t\u0000v\u0000o\u0000t\u0000o"
+            + "\u0000r\u0000y\u00001\u0000;\u0000;\u0000n\u0000;\u0000;"
+            + "\u0000s\u0000s\u0000;\u0000l\u0000v\u0000r\u0000l\u0000m"
+            + "\u0000a\u0000l\u0000s\u0000v\u0000a\u0000t\u0000r\u0000;"
+            + "\u0000t\u0000;\u0000;\u0000;\u0000;\u0000t\u0000c\u0000n"
+            + "\u0000i\u0000l\u0000i\u0000g\u0000i\u0000g\u0000g\u0000;"
+            + "\u0000g\u0000s\u0000;\u0000;\u0000l\u0000;\u0000v\u0000t"
+            + "\u00001\u00002\u00003\u00004\u00005\u00007\u0000l\u0000n"
+            + "\u0000;\u0000t\u0000a\u0000v\u0000c\u0000;\u0000;\u0000l"
+            + "\u0000c\u0000o\u0000;\u0000e\u0000l\u0000;\u0000;\u0000p"
+            + "\u0000;\u0000q\u0000m\u0000;\u0000e\u0000;\u0000;\u0000e"
+            + "\u0000l\u0000;\u0000r\u0000t\u0000a\u0000e\u0000p\u0000r"
+            + "\u0000o\u0000q\u0000e\u0000i\u0000t\u0000;\u0000;\u0000s"
+            + "\u0000;\u0000l\u0000c\u0000;\u0000c\u0000w\u0000;\u0000c"
+            + "\u0000t\u0000i\u0000o\u0000a\u0000a\u0000r\u0000h\u0000l"
+            + "\u0000r\u0000;\u0000a\u0000;\u0000s\u0000o\u0000l\u0000e"
+            + "\u0000t\u0000c\u0000;\u0000l\u0000v\u0000n\u0000t\u0000i"
+            + "\u0000a\u0000g\u0000r\u0000e\u0000l\u0000p\u0000h\u0000;"
+            + "\u0000d\u0000r\u0000n\u0000o\u0000a\u0000g\u0000r\u0000a"
+            + "\u0000r\u0000;\u0000n\u0000;\u0000;\u0000d\u0000s\u0000;"
+            + "\u0000;\u0000E\u0000d\u0000s\u0000v\u0000d\u0000y\u0000;"
+            + "\u0000c\u0000h\u0000;\u0000;\u0000c\u0000y\u0000a\u0000i"
+            + "\u0000e\u0000;\u0000;\u0000;\u0000;\u0000r\u0000;\u0000i"
+            + "\u0000r\u0000;\u0000t\u0000p\u0000a\u0000d\u0000;\u0000d"
+            + "\u0000l\u0000o\u0000;\u0000b\u0000f\u0000h\u0000l\u0000p"
+            + "\u0000s\u0000t\u0000i\u0000;\u0000s\u0000r\u0000k\u0000c"
+            + "\u0000e\u0000s\u0000o\u0000i\u0000l\u0000;\u0000;\u0000o"
+            + "\u0000h\u0000s\u0000;\u0000a\u0000h\u0000l\u0000r\u0000t"
+            + "\u0000;\u0000l\u0000c\u0000o\u0000;\u0000e\u0000a\u0000d"
+            + "\u0000e\u0000g\u0000s\u0000h\u0000o\u0000d\u0000u\u0000k"
+            + "\u0000;\u0000r\u0000r\u0000r\u0000i\u0000o\u0000s\u0000;"
+            + "\u0000p\u0000;\u0000q\u0000m\u0000g\u0000r\u0000k\u0000l"
+            + "\u0000m\u0000r\u0000a\u0000r\u0000;\u0000u\u0000m\u0000s"
+            + "\u0000a\u0000n\u0000;\u0000;\u0000l\u0000r\u0000r\u0000r"
+            + "\u0000i\u0000u\u0000;\u0000;\u0000e\u0000g\u0000;\u0000o"
+            + "\u0000o\u0000;\u0000r\u0000t\u0000e\u0000e\u0000r\u0000e"
+            + "\u0000a\u0000;\u0000e\u0000f\u0000s\u0000h\u0000t\u0000;"
+            + "\u0000t\u0000;\u0000;\u0000;\u0000e\u0000t\u0000e\u0000m"
+            + "\u0000h\u0000u\u0000o\u0000s\u0000i\u0000o\u0000s\u0000;"
+            + "\u0000;\u0000u\u0000l\u0000;\u0000;\u0000o\u0000i\u0000p"
+            + "\u0000;\u0000t\u0000;\u0000h\u0000s\u0000s\u0000a\u0000t"
+            + "\u0000;\u0000;\u0000d\u0000s\u0000r\u0000r\u0000;\u0000p"
+            + "\u0000;\u0000o\u0000i\u0000g\u0000;\u0000h\u0000r\u0000h"
+            + "\u0000r\u0000t\u0000i\u0000a\u0000m\u0000s\u0000;\u0000q"
+            + "\u0000s\u0000;\u0000m\u0000;\u0000r\u0000r\u0000r\u0000;"
+            + "\u0000;\u0000r\u0000r\u0000;\u0000t\u0000;\u0000q\u0000s"
+            + "\u0000;\u0000s\u0000m\u0000i\u0000;\u0000;\u0000n\u0000i"
+            + "\u0000;\u0000a\u0000s\u0000t\u0000i\u0000u\u0000;\u0000c"
+            + "\u0000r\u0000r\u0000h\u0000i\u0000u\u0000;\u0000;\u0000r"
+            + "\u0000;\u0000e\u0000d\u0000r\u0000u\u0000;\u0000E\u0000e"
+            + "\u0000s\u0000c\u0000;\u0000E\u0000e\u0000s\u0000;\u0000d"
+            + "\u0000;\u0000a\u0000r\u0000p\u0000s\u0000r\u0000;\u0000s"
+            + "\u0000;\u0000;\u0000f\u0000r\u0000;\u0000;\u0000r\u0000r"
+            + "\u0000r\u0000m\u0000r\u0000h\u0000r\u0000a\u0000t\u0000;"
+            + "\u0000;\u0000c\u0000h\u0000a\u0000;\u0000;\u0000l\u0000g"
+            + "\u0000r\u0000;\u0000v\u0000r\u0000;\u0000r\u0000r\u0000o"
+            + "\u0000e\u0000r\u0000a\u0000r\u0000;\u0000u\u0000;\u0000;"
+            + "\u0000p\u0000s\u0000r\u0000r\u0000;\u0000;\u0000o\u0000;"
+            + "\u0000o\u0000;\u0000s\u0000;\u0000d\u0000e\u0000;\u0000r"
+            + "\u0000;\u0000l\u0000i\u0000l\u0000;\u0000n\u0000o\u0000i"
+            + "\u0000;\u0000e\u0000;\u0000a\u0000e\u0000h\u0000c\u0000k"
+            + "\u0000;\u0000a\u0000b\u0000c\u0000d\u0000e\u0000m\u0000s"
+            + "\u0000t\u0000t\u0000;\u0000d\u0000;\u0000e\u0000;\u0000a"
+            + "\u0000c\u0000e\u0000n\u0000s\u0000e\u0000;\u0000p\u0000i"
+            + "\u0000;\u0000a\u0000l\u0000s\u0000;\u0000t\u0000m\u0000e"
+            + "\u0000;\u0000s\u0000;\u0000;\u0000m\u0000;\u0000e\u0000i"
+            + "\u0000t\u0000;\u0000r\u0000;\u0000i\u0000r\u0000;\u0000;"
+            + "\u0000t\u0000c\u0000p\u0000;\u0000d\u0000e\u0000l\u0000o"
+            + "\u0000;\u0000a\u0000b\u0000c\u0000f\u0000h\u0000l\u0000p"
+            + "\u0000s\u0000t\u0000w\u0000i\u0000o\u0000r\u0000k\u0000c"
+            + "\u0000e\u0000s\u0000o\u0000i\u0000l\u0000;\u0000;\u0000h"
+            + "\u0000o\u0000;\u0000;\u0000i\u0000p\u0000s\u0000;\u0000h"
+            + "\u0000o\u0000d\u0000u\u0000;\u0000t\u0000;\u0000n\u0000r"
+            + "\u0000r\u0000s\u0000d\u0000g\u0000r\u0000k\u0000r\u0000;"
+            + "\u0000u\u0000m\u0000;\u0000g\u0000l\u0000r\u0000u\u0000;"
+            + "\u0000;\u0000o\u0000e\u0000e\u0000;\u0000e\u0000f\u0000l"
+            + "\u0000h\u0000t\u0000o\u0000;\u0000o\u0000e\u0000i\u0000c"
+            + "\u0000;\u0000p\u0000i\u0000l\u0000m\u0000;\u0000b\u0000e"
+            + "\u0000r\u0000h\u0000r\u0000;\u0000;\u0000a\u0000i\u0000n"
+            + "\u0000;\u0000w\u0000p\u0000c\u0000;\u0000t\u0000a\u0000o"
+            + "\u0000;\u0000q\u0000;\u0000E\u0000;\u0000E\u0000e\u0000l"
+            + "\u0000a\u0000r\u0000l\u0000h\u0000a\u0000;\u0000e\u0000;"
+            + "\u0000s\u0000c\u0000;\u0000a\u0000;\u0000e\u0000;\u0000p"
+            + "\u0000p\u0000b\u0000p\u0000r\u0000;\u0000r\u0000;\u0000m"
+            + "\u0000l\u0000r\u0000;\u0000f\u0000i\u0000s\u0000;\u0000o"
+            + "\u0000;\u0000d\u0000u\u0000E\u0000e\u0000l\u0000a\u0000e"
+            + "\u0000i\u0000u\u0000;\u0000a\u0000c\u0000e\u0000n\u0000s"
+            + "\u0000;\u0000;\u0000;\u0000;\u0000;\u0000o\u0000s\u0000;"
+            + "\u0000d\u0000s\u0000a\u0000u\u0000E\u0000e\u0000l\u0000e"
+            + "\u0000i\u0000u\u0000r\u0000h\u0000r\u0000a\u0000g\u0000e"
+            + "\u0000;\u0000o\u0000i\u0000;\u0000e\u0000e\u0000a\u0000k"
+            + "\u0000s\u0000p\u0000i\u0000n\u0000e\u0000s\u0000;\u0000;"
+            + "\u0000o\u0000i\u0000;\u0000o\u0000;\u0000m\u0000e\u0000n"
+            + "\u0000o\u0000;\u0000i\u0000l\u0000b\u0000i\u0000z\u0000;"
+            + "\u0000;\u0000y\u0000o\u0000t\u0000e\u0000;\u0000;\u0000t"
+            + "\u0000;\u0000y\u0000v\u0000c\u0000r\u0000a\u0000r\u0000h"
+            + "\u0000v\u0000l\u0000r\u0000k\u0000r\u0000o\u0000i\u0000r"
+            + "\u0000n\u0000;\u0000r\u0000w\u0000r\u0000s\u0000;\u0000h"
+            + "\u0000l\u0000a\u0000r\u0000o\u0000g\u0000i\u0000;\u0000t"
+            + "\u0000d\u0000;\u0000f\u0000r\u0000;\u0000g\u0000;\u0000;"
+            + "\u0000v\u0000h\u0000r\u0000p\u0000a\u0000o\u0000h\u0000i"
+            + "\u0000r\u0000;\u0000h\u0000i\u0000u\u0000h\u0000r\u0000h"
+            + "\u0000a\u0000q\u0000i\u0000a\u0000;\u0000i\u0000b\u0000p"
+            + "\u0000;\u0000p\u0000i\u0000;\u0000n\u0000n\u0000z\u0000c"
+            + "\u0000a\u0000e\u0000r\u0000;\u0000t\u0000;\u0000;\u0000c"
+            + "\u0000;\u0000i\u0000r\u0000r\u0000r\u0000r\u0000;\u0000;"
+            + "\u0000t\u0000;\u0000u\u0000m\u0000r\u0000r\u0000;\u0000u"
+            + "\u0000u\u0000i\u0000;\u0000g\u0000t\u0000;\u0000c\u0000;"
+            + "\u0000;\u0000;\u0000;\u0000;\u0000t\u0000o\u0000;\u0000r"
+            + "\u0000;\u0000;\u0000a\u0000;\u0000;\u0000;\u0000;\u0000e"
+            + "\u0000e\u0000;\u0000e\u0000;\u0000;\u0000;\u0000F\u0000;"
+            + "\u0000n\u0000e\u0000l\u0000d\u0000s\u0000u\u0000;\u0000q"
+            + "\u0000e\u0000a\u0000y\u0000n\u0000l\u0000;\u0000n\u0000l"
+            + "\u0000r\u0000e\u0000w\u0000C\u0000;\u0000e\u0000u\u0000t"
+            + "\u0000u\u0000d\u0000e\u0000;\u0000p\u0000a\u0000r\u0000;"
+            + "\u0000n\u0000;\u0000i\u0000n\u0000r\u0000t\u0000u\u0000e"
+            + "\u0000r\u0000r\u0000e\u0000i\u0000e\u0000r\u0000k\u0000e"
+            + "\u0000n\u0000;\u0000e\u0000n\u0000;\u0000S\u0000V\u0000;"
+            + "\u0000o\u0000;\u0000T\u0000i\u0000s\u0000e\u0000d\u0000l"
+            + "\u0000e\u0000;\u0000d\u0000e\u0000l\u0000;\u0000e\u0000y"
+            + "\u0000;\u0000;\u0000r\u0000o\u0000k\u0000o\u0000q\u0000;"
+            + "\u0000e\u0000;\u0000e\u0000;\u0000n\u0000e\u0000r\u0000s"
+            + "\u0000i\u0000;\u0000e\u0000;\u0000;\u0000y\u0000;\u0000;"
+            + "\u0000l\u0000e\u0000a\u0000c\u0000n\u0000l\u0000n\u0000r"
+            + "\u0000e\u0000o\u0000l\u0000i\u0000e\u0000r\u0000p\u0000e"
+            + "\u0000r\u0000i\u0000q\u0000u\u0000r\u0000e\u0000l\u0000i"
+            + "\u0000a\u0000t\u0000e\u0000i\u0000e\u0000i\u0000L\u0000R"
+            + "\u0000k\u0000m\u0000n\u0000P\u0000e\u0000n\u0000l\u0000i"
+            + "\u0000d\u0000n\u0000a\u0000e\u0000n\u0000p\u0000u\u0000e"
+            + "\u0000u\u0000i\u0000e\u0000m\u0000f\u0000s\u0000s\u0000e"
+            + "\u0000v\u0000g\u0000u\u0000b\u0000c\u0000p\u0000l\u0000r"
+            + "\u0000e\u0000;\u0000e\u0000;\u0000c\u0000e\u0000;\u0000;"
+            + "\u0000o\u0000u\u0000h\u0000e\u0000s\u0000a\u0000r\u0000a"
+            + "\u0000a\u0000i\u0000a\u0000d\u0000;\u0000c\u0000r\u0000;"
+            + "\u0000e\u0000l\u0000n\u0000l\u0000s\u0000A\u0000C\u0000D"
+            + "\u0000F\u0000T\u0000U\u0000V\u0000a\u0000I\u0000t\u0000e"
+            + "\u0000y\u0000y\u0000e\u0000n\u0000l\u0000;\u0000D\u0000L"
+            + "\u0000R\u0000U\u0000;\u0000C\u0000e\u0000t\u0000e\u0000h"
+            + "\u0000s\u0000t\u0000;\u0000;\u0000;\u0000n\u0000l\u0000f"
+            + "\u0000;\u0000S\u0000p\u0000;\u0000E\u0000F\u0000T\u0000e"
+            + "\u0000k\u0000e\u0000c\u0000;\u0000e\u0000;\u0000c\u0000e"
+            + "\u0000;\u0000B\u0000P\u0000;\u0000P\u0000;\u0000o\u0000n"
+            + "\u0000i\u0000;\u0000A\u0000o\u0000n\u0000L\u0000R\u0000o"
+            + "\u0000;\u0000e\u0000;\u0000;\u0000l\u0000r\u0000c\u0000h"
+            + "\u0000h\u0000;\u0000;\u0000e\u0000;\u0000e\u0000n\u0000i"
+            + "\u0000e\u0000e\u0000;\u0000;\u0000;\u0000e\u0000y\u0000;"
+            + "\u0000;\u0000;\u0000;\u0000d\u0000o\u0000;\u0000d\u0000;"
+            + "\u0000v\u0000h\u0000;\u0000r\u0000;\u0000r\u0000x\u0000;"
+            + "\u0000;\u0000e\u0000e\u0000i\u0000;\u0000o\u0000p\u0000r"
+            + "\u0000i\u0000e\u0000d\u0000b\u0000;\u0000;\u0000s\u0000y"
+            + "\u0000;\u0000u\u0000e\u0000p\u0000r\u0000p\u0000o\u0000l"
+            + "\u0000i\u0000c\u0000a\u0000i\u0000l\u0000e\u0000d\u0000w"
+            + "\u0000l\u0000s\u0000t\u0000;\u0000;\u0000;\u0000;\u0000;"
+            + "\u0000i\u0000m\u0000e\u0000;\u0000;\u0000;\u0000;\u0000;"
+            + "\u0000;\u0000;\u0000;\u0000;\u0000;\u0000;\u0000;\u0000;"
+            + "\u0000;\u0000;\u0000;\u0000;\u0000;\u0000x\u0000;\u0000;"
+            + "\u0000;\u0000;\u0000;\u0000;\u0000;\u0000;\u0000n\u0000u"
+            + "\u0000m\u0000;\u0000;\u0000;\u0000;\u0000;\u0000;\u0000;"
+            + "\u0000;\u0000;\u0000;\u0000e\u0000;\u0000r\u0000;\u0000;"
+            + "\u0000;\u0000s\u0000t\u0000;\u0000;\u0000q\u0000e\u0000d"
+            + "\u0000c\u0000p\u0000p\u0000t\u0000;\u0000;\u0000;\u0000n"
+            + "\u0000l\u0000;\u0000;\u0000s\u0000;\u0000y\u0000r\u0000;"
+            + "\u0000m\u0000q\u0000e\u0000i\u0000d\u0000i\u0000;\u0000u"
+            + "\u0000;\u0000e\u0000;\u0000t\u0000n\u0000e\u0000o\u0000t"
+            + "\u0000d\u0000r\u0000;\u0000;\u0000;\u0000;\u0000;\u0000r"
+            + "\u0000;\u0000;\u0000r\u0000c\u0000p\u0000p\u0000t\u0000;"
+            + "\u0000r\u0000e\u0000v\u0000w\u0000n\u0000a\u0000;\u0000;"
+            + "\u0000i\u0000;\u0000y\u0000r\u0000h\u0000;\u0000o\u0000;"
+            + "\u0000n\u0000e\u0000;\u0000e\u0000;\u0000y\u0000t\u0000;"
+            + "\u0000;\u0000n\u0000;\u0000m\u0000;\u0000e\u0000x\u0000n"
+            + "\u0000p\u0000r\u0000;\u0000d\u0000n\u0000u\u0000u\u0000e"
+            + "\u0000r\u0000o\u0000a\u0000r\u0000n\u0000p\u0000k\u0000;"
+            + "\u0000;\u0000;\u0000;\u0000l\u0000a\u0000;\u0000e\u0000r"
+            + "\u0000n\u0000;\u0000n\u0000;\u0000e\u0000t\u0000e\u0000t"
+            + "\u0000;\u0000;\u0000s\u0000v\u00003\u00004\u0000;\u0000l"
+            + "\u0000;\u0000o\u0000;\u0000c\u0000o\u0000;\u0000n\u0000s"
+            + "\u0000t\u0000;\u0000D\u0000r\u0000;\u0000;\u0000;\u0000;"
+            + "\u0000t\u0000e\u0000n\u0000e\u0000g\u0000;\u0000g\u0000;"
+            + "\u0000;\u0000;\u0000;\u0000l\u0000;\u0000i\u00002\u00003"
+            + "\u00004\u00005\u00006\u00008\u00003\u00005\u00004\u00005"
+            + "\u00008\u00005\u00006\u00008\u00008\u0000;\u0000;\u0000e"
+            + "\u0000;\u0000d\u0000e\u0000;\u0000a\u0000;\u0000t\u0000s"
+            + "\u0000;\u0000r\u0000;\u0000;\u0000;\u0000;\u0000;\u0000;"
+            + "\u0000;\u0000r\u0000s\u0000p\u0000r\u0000t\u0000l\u0000q"
+            + "\u0000s\u0000m\u0000n\u0000p\u0000t\u0000y\u0000i\u0000;"
+            + "\u0000;\u0000s\u0000p\u0000n\u0000r\u0000r\u0000;\u0000t"
+            + "\u0000e\u0000i\u0000r\u0000h\u0000k\u0000l\u0000n\u0000e"
+            + "\u0000;\u0000;\u0000e\u0000t\u0000;\u0000n\u0000;\u0000;"
+            + "\u0000;\u0000;\u0000i\u0000a\u0000;\u0000;\u0000e\u0000;"
+            + "\u0000t\u0000t\u0000l\u0000e\u0000c\u0000r\u0000o\u0000;"
+            + "\u0000;\u0000t\u0000;\u0000o\u0000;\u0000v\u0000;\u0000e"
+            + "\u0000;\u0000;\u0000;\u0000y\u0000;\u0000;\u0000v\u0000l"
+            + "\u0000n\u0000;\u0000l\u0000;\u0000e\u0000t\u0000n\u0000a"
+            + "\u0000;\u0000e\u0000;\u0000;\u0000f\u0000s\u0000k\u0000p"
+            + "\u0000l\u0000i\u0000l\u0000l\u0000;\u0000;\u0000;\u0000e"
+            + "\u0000k\u0000;\u0000l\u0000n\u0000l\u0000;\u0000;\u0000r"
+            + "\u0000a\u0000h\u0000r\u0000a\u0000e\u0000i\u0000h\u0000a"
+            + "\u0000;\u0000t\u0000s\u0000p\u0000o\u0000q\u0000t\u0000i"
+            + "\u0000t\u0000r\u0000;\u0000;\u0000l\u0000;\u0000;\u0000n"
+            + "\u0000d\u0000;\u0000t\u0000t\u0000r\u0000;\u0000;\u0000;"
+            + "\u0000;\u0000;\u0000e\u0000a\u0000i\u0000r\u0000;\u0000s"
+            + "\u0000e\u0000t\u0000r\u0000g\u0000t\u0000;\u0000n\u0000;"
+            + "\u0000d\u0000;\u0000o\u0000;\u0000;\u0000;\u0000r\u0000k"
+            + "\u0000;\u0000;\u0000e\u0000s\u0000r\u0000s\u0000r\u0000;"
+            + "\u0000;\u0000h\u0000a\u0000n\u0000;\u0000s\u0000o\u0000r"
+            + "\u0000a\u0000;\u0000r\u0000;\u0000t\u0000r\u0000t\u0000;"
+            + "\u0000b\u0000d\u0000s\u0000s\u0000s\u0000m\u0000;\u0000a"
+            + "\u0000r\u0000t\u0000h\u0000h\u0000;\u0000e\u0000;\u0000;"
+            + "\u0000o\u0000;\u0000a\u0000;\u0000e\u0000n\u0000l\u0000;"
+            + "\u0000d\u0000;\u0000;\u0000k\u0000;\u0000o\u0000;\u0000v"
+            + "\u0000r\u0000;\u0000t\u0000;\u0000l\u0000;\u0000;\u0000;"
+            + "\u0000;\u0000;\u0000;\u0000a\u0000r\u0000;\u0000l\u0000;"
+            + "\u0000;\u0000;\u0000e\u0000;\u0000E\u0000d\u0000v\u0000;"
+            + "\u0000v\u0000l\u0000l\u0000;\u0000n\u0000e\u0000;\u0000e"
+            + "\u0000;\u0000;\u0000c\u0000w\u0000t\u0000;\u0000e\u0000e"
+            + "\u0000t\u0000;\u0000q\u0000;\u0000;\u0000b\u0000p\u0000;"
+            + "\u0000;\u0000e\u0000;\u0000e\u0000;\u0000;\u0000e\u0000e"
+            + "\u0000n\u0000o\u0000;\u0000h\u0000r\u0000h\u0000i\u0000r"
+            + "\u0000i\u0000r\u0000i\u0000;\u0000;\u0000k\u0000;\u0000o"
+            + "\u0000r\u0000e\u0000;\u0000;\u0000c\u0000d\u0000;\u0000;"
+            + "\u0000e\u0000;\u0000;\u0000;\u0000s\u0000;\u0000;\u0000;"
+            + "\u0000o\u0000s\u0000;\u0000;\u0000;\u0000;\u0000o\u0000f"
+            + "\u0000p\u0000h\u0000e\u0000s\u0000;\u0000l\u0000m\u0000;"
+            + "\u0000t\u0000d\u0000l\u0000n\u0000t\u0000;\u0000f\u0000k"
+            + "\u0000v\u0000c\u0000;\u0000i\u0000o\u0000u\u0000;\u0000n"
+            + "\u0000i\u0000w\u0000i\u0000;\u0000;\u0000p\u0000u\u0000q"
+            + "\u0000a\u0000e\u0000s\u0000i\u0000;\u0000s\u0000;\u0000m"
+            + "\u0000l\u0000i\u0000u\u0000o\u0000;\u0000l\u0000p\u0000e"
+            + "\u0000r\u0000n\u0000;\u0000e\u0000;\u0000l\u0000;\u0000e"
+            + "\u0000;\u0000t\u0000;\u0000;\u0000e\u0000;\u0000p\u0000;"
+            + "\u0000f\u0000;\u0000s\u0000k\u0000p\u0000l\u0000i\u0000l"
+            + "\u0000;\u0000l\u0000;\u0000n\u0000;\u0000;\u0000e\u0000k"
+            + "\u0000;\u0000l\u0000n\u0000l\u0000;\u0000a\u0000;\u0000r"
+            + "\u0000n\u0000a\u0000;\u0000t\u0000r\u0000;\u0000;\u0000l"
+            + "\u0000a\u0000h\u0000l\u0000r\u0000s\u0000t\u0000g\u0000;"
+            + "\u0000;\u0000t\u0000;\u0000;\u0000;\u0000;\u0000;\u0000s"
+            + "\u0000e\u0000t\u0000i\u0000;\u0000o\u0000;\u0000r\u0000e"
+            + "\u0000s\u0000;\u0000;\u0000t\u0000a\u0000e\u0000;\u0000n"
+            + "\u0000;\u0000l\u0000;\u0000;\u0000m\u0000i\u0000;\u0000;"
+            + "\u0000;\u0000;\u0000k\u0000;\u0000o\u0000r\u0000n\u0000;"
+            + "\u0000n\u0000;\u0000y\u0000m\u0000p\u0000;\u0000f\u0000v"
+            + "\u0000t\u0000;\u0000;\u0000;\u0000;\u0000u\u0000r\u0000;"
+            + "\u0000s\u0000p\u0000r\u0000;\u0000;\u0000y\u0000r\u0000s"
+            + "\u0000;\u0000s\u0000;\u0000s\u0000;\u0000e\u0000s\u0000;"
+            + "\u0000e\u0000s\u0000e\u0000f\u0000;\u0000n\u0000e\u0000f"
+            + "\u0000;\u0000g\u0000;\u0000t\u0000o\u0000l\u0000;\u0000;"
+            + "\u0000u\u0000r\u0000t\u0000m\u0000b\u0000p\u0000p\u0000u"
+            + "\u0000q\u0000a\u0000e\u0000s\u0000i\u0000t\u0000u\u0000o"
+            + "\u0000o\u0000u\u0000r\u0000l\u0000;\u0000;\u0000u\u0000t"
+            + "\u0000m\u0000b\u0000p\u0000;\u0000k\u0000;\u0000o\u0000r"
+            + "\u0000;\u0000t\u0000n\u0000l\u0000c\u00004\u0000f\u0000;"
+            + "\u0000s\u0000v\u0000a\u0000s\u0000p\u0000;\u0000m\u0000;"
+            + "\u0000;\u0000;\u0000b\u0000d\u0000t\u0000r\u0000r\u0000e"
+            + "\u0000;\u0000g\u0000t\u0000n\u0000u\u0000;\u0000m\u0000i"
+            + "\u0000;\u0000k\u0000;\u0000a\u0000e\u0000;\u0000e\u0000;"
+            + "\u0000;\u0000c\u0000;\u0000t\u0000e\u0000;\u0000;\u0000;"
+            + "\u0000n\u0000p\u0000;\u0000;\u0000;\u0000o\u0000n\u0000p"
+            + "\u0000;\u0000;\u0000o\u0000r\u0000n\u0000p\u0000;\u0000;"
+            + "\u0000;\u0000e\u0000;\u0000;\u0000l\u0000;\u0000;\u0000t"
+            + "\u0000s\u0000p\u0000t\u0000i\u0000;\u0000o\u0000o\u0000g"
+            + "\u0000b\u0000p\u0000e\u0000i\u0000;\u0000r\u0000;\u0000p"
+            + "\u0000r\u0000;\u0000;\u0000;\u0000;\u0000;\u0000E\u0000e"
+            + "\u0000E\u0000e\u0000a\u0000;\u0000r\u0000;\u0000q\u0000p"
+            + "\u0000h\u0000;\u0000;\u0000;\u0000;\u0000;\u0000;\u0000;"
+            + "\u0000s\u0000e\u0000;\u0000;\u0000p\u0000s\u0000;\u0000e"
+            + "\u0000e\u0000;\u0000e\u0000n\u0000f\u0000r\u0000;\u0000;"
+            + "\u0000;\u0000u\u0000;\u0000;\u0000a\u0000;\u0000e\u0000l"
+            + "\u0000;\u0000;\u0000l\u0000s\u0000;\u0000;\u0000t\u0000a"
+            + "\u0000D\u0000D\u0000M\u0000P\u0000T\u0000i\u0000u\u0000;"
+            + "\u0000e\u0000;\u0000r\u0000u\u0000r\u0000;\u0000h\u0000;"
+            + "\u0000;\u0000t\u0000d\u0000e\u0000;\u0000a\u0000C\u0000D"
+            + "\u0000L\u0000R\u0000U\u0000V\u0000r\u0000e\u0000f\u0000g"
+            + "\u0000e\u0000r\u0000;\u0000;\u0000;\u0000;\u0000t\u0000m"
+            + "\u0000e\u0000n\u0000i\u0000b\u0000;\u0000n\u0000S\u0000V"
+            + "\u0000;\u0000r\u0000;\u0000;\u0000;\u0000r\u0000;\u0000t"
+            + "\u0000n\u0000;\u0000w\u0000u\u0000;\u0000;\u0000a\u0000s"
+            + "\u0000a\u0000e\u0000b\u0000;\u0000;\u0000;\u0000;\u0000;"
+            + "\u0000e\u0000;\u0000;\u0000g\u0000r\u0000i\u0000u\u0000w"
+            + "\u0000o\u0000g\u0000e\u0000i\u0000D\u0000T\u0000V\u0000c"
+            + "\u0000r\u0000g\u0000u\u0000l\u0000e\u0000s\u0000a\u0000l"
+            + "\u0000r\u0000;\u0000f\u0000g\u0000f\u0000g\u0000e\u0000i"
+            + "\u0000;\u0000S\u0000t\u0000l\u0000;\u0000;\u0000;\u0000v"
+            + "\u0000G\u0000L\u0000e\u0000k\u0000a\u0000g\u0000C\u0000b"
+            + "\u0000m\u0000a\u0000s\u0000a\u0000p\u0000t\u0000s\u0000t"
+            + "\u0000c\u0000e\u0000h\u0000a\u0000s\u0000c\u0000e\u0000d"
+            + "\u0000t\u0000;\u0000;\u0000;\u0000;\u0000n\u0000r\u0000;"
+            + "\u0000;\u0000;\u0000r\u0000a\u0000r\u0000l\u0000n\u0000r"
+            + "\u0000e\u0000t\u0000t\u0000;\u0000;\u0000;\u0000;\u0000e"
+            + "\u0000n\u0000r\u0000e\u0000o\u0000l\u0000e\u0000r\u0000p"
+            + "\u0000e\u0000r\u0000m\u0000a\u0000l\u0000;\u0000;\u0000;"
+            + "\u0000;\u0000;\u0000o\u0000e\u0000i\u0000p\u0000i\u0000;"
+            + "\u0000I\u0000S\u0000U\u0000;\u0000E\u0000d\u0000a\u0000e"
+            + "\u0000;\u0000;\u0000;\u0000o\u0000p\u0000a\u0000q\u0000u"
+            + "\u0000i\u0000D\u0000;\u0000;\u0000i\u0000;\u0000;\u0000;"
+            + "\u0000a\u0000r\u0000a\u0000l\u0000w\u0000A\u0000l\u0000r"
+            + "\u0000w\u0000a\u0000e\u0000i\u0000n\u0000;\u0000;\u0000;"
+            + "\u0000a\u0000i\u0000;\u0000;\u0000;\u0000;\u0000d\u0000;"
+            + "\u0000;\u0000;\u0000m\u0000;\u0000p\u0000;\u0000a\u0000b"
+            + "\u0000;\u0000r\u0000;\u0000;\u0000e\u0000q\u0000;\u0000n"
+            + "\u0000n\u0000s\u0000i\u0000m\u0000;\u0000;\u0000g\u0000r"
+            + "\u0000;\u0000e\u0000v\u0000;\u0000n\u0000;\u0000c\u0000;"
+            + "\u0000t\u0000u\u0000m\u0000u\u0000r\u0000a\u0000u\u0000;"
+            + "\u0000g\u0000;\u0000o\u0000q\u0000r\u0000v\u0000;\u0000;"
+            + "\u0000;\u0000u\u0000s\u0000e\u0000;\u0000;\u0000u\u0000;"
+            + "\u0000;\u0000;\u0000;\u0000u\u0000;\u0000;\u0000;\u0000;"
+            + "\u0000;\u0000m\u0000v\u0000d\u0000a\u0000;\u0000a\u0000d"
+            + "\u0000n\u0000;\u0000r\u0000i\u0000;\u0000q\u0000;\u0000;"
+            + "\u0000m\u0000x\u0000t\u0000;\u0000;\u0000;\u0000l\u0000r"
+            + "\u0000;\u0000p\u0000a\u0000;\u0000;\u0000;\u0000;\u0000m"
+            + "\u0000q\u0000e\u0000e\u0000;\u0000r\u0000n\u0000;\u0000;"
+            + "\u0000;\u0000w\u0000;\u0000r\u0000q\u0000v\u0000;\u0000d"
+            + "\u0000a\u0000;\u0000o\u0000;\u0000;\u0000;\u0000;\u0000o"
+            + "\u0000u\u0000s\u0000a\u0000b\u0000r\u0000w\u0000r\u0000o"
+            + "\u0000;\u0000;\u0000;\u0000e\u0000r\u0000;\u0000;\u0000;"
+            + "\u0000;\u0000;\u0000;\u0000r\u0000;\u0000e\u0000;\u0000;"
+            + "\u0000;\u0000;\u0000n\u0000;\u0000n\u0000t\u0000;\u0000;"
+            + "\u0000D\u0000s\u0000a\u0000n\u0000g\u0000;\u0000;\u0000;"
+            + "\u0000;\u0000n\u0000;\u0000;\u0000;\u0000;\u0000;\u0000;"
+            + "\u0000;\u0000;\u0000;\u0000;\u0000;\u0000;\u0000;\u0000;"
+            + "\u0000;\u0000;\u0000;\u0000;\u0000n\u0000;\u0000o\u0000;"
+            + "\u0000o\u0000;\u0000t\u0000r\u0000;\u0000;\u0000e\u0000l"
+            + "\u0000s\u0000;\u0000e\u0000;\u0000;\u0000;\u0000r\u0000;"
+            + "\u0000u\u0000;\u0000;\u0000o\u0000o\u0000;\u0000f\u0000g"
+            + "\u0000;\u0000;\u0000;\u0000;\u0000;\u0000;\u0000;\u0000;"
+            + "\u0000;\u0000n\u0000r\u0000;\u0000i\u0000;\u0000;\u0000r"
+            + "\u0000a\u0000h\u0000d\u0000;\u0000t\u0000;\u0000;\u0000;"
+            + "\u0000;\u0000;\u0000;\u0000;\u0000;\u0000y\u0000;\u0000;"
+            + "\u0000;\u0000s\u0000;\u0000;\u0000;\u0000;\u0000m\u0000;"
+            + "\u0000;\u0000;\u0000;\u0000d\u0000u\u0000;\u0000;\u0000;"
+            + "\u0000r\u0000a\u0000r\u0000r\u0000f\u0000g\u0000r\u0000n"
+            + "\u0000;\u0000o\u0000;\u0000p\u0000t\u0000g\u0000q\u0000r"
+            + "\u0000m\u0000;\u0000;\u0000;\u0000e\u0000;\u0000;\u0000;"
+            + "\u0000a\u0000o\u0000f\u0000p\u0000g\u0000r\u0000;\u0000s"
+            + "\u0000;\u0000;\u0000e\u0000;\u0000e\u0000;\u0000;\u0000;"
+            + "\u0000;\u0000;\u0000;\u0000;\u0000t\u0000;\u0000a\u0000r"
+            + "\u0000e\u0000e\u0000;\u0000d\u0000l\u0000u\u0000;\u0000;"
+            + "\u0000e\u0000;\u0000;\u0000;\u0000;\u0000;\u0000u\u0000;"
+            + "\u0000;\u0000;\u0000a\u0000r\u0000i\u0000a\u0000;\u0000;"
+            + "\u0000;\u0000x\u0000l\u0000;\u0000;\u0000;\u0000o\u0000;"
+            + "\u0000w\u0000;\u0000;\u0000;\u0000s\u0000a\u0000r\u0000i"
+            + "\u0000a\u0000;\u0000;\u0000o\u0000a\u0000b\u0000c\u0000a"
+            + "\u0000b\u0000c\u0000l\u0000;\u0000t\u0000;\u0000q\u0000;"
+            + "\u0000;\u0000a\u0000;\u0000;\u0000m\u0000p\u0000;\u0000e"
+            + "\u0000e\u0000t\u0000q\u0000t\u0000;\u0000g\u0000;\u0000;"
+            + "\u0000;\u0000;\u0000n\u0000;\u0000e\u0000;\u0000e\u0000;"
+            + "\u0000w\u0000;\u0000;\u0000;\u0000;\u0000;\u0000s\u0000n"
+            + "\u0000;\u0000f\u0000;\u0000e\u0000;\u0000;\u0000;\u0000a"
+            + "\u0000e\u0000;\u0000;\u0000;\u0000;\u0000k\u0000;\u0000o"
+            + "\u0000;\u0000h\u0000;\u0000i\u0000r\u0000;\u0000;\u0000;"
+            + "\u0000m\u0000o\u0000n\u0000p\u0000r\u0000;\u0000p\u0000q"
+            + "\u0000i\u0000m\u0000;\u0000;\u0000a\u0000n\u0000r\u0000;"
+            + "\u0000;\u0000;\u0000;\u0000n\u0000t\u0000q\u0000;\u0000;"
+            + "\u0000y\u0000;\u0000;\u0000s\u0000;\u0000;\u0000;\u0000;"
+            + "\u0000m\u0000;\u0000;\u0000a\u0000;\u0000;\u0000d\u0000u"
+            + "\u0000;\u0000;\u0000r\u0000;\u0000e\u0000r\u0000;\u0000;"
+            + "\u0000;\u0000r\u0000a\u0000e\u0000i\u0000q\u0000h\u0000d"
+            + "\u0000;\u0000a\u0000;\u0000s\u0000;\u0000n\u0000;\u0000;"
+            + "\u0000;\u0000;\u0000r\u0000r\u0000;\u0000;\u0000;\u0000;"
+            + "\u0000n\u0000;\u0000w\u0000;\u0000u\u0000;\u0000;\u0000i"
+            + "\u0000a\u0000;\u0000;\u0000;\u0000s\u0000r\u0000e\u0000;"
+            + "\u0000s\u0000;\u0000;\u0000;\u0000u\u0000;\u0000;\u0000;"
+            + "\u0000e\u0000;\u0000e\u0000;\u0000;\u0000;\u0000;\u0000;"
+            + "\u0000h\u0000;\u0000t\u0000t\u0000s\u0000r\u0000;\u0000e"
+            + "\u0000n\u0000;\u0000;\u0000;\u0000p\u0000r\u0000;\u0000p"
+            + "\u0000q\u0000i\u0000m\u0000;\u0000b\u0000t\u0000l\u0000b"
+            + "\u0000r\u0000t\u0000s\u0000;\u0000e\u0000n\u0000;\u0000;"
+            + "\u0000;\u0000;\u0000w\u0000;\u0000;\u0000;\u0000;\u0000;"
+            + "\u0000;\u0000o\u0000y\u0000;\u0000p\u0000i\u0000;\u0000;"
+            + "\u0000;\u0000a\u0000;\u0000;\u0000;\u0000k\u0000;\u0000l"
+            + "\u0000;\u0000u\u0000s\u0000e\u0000u\u0000;\u0000d\u0000;"
+            + "\u0000;\u0000;\u0000;\u0000;\u0000;\u0000e\u0000;\u0000w"
+            + "\u0000a\u0000o\u0000n\u0000r\u0000;\u0000e\u0000;\u0000;"
+            + "\u0000e\u0000;\u0000i\u0000p\u0000h\u0000;\u0000p\u0000;"
+            + "\u0000m\u0000s\u0000s\u0000t\u0000a\u0000;\u0000;\u0000;"
+            + "\u0000;\u0000;\u0000;\u0000;\u0000g\u0000;\u0000;\u0000;"
+            + "\u0000;\u0000;\u0000;\u0000;\u0000;\u0000;\u0000;\u0000;"
+            + "\u0000;\u0000;\u0000r\u0000n\u0000s\u0000;\u0000l\u0000D"
+            + "\u0000;\u0000;\u0000;\u0000o\u0000o\u0000i\u0000l\u0000i"
+            + "\u0000s\u0000r\u0000n\u0000I\u0000c\u0000C\u0000d\u0000i"
+            + "\u0000;\u0000n\u0000l\u0000o\u0000o\u0000e\u0000o\u0000i"
+            + "\u0000p\u0000e\u0000o\u0000v\u0000t\u0000h\u0000;\u0000A"
+            + "\u0000o\u0000;\u0000a\u0000r\u0000;\u0000l\u0000r\u0000t"
+            + "\u0000m\u0000e\u0000t\u0000E\u0000F\u0000G\u0000L\u0000S"
+            + "\u0000T\u0000S\u0000t\u0000n\u0000a\u0000r\u0000;\u0000l"
+            + "\u0000c\u0000l\u0000t\u0000l\u0000o\u0000l\u0000b\u0000n"
+            + "\u0000o\u0000h\u0000;\u0000A\u0000V\u0000a\u0000o\u0000e"
+            + "\u0000e\u0000t\u0000o\u0000h\u0000a\u0000l\u0000a\u0000s"
+            + "\u0000n\u0000d\u0000r\u0000t\u0000h\u0000t\u0000h\u0000f"
+            + "\u0000g\u0000p\u0000r\u0000u\u0000e\u0000r\u0000e\u0000;"
+            + "\u0000;\u0000k\u0000r\u0000a\u0000l\u0000e\u0000l\u0000t"
+            + "\u0000t\u0000D\u0000E\u0000T\u0000;\u0000E\u0000G\u0000L"
+            + "\u0000S\u0000T\u0000e\u0000e\u0000r\u0000t\u0000r\u0000e"
+            + "\u0000e\u0000r\u0000e\u0000i\u0000;\u0000l\u0000;\u0000c"
+            + "\u0000e\u0000D\u0000u\u0000e\u0000s\u0000;\u0000i\u0000E"
+            + "\u0000U\u0000g\u0000r\u0000i\u0000u\u0000w\u0000o\u0000e"
+            + "\u0000i\u0000D\u0000T\u0000V\u0000c\u0000r\u0000p\u0000r"
+            + "\u0000a\u0000w\u0000f\u0000g\u0000A\u0000r\u0000n\u0000u"
+            + "\u0000n\u0000q\u0000s\u0000t\u0000t\u0000r\u0000a\u0000c"
+            + "\u0000u\u0000l\u0000l\u0000o\u0000r\u0000r\u0000a\u0000r"
+            + "\u0000u\u0000;\u0000B\u0000D\u0000r\u0000i\u0000r\u0000;"
+            + "\u0000r\u0000f\u0000g\u0000;\u0000l\u0000n\u0000t\u0000;"
+            + "\u0000e\u0000a\u0000b\u0000c\u0000d\u0000e\u0000f\u0000g"
+            + "\u0000h\u0000;\u0000d\u0000;\u0000q\u0000;\u0000t\u0000g"
+            + "\u0000i\u0000m\u0000;\u0000e\u0000e\u0000k\u0000;\u0000;"
+            + "\u0000;\u0000;\u0000;\u0000s\u0000e\u0000p\u0000;\u0000n"
+            + "\u0000s\u0000e\u0000z\u0000u\u0000i\u0000;\u0000s\u0000;"
+            + "\u0000s\u0000b\u0000p\u0000;\u0000;\u0000o\u0000r\u0000r"
+            + "\u0000R\u0000S\u0000a\u0000c\u0000d\u0000t\u0000;\u0000t"
+            + "\u0000;\u0000e\u0000e\u0000;\u0000;\u0000;\u0000;\u0000p"
+            + "\u0000;\u0000p\u0000s\u0000e\u0000d\u0000r\u0000t\u0000;"
+            + "\u0000;\u0000;\u0000;\u0000;\u0000s\u0000;\u0000n\u0000t"
+            + "\u0000s\u0000;\u0000r\u0000a\u0000o\u0000n\u0000p\u0000w"
+            + "\u0000;\u0000r\u0000s\u0000t\u0000;\u0000;\u0000g\u0000l"
+            + "\u0000;\u0000l\u0000t\u0000t\u0000d\u0000t\u0000t\u0000;"
+            + "\u0000l\u0000x\u0000;\u0000o\u0000s\u0000e\u0000;\u0000q"
+            + "\u0000;\u0000i\u0000w\u0000w\u0000t\u0000h\u0000e\u0000t"
+            + "\u0000e\u0000s\u0000l\u0000k\u0000;\u0000;\u0000v\u0000;"
+            + "\u0000;\u0000;\u0000;\u0000;\u0000r\u0000o\u0000p\u0000t"
+            + "\u0000h\u0000e\u0000t\u0000;\u0000r\u0000r\u0000;\u0000t"
+            + "\u0000g\u0000;\u0000;\u0000r\u0000c\u0000x\u0000t\u0000s"
+            + "\u0000h\u0000o\u0000;\u0000;\u0000r\u0000;\u0000r\u0000;"
+            + "\u0000q\u0000;\u0000o\u0000e\u0000p\u0000d\u0000;\u0000p"
+            + "\u0000r\u0000g\u0000r\u0000;\u0000;\u0000s\u0000t\u0000;"
+            + "\u0000;\u0000n\u0000r\u0000g\u0000n\u0000t\u0000;\u0000;"
+            + "\u0000;\u0000;\u0000;\u0000;\u0000e\u0000;\u0000;\u0000r"
+            + "\u0000i\u0000a\u0000;\u0000;\u0000;\u0000e\u0000;\u0000;"
+            + "\u0000e\u0000l\u0000;\u0000;\u0000;\u0000;\u0000;\u0000;"
+            + "\u0000;\u0000;\u0000s\u0000l\u0000;\u0000r\u0000;\u0000r"
+            + "\u0000;\u0000;\u0000;\u0000t\u0000r\u0000l\u0000p\u0000q"
+            + "\u0000m\u0000;\u0000r\u0000e\u0000f\u0000i\u0000;\u0000;"
+            + "\u0000v\u0000;\u0000;\u0000l\u0000;\u0000;\u0000;\u0000;"
+            + "\u0000t\u0000r\u0000r\u0000f\u0000g\u0000u\u0000r\u0000o"
+            + "\u0000c\u0000;\u0000t\u0000i\u0000;\u0000t\u0000;\u0000s"
+            + "\u0000d\u0000r\u0000;\u0000;\u0000t\u0000l\u0000i\u0000t"
+            + "\u0000t\u0000t\u0000;\u0000;\u0000;\u0000;\u0000q\u0000e"
+            + "\u0000r\u0000l\u0000p\u0000q\u0000m\u0000;\u0000;\u0000;"
+            + "\u0000;\u0000;\u0000;\u0000;\u0000;\u0000q\u0000e\u0000;"
+            + "\u0000r\u0000m\u0000p\u0000m\u0000r\u0000;\u0000e\u0000s"
+            + "\u0000;\u0000;\u0000m\u0000l\u0000r\u0000r\u0000;\u0000r"
+            + "\u0000o\u0000;\u0000o\u0000r\u0000;\u0000l\u0000a\u0000i"
+            + "\u0000t\u0000a\u0000e\u0000e\u0000a\u0000n\u0000;\u0000;"
+            + "\u0000c\u0000h\u0000i\u0000i\u0000t\u0000t\u0000n\u0000u"
+            + "\u0000m\u0000e\u0000l\u0000t\u0000n\u0000t\u0000l\u0000;"
+            + "\u0000c\u0000t\u0000;\u0000n\u0000t\u0000w\u0000f\u0000n"
+            + "\u0000g\u0000A\u0000D\u0000r\u0000w\u0000e\u0000R\u0000T"
+            + "\u0000V\u0000t\u0000r\u0000w\u0000l\u0000y\u0000d\u0000i"
+            + "\u0000i\u0000a\u0000r\u0000r\u0000q\u0000u\u0000r\u0000e"
+            + "\u0000l\u0000i\u0000p\u0000a\u0000H\u0000l\u0000y\u0000;"
+            + "\u0000t\u0000e\u0000r\u0000e\u0000w\u0000i\u0000l\u0000T"
+            + "\u0000V\u0000r\u0000t\u0000r\u0000e\u0000n\u0000w\u0000e"
+            + "\u0000c\u0000o\u0000w\u0000t\u0000l\u0000E\u0000t\u0000;"
+            + "\u0000t\u0000e\u0000o\u0000A\u0000R\u0000t\u0000a\u0000r"
+            + "\u0000t\u0000t\u0000h\u0000a\u0000f\u0000s\u0000M\u0000T"
+            + "\u0000V\u0000e\u0000s\u0000i\u0000u\u0000p\u0000e\u0000n"
+            + "\u0000;\u0000T\u0000s\u0000e\u0000o\u0000q\u0000r\u0000q"
+            + "\u0000r\u0000e\u0000l\u0000i\u0000d\u0000d\u0000s\u0000T"
+            + "\u0000e\u0000t\u0000e\u0000s\u0000;\u0000E\u0000F\u0000T"
+            + "\u0000c\u0000y\u0000e\u0000k\u0000n\u0000;\u0000s\u0000p"
+            + "\u0000;\u0000E\u0000S\u0000T\u0000o\u0000l\u0000q\u0000p"
+            + "\u0000l\u0000o\u0000l\u0000b\u0000n\u0000o\u0000;\u0000A"
+            + "\u0000V\u0000a\u0000o\u0000e\u0000e\u0000t\u0000o\u0000l"
+            + "\u0000r\u0000y\u0000n\u0000t\u0000h\u0000r\u0000c\u0000t"
+            + "\u0000b\u0000p\u0000i\u0000u\u0000;\u0000E\u0000S\u0000T"
+            + "\u0000;\u0000;\u0000E\u0000e\u0000c\u0000e\u0000a\u0000l"
+            + "\u0000d\u0000t\u0000;\u0000;\u0000c\u0000e\u0000s\u0000a"
+            + "\u0000o\u0000r\u0000b\u0000o\u0000r\u0000t\u0000h\u0000B"
+            + "\u0000L\u0000S\u0000T\u0000S\u0000h\u0000;\u0000;\u0000;"
+            + "\u0000;\u0000;\u0000;\u0000;\u0000;\u0000;\u0000;\u0000;"
+            + "\u0000;\u0000;\u0000l\u0000e\u0000q\u0000;\u0000;\u0000;"
+            + "\u0000s\u0000;\u0000g\u0000;\u0000;\u0000e\u0000a\u0000a"
+            + "\u0000;\u0000;\u0000;\u0000;\u0000t\u0000k\u0000r\u0000;"
+            + "\u0000;\u0000s\u0000i\u0000a\u0000;\u0000;\u0000n\u0000s"
+            + "\u0000;\u0000r\u0000u\u0000;\u0000g\u0000o\u0000;\u0000u"
+            + "\u0000t\u0000;\u0000;\u0000e\u0000r\u0000w\u0000a\u0000o"
+            + "\u0000;\u0000;\u0000;\u0000;\u0000t\u0000e\u0000;\u0000i"
+            + "\u0000i\u0000o\u0000;\u0000;\u0000;\u0000;\u0000x\u0000s"
+            + "\u0000s\u0000q\u0000t\u0000;\u0000;\u0000a\u0000t\u0000;"
+            + "\u0000;\u0000;\u0000;\u0000;\u0000;\u0000;\u0000;\u0000w"
+            + "\u0000o\u0000a\u0000t\u0000e\u0000;\u0000;\u0000o\u0000r"
+            + "\u0000t\u0000;\u0000h\u0000;\u0000a\u0000r\u0000t\u0000t"
+            + "\u0000w\u0000;\u0000;\u0000q\u0000w\u0000f\u0000;\u0000a"
+            + "\u0000;\u0000o\u0000h\u0000r\u0000;\u0000;\u0000t\u0000o"
+            + "\u0000h\u0000t\u0000;\u0000l\u0000r\u0000d\u0000r\u0000q"
+            + "\u0000q\u0000e\u0000;\u0000;\u0000k\u0000;\u0000;\u0000o"
+            + "\u0000y\u0000r\u0000;\u0000;\u0000;\u0000;\u0000;\u0000o"
+            + "\u0000;\u0000s\u0000;\u0000o\u0000p\u0000t\u0000h\u0000i"
+            + "\u0000e\u0000t\u0000h\u0000;\u0000;\u0000;\u0000;\u0000;"
+            + "\u0000a\u0000m\u0000;\u0000t\u0000;\u0000e\u0000;\u0000e"
+            + "\u0000e\u0000p\u0000;\u0000q\u0000q\u0000o\u0000y\u0000r"
+            + "\u0000;\u0000;\u0000;\u0000q\u0000q\u0000e\u0000;\u0000r"
+            + "\u0000;\u0000;\u0000;\u0000d\u0000l\u0000q\u0000r\u0000;"
+            + "\u0000;\u0000e\u0000i\u0000;\u0000r\u0000n\u0000w\u0000;"
+            + "\u0000o\u0000;\u0000n\u0000o\u0000;\u0000t\u0000t\u0000;"
+            + "\u0000g\u0000t\u0000;\u0000s\u0000f\u0000;\u0000;\u0000u"
+            + "\u0000s\u0000e\u0000C\u0000y\u0000;\u0000t\u0000;\u0000o"
+            + "\u0000a\u0000i\u0000t\u0000;\u0000n\u0000t\u0000g\u0000h"
+            + "\u0000r\u0000o\u0000t\u0000;\u0000B\u0000U\u0000;\u0000i"
+            + "\u0000e\u0000e\u0000T\u0000V\u0000r\u0000;\u0000l\u0000S"
+            + "\u0000e\u0000u\u0000a\u0000l\u0000y\u0000f\u0000u\u0000l"
+            + "\u0000e\u0000s\u0000a\u0000l\u0000a\u0000l\u0000u\u0000;"
+            + "\u0000I\u0000i\u0000C\u0000T\u0000f\u0000B\u0000;\u0000B"
+            + "\u0000R\u0000n\u0000e\u0000e\u0000e\u0000;\u0000A\u0000V"
+            + "\u0000r\u0000c\u0000g\u0000n\u0000V\u0000t\u0000r\u0000;"
+            + "\u0000a\u0000G\u0000q\u0000e\u0000E\u0000;\u0000w\u0000r"
+            + "\u0000i\u0000A\u0000r\u0000i\u0000a\u0000A\u0000t\u0000c"
+            + "\u0000;\u0000;\u0000e\u0000h\u0000e\u0000a\u0000s\u0000n"
+            + "\u0000e\u0000;\u0000V\u0000t\u0000i\u0000;\u0000r\u0000w"
+            + "\u0000u\u0000i\u0000u\u0000e\u0000s\u0000a\u0000l\u0000G"
+            + "\u0000L\u0000e\u0000e\u0000r\u0000S\u0000;\u0000E\u0000d"
+            + "\u0000e\u0000q\u0000u\u0000i\u0000a\u0000D\u0000Q\u0000;"
+            + "\u0000e\u0000t\u0000;\u0000l\u0000q\u0000l\u0000i\u0000n"
+            + "\u0000e\u0000u\u0000E\u0000e\u0000w\u0000i\u0000l\u0000T"
+            + "\u0000V\u0000r\u0000r\u0000e\u0000n\u0000w\u0000e\u0000c"
+            + "\u0000o\u0000w\u0000i\u0000o\u0000e\u0000A\u0000A\u0000t"
+            + "\u0000r\u0000l\u0000e\u0000s\u0000e\u0000o\u0000a\u0000q"
+            + "\u0000l\u0000i\u0000q\u0000;\u0000e\u0000;\u0000l\u0000E"
+            + "\u0000e\u0000;\u0000e\u0000k\u0000n\u0000;\u0000r\u0000w"
+            + "\u0000o\u0000r\u0000w\u0000o\u0000A\u0000t\u0000a\u0000i"
+            + "\u0000e\u0000i\u0000p\u0000S\u0000o\u0000;\u0000;\u0000;"
+            + "\u0000l\u0000n\u0000r\u0000n\u0000;\u0000;\u0000o\u0000t"
+            + "\u0000r\u0000s\u0000t\u0000;\u0000e\u0000c\u0000e\u0000w"
+            + "\u0000i\u0000i\u0000;\u0000w\u0000;\u0000r\u0000o\u0000r"
+            + "\u0000s\u0000o\u0000a\u0000t\u0000;\u0000;\u0000s\u0000;"
+            + "\u0000;\u0000r\u0000a\u0000;\u0000t\u0000o\u0000r\u0000a"
+            + "\u0000h\u0000s\u0000t\u0000x\u0000;\u0000r\u0000e\u0000r"
+            + "\u0000i\u0000o\u0000a\u0000l\u0000r\u0000;\u0000n\u0000t"
+            + "\u0000n\u0000w\u0000t\u0000o\u0000;\u0000w\u0000t\u0000;"
+            + "\u0000;\u0000o\u0000;\u0000a\u0000;\u0000q\u0000;\u0000q"
+            + "\u0000l\u0000r\u0000;\u0000x\u0000e\u0000o\u0000n\u0000;"
+            + "\u0000w\u0000o\u0000a\u0000h\u0000t\u0000g\u0000e\u0000s"
+            + "\u0000e\u0000l\u0000i\u0000;\u0000q\u0000q\u0000p\u0000h"
+            + "\u0000;\u0000;\u0000q\u0000x\u0000e\u0000o\u0000;\u0000;"
+            + "\u0000q\u0000;\u0000o\u0000o\u0000e\u0000;\u0000i\u0000f"
+            + "\u0000g\u0000o\u0000l\u0000r\u0000s\u0000n\u0000g\u0000;"
+            + "\u0000n\u0000n\u0000l\u0000i\u0000;\u0000f\u0000s\u0000;"
+            + "\u0000s\u0000o\u0000D\u0000Q\u0000e\u0000c\u0000l\u0000a"
+            + "\u0000o\u0000A\u0000A\u0000R\u0000T\u0000L\u0000R\u0000t"
+            + "\u0000r\u0000w\u0000i\u0000a\u0000p\u0000g\u0000e\u0000c"
+            + "\u0000e\u0000e\u0000o\u0000S\u0000m\u0000;\u0000m\u0000l"
+            + "\u0000l\u0000S\u0000;\u0000a\u0000l\u0000a\u0000s\u0000n"
+            + "\u0000d\u0000c\u0000L\u0000m\u0000;\u0000o\u0000o\u0000i"
+            + "\u0000;\u0000r\u0000a\u0000i\u0000g\u0000B\u0000e\u0000c"
+            + "\u0000r\u0000e\u0000o\u0000t\u0000l\u0000V\u0000e\u0000o"
+            + "\u0000;\u0000B\u0000r\u0000r\u0000u\u0000r\u0000q\u0000;"
+            + "\u0000r\u0000g\u0000r\u0000r\u0000g\u0000r\u0000r\u0000A"
+            + "\u0000e\u0000d\u0000i\u0000r\u0000t\u0000L\u0000g\u0000n"
+            + "\u0000e\u0000;\u0000l\u0000;\u0000E\u0000F\u0000G\u0000L"
+            + "\u0000S\u0000T\u0000n\u0000a\u0000a\u0000a\u0000a\u0000s"
+            + "\u0000n\u0000d\u0000r\u0000e\u0000s\u0000E\u0000i\u0000u"
+            + "\u0000q\u0000s\u0000t\u0000u\u0000l\u0000l\u0000l\u0000o"
+            + "\u0000u\u0000t\u0000h\u0000a\u0000u\u0000a\u0000l\u0000;"
+            + "\u0000a\u0000m\u0000i\u0000q\u0000B\u0000;\u0000B\u0000L"
+            + "\u0000n\u0000e\u0000e\u0000e\u0000;\u0000r\u0000c\u0000g"
+            + "\u0000n\u0000V\u0000t\u0000r\u0000;\u0000e\u0000w\u0000d"
+            + "\u0000r\u0000r\u0000A\u0000o\u0000e\u0000r\u0000e\u0000r"
+            + "\u0000n\u0000l\u0000u\u0000a\u0000l\u0000u\u0000;\u0000;"
+            + "\u0000q\u0000;\u0000;\u0000e\u0000t\u0000;\u0000n\u0000w"
+            + "\u0000i\u0000;\u0000w\u0000r\u0000A\u0000r\u0000n\u0000p"
+            + "\u0000l\u0000a\u0000p\u0000n\u0000e\u0000g\u0000e\u0000g"
+            + "\u0000w\u0000;\u0000c\u0000h\u0000;\u0000c\u0000c\u0000;"
+            + "\u0000l\u0000r\u0000t\u0000m\u0000e\u0000r\u0000n\u0000;"
+            + "\u0000s\u0000n\u0000l\u0000s\u0000;\u0000r\u0000r\u0000a"
+            + "\u0000n\u0000r\u0000r\u0000a\u0000q\u0000i\u0000;\u0000;"
+            + "\u0000;\u0000r\u0000g\u0000;\u0000r\u0000e\u0000i\u0000;"
+            + "\u0000;\u0000g\u0000;\u0000a\u0000w\u0000;\u0000a\u0000w"
+            + "\u0000l\u0000;\u0000;\u0000e\u0000i\u0000;\u0000q\u0000x"
+            + "\u0000s\u0000;\u0000t\u0000o\u0000r\u0000a\u0000a\u0000a"
+            + "\u0000t\u0000e\u0000;\u0000l\u0000n\u0000;\u0000;\u0000s"
+            + "\u0000i\u0000;\u0000;\u0000q\u0000x\u0000;\u0000x\u0000w"
+            + "\u0000f\u0000g\u0000t\u0000h\u0000w\u0000e\u0000i\u0000;"
+            + "\u0000;\u0000;\u0000e\u0000e\u0000e\u0000o\u0000e\u0000;"
+            + "\u0000;\u0000n\u0000o\u0000u\u0000g\u0000k\u0000A\u0000D"
+            + "\u0000G\u0000T\u0000l\u0000u\u0000r\u0000r\u0000i\u0000e"
+            + "\u0000e\u0000i\u0000A\u0000T\u0000o\u0000n\u0000c\u0000r"
+            + "\u0000A\u0000h\u0000V\u0000t\u0000e\u0000c\u0000w\u0000q"
+            + "\u0000a\u0000;\u0000E\u0000S\u0000m\u0000l\u0000E\u0000t"
+            + "\u0000;\u0000t\u0000e\u0000e\u0000i\u0000p\u0000n\u0000m"
+            + "\u0000m\u0000a\u0000r\u0000g\u0000;\u0000r\u0000V\u0000t"
+            + "\u0000r\u0000c\u0000w\u0000o\u0000e\u0000e\u0000c\u0000r"
+            + "\u0000a\u0000r\u0000e\u0000a\u0000;\u0000u\u0000o\u0000h"
+            + "\u0000r\u0000o\u0000h\u0000r\u0000r\u0000r\u0000;\u0000i"
+            + "\u0000c\u0000n\u0000y\u0000e\u0000e\u0000S\u0000t\u0000r"
+            + "\u0000d\u0000q\u0000u\u0000r\u0000e\u0000l\u0000i\u0000H"
+            + "\u0000l\u0000n\u0000l\u0000t\u0000;\u0000t\u0000e\u0000e"
+            + "\u0000s\u0000;\u0000E\u0000S\u0000l\u0000a\u0000b\u0000p"
+            + "\u0000u\u0000;\u0000E\u0000S\u0000T\u0000;\u0000E\u0000a"
+            + "\u0000l\u0000d\u0000B\u0000u\u0000o\u0000;\u0000e\u0000n"
+            + "\u0000a\u0000n\u0000d\u0000l\u0000e\u0000l\u0000u\u0000r"
+            + "\u0000a\u0000e\u0000g\u0000B\u0000e\u0000c\u0000o\u0000t"
+            + "\u0000l\u0000V\u0000e\u0000o\u0000;\u0000B\u0000s\u0000;"
+            + "\u0000;\u0000r\u0000r\u0000r\u0000w\u0000;\u0000s\u0000t"
+            + "\u0000s\u0000;\u0000;\u0000a\u0000n\u0000d\u0000a\u0000u"
+            + "\u0000t\u0000h\u0000A\u0000;\u0000u\u0000;\u0000r\u0000r"
+            + "\u0000;\u0000e\u0000a\u0000d\u0000c\u0000a\u0000;\u0000d"
+            + "\u0000u\u0000e\u0000;\u0000l\u0000l\u0000r\u0000;\u0000;"
+            + "\u0000;\u0000;\u0000e\u0000i\u0000;\u0000e\u0000d\u0000o"
+            + "\u0000l\u0000r\u0000;\u0000;\u0000e\u0000e\u0000o\u0000r"
+            + "\u0000i\u0000d\u0000u\u0000o\u0000r\u0000r\u0000u\u0000m"
+            + "\u0000o\u0000h\u0000r\u0000f\u0000g\u0000l\u0000r\u0000;"
+            + "\u0000r\u0000;\u0000l\u0000f\u0000g\u0000;\u0000;\u0000;"
+            + "\u0000a\u0000n\u0000r\u0000r\u0000r\u0000r\u0000i\u0000q"
+            + "\u0000e\u0000u\u0000i\u0000;\u0000;\u0000;\u0000;\u0000n"
+            + "\u0000t\u0000h\u0000a\u0000t\u0000;\u0000f\u0000g\u0000q"
+            + "\u0000q\u0000l\u0000r\u0000n\u0000r\u0000t\u0000u\u0000o"
+            + "\u0000r\u0000w\u0000c\u0000o\u0000r\u0000i\u0000D\u0000r"
+            + "\u0000r\u0000r\u0000g\u0000e\u0000f\u0000g\u0000r\u0000e"
+            + "\u0000w\u0000A\u0000a\u0000;\u0000r\u0000t\u0000e\u0000o"
+            + "\u0000V\u0000t\u0000;\u0000u\u0000l\u0000;\u0000q\u0000a"
+            + "\u0000;\u0000L\u0000q\u0000e\u0000E\u0000;\u0000;\u0000n"
+            + "\u0000;\u0000;\u0000m\u0000e\u0000c\u0000;\u0000h\u0000a"
+            + "\u0000e\u0000o\u0000o\u0000t\u0000;\u0000r\u0000;\u0000B"
+            + "\u0000E\u0000c\u0000t\u0000;\u0000B\u0000r\u0000o\u0000a"
+            + "\u0000l\u0000a\u0000w\u0000t\u0000o\u0000w\u0000t\u0000o"
+            + "\u0000o\u0000r\u0000u\u0000k\u0000S\u0000T\u0000r\u0000s"
+            + "\u0000p\u0000;\u0000t\u0000e\u0000u\u0000l\u0000e\u0000s"
+            + "\u0000a\u0000l\u0000u\u0000;\u0000g\u0000;\u0000e\u0000E"
+            + "\u0000;\u0000a\u0000s\u0000q\u0000l\u0000e\u0000n\u0000s"
+            + "\u0000e\u0000a\u0000q\u0000l\u0000i\u0000q\u0000l\u0000E"
+            + "\u0000e\u0000a\u0000b\u0000t\u0000s\u0000e\u0000l\u0000t"
+            + "\u0000e\u0000;\u0000n\u0000i\u0000i\u0000a\u0000r\u0000f"
+            + "\u0000;\u0000r\u0000V\u0000t\u0000w\u0000o\u0000e\u0000e"
+            + "\u0000c\u0000r\u0000a\u0000;\u0000o\u0000o\u0000r\u0000;"
+            + "\u0000e\u0000;\u0000E\u0000e\u0000l\u0000t\u0000e\u0000l"
+            + "\u0000a\u0000;\u0000e\u0000r\u0000m\u0000o\u0000r\u0000;"
+            + "\u0000r\u0000e\u0000e\u0000c\u0000o\u0000p\u0000;\u0000e"
+            + "\u0000e\u0000i\u0000f\u0000g\u0000s\u0000g\u0000w\u0000e"
+            + "\u0000i\u0000;\u0000q\u0000w\u0000o\u0000l\u0000o\u0000p"
+            + "\u0000w\u0000o\u0000p\u0000i\u0000e\u0000w\u0000t\u0000o"
+            + "\u0000t\u0000h\u0000e\u0000r\u0000r\u0000e\u0000t\u0000h"
+            + "\u0000i\u0000d\u0000u\u0000o\u0000p\u0000r\u0000r\u0000m"
+            + "\u0000;\u0000l\u0000s\u0000l\u0000;\u0000;\u0000e\u0000t"
+            + "\u0000r\u0000a\u0000t\u0000h\u0000;\u0000q\u0000;\u0000q"
+            + "\u0000e\u0000i\u0000;\u0000e\u0000o\u0000b\u0000t\u0000a"
+            + "\u0000i\u0000u\u0000t\u0000u\u0000a\u0000l\u0000;\u0000I"
+            + "\u0000o\u0000o\u0000h\u0000;\u0000t\u0000h\u0000r\u0000e"
+            + "\u0000;\u0000r\u0000l\u0000r\u0000V\u0000c\u0000r\u0000e"
+            + "\u0000o\u0000a\u0000l\u0000u\u0000l\u0000e\u0000u\u0000r"
+            + "\u0000q\u0000e\u0000a\u0000s\u0000k\u0000t\u0000c\u0000c"
+            + "\u0000r\u0000w\u0000o\u0000;\u0000a\u0000q\u0000t\u0000o"
+            + "\u0000a\u0000;\u0000w\u0000t\u0000;\u0000l\u0000;\u0000A"
+            + "\u0000w\u0000;\u0000a\u0000w\u0000w\u0000o\u0000m\u0000S"
+            + "\u0000p\u0000h\u0000G\u0000s\u0000a\u0000i\u0000;\u0000a"
+            + "\u0000l\u0000a\u0000s\u0000n\u0000d\u0000m\u0000l\u0000r"
+            + "\u0000q\u0000t\u0000L\u0000u\u0000a\u0000m\u0000g\u0000e"
+            + "\u0000r\u0000l\u0000u\u0000a\u0000l\u0000u\u0000;\u0000q"
+            + "\u0000;\u0000r\u0000l\u0000e\u0000i\u0000;\u0000;\u0000E"
+            + "\u0000;\u0000t\u0000b\u0000l\u0000c\u0000;\u0000t\u0000a"
+            + "\u0000e\u0000o\u0000;\u0000r\u0000;\u0000B\u0000E\u0000c"
+            + "\u0000t\u0000;\u0000B\u0000r\u0000w\u0000w\u0000o\u0000c"
+            + "\u0000q\u0000t\u0000;\u0000E\u0000;\u0000;\u0000l\u0000s"
+            + "\u0000r\u0000;\u0000w\u0000o\u0000a\u0000;\u0000;\u0000e"
+            + "\u0000w\u0000;\u0000;\u0000d\u0000l\u0000r\u0000f\u0000g"
+            + "\u0000t\u0000h\u0000;\u0000e\u0000s\u0000f\u0000g\u0000;"
+            + "\u0000;\u0000w\u0000;\u0000w\u0000;\u0000s\u0000w\u0000o"
+            + "\u0000g\u0000s\u0000;\u0000a\u0000w\u0000;\u0000t\u0000;"
+            + "\u0000o\u0000o\u0000l\u0000;\u0000e\u0000t\u0000l\u0000o"
+            + "\u0000p\u0000w\u0000o\u0000o\u0000o\u0000e\u0000;\u0000;"
+            + "\u0000o\u0000q\u0000;\u0000e\u0000r\u0000r\u0000;\u0000t"
+            + "\u0000;\u0000;\u0000f\u0000g\u0000n\u0000u\u0000l\u0000e"
+            + "\u0000l\u0000s\u0000t\u0000;\u0000b\u0000v\u0000d\u0000n"
+            + "\u0000w\u0000w\u0000t\u0000A\u0000R\u0000t\u0000o\u0000;"
+            + "\u0000r\u0000B\u0000o\u0000e\u0000t\u0000;\u0000B\u0000c"
+            + "\u0000r\u0000r\u0000S\u0000a\u0000l\u0000s\u0000a\u0000;"
+            + "\u0000u\u0000;\u0000;\u0000;\u0000e\u0000A\u0000k\u0000t"
+            + "\u0000;\u0000B\u0000;\u0000r\u0000r\u0000u\u0000o\u0000r"
+            + "\u0000r\u0000;\u0000e\u0000;\u0000r\u0000;\u0000r\u0000;"
+            + "\u0000;\u0000w\u0000S\u0000p\u0000a\u0000i\u0000r\u0000;"
+            + "\u0000c\u0000c\u0000l\u0000E\u0000t\u0000;\u0000t\u0000e"
+            + "\u0000p\u0000e\u0000;\u0000u\u0000e\u0000e\u0000a\u0000n"
+            + "\u0000e\u0000l\u0000t\u0000s\u0000;\u0000a\u0000n\u0000d"
+            + "\u0000a\u0000u\u0000;\u0000e\u0000;\u0000s\u0000q\u0000;"
+            + "\u0000r\u0000i\u0000k\u0000A\u0000c\u0000c\u0000r\u0000;"
+            + "\u0000a\u0000q\u0000t\u0000o\u0000a\u0000;\u0000;\u0000;"
+            + "\u0000w\u0000t\u0000u\u0000;\u0000E\u0000q\u0000;\u0000i"
+            + "\u0000o\u0000;\u0000w\u0000t\u0000;\u0000n\u0000o\u0000e"
+            + "\u0000i\u0000t\u0000h\u0000;\u0000t\u0000;\u0000;\u0000t"
+            + "\u0000h\u0000;\u0000n\u0000;\u0000;\u0000s\u0000o\u0000a"
+            + "\u0000;\u0000r\u0000;\u0000;\u0000w\u0000w\u0000;\u0000q"
+            + "\u0000;\u0000e\u0000;\u0000w\u0000;\u0000s\u0000o\u0000w"
+            + "\u0000w\u0000s\u0000n\u0000;\u0000q\u0000o\u0000r\u0000;"
+            + "\u0000t\u0000h\u0000t\u0000r\u0000e\u0000;\u0000;\u0000e"
+            + "\u0000e\u0000l\u0000e\u0000e\u0000t\u0000;\u0000;\u0000A"
+            + "\u0000r\u0000i\u0000A\u0000w\u0000o\u0000a\u0000w\u0000c"
+            + "\u0000o\u0000a\u0000t\u0000;\u0000B\u0000e\u0000q\u0000r"
+            + "\u0000S\u0000s\u0000l\u0000a\u0000t\u0000r\u0000e\u0000o"
+            + "\u0000a\u0000;\u0000;\u0000a\u0000r\u0000;\u0000;\u0000r"
+            + "\u0000r\u0000r\u0000;\u0000p\u0000a\u0000c\u0000n\u0000e"
+            + "\u0000e\u0000a\u0000;\u0000q\u0000e\u0000E\u0000;\u0000;"
+            + "\u0000;\u0000B\u0000E\u0000a\u0000r\u0000s\u0000l\u0000t"
+            + "\u0000n\u0000e\u0000;\u0000E\u0000e\u0000l\u0000t\u0000e"
+            + "\u0000l\u0000a\u0000Q\u0000;\u0000u\u0000i\u0000b\u0000e"
+            + "\u0000r\u0000k\u0000t\u0000;\u0000B\u0000r\u0000u\u0000o"
+            + "\u0000r\u0000r\u0000;\u0000i\u0000a\u0000q\u0000u\u0000s"
+            + "\u0000w\u0000;\u0000o\u0000;\u0000w\u0000f\u0000g\u0000;"
+            + "\u0000t\u0000;\u0000;\u0000t\u0000;\u0000;\u0000n\u0000r"
+            + "\u0000r\u0000;\u0000;\u0000;\u0000q\u0000n\u0000;\u0000n"
+            + "\u0000s\u0000;\u0000;\u0000;\u0000;\u0000w\u0000o\u0000;"
+            + "\u0000t\u0000i\u0000I\u0000Q\u0000C\u0000;\u0000e\u0000;"
+            + "\u0000;\u0000e\u0000r\u0000r\u0000g\u0000r\u0000;\u0000w"
+            + "\u0000r\u0000;\u0000t\u0000r\u0000r\u0000o\u0000a\u0000;"
+            + "\u0000u\u0000e\u0000q\u0000;\u0000;\u0000l\u0000;\u0000r"
+            + "\u0000t\u0000r\u0000r\u0000l\u0000;\u0000;\u0000o\u0000o"
+            + "\u0000a\u0000c\u0000e\u0000S\u0000a\u0000;\u0000l\u0000u"
+            + "\u0000r\u0000q\u0000a\u0000q\u0000l\u0000G\u0000s\u0000;"
+            + "\u0000E\u0000t\u0000;\u0000B\u0000E\u0000q\u0000t\u0000;"
+            + "\u0000E\u0000;\u0000;\u0000l\u0000u\u0000a\u0000u\u0000r"
+            + "\u0000t\u0000r\u0000e\u0000o\u0000a\u0000;\u0000a\u0000r"
+            + "\u0000;\u0000;\u0000o\u0000l\u0000u\u0000a\u0000;\u0000;"
+            + "\u0000r\u0000n\u0000t\u0000h\u0000;\u0000;\u0000s\u0000r"
+            + "\u0000o\u0000;\u0000;\u0000s\u0000;\u0000;\u0000w\u0000;"
+            + "\u0000a\u0000n\u0000u\u0000o\u0000A\u0000g\u0000r\u0000o"
+            + "\u0000h\u0000r\u0000;\u0000;\u0000o\u0000;\u0000;\u0000r"
+            + "\u0000r\u0000a\u0000;\u0000u\u0000;\u0000o\u0000;\u0000;"
+            + "\u0000;\u0000;\u0000w\u0000w\u0000c\u0000e\u0000;\u0000p"
+            + "\u0000t\u0000B\u0000a\u0000;\u0000u\u0000r\u0000u\u0000;"
+            + "\u0000r\u0000;\u0000q\u0000;\u0000a\u0000q\u0000u\u0000;"
+            + "\u0000E\u0000q\u0000;\u0000o\u0000l\u0000m\u0000i\u0000;"
+            + "\u0000o\u0000t\u0000r\u0000r\u0000l\u0000;\u0000n\u0000;"
+            + "\u0000a\u0000l\u0000;\u0000;\u0000;\u0000t\u0000;\u0000o"
+            + "\u0000w\u0000;\u0000;\u0000l\u0000t\u0000o\u0000n\u0000c"
+            + "\u0000r\u0000o\u0000w\u0000t\u0000o\u0000r\u0000;\u0000;"
+            + "\u0000r\u0000a\u0000w\u0000;\u0000;\u0000e\u0000;\u0000a"
+            + "\u0000e\u0000a\u0000l\u0000a\u0000;\u0000a\u0000e\u0000u"
+            + "\u0000r\u0000u\u0000a\u0000q\u0000u\u0000t\u0000;\u0000;"
+            + "\u0000u\u0000w\u0000;\u0000;\u0000;\u0000;\u0000;\u0000l"
+            + "\u0000;\u0000;\u0000w\u0000;\u0000D\u0000e\u0000t\u0000t"
+            + "\u0000u\u0000a\u0000w\u0000;\u0000A\u0000w\u0000;\u0000e"
+            + "\u0000r\u0000;\u0000;\u0000c\u0000r\u0000r\u0000;\u0000l"
+            + "\u0000l\u0000a\u0000a\u0000;\u0000a\u0000l\u0000u\u0000a"
+            + "\u0000e\u0000m\u0000;\u0000;\u0000;\u0000;\u0000g\u0000e"
+            + "\u0000o\u0000t\u0000l\u0000;\u0000r\u0000;\u0000;\u0000e"
+            + "\u0000e\u0000;\u0000;\u0000;\u0000;\u0000t\u0000l\u0000l"
+            + "\u0000;\u0000a\u0000l\u0000;\u0000;\u0000r\u0000;\u0000u"
+            + "\u0000e\u0000;\u0000r\u0000;\u0000;\u0000e\u0000;\u0000;"
+            + "\u0000l\u0000;\u0000a\u0000r\u0000;\u0000o\u0000r\u0000;"
+            + "\u0000l\u0000I\u0000w\u0000;\u0000;\u0000n\u0000;\u0000t"
+            + "\u0000e\u0000g\u0000r\u0000a\u0000l\u0000;");
+
+    /**
+     * The children of node <code>n</code> are the nodes from
+     * <code>TRIE_FIRST_CHILD[n]</code> (inclusive) to
+     * <code>TRIE_FIRST_CHILD[n + 1]</code> (exclusive) and are sorted by label.
+     */
+    static final @NoLength char[] TRIE_FIRST_CHILD = PackedTables.unpackChars(
+            "\u0000\u0001\u00005\u0000E\u0000M\u0000[\u0000f\u0000v\u0000"
+            + "{\u0000\u0087\u0000\u008f\u0000\u009d\u0000\u00a2\u0000"
+            + "\u00a9\u0000\u00b4\u0000\u00bc\u0000\u00c5\u0000\u00d3\u0000"
+            + "\u00dc\u0000\u00e0\u0000\u00ec\u0000\u00f9\u0001\u0004\u0001"
+            + "\u0012\u0001\u001b\u0001 \u0001$\u0001-\u00015\u0001E\u0001U"
+            + "\u0001d\u0001w\u0001\u0089\u0001\u0095\u0001\u00a6\u0001"
+            + "\u00b0\u0001\u00bf\u0001\u00c5\u0001\u00cd\u0001\u00e4\u0001"
+            + "\u00f2\u0002\n\u0002\u001c\u0002(\u0002.\u0002C\u0002V\u0002"
+            + "c\u0002u\u0002\u0084\u0002\u008b\u0002\u0099\u0002\u00a1"
+            + "\u0002\u00ab\u0002\u00ac\u0002\u00ad\u0002\u00ae\u0002\u00af"
+            + "\u0002\u00b1\u0002\u00b2\u0002\u00b3\u0002\u00b4\u0002\u00b5"
+            + "\u0002\u00b6\u0002\u00b8\u0002\u00b9\u0002\u00ba\u0002\u00bc"
+            + "\u0002\u00bd\u0002\u00be\u0002\u00c0\u0002\u00c1\u0002\u00c4"
+            + "\u0002\u00c5\u0002\u00c6\u0002\u00c7\u0002\u00c8\u0002\u00c9"
+            + "\u0002\u00ca\u0002\u00cb\u0002\u00ce\u0002\u00d2\u0002\u00d3"
+            + "\u0002\u00d5\u0002\u00d6\u0002\u00d7\u0002\u00d8\u0002\u00d9"
+            + "\u0002\u00dd\u0002\u00de\u0002\u00df\u0002\u00e0\u0002\u00e2"
+            + "\u0002\u00e3\u0002\u00e4\u0002\u00e5\u0002\u00e8\u0002\u00ea"
+            + "\u0002\u00eb\u0002\u00ec\u0002\u00ee\u0002\u00f2\u0002\u00f4"
+            + "\u0002\u00f5\u0002\u00f6\u0002\u00f7\u0002\u00fa\u0002\u00fb"
+            + "\u0002\u00fc\u0002\u00fd\u0002\u00fe\u0003\u0000\u0003\u0002"
+            + "\u0003\u0003\u0003\u0004\u0003\u0006\u0003\u0007\u0003\u0008"
+            + "\u0003\n\u0003\u000b\u0003\u000c\u0003\r\u0003\u0010\u0003"
+            + "\u0011\u0003\u0012\u0003\u0013\u0003\u0014\u0003\u0015\u0003"
+            + "\u0018\u0003\u0019\u0003\u001a\u0003\u001b\u0003\u001c\u0003"
+            + "\u001d\u0003\u001e\u0003\u001f\u0003 \u0003\"\u0003#\u0003$"
+            + "\u0003%\u0003'\u0003)\u0003*\u0003+\u0003,\u0003-\u0003."
+            + "\u00030\u00031\u00032\u00033\u00036\u00038\u0003;\u0003<"
+            + "\u0003=\u0003?\u0003A\u0003B\u0003C\u0003E\u0003F\u0003G"
+            + "\u0003H\u0003I\u0003K\u0003L\u0003M\u0003N\u0003O\u0003P"
+            + "\u0003U\u0003X\u0003Z\u0003[\u0003]\u0003^\u0003a\u0003d"
+            + "\u0003e\u0003f\u0003g\u0003i\u0003j\u0003k\u0003l\u0003m"
+            + "\u0003n\u0003o\u0003p\u0003s\u0003v\u0003w\u0003{\u0003|"
+            + "\u0003}\u0003~\u0003\u007f\u0003\u0080\u0003\u0082\u0003"
+            + "\u0083\u0003\u0084\u0003\u0085\u0003\u0088\u0003\u0089\u0003"
+            + "\u008a\u0003\u008b\u0003\u008d\u0003\u008e\u0003\u008f\u0003"
+            + "\u0090\u0003\u0091\u0003\u0092\u0003\u0093\u0003\u0094\u0003"
+            + "\u0095\u0003\u0096\u0003\u0098\u0003\u009c\u0003\u009e\u0003"
+            + "\u009f\u0003\u00a0\u0003\u00a1\u0003\u00a2\u0003\u00a3\u0003"
+            + "\u00a4\u0003\u00a7\u0003\u00aa\u0003\u00ac\u0003\u00ad\u0003"
+            + "\u00ae\u0003\u00af\u0003\u00b1\u0003\u00b2\u0003\u00b4\u0003"
+            + "\u00b5\u0003\u00b7\u0003\u00b8\u0003\u00b9\u0003\u00be\u0003"
+            + "\u00bf\u0003\u00c0\u0003\u00c1\u0003\u00c2\u0003\u00c3\u0003"
+            + "\u00c5\u0003\u00c6\u0003\u00c7\u0003\u00cb\u0003\u00cc\u0003"
+            + "\u00cd\u0003\u00cf\u0003\u00d1\u0003\u00d4\u0003\u00d5\u0003"
+            + "\u00d7\u0003\u00d8\u0003\u00d9\u0003\u00da\u0003\u00dc\u0003"
+            + "\u00de\u0003\u00df\u0003\u00e1\u0003\u00e2\u0003\u00e3\u0003"
+            + "\u00e4\u0003\u00e5\u0003\u00e7\u0003\u00e9\u0003\u00f1\u0003"
+            + "\u00f2\u0003\u00f3\u0003\u00f4\u0003\u00f5\u0003\u00f6\u0003"
+            + "\u00f7\u0003\u00f8\u0003\u00f9\u0003\u00fb\u0003\u00fc\u0003"
+            + "\u00fd\u0003\u00fe\u0003\u00ff\u0004\u0000\u0004\u0001\u0004"
+            + "\u0002\u0004\u0003\u0004\u0004\u0004\u0005\u0004\u0006\u0004"
+            + "\u0007\u0004\u0008\u0004\u0009\u0004\n\u0004\u000b\u0004"
+            + "\u000c\u0004\u000e\u0004\u000f\u0004\u0010\u0004\u0011\u0004"
+            + "\u0012\u0004\u0013\u0004\u0014\u0004\u0016\u0004\u0017\u0004"
+            + "\u0019\u0004\u001a\u0004\u001b\u0004\u001c\u0004\u001d\u0004"
+            + "\u001e\u0004$\u0004%\u0004'\u0004(\u0004*\u0004,\u0004."
+            + "\u00040\u00047\u00048\u0004;\u0004<\u0004=\u0004?\u0004@"
+            + "\u0004B\u0004C\u0004E\u0004F\u0004K\u0004L\u0004M\u0004N"
+            + "\u0004Q\u0004S\u0004W\u0004X\u0004Z\u0004^\u0004`\u0004c"
+            + "\u0004g\u0004h\u0004k\u0004l\u0004o\u0004p\u0004q\u0004u"
+            + "\u0004w\u0004y\u0004z\u0004\u0081\u0004\u0083\u0004\u0084"
+            + "\u0004\u0085\u0004\u0086\u0004\u008a\u0004\u008c\u0004\u008e"
+            + "\u0004\u0091\u0004\u0094\u0004\u0096\u0004\u0097\u0004\u009c"
+            + "\u0004\u009d\u0004\u009e\u0004\u00a3\u0004\u00a5\u0004\u00a8"
+            + "\u0004\u00aa\u0004\u00ac\u0004\u00ad\u0004\u00af\u0004\u00b1"
+            + "\u0004\u00b3\u0004\u00b7\u0004\u00b8\u0004\u00b9\u0004\u00bb"
+            + "\u0004\u00be\u0004\u00c2\u0004\u00c5\u0004\u00c7\u0004\u00c9"
+            + "\u0004\u00cc\u0004\u00d0\u0004\u00d2\u0004\u00d5\u0004\u00d7"
+            + "\u0004\u00d9\u0004\u00dc\u0004\u00dd\u0004\u00de\u0004\u00df"
+            + "\u0004\u00e2\u0004\u00e3\u0004\u00e4\u0004\u00e7\u0004\u00e8"
+            + "\u0004\u00ea\u0004\u00eb\u0004\u00ed\u0004\u00ee\u0004\u00f0"
+            + "\u0004\u00f3\u0004\u00f4\u0004\u00f6\u0004\u00f7\u0004\u00fb"
+            + "\u0004\u00fc\u0004\u00fe\u0004\u00ff\u0005\u0000\u0005\u0004"
+            + "\u0005\u0008\u0005\u0009\u0005\n\u0005\u000c\u0005\u0012"
+            + "\u0005\u0014\u0005\u0015\u0005\u0019\u0005\u001a\u0005\u001b"
+            + "\u0005\u001e\u0005\u001f\u0005 \u0005%\u0005(\u0005*\u0005+"
+            + "\u0005.\u00050\u00052\u00053\u00057\u00058\u0005;\u0005@"
+            + "\u0005D\u0005E\u0005F\u0005H\u0005J\u0005L\u0005N\u0005O"
+            + "\u0005P\u0005Q\u0005S\u0005T\u0005U\u0005W\u0005X\u0005Y"
+            + "\u0005Z\u0005[\u0005\\\u0005]\u0005`\u0005a\u0005c\u0005d"
+            + "\u0005m\u0005p\u0005t\u0005x\u0005}\u0005\u0080\u0005\u0082"
+            + "\u0005\u0084\u0005\u0085\u0005\u008a\u0005\u008c\u0005\u0090"
+            + "\u0005\u0098\u0005\u0099\u0005\u009e\u0005\u00a4\u0005\u00ac"
+            + "\u0005\u00ad\u0005\u00af\u0005\u00b0\u0005\u00b4\u0005\u00b6"
+            + "\u0005\u00b7\u0005\u00b8\u0005\u00b9\u0005\u00ba\u0005\u00bd"
+            + "\u0005\u00bf\u0005\u00c0\u0005\u00c2\u0005\u00c3\u0005\u00c5"
+            + "\u0005\u00c8\u0005\u00ca\u0005\u00cd\u0005\u00ce\u0005\u00d0"
+            + "\u0005\u00d5\u0005\u00d7\u0005\u00dc\u0005\u00dd\u0005\u00e4"
+            + "\u0005\u00e5\u0005\u00e9\u0005\u00ec\u0005\u00ef\u0005\u00f0"
+            + "\u0005\u00f7\u0005\u00f8\u0005\u00fa\u0005\u00fd\u0006\u0001"
+            + "\u0006\u0008\u0006\u000c\u0006\u000e\u0006\u0017\u0006\u001a"
+            + "\u0006\u001b\u0006\u001d\u0006\u001f\u0006$\u0006%\u0006'"
+            + "\u0006*\u0006,\u0006-\u00061\u00064\u00065\u00068\u0006?"
+            + "\u0006B\u0006C\u0006D\u0006E\u0006F\u0006G\u0006H\u0006I"
+            + "\u0006L\u0006O\u0006Q\u0006R\u0006U\u0006_\u0006a\u0006b"
+            + "\u0006c\u0006d\u0006e\u0006f\u0006g\u0006j\u0006m\u0006n"
+            + "\u0006o\u0006v\u0006y\u0006}\u0006\u0081\u0006\u0084\u0006"
+            + "\u0087\u0006\u0089\u0006\u008c\u0006\u008f\u0006\u0090\u0006"
+            + "\u0091\u0006\u0095\u0006\u0097\u0006\u0098\u0006\u009c\u0006"
+            + "\u009f\u0006\u00a0\u0006\u00a1\u0006\u00a2\u0006\u00a3\u0006"
+            + "\u00ad\u0006\u00ae\u0006\u00b5\u0006\u00b6\u0006\u00ba\u0006"
+            + "\u00bc\u0006\u00bd\u0006\u00c1\u0006\u00c4\u0006\u00c5\u0006"
+            + "\u00c8\u0006\u00c9\u0006\u00cd\u0006\u00cf\u0006\u00d4\u0006"
+            + "\u00d7\u0006\u00d8\u0006\u00da\u0006\u00db\u0006\u00de\u0006"
+            + "\u00df\u0006\u00e0\u0006\u00e1\u0006\u00e5\u0006\u00e8\u0006"
+            + "\u00eb\u0006\u00ec\u0006\u00ef\u0006\u00f2\u0006\u00f4\u0006"
+            + "\u00f5\u0006\u00f6\u0006\u00f8\u0006\u00f9\u0006\u00fb\u0006"
+            + "\u00fe\u0007\u0000\u0007\u0001\u0007\u0003\u0007\u0005\u0007"
+            + "\u0007\u0007\u0009\u0007\u000f\u0007\u0012\u0007\u0013\u0007"
+            + "\u0016\u0007\u0018\u0007\u0019\u0007\u001a\u0007\u001b\u0007"
+            + "\u001c\u0007\u001e\u0007\u001f\u0007 \u0007#\u0007$\u0007%"
+            + "\u0007&\u0007'\u0007(\u0007)\u0007+\u0007,\u0007-\u0007/"
+            + "\u00070\u00071\u00072\u00074\u00075\u00078\u00079\u0007:"
+            + "\u0007<\u0007=\u0007?\u0007@\u0007A\u0007D\u0007F\u0007H"
+            + "\u0007J\u0007K\u0007L\u0007M\u0007O\u0007P\u0007Q\u0007R"
+            + "\u0007S\u0007T\u0007V\u0007W\u0007Y\u0007Z\u0007\\\u0007]"
+            + "\u0007^\u0007_\u0007`\u0007a\u0007c\u0007d\u0007e\u0007f"
+            + "\u0007g\u0007h\u0007i\u0007j\u0007k\u0007l\u0007m\u0007n"
+            + "\u0007o\u0007p\u0007q\u0007r\u0007s\u0007t\u0007u\u0007v"
+            + "\u0007w\u0007y\u0007z\u0007{\u0007|\u0007}\u0007~\u0007"
+            + "\u007f\u0007\u0080\u0007\u0081\u0007\u0082\u0007\u0083\u0007"
+            + "\u0084\u0007\u0085\u0007\u0087\u0007\u0088\u0007\u0089\u0007"
+            + "\u008a\u0007\u008b\u0007\u008c\u0007\u008d\u0007\u008e\u0007"
+            + "\u008f\u0007\u0090\u0007\u0091\u0007\u0092\u0007\u0094\u0007"
+            + "\u0095\u0007\u0098\u0007\u009a\u0007\u009b\u0007\u009c\u0007"
+            + "\u009d\u0007\u009f\u0007\u009f\u0007\u00a0\u0007\u00a1\u0007"
+            + "\u00a2\u0007\u00a3\u0007\u00a4\u0007\u00a5\u0007\u00a6\u0007"
+            + "\u00a7\u0007\u00a8\u0007\u00aa\u0007\u00ab\u0007\u00ad\u0007"
+            + "\u00ae\u0007\u00af\u0007\u00b2\u0007\u00b3\u0007\u00b4\u0007"
+            + "\u00b5\u0007\u00b6\u0007\u00b7\u0007\u00b8\u0007\u00b9\u0007"
+            + "\u00ba\u0007\u00bb\u0007\u00bc\u0007\u00bd\u0007\u00be\u0007"
+            + "\u00bf\u0007\u00c0\u0007\u00c1\u0007\u00c2\u0007\u00c3\u0007"
+            + "\u00c4\u0007\u00c5\u0007\u00c7\u0007\u00c8\u0007\u00c9\u0007"
+            + "\u00ca\u0007\u00cb\u0007\u00cc\u0007\u00cd\u0007\u00ce\u0007"
+            + "\u00cf\u0007\u00d0\u0007\u00d1\u0007\u00d2\u0007\u00d3\u0007"
+            + "\u00d4\u0007\u00d5\u0007\u00d5\u0007\u00d6\u0007\u00d7\u0007"
+            + "\u00d8\u0007\u00d9\u0007\u00da\u0007\u00db\u0007\u00dc\u0007"
+            + "\u00dc\u0007\u00dd\u0007\u00de\u0007\u00df\u0007\u00df\u0007"
+            + "\u00e0\u0007\u00e1\u0007\u00e2\u0007\u00e3\u0007\u00e4\u0007"
+            + "\u00e5\u0007\u00e6\u0007\u00e7\u0007\u00e8\u0007\u00e9\u0007"
+            + "\u00ea\u0007\u00eb\u0007\u00ec\u0007\u00ed\u0007\u00ee\u0007"
+            + "\u00ef\u0007\u00f0\u0007\u00f1\u0007\u00f2\u0007\u00f3\u0007"
+            + "\u00f3\u0007\u00f5\u0007\u00f6\u0007\u00f8\u0007\u00f9\u0007"
+            + "\u00fa\u0007\u00fb\u0007\u00fc\u0007\u00fd\u0007\u00fe\u0007"
+            + "\u00ff\u0008\u0000\u0008\u0001\u0008\u0002\u0008\u0003\u0008"
+            + "\u0004\u0008\u0005\u0008\u0006\u0008\u0007\u0008\u0008\u0008"
+            + "\u0009\u0008\n\u0008\u000b\u0008\u000c\u0008\r\u0008\u000e"
+            + "\u0008\u000f\u0008\u0010\u0008\u0010\u0008\u0011\u0008\u0012"
+            + "\u0008\u0013\u0008\u0014\u0008\u0015\u0008\u0016\u0008\u0017"
+            + "\u0008\u0018\u0008\u0019\u0008\u001a\u0008\u001b\u0008\u001b"
+            + "\u0008\u001c\u0008\u001d\u0008\u001e\u0008\u001f\u0008 "
+            + "\u0008!\u0008\"\u0008#\u0008#\u0008$\u0008%\u0008&\u0008'"
+            + "\u0008(\u0008)\u0008*\u0008+\u0008+\u0008,\u0008-\u0008."
+            + "\u0008/\u00080\u00081\u00082\u00083\u00084\u00085\u00086"
+            + "\u00087\u0008D\u0008E\u0008F\u0008F\u0008G\u0008H\u0008I"
+            + "\u0008J\u0008K\u0008L\u0008M\u0008N\u0008O\u0008P\u0008Q"
+            + "\u0008R\u0008R\u0008S\u0008T\u0008V\u0008W\u0008X\u0008Y"
+            + "\u0008Z\u0008[\u0008\\\u0008\\\u0008]\u0008^\u0008_\u0008_"
+            + "\u0008`\u0008a\u0008c\u0008d\u0008e\u0008f\u0008g\u0008h"
+            + "\u0008i\u0008j\u0008k\u0008l\u0008m\u0008n\u0008o\u0008p"
+            + "\u0008q\u0008q\u0008r\u0008s\u0008t\u0008u\u0008v\u0008w"
+            + "\u0008x\u0008y\u0008z\u0008{\u0008|\u0008}\u0008~\u0008"
+            + "\u007f\u0008\u007f\u0008\u0080\u0008\u0081\u0008\u0082\u0008"
+            + "\u0083\u0008\u0084\u0008\u0085\u0008\u0086\u0008\u0087\u0008"
+            + "\u0088\u0008\u0089\u0008\u008a\u0008\u008b\u0008\u008c\u0008"
+            + "\u008e\u0008\u0090\u0008\u0091\u0008\u0094\u0008\u0095\u0008"
+            + "\u0096\u0008\u0097\u0008\u0098\u0008\u0099\u0008\u009a\u0008"
+            + "\u009b\u0008\u009c\u0008\u009d\u0008\u009e\u0008\u00a0\u0008"
+            + "\u00a2\u0008\u00a3\u0008\u00a4\u0008\u00a5\u0008\u00a6\u0008"
+            + "\u00a7\u0008\u00a8\u0008\u00a9\u0008\u00ab\u0008\u00ac\u0008"
+            + "\u00ad\u0008\u00ae\u0008\u00af\u0008\u00b0\u0008\u00b1\u0008"
+            + "\u00b2\u0008\u00b3\u0008\u00b4\u0008\u00b5\u0008\u00b6\u0008"
+            + "\u00b7\u0008\u00b8\u0008\u00b9\u0008\u00ba\u0008\u00bb\u0008"
+            + "\u00bc\u0008\u00bd\u0008\u00be\u0008\u00bf\u0008\u00c0\u0008"
+            + "\u00c1\u0008\u00c2\u0008\u00c3\u0008\u00c4\u0008\u00c5\u0008"
+            + "\u00c6\u0008\u00c9\u0008\u00ca\u0008\u00cb\u0008\u00cc\u0008"
+            + "\u00cd\u0008\u00ce\u0008\u00cf\u0008\u00d0\u0008\u00d1\u0008"
+            + "\u00d2\u0008\u00d3\u0008\u00d3\u0008\u00d4\u0008\u00d5\u0008"
+            + "\u00d6\u0008\u00d7\u0008\u00d8\u0008\u00d9\u0008\u00da\u0008"
+            + "\u00db\u0008\u00dc\u0008\u00dd\u0008\u00de\u0008\u00df\u0008"
+            + "\u00e0\u0008\u00e1\u0008\u00e2\u0008\u00e3\u0008\u00e4\u0008"
+            + "\u00e5\u0008\u00e6\u0008\u00e7\u0008\u00e8\u0008\u00e9\u0008"
+            + "\u00ea\u0008\u00eb\u0008\u00eb\u0008\u00ec\u0008\u00ed\u0008"
+            + "\u00ee\u0008\u00ef\u0008\u00f0\u0008\u00f1\u0008\u00f1\u0008"
+            + "\u00f2\u0008\u00f3\u0008\u00f5\u0008\u00f6\u0008\u00f8\u0008"
+            + "\u00f9\u0008\u00fe\u0009\u0005\u0009\u0006\u0009\u0007\u0009"
+            + "\u0007\u0009\u0008\u0009\u0009\u0009\n\u0009\u000b\u0009"
+            + "\u000c\u0009\r\u0009\u000e\u0009\u000f\u0009\u0010\u0009"
+            + "\u0011\u0009\u0012\u0009\u0013\u0009\u0014\u0009\u0015\u0009"
+            + "\u0016\u0009\u0017\u0009\u0019\u0009\u001a\u0009\u001b\u0009"
+            + "\u001c\u0009\u001d\u0009\u001e\u0009\u001f\u0009 \u0009!"
+            + "\u0009$\u0009%\u0009,\u0009-\u0009/\u00091\u00092\u00094"
+            + "\u00095\u00096\u00098\u00099\u0009E\u0009F\u0009G\u0009H"
+            + "\u0009I\u0009J\u0009K\u0009L\u0009M\u0009N\u0009O\u0009U"
+            + "\u0009W\u0009Y\u0009Z\u0009[\u0009\\\u0009]\u0009^\u0009_"
+            + "\u0009`\u0009a\u0009b\u0009c\u0009d\u0009k\u0009l\u0009m"
+            + "\u0009o\u0009q\u0009t\u0009u\u0009v\u0009w\u0009y\u0009z"
+            + "\u0009{\u0009}\u0009~\u0009\u0084\u0009\u0088\u0009\u0089"
+            + "\u0009\u008a\u0009\u008b\u0009\u008c\u0009\u008d\u0009\u008e"
+            + "\u0009\u008f\u0009\u0090\u0009\u0091\u0009\u0092\u0009\u0093"
+            + "\u0009\u0094\u0009\u0095\u0009\u0096\u0009\u0097\u0009\u0097"
+            + "\u0009\u0099\u0009\u009a\u0009\u009b\u0009\u009c\u0009\u009d"
+            + "\u0009\u009e\u0009\u009f\u0009\u00a0\u0009\u00a1\u0009\u00a2"
+            + "\u0009\u00a3\u0009\u00a4\u0009\u00a7\u0009\u00a8\u0009\u00aa"
+            + "\u0009\u00ab\u0009\u00ac\u0009\u00b1\u0009\u00b2\u0009\u00b3"
+            + "\u0009\u00b4\u0009\u00b6\u0009\u00b8\u0009\u00b9\u0009\u00ba"
+            + "\u0009\u00bb\u0009\u00bc\u0009\u00bd\u0009\u00be\u0009\u00bf"
+            + "\u0009\u00c0\u0009\u00c1\u0009\u00c2\u0009\u00c3\u0009\u00c4"
+            + "\u0009\u00c5\u0009\u00c6\u0009\u00c7\u0009\u00c8\u0009\u00c9"
+            + "\u0009\u00ca\u0009\u00ca\u0009\u00cb\u0009\u00cc\u0009\u00cc"
+            + "\u0009\u00cd\u0009\u00cf\u0009\u00cf\u0009\u00d0\u0009\u00d1"
+            + "\u0009\u00d3\u0009\u00d4\u0009\u00d5\u0009\u00d6\u0009\u00d7"
+            + "\u0009\u00d8\u0009\u00d9\u0009\u00da\u0009\u00db\u0009\u00dc"
+            + "\u0009\u00dd\u0009\u00df\u0009\u00e1\u0009\u00e4\u0009\u00e5"
+            + "\u0009\u00e6\u0009\u00e7\u0009\u00e8\u0009\u00e9\u0009\u00ea"
+            + "\u0009\u00eb\u0009\u00ec\u0009\u00ed\u0009\u00ee\u0009\u00ef"
+            + "\u0009\u00f0\u0009\u00f2\u0009\u00f3\u0009\u00f4\u0009\u00f5"
+            + "\u0009\u00f6\u0009\u00f8\u0009\u00f9\u0009\u00fa\u0009\u00fb"
+            + "\u0009\u00fc\u0009\u00fd\u0009\u00fe\u0009\u00ff\n\u0000\n"
+            + "\u0002\n\u0003\n\u0005\n\u0006\n\u0007\n\u0007\n\u0008\n"
+            + "\u0009\n\n\n\u000b\n\u000c\n\r\n\u000e\n\u000f\n\u000f\n"
+            + "\u0010\n\u0013\n\u0017\n\u0018\n\u0018\n\u0019\n\u001a\n"
+            + "\u001b\n\u001b\n\u001c\n\u001d\n\u001e\n\u001f\n \n\"\n#\n$"
+            + "\n%\n&\n'\n'\n)\n*\n+\n,\n1\n2\n3\n4\n5\n6\n7\n9\n:\n;\n<\n="
+            + "\n>\n?\nA\nB\nC\nD\nE\nF\nG\nH\nI\nJ\nK\nL\nL\nM\nN\nO\nP\nQ"
+            + "\nR\nS\nS\nU\nV\nW\nX\n[\n\\\n]\n]\n^\n_\n`\ne\nf\ng\nh\ni\n"
+            + "j\nk\nl\nm\nm\nn\no\np\nq\nr\ns\nt\nu\nv\nw\nx\ny\nz\n{\n|\n"
+            + "}\n~\n\u007f\n\u0080\n\u0081\n\u0082\n\u0083\n\u0084\n\u0085"
+            + "\n\u0085\n\u0086\n\u0087\n\u0088\n\u0089\n\u008a\n\u008b\n"
+            + "\u008c\n\u008d\n\u008e\n\u008f\n\u0092\n\u0093\n\u0094\n"
+            + "\u0096\n\u0097\n\u0099\n\u009a\n\u009b\n\u009c\n\u009d\n"
+            + "\u009f\n\u00a0\n\u00a0\n\u00a1\n\u00a2\n\u00a5\n\u00aa\n"
+            + "\u00ab\n\u00ac\n\u00ad\n\u00ad\n\u00ae\n\u00af\n\u00b0\n"
+            + "\u00b1\n\u00b1\n\u00b2\n\u00b3\n\u00b4\n\u00b5\n\u00b6\n"
+            + "\u00b7\n\u00b8\n\u00b9\n\u00bb\n\u00bc\n\u00be\n\u00bf\n"
+            + "\u00c0\n\u00c1\n\u00c4\n\u00c5\n\u00c7\n\u00ca\n\u00cb\n"
+            + "\u00cc\n\u00cd\n\u00ce\n\u00cf\n\u00d0\n\u00d1\n\u00d2\n"
+            + "\u00d3\n\u00d4\n\u00d6\n\u00d7\n\u00d7\n\u00d9\n\u00da\n"
+            + "\u00db\n\u00dc\n\u00dd\n\u00de\n\u00e0\n\u00e2\n\u00e3\n"
+            + "\u00e4\n\u00e5\n\u00e6\n\u00e8\n\u00ea\n\u00eb\n\u00ec\n"
+            + "\u00ed\n\u00ee\n\u00ef\n\u00f0\n\u00f1\n\u00f2\n\u00f6\n"
+            + "\u00f7\n\u00f8\n\u00f9\n\u00fa\n\u00fb\n\u00fc\n\u00fc\n"
+            + "\u00fd\n\u00fe\n\u00fe\n\u00ff\u000b\u0000\u000b\u0001\u000b"
+            + "\u0003\u000b\u0004\u000b\u0005\u000b\u0007\u000b\u0008\u000b"
+            + "\u0009\u000b\n\u000b\u000b\u000b\u000c\u000b\r\u000b\u0012"
+            + "\u000b\u0013\u000b\u0014\u000b\u0015\u000b\u0017\u000b\u0018"
+            + "\u000b\u0019\u000b\u001a\u000b\u001b\u000b\u001c\u000b\u001c"
+            + "\u000b\u001d\u000b\u001e\u000b\u001f\u000b \u000b\"\u000b#"
+            + "\u000b$\u000b%\u000b(\u000b)\u000b+\u000b,\u000b-\u000b."
+            + "\u000b.\u000b0\u000b1\u000b2\u000b3\u000b4\u000b5\u000b6"
+            + "\u000b:\u000b;\u000b=\u000b>\u000b?\u000bB\u000bC\u000bD"
+            + "\u000bG\u000bH\u000bI\u000bJ\u000bK\u000bO\u000bP\u000bQ"
+            + "\u000bR\u000bS\u000bT\u000bW\u000bX\u000bY\u000bZ\u000b["
+            + "\u000b[\u000b^\u000b_\u000b`\u000ba\u000bb\u000bd\u000be"
+            + "\u000bh\u000bj\u000bk\u000bl\u000bm\u000bn\u000bn\u000bo"
+            + "\u000bp\u000bq\u000br\u000bs\u000bt\u000bu\u000bv\u000bw"
+            + "\u000bx\u000by\u000bz\u000b{\u000b|\u000b}\u000b~\u000b"
+            + "\u007f\u000b\u0080\u000b\u0081\u000b\u0083\u000b\u0084\u000b"
+            + "\u0085\u000b\u0086\u000b\u0087\u000b\u008a\u000b\u008b\u000b"
+            + "\u008c\u000b\u008d\u000b\u008e\u000b\u008e\u000b\u008f\u000b"
+            + "\u0093\u000b\u0094\u000b\u0095\u000b\u0096\u000b\u0097\u000b"
+            + "\u0098\u000b\u0099\u000b\u009a\u000b\u009c\u000b\u009d\u000b"
+            + "\u009e\u000b\u00a2\u000b\u00a3\u000b\u00a8\u000b\u00a9\u000b"
+            + "\u00ab\u000b\u00ac\u000b\u00ad\u000b\u00ad\u000b\u00ae\u000b"
+            + "\u00af\u000b\u00b0\u000b\u00b1\u000b\u00b1\u000b\u00b2\u000b"
+            + "\u00b3\u000b\u00b4\u000b\u00b4\u000b\u00b5\u000b\u00b6\u000b"
+            + "\u00b7\u000b\u00b9\u000b\u00ba\u000b\u00bd\u000b\u00c0\u000b"
+            + "\u00c1\u000b\u00c2\u000b\u00c3\u000b\u00c4\u000b\u00c5\u000b"
+            + "\u00c6\u000b\u00c7\u000b\u00c8\u000b\u00c9\u000b\u00ca\u000b"
+            + "\u00cb\u000b\u00cc\u000b\u00cd\u000b\u00ce\u000b\u00cf\u000b"
+            + "\u00d0\u000b\u00d1\u000b\u00d2\u000b\u00d4\u000b\u00d5\u000b"
+            + "\u00d6\u000b\u00d7\u000b\u00d8\u000b\u00d9\u000b\u00db\u000b"
+            + "\u00dc\u000b\u00dd\u000b\u00df\u000b\u00e0\u000b\u00e2\u000b"
+            + "\u00e3\u000b\u00e4\u000b\u00e5\u000b\u00e6\u000b\u00e7\u000b"
+            + "\u00e8\u000b\u00e9\u000b\u00ea\u000b\u00eb\u000b\u00ec\u000b"
+            + "\u00ed\u000b\u00ee\u000b\u00ef\u000b\u00f1\u000b\u00f2\u000b"
+            + "\u00f3\u000b\u00f4\u000b\u00f5\u000b\u00f6\u000b\u00f7\u000b"
+            + "\u00f8\u000b\u00f9\u000b\u00fb\u000b\u00fc\u000b\u00ff\u000c"
+            + "\u0000\u000c\u0001\u000c\u0002\u000c\u0003\u000c\u0004\u000c"
+            + "\u0005\u000c\u0006\u000c\u0008\u000c\u0009\u000c\n\u000c"
+            + "\u000b\u000c\u000c\u000c\u000c\u000c\r\u000c\u000e\u000c"
+            + "\u000e\u000c\u000f\u000c\u0011\u000c\u0012\u000c\u0014\u000c"
+            + "\u0015\u000c\u0018\u000c\u0019\u000c\u001a\u000c\u001b\u000c"
+            + "\u001c\u000c\u001d\u000c\u001e\u000c\u001f\u000c \u000c!"
+            + "\u000c\"\u000c#\u000c%\u000c&\u000c(\u000c)\u000c*\u000c+"
+            + "\u000c3\u000c4\u000c6\u000c7\u000c9\u000c;\u000c<\u000c>"
+            + "\u000c?\u000cA\u000cC\u000cD\u000cG\u000cH\u000cI\u000cJ"
+            + "\u000cK\u000cL\u000cM\u000cO\u000cX\u000cY\u000cZ\u000c["
+            + "\u000ch\u000ci\u000cj\u000ck\u000cl\u000cm\u000cn\u000co"
+            + "\u000cp\u000cq\u000cr\u000cs\u000ct\u000cu\u000cw\u000cy"
+            + "\u000c{\u000c|\u000c}\u000c~\u000c\u007f\u000c\u0080\u000c"
+            + "\u0084\u000c\u0085\u000c\u0086\u000c\u0087\u000c\u008e\u000c"
+            + "\u008f\u000c\u0091\u000c\u0092\u000c\u0093\u000c\u0094\u000c"
+            + "\u0095\u000c\u0096\u000c\u0097\u000c\u0098\u000c\u0099\u000c"
+            + "\u009b\u000c\u009c\u000c\u009d\u000c\u009e\u000c\u009f\u000c"
+            + "\u00a0\u000c\u00a1\u000c\u00a2\u000c\u00a3\u000c\u00a4\u000c"
+            + "\u00a5\u000c\u00a7\u000c\u00a8\u000c\u00a9\u000c\u00aa\u000c"
+            + "\u00ab\u000c\u00ac\u000c\u00ad\u000c\u00ae\u000c\u00af\u000c"
+            + "\u00b0\u000c\u00b1\u000c\u00b2\u000c\u00b4\u000c\u00b5\u000c"
+            + "\u00b6\u000c\u00b7\u000c\u00b8\u000c\u00b9\u000c\u00ba\u000c"
+            + "\u00bb\u000c\u00bc\u000c\u00bd\u000c\u00be\u000c\u00bf\u000c"
+            + "\u00c0\u000c\u00c1\u000c\u00c8\u000c\u00c9\u000c\u00ca\u000c"
+            + "\u00cd\u000c\u00ce\u000c\u00d0\u000c\u00d1\u000c\u00d2\u000c"
+            + "\u00d3\u000c\u00d4\u000c\u00d5\u000c\u00d6\u000c\u00d7\u000c"
+            + "\u00d9\u000c\u00da\u000c\u00db\u000c\u00dd\u000c\u00de\u000c"
+            + "\u00df\u000c\u00e0\u000c\u00e0\u000c\u00e0\u000c\u00e1\u000c"
+            + "\u00e2\u000c\u00e3\u000c\u00e4\u000c\u00e5\u000c\u00e6\u000c"
+            + "\u00e7\u000c\u00e8\u000c\u00e9\u000c\u00e9\u000c\u00ea\u000c"
+            + "\u00eb\u000c\u00ec\u000c\u00ed\u000c\u00ee\u000c\u00f0\u000c"
+            + "\u00f1\u000c\u00f2\u000c\u00f3\u000c\u00f4\u000c\u00f5\u000c"
+            + "\u00f6\u000c\u00f7\u000c\u00f8\u000c\u00f9\u000c\u00fb\u000c"
+            + "\u00fc\u000c\u00fd\u000c\u00fe\u000c\u00ff\r\u0000\r\u0001\r"
+            + "\u0002\r\u0003\r\u0004\r\u0005\r\u0006\r\u0007\r\u0008\r"
+            + "\u0009\r\n\r\u000b\r\u000c\r\r\r\u000e\r\u000f\r\u0010\r"
+            + "\u0011\r\u0012\r\u0012\r\u0013\r\u0014\r\u0015\r\u0015\r"
+            + "\u0015\r\u0016\r\u0017\r\u0018\r\u0018\r\u0019\r\u001a\r"
+            + "\u001b\r\u001c\r\u001d\r\u001e\r\u001f\r \r!\r\"\r#\r#\r$\r%"
+            + "\r&\r&\r'\r(\r)\r*\r+\r,\r-\r-\r.\r/\r0\r1\r2\r3\r4\r5\r6\r6"
+            + "\r6\r7\r8\r9\r:\r;\r<\r=\r>\r?\r@\rA\rB\rB\rC\rD\rE\rF\rG\rH"
+            + "\rI\rJ\rK\rK\rK\rL\rL\rM\rN\rO\rP\rP\rQ\rR\rS\rY\rZ\r[\r[\r["
+            + "\r\\\r]\r^\r^\r_\r_\r`\ra\rb\rc\rd\re\rf\rg\rh\ri\rj\rj\rk\r"
+            + "l\rm\rm\rm\rn\ro\rp\rq\rr\rs\rt\ru\rv\rw\rw\rx\rx\ry\rz\r{\r"
+            + "|\r}\r}\r~\r~\r\u007f\r\u0080\r\u0081\r\u0082\r\u0083\r"
+            + "\u0085\r\u0086\r\u0087\r\u0088\r\u0089\r\u008a\r\u008a\r"
+            + "\u008b\r\u008b\r\u008c\r\u008d\r\u008e\r\u008f\r\u008f\r"
+            + "\u0091\r\u0092\r\u0093\r\u0094\r\u0095\r\u0096\r\u0097\r"
+            + "\u0098\r\u0099\r\u009a\r\u009a\r\u009a\r\u009b\r\u009c\r"
+            + "\u009d\r\u009e\r\u009f\r\u00a0\r\u00a1\r\u00a2\r\u00a2\r"
+            + "\u00a2\r\u00a3\r\u00a4\r\u00a5\r\u00a6\r\u00a7\r\u00a8\r"
+            + "\u00a9\r\u00aa\r\u00ab\r\u00ac\r\u00ac\r\u00b6\r\u00bc\r"
+            + "\u00bc\r\u00bd\r\u00be\r\u00c2\r\u00c3\r\u00c4\r\u00c5\r"
+            + "\u00c5\r\u00c6\r\u00c6\r\u00c6\r\u00c7\r\u00c8\r\u00c8\r"
+            + "\u00c9\r\u00ca\r\u00cb\r\u00cc\r\u00cd\r\u00ce\r\u00cf\r"
+            + "\u00cf\r\u00d0\r\u00d1\r\u00d2\r\u00d2\r\u00d3\r\u00d4\r"
+            + "\u00d5\r\u00d5\r\u00d7\r\u00d8\r\u00db\r\u00dc\r\u00dd\r"
+            + "\u00de\r\u00df\r\u00e0\r\u00e2\r\u00e4\r\u00e5\r\u00e6\r"
+            + "\u00e7\r\u00e8\r\u00e9\r\u00ea\r\u00eb\r\u00eb\r\u00ec\r"
+            + "\u00ec\r\u00ed\r\u00ee\r\u00ef\r\u00f0\r\u00f1\r\u00f2\r"
+            + "\u00f3\r\u00f4\r\u00f5\r\u00f6\r\u00f7\r\u00f9\r\u00fa\r"
+            + "\u00fa\r\u00fa\r\u00fa\r\u00fb\r\u00fc\r\u00fd\r\u00fe\r"
+            + "\u00ff\u000e\u0000\u000e\u0001\u000e\u0002\u000e\u0002\u000e"
+            + "\u0003\u000e\u0003\u000e\u0004\u000e\u0005\u000e\u0006\u000e"
+            + "\u0006\u000e\u0007\u000e\u0008\u000e\n\u000e\u000b\u000e"
+            + "\u000c\u000e\u000c\u000e\r\u000e\r\u000e\r\u000e\u000e\u000e"
+            + "\u000f\u000e\u0010\u000e\u0011\u000e\u0012\u000e\u0012\u000e"
+            + "\u0013\u000e\u0014\u000e\u0015\u000e\u0016\u000e\u0017\u000e"
+            + "\u0018\u000e\u0019\u000e\u001a\u000e\u001a\u000e\u001a\u000e"
+            + "\u001b\u000e\u001c\u000e\u001d\u000e\u001e\u000e\u001f\u000e"
+            + " \u000e!\u000e\"\u000e\"\u000e#\u000e$\u000e%\u000e%\u000e%"
+            + "\u000e&\u000e'\u000e(\u000e)\u000e*\u000e+\u000e+\u000e+"
+            + "\u000e,\u000e-\u000e-\u000e-\u000e.\u000e/\u000e0\u000e1"
+            + "\u000e2\u000e3\u000e4\u000e5\u000e6\u000e7\u000e9\u000e:"
+            + "\u000e;\u000e<\u000e<\u000e=\u000e=\u000e>\u000e?\u000e@"
+            + "\u000eA\u000eB\u000eC\u000eD\u000eE\u000eF\u000eG\u000eH"
+            + "\u000eI\u000eJ\u000eL\u000eM\u000eN\u000eO\u000eP\u000eQ"
+            + "\u000eR\u000eR\u000eS\u000eS\u000eT\u000eV\u000eW\u000eW"
+            + "\u000eX\u000eY\u000eZ\u000e[\u000e\\\u000e\\\u000e]\u000e^"
+            + "\u000e^\u000e_\u000e`\u000ea\u000eb\u000ec\u000ed\u000ee"
+            + "\u000ee\u000ee\u000ef\u000eg\u000eh\u000ei\u000ej\u000ek"
+            + "\u000ek\u000el\u000em\u000en\u000en\u000eo\u000ep\u000eq"
+            + "\u000er\u000er\u000er\u000es\u000et\u000et\u000eu\u000eu"
+            + "\u000ev\u000ew\u000ex\u000ey\u000ez\u000e{\u000e{\u000e{"
+            + "\u000e|\u000e}\u000e~\u000e\u007f\u000e\u007f\u000e\u0080"
+            + "\u000e\u0081\u000e\u0082\u000e\u0083\u000e\u0085\u000e\u0086"
+            + "\u000e\u0087\u000e\u0088\u000e\u0088\u000e\u0089\u000e\u0089"
+            + "\u000e\u008a\u000e\u008b\u000e\u008c\u000e\u008d\u000e\u008e"
+            + "\u000e\u008e\u000e\u008f\u000e\u0090\u000e\u0091\u000e\u0092"
+            + "\u000e\u0093\u000e\u0094\u000e\u0098\u000e\u0099\u000e\u009a"
+            + "\u000e\u009c\u000e\u009d\u000e\u009d\u000e\u009e\u000e\u009f"
+            + "\u000e\u00a0\u000e\u00a1\u000e\u00a2\u000e\u00a3\u000e\u00a4"
+            + "\u000e\u00a5\u000e\u00a5\u000e\u00a8\u000e\u00ab\u000e\u00ad"
+            + "\u000e\u00ae\u000e\u00af\u000e\u00b0\u000e\u00b1\u000e\u00b2"
+            + "\u000e\u00b3\u000e\u00b4\u000e\u00b6\u000e\u00b7\u000e\u00b8"
+            + "\u000e\u00b8\u000e\u00b9\u000e\u00ba\u000e\u00bb\u000e\u00bb"
+            + "\u000e\u00bc\u000e\u00bd\u000e\u00c1\u000e\u00c6\u000e\u00ca"
+            + "\u000e\u00d1\u000e\u00d2\u000e\u00d6\u000e\u00db\u000e\u00dc"
+            + "\u000e\u00dd\u000e\u00de\u000e\u00e2\u000e\u00e9\u000e\u00ea"
+            + "\u000e\u00eb\u000e\u00ec\u000e\u00ed\u000e\u00ee\u000e\u00f0"
+            + "\u000e\u00f3\u000e\u00f5\u000e\u00f8\u000e\u00f9\u000e\u00f9"
+            + "\u000e\u00fa\u000e\u00fb\u000e\u00fd\u000e\u00fe\u000e\u00ff"
+            + "\u000f\u0000\u000f\u0001\u000f\u0002\u000f\u0003\u000f\u0004"
+            + "\u000f\u0005\u000f\u0006\u000f\u0007\u000f\u0008\u000f\u0009"
+            + "\u000f\u000b\u000f\u000b\u000f\u000c\u000f\r\u000f\r\u000f\r"
+            + "\u000f\u000e\u000f\u0011\u000f\u0012\u000f\u0013\u000f\u0014"
+            + "\u000f\u0015\u000f\u0016\u000f\u0017\u000f\u0018\u000f\u001b"
+            + "\u000f\u001d\u000f\u001e\u000f\u001f\u000f \u000f\"\u000f#"
+            + "\u000f$\u000f%\u000f'\u000f)\u000f*\u000f+\u000f,\u000f-"
+            + "\u000f.\u000f.\u000f/\u000f1\u000f2\u000f3\u000f4\u000f5"
+            + "\u000f6\u000f7\u000f8\u000f9\u000f:\u000f;\u000f<\u000f="
+            + "\u000f>\u000f?\u000f@\u000fA\u000fB\u000fD\u000fE\u000fF"
+            + "\u000fG\u000fG\u000fH\u000fI\u000fJ\u000fJ\u000fK\u000fL"
+            + "\u000fM\u000fM\u000fO\u000fR\u000fR\u000fS\u000fT\u000fT"
+            + "\u000fU\u000fV\u000fW\u000fX\u000fY\u000fZ\u000f[\u000f["
+            + "\u000f\\\u000f]\u000f^\u000f_\u000f`\u000fc\u000fd\u000fe"
+            + "\u000ff\u000fg\u000fh\u000fi\u000fj\u000fk\u000fm\u000fn"
+            + "\u000fo\u000fp\u000fq\u000fr\u000fs\u000ft\u000fu\u000fv"
+            + "\u000fw\u000fy\u000fz\u000fz\u000f{\u000f|\u000f|\u000f}"
+            + "\u000f}\u000f~\u000f\u007f\u000f\u007f\u000f\u007f\u000f"
+            + "\u0080\u000f\u0081\u000f\u0082\u000f\u0084\u000f\u0084\u000f"
+            + "\u0085\u000f\u0086\u000f\u0087\u000f\u0089\u000f\u008a\u000f"
+            + "\u008d\u000f\u008e\u000f\u008f\u000f\u0090\u000f\u0091\u000f"
+            + "\u0092\u000f\u0093\u000f\u0094\u000f\u0095\u000f\u0096\u000f"
+            + "\u0097\u000f\u0098\u000f\u0099\u000f\u009a\u000f\u009a\u000f"
+            + "\u009a\u000f\u009b\u000f\u009c\u000f\u009d\u000f\u009e\u000f"
+            + "\u009f\u000f\u00a0\u000f\u00a1\u000f\u00a1\u000f\u00a2\u000f"
+            + "\u00a3\u000f\u00a4\u000f\u00a5\u000f\u00a5\u000f\u00a6\u000f"
+            + "\u00a7\u000f\u00a8\u000f\u00a9\u000f\u00aa\u000f\u00ab\u000f"
+            + "\u00ac\u000f\u00ad\u000f\u00af\u000f\u00b0\u000f\u00b6\u000f"
+            + "\u00b7\u000f\u00b8\u000f\u00b9\u000f\u00b9\u000f\u00ba\u000f"
+            + "\u00bb\u000f\u00bb\u000f\u00bc\u000f\u00bd\u000f\u00bd\u000f"
+            + "\u00be\u000f\u00be\u000f\u00be\u000f\u00bf\u000f\u00c0\u000f"
+            + "\u00c0\u000f\u00c1\u000f\u00c2\u000f\u00c4\u000f\u00c4\u000f"
+            + "\u00c4\u000f\u00c5\u000f\u00c6\u000f\u00c6\u000f\u00c6\u000f"
+            + "\u00c6\u000f\u00c6\u000f\u00c8\u000f\u00c8\u000f\u00ca\u000f"
+            + "\u00cb\u000f\u00cc\u000f\u00cd\u000f\u00ce\u000f\u00d1\u000f"
+            + "\u00d2\u000f\u00d3\u000f\u00d4\u000f\u00d5\u000f\u00d6\u000f"
+            + "\u00d8\u000f\u00d9\u000f\u00da\u000f\u00db\u000f\u00dc\u000f"
+            + "\u00dd\u000f\u00de\u000f\u00df\u000f\u00e0\u000f\u00e1\u000f"
+            + "\u00e2\u000f\u00e3\u000f\u00e6\u000f\u00e7\u000f\u00e8\u000f"
+            + "\u00e9\u000f\u00ea\u000f\u00eb\u000f\u00eb\u000f\u00ec\u000f"
+            + "\u00ed\u000f\u00ee\u000f\u00ef\u000f\u00f1\u000f\u00f2\u000f"
+            + "\u00f3\u000f\u00f4\u000f\u00f5\u000f\u00f6\u000f\u00f7\u000f"
+            + "\u00f8\u000f\u00f9\u000f\u00fa\u000f\u00fa\u000f\u00fb\u000f"
+            + "\u00fc\u000f\u00fc\u000f\u00fc\u000f\u00fd\u000f\u00fe\u000f"
+            + "\u00ff\u0010\u0000\u0010\u0001\u0010\u0002\u0010\u0003\u0010"
+            + "\u0006\u0010\u0007\u0010\u0008\u0010\u0009\u0010\n\u0010"
+            + "\u000b\u0010\u000c\u0010\u000c\u0010\r\u0010\u000f\u0010"
+            + "\u0010\u0010\u0011\u0010\u0012\u0010\u0013\u0010\u0014\u0010"
+            + "\u0015\u0010\u0016\u0010\u0017\u0010\u0018\u0010\u001d\u0010"
+            + "\u001e\u0010\u001f\u0010 \u0010!\u0010!\u0010!\u0010\"\u0010"
+            + "#\u0010$\u0010%\u0010&\u0010'\u0010(\u0010(\u0010(\u0010)"
+            + "\u0010*\u0010+\u0010,\u0010-\u0010.\u0010/\u00100\u00101"
+            + "\u00101\u00102\u00103\u00104\u00105\u00106\u00109\u00109"
+            + "\u0010:\u0010B\u0010B\u0010C\u0010E\u0010F\u0010G\u0010H"
+            + "\u0010J\u0010K\u0010L\u0010M\u0010N\u0010N\u0010O\u0010P"
+            + "\u0010Q\u0010R\u0010S\u0010X\u0010X\u0010X\u0010Y\u0010Z"
+            + "\u0010Z\u0010[\u0010\\\u0010^\u0010c\u0010d\u0010e\u0010e"
+            + "\u0010e\u0010g\u0010h\u0010i\u0010j\u0010k\u0010l\u0010m"
+            + "\u0010n\u0010o\u0010o\u0010q\u0010q\u0010s\u0010t\u0010u"
+            + "\u0010v\u0010w\u0010z\u0010{\u0010|\u0010}\u0010~\u0010"
+            + "\u007f\u0010\u0080\u0010\u0081\u0010\u0081\u0010\u0082\u0010"
+            + "\u0083\u0010\u0085\u0010\u0086\u0010\u0087\u0010\u0088\u0010"
+            + "\u0088\u0010\u0089\u0010\u008a\u0010\u008b\u0010\u008b\u0010"
+            + "\u008e\u0010\u008f\u0010\u0090\u0010\u0091\u0010\u0092\u0010"
+            + "\u0093\u0010\u0094\u0010\u0095\u0010\u0096\u0010\u0097\u0010"
+            + "\u0098\u0010\u0099\u0010\u009c\u0010\u009d\u0010\u009e\u0010"
+            + "\u009f\u0010\u00a0\u0010\u00a1\u0010\u00a2\u0010\u00a3\u0010"
+            + "\u00a5\u0010\u00a5\u0010\u00a6\u0010\u00a7\u0010\u00a8\u0010"
+            + "\u00a8\u0010\u00a9\u0010\u00aa\u0010\u00aa\u0010\u00aa\u0010"
+            + "\u00ab\u0010\u00ab\u0010\u00ac\u0010\u00ad\u0010\u00ae\u0010"
+            + "\u00af\u0010\u00b0\u0010\u00b1\u0010\u00b2\u0010\u00b3\u0010"
+            + "\u00b4\u0010\u00b5\u0010\u00b6\u0010\u00b7\u0010\u00b8\u0010"
+            + "\u00b8\u0010\u00b8\u0010\u00b9\u0010\u00ba\u0010\u00ba\u0010"
+            + "\u00ba\u0010\u00bb\u0010\u00bc\u0010\u00bd\u0010\u00be\u0010"
+            + "\u00bf\u0010\u00c0\u0010\u00c1\u0010\u00c1\u0010\u00c2\u0010"
+            + "\u00c3\u0010\u00c4\u0010\u00c5\u0010\u00c6\u0010\u00c7\u0010"
+            + "\u00c8\u0010\u00c9\u0010\u00ca\u0010\u00cb\u0010\u00cc\u0010"
+            + "\u00cd\u0010\u00cd\u0010\u00ce\u0010\u00cf\u0010\u00d1\u0010"
+            + "\u00d2\u0010\u00d3\u0010\u00d4\u0010\u00d5\u0010\u00d6\u0010"
+            + "\u00d6\u0010\u00d6\u0010\u00d6\u0010\u00d9\u0010\u00da\u0010"
+            + "\u00db\u0010\u00db\u0010\u00dc\u0010\u00dd\u0010\u00de\u0010"
+            + "\u00df\u0010\u00df\u0010\u00e0\u0010\u00e0\u0010\u00e1\u0010"
+            + "\u00e2\u0010\u00e2\u0010\u00e3\u0010\u00e4\u0010\u00e4\u0010"
+            + "\u00e5\u0010\u00e8\u0010\u00ea\u0010\u00eb\u0010\u00eb\u0010"
+            + "\u00ec\u0010\u00ed\u0010\u00ee\u0010\u00ee\u0010\u00ef\u0010"
+            + "\u00f0\u0010\u00f4\u0010\u00f5\u0010\u00f5\u0010\u00f6\u0010"
+            + "\u00f8\u0010\u00f9\u0010\u00fa\u0010\u00fb\u0010\u00fc\u0010"
+            + "\u00fc\u0010\u00fd\u0010\u00fe\u0010\u00ff\u0011\u0000\u0011"
+            + "\u0002\u0011\u0003\u0011\u0004\u0011\u0005\u0011\u0009\u0011"
+            + "\n\u0011\u000e\u0011\u000f\u0011\u0010\u0011\u0011\u0011"
+            + "\u0012\u0011\u0012\u0011\u0013\u0011\u0014\u0011\u0015\u0011"
+            + "\u0016\u0011\u0017\u0011\u0018\u0011\u0019\u0011\u001a\u0011"
+            + "\u001b\u0011\u001c\u0011\u001d\u0011\u001f\u0011 \u0011!"
+            + "\u0011\"\u0011#\u0011%\u0011&\u0011'\u0011(\u0011*\u0011*"
+            + "\u0011+\u0011,\u0011-\u0011.\u0011/\u00110\u00111\u00111"
+            + "\u00112\u00113\u00113\u00114\u00114\u00115\u00116\u00117"
+            + "\u00118\u00119\u00119\u0011:\u0011;\u0011<\u0011=\u0011>"
+            + "\u0011?\u0011@\u0011A\u0011B\u0011C\u0011C\u0011D\u0011E"
+            + "\u0011F\u0011G\u0011H\u0011I\u0011I\u0011J\u0011K\u0011L"
+            + "\u0011M\u0011N\u0011O\u0011P\u0011P\u0011R\u0011T\u0011U"
+            + "\u0011U\u0011V\u0011W\u0011X\u0011Y\u0011Z\u0011Z\u0011Z"
+            + "\u0011[\u0011\\\u0011]\u0011^\u0011^\u0011`\u0011i\u0011j"
+            + "\u0011k\u0011l\u0011l\u0011m\u0011n\u0011n\u0011t\u0011u"
+            + "\u0011v\u0011w\u0011x\u0011y\u0011|\u0011~\u0011\u007f\u0011"
+            + "\u0080\u0011\u0081\u0011\u0081\u0011\u0082\u0011\u0082\u0011"
+            + "\u0083\u0011\u0084\u0011\u0085\u0011\u0086\u0011\u0088\u0011"
+            + "\u0089\u0011\u008a\u0011\u008b\u0011\u008c\u0011\u008d\u0011"
+            + "\u008e\u0011\u008f\u0011\u0090\u0011\u0091\u0011\u0092\u0011"
+            + "\u0093\u0011\u0097\u0011\u0098\u0011\u00a3\u0011\u00a4\u0011"
+            + "\u00a5\u0011\u00a6\u0011\u00a7\u0011\u00a8\u0011\u00aa\u0011"
+            + "\u00ab\u0011\u00ac\u0011\u00ad\u0011\u00ae\u0011\u00ae\u0011"
+            + "\u00af\u0011\u00b0\u0011\u00b1\u0011\u00b2\u0011\u00b6\u0011"
+            + "\u00b7\u0011\u00b7\u0011\u00b8\u0011\u00b9\u0011\u00b9\u0011"
+            + "\u00bb\u0011\u00bb\u0011\u00bc\u0011\u00bd\u0011\u00be\u0011"
+            + "\u00bf\u0011\u00c0\u0011\u00c1\u0011\u00c1\u0011\u00c2\u0011"
+            + "\u00c3\u0011\u00c4\u0011\u00c5\u0011\u00c6\u0011\u00c7\u0011"
+            + "\u00c8\u0011\u00c9\u0011\u00ca\u0011\u00cc\u0011\u00cd\u0011"
+            + "\u00ce\u0011\u00cf\u0011\u00d0\u0011\u00d0\u0011\u00d1\u0011"
+            + "\u00d2\u0011\u00d3\u0011\u00d4\u0011\u00d8\u0011\u00d9\u0011"
+            + "\u00da\u0011\u00db\u0011\u00db\u0011\u00dc\u0011\u00dd\u0011"
+            + "\u00de\u0011\u00de\u0011\u00df\u0011\u00e0\u0011\u00e1\u0011"
+            + "\u00e2\u0011\u00e3\u0011\u00e4\u0011\u00e5\u0011\u00e5\u0011"
+            + "\u00e8\u0011\u00e9\u0011\u00eb\u0011\u00ec\u0011\u00ed\u0011"
+            + "\u00ee\u0011\u00f0\u0011\u00f1\u0011\u00f1\u0011\u00f2\u0011"
+            + "\u00f3\u0011\u00f4\u0011\u00f5\u0011\u00f6\u0011\u00f6\u0011"
+            + "\u00f7\u0011\u00f7\u0011\u00f8\u0011\u00fa\u0011\u00fc\u0011"
+            + "\u00fe\u0011\u00ff\u0012\u0000\u0012\u0001\u0012\u0002\u0012"
+            + "\u0003\u0012\u0004\u0012\u0005\u0012\u0006\u0012\u0007\u0012"
+            + "\u0007\u0012\u0009\u0012\n\u0012\n\u0012\u000c\u0012\r\u0012"
+            + "\u000e\u0012\u000f\u0012\u0010\u0012\u0011\u0012\u0013\u0012"
+            + "\u0013\u0012\u0014\u0012\u0015\u0012\u0016\u0012\u0017\u0012"
+            + "\u0018\u0012\u0019\u0012\u001a\u0012\u001c\u0012\u001d\u0012"
+            + "\u001e\u0012\u001e\u0012\u001f\u0012 \u0012\"\u0012#\u0012%"
+            + "\u0012&\u0012'\u0012*\u00120\u00120\u00121\u00122\u00123"
+            + "\u00124\u00124\u00125\u00127\u00129\u0012:\u0012;\u0012<"
+            + "\u0012>\u0012?\u0012B\u0012C\u0012E\u0012F\u0012G\u0012H"
+            + "\u0012H\u0012I\u0012J\u0012K\u0012K\u0012L\u0012M\u0012M"
+            + "\u0012N\u0012O\u0012P\u0012Q\u0012R\u0012S\u0012T\u0012U"
+            + "\u0012V\u0012W\u0012X\u0012X\u0012Y\u0012Z\u0012\\\u0012]"
+            + "\u0012^\u0012_\u0012`\u0012a\u0012b\u0012c\u0012d\u0012e"
+            + "\u0012f\u0012g\u0012h\u0012i\u0012j\u0012k\u0012l\u0012m"
+            + "\u0012n\u0012o\u0012p\u0012q\u0012r\u0012s\u0012t\u0012t"
+            + "\u0012u\u0012v\u0012w\u0012x\u0012x\u0012y\u0012{\u0012|"
+            + "\u0012}\u0012~\u0012\u007f\u0012\u0080\u0012\u0080\u0012"
+            + "\u0081\u0012\u0082\u0012\u0083\u0012\u0084\u0012\u0085\u0012"
+            + "\u0086\u0012\u0089\u0012\u008a\u0012\u008b\u0012\u008c\u0012"
+            + "\u008d\u0012\u008e\u0012\u008f\u0012\u0090\u0012\u0091\u0012"
+            + "\u0093\u0012\u0094\u0012\u0095\u0012\u0096\u0012\u0097\u0012"
+            + "\u0099\u0012\u009a\u0012\u009b\u0012\u009c\u0012\u009d\u0012"
+            + "\u009e\u0012\u00a1\u0012\u00a3\u0012\u00a5\u0012\u00a7\u0012"
+            + "\u00a7\u0012\u00a8\u0012\u00a8\u0012\u00a9\u0012\u00aa\u0012"
+            + "\u00ab\u0012\u00ac\u0012\u00ad\u0012\u00ad\u0012\u00ae\u0012"
+            + "\u00b0\u0012\u00b1\u0012\u00b2\u0012\u00b3\u0012\u00b4\u0012"
+            + "\u00b5\u0012\u00b6\u0012\u00b7\u0012\u00b8\u0012\u00b9\u0012"
+            + "\u00ba\u0012\u00bb\u0012\u00bb\u0012\u00bc\u0012\u00bd\u0012"
+            + "\u00be\u0012\u00bf\u0012\u00c0\u0012\u00c1\u0012\u00c2\u0012"
+            + "\u00c2\u0012\u00c3\u0012\u00c4\u0012\u00c5\u0012\u00c6\u0012"
+            + "\u00c7\u0012\u00c8\u0012\u00c9\u0012\u00ca\u0012\u00cb\u0012"
+            + "\u00cc\u0012\u00cd\u0012\u00ce\u0012\u00cf\u0012\u00d0\u0012"
+            + "\u00d1\u0012\u00d2\u0012\u00d3\u0012\u00d4\u0012\u00d5\u0012"
+            + "\u00d6\u0012\u00d7\u0012\u00d7\u0012\u00d7\u0012\u00d7\u0012"
+            + "\u00d8\u0012\u00d9\u0012\u00da\u0012\u00db\u0012\u00dc\u0012"
+            + "\u00dd\u0012\u00de\u0012\u00de\u0012\u00df\u0012\u00e0\u0012"
+            + "\u00e1\u0012\u00e1\u0012\u00e2\u0012\u00e3\u0012\u00e4\u0012"
+            + "\u00e5\u0012\u00e5\u0012\u00e6\u0012\u00e7\u0012\u00e8\u0012"
+            + "\u00e9\u0012\u00ea\u0012\u00eb\u0012\u00ec\u0012\u00ed\u0012"
+            + "\u00ee\u0012\u00ee\u0012\u00ef\u0012\u00f0\u0012\u00f0\u0012"
+            + "\u00f1\u0012\u00f2\u0012\u00f2\u0012\u00f3\u0012\u00f3\u0012"
+            + "\u00f4\u0012\u00f5\u0012\u00f6\u0012\u00f6\u0012\u00f6\u0012"
+            + "\u00f7\u0012\u00f7\u0012\u00f8\u0012\u00f8\u0012\u00f8\u0012"
+            + "\u00f9\u0012\u00fa\u0012\u00fb\u0012\u00fc\u0012\u00fd\u0012"
+            + "\u00fe\u0012\u00ff\u0012\u00ff\u0013\u0000\u0013\u0001\u0013"
+            + "\u0002\u0013\u0003\u0013\u0004\u0013\u0006\u0013\u0007\u0013"
+            + "\u0008\u0013\u0009\u0013\u0009\u0013\n\u0013\u000b\u0013"
+            + "\u000c\u0013\u000c\u0013\r\u0013\u000e\u0013\u000e\u0013"
+            + "\u000e\u0013\u000e\u0013\u000f\u0013\u000f\u0013\u0010\u0013"
+            + "\u0011\u0013\u0012\u0013\u0013\u0013\u0014\u0013\u0015\u0013"
+            + "\u0015\u0013\u0016\u0013\u0017\u0013\u0018\u0013\u0019\u0013"
+            + "\u001a\u0013\u001b\u0013\u001c\u0013\u001d\u0013\u001e\u0013"
+            + "\u001e\u0013\u001f\u0013 \u0013!\u0013\"\u0013\"\u0013#"
+            + "\u0013$\u0013%\u0013'\u0013(\u0013(\u0013)\u0013+\u0013,"
+            + "\u0013,\u0013,\u0013,\u0013-\u0013.\u0013/\u0013/\u00130"
+            + "\u00131\u00131\u00131\u00133\u00134\u00135\u00136\u00136"
+            + "\u00136\u00137\u00137\u00138\u00139\u0013:\u0013;\u0013;"
+            + "\u0013<\u0013<\u0013=\u0013>\u0013?\u0013?\u0013@\u0013@"
+            + "\u0013A\u0013B\u0013B\u0013C\u0013D\u0013E\u0013F\u0013G"
+            + "\u0013H\u0013I\u0013J\u0013J\u0013J\u0013J\u0013K\u0013L"
+            + "\u0013L\u0013M\u0013M\u0013M\u0013N\u0013O\u0013O\u0013O"
+            + "\u0013P\u0013Q\u0013Q\u0013Q\u0013Q\u0013R\u0013S\u0013S"
+            + "\u0013T\u0013T\u0013U\u0013V\u0013X\u0013Y\u0013Z\u0013["
+            + "\u0013\\\u0013^\u0013_\u0013`\u0013a\u0013b\u0013c\u0013d"
+            + "\u0013e\u0013f\u0013g\u0013h\u0013i\u0013j\u0013k\u0013l"
+            + "\u0013m\u0013n\u0013n\u0013p\u0013p\u0013q\u0013r\u0013s"
+            + "\u0013t\u0013t\u0013t\u0013t\u0013u\u0013v\u0013w\u0013x"
+            + "\u0013y\u0013z\u0013{\u0013|\u0013|\u0013}\u0013~\u0013"
+            + "\u007f\u0013\u0080\u0013\u0081\u0013\u0082\u0013\u0083\u0013"
+            + "\u0084\u0013\u0086\u0013\u0087\u0013\u0088\u0013\u0089\u0013"
+            + "\u008a\u0013\u008b\u0013\u008e\u0013\u008f\u0013\u0090\u0013"
+            + "\u0090\u0013\u0091\u0013\u0092\u0013\u0093\u0013\u0094\u0013"
+            + "\u0095\u0013\u0096\u0013\u0097\u0013\u0098\u0013\u0099\u0013"
+            + "\u0099\u0013\u009a\u0013\u009a\u0013\u009b\u0013\u009c\u0013"
+            + "\u009d\u0013\u009d\u0013\u009f\u0013\u00a0\u0013\u00a1\u0013"
+            + "\u00a2\u0013\u00a3\u0013\u00a3\u0013\u00a4\u0013\u00a5\u0013"
+            + "\u00a6\u0013\u00a7\u0013\u00a7\u0013\u00a7\u0013\u00a7\u0013"
+            + "\u00a7\u0013\u00a8\u0013\u00a9\u0013\u00a9\u0013\u00a9\u0013"
+            + "\u00aa\u0013\u00ab\u0013\u00ac\u0013\u00ad\u0013\u00b5\u0013"
+            + "\u00b5\u0013\u00b6\u0013\u00b7\u0013\u00b7\u0013\u00b8\u0013"
+            + "\u00b9\u0013\u00b9\u0013\u00ba\u0013\u00bb\u0013\u00bc\u0013"
+            + "\u00bd\u0013\u00be\u0013\u00c2\u0013\u00c3\u0013\u00c4\u0013"
+            + "\u00c4\u0013\u00c4\u0013\u00c5\u0013\u00c5\u0013\u00c5\u0013"
+            + "\u00c6\u0013\u00c7\u0013\u00c8\u0013\u00c9\u0013\u00ca\u0013"
+            + "\u00cb\u0013\u00cc\u0013\u00cd\u0013\u00cd\u0013\u00ce\u0013"
+            + "\u00cf\u0013\u00d0\u0013\u00d1\u0013\u00d2\u0013\u00d3\u0013"
+            + "\u00d7\u0013\u00d7\u0013\u00d8\u0013\u00d8\u0013\u00d9\u0013"
+            + "\u00da\u0013\u00da\u0013\u00db\u0013\u00dc\u0013\u00dd\u0013"
+            + "\u00de\u0013\u00df\u0013\u00e0\u0013\u00e1\u0013\u00e3\u0013"
+            + "\u00e5\u0013\u00e6\u0013\u00e6\u0013\u00e7\u0013\u00e8\u0013"
+            + "\u00e9\u0013\u00eb\u0013\u00ec\u0013\u00ed\u0013\u00ef\u0013"
+            + "\u00ef\u0013\u00f0\u0013\u00f1\u0013\u00f1\u0013\u00f2\u0013"
+            + "\u00f2\u0013\u00f3\u0013\u00f3\u0013\u00f5\u0013\u00f6\u0013"
+            + "\u00f6\u0013\u00f7\u0013\u00f8\u0013\u00f8\u0013\u00f8\u0013"
+            + "\u00f9\u0013\u00fa\u0013\u00fb\u0013\u00fb\u0013\u00fb\u0013"
+            + "\u00fb\u0013\u00fb\u0013\u00fb\u0013\u00fb\u0013\u00fb\u0013"
+            + "\u00fc\u0013\u00fd\u0013\u00fd\u0013\u00fd\u0013\u00fd\u0013"
+            + "\u00fd\u0013\u00fe\u0013\u00ff\u0013\u00ff\u0014\u0000\u0014"
+            + "\u0000\u0014\u0000\u0014\u0000\u0014\u0001\u0014\u0002\u0014"
+            + "\u0003\u0014\u0004\u0014\u0005\u0014\u0006\u0014\u0007\u0014"
+            + "\u0008\u0014\u0009\u0014\n\u0014\u000b\u0014\u000c\u0014"
+            + "\u000c\u0014\r\u0014\r\u0014\r\u0014\u000e\u0014\u000f\u0014"
+            + "\u0011\u0014\u0012\u0014\u0013\u0014\u0014\u0014\u0015\u0014"
+            + "\u0015\u0014\u0016\u0014\u0016\u0014\u0016\u0014\u0017\u0014"
+            + "\u0018\u0014\u0018\u0014\u001a\u0014\u001b\u0014\u001b\u0014"
+            + "\u001c\u0014\u001d\u0014\u001d\u0014\u001e\u0014\u001f\u0014"
+            + " \u0014!\u0014\"\u0014#\u0014#\u0014$\u0014%\u0014&\u0014'"
+            + "\u0014(\u0014)\u0014*\u0014*\u0014*\u0014+\u0014,\u0014-"
+            + "\u0014.\u0014/\u00140\u00141\u00142\u00143\u00144\u00145"
+            + "\u00146\u00147\u00148\u0014;\u0014<\u0014=\u0014>\u0014?"
+            + "\u0014@\u0014A\u0014A\u0014A\u0014B\u0014C\u0014D\u0014E"
+            + "\u0014F\u0014G\u0014G\u0014H\u0014I\u0014J\u0014K\u0014L"
+            + "\u0014M\u0014N\u0014O\u0014O\u0014P\u0014Q\u0014R\u0014S"
+            + "\u0014T\u0014U\u0014V\u0014W\u0014X\u0014Y\u0014Z\u0014Z"
+            + "\u0014[\u0014\\\u0014]\u0014^\u0014_\u0014`\u0014a\u0014b"
+            + "\u0014c\u0014d\u0014e\u0014e\u0014f\u0014g\u0014h\u0014i"
+            + "\u0014j\u0014k\u0014l\u0014m\u0014n\u0014n\u0014o\u0014o"
+            + "\u0014p\u0014p\u0014q\u0014r\u0014r\u0014s\u0014s\u0014t"
+            + "\u0014v\u0014w\u0014x\u0014y\u0014z\u0014{\u0014|\u0014|"
+            + "\u0014}\u0014~\u0014\u007f\u0014\u0080\u0014\u0081\u0014"
+            + "\u0082\u0014\u0084\u0014\u0084\u0014\u0085\u0014\u0086\u0014"
+            + "\u0086\u0014\u0087\u0014\u0087\u0014\u0089\u0014\u0089\u0014"
+            + "\u0089\u0014\u008a\u0014\u008b\u0014\u008b\u0014\u008c\u0014"
+            + "\u008d\u0014\u008e\u0014\u0090\u0014\u0092\u0014\u0094\u0014"
+            + "\u0094\u0014\u0095\u0014\u0096\u0014\u0096\u0014\u0097\u0014"
+            + "\u0098\u0014\u0098\u0014\u0099\u0014\u0099\u0014\u009a\u0014"
+            + "\u009b\u0014\u009c\u0014\u009c\u0014\u009c\u0014\u009d\u0014"
+            + "\u009d\u0014\u009e\u0014\u009f\u0014\u00a0\u0014\u00a1\u0014"
+            + "\u00a2\u0014\u00a3\u0014\u00a4\u0014\u00a5\u0014\u00a6\u0014"
+            + "\u00a7\u0014\u00a8\u0014\u00a8\u0014\u00a9\u0014\u00ac\u0014"
+            + "\u00ad\u0014\u00ae\u0014\u00af\u0014\u00b0\u0014\u00b1\u0014"
+            + "\u00b2\u0014\u00b3\u0014\u00b3\u0014\u00b3\u0014\u00b4\u0014"
+            + "\u00b5\u0014\u00b5\u0014\u00b5\u0014\u00b6\u0014\u00b7\u0014"
+            + "\u00b8\u0014\u00b9\u0014\u00ba\u0014\u00bb\u0014\u00bc\u0014"
+            + "\u00bd\u0014\u00be\u0014\u00bf\u0014\u00c0\u0014\u00c1\u0014"
+            + "\u00c1\u0014\u00c2\u0014\u00c3\u0014\u00c4\u0014\u00c5\u0014"
+            + "\u00c6\u0014\u00c7\u0014\u00c7\u0014\u00c8\u0014\u00c9\u0014"
+            + "\u00ca\u0014\u00ca\u0014\u00cc\u0014\u00cd\u0014\u00ce\u0014"
+            + "\u00cf\u0014\u00d0\u0014\u00d1\u0014\u00d2\u0014\u00d3\u0014"
+            + "\u00d4\u0014\u00d5\u0014\u00d6\u0014\u00d6\u0014\u00d6\u0014"
+            + "\u00d6\u0014\u00d7\u0014\u00d8\u0014\u00d8\u0014\u00d9\u0014"
+            + "\u00da\u0014\u00db\u0014\u00dc\u0014\u00dc\u0014\u00dd\u0014"
+            + "\u00de\u0014\u00de\u0014\u00df\u0014\u00e0\u0014\u00e1\u0014"
+            + "\u00e1\u0014\u00e2\u0014\u00e3\u0014\u00e3\u0014\u00e4\u0014"
+            + "\u00e5\u0014\u00e6\u0014\u00e7\u0014\u00e8\u0014\u00e9\u0014"
+            + "\u00ec\u0014\u00ee\u0014\u00ee\u0014\u00ee\u0014\u00ef\u0014"
+            + "\u00ef\u0014\u00ef\u0014\u00f0\u0014\u00f1\u0014\u00f1\u0014"
+            + "\u00f2\u0014\u00f3\u0014\u00f4\u0014\u00f5\u0014\u00f6\u0014"
+            + "\u00f7\u0014\u00f8\u0014\u00f9\u0014\u00fb\u0014\u00fc\u0014"
+            + "\u00fd\u0014\u00fe\u0014\u00fe\u0014\u00ff\u0014\u00ff\u0014"
+            + "\u00ff\u0014\u00ff\u0014\u00ff\u0015\u0000\u0015\u0001\u0015"
+            + "\u0002\u0015\u0003\u0015\u0004\u0015\u0005\u0015\u0006\u0015"
+            + "\u0007\u0015\u0008\u0015\u0009\u0015\u0009\u0015\n\u0015"
+            + "\u000b\u0015\u000b\u0015\u000b\u0015\u000c\u0015\u000c\u0015"
+            + "\r\u0015\u000e\u0015\u0014\u0015\u0016\u0015\u0019\u0015"
+            + "\u001a\u0015\u001c\u0015\u001d\u0015\u001e\u0015\u001f\u0015"
+            + "\u001f\u0015 \u0015\"\u0015#\u0015$\u0015$\u0015$\u0015%"
+            + "\u0015&\u0015'\u0015'\u0015(\u0015)\u0015)\u0015)\u0015*"
+            + "\u0015*\u0015+\u0015,\u0015,\u0015-\u0015-\u0015-\u0015."
+            + "\u0015/\u0015/\u00150\u00151\u00152\u00153\u00154\u00155"
+            + "\u00156\u00158\u00159\u0015:\u0015;\u0015;\u0015;\u0015<"
+            + "\u0015<\u0015=\u0015>\u0015>\u0015?\u0015@\u0015@\u0015A"
+            + "\u0015B\u0015C\u0015D\u0015E\u0015F\u0015G\u0015H\u0015I"
+            + "\u0015J\u0015J\u0015K\u0015K\u0015L\u0015M\u0015N\u0015O"
+            + "\u0015P\u0015Q\u0015Q\u0015R\u0015S\u0015T\u0015U\u0015V"
+            + "\u0015W\u0015X\u0015Y\u0015Z\u0015[\u0015\\\u0015]\u0015]"
+            + "\u0015^\u0015_\u0015a\u0015b\u0015c\u0015d\u0015e\u0015f"
+            + "\u0015g\u0015g\u0015h\u0015h\u0015h\u0015i\u0015j\u0015j"
+            + "\u0015j\u0015k\u0015l\u0015n\u0015o\u0015p\u0015q\u0015q"
+            + "\u0015r\u0015s\u0015s\u0015s\u0015t\u0015u\u0015w\u0015x"
+            + "\u0015y\u0015y\u0015y\u0015y\u0015y\u0015z\u0015z\u0015{"
+            + "\u0015|\u0015|\u0015}\u0015~\u0015\u007f\u0015\u0080\u0015"
+            + "\u0080\u0015\u0081\u0015\u0082\u0015\u0083\u0015\u0083\u0015"
+            + "\u0085\u0015\u0086\u0015\u0087\u0015\u0088\u0015\u0089\u0015"
+            + "\u008a\u0015\u008b\u0015\u008c\u0015\u008c\u0015\u008d\u0015"
+            + "\u008e\u0015\u008f\u0015\u0091\u0015\u0092\u0015\u0093\u0015"
+            + "\u0094\u0015\u0095\u0015\u0096\u0015\u0096\u0015\u0096\u0015"
+            + "\u0098\u0015\u0099\u0015\u009a\u0015\u009a\u0015\u009b\u0015"
+            + "\u009c\u0015\u009d\u0015\u009e\u0015\u009f\u0015\u009f\u0015"
+            + "\u00a0\u0015\u00a1\u0015\u00a2\u0015\u00a2\u0015\u00a3\u0015"
+            + "\u00a4\u0015\u00a5\u0015\u00a6\u0015\u00a7\u0015\u00a8\u0015"
+            + "\u00a9\u0015\u00aa\u0015\u00ab\u0015\u00ad\u0015\u00ae\u0015"
+            + "\u00ae\u0015\u00af\u0015\u00b0\u0015\u00b1\u0015\u00b2\u0015"
+            + "\u00b3\u0015\u00b4\u0015\u00b4\u0015\u00b5\u0015\u00b5\u0015"
+            + "\u00b6\u0015\u00b7\u0015\u00b8\u0015\u00b9\u0015\u00ba\u0015"
+            + "\u00bb\u0015\u00bc\u0015\u00bd\u0015\u00be\u0015\u00bf\u0015"
+            + "\u00bf\u0015\u00c0\u0015\u00c1\u0015\u00c2\u0015\u00c3\u0015"
+            + "\u00c4\u0015\u00c4\u0015\u00c4\u0015\u00c5\u0015\u00c6\u0015"
+            + "\u00c7\u0015\u00c9\u0015\u00ca\u0015\u00cb\u0015\u00cb\u0015"
+            + "\u00cb\u0015\u00cc\u0015\u00cd\u0015\u00cd\u0015\u00cf\u0015"
+            + "\u00d0\u0015\u00d0\u0015\u00d1\u0015\u00d2\u0015\u00d3\u0015"
+            + "\u00d4\u0015\u00d5\u0015\u00d6\u0015\u00d7\u0015\u00d7\u0015"
+            + "\u00d8\u0015\u00d9\u0015\u00da\u0015\u00db\u0015\u00dc\u0015"
+            + "\u00dc\u0015\u00dd\u0015\u00dd\u0015\u00dd\u0015\u00dd\u0015"
+            + "\u00de\u0015\u00df\u0015\u00e0\u0015\u00e1\u0015\u00e2\u0015"
+            + "\u00e3\u0015\u00e4\u0015\u00e5\u0015\u00e6\u0015\u00e7\u0015"
+            + "\u00ea\u0015\u00ea\u0015\u00ea\u0015\u00eb\u0015\u00ec\u0015"
+            + "\u00ec\u0015\u00ec\u0015\u00ed\u0015\u00ee\u0015\u00ef\u0015"
+            + "\u00ef\u0015\u00f1\u0015\u00f1\u0015\u00f2\u0015\u00f3\u0015"
+            + "\u00f4\u0015\u00f5\u0015\u00f6\u0015\u00f6\u0015\u00f6\u0015"
+            + "\u00f7\u0015\u00f8\u0015\u00f9\u0015\u00fb\u0015\u00fb\u0015"
+            + "\u00fd\u0015\u00fd\u0015\u00fe\u0015\u00ff\u0016\u0001\u0016"
+            + "\u0001\u0016\u0002\u0016\u0003\u0016\u0004\u0016\u0006\u0016"
+            + "\u0007\u0016\u0008\u0016\u0009\u0016\n\u0016\u000b\u0016"
+            + "\u000b\u0016\u000c\u0016\r\u0016\r\u0016\u000e\u0016\u000e"
+            + "\u0016\u000f\u0016\u0010\u0016\u0011\u0016\u0011\u0016\u0011"
+            + "\u0016\u0012\u0016\u0013\u0016\u0013\u0016\u0015\u0016\u0015"
+            + "\u0016\u0016\u0016\u0017\u0016\u0017\u0016\u0018\u0016\u0019"
+            + "\u0016\u001b\u0016\u001b\u0016\u001b\u0016\u001f\u0016!"
+            + "\u0016!\u0016\"\u0016#\u0016$\u0016%\u0016&\u0016&\u0016("
+            + "\u0016)\u0016,\u0016-\u0016/\u00160\u00160\u00160\u00161"
+            + "\u00161\u00163\u00164\u00165\u00167\u00167\u00168\u00169"
+            + "\u0016:\u0016<\u0016<\u0016=\u0016>\u0016?\u0016?\u0016@"
+            + "\u0016@\u0016A\u0016B\u0016C\u0016D\u0016E\u0016E\u0016F"
+            + "\u0016F\u0016F\u0016G\u0016H\u0016H\u0016H\u0016I\u0016J"
+            + "\u0016K\u0016L\u0016M\u0016N\u0016P\u0016Q\u0016R\u0016R"
+            + "\u0016R\u0016S\u0016T\u0016U\u0016U\u0016U\u0016V\u0016W"
+            + "\u0016X\u0016X\u0016Y\u0016Z\u0016Z\u0016[\u0016\\\u0016]"
+            + "\u0016^\u0016_\u0016`\u0016a\u0016a\u0016b\u0016b\u0016b"
+            + "\u0016c\u0016d\u0016e\u0016g\u0016g\u0016g\u0016h\u0016h"
+            + "\u0016i\u0016i\u0016j\u0016j\u0016k\u0016l\u0016l\u0016m"
+            + "\u0016m\u0016n\u0016o\u0016p\u0016p\u0016q\u0016r\u0016s"
+            + "\u0016s\u0016t\u0016t\u0016u\u0016v\u0016w\u0016x\u0016y"
+            + "\u0016y\u0016z\u0016{\u0016|\u0016~\u0016\u007f\u0016\u0080"
+            + "\u0016\u0081\u0016\u0082\u0016\u0083\u0016\u0083\u0016\u0084"
+            + "\u0016\u0084\u0016\u0085\u0016\u0085\u0016\u0086\u0016\u0087"
+            + "\u0016\u0088\u0016\u008b\u0016\u008c\u0016\u008e\u0016\u008e"
+            + "\u0016\u008f\u0016\u0090\u0016\u0090\u0016\u0091\u0016\u0092"
+            + "\u0016\u0093\u0016\u0093\u0016\u0094\u0016\u0095\u0016\u0096"
+            + "\u0016\u0096\u0016\u0097\u0016\u0097\u0016\u0097\u0016\u0098"
+            + "\u0016\u0098\u0016\u0099\u0016\u009a\u0016\u009c\u0016\u009c"
+            + "\u0016\u009d\u0016\u009d\u0016\u009e\u0016\u009f\u0016\u009f"
+            + "\u0016\u009f\u0016\u00a0\u0016\u00a1\u0016\u00a2\u0016\u00a2"
+            + "\u0016\u00a3\u0016\u00a4\u0016\u00a5\u0016\u00a6\u0016\u00a6"
+            + "\u0016\u00a7\u0016\u00a9\u0016\u00aa\u0016\u00ab\u0016\u00ac"
+            + "\u0016\u00ad\u0016\u00ae\u0016\u00af\u0016\u00b0\u0016\u00b1"
+            + "\u0016\u00b2\u0016\u00b4\u0016\u00b5\u0016\u00b6\u0016\u00b8"
+            + "\u0016\u00b9\u0016\u00ba\u0016\u00bb\u0016\u00bc\u0016\u00bd"
+            + "\u0016\u00bd\u0016\u00bd\u0016\u00be\u0016\u00c0\u0016\u00c0"
+            + "\u0016\u00c0\u0016\u00c1\u0016\u00c2\u0016\u00c3\u0016\u00c3"
+            + "\u0016\u00c4\u0016\u00c5\u0016\u00c6\u0016\u00c8\u0016\u00c8"
+            + "\u0016\u00ce\u0016\u00ce\u0016\u00cf\u0016\u00d0\u0016\u00d1"
+            + "\u0016\u00d2\u0016\u00d3\u0016\u00d4\u0016\u00d5\u0016\u00d6"
+            + "\u0016\u00d7\u0016\u00d7\u0016\u00d8\u0016\u00d9\u0016\u00d9"
+            + "\u0016\u00da\u0016\u00db\u0016\u00dc\u0016\u00dd\u0016\u00dd"
+            + "\u0016\u00dd\u0016\u00df\u0016\u00e0\u0016\u00e1\u0016\u00e1"
+            + "\u0016\u00e2\u0016\u00e3\u0016\u00e4\u0016\u00e5\u0016\u00e6"
+            + "\u0016\u00e7\u0016\u00e7\u0016\u00e8\u0016\u00e9\u0016\u00ea"
+            + "\u0016\u00eb\u0016\u00eb\u0016\u00ec\u0016\u00ed\u0016\u00ee"
+            + "\u0016\u00ef\u0016\u00ef\u0016\u00f0\u0016\u00f1\u0016\u00f2"
+            + "\u0016\u00f3\u0016\u00f5\u0016\u00f5\u0016\u00f5\u0016\u00f6"
+            + "\u0016\u00f7\u0016\u00f8\u0016\u00f8\u0016\u00f9\u0016\u00fa"
+            + "\u0016\u00fb\u0016\u00fb\u0016\u00fd\u0017\u0000\u0017\u0001"
+            + "\u0017\u0001\u0017\u0002\u0017\u0002\u0017\u0003\u0017\u0003"
+            + "\u0017\u0004\u0017\u0005\u0017\u0006\u0017\u0007\u0017\u0008"
+            + "\u0017\u0009\u0017\n\u0017\u000b\u0017\u000b\u0017\u000c"
+            + "\u0017\u000c\u0017\r\u0017\u000e\u0017\u000e\u0017\u000f"
+            + "\u0017\u000f\u0017\u0010\u0017\u0010\u0017\u0012\u0017\u0014"
+            + "\u0017\u0017\u0017\u001a\u0017\u001c\u0017\u001c\u0017\u001d"
+            + "\u0017\u001d\u0017\u001e\u0017\u001f\u0017 \u0017 \u0017!"
+            + "\u0017\"\u0017#\u0017#\u0017$\u0017$\u0017%\u0017&\u0017'"
+            + "\u0017(\u0017)\u0017*\u0017+\u0017,\u0017.\u0017.\u0017/"
+            + "\u00170\u00171\u00174\u00175\u00175\u00175\u00175\u00175"
+            + "\u00175\u00176\u00177\u00177\u00178\u0017:\u0017;\u0017<"
+            + "\u0017=\u0017>\u0017?\u0017@\u0017A\u0017C\u0017D\u0017E"
+            + "\u0017G\u0017H\u0017I\u0017J\u0017J\u0017K\u0017L\u0017L"
+            + "\u0017M\u0017O\u0017R\u0017T\u0017U\u0017V\u0017W\u0017X"
+            + "\u0017Y\u0017\\\u0017\\\u0017\\\u0017]\u0017^\u0017^\u0017_"
+            + "\u0017_\u0017`\u0017a\u0017b\u0017c\u0017c\u0017d\u0017e"
+            + "\u0017f\u0017g\u0017h\u0017h\u0017h\u0017i\u0017j\u0017k"
+            + "\u0017l\u0017l\u0017l\u0017m\u0017m\u0017n\u0017o\u0017p"
+            + "\u0017q\u0017r\u0017s\u0017t\u0017u\u0017v\u0017w\u0017x"
+            + "\u0017y\u0017z\u0017{\u0017|\u0017}\u0017}\u0017~\u0017"
+            + "\u007f\u0017\u0080\u0017\u0081\u0017\u0081\u0017\u0082\u0017"
+            + "\u0083\u0017\u0084\u0017\u0085\u0017\u0086\u0017\u0087\u0017"
+            + "\u0088\u0017\u0088\u0017\u0089\u0017\u008a\u0017\u008a\u0017"
+            + "\u008b\u0017\u008c\u0017\u008c\u0017\u008d\u0017\u008d\u0017"
+            + "\u008d\u0017\u008e\u0017\u008f\u0017\u0090\u0017\u0091\u0017"
+            + "\u0092\u0017\u0093\u0017\u0094\u0017\u0095\u0017\u0096\u0017"
+            + "\u0096\u0017\u0097\u0017\u0098\u0017\u009a\u0017\u009b\u0017"
+            + "\u009c\u0017\u009d\u0017\u009e\u0017\u009f\u0017\u00a0\u0017"
+            + "\u00a1\u0017\u00a1\u0017\u00a2\u0017\u00a3\u0017\u00a4\u0017"
+            + "\u00a4\u0017\u00a5\u0017\u00a6\u0017\u00a6\u0017\u00a8\u0017"
+            + "\u00aa\u0017\u00ab\u0017\u00ac\u0017\u00ad\u0017\u00af\u0017"
+            + "\u00b0\u0017\u00b0\u0017\u00b1\u0017\u00b1\u0017\u00b1\u0017"
+            + "\u00b2\u0017\u00b2\u0017\u00b3\u0017\u00b4\u0017\u00b5\u0017"
+            + "\u00b6\u0017\u00b7\u0017\u00b7\u0017\u00b7\u0017\u00b8\u0017"
+            + "\u00b8\u0017\u00b9\u0017\u00ba\u0017\u00bb\u0017\u00bc\u0017"
+            + "\u00bc\u0017\u00bd\u0017\u00be\u0017\u00bf\u0017\u00bf\u0017"
+            + "\u00c0\u0017\u00c1\u0017\u00c1\u0017\u00c2\u0017\u00c2\u0017"
+            + "\u00c2\u0017\u00c2\u0017\u00c2\u0017\u00c2\u0017\u00c3\u0017"
+            + "\u00c4\u0017\u00c4\u0017\u00c5\u0017\u00c5\u0017\u00c5\u0017"
+            + "\u00c6\u0017\u00c6\u0017\u00c6\u0017\u00c6\u0017\u00c6\u0017"
+            + "\u00c7\u0017\u00c8\u0017\u00c8\u0017\u00c9\u0017\u00c9\u0017"
+            + "\u00c9\u0017\u00c9\u0017\u00ca\u0017\u00ca\u0017\u00cb\u0017"
+            + "\u00cc\u0017\u00cd\u0017\u00ce\u0017\u00cf\u0017\u00d0\u0017"
+            + "\u00d0\u0017\u00d1\u0017\u00d2\u0017\u00d3\u0017\u00d4\u0017"
+            + "\u00d5\u0017\u00d6\u0017\u00d6\u0017\u00d7\u0017\u00d8\u0017"
+            + "\u00d9\u0017\u00dd\u0017\u00de\u0017\u00df\u0017\u00df\u0017"
+            + "\u00e0\u0017\u00e1\u0017\u00e2\u0017\u00e3\u0017\u00e4\u0017"
+            + "\u00e5\u0017\u00e5\u0017\u00e6\u0017\u00e7\u0017\u00e8\u0017"
+            + "\u00e8\u0017\u00e9\u0017\u00e9\u0017\u00ea\u0017\u00eb\u0017"
+            + "\u00ec\u0017\u00ed\u0017\u00ee\u0017\u00f4\u0017\u00f5\u0017"
+            + "\u00f6\u0017\u00f7\u0017\u00f8\u0017\u00f9\u0017\u00fa\u0017"
+            + "\u00fb\u0017\u00fc\u0017\u00fd\u0017\u00fd\u0017\u00fe\u0017"
+            + "\u00ff\u0017\u00ff\u0018\u0000\u0018\u0001\u0018\u0001\u0018"
+            + "\u0002\u0018\u0002\u0018\u0003\u0018\u0004\u0018\u0005\u0018"
+            + "\u0006\u0018\u0008\u0018\u0009\u0018\n\u0018\n\u0018\u000b"
+            + "\u0018\u000c\u0018\r\u0018\r\u0018\u000e\u0018\u000f\u0018"
+            + "\u000f\u0018\u000f\u0018\u0010\u0018\u0011\u0018\u0012\u0018"
+            + "\u0013\u0018\u0014\u0018\u0014\u0018\u0015\u0018\u0015\u0018"
+            + "\u0016\u0018\u0016\u0018\u0017\u0018\u0018\u0018\u0019\u0018"
+            + "\u001a\u0018\u001b\u0018\u001b\u0018\u001c\u0018\u001c\u0018"
+            + "\u001c\u0018\u001d\u0018\u001d\u0018\u001d\u0018\u001e\u0018"
+            + "\u001f\u0018 \u0018!\u0018\"\u0018#\u0018$\u0018%\u0018&"
+            + "\u0018(\u0018)\u0018*\u0018+\u0018,\u0018/\u00180\u00181"
+            + "\u00182\u00183\u00184\u00185\u00186\u00187\u00188\u00189"
+            + "\u0018:\u0018;\u0018<\u0018=\u0018>\u0018?\u0018@\u0018A"
+            + "\u0018B\u0018C\u0018D\u0018E\u0018F\u0018G\u0018H\u0018J"
+            + "\u0018K\u0018L\u0018M\u0018N\u0018O\u0018P\u0018Q\u0018R"
+            + "\u0018S\u0018T\u0018U\u0018V\u0018W\u0018X\u0018Y\u0018Z"
+            + "\u0018[\u0018\\\u0018]\u0018^\u0018_\u0018`\u0018a\u0018b"
+            + "\u0018b\u0018c\u0018c\u0018d\u0018e\u0018e\u0018e\u0018f"
+            + "\u0018g\u0018h\u0018i\u0018j\u0018k\u0018l\u0018m\u0018n"
+            + "\u0018o\u0018p\u0018q\u0018q\u0018r\u0018s\u0018s\u0018t"
+            + "\u0018u\u0018v\u0018w\u0018x\u0018z\u0018{\u0018|\u0018}"
+            + "\u0018\u007f\u0018\u0080\u0018\u0081\u0018\u0082\u0018\u0083"
+            + "\u0018\u0084\u0018\u0085\u0018\u0086\u0018\u0087\u0018\u0088"
+            + "\u0018\u0089\u0018\u008a\u0018\u008a\u0018\u008b\u0018\u008c"
+            + "\u0018\u008d\u0018\u008e\u0018\u008e\u0018\u008f\u0018\u0093"
+            + "\u0018\u0095\u0018\u0096\u0018\u0097\u0018\u0098\u0018\u0099"
+            + "\u0018\u0099\u0018\u0099\u0018\u0099\u0018\u009a\u0018\u009b"
+            + "\u0018\u009c\u0018\u009c\u0018\u009d\u0018\u009e\u0018\u009e"
+            + "\u0018\u009f\u0018\u00a0\u0018\u00a1\u0018\u00a2\u0018\u00a3"
+            + "\u0018\u00a4\u0018\u00a5\u0018\u00a5\u0018\u00a6\u0018\u00a6"
+            + "\u0018\u00a7\u0018\u00a8\u0018\u00a8\u0018\u00aa\u0018\u00ab"
+            + "\u0018\u00ab\u0018\u00ac\u0018\u00ac\u0018\u00ad\u0018\u00ae"
+            + "\u0018\u00af\u0018\u00af\u0018\u00b0\u0018\u00b1\u0018\u00b2"
+            + "\u0018\u00b3\u0018\u00b4\u0018\u00b5\u0018\u00b5\u0018\u00b6"
+            + "\u0018\u00b6\u0018\u00b6\u0018\u00b7\u0018\u00b8\u0018\u00b9"
+            + "\u0018\u00ba\u0018\u00bb\u0018\u00bb\u0018\u00bb\u0018\u00bc"
+            + "\u0018\u00bc\u0018\u00bd\u0018\u00be\u0018\u00bf\u0018\u00c0"
+            + "\u0018\u00c1\u0018\u00c1\u0018\u00c1\u0018\u00c1\u0018\u00c2"
+            + "\u0018\u00c3\u0018\u00c3\u0018\u00c3\u0018\u00c3\u0018\u00c3"
+            + "\u0018\u00c4\u0018\u00c5\u0018\u00c5\u0018\u00c7\u0018\u00c7"
+            + "\u0018\u00c8\u0018\u00c9\u0018\u00c9\u0018\u00ca\u0018\u00ca"
+            + "\u0018\u00cb\u0018\u00cd\u0018\u00cd\u0018\u00cd\u0018\u00ce"
+            + "\u0018\u00cf\u0018\u00d0\u0018\u00d0\u0018\u00d1\u0018\u00d2"
+            + "\u0018\u00d3\u0018\u00d4\u0018\u00d5\u0018\u00d7\u0018\u00d8"
+            + "\u0018\u00d8\u0018\u00d8\u0018\u00da\u0018\u00db\u0018\u00db"
+            + "\u0018\u00dc\u0018\u00dd\u0018\u00de\u0018\u00df\u0018\u00e0"
+            + "\u0018\u00e1\u0018\u00e2\u0018\u00e3\u0018\u00e4\u0018\u00e5"
+            + "\u0018\u00e6\u0018\u00e7\u0018\u00e8\u0018\u00e9\u0018\u00ea"
+            + "\u0018\u00eb\u0018\u00ec\u0018\u00ed\u0018\u00ed\u0018\u00ed"
+            + "\u0018\u00ed\u0018\u00ed\u0018\u00ed\u0018\u00ee\u0018\u00ef"
+            + "\u0018\u00f0\u0018\u00f0\u0018\u00f0\u0018\u00f0\u0018\u00f0"
+            + "\u0018\u00f0\u0018\u00f0\u0018\u00f0\u0018\u00f0\u0018\u00f0"
+            + "\u0018\u00f0\u0018\u00f0\u0018\u00f0\u0018\u00f0\u0018\u00f0"
+            + "\u0018\u00f0\u0018\u00f0\u0018\u00f0\u0018\u00f0\u0018\u00f1"
+            + "\u0018\u00f1\u0018\u00f1\u0018\u00f1\u0018\u00f1\u0018\u00f1"
+            + "\u0018\u00f1\u0018\u00f1\u0018\u00f1\u0018\u00f2\u0018\u00f3"
+            + "\u0018\u00f4\u0018\u00f4\u0018\u00f4\u0018\u00f4\u0018\u00f4"
+            + "\u0018\u00f4\u0018\u00f4\u0018\u00f4\u0018\u00f4\u0018\u00f4"
+            + "\u0018\u00f4\u0018\u00f5\u0018\u00f5\u0018\u00f6\u0018\u00f6"
+            + "\u0018\u00f6\u0018\u00f6\u0018\u00f7\u0018\u00f8\u0018\u00f8"
+            + "\u0018\u00f8\u0018\u00f9\u0018\u00fa\u0018\u00fb\u0018\u00fc"
+            + "\u0018\u00fd\u0018\u00fe\u0018\u00ff\u0018\u00ff\u0018\u00ff"
+            + "\u0018\u00ff\u0019\u0000\u0019\u0001\u0019\u0001\u0019\u0001"
+            + "\u0019\u0002\u0019\u0002\u0019\u0003\u0019\u0004\u0019\u0004"
+            + "\u0019\u0005\u0019\u0006\u0019\u0008\u0019\u0009\u0019\n"
+            + "\u0019\u000b\u0019\u000b\u0019\u000c\u0019\u000c\u0019\u000e"
+            + "\u0019\u000e\u0019\u000f\u0019\u0010\u0019\u0012\u0019\u0013"
+            + "\u0019\u0014\u0019\u0015\u0019\u0016\u0019\u0016\u0019\u0016"
+            + "\u0019\u0016\u0019\u0016\u0019\u0016\u0019\u0018\u0019\u0018"
+            + "\u0019\u0018\u0019\u001a\u0019\u001b\u0019\u001c\u0019\u001d"
+            + "\u0019\u001e\u0019\u001e\u0019 \u0019!\u0019\"\u0019#\u0019$"
+            + "\u0019%\u0019%\u0019%\u0019&\u0019&\u0019'\u0019(\u0019)"
+            + "\u0019)\u0019*\u0019*\u0019+\u0019,\u0019,\u0019-\u0019-"
+            + "\u0019.\u0019/\u0019/\u0019/\u00190\u00190\u00191\u00191"
+            + "\u00193\u00194\u00195\u00196\u00197\u00197\u00198\u00199"
+            + "\u0019:\u0019;\u0019<\u0019=\u0019>\u0019?\u0019@\u0019A"
+            + "\u0019B\u0019C\u0019C\u0019C\u0019C\u0019C\u0019D\u0019E"
+            + "\u0019E\u0019F\u0019G\u0019H\u0019H\u0019I\u0019I\u0019J"
+            + "\u0019K\u0019L\u0019M\u0019M\u0019M\u0019N\u0019O\u0019P"
+            + "\u0019Q\u0019Q\u0019R\u0019R\u0019S\u0019S\u0019T\u0019U"
+            + "\u0019U\u0019V\u0019W\u0019X\u0019X\u0019Y\u0019Z\u0019Z"
+            + "\u0019Z\u0019Z\u0019Z\u0019[\u0019\\\u0019]\u0019^\u0019_"
+            + "\u0019_\u0019`\u0019`\u0019`\u0019`\u0019`\u0019a\u0019a"
+            + "\u0019b\u0019c\u0019d\u0019e\u0019f\u0019g\u0019h\u0019i"
+            + "\u0019j\u0019k\u0019l\u0019m\u0019n\u0019o\u0019p\u0019q"
+            + "\u0019q\u0019q\u0019r\u0019r\u0019s\u0019t\u0019t\u0019u"
+            + "\u0019u\u0019w\u0019x\u0019x\u0019y\u0019y\u0019y\u0019y"
+            + "\u0019y\u0019y\u0019y\u0019y\u0019z\u0019{\u0019|\u0019}"
+            + "\u0019~\u0019\u007f\u0019\u0080\u0019\u0081\u0019\u0082"
+            + "\u0019\u0083\u0019\u0084\u0019\u0085\u0019\u0086\u0019\u0087"
+            + "\u0019\u0087\u0019\u0087\u0019\u0089\u0019\u008a\u0019\u008b"
+            + "\u0019\u008c\u0019\u008d\u0019\u008d\u0019\u008e\u0019\u008f"
+            + "\u0019\u0090\u0019\u0091\u0019\u0092\u0019\u0093\u0019\u0094"
+            + "\u0019\u0095\u0019\u0096\u0019\u0096\u0019\u0096\u0019\u0097"
+            + "\u0019\u0098\u0019\u0098\u0019\u0099\u0019\u0099\u0019\u0099"
+            + "\u0019\u0099\u0019\u0099\u0019\u009a\u0019\u009b\u0019\u009b"
+            + "\u0019\u009b\u0019\u009c\u0019\u009c\u0019\u009d\u0019\u009e"
+            + "\u0019\u009f\u0019\u00a0\u0019\u00a1\u0019\u00a2\u0019\u00a3"
+            + "\u0019\u00a3\u0019\u00a3\u0019\u00a4\u0019\u00a4\u0019\u00a5"
+            + "\u0019\u00a5\u0019\u00a6\u0019\u00a6\u0019\u00a7\u0019\u00a7"
+            + "\u0019\u00a7\u0019\u00a7\u0019\u00a8\u0019\u00a8\u0019\u00a8"
+            + "\u0019\u00a9\u0019\u00aa\u0019\u00ab\u0019\u00ab\u0019\u00ac"
+            + "\u0019\u00ac\u0019\u00ad\u0019\u00ae\u0019\u00af\u0019\u00b0"
+            + "\u0019\u00b0\u0019\u00b1\u0019\u00b1\u0019\u00b1\u0019\u00b2"
+            + "\u0019\u00b3\u0019\u00b4\u0019\u00b5\u0019\u00b6\u0019\u00b7"
+            + "\u0019\u00b8\u0019\u00b9\u0019\u00b9\u0019\u00b9\u0019\u00b9"
+            + "\u0019\u00ba\u0019\u00bb\u0019\u00bb\u0019\u00bd\u0019\u00be"
+            + "\u0019\u00bf\u0019\u00bf\u0019\u00bf\u0019\u00c0\u0019\u00c1"
+            + "\u0019\u00c2\u0019\u00c3\u0019\u00c4\u0019\u00c5\u0019\u00c6"
+            + "\u0019\u00c7\u0019\u00c8\u0019\u00c8\u0019\u00ca\u0019\u00cb"
+            + "\u0019\u00cc\u0019\u00cd\u0019\u00cf\u0019\u00d0\u0019\u00d1"
+            + "\u0019\u00d2\u0019\u00d3\u0019\u00d3\u0019\u00d3\u0019\u00d4"
+            + "\u0019\u00d4\u0019\u00d4\u0019\u00d5\u0019\u00d6\u0019\u00d6"
+            + "\u0019\u00d7\u0019\u00d9\u0019\u00da\u0019\u00da\u0019\u00da"
+            + "\u0019\u00da\u0019\u00da\u0019\u00da\u0019\u00db\u0019\u00dc"
+            + "\u0019\u00dd\u0019\u00de\u0019\u00de\u0019\u00df\u0019\u00e0"
+            + "\u0019\u00e1\u0019\u00e2\u0019\u00e3\u0019\u00e4\u0019\u00e4"
+            + "\u0019\u00e5\u0019\u00e5\u0019\u00e6\u0019\u00e6\u0019\u00e7"
+            + "\u0019\u00e7\u0019\u00e7\u0019\u00e7\u0019\u00e8\u0019\u00e9"
+            + "\u0019\u00e9\u0019\u00e9\u0019\u00ea\u0019\u00eb\u0019\u00ec"
+            + "\u0019\u00ed\u0019\u00ee\u0019\u00ee\u0019\u00ee\u0019\u00ef"
+            + "\u0019\u00f0\u0019\u00f1\u0019\u00f1\u0019\u00f2\u0019\u00f6"
+            + "\u0019\u00f7\u0019\u00f8\u0019\u00f8\u0019\u00f9\u0019\u00f9"
+            + "\u0019\u00fa\u0019\u00fb\u0019\u00fc\u0019\u00fc\u0019\u00fd"
+            + "\u0019\u00ff\u001a\u0000\u001a\u0001\u001a\u0002\u001a\u0003"
+            + "\u001a\u0003\u001a\u0004\u001a\u0005\u001a\u0006\u001a\u0007"
+            + "\u001a\u0008\u001a\u0008\u001a\u0009\u001a\u0009\u001a\u0009"
+            + "\u001a\n\u001a\n\u001a\u000b\u001a\u000b\u001a\u000c\u001a\r"
+            + "\u001a\u000e\u001a\u000e\u001a\u000f\u001a\u000f\u001a\u000f"
+            + "\u001a\u0010\u001a\u0010\u001a\u0011\u001a\u0011\u001a\u0012"
+            + "\u001a\u0013\u001a\u0013\u001a\u0015\u001a\u0015\u001a\u0016"
+            + "\u001a\u0016\u001a\u0016\u001a\u0016\u001a\u0016\u001a\u0016"
+            + "\u001a\u0016\u001a\u0017\u001a\u0018\u001a\u0018\u001a\u0019"
+            + "\u001a\u0019\u001a\u0019\u001a\u0019\u001a\u001a\u001a\u001a"
+            + "\u001a\u001b\u001a\u001c\u001a\u001f\u001a\u001f\u001a\""
+            + "\u001a#\u001a$\u001a$\u001a%\u001a&\u001a&\u001a'\u001a'"
+            + "\u001a'\u001a(\u001a)\u001a*\u001a*\u001a+\u001a,\u001a."
+            + "\u001a.\u001a/\u001a/\u001a/\u001a0\u001a1\u001a1\u001a1"
+            + "\u001a2\u001a2\u001a3\u001a3\u001a3\u001a4\u001a5\u001a6"
+            + "\u001a7\u001a7\u001a8\u001a9\u001a:\u001a;\u001a<\u001a="
+            + "\u001a>\u001a?\u001a?\u001a?\u001a@\u001a@\u001aA\u001aB"
+            + "\u001aC\u001aC\u001aC\u001aD\u001aE\u001aE\u001aE\u001aF"
+            + "\u001aF\u001aF\u001aF\u001aG\u001aG\u001aG\u001aG\u001aH"
+            + "\u001aI\u001aI\u001aI\u001aI\u001aI\u001aJ\u001aK\u001aL"
+            + "\u001aM\u001aN\u001aP\u001aP\u001aQ\u001aR\u001aR\u001aS"
+            + "\u001aT\u001aU\u001aV\u001aW\u001aW\u001aX\u001aZ\u001a["
+            + "\u001a\\\u001a\\\u001a]\u001a^\u001a_\u001a_\u001a`\u001aa"
+            + "\u001ab\u001ac\u001ac\u001ac\u001ad\u001ae\u001af\u001ag"
+            + "\u001ah\u001ai\u001aj\u001aj\u001ak\u001ak\u001al\u001am"
+            + "\u001an\u001ao\u001ap\u001ap\u001aq\u001ar\u001as\u001at"
+            + "\u001au\u001au\u001av\u001av\u001aw\u001aw\u001ax\u001ax"
+            + "\u001ay\u001ay\u001ay\u001az\u001az\u001a{\u001a{\u001a|"
+            + "\u001a|\u001a}\u001a~\u001a\u007f\u001a\u0080\u001a\u0081"
+            + "\u001a\u0082\u001a\u0082\u001a\u0083\u001a\u0083\u001a\u0084"
+            + "\u001a\u0084\u001a\u0084\u001a\u0085\u001a\u0086\u001a\u0086"
+            + "\u001a\u0088\u001a\u0089\u001a\u008a\u001a\u008a\u001a\u008b"
+            + "\u001a\u008b\u001a\u008c\u001a\u008d\u001a\u008e\u001a\u008e"
+            + "\u001a\u008f\u001a\u0090\u001a\u0090\u001a\u0090\u001a\u0091"
+            + "\u001a\u0092\u001a\u0093\u001a\u0094\u001a\u0095\u001a\u0096"
+            + "\u001a\u0097\u001a\u0098\u001a\u0098\u001a\u0098\u001a\u009a"
+            + "\u001a\u009a\u001a\u009a\u001a\u009a\u001a\u009a\u001a\u009a"
+            + "\u001a\u009b\u001a\u009c\u001a\u009d\u001a\u009e\u001a\u009e"
+            + "\u001a\u009f\u001a\u009f\u001a\u00a0\u001a\u00a1\u001a\u00a2"
+            + "\u001a\u00a2\u001a\u00a2\u001a\u00a3\u001a\u00a4\u001a\u00a5"
+            + "\u001a\u00a5\u001a\u00a6\u001a\u00a6\u001a\u00a7\u001a\u00a7"
+            + "\u001a\u00a7\u001a\u00a8\u001a\u00a9\u001a\u00a9\u001a\u00a9"
+            + "\u001a\u00a9\u001a\u00a9\u001a\u00aa\u001a\u00aa\u001a\u00ab"
+            + "\u001a\u00ac\u001a\u00ad\u001a\u00ad\u001a\u00ae\u001a\u00ae"
+            + "\u001a\u00af\u001a\u00b0\u001a\u00b1\u001a\u00b1\u001a\u00b2"
+            + "\u001a\u00b3\u001a\u00b4\u001a\u00b4\u001a\u00b4\u001a\u00b4"
+            + "\u001a\u00b4\u001a\u00b5\u001a\u00b6\u001a\u00b6\u001a\u00b7"
+            + "\u001a\u00b8\u001a\u00b9\u001a\u00b9\u001a\u00b9\u001a\u00ba"
+            + "\u001a\u00bb\u001a\u00bd\u001a\u00bd\u001a\u00be\u001a\u00be"
+            + "\u001a\u00bf\u001a\u00bf\u001a\u00c0\u001a\u00c1\u001a\u00c1"
+            + "\u001a\u00c2\u001a\u00c3\u001a\u00c4\u001a\u00c5\u001a\u00c5"
+            + "\u001a\u00c6\u001a\u00c7\u001a\u00c8\u001a\u00c8\u001a\u00c9"
+            + "\u001a\u00c9\u001a\u00ca\u001a\u00cb\u001a\u00cc\u001a\u00cc"
+            + "\u001a\u00cc\u001a\u00cd\u001a\u00ce\u001a\u00d1\u001a\u00d2"
+            + "\u001a\u00d3\u001a\u00d4\u001a\u00d5\u001a\u00d6\u001a\u00d7"
+            + "\u001a\u00d8\u001a\u00d9\u001a\u00da\u001a\u00db\u001a\u00dc"
+            + "\u001a\u00dd\u001a\u00de\u001a\u00df\u001a\u00e0\u001a\u00e1"
+            + "\u001a\u00e2\u001a\u00e2\u001a\u00e2\u001a\u00e3\u001a\u00e6"
+            + "\u001a\u00e7\u001a\u00e8\u001a\u00e9\u001a\u00e9\u001a\u00ea"
+            + "\u001a\u00ea\u001a\u00eb\u001a\u00ec\u001a\u00ec\u001a\u00ed"
+            + "\u001a\u00ee\u001a\u00ef\u001a\u00f0\u001a\u00f1\u001a\u00f2"
+            + "\u001a\u00f2\u001a\u00f3\u001a\u00f4\u001a\u00f5\u001a\u00f6"
+            + "\u001a\u00f7\u001a\u00f7\u001a\u00f8\u001a\u00f8\u001a\u00f8"
+            + "\u001a\u00f8\u001a\u00fa\u001a\u00fb\u001a\u00fc\u001a\u00fd"
+            + "\u001a\u00fe\u001a\u00ff\u001a\u00ff\u001b\u0000\u001b\u0001"
+            + "\u001b\u0002\u001b\u0003\u001b\u0003\u001b\u0004\u001b\u0005"
+            + "\u001b\u0005\u001b\u0006\u001b\u0006\u001b\u0007\u001b\u0008"
+            + "\u001b\u0008\u001b\u0009\u001b\u0009\u001b\u0009\u001b\n"
+            + "\u001b\n\u001b\u000b\u001b\u000c\u001b\u000c\u001b\u000c"
+            + "\u001b\u000c\u001b\u000e\u001b\u000f\u001b\u000f\u001b\u000f"
+            + "\u001b\u000f\u001b\u0010\u001b\u0011\u001b\u0012\u001b\u0012"
+            + "\u001b\u0012\u001b\u0013\u001b\u0014\u001b\u0016\u001b\u0017"
+            + "\u001b\u0017\u001b\u0017\u001b\u0017\u001b\u0018\u001b\u0018"
+            + "\u001b\u0018\u001b\u0019\u001b\u0019\u001b\u0019\u001b\u001a"
+            + "\u001b\u001b\u001b\u001c\u001b\u001d\u001b\u001e\u001b\u001e"
+            + "\u001b\u001f\u001b \u001b!\u001b\"\u001b#\u001b$\u001b%"
+            + "\u001b%\u001b&\u001b&\u001b'\u001b(\u001b(\u001b(\u001b("
+            + "\u001b(\u001b(\u001b)\u001b*\u001b+\u001b,\u001b-\u001b-"
+            + "\u001b.\u001b.\u001b/\u001b0\u001b1\u001b1\u001b1\u001b1"
+            + "\u001b1\u001b1\u001b1\u001b1\u001b2\u001b3\u001b3\u001b3"
+            + "\u001b4\u001b5\u001b5\u001b6\u001b7\u001b7\u001b8\u001b9"
+            + "\u001b:\u001b;\u001b;\u001b;\u001b;\u001b<\u001b<\u001b<"
+            + "\u001b=\u001b=\u001b>\u001b?\u001b?\u001b?\u001b@\u001bA"
+            + "\u001bA\u001bA\u001bB\u001bC\u001bD\u001bE\u001bF\u001bG"
+            + "\u001bH\u001bI\u001bJ\u001bJ\u001bK\u001bK\u001bL\u001bM"
+            + "\u001bN\u001bN\u001bO\u001bO\u001bO\u001bP\u001bQ\u001bR"
+            + "\u001bR\u001bS\u001bT\u001bU\u001bW\u001bX\u001bY\u001bZ"
+            + "\u001b[\u001b\\\u001b]\u001b^\u001b`\u001ba\u001ba\u001ba"
+            + "\u001ba\u001ba\u001bb\u001bc\u001bd\u001be\u001bf\u001bg"
+            + "\u001bg\u001bh\u001bi\u001bj\u001bj\u001bk\u001bk\u001bk"
+            + "\u001bk\u001bq\u001bq\u001br\u001bs\u001bs\u001bt\u001bu"
+            + "\u001bu\u001bu\u001bv\u001bw\u001bx\u001by\u001bz\u001bz"
+            + "\u001bz\u001bz\u001bz\u001bz\u001b{\u001b{\u001b{\u001b|"
+            + "\u001b}\u001b~\u001b\u007f\u001b\u0080\u001b\u0081\u001b"
+            + "\u0082\u001b\u0085\u001b\u0086\u001b\u0087\u001b\u0088\u001b"
+            + "\u0089\u001b\u008a\u001b\u008b\u001b\u008c\u001b\u008d\u001b"
+            + "\u008e\u001b\u008f\u001b\u0090\u001b\u0091\u001b\u0092\u001b"
+            + "\u0093\u001b\u0093\u001b\u0094\u001b\u0095\u001b\u0096\u001b"
+            + "\u0097\u001b\u0098\u001b\u0099\u001b\u0099\u001b\u009a\u001b"
+            + "\u009b\u001b\u009c\u001b\u009c\u001b\u009c\u001b\u009c\u001b"
+            + "\u009d\u001b\u009e\u001b\u009f\u001b\u00a0\u001b\u00a1\u001b"
+            + "\u00a2\u001b\u00a3\u001b\u00a4\u001b\u00a5\u001b\u00a6\u001b"
+            + "\u00a7\u001b\u00a8\u001b\u00a9\u001b\u00ab\u001b\u00ac\u001b"
+            + "\u00b2\u001b\u00b3\u001b\u00b4\u001b\u00b5\u001b\u00b6\u001b"
+            + "\u00b7\u001b\u00b8\u001b\u00b9\u001b\u00ba\u001b\u00bb\u001b"
+            + "\u00bc\u001b\u00bc\u001b\u00bc\u001b\u00bc\u001b\u00bc\u001b"
+            + "\u00bd\u001b\u00be\u001b\u00be\u001b\u00be\u001b\u00be\u001b"
+            + "\u00bf\u001b\u00c0\u001b\u00c1\u001b\u00c2\u001b\u00c3\u001b"
+            + "\u00c4\u001b\u00c5\u001b\u00c6\u001b\u00c7\u001b\u00c7\u001b"
+            + "\u00c7\u001b\u00c7\u001b\u00c7\u001b\u00c9\u001b\u00ca\u001b"
+            + "\u00cb\u001b\u00cc\u001b\u00ce\u001b\u00cf\u001b\u00d0\u001b"
+            + "\u00d1\u001b\u00d4\u001b\u00d5\u001b\u00d6\u001b\u00d7\u001b"
+            + "\u00d8\u001b\u00d9\u001b\u00d9\u001b\u00d9\u001b\u00d9\u001b"
+            + "\u00d9\u001b\u00d9\u001b\u00da\u001b\u00db\u001b\u00dc\u001b"
+            + "\u00dd\u001b\u00de\u001b\u00de\u001b\u00df\u001b\u00e0\u001b"
+            + "\u00e1\u001b\u00e1\u001b\u00e2\u001b\u00e3\u001b\u00e4\u001b"
+            + "\u00e5\u001b\u00e5\u001b\u00e5\u001b\u00e5\u001b\u00e6\u001b"
+            + "\u00e7\u001b\u00e8\u001b\u00e9\u001b\u00ea\u001b\u00eb\u001b"
+            + "\u00ec\u001b\u00ec\u001b\u00ec\u001b\u00ed\u001b\u00ed\u001b"
+            + "\u00ed\u001b\u00ed\u001b\u00ee\u001b\u00ef\u001b\u00f0\u001b"
+            + "\u00f1\u001b\u00f4\u001b\u00f5\u001b\u00f6\u001b\u00f7\u001b"
+            + "\u00f8\u001b\u00f9\u001b\u00fa\u001b\u00fb\u001b\u00fc\u001b"
+            + "\u00fc\u001b\u00fc\u001b\u00fc\u001b\u00fd\u001b\u00fe\u001b"
+            + "\u00fe\u001b\u00fe\u001b\u00fe\u001b\u00fe\u001b\u00ff\u001b"
+            + "\u00ff\u001b\u00ff\u001b\u00ff\u001c\u0000\u001c\u0000\u001c"
+            + "\u0001\u001c\u0001\u001c\u0009\u001c\u000b\u001c\u000b\u001c"
+            + "\u000c\u001c\u000c\u001c\u000c\u001c\r\u001c\u000e\u001c"
+            + "\u000e\u001c\u000f\u001c\u0010\u001c\u0011\u001c\u0012\u001c"
+            + "\u0014\u001c\u0014\u001c\u0014\u001c\u0015\u001c\u0016\u001c"
+            + "\u0016\u001c\u0017\u001c\u0018\u001c\u0018\u001c\u0019\u001c"
+            + "\u0019\u001c\u001a\u001c\u001a\u001c\u001b\u001c\u001c\u001c"
+            + "\u001d\u001c\u001e\u001c\u001f\u001c \u001c!\u001c!\u001c\""
+            + "\u001c\"\u001c#\u001c$\u001c%\u001c&\u001c&\u001c&\u001c&"
+            + "\u001c'\u001c(\u001c)\u001c)\u001c)\u001c*\u001c*\u001c*"
+            + "\u001c*\u001c*\u001c+\u001c+\u001c+\u001c+\u001c+\u001c+"
+            + "\u001c,\u001c-\u001c.\u001c/\u001c/\u001c0\u001c5\u001c6"
+            + "\u001c6\u001c7\u001c8\u001c8\u001c9\u001c9\u001c9\u001c:"
+            + "\u001c;\u001c<\u001c<\u001c<\u001c<\u001c=\u001c>\u001c>"
+            + "\u001c?\u001c@\u001c@\u001c@\u001c@\u001c@\u001cA\u001cC"
+            + "\u001cD\u001cE\u001cE\u001cF\u001cG\u001cG\u001cG\u001cG"
+            + "\u001cH\u001cH\u001cI\u001cJ\u001cK\u001cK\u001cM\u001cN"
+            + "\u001cN\u001cO\u001cO\u001cO\u001cO\u001cO\u001cP\u001cQ"
+            + "\u001cR\u001cS\u001cT\u001cU\u001cV\u001cW\u001cX\u001cX"
+            + "\u001cX\u001cX\u001cY\u001cZ\u001cZ\u001cZ\u001cZ\u001cZ"
+            + "\u001cZ\u001cZ\u001c[\u001c[\u001c\\\u001c\\\u001c\\\u001c\\"
+            + "\u001c\\\u001c]\u001c]\u001c^\u001c`\u001c`\u001c`\u001ca"
+            + "\u001cb\u001cc\u001cd\u001ce\u001ce\u001ce\u001ce\u001ce"
+            + "\u001cf\u001cf\u001cf\u001cf\u001cf\u001cf\u001cf\u001cf"
+            + "\u001cf\u001cf\u001cf\u001cf\u001cf\u001cf\u001cf\u001cf"
+            + "\u001cf\u001cf\u001cf\u001cg\u001cg\u001ci\u001ci\u001cj"
+            + "\u001cj\u001ck\u001cl\u001cl\u001cl\u001cm\u001cn\u001co"
+            + "\u001co\u001cp\u001cp\u001cp\u001cp\u001cq\u001cq\u001cr"
+            + "\u001cr\u001cr\u001cs\u001ct\u001ct\u001cu\u001cv\u001cv"
+            + "\u001cv\u001cv\u001cv\u001cv\u001cv\u001cv\u001cv\u001cv"
+            + "\u001cw\u001cx\u001cx\u001cy\u001cy\u001cy\u001cz\u001c{"
+            + "\u001c|\u001c}\u001c}\u001c~\u001c~\u001c~\u001c~\u001c~"
+            + "\u001c~\u001c~\u001c~\u001c~\u001c\u007f\u001c\u007f\u001c"
+            + "\u007f\u001c\u007f\u001c\u0080\u001c\u0080\u001c\u0080\u001c"
+            + "\u0080\u001c\u0080\u001c\u0081\u001c\u0081\u001c\u0081\u001c"
+            + "\u0081\u001c\u0081\u001c\u0082\u001c\u0083\u001c\u0083\u001c"
+            + "\u0083\u001c\u0083\u001c\u0084\u001c\u0085\u001c\u0086\u001c"
+            + "\u0087\u001c\u0088\u001c\u0089\u001c\u008a\u001c\u008b\u001c"
+            + "\u008b\u001c\u008d\u001c\u008d\u001c\u008e\u001c\u008f\u001c"
+            + "\u0090\u001c\u0091\u001c\u0092\u001c\u0093\u001c\u0093\u001c"
+            + "\u0093\u001c\u0093\u001c\u0094\u001c\u0094\u001c\u0094\u001c"
+            + "\u0094\u001c\u0095\u001c\u0096\u001c\u0097\u001c\u0098\u001c"
+            + "\u0099\u001c\u009a\u001c\u009a\u001c\u009b\u001c\u009b\u001c"
+            + "\u009b\u001c\u009c\u001c\u009c\u001c\u009d\u001c\u009d\u001c"
+            + "\u009d\u001c\u009d\u001c\u009d\u001c\u009d\u001c\u009d\u001c"
+            + "\u009d\u001c\u009e\u001c\u009e\u001c\u009f\u001c\u00a0\u001c"
+            + "\u00a1\u001c\u00a2\u001c\u00a2\u001c\u00a3\u001c\u00a4\u001c"
+            + "\u00a5\u001c\u00a5\u001c\u00a5\u001c\u00a6\u001c\u00a6\u001c"
+            + "\u00a6\u001c\u00a6\u001c\u00a6\u001c\u00a6\u001c\u00a7\u001c"
+            + "\u00a7\u001c\u00a7\u001c\u00a7\u001c\u00a8\u001c\u00a9\u001c"
+            + "\u00aa\u001c\u00ab\u001c\u00ab\u001c\u00ab\u001c\u00ab\u001c"
+            + "\u00ac\u001c\u00ae\u001c\u00ae\u001c\u00ae\u001c\u00ae\u001c"
+            + "\u00af\u001c\u00af\u001c\u00b0\u001c\u00b0\u001c\u00b0\u001c"
+            + "\u00b0\u001c\u00b1\u001c\u00b2\u001c\u00b3\u001c\u00b4\u001c"
+            + "\u00b5\u001c\u00b5\u001c\u00b5\u001c\u00b6\u001c\u00b7\u001c"
+            + "\u00b8\u001c\u00b9\u001c\u00ba\u001c\u00bb\u001c\u00bc\u001c"
+            + "\u00bd\u001c\u00bd\u001c\u00be\u001c\u00be\u001c\u00bf\u001c"
+            + "\u00bf\u001c\u00bf\u001c\u00c0\u001c\u00c0\u001c\u00c0\u001c"
+            + "\u00c1\u001c\u00c2\u001c\u00c2\u001c\u00c3\u001c\u00c4\u001c"
+            + "\u00c6\u001c\u00c7\u001c\u00c9\u001c\u00c9\u001c\u00ca\u001c"
+            + "\u00ca\u001c\u00ca\u001c\u00ca\u001c\u00ca\u001c\u00cb\u001c"
+            + "\u00cb\u001c\u00cc\u001c\u00cc\u001c\u00cd\u001c\u00cd\u001c"
+            + "\u00ce\u001c\u00ce\u001c\u00ce\u001c\u00ce\u001c\u00ce\u001c"
+            + "\u00ce\u001c\u00cf\u001c\u00d0\u001c\u00d0\u001c\u00d1\u001c"
+            + "\u00d1\u001c\u00d2\u001c\u00d2\u001c\u00d2\u001c\u00d2\u001c"
+            + "\u00d3\u001c\u00d4\u001c\u00d4\u001c\u00d4\u001c\u00d4\u001c"
+            + "\u00d4\u001c\u00d5\u001c\u00d5\u001c\u00d6\u001c\u00d6\u001c"
+            + "\u00d7\u001c\u00d7\u001c\u00d8\u001c\u00d9\u001c\u00d9\u001c"
+            + "\u00d9\u001c\u00d9\u001c\u00da\u001c\u00db\u001c\u00dc\u001c"
+            + "\u00dd\u001c\u00de\u001c\u00de\u001c\u00df\u001c\u00e0\u001c"
+            + "\u00e1\u001c\u00e2\u001c\u00e2\u001c\u00e2\u001c\u00e3\u001c"
+            + "\u00e4\u001c\u00e5\u001c\u00e5\u001c\u00e5\u001c\u00e5\u001c"
+            + "\u00e5\u001c\u00e6\u001c\u00e7\u001c\u00e8\u001c\u00e8\u001c"
+            + "\u00e8\u001c\u00e9\u001c\u00e9\u001c\u00e9\u001c\u00ea\u001c"
+            + "\u00ea\u001c\u00ea\u001c\u00ea\u001c\u00ea\u001c\u00eb\u001c"
+            + "\u00eb\u001c\u00eb\u001c\u00ec\u001c\u00ec\u001c\u00ec\u001c"
+            + "\u00ed\u001c\u00ee\u001c\u00ee\u001c\u00ee\u001c\u00ef\u001c"
+            + "\u00ef\u001c\u00f0\u001c\u00f1\u001c\u00f1\u001c\u00f1\u001c"
+            + "\u00f1\u001c\u00f2\u001c\u00f3\u001c\u00f4\u001c\u00f5\u001c"
+            + "\u00f6\u001c\u00f7\u001c\u00f8\u001c\u00f8\u001c\u00f9\u001c"
+            + "\u00f9\u001c\u00fa\u001c\u00fa\u001c\u00fb\u001c\u00fb\u001c"
+            + "\u00fb\u001c\u00fb\u001c\u00fb\u001c\u00fc\u001c\u00fd\u001c"
+            + "\u00fd\u001c\u00fd\u001c\u00fd\u001c\u00fd\u001c\u00fe\u001c"
+            + "\u00fe\u001c\u00ff\u001c\u00ff\u001d\u0000\u001d\u0000\u001d"
+            + "\u0000\u001d\u0001\u001d\u0002\u001d\u0002\u001d\u0002\u001d"
+            + "\u0002\u001d\u0003\u001d\u0004\u001d\u0005\u001d\u0005\u001d"
+            + "\u0006\u001d\u0006\u001d\u0006\u001d\u0006\u001d\u0007\u001d"
+            + "\u0007\u001d\u0007\u001d\u0007\u001d\u0008\u001d\u0008\u001d"
+            + "\u0009\u001d\u0009\u001d\u0009\u001d\u0009\u001d\u0009\u001d"
+            + "\u0009\u001d\n\u001d\n\u001d\u000b\u001d\u000c\u001d\r\u001d"
+            + "\u000e\u001d\u000e\u001d\u000f\u001d\u0010\u001d\u0010\u001d"
+            + "\u0010\u001d\u0010\u001d\u0011\u001d\u0012\u001d\u0012\u001d"
+            + "\u0013\u001d\u0014\u001d\u0015\u001d\u0016\u001d\u0016\u001d"
+            + "\u0017\u001d\u0018\u001d\u0019\u001d\u001a\u001d\u001b\u001d"
+            + "\u001c\u001d\u001d\u001d\u001d\u001d\u001e\u001d\u001f\u001d"
+            + "\u001f\u001d\u001f\u001d\u001f\u001d\u001f\u001d \u001d "
+            + "\u001d \u001d \u001d \u001d \u001d \u001d!\u001d\"\u001d\""
+            + "\u001d#\u001d$\u001d$\u001d$\u001d$\u001d%\u001d%\u001d%"
+            + "\u001d%\u001d&\u001d&\u001d'\u001d'\u001d(\u001d)\u001d*"
+            + "\u001d+\u001d+\u001d-\u001d-\u001d-\u001d-\u001d-\u001d-"
+            + "\u001d-\u001d.\u001d.\u001d/\u001d0\u001d1\u001d2\u001d3"
+            + "\u001d3\u001d4\u001d4\u001d4\u001d5\u001d5\u001d6\u001d7"
+            + "\u001d8\u001d8\u001d9\u001d9\u001d:\u001d;\u001d<\u001d="
+            + "\u001d>\u001d>\u001d>\u001d>\u001d>\u001d>\u001d>\u001d>"
+            + "\u001d?\u001d?\u001d?\u001d?\u001d?\u001d?\u001d?\u001d?"
+            + "\u001d?\u001d?\u001d?\u001d?\u001d?\u001d?\u001d@\u001dA"
+            + "\u001dB\u001dB\u001dC\u001dD\u001dD\u001dD\u001dD\u001dE"
+            + "\u001dF\u001dG\u001dH\u001dI\u001dJ\u001dK\u001dL\u001dM"
+            + "\u001dN\u001dO\u001dP\u001dQ\u001dQ\u001dR\u001dS\u001dT"
+            + "\u001dV\u001dW\u001dX\u001dY\u001d[\u001d\\\u001d]\u001d^"
+            + "\u001da\u001db\u001db\u001dc\u001dd\u001dd\u001de\u001df"
+            + "\u001df\u001dg\u001dh\u001di\u001dj\u001dk\u001dl\u001dm"
+            + "\u001dn\u001do\u001dp\u001dq\u001dr\u001ds\u001dt\u001du"
+            + "\u001dv\u001dw\u001dw\u001dx\u001dy\u001dz\u001d{\u001d|"
+            + "\u001d}\u001d~\u001d\u007f\u001d\u0081\u001d\u0082\u001d"
+            + "\u0083\u001d\u0083\u001d\u0084\u001d\u0085\u001d\u0086\u001d"
+            + "\u0087\u001d\u0088\u001d\u0089\u001d\u008a\u001d\u008b\u001d"
+            + "\u008c\u001d\u008d\u001d\u008e\u001d\u008f\u001d\u0090\u001d"
+            + "\u0091\u001d\u0092\u001d\u0093\u001d\u0095\u001d\u0096\u001d"
+            + "\u0098\u001d\u0099\u001d\u009a\u001d\u009b\u001d\u009c\u001d"
+            + "\u009d\u001d\u009e\u001d\u00a1\u001d\u00a2\u001d\u00a3\u001d"
+            + "\u00a3\u001d\u00a3\u001d\u00a4\u001d\u00a5\u001d\u00a6\u001d"
+            + "\u00a7\u001d\u00a8\u001d\u00aa\u001d\u00ab\u001d\u00ac\u001d"
+            + "\u00ad\u001d\u00ae\u001d\u00af\u001d\u00af\u001d\u00b0\u001d"
+            + "\u00b1\u001d\u00b2\u001d\u00b3\u001d\u00b4\u001d\u00b5\u001d"
+            + "\u00b6\u001d\u00b7\u001d\u00b8\u001d\u00b9\u001d\u00ba\u001d"
+            + "\u00bb\u001d\u00bc\u001d\u00c0\u001d\u00c1\u001d\u00c1\u001d"
+            + "\u00c2\u001d\u00c2\u001d\u00c4\u001d\u00c5\u001d\u00c6\u001d"
+            + "\u00c7\u001d\u00c8\u001d\u00cc\u001d\u00cc\u001d\u00cd\u001d"
+            + "\u00cf\u001d\u00d0\u001d\u00d1\u001d\u00d2\u001d\u00d3\u001d"
+            + "\u00d4\u001d\u00d5\u001d\u00d6\u001d\u00d9\u001d\u00da\u001d"
+            + "\u00db\u001d\u00dc\u001d\u00dd\u001d\u00de\u001d\u00df\u001d"
+            + "\u00e0\u001d\u00e1\u001d\u00e2\u001d\u00e3\u001d\u00e4\u001d"
+            + "\u00e5\u001d\u00e6\u001d\u00e7\u001d\u00e8\u001d\u00ea\u001d"
+            + "\u00eb\u001d\u00ec\u001d\u00f0\u001d\u00f1\u001d\u00f3\u001d"
+            + "\u00f4\u001d\u00f5\u001d\u00f6\u001d\u00f7\u001d\u00f8\u001d"
+            + "\u00f9\u001d\u00fa\u001d\u00fb\u001d\u00fc\u001d\u00fd\u001d"
+            + "\u00fe\u001d\u00ff\u001d\u00ff\u001e\u0000\u001e\u0001\u001e"
+            + "\u0002\u001e\u0003\u001e\u0004\u001e\u0004\u001e\u0005\u001e"
+            + "\u0006\u001e\u0007\u001e\u0007\u001e\u000b\u001e\u000c\u001e"
+            + "\r\u001e\r\u001e\u000e\u001e\u000f\u001e\u0010\u001e\u0011"
+            + "\u001e\u0012\u001e\u0013\u001e\u0014\u001e\u0015\u001e\u0016"
+            + "\u001e\u0016\u001e\u0017\u001e\u0017\u001e\u0018\u001e\u0018"
+            + "\u001e\u0019\u001e\u001a\u001e\u001b\u001e\u001c\u001e\u001c"
+            + "\u001e\u001d\u001e\u001e\u001e\u001f\u001e\u001f\u001e\u001f"
+            + "\u001e\u001f\u001e\u001f\u001e\u001f\u001e \u001e!\u001e\""
+            + "\u001e\"\u001e#\u001e$\u001e%\u001e&\u001e'\u001e(\u001e("
+            + "\u001e)\u001e)\u001e*\u001e+\u001e,\u001e,\u001e,\u001e-"
+            + "\u001e.\u001e/\u001e0\u001e1\u001e2\u001e3\u001e4\u001e5"
+            + "\u001e5\u001e6\u001e6\u001e7\u001e8\u001e8\u001e8\u001e8"
+            + "\u001e8\u001e9\u001e9\u001e:\u001e;\u001e<\u001e=\u001e>"
+            + "\u001e?\u001e?\u001e?\u001e?\u001e?\u001e?\u001e@\u001e@"
+            + "\u001eA\u001eB\u001eC\u001eC\u001eD\u001eE\u001eF\u001eG"
+            + "\u001eH\u001eI\u001eI\u001eJ\u001eK\u001eL\u001eL\u001eL"
+            + "\u001eM\u001eN\u001eN\u001eO\u001eP\u001eQ\u001eR\u001eS"
+            + "\u001eT\u001eT\u001eU\u001eV\u001eV\u001eW\u001eX\u001eY"
+            + "\u001eY\u001eZ\u001eZ\u001e[\u001e\\\u001e]\u001e^\u001e_"
+            + "\u001e`\u001ea\u001eb\u001ec\u001ed\u001ee\u001ee\u001ee"
+            + "\u001ef\u001ef\u001ef\u001ef\u001ef\u001ef\u001eg\u001eh"
+            + "\u001ei\u001ej\u001ek\u001el\u001em\u001em\u001en\u001eo"
+            + "\u001eo\u001ep\u001eq\u001eq\u001eq\u001er\u001es\u001et"
+            + "\u001ev\u001ew\u001ex\u001ey\u001ey\u001ey\u001ez\u001ez"
+            + "\u001e{\u001e{\u001e|\u001e|\u001e}\u001e~\u001e\u007f\u001e"
+            + "\u0080\u001e\u0080\u001e\u0081\u001e\u0082\u001e\u0083\u001e"
+            + "\u0084\u001e\u0084\u001e\u0084\u001e\u0085\u001e\u0086\u001e"
+            + "\u0086\u001e\u0086\u001e\u0087\u001e\u0088\u001e\u0089\u001e"
+            + "\u008a\u001e\u008b\u001e\u008b\u001e\u008b\u001e\u008b\u001e"
+            + "\u008b\u001e\u008b\u001e\u008b\u001e\u008c\u001e\u008c\u001e"
+            + "\u008c\u001e\u008d\u001e\u008e\u001e\u008f\u001e\u008f\u001e"
+            + "\u008f\u001e\u008f\u001e\u0090\u001e\u0090\u001e\u0090\u001e"
+            + "\u0091\u001e\u0092\u001e\u0092\u001e\u0092\u001e\u0092\u001e"
+            + "\u0092\u001e\u0092\u001e\u0092\u001e\u0092\u001e\u0092\u001e"
+            + "\u0093\u001e\u0094\u001e\u0094\u001e\u0095\u001e\u0095\u001e"
+            + "\u0096\u001e\u0096\u001e\u0096\u001e\u0096\u001e\u0097\u001e"
+            + "\u0098\u001e\u0099\u001e\u009a\u001e\u009b\u001e\u009c\u001e"
+            + "\u009c\u001e\u009d\u001e\u009e\u001e\u009f\u001e\u00a0\u001e"
+            + "\u00a0\u001e\u00a0\u001e\u00a1\u001e\u00a1\u001e\u00a1\u001e"
+            + "\u00a2\u001e\u00a2\u001e\u00a2\u001e\u00a2\u001e\u00a2\u001e"
+            + "\u00a3\u001e\u00a4\u001e\u00a5\u001e\u00a6\u001e\u00a7\u001e"
+            + "\u00a8\u001e\u00a9\u001e\u00aa\u001e\u00ab\u001e\u00ab\u001e"
+            + "\u00ac\u001e\u00ad\u001e\u00ad\u001e\u00ae\u001e\u00ae\u001e"
+            + "\u00af\u001e\u00b0\u001e\u00b1\u001e\u00b1\u001e\u00b1\u001e"
+            + "\u00b2\u001e\u00b3\u001e\u00b4\u001e\u00b6\u001e\u00b8\u001e"
+            + "\u00ba\u001e\u00ba\u001e\u00ba\u001e\u00ba\u001e\u00ba\u001e"
+            + "\u00bc\u001e\u00bd\u001e\u00be\u001e\u00bf\u001e\u00c0\u001e"
+            + "\u00c1\u001e\u00c2\u001e\u00c2\u001e\u00c2\u001e\u00c2\u001e"
+            + "\u00c2\u001e\u00c2\u001e\u00c2\u001e\u00c2\u001e\u00c2\u001e"
+            + "\u00c4\u001e\u00c5\u001e\u00c5\u001e\u00c6\u001e\u00c7\u001e"
+            + "\u00c8\u001e\u00c9\u001e\u00ca\u001e\u00ca\u001e\u00cf\u001e"
+            + "\u00d0\u001e\u00d0\u001e\u00d0\u001e\u00d1\u001e\u00d2\u001e"
+            + "\u00d3\u001e\u00d4\u001e\u00d4\u001e\u00d5\u001e\u00d6\u001e"
+            + "\u00d6\u001e\u00d7\u001e\u00d8\u001e\u00d8\u001e\u00d9\u001e"
+            + "\u00da\u001e\u00db\u001e\u00dc\u001e\u00dd\u001e\u00de\u001e"
+            + "\u00df\u001e\u00e0\u001e\u00e1\u001e\u00e1\u001e\u00e1\u001e"
+            + "\u00e2\u001e\u00e3\u001e\u00e4\u001e\u00e5\u001e\u00e6\u001e"
+            + "\u00e7\u001e\u00e8\u001e\u00e9\u001e\u00ea\u001e\u00eb\u001e"
+            + "\u00ec\u001e\u00ed\u001e\u00ee\u001e\u00ef\u001e\u00f0\u001e"
+            + "\u00f0\u001e\u00f1\u001e\u00f2\u001e\u00f2\u001e\u00f3\u001e"
+            + "\u00f4\u001e\u00f5\u001e\u00f6\u001e\u00f7\u001e\u00f8\u001e"
+            + "\u00f9\u001e\u00fa\u001e\u00fb\u001e\u00fe\u001e\u00ff\u001f"
+            + "\u0000\u001f\u0001\u001f\u0002\u001f\u0004\u001f\u0005\u001f"
+            + "\u0006\u001f\u0007\u001f\u0008\u001f\u0009\u001f\n\u001f"
+            + "\u000b\u001f\u000c\u001f\r\u001f\u000e\u001f\u000f\u001f"
+            + "\u0010\u001f\u0011\u001f\u0012\u001f\u0013\u001f\u0014\u001f"
+            + "\u0015\u001f\u0016\u001f\u0017\u001f\u0018\u001f\u0019\u001f"
+            + "\u0019\u001f\u001a\u001f\u001c\u001f\u001d\u001f\u001e\u001f"
+            + "!\u001f\"\u001f#\u001f$\u001f%\u001f&\u001f(\u001f)\u001f*"
+            + "\u001f+\u001f,\u001f-\u001f.\u001f/\u001f0\u001f1\u001f2"
+            + "\u001f3\u001f4\u001f4\u001f5\u001f6\u001f7\u001f8\u001f9"
+            + "\u001f:\u001f;\u001f<\u001f=\u001f>\u001f?\u001f@\u001fA"
+            + "\u001fB\u001fC\u001fD\u001fE\u001fF\u001fG\u001fH\u001fI"
+            + "\u001fJ\u001fK\u001fL\u001fL\u001fM\u001fN\u001fO\u001fP"
+            + "\u001fQ\u001fR\u001fS\u001fT\u001fU\u001fV\u001fW\u001fY"
+            + "\u001fZ\u001f[\u001f\\\u001f]\u001f_\u001f`\u001fa\u001fa"
+            + "\u001fb\u001fc\u001fd\u001fe\u001fg\u001fh\u001fi\u001fj"
+            + "\u001fj\u001fk\u001fl\u001fl\u001fm\u001fn\u001fo\u001fp"
+            + "\u001fq\u001fr\u001fs\u001ft\u001fu\u001fv\u001fw\u001fy"
+            + "\u001fz\u001fz\u001f{\u001f|\u001f}\u001f~\u001f\u007f\u001f"
+            + "\u0080\u001f\u0081\u001f\u0082\u001f\u0083\u001f\u0084\u001f"
+            + "\u0085\u001f\u0086\u001f\u0087\u001f\u0088\u001f\u0089\u001f"
+            + "\u008a\u001f\u008b\u001f\u008c\u001f\u008d\u001f\u008e\u001f"
+            + "\u008f\u001f\u008f\u001f\u0090\u001f\u0091\u001f\u0092\u001f"
+            + "\u0092\u001f\u0092\u001f\u0093\u001f\u0094\u001f\u0095\u001f"
+            + "\u0096\u001f\u0097\u001f\u0098\u001f\u0099\u001f\u009a\u001f"
+            + "\u009a\u001f\u009a\u001f\u009c\u001f\u009d\u001f\u009e\u001f"
+            + "\u009f\u001f\u00a0\u001f\u00a1\u001f\u00a2\u001f\u00a3\u001f"
+            + "\u00a4\u001f\u00a5\u001f\u00a6\u001f\u00a7\u001f\u00a8\u001f"
+            + "\u00a9\u001f\u00aa\u001f\u00ab\u001f\u00ac\u001f\u00ac\u001f"
+            + "\u00ac\u001f\u00ac\u001f\u00ac\u001f\u00ac\u001f\u00ac\u001f"
+            + "\u00ac\u001f\u00ac\u001f\u00ac\u001f\u00ac\u001f\u00ac\u001f"
+            + "\u00ac\u001f\u00ac\u001f\u00ad\u001f\u00ae\u001f\u00af\u001f"
+            + "\u00af\u001f\u00af\u001f\u00af\u001f\u00b0\u001f\u00b0\u001f"
+            + "\u00b1\u001f\u00b1\u001f\u00b1\u001f\u00b2\u001f\u00b3\u001f"
+            + "\u00b4\u001f\u00b4\u001f\u00b4\u001f\u00b4\u001f\u00b4\u001f"
+            + "\u00b5\u001f\u00b6\u001f\u00b7\u001f\u00b7\u001f\u00b7\u001f"
+            + "\u00b8\u001f\u00b9\u001f\u00ba\u001f\u00ba\u001f\u00ba\u001f"
+            + "\u00bb\u001f\u00bc\u001f\u00bc\u001f\u00bd\u001f\u00be\u001f"
+            + "\u00be\u001f\u00bf\u001f\u00c0\u001f\u00c0\u001f\u00c1\u001f"
+            + "\u00c2\u001f\u00c2\u001f\u00c2\u001f\u00c3\u001f\u00c4\u001f"
+            + "\u00c5\u001f\u00c6\u001f\u00c7\u001f\u00c7\u001f\u00c7\u001f"
+            + "\u00c7\u001f\u00c7\u001f\u00c8\u001f\u00c9\u001f\u00c9\u001f"
+            + "\u00ca\u001f\u00cb\u001f\u00cc\u001f\u00cc\u001f\u00cc\u001f"
+            + "\u00cc\u001f\u00cc\u001f\u00cd\u001f\u00ce\u001f\u00cf\u001f"
+            + "\u00d0\u001f\u00d1\u001f\u00d1\u001f\u00d1\u001f\u00d2\u001f"
+            + "\u00d3\u001f\u00d3\u001f\u00d3\u001f\u00d3\u001f\u00d3\u001f"
+            + "\u00d3\u001f\u00d3\u001f\u00d3\u001f\u00d3\u001f\u00d5\u001f"
+            + "\u00d6\u001f\u00d7\u001f\u00da\u001f\u00db\u001f\u00db\u001f"
+            + "\u00db\u001f\u00dc\u001f\u00dd\u001f\u00de\u001f\u00de\u001f"
+            + "\u00df\u001f\u00df\u001f\u00e0\u001f\u00e1\u001f\u00e2\u001f"
+            + "\u00e3\u001f\u00e5\u001f\u00e5\u001f\u00e5\u001f\u00e6\u001f"
+            + "\u00e7\u001f\u00e8\u001f\u00e8\u001f\u00e9\u001f\u00e9\u001f"
+            + "\u00ea\u001f\u00eb\u001f\u00ec\u001f\u00ec\u001f\u00ec\u001f"
+            + "\u00ed\u001f\u00ee\u001f\u00ef\u001f\u00f0\u001f\u00f0\u001f"
+            + "\u00f1\u001f\u00f2\u001f\u00f3\u001f\u00f4\u001f\u00f6\u001f"
+            + "\u00f8\u001f\u00fa\u001f\u00fa\u001f\u00fa\u001f\u00fb\u001f"
+            + "\u00fb\u001f\u00fb\u001f\u00fc\u001f\u00fd\u001f\u00fe\u001f"
+            + "\u00fe\u001f\u00fe\u001f\u00fe\u001f\u00fe\u001f\u00fe\u001f"
+            + "\u00ff\u001f\u00ff \u0000 \u0000 \u0001 \u0002 \u0004 \u0005"
+            + " \u0006 \u0007 \u0008 \u0009 \u0009 \u0009 \u0009 \u0009 "
+            + "\u0009 \n \u000b \u000b \u000c \u000c \r \r \u000e \u000f "
+            + "\u0010 \u0010 \u0011 \u0013 \u0014 \u0015 \u0016 \u0016 "
+            + "\u0016 \u0016 \u0017 \u0019 \u001a \u001a \u001b \u001b "
+            + "\u001b \u001b \u001c \u001d \u001e \u001f \u001f \u001f   ! "
+            + "! \" $ % % & & ' ( ( ) * * + , , - . . . / 0 1 2 4 4 5 5 6 7"
+            + " 8 9 9 : = ? @ A B C C D E E F G H I J K K L M N O P Q R S T"
+            + " U V W X Y Z [ \\ \\ ] ^ _ ` a b b c d e f g h h i j k l m n"
+            + " o p r r s t u v w w x y z { | } ~ \u007f \u0080 \u0081 "
+            + "\u0081 \u0081 \u0082 \u0083 \u0084 \u0085 \u0086 \u0087 "
+            + "\u0088 \u0088 \u0089 \u008a \u008b \u008b \u0092 \u0093 "
+            + "\u0094 \u0095 \u0096 \u0097 \u0098 \u0099 \u009a \u009b "
+            + "\u009c \u009d \u009e \u009f \u00a0 \u00a0 \u00a1 \u00a2 "
+            + "\u00a3 \u00a4 \u00a5 \u00a6 \u00a7 \u00a8 \u00a9 \u00a9 "
+            + "\u00aa \u00ab \u00ab \u00ac \u00ad \u00ae \u00af \u00b1 "
+            + "\u00b2 \u00b3 \u00b4 \u00b5 \u00b8 \u00b9 \u00ba \u00bb "
+            + "\u00bc \u00bd \u00be \u00bf \u00c0 \u00c1 \u00c2 \u00c3 "
+            + "\u00c4 \u00c5 \u00c6 \u00c7 \u00c8 \u00c9 \u00ca \u00cb "
+            + "\u00cc \u00cd \u00ce \u00cf \u00d0 \u00d1 \u00d2 \u00d3 "
+            + "\u00d4 \u00d5 \u00d6 \u00d6 \u00d7 \u00d7 \u00d8 \u00d9 "
+            + "\u00da \u00da \u00db \u00dc \u00dd \u00dd \u00de \u00df "
+            + "\u00e0 \u00e1 \u00e2 \u00e3 \u00e4 \u00e5 \u00e6 \u00e7 "
+            + "\u00e8 \u00e9 \u00ea \u00eb \u00ec \u00ec \u00ec \u00ec "
+            + "\u00ed \u00ee \u00ef \u00f0 \u00f0 \u00f0 \u00f1 \u00f2 "
+            + "\u00f3 \u00f4 \u00f5 \u00f5 \u00f6 \u00f7 \u00f8 \u00fa "
+            + "\u00fb \u00fc \u00fc \u00fd \u00fd \u00fe \u00ff!\u0000!"
+            + "\u0001!\u0002!\u0003!\u0004!\u0004!\u0004!\u0005!\u0005!"
+            + "\u0005!\u0006!\u0007!\u0007!\u0008!\u0009!\n!\u000b!\u000c!"
+            + "\r!\u000e!\u000f!\u000f!\u0010!\u0011!\u0012!\u0013!\u0014!"
+            + "\u0015!\u0016!\u0017!\u0017!\u0018!\u0019!\u001a!\u001b!"
+            + "\u001c!\u001d!\u001d!\u001e!\u001f!\u001f!\u001f! ! !!!!!\"!"
+            + "\"!#!$!%!%!&!'!(!)!)!+!,!-!.!/!0!1!2!3!4!5!5!6!7!8!9!9!9!:!;"
+            + "!<!=!=!=!>!>!?!@!A!A!B!C!D!E!F!G!H!I!J!J!K!L!M!N!N!O!P!P!Q!R"
+            + "!S!T!U!V!Z![!\\!]!^!_!`!a!b!d!e!f!g!h!i!j!k!l!m!n!o!p!q!q!r!"
+            + "s!t!u!u!v!w!x!y!z!{!|!}!~!~!\u007f!\u0080!\u0081!\u0081!"
+            + "\u0082!\u0083!\u0084!\u0085!\u0086!\u0087!\u0088!\u0089!"
+            + "\u008a!\u008b!\u008c!\u008d!\u008e!\u008f!\u0090!\u0090!"
+            + "\u0091!\u0092!\u0093!\u0094!\u0095!\u0096!\u0096!\u0097!"
+            + "\u0098!\u0099!\u009a!\u009b!\u009c!\u009d!\u009e!\u009f!"
+            + "\u00a0!\u00a2!\u00a3!\u00a4!\u00a5!\u00a6!\u00a7!\u00a8!"
+            + "\u00a8!\u00a9!\u00a9!\u00aa!\u00ab!\u00ac!\u00ad!\u00ae!"
+            + "\u00af!\u00b0!\u00b1!\u00b2!\u00b3!\u00b4!\u00b5!\u00b6!"
+            + "\u00b7!\u00b8!\u00b9!\u00bc!\u00bd!\u00be!\u00c0!\u00c1!"
+            + "\u00c5!\u00c7!\u00c8!\u00c9!\u00ca!\u00cb!\u00cc!\u00cd!"
+            + "\u00ce!\u00cf!\u00d0!\u00d1!\u00d2!\u00d3!\u00d3!\u00d4!"
+            + "\u00d5!\u00d6!\u00d7!\u00d8!\u00d8!\u00d9!\u00da!\u00db!"
+            + "\u00dc!\u00dd!\u00de!\u00de!\u00df!\u00e0!\u00e1!\u00e2!"
+            + "\u00e3!\u00e4!\u00e6!\u00e6!\u00e7!\u00e8!\u00e9!\u00ea!"
+            + "\u00eb!\u00ec!\u00ed!\u00ee!\u00ef!\u00f0!\u00f1!\u00f2!"
+            + "\u00f3!\u00f4!\u00f5!\u00f6!\u00f7!\u00f7!\u00f7!\u00f8!"
+            + "\u00f8!\u00f8!\u00f9!\u00fa!\u00fa!\u00fb!\u00fc!\u00fd!"
+            + "\u00fd!\u00fe!\u00ff\"\u0000\"\u0001\"\u0002\"\u0003\"\u0004"
+            + "\"\u0005\"\u0006\"\u0007\"\u0009\"\n\"\u000b\"\u000c\"\u000e"
+            + "\"\u000e\"\u000f\"\u0010\"\u0010\"\u0011\"\u0012\"\u0012\""
+            + "\u0013\"\u0014\"\u0015\"\u0016\"\u0017\"\u0018\"\u001a\""
+            + "\u001a\"\u001b\"\u001c\"\u001d\"\u001e\"\u001e\"\u001f\" \"!"
+            + "\"#\"$\"%\"&\"'\"(\"(\"(\"(\")\"*\"*\"+\",\"-\"-\"-\".\".\"/"
+            + "\"0\"0\"1\"2\"3\"3\"3\"4\"5\"5\"6\"7\"8\"8\"9\":\";\"<\"=\">"
+            + "\"?\"@\"@\"A\"B\"B\"B\"C\"D\"D\"D\"E\"F\"F\"G\"H\"I\"J\"K\"L"
+            + "\"M\"N\"O\"O\"O\"O\"P\"Q\"S\"T\"U\"U\"U\"V\"W\"X\"Y\"Z\"[\""
+            + "\\\"]\"^\"_\"`\"a\"b\"c\"d\"e\"f\"g\"h\"i\"j\"k\"l\"m\"n\"o"
+            + "\"p\"q\"r\"s\"t\"u\"u\"v\"w\"x\"z\"{\"|\"|\"}\"~\"\u007f\""
+            + "\u0080\"\u0081\"\u0082\"\u0083\"\u0084\"\u0085\"\u0086\""
+            + "\u0087\"\u0087\"\u0088\"\u0089\"\u008a\"\u008b\"\u008c\""
+            + "\u008d\"\u008e\"\u0091\"\u0092\"\u0093\"\u0095\"\u0096\""
+            + "\u0097\"\u0098\"\u0099\"\u0099\"\u009a\"\u009b\"\u009c\""
+            + "\u009d\"\u009e\"\u009f\"\u00a0\"\u00a1\"\u00a2\"\u00a2\""
+            + "\u00a3\"\u00a4\"\u00a5\"\u00a6\"\u00a7\"\u00a8\"\u00a9\""
+            + "\u00aa\"\u00ab\"\u00ac\"\u00ad\"\u00ae\"\u00af\"\u00b0\""
+            + "\u00b1\"\u00b2\"\u00b3\"\u00b4\"\u00b5\"\u00b6\"\u00b7\""
+            + "\u00b7\"\u00b8\"\u00b9\"\u00ba\"\u00bb\"\u00bb\"\u00bc\""
+            + "\u00bd\"\u00be\"\u00bf\"\u00c0\"\u00c1\"\u00c2\"\u00c2\""
+            + "\u00c3\"\u00c4\"\u00c5\"\u00c5\"\u00c6\"\u00c7\"\u00c8\""
+            + "\u00c9\"\u00ca\"\u00cb\"\u00cc\"\u00cc\"\u00cd\"\u00ce\""
+            + "\u00cf\"\u00d0\"\u00d1\"\u00d2\"\u00d3\"\u00d4\"\u00d5\""
+            + "\u00d6\"\u00d7\"\u00d8\"\u00d9\"\u00da\"\u00db\"\u00dc\""
+            + "\u00dd\"\u00de\"\u00df\"\u00e0\"\u00e1\"\u00e2\"\u00e2\""
+            + "\u00e3\"\u00e4\"\u00e4\"\u00e4\"\u00e5\"\u00e6\"\u00e7\""
+            + "\u00e8\"\u00e8\"\u00e9\"\u00eb\"\u00ec\"\u00ec\"\u00ec\""
+            + "\u00ed\"\u00ee\"\u00ef\"\u00f0\"\u00f1\"\u00f2\"\u00f3\""
+            + "\u00f4\"\u00f4\"\u00f5\"\u00f5\"\u00f6\"\u00f7\"\u00f7\""
+            + "\u00f8\"\u00f9\"\u00fa\"\u00fb\"\u00fc\"\u00fc\"\u00fd\""
+            + "\u00fe\"\u00ff\"\u00ff#\u0000#\u0001#\u0002#\u0002#\u0002#"
+            + "\u0002#\u0002#\u0003#\u0004#\u0004#\u0005#\u0006#\u0007#"
+            + "\u0008#\u0009#\u0009#\u0009#\n#\u000b#\u000c#\r#\u000e#"
+            + "\u000f#\u0010#\u0011#\u0012#\u0013#\u0014#\u0015#\u0016#"
+            + "\u0017#\u0018#\u0019#\u001a#\u001b#\u001c#\u001c#\u001d#"
+            + "\u001d#\u001e#\u001f# # # # #!###$#%#&#'#(#)#*#+#,#,#,#,#,#-"
+            + "#/#0#1#2#2#3#4#6#8#9#:#;#<#=#>#?#@#A#B#D#E#F#G#H#I#J#K#L#M#N"
+            + "#O#P#Q#R#S#S#T#U#V#W#X#Y#Y#Z#[#[#\\#]#]#^#_#`#a#a#a#b#b#b#c#"
+            + "d#e#e#f#g#h#i#j#k#k#l#l#m#n#o#p#p#q#r#s#t#u#v#w#x#y#z#{#|#}#"
+            + "~#\u007f#\u0080#\u0081#\u0082#\u0083#\u0084#\u0085#\u0085#"
+            + "\u0086#\u0087#\u0088#\u0089#\u008a#\u008b#\u008c#\u008d#"
+            + "\u008e#\u008e#\u008f#\u008f#\u0090#\u0091#\u0091#\u0092#"
+            + "\u0093#\u0094#\u0095#\u0096#\u0097#\u0098#\u0099#\u009a#"
+            + "\u009b#\u009c#\u009d#\u009e#\u009f#\u00a0#\u00a1#\u00a2#"
+            + "\u00a3#\u00a4#\u00a5#\u00a6#\u00a7#\u00a8#\u00a9#\u00a9#"
+            + "\u00aa#\u00ab#\u00ac#\u00ad#\u00ae#\u00af#\u00af#\u00b0#"
+            + "\u00b1#\u00b2#\u00b3#\u00b4#\u00b7#\u00b8#\u00b9#\u00bb#"
+            + "\u00bc#\u00bc#\u00bd#\u00be#\u00bf#\u00bf#\u00c0#\u00c0#"
+            + "\u00c1#\u00c2#\u00c3#\u00c4#\u00c5#\u00c6#\u00c7#\u00c7#"
+            + "\u00c8#\u00c9#\u00ca#\u00cb#\u00cc#\u00cc#\u00cd#\u00ce#"
+            + "\u00cf#\u00d0#\u00d1#\u00d2#\u00d2#\u00d6#\u00d7#\u00d8#"
+            + "\u00d9#\u00da#\u00db#\u00dc#\u00dd#\u00de#\u00df#\u00df#"
+            + "\u00e0#\u00e1#\u00e2#\u00e3#\u00e4#\u00e5#\u00e6#\u00e7#"
+            + "\u00e8#\u00e9#\u00ea#\u00eb#\u00ec#\u00ed#\u00ee#\u00ef#"
+            + "\u00f0#\u00f1#\u00f2#\u00f3#\u00f5#\u00f6#\u00f7#\u00f8#"
+            + "\u00f9#\u00fa#\u00fb#\u00fc#\u00fd#\u00fe#\u00fe#\u00ff$"
+            + "\u0000$\u0001$\u0001$\u0001$\u0002$\u0004$\u0005$\u0006$"
+            + "\u0007$\u0008$\u0008$\u0009$\u0009$\n$\u000b$\u000c$\u000c$"
+            + "\r$\u000e$\u000f$\u0010$\u0011$\u0012$\u0013$\u0014$\u0015$"
+            + "\u0016$\u0017$\u0017$\u0018$\u0019$\u001a$\u001b$\u001b$"
+            + "\u001d$\u001e$\u001f$ $ $!$\"$#$$$%$'$($)$*$+$,$-$.$/$0$1$2$"
+            + "3$4$5$6$7$8$:$;$<$<$=$>$?$@$A$A$B$C$C$D$D$E$F$F$G$H$I$J$K$L$"
+            + "M$N$O$P$Q$R$R$S$T$U$V$W$X$Y$Z$[$\\$]$^$_$`$a$b$c$d$e$f$g$h$i"
+            + "$i$j$j$k$l$m$n$n$n$o$o$p$q$r$s$s$t$u$v$w$w$x$x$y$z${$|$|$}$~"
+            + "$\u007f$\u0080$\u0081$\u0082$\u0083$\u0085$\u0085$\u0086$"
+            + "\u0086$\u0086$\u0087$\u0088$\u0089$\u0089$\u008a$\u008b$"
+            + "\u008c$\u008c$\u008c$\u008d$\u008e$\u008e$\u008e$\u008f$"
+            + "\u0090$\u0091$\u0092$\u0093$\u0094$\u0095$\u0095$\u0096$"
+            + "\u0097$\u0098$\u0099$\u0099$\u0099$\u009a$\u009a$\u009b$"
+            + "\u009b$\u009c$\u009e$\u009f$\u00a0$\u00a1$\u00a1$\u00a2$"
+            + "\u00a3$\u00a3$\u00a4$\u00a4$\u00a5$\u00a6$\u00a7$\u00a7$"
+            + "\u00a8$\u00aa$\u00ab$\u00ac$\u00ad$\u00ae$\u00af$\u00b0$"
+            + "\u00b1$\u00b2$\u00b2$\u00b2$\u00b3$\u00b4$\u00b4$\u00b5$"
+            + "\u00b6$\u00b7$\u00b7$\u00b8$\u00b8$\u00b8$\u00b9$\u00ba$"
+            + "\u00bb$\u00bc$\u00bd$\u00be$\u00bf$\u00c0$\u00c1$\u00c1$"
+            + "\u00c2$\u00c3$\u00c4$\u00c5$\u00c6$\u00c7$\u00c8$\u00c9$"
+            + "\u00ca$\u00cb$\u00cc$\u00cc$\u00cd$\u00ce$\u00cf$\u00d0$"
+            + "\u00d1$\u00d1$\u00d2$\u00d3$\u00d5$\u00d6$\u00d7$\u00d8$"
+            + "\u00d9$\u00da$\u00db$\u00db$\u00dc$\u00dc$\u00dc$\u00dc$"
+            + "\u00dd$\u00de$\u00df$\u00e0$\u00e0$\u00e1$\u00e1$\u00e2$"
+            + "\u00e3$\u00e4$\u00e5$\u00e6$\u00e7$\u00e7$\u00e8$\u00e8$"
+            + "\u00e9$\u00e9$\u00ea$\u00ea$\u00ea$\u00eb$\u00ec$\u00ed$"
+            + "\u00ee$\u00ef$\u00f0$\u00f0$\u00f1$\u00f2$\u00f3$\u00f4$"
+            + "\u00f5$\u00f5$\u00f6$\u00f7$\u00f8$\u00fb$\u00fb$\u00fc$"
+            + "\u00fd$\u00fe$\u00ff%\u0000%\u0001%\u0002%\u0004%\u0005%"
+            + "\u0005%\u0006%\u0007%\u0008%\u0009%\n%\n%\u000b%\u000b%"
+            + "\u000c%\r%\r%\u000e%\u000f%\u0010%\u0011%\u0012%\u0013%"
+            + "\u0015%\u0015%\u0016%\u0017%\u0018%\u0019%\u001a%\u001a%"
+            + "\u001a%\u001a%\u001b%\u001c%\u001d%\u001d%\u001e%\u001f%"
+            + "\u001f% %!%!%\"%#%#%$%%%&%'%(%)%)%*%*%*%+%,%,%-%-%-%.%/%0%0%"
+            + "1%1%1%2%3%3%4%4%5%5%6%6%7%8%9%:%;%<%<%=%>%?%?%@%A%B%C%D%D%D%"
+            + "E%F%G%H%I%J%J%J%K%L%M%N%O%P%Q%R%S%T%U%V%V%W%X%Y%Z%[%\\%]%^%_"
+            + "%`%a%b%c%c%c%d%e%e%e%f%g%h%h%i%j%k%l%m%n%o%o%p%q%r%r%r%r%s%t"
+            + "%u%v%w%x%y%z%}%}%~%\u007f%\u0080%\u0081%\u0082%\u0083%\u0084"
+            + "%\u0085%\u0085%\u0086%\u0087%\u0088%\u0089%\u008a%\u008b%"
+            + "\u008c%\u008c%\u008d%\u008e%\u008f%\u0090%\u0091%\u0092%"
+            + "\u0092%\u0093%\u0094%\u0095%\u0096%\u0097%\u0098%\u0098%"
+            + "\u0099%\u0099%\u009a%\u009b%\u009c%\u009c%\u009d%\u009d%"
+            + "\u009d%\u009e%\u009e%\u009e%\u009f%\u00a0%\u00a1%\u00a1%"
+            + "\u00a1%\u00a1%\u00a2%\u00a3%\u00a3%\u00a4%\u00a5%\u00a5%"
+            + "\u00a5%\u00a5%\u00a5%\u00a6%\u00a7%\u00a7%\u00a8%\u00a9%"
+            + "\u00aa%\u00ab%\u00ac%\u00ac%\u00ad%\u00ad%\u00ad%\u00ae%"
+            + "\u00af%\u00b0%\u00b1%\u00b2%\u00b2%\u00b3%\u00b4%\u00b4%"
+            + "\u00b5%\u00b6%\u00b7%\u00b8%\u00b9%\u00b9%\u00ba%\u00bb%"
+            + "\u00bc%\u00bc%\u00bc%\u00bd%\u00bd%\u00be%\u00bf%\u00c0%"
+            + "\u00c1%\u00c2%\u00c2%\u00c2%\u00c3%\u00c4%\u00c5%\u00c6%"
+            + "\u00c7%\u00c8%\u00c9%\u00c9%\u00ca%\u00cb%\u00cc%\u00cd%"
+            + "\u00ce%\u00cf%\u00d0%\u00d1%\u00d2%\u00d2%\u00d3%\u00d4%"
+            + "\u00d4%\u00d5%\u00d6%\u00d7%\u00d9%\u00d9%\u00da%\u00da%"
+            + "\u00da%\u00db%\u00dc%\u00dd%\u00de%\u00df%\u00e0%\u00e1%"
+            + "\u00e2%\u00e3%\u00e4%\u00e4%\u00e5%\u00e6%\u00e6%\u00e6%"
+            + "\u00e7%\u00e8%\u00e9%\u00ea%\u00ea%\u00ea%\u00eb%\u00ec%"
+            + "\u00ed%\u00ee%\u00ee%\u00ee%\u00ef%\u00f0%\u00f1%\u00f1%"
+            + "\u00f1%\u00f2%\u00f2%\u00f2%\u00f3%\u00f3%\u00f4%\u00f5%"
+            + "\u00f6%\u00f7%\u00f8%\u00f9%\u00fa%\u00fb%\u00fc%\u00fd%"
+            + "\u00fd%\u00fd%\u00fe%\u00fe%\u00fe%\u00ff&\u0000&\u0001&"
+            + "\u0001&\u0002&\u0002&\u0003&\u0003&\u0003&\u0003&\u0003&"
+            + "\u0004&\u0005&\u0006&\u0007&\u0007&\u0008&\u0009&\n&\u000b&"
+            + "\u000b&\u000c&\r&\u000e&\u000e&\u000f&\u000f&\u0010&\u0010&"
+            + "\u0011&\u0012&\u0013&\u0013&\u0014&\u0015&\u0015&\u0016&"
+            + "\u0017&\u0018&\u0019&\u0019&\u001a&\u001b&\u001c&\u001d&"
+            + "\u001e&\u001e&\u001f&\u001f& &!&!&!&!&\"&\"&#&$&$&$&%&&&'&(&"
+            + ")&*&+&,&-&.&/&/&/&0&1&2&2&2&3&3&4&5&6&7&8&8&9&:&;&<&=&>&?&@&"
+            + "A&A&A&B&C&C&C&C&C&C&D&D&D&E&E&F&G&H&I&J&K&L&L&M&N&N&O&P&P&P&"
+            + "Q&R&S&S&T&U&V&W&W&X&Y&Z&[&\\&]&]&]&]&]&^&_&`&a&b&b&c&c&c&d&e"
+            + "&e&e&e&e&f&g&h&h&i&j&j&j&k&k&l&m&m&n&n&n&o&o&o&p&p&q&r&r&s&t"
+            + "&t&u&v&w&w&w&x&x&y&z&{&|&}&~&~");
+
+    /**
+     * One plus the index in <code>NamedCharacters.VALUES</code> of the name
+     * that ends at each node or zero if no name ends there.
+     */
+    static final @NoLength char[] TRIE_MATCHES = PackedTables.unpackChars(
+            "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00a9"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u00f7\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0004o\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0005n\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0003"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000L\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0083\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u00aa\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00b3"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00bd\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00d6"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u00f8\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001\""
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u00011\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0001:\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u0082\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0001\u0093\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0001\u00a4\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0001\u00a8\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0001\u00b9\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u00c2\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u00e9\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0002c"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0002~"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0002\u0088\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0002\u0091\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0002\u00ac\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0003\u00a2\u0000\u0000\u0000\u0000\u0003\u00a6"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0003\u00e5\u0000\u0000"
+            + "\u0000\u0000\u0003\u00e8\u0000\u0000\u0000\u0000\u0003\u00ed"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0004\u0013\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0004C\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0004M\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0004Z\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0004^\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0004p\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0004\u009d\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0004\u00a8\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0004\u00b5"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0004\u00ce\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0004\u00e9\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0005\u0015\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u00054\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0005;\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0005o"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0005\u00a1"
+            + "\u0000\u0000\u0000\u0000\u0005\u00a4\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0005\u00c9\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0005\u00e1\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0005\u00f8"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u00068\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0006O\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0006t\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0006\u009e\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0006\u00af\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0006\u00b4\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0007\u0010\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0007C\u0000\u0000\u0000\u0000\u0007F\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0007i\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u00085\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0008\u0081\u0008\u0082\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0008\u008c\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0008\u00a2\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0004\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\n\u0000\u000b\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0010\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u001a\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u001f\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000#\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000)\u0000\u0000\u0000,"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00007"
+            + "\u00008\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000J\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000U\u0000V\u0000"
+            + "\u0000\u0000X\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000a\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0082\u0000\u0084\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u008a\u0000\u0000\u0000"
+            + "\u008c\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u009b\u0000\u009c\u0000\u0000\u0000"
+            + "\u0000\u0000\u00a0\u0000\u00a1\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u00b0\u0000\u0000\u0000"
+            + "\u00b2\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u00c0\u0000\u0000\u0000\u00c2\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u00d1\u0000\u0000\u0000\u00d3\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u00da\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u00e5\u0000\u0000\u0000\u00e8\u0000\u00e9\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u00f2\u0000\u00f3\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001"
+            + "\u0000\u0000\u0000\u0000\u0000\u0001!\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001"
+            + "/\u0000\u0000\u00012\u00013\u0000\u0000\u0000\u0000\u00016"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0001?\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0001G\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0001K\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u0088\u0000\u0000"
+            + "\u0001\u008a\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0001\u009a\u0000\u0000\u0000\u0000\u0001\u00a1"
+            + "\u0001\u00a2\u0001\u00a3\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0001\u00b2\u0001\u00b3\u0001\u00b5\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0001\u00ba\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0001\u00c1\u0000\u0000\u0001\u00c6"
+            + "\u0001\u00c7\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0001\u00e3\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0001\u00ed\u0001\u00ee\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0002\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0002\u0008"
+            + "\u0002\u0009\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0002\u0012\u0002\u0013\u0000\u0000"
+            + "\u0000\u0000\u0002\u0016\u0002\u0017\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0002,\u0000\u0000\u0002.\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0002J\u0000\u0000\u0000\u0000\u0002N"
+            + "\u0000\u0000\u0002Q\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0002Y\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0002_\u0000\u0000\u0000\u0000\u0002b\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0002l\u0002m\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0002t"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0002x\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0002\u007f\u0002\u0080"
+            + "\u0000\u0000\u0000\u0000\u0002\u0085\u0000\u0000\u0002\u0089"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0002\u0092\u0002\u0093\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0002\u0098\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0002\u00ad\u0000\u0000\u0002\u00af\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0002\u00b7"
+            + "\u0000\u0000\u0000\u0000\u0002\u00bc\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0002\u00cc\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0002\u00d6\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0002\u00f0"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0002\u00f4\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u00035\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0003I"
+            + "\u0003L\u0000\u0000\u0000\u0000\u0003P\u0003Q\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0003p\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0003\u0081"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0003\u00a1\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0003\u00a7\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0003\u00ab\u0000\u0000\u0000\u0000\u0003\u00b2"
+            + "\u0000\u0000\u0000\u0000\u0003\u00b5\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0003\u00bf\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0003\u00e3\u0000\u0000"
+            + "\u0000\u0000\u0003\u00e7\u0000\u0000\u0003\u00eb\u0000\u0000"
+            + "\u0000\u0000\u0003\u00ef\u0003\u00f0\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0003\u00f9\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0004\u0012\u0004\u0014\u0004\u0015"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0004\u001d\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0004\"\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0004D\u0000\u0000\u0000\u0000\u0004H\u0000"
+            + "\u0000\u0000\u0000\u0004K\u0000\u0000\u0004N\u0004O\u0000"
+            + "\u0000\u0000\u0000\u0004R\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0004Y\u0004[\u0000\u0000\u0000\u0000\u0004_\u0004`"
+            + "\u0004a\u0004b\u0000\u0000\u0004e\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0004\u008d\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0004\u00a0\u0000\u0000\u0000\u0000"
+            + "\u0004\u00a4\u0004\u00a5\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0004\u00ba\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0004\u00d1\u0000\u0000\u0004\u00d4\u0004\u00d5"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0004\u00de\u0004\u00df\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0004\u00ea\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0004\u00f3\u0000\u0000\u0000\u0000\u0004\u00ff\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0005\u000e"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0005 \u0005!\u0000\u0000\u0000\u0000\u0005$"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u00053\u00055\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0005C\u0000\u0000\u0005F\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0005Y\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0005b"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0005f\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0005\u0080\u0000\u0000\u0000\u0000"
+            + "\u0005\u0085\u0000\u0000\u0000\u0000\u0000\u0000\u0005\u008c"
+            + "\u0000\u0000\u0000\u0000\u0005\u008f\u0005\u0090\u0000\u0000"
+            + "\u0005\u0093\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0005\u00a7"
+            + "\u0005\u00a8\u0000\u0000\u0000\u0000\u0005\u00ac\u0005\u00ad"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0005\u00b5\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0005\u00bd\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0005\u00c7\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0005\u00d4"
+            + "\u0005\u00d5\u0005\u00d6\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0005\u00dc\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0005\u00e2\u0000\u0000\u0005\u00e4\u0000\u0000\u0000\u0000"
+            + "\u0005\u00e7\u0000\u0000\u0000\u0000\u0005\u00ea\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0005\u00f3\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0005\u00f9\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0006\u0009\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0006\u0015"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u00069\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0006V\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0006^\u0000\u0000\u0000\u0000\u0006b\u0000\u0000\u0006d"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0006j\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0006v\u0000\u0000\u0006y\u0006{\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0006\u0080\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0006\u0089\u0000\u0000"
+            + "\u0006\u008c\u0006\u008d\u0000\u0000\u0000\u0000\u0006\u0093"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0006\u0099\u0006\u009a\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0006\u00a0\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0006\u00b5\u0000\u0000\u0000\u0000"
+            + "\u0006\u00b8\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0006\u00cf\u0000\u0000\u0006\u00d1"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0006\u00da\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0007\u0005"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0007\u0011\u0000\u0000\u0000\u0000\u0007\u0014"
+            + "\u0000\u0000\u0007\u0018\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0007'\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u00078\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0007G\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0007K\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0007S"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0007[\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0007b\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0007j"
+            + "\u0000\u0000\u0007n\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0007\u007f\u0000\u0000\u0000\u0000\u0007\u0083\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0007\u0096\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0007\u00a4\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0007\u00be\u0000\u0000\u0007\u00c0"
+            + "\u0007\u00c2\u0007\u00c4\u0007\u00c6\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0007\u00e3\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0007\u00e7\u0000\u0000\u0000\u0000\u0007\u00ea"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0007\u00ff\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0008%"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0008*"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u00086\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0008M\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0008e\u0000\u0000"
+            + "\u0008g\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0008m\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0008\u007f\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0008\u0089\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0008\u00a1\u0008\u00a3\u0008\u00a4\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0008\u00a9\u0000\u0000\u0000\u0000"
+            + "\u0008\u00ad\u0000\u0000\u0000\u0000\u0000\u0000\u0008\u00b1"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0008\u00b6"
+            + "\u0000\u0000\u0000\u0001\u0000\u0000\u0000\u0000\u0000\u0008"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0012"
+            + "\u0000\u0000\u0000\u0014\u0000\u0016\u0000\u0000\u0000\u0000"
+            + "\u0000\u001b\u0000\u0000\u0000\u001d\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\"\u0000$\u0000\u0000\u0000&\u0000\u0000"
+            + "\u0000(\u0000*\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00004\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000E\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000I\u0000\u0000\u0000"
+            + "\u0000\u0000N\u0000O\u0000P\u0000\u0000\u0000R\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000`\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0080\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0088"
+            + "\u0000\u008b\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0094\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0099\u0000\u009a\u0000\u009d\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u00a4\u0000\u0000\u0000\u0000\u0000\u00a7"
+            + "\u0000\u00a8\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u00b1\u0000\u00b4\u0000\u0000\u0000\u00bc\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00c4\u0000\u0000"
+            + "\u0000\u00c6\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00ca"
+            + "\u0000\u0000\u0000\u00cc\u0000\u0000\u0000\u00cf\u0000\u00d2"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00e0\u0000\u00e1"
+            + "\u0000\u00e2\u0000\u0000\u0000\u0000\u0000\u00e6\u0000\u0000"
+            + "\u0000\u00ea\u0000\u00eb\u0000\u0000\u0000\u0000\u0000\u00ee"
+            + "\u0000\u00ef\u0000\u0000\u0000\u0000\u0000\u00f4\u0000\u00f5"
+            + "\u0000\u00f6\u0000\u0000\u0000\u0000\u0000\u00fb\u0000\u0000"
+            + "\u0000\u00fd\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0001+\u0000\u0000\u0001.\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u00018\u00019\u0001;\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0001J\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001"
+            + "\u007f\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u0086\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001"
+            + "\u0090\u0000\u0000\u0001\u0094\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0001\u009b\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0001\u00a7\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0001\u00b1\u0001\u00b4\u0001\u00b6\u0001"
+            + "\u00b7\u0000\u0000\u0000\u0000\u0001\u00bc\u0001\u00bd\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001"
+            + "\u00df\u0000\u0000\u0000\u0000\u0001\u00e2\u0000\u0000\u0000"
+            + "\u0000\u0001\u00e6\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001"
+            + "\u00f5\u0001\u00f6\u0000\u0000\u0001\u00fe\u0001\u00ff\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0002"
+            + "\r\u0000\u0000\u0000\u0000\u0002\u0011\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0002 \u0000\u0000\u0002\"\u0000\u0000\u0000\u0000"
+            + "\u0002&\u0000\u0000\u0000\u0000\u0000\u0000\u0002*\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u00029\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0002E\u0000"
+            + "\u0000\u0000\u0000\u0002H\u0000\u0000\u0002K\u0000\u0000"
+            + "\u0002M\u0000\u0000\u0000\u0000\u0002S\u0000\u0000\u0000"
+            + "\u0000\u0002Z\u0002[\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0002`\u0002a\u0002d\u0002e\u0002f\u0002g\u0002h\u0000"
+            + "\u0000\u0000\u0000\u0002n\u0002o\u0002p\u0002q\u0000\u0000"
+            + "\u0000\u0000\u0002u\u0000\u0000\u0002w\u0002y\u0002z\u0000"
+            + "\u0000\u0000\u0000\u0002\u0081\u0002\u0083\u0002\u0086\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0002\u0095\u0000\u0000\u0002\u0097\u0002"
+            + "\u0099\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0002\u00ab\u0000\u0000\u0002"
+            + "\u00b0\u0002\u00b1\u0000\u0000\u0002\u00b4\u0002\u00b6\u0000"
+            + "\u0000\u0000\u0000\u0002\u00bd\u0000\u0000\u0000\u0000\u0002"
+            + "\u00c0\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0002\u00c9\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0002"
+            + "\u00d3\u0002\u00d4\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0002\u00f2\u0002\u00f3\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0002\u00fb\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0003"
+            + "\u0004\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0003\u0010\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0003\u001c\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0003'\u0000"
+            + "\u0000\u0003)\u0000\u0000\u0003+\u0000\u0000\u0000\u0000"
+            + "\u0003.\u0000\u0000\u00030\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0003;\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0003E\u0003F"
+            + "\u0000\u0000\u0003J\u0000\u0000\u0003M\u0000\u0000\u0003R"
+            + "\u0003S\u0000\u0000\u0000\u0000\u0003\\\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0003"
+            + "g\u0000\u0000\u0000\u0000\u0003k\u0000\u0000\u0000\u0000"
+            + "\u0003n\u0000\u0000\u0003q\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0003u\u0003v\u0000\u0000\u0003x\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0003"
+            + "\u0087\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0003"
+            + "\u0097\u0003\u0098\u0000\u0000\u0000\u0000\u0003\u009b\u0003"
+            + "\u009c\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0003\u00ae\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0003"
+            + "\u00ba\u0000\u0000\u0000\u0000\u0000\u0000\u0003\u00be\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0003\u00cd\u0003\u00ce\u0003\u00cf\u0000\u0000\u0000"
+            + "\u0000\u0003\u00d2\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0003\u00d7\u0000\u0000\u0000\u0000\u0003\u00da\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0003\u00df\u0003\u00e0\u0000"
+            + "\u0000\u0003\u00e4\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0003"
+            + "\u00f8\u0003\u00fa\u0000\u0000\u0003\u00fc\u0003\u00fd\u0000"
+            + "\u0000\u0000\u0000\u0004\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0004"
+            + "\u000f\u0000\u0000\u0004\u0011\u0004\u0016\u0004\u0017\u0004"
+            + "\u0018\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0004%\u0000\u0000\u0000\u0000\u0004(\u0004)\u0000"
+            + "\u0000\u0004+\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0004B\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0004L\u0004P\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0004W\u0000\u0000\u0000\u0000\u0004]\u0004c"
+            + "\u0000\u0000\u0004f\u0000\u0000\u0000\u0000\u0004i\u0000"
+            + "\u0000\u0004k\u0004l\u0000\u0000\u0000\u0000\u0004q\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0004~\u0004\u007f\u0000\u0000\u0004\u0081\u0000"
+            + "\u0000\u0000\u0000\u0004\u0084\u0000\u0000\u0000\u0000\u0004"
+            + "\u0087\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0004\u0094\u0000\u0000\u0004\u0096\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0004\u009e\u0004"
+            + "\u00a1\u0004\u00a2\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0004\u00b3\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0004\u00c0\u0000\u0000\u0004"
+            + "\u00c2\u0004\u00c3\u0000\u0000\u0000\u0000\u0004\u00c7\u0004"
+            + "\u00c8\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0004\u00d2\u0000\u0000\u0000\u0000\u0004"
+            + "\u00d7\u0004\u00d8\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0004\u00e1\u0004\u00e2\u0004\u00e3\u0004"
+            + "\u00e4\u0000\u0000\u0004\u00e6\u0000\u0000\u0000\u0000\u0004"
+            + "\u00eb\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0004"
+            + "\u00f0\u0000\u0000\u0000\u0000\u0004\u00f4\u0004\u00f6\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0005\u0001\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0005\r\u0005\u000f\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0005\u0014\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0005\"\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0005)\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0005"
+            + ":\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0005D\u0000\u0000\u0005G\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0005T"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0005[\u0005\\\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0005e\u0005g\u0000\u0000"
+            + "\u0000\u0000\u0005j\u0000\u0000\u0000\u0000\u0005p\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0005x\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0005~\u0000\u0000\u0005"
+            + "\u0081\u0005\u0082\u0005\u0083\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0005\u0091\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0005\u009c\u0005"
+            + "\u009d\u0000\u0000\u0000\u0000\u0005\u00a0\u0005\u00a2\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0005\u00a9\u0000\u0000\u0005"
+            + "\u00ae\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0005\u00b4\u0005\u00b6\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0005\u00be\u0000\u0000\u0005\u00c1\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0005\u00c6\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0005\u00d7\u0000\u0000\u0000"
+            + "\u0000\u0005\u00da\u0000\u0000\u0005\u00dd\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0005\u00e3\u0005\u00e5\u0000\u0000\u0000"
+            + "\u0000\u0005\u00e9\u0000\u0000\u0005\u00ed\u0000\u0000\u0000"
+            + "\u0000\u0005\u00f0\u0000\u0000\u0000\u0000\u0000\u0000\u0005"
+            + "\u00f6\u0005\u00f7\u0000\u0000\u0000\u0000\u0006\u0004\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0006"
+            + "\u000b\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0006\u0017\u0006\u0018\u0000\u0000\u0006"
+            + "\u001b\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0006"
+            + "\"\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0006*"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u00060\u0000\u0000"
+            + "\u00063\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0006>\u0000\u0000\u0006@\u0006A\u0000\u0000"
+            + "\u0000\u0000\u0006D\u0006E\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0006R\u0006S\u0006T\u0000\u0000\u0000"
+            + "\u0000\u0006Y\u0006Z\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0006_\u0000\u0000\u0000\u0000\u0006e\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0006n\u0000\u0000\u0006p\u0006q\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0006z\u0006|\u0000\u0000"
+            + "\u0006~\u0000\u0000\u0006\u0081\u0000\u0000\u0006\u0084"
+            + "\u0000\u0000\u0000\u0000\u0006\u008a\u0000\u0000\u0006\u008e"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0006\u0092\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0006\u0097\u0000\u0000\u0006\u009b"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0006\u00a4\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0006\u00b1\u0006\u00b2\u0006\u00b6\u0000\u0000\u0006\u00b9"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0006\u00c3\u0000\u0000\u0000\u0000\u0006\u00c6"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0006\u00ca\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0006\u00ce\u0000\u0000\u0006\u00d2"
+            + "\u0006\u00d3\u0000\u0000\u0006\u00d5\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0006\u00db\u0000\u0000\u0006\u00dd\u0000\u0000"
+            + "\u0000\u0000\u0006\u00e0\u0006\u00e1\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0006\u00e5\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0006\u00e9\u0006\u00eb\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0007\u0004\u0007\u0006\u0000\u0000"
+            + "\u0000\u0000\u0007\n\u0007\u000b\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0007\u000f\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0007\u0019\u0000\u0000\u0007#\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0007/\u0000\u0000"
+            + "\u0000\u0000\u00072\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u00077\u00079\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0007>\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0007H\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0007N\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0007T\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0007\\\u0007]"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0007a\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0007f\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0007p\u0000\u0000\u0007r\u0000\u0000\u0007t"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0007}\u0000\u0000"
+            + "\u0007\u0080\u0000\u0000\u0000\u0000\u0007\u0084\u0000\u0000"
+            + "\u0007\u0086\u0000\u0000\u0007\u0089\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0007\u0099\u0000\u0000"
+            + "\u0007\u009b\u0000\u0000\u0000\u0000\u0000\u0000\u0007\u009f"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0007\u00a5\u0000\u0000"
+            + "\u0007\u00a7\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0007\u00b6\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0007\u00bf\u0007\u00c1\u0007\u00c3\u0007\u00c5"
+            + "\u0007\u00c7\u0000\u0000\u0000\u0000\u0007\u00ca\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0007\u00e0\u0000\u0000"
+            + "\u0007\u00e4\u0000\u0000\u0000\u0000\u0007\u00e8\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0007\u00f5\u0000\u0000\u0007\u00f8\u0007\u00fd"
+            + "\u0007\u00fe\u0000\u0000\u0000\u0000\u0008\u0002\u0000\u0000"
+            + "\u0008\u0004\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0008\u000f\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0008\u0015\u0008\u0016\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0008\u001c\u0008\u001d\u0000\u0000"
+            + "\u0008 \u0000\u0000\u0000\u0000\u0008#\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u00088\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0008>\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0008"
+            + "G\u0000\u0000\u0000\u0000\u0008J\u0000\u0000\u0000\u0000"
+            + "\u0008N\u0000\u0000\u0008P\u0008Q\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0008[\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0008l\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0008q\u0000\u0000\u0000\u0000"
+            + "\u0008t\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0008\u0080\u0000\u0000"
+            + "\u0008\u0084\u0008\u0085\u0000\u0000\u0008\u0087\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0008\u008f"
+            + "\u0008\u0090\u0000\u0000\u0008\u0092\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0008\u0097\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0008\u009b\u0000\u0000\u0000\u0000\u0008\u009f"
+            + "\u0000\u0000\u0008\u00a5\u0008\u00a6\u0008\u00a7\u0008\u00a8"
+            + "\u0008\u00aa\u0000\u0000\u0000\u0000\u0008\u00ae\u0000\u0000"
+            + "\u0008\u00b0\u0008\u00b2\u0000\u0000\u0008\u00b4\u0008\u00b5"
+            + "\u0008\u00b7\u0000\u0002\u0000\u0005\u0000\u0000\u0000\u0009"
+            + "\u0000\u000c\u0000\u000e\u0000\u000f\u0000\u0011\u0000\u0000"
+            + "\u0000\u0015\u0000\u0000\u0000\u0018\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000%\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u00000\u00002\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000@\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000H\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000S\u0000\u0000\u0000W\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0085\u0000\u0000\u0000\u0089"
+            + "\u0000\u008d\u0000\u0000\u0000\u0090\u0000\u0000\u0000\u0000"
+            + "\u0000\u0093\u0000\u0000\u0000\u0096\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u00ab\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00af"
+            + "\u0000\u0000\u0000\u0000\u0000\u00bf\u0000\u00c1\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00cb"
+            + "\u0000\u00cd\u0000\u00d0\u0000\u00d4\u0000\u00d7\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00df"
+            + "\u0000\u0000\u0000\u00e4\u0000\u00e7\u0000\u0000\u0000\u00ed"
+            + "\u0000\u00f0\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0001\u0080\u0001\u0083\u0001\u0084\u0001\u0087\u0000\u0000"
+            + "\u0001\u008b\u0001\u008d\u0001\u008e\u0000\u0000\u0000\u0000"
+            + "\u0001\u0095\u0001\u0097\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0001\u00ad\u0000\u0000\u0000\u0000\u0001\u00b8\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0001\u00ec\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0001\u00f3\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0002\u000e\u0002\u000f"
+            + "\u0002\u0010\u0000\u0000\u0000\u0000\u0000\u0000\u0002\u0019"
+            + "\u0000\u0000\u0000\u0000\u0002\u001c\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0002$\u0000\u0000"
+            + "\u0002(\u0000\u0000\u0002+\u0000\u0000\u0002/\u00021\u0000"
+            + "\u0000\u0000\u0000\u00026\u0000\u0000\u00028\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0002?\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0002G"
+            + "\u0000\u0000\u0002L\u0002O\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0002]\u0002^\u0002i\u0002k"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0002{\u0000\u0000"
+            + "\u0002\u0082\u0002\u0084\u0002\u0087\u0002\u008a\u0000\u0000"
+            + "\u0002\u008d\u0002\u008e\u0002\u008f\u0002\u0090\u0000\u0000"
+            + "\u0000\u0000\u0002\u009a\u0000\u0000\u0002\u00a4\u0000\u0000"
+            + "\u0000\u0000\u0002\u00a8\u0000\u0000\u0002\u00aa\u0000\u0000"
+            + "\u0000\u0000\u0002\u00b5\u0002\u00b8\u0000\u0000\u0002\u00ba"
+            + "\u0000\u0000\u0002\u00bf\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0002\u00cb"
+            + "\u0002\u00cd\u0000\u0000\u0000\u0000\u0002\u00d1\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0002\u00eb\u0002\u00ec\u0002\u00ed"
+            + "\u0002\u00ee\u0002\u00ef\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0002\u00f7\u0002\u00f8\u0002\u00f9\u0002\u00fa\u0002\u00fc"
+            + "\u0002\u00fd\u0002\u00fe\u0002\u00ff\u0003\u0000\u0003\u0001"
+            + "\u0003\u0002\u0003\u0003\u0003\u0005\u0003\u0006\u0003\u0007"
+            + "\u0003\u0008\u0003\u0009\u0003\n\u0000\u0000\u0003\u000c"
+            + "\u0003\r\u0003\u000e\u0003\u000f\u0003\u0011\u0003\u0012"
+            + "\u0003\u0013\u0003\u0014\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0003\u0018\u0003\u0019\u0003\u001a\u0003\u001b\u0003\u001d"
+            + "\u0003\u001e\u0003\u001f\u0003 \u0003!\u0003\"\u0000\u0000"
+            + "\u0003$\u0003%\u0003(\u0003*\u0003,\u0000\u0000\u0000\u0000"
+            + "\u00031\u00032\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0003<\u0003="
+            + "\u0003>\u0000\u0000\u0003@\u0003B\u0003C\u0000\u0000\u0003G"
+            + "\u0000\u0000\u0000\u0000\u0003N\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0003`"
+            + "\u0000\u0000\u0003b\u0000\u0000\u0003e\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0003s\u0003t\u0003w\u0003y\u0003z\u0000\u0000\u0003}"
+            + "\u0003~\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0003\u0086\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0003\u008e\u0000\u0000\u0003\u0092\u0003\u0093"
+            + "\u0000\u0000\u0003\u0095\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0003\u009d\u0000\u0000\u0003\u009f\u0000\u0000\u0000\u0000"
+            + "\u0003\u00a4\u0000\u0000\u0003\u00a8\u0000\u0000\u0000\u0000"
+            + "\u0003\u00ac\u0003\u00ad\u0000\u0000\u0003\u00b1\u0000\u0000"
+            + "\u0003\u00b4\u0003\u00b6\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0003\u00c0\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0003\u00d1"
+            + "\u0003\u00d3\u0003\u00d4\u0003\u00d5\u0000\u0000\u0000\u0000"
+            + "\u0003\u00d9\u0003\u00db\u0000\u0000\u0000\u0000\u0003\u00e1"
+            + "\u0000\u0000\u0003\u00e6\u0003\u00e9\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0003\u00f2\u0003\u00f3\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0003\u00fb\u0000\u0000\u0003\u00ff"
+            + "\u0000\u0000\u0004\u0002\u0000\u0000\u0000\u0000\u0004\u0005"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0004\n\u0000\u0000"
+            + "\u0000\u0000\u0004\r\u0004\u000e\u0004\u0010\u0004\u0019"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0004 \u0000\u0000\u0004#\u0004$\u0004&\u0004'\u0000\u0000"
+            + "\u0004,\u0000\u0000\u0004.\u0000\u0000\u00041\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00048"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0004@\u0004A\u0000\u0000\u0004F\u0000\u0000"
+            + "\u0000\u0000\u0004J\u0000\u0000\u0004S\u0000\u0000\u0000"
+            + "\u0000\u0004\\\u0000\u0000\u0004g\u0004h\u0004j\u0004m\u0004"
+            + "n\u0004r\u0004s\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0004\u0086\u0004\u0088\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0004\u0090\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0004\u009b\u0004\u009f\u0004\u00a3\u0004"
+            + "\u00a6\u0000\u0000\u0004\u00aa\u0000\u0000\u0004\u00ac\u0004"
+            + "\u00ad\u0004\u00ae\u0004\u00af\u0000\u0000\u0000\u0000\u0004"
+            + "\u00b2\u0004\u00b4\u0000\u0000\u0004\u00b7\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0004\u00c1\u0004\u00c4\u0004\u00c5\u0004\u00c9\u0000"
+            + "\u0000\u0004\u00cb\u0000\u0000\u0004\u00cd\u0000\u0000\u0004"
+            + "\u00d0\u0004\u00d3\u0004\u00d6\u0000\u0000\u0004\u00da\u0004"
+            + "\u00db\u0000\u0000\u0000\u0000\u0000\u0000\u0004\u00e5\u0000"
+            + "\u0000\u0004\u00e8\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0004\u00f1\u0000\u0000\u0004\u00f5\u0004\u00f7\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0005\u0002\u0005\u0003\u0005"
+            + "\u0004\u0000\u0000\u0000\u0000\u0005\u0007\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0005\u000c\u0005\u0010\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0005%\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u00056\u00057\u0000\u0000"
+            + "\u00059\u0005<\u0000\u0000\u0000\u0000\u0005?\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0005H\u0005I\u0005J\u0005K\u0005L"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0005S"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0005^\u0000\u0000\u0005`\u0000\u0000\u0005c"
+            + "\u0000\u0000\u0005h\u0005i\u0005k\u0000\u0000\u0000\u0000"
+            + "\u0005q\u0005r\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0005y\u0005z\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0005\u007f\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0005\u008d\u0000\u0000\u0005\u0092\u0000\u0000"
+            + "\u0000\u0000\u0005\u0096\u0005\u0098\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0005\u00a6"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0005\u00b2\u0000\u0000\u0005\u00b7\u0005\u00b8\u0000\u0000"
+            + "\u0005\u00ba\u0000\u0000\u0005\u00bf\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0005\u00c4\u0000\u0000\u0005\u00c8\u0005\u00ca"
+            + "\u0000\u0000\u0005\u00cc\u0000\u0000\u0005\u00ce\u0000\u0000"
+            + "\u0000\u0000\u0005\u00d1\u0000\u0000\u0005\u00d8\u0000\u0000"
+            + "\u0005\u00db\u0005\u00de\u0005\u00df\u0005\u00e0\u0005\u00e6"
+            + "\u0005\u00e8\u0000\u0000\u0000\u0000\u0005\u00ee\u0000\u0000"
+            + "\u0005\u00f1\u0005\u00f2\u0005\u00f4\u0000\u0000\u0005\u00fa"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0006\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0006\u0007\u0000\u0000\u0000\u0000"
+            + "\u0006\u000c\u0000\u0000\u0006\u000e\u0006\u000f\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0006\u0013\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0006\u001c\u0000\u0000\u0006\u001e\u0006\u001f"
+            + "\u0000\u0000\u0000\u0000\u0006#\u0006$\u0000\u0000\u0006("
+            + "\u0000\u0000\u0006+\u0006,\u0000\u0000\u00061\u0000\u0000"
+            + "\u0000\u0000\u0006;\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0006I\u0006J\u0000\u0000\u0006L\u0000\u0000\u0000\u0000"
+            + "\u0006P\u0006U\u0006W\u0000\u0000\u0000\u0000\u0006\\\u0006]"
+            + "\u0006`\u0006c\u0006f\u0006g\u0000\u0000\u0006i\u0006k\u0006"
+            + "l\u0000\u0000\u0000\u0000\u0006r\u0006s\u0006u\u0006w\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0006\u0082\u0006\u0085\u0000"
+            + "\u0000\u0006\u008b\u0000\u0000\u0000\u0000\u0006\u0091\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0006"
+            + "\u009d\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0006"
+            + "\u00a6\u0000\u0000\u0000\u0000\u0000\u0000\u0006\u00aa\u0006"
+            + "\u00ab\u0000\u0000\u0000\u0000\u0000\u0000\u0006\u00b3\u0006"
+            + "\u00b7\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0006\u00c1\u0000\u0000\u0006"
+            + "\u00c4\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0006\u00cc\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0006\u00d8\u0000\u0000\u0006\u00dc\u0000"
+            + "\u0000\u0006\u00df\u0000\u0000\u0006\u00e3\u0000\u0000\u0006"
+            + "\u00e6\u0006\u00e7\u0000\u0000\u0006\u00ea\u0000\u0000\u0006"
+            + "\u00ed\u0000\u0000\u0006\u00ef\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0006\u00f6\u0000"
+            + "\u0000\u0006\u00f8\u0000\u0000\u0006\u00fa\u0006\u00fb\u0000"
+            + "\u0000\u0000\u0000\u0006\u00fe\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0007\u0003\u0000\u0000\u0007\u0008\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0007\u000e\u0000\u0000\u0000\u0000\u0007"
+            + "\u0015\u0007\u0016\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0007"
+            + "%\u0007&\u0000\u0000\u0007*\u0007+\u0007,\u0007-\u0007."
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00075"
+            + "\u0000\u0000\u0007:\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0007?\u0007@\u0000\u0000\u0000\u0000\u0000\u0000\u0007E"
+            + "\u0000\u0000\u0007J\u0000\u0000\u0007M\u0007O\u0000\u0000"
+            + "\u0000\u0000\u0007R\u0007U\u0007V\u0007W\u0000\u0000\u0007Y"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0007`\u0000\u0000"
+            + "\u0007d\u0000\u0000\u0000\u0000\u0000\u0000\u0007k\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0007q\u0007s\u0007u\u0007v"
+            + "\u0000\u0000\u0000\u0000\u0007y\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0007~\u0007\u0081\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0007\u008a\u0000\u0000\u0007\u008c\u0000\u0000"
+            + "\u0007\u008e\u0000\u0000\u0000\u0000\u0007\u0092\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0007\u009a\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0007\u00a0\u0000\u0000\u0007\u00a3"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0007\u00aa\u0007\u00ab"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0007\u00d0\u0007\u00d1\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0007\u00db\u0000\u0000\u0007\u00dd"
+            + "\u0000\u0000\u0000\u0000\u0007\u00e1\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0007\u00ed"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0007\u00f3\u0000\u0000\u0007\u00f6\u0007\u00f7\u0007\u00f9"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0008\u0006\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0008\u0012\u0000\u0000\u0000\u0000\u0008\u0017"
+            + "\u0000\u0000\u0008\u0019\u0000\u0000\u0008\u001e\u0008!"
+            + "\u0000\u0000\u0008$\u0008&\u0000\u0000\u0008(\u0000\u0000"
+            + "\u0008+\u0008-\u0008.\u0008/\u0000\u0000\u0000\u0000\u00083"
+            + "\u00084\u00087\u0000\u0000\u0000\u0000\u0000\u0000\u0008="
+            + "\u0008?\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0008E\u0008F\u0008H\u0000\u0000\u0008K\u0008L\u0000\u0000"
+            + "\u0008R\u0008S\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0008Y\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0008"
+            + "f\u0000\u0000\u0008i\u0000\u0000\u0000\u0000\u0008n\u0008o"
+            + "\u0008p\u0008r\u0008s\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0008z\u0000\u0000\u0008|\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0008\u0086\u0008\u0088\u0008"
+            + "\u008a\u0008\u008b\u0008\u008d\u0008\u008e\u0008\u0091\u0000"
+            + "\u0000\u0000\u0000\u0008\u0095\u0008\u0096\u0000\u0000\u0000"
+            + "\u0000\u0008\u009a\u0000\u0000\u0008\u009d\u0008\u00a0\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0006\u0000"
+            + "\u0007\u0000\r\u0000\u0000\u0000\u0017\u0000\u0019\u0000"
+            + "\u0000\u0000\u001e\u0000\u0000\u0000\u0000\u0000'\u0000+"
+            + "\u0000\u0000\u0000\u0000\u0000/\u00001\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000A\u0000\u0000\u0000C"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000K\u0000\u0000"
+            + "\u0000Q\u0000T\u0000\u0000\u0000\u0000\u0000\u0000\u0000b"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0081\u0000\u0086"
+            + "\u0000\u0087\u0000\u008e\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u009e\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u00a5\u0000\u0000\u0000\u00ac"
+            + "\u0000\u00ad\u0000\u00ae\u0000\u0000\u0000\u00be\u0000\u0000"
+            + "\u0000\u0000\u0000\u00c7\u0000\u0000\u0000\u0000\u0000\u00ce"
+            + "\u0000\u00d5\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u00e3\u0000\u00ec\u0000\u00f1\u0000\u00f9"
+            + "\u0000\u00fa\u0000\u0000\u0000\u00fe\u0000\u00ff\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0001$\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u00010\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0001<\u0001=\u0001>\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0001\u0081\u0001\u0085\u0001\u0089\u0001\u008c\u0000\u0000"
+            + "\u0000\u0000\u0001\u0096\u0001\u0098\u0001\u0099\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u00bb\u0001\u00be"
+            + "\u0001\u00bf\u0001\u00c0\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0001\u00e5\u0001\u00e7\u0001\u00e8\u0001\u00ea"
+            + "\u0001\u00eb\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0001\u00f7\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0002\u0001\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0002\u000c\u0002\u0014\u0002\u0015\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0002#\u0002%\u0000\u0000\u0002)\u0002-\u00020\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0002I\u0002P\u0002R\u0000\u0000"
+            + "\u0000\u0000\u0002\\\u0002j\u0002r\u0002s\u0000\u0000\u0002|"
+            + "\u0002}\u0002\u008b\u0000\u0000\u0002\u0094\u0000\u0000"
+            + "\u0002\u009b\u0000\u0000\u0000\u0000\u0002\u00a7\u0000\u0000"
+            + "\u0002\u00ae\u0002\u00b2\u0000\u0000\u0000\u0000\u0002\u00bb"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0002\u00c6\u0002\u00c7\u0000\u0000\u0000\u0000\u0002\u00ce"
+            + "\u0000\u0000\u0000\u0000\u0002\u00d2\u0000\u0000\u0002\u00d7"
+            + "\u0000\u0000\u0002\u00d9\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0002\u00e2"
+            + "\u0000\u0000\u0002\u00e4\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0002\u00f5\u0002\u00f6\u0003\u000b\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0003#\u0003&\u0000\u0000\u0003/"
+            + "\u00033\u00034\u00036\u0000\u0000\u00038\u00039\u0003:\u0003"
+            + "?\u0003A\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0003T\u0000\u0000\u0000\u0000\u0000\u0000\u0003^\u0000"
+            + "\u0000\u0000\u0000\u0003c\u0000\u0000\u0003f\u0003h\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0003m\u0003o\u0003r\u0000"
+            + "\u0000\u0000\u0000\u0003\u007f\u0000\u0000\u0000\u0000\u0003"
+            + "\u0083\u0003\u0084\u0003\u0085\u0003\u0088\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0003\u008f\u0000\u0000\u0000"
+            + "\u0000\u0003\u0096\u0003\u0099\u0003\u009a\u0000\u0000\u0003"
+            + "\u00a0\u0000\u0000\u0000\u0000\u0000\u0000\u0003\u00aa\u0000"
+            + "\u0000\u0000\u0000\u0003\u00b7\u0000\u0000\u0003\u00b9\u0003"
+            + "\u00bb\u0003\u00bc\u0003\u00bd\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0003\u00cb\u0003\u00cc\u0003\u00d0\u0000"
+            + "\u0000\u0000\u0000\u0003\u00dc\u0003\u00dd\u0003\u00de\u0003"
+            + "\u00e2\u0003\u00ea\u0003\u00ec\u0000\u0000\u0003\u00f1\u0000"
+            + "\u0000\u0003\u00f5\u0003\u00f6\u0003\u00f7\u0003\u00fe\u0000"
+            + "\u0000\u0004\u0003\u0000\u0000\u0000\u0000\u0004\u0008\u0004"
+            + "\u0009\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0004\u001e\u0004\u001f\u0004!\u0004*\u0000\u0000"
+            + "\u0004/\u00040\u00042\u00043\u00044\u00045\u00046\u00047"
+            + "\u00049\u0004:\u0004;\u0004<\u0004=\u0004>\u0004?\u0004E"
+            + "\u0004G\u0004I\u0000\u0000\u0004T\u0000\u0000\u0004X\u0000"
+            + "\u0000\u0004t\u0000\u0000\u0000\u0000\u0004w\u0004x\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0004|\u0000\u0000\u0004"
+            + "\u0080\u0004\u0082\u0004\u0083\u0000\u0000\u0004\u0089\u0000"
+            + "\u0000\u0004\u008b\u0004\u008c\u0000\u0000\u0000\u0000\u0004"
+            + "\u0091\u0000\u0000\u0000\u0000\u0004\u0095\u0004\u0097\u0004"
+            + "\u0098\u0004\u0099\u0004\u009a\u0004\u009c\u0004\u00a7\u0004"
+            + "\u00a9\u0004\u00ab\u0000\u0000\u0000\u0000\u0004\u00b6\u0000"
+            + "\u0000\u0004\u00b9\u0004\u00bb\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0004\u00c6\u0000\u0000\u0004\u00cc\u0004"
+            + "\u00cf\u0004\u00d9\u0004\u00dc\u0004\u00dd\u0004\u00e0\u0004"
+            + "\u00e7\u0004\u00ec\u0000\u0000\u0004\u00ee\u0004\u00ef\u0004"
+            + "\u00f2\u0000\u0000\u0004\u00f9\u0004\u00fa\u0004\u00fb\u0004"
+            + "\u00fc\u0000\u0000\u0004\u00fe\u0005\u0000\u0005\u0005\u0005"
+            + "\u0006\u0000\u0000\u0000\u0000\u0005\n\u0005\u000b\u0005"
+            + "\u0011\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0005&\u0000"
+            + "\u0000\u0005*\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u00051\u00052\u00058\u0000"
+            + "\u0000\u0005>\u0005@\u0005A\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0005U\u0000"
+            + "\u0000\u0005W\u0005X\u0000\u0000\u0005]\u0000\u0000\u0005a"
+            + "\u0005d\u0005l\u0005m\u0005s\u0005t\u0005u\u0000\u0000\u0005"
+            + "w\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0005"
+            + "\u0086\u0000\u0000\u0000\u0000\u0000\u0000\u0005\u008a\u0005"
+            + "\u008b\u0000\u0000\u0005\u0094\u0005\u0095\u0005\u0097\u0005"
+            + "\u0099\u0005\u009a\u0000\u0000\u0005\u009e\u0005\u009f\u0005"
+            + "\u00a3\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0005"
+            + "\u00b0\u0005\u00b1\u0005\u00b3\u0000\u0000\u0000\u0000\u0005"
+            + "\u00c0\u0005\u00c2\u0005\u00c3\u0000\u0000\u0005\u00cb\u0000"
+            + "\u0000\u0005\u00cf\u0005\u00d0\u0005\u00d2\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0005\u00f5\u0005"
+            + "\u00fb\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0006\u0006\u0000"
+            + "\u0000\u0006\n\u0000\u0000\u0006\u0010\u0006\u0011\u0000"
+            + "\u0000\u0006\u0014\u0006\u0016\u0000\u0000\u0000\u0000\u0006"
+            + "\u001d\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u00062\u0000\u0000\u0006:\u0006<\u0006=\u0006?\u0000"
+            + "\u0000\u0006C\u0000\u0000\u0006G\u0000\u0000\u0006K\u0000"
+            + "\u0000\u0006N\u0006Q\u0006X\u0006[\u0006a\u0000\u0000\u0000"
+            + "\u0000\u0006o\u0000\u0000\u0006}\u0000\u0000\u0006\u0083"
+            + "\u0006\u0086\u0006\u0087\u0000\u0000\u0000\u0000\u0006\u0090"
+            + "\u0006\u0094\u0006\u0095\u0006\u0096\u0000\u0000\u0006\u009c"
+            + "\u0000\u0000\u0006\u00a1\u0000\u0000\u0006\u00a3\u0000\u0000"
+            + "\u0000\u0000\u0006\u00a8\u0006\u00a9\u0006\u00ac\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0006\u00bc"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0006\u00c2"
+            + "\u0006\u00c5\u0000\u0000\u0000\u0000\u0000\u0000\u0006\u00cb"
+            + "\u0006\u00cd\u0006\u00d0\u0006\u00d4\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0006\u00de\u0006\u00e2\u0000\u0000\u0006\u00e8"
+            + "\u0006\u00ec\u0000\u0000\u0006\u00f0\u0006\u00f1\u0006\u00f2"
+            + "\u0006\u00f3\u0000\u0000\u0006\u00f5\u0006\u00f7\u0000\u0000"
+            + "\u0006\u00fc\u0006\u00fd\u0000\u0000\u0000\u0000\u0007\u0001"
+            + "\u0007\u0002\u0000\u0000\u0007\u0009\u0000\u0000\u0000\u0000"
+            + "\u0007\u0012\u0007\u0013\u0007\u0017\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0007(\u0000\u0000\u00070\u0000\u0000\u00073\u0000\u0000"
+            + "\u00076\u0007;\u0007<\u0007=\u0000\u0000\u0000\u0000\u0007D"
+            + "\u0007I\u0007L\u0007P\u0000\u0000\u0007X\u0000\u0000\u0007^"
+            + "\u0000\u0000\u0007c\u0007e\u0000\u0000\u0000\u0000\u0007l"
+            + "\u0007m\u0007o\u0000\u0000\u0000\u0000\u0000\u0000\u0007{"
+            + "\u0000\u0000\u0007\u0082\u0007\u0085\u0007\u0087\u0000\u0000"
+            + "\u0007\u008b\u0007\u008d\u0007\u008f\u0000\u0000\u0007\u0093"
+            + "\u0000\u0000\u0007\u0097\u0007\u0098\u0007\u009c\u0007\u009d"
+            + "\u0007\u009e\u0000\u0000\u0007\u00a6\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0007\u00ae\u0000\u0000\u0000\u0000"
+            + "\u0007\u00b3\u0007\u00b4\u0007\u00b5\u0000\u0000\u0000\u0000"
+            + "\u0007\u00b9\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0007\u00c8\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0007\u00d3\u0000\u0000"
+            + "\u0000\u0000\u0007\u00d8\u0007\u00d9\u0007\u00da\u0007\u00dc"
+            + "\u0000\u0000\u0007\u00df\u0007\u00e2\u0007\u00e5\u0007\u00e6"
+            + "\u0007\u00e9\u0007\u00eb\u0000\u0000\u0000\u0000\u0007\u00ef"
+            + "\u0000\u0000\u0000\u0000\u0007\u00f2\u0007\u00f4\u0007\u00fa"
+            + "\u0000\u0000\u0007\u00fc\u0008\u0000\u0008\u0001\u0000\u0000"
+            + "\u0008\u0005\u0000\u0000\u0008\u000e\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0008\u0018\u0000\u0000\u0008\u001f"
+            + "\u0008\"\u0008'\u0008)\u0008,\u00080\u0000\u0000\u00082"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0008B\u0000\u0000\u0008D\u0008I\u0000\u0000\u0008T\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0008X\u0000\u0000\u0008\\"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0008h\u0008j\u0008k\u0008u\u0008v\u0008w\u0008x\u0000"
+            + "\u0000\u0008{\u0008}\u0008~\u0008\u0083\u0008\u0093\u0008"
+            + "\u0094\u0008\u0098\u0008\u0099\u0008\u009c\u0008\u009e\u0008"
+            + "\u00ab\u0008\u00ac\u0008\u00af\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000 \u0000\u0000\u0000\u0000\u0000.\u00003\u00005"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000^\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000}\u0000\u0000\u0000\u0000"
+            + "\u0000\u008f\u0000\u0000\u0000\u0000\u0000\u0095\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u00d9\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0001\r\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0001F\u0001H\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001"
+            + "_\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0001\u008f\u0000\u0000\u0001\u009c\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001"
+            + "\u00ae\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0002:\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0002"
+            + "A\u0000\u0000\u0000\u0000\u0000\u0000\u0002F\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0002\u008c\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0002\u00a5\u0000\u0000\u0002\u00a9"
+            + "\u0000\u0000\u0002\u00b9\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0002\u00c4\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0002\u00cf\u0002\u00d0\u0002\u00d5\u0002\u00d8\u0002\u00da"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0002\u00de\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0002\u00f1\u0000\u0000\u0003\u0016\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0003D\u0003H\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0003_\u0000\u0000\u0003d\u0000\u0000"
+            + "\u0000\u0000\u0003l\u0003{\u0003|\u0003\u0080\u0000\u0000"
+            + "\u0003\u0089\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0003\u009e\u0003\u00a3\u0003\u00a5"
+            + "\u0003\u00a9\u0003\u00af\u0000\u0000\u0003\u00b3\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0003\u00c3\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0003\u00d6"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0004\u0001\u0004\u0004"
+            + "\u0000\u0000\u0000\u0000\u0004\u000b\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0004U"
+            + "\u0000\u0000\u0000\u0000\u0004u\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0004{\u0000\u0000\u0004\u0085\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0004\u00bf\u0004\u00ca\u0000\u0000\u0004\u00f8\u0004\u00fd"
+            + "\u0005\u0008\u0005\u0009\u0005\u0012\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0005'\u0000\u0000\u0000\u0000\u0005,\u0000\u0000\u0000"
+            + "\u0000\u0005/\u00050\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0005V"
+            + "\u0005Z\u0000\u0000\u0005v\u0000\u0000\u0005|\u0000\u0000"
+            + "\u0005\u0084\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0005\u009b\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0005\u00b9\u0005\u00bb\u0000\u0000\u0000\u0000\u0005\u00cd"
+            + "\u0005\u00d3\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0005\u00fd\u0005\u00fe\u0005\u00ff\u0006\u0001"
+            + "\u0006\u0002\u0006\u0003\u0000\u0000\u0006\u0008\u0006\r"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0006 \u0006!\u0006%"
+            + "\u0000\u0000\u0006)\u0006-\u0000\u0000\u0000\u0000\u0006B"
+            + "\u0006F\u0006H\u0006M\u0006h\u0006m\u0006x\u0006\u007f\u0000"
+            + "\u0000\u0000\u0000\u0006\u0098\u0000\u0000\u0006\u00a2\u0000"
+            + "\u0000\u0006\u00a7\u0006\u00ad\u0006\u00ae\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0006"
+            + "\u00c0\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0006"
+            + "\u00d7\u0006\u00d9\u0000\u0000\u0006\u00ee\u0006\u00f4\u0000"
+            + "\u0000\u0006\u00ff\u0007\u0000\u0007\u0007\u0007\u000c\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00071\u0000"
+            + "\u0000\u0000\u0000\u0007B\u0000\u0000\u0007Z\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0007w\u0007x\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0007"
+            + "\u00a8\u0007\u00a9\u0007\u00ac\u0007\u00ad\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0007\u00bd\u0007\u00c9\u0007\u00cb\u0007\u00cc\u0007"
+            + "\u00cd\u0007\u00ce\u0007\u00cf\u0007\u00d2\u0000\u0000\u0000"
+            + "\u0000\u0007\u00de\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0008\u0003\u0000\u0000\u0000\u0000\u0008"
+            + "\u0011\u0008\u0013\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u00089\u0000\u0000\u0000\u0000\u0008@\u0000\u0000"
+            + "\u0000\u0000\u0008O\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0008y\u0008\u00b3\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000M\u0000\u0000"
+            + "\u0000\u0000\u0000c\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00db\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0001\u001e\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0001P\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0001z\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0001\u00a0\u0000\u0000\u0000\u0000\u0001\u00a9"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u00d2\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0002\u0003\u0000\u0000\u0000\u0000\u0000\u0000\u0002\u0007"
+            + "\u0002\n\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0002'"
+            + "\u00022\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0002\u0096\u0002\u009c"
+            + "\u0002\u009d\u0002\u009e\u0002\u009f\u0002\u00a0\u0002\u00a1"
+            + "\u0002\u00a2\u0002\u00a3\u0002\u00a6\u0002\u00b3\u0002\u00be"
+            + "\u0002\u00c1\u0000\u0000\u0000\u0000\u0000\u0000\u0002\u00c8"
+            + "\u0002\u00ca\u0002\u00db\u0000\u0000\u0002\u00dd\u0000\u0000"
+            + "\u0002\u00e1\u0002\u00e3\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0003\u0015\u0003\u0017\u0003-\u00037\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0003W\u0003X\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0003]\u0003a\u0000\u0000\u0000\u0000\u0003"
+            + "\u0082\u0000\u0000\u0000\u0000\u0003\u008c\u0000\u0000\u0000"
+            + "\u0000\u0003\u0094\u0000\u0000\u0000\u0000\u0003\u00c1\u0003"
+            + "\u00c2\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0003\u00ca\u0003\u00d8\u0003\u00ee\u0003\u00f4\u0000"
+            + "\u0000\u0000\u0000\u0004\u000c\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0004-\u0004Q\u0004V\u0004d\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0004\u008e\u0004\u008f"
+            + "\u0000\u0000\u0000\u0000\u0004\u00b0\u0004\u00b1\u0004\u00b8"
+            + "\u0004\u00bc\u0004\u00bd\u0004\u00be\u0004\u00ed\u0005\u0013"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0005#\u0005(\u0000\u0000\u0000\u0000\u0000\u0000\u0005="
+            + "\u0000\u0000\u0005E\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0005_\u0005{\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0005\u0089\u0000\u0000\u0005\u00a5\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0005\u00bc\u0005\u00c5\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0005\u00fc\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0006\u0088\u0006\u008f\u0000\u0000\u0006"
+            + "\u00a5\u0006\u00b0\u0000\u0000\u0000\u0000\u0000\u0000\u0006"
+            + "\u00be\u0006\u00bf\u0006\u00c7\u0006\u00c8\u0006\u00c9\u0000"
+            + "\u0000\u0006\u00e4\u0000\u0000\u0007\r\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u00074\u0007A\u0007Q\u0007_\u0007g\u0000"
+            + "\u0000\u0000\u0000\u0007|\u0000\u0000\u0007\u0090\u0000"
+            + "\u0000\u0007\u0094\u0000\u0000\u0000\u0000\u0000\u0000\u0007"
+            + "\u00af\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0007\u00bb\u0007\u00bc\u0007\u00d4\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0007\u00ee\u0000\u0000\u0007\u00f1\u0007"
+            + "\u00fb\u0008\u0007\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0008\u0010\u0008\u0014\u0000\u0000\u0000\u0000\u0008"
+            + "1\u0000\u0000\u0000\u0000\u0000\u0000\u0008C\u0000\u0000"
+            + "\u0008V\u0000\u0000\u0000\u0000\u0008]\u0000\u0000\u0000"
+            + "\u0000\u0008b\u0000\u0000\u0000\u0000\u0000\u001c\u0000"
+            + "\u0000\u0000\u0000\u00006\u00009\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000B\u0000\u0000"
+            + "\u0000F\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000e\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000r\u0000\u0000"
+            + "\u0000\u0000\u0000u\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u007f\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u00c9\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u0002\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0001\n\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0001\u0019\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0001 \u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u00015\u00017\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0001M\u0000\u0000\u0000\u0000\u0000\u0000\u0001R"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0001r\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0001\u009d\u0000\u0000\u0000\u0000\u0001\u00a5\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0002\u0018"
+            + "\u0000\u0000\u0002\u001b\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0002!\u0000\u0000\u0000\u0000\u0000\u0000\u00027\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0002"
+            + "\u00c3\u0002\u00c5\u0002\u00dc\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0003K\u0003O\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0003j\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0003\u00c4\u0000\u0000\u0003\u00c6\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0004v\u0004y\u0000\u0000\u0004}\u0004\u008a\u0000\u0000"
+            + "\u0000\u0000\u0005\u0016\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0005-\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0005}"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0005\u00d9\u0000\u0000\u0000\u0000\u0005\u00ef"
+            + "\u0006\u0005\u0000\u0000\u0006\u0019\u0000\u0000\u0006&"
+            + "\u0000\u0000\u0006.\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0006\u009f\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0006\u00f9\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0007\u0088\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0007\u00b0\u0007\u00b1\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0007\u00d5\u0007\u00d6"
+            + "\u0000\u0000\u0007\u00ec\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0008\u000b\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0008Z\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000!\u0000\u0000\u0000\u0000\u0000;\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0097\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u00a6\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u00d8\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u00fc\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0001\u0017\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001"
+            + "#\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0001O\u0000\u0000\u0001S"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0001\u00af\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0001\u00c9\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u00d1\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0001\u00de\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0002\u001a"
+            + "\u0002\u001d\u0000\u0000\u0002\u001f\u00023\u0000\u0000"
+            + "\u0000\u0000\u0002;\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0002@\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0003Y\u0000\u0000\u0000\u0000\u0003i\u0000"
+            + "\u0000\u0000\u0000\u0003\u008d\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0004"
+            + "\u0006\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0004"
+            + "z\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0005"
+            + "+\u0005.\u0005B\u0000\u0000\u0000\u0000\u0005O\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0005\u0087\u0005\u0088\u0000\u0000"
+            + "\u0005\u00aa\u0000\u0000\u0000\u0000\u0005\u00eb\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0006'\u0006/\u0000\u0000\u0000"
+            + "\u0000\u0006\u00ba\u0000\u0000\u0000\u0000\u0000\u0000\u0007"
+            + "\u001a\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0007)\u0000"
+            + "\u0000\u0000\u0000\u0007\u0091\u0007\u0095\u0000\u0000\u0000"
+            + "\u0000\u0007\u00b2\u0007\u00b7\u0000\u0000\u0000\u0000\u0007"
+            + "\u00d7\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0008"
+            + "A\u0008U\u0008W\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000:\u0000<\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0098\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u00b9\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u0005"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0001\u001d\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u00014\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0001b\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0001g\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0001t\u0000\u0000\u0000\u0000\u0000\u0000\u0001x\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0001\u009e\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001"
+            + "\u00dc\u0000\u0000\u0000\u0000\u0001\u00e1\u0001\u00e4\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u00f4\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0001\u00fd\u0002\u0002\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0002=\u0000\u0000\u0002B"
+            + "\u0000\u0000\u0000\u0000\u0002T\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0002\u00c2\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0002\u00e6\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0003Z\u0003[\u0003\u008a\u0003\u008b\u0000"
+            + "\u0000\u0000\u0000\u0003\u00b0\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0004\u0007\u0004\u001a\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0005\u00af\u0000"
+            + "\u0000\u0006\u0012\u0000\u0000\u0000\u0000\u0000\u0000\u0006"
+            + "\u00bb\u0006\u00bd\u0006\u00d6\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0007\u00a2\u0007"
+            + "\u00b8\u0007\u00ba\u0007\u00f0\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0008:\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000s\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000~\u0000\u0000\u0000\u0000\u0000\u009f\u0000"
+            + "\u0000\u0000\u0000\u0000\u00b5\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u00bb\u0000\u00c3\u0000\u0000\u0000"
+            + "\u00c8\u0000\u00dc\u0000\u0000\u0000\u0000\u0000\u0000\u0001"
+            + "\u0003\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0001\u000e\u0000\u0000\u0001\u0010\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u0015\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0001L\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0001[\u0000\u0000\u0001`\u0000\u0000\u0000\u0000"
+            + "\u0001d\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0001\u00b0\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0001\u00cc\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u00e0\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0001\u00f2\u0000\u0000\u0001\u00f9"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u00024\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0002U\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0002\u00e5\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0004\u001b\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0007$\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0008\u0008\u0008\u0009\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0008^"
+            + "\u0000\u0000\u0008`\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0013\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000_\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000i\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000o\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u000f"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0001\u0018\u0000\u0000\u0000\u0000\u0001\u001c\u0000\u0000"
+            + "\u0001%\u0000\u0000\u0000\u0000\u0001(\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0001Q\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001"
+            + "{\u0000\u0000\u0001}\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0001\u00a6\u0001\u00aa\u0000\u0000\u0001\u00ac"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u00ca"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u00d3"
+            + "\u0000\u0000\u0001\u00d5\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0001\u00da\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0002\u0004\u0000\u0000\u0002\u0006\u0002\u000b\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0002>\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0002W\u0002X\u0000\u0000\u0000\u0000\u0002"
+            + "\u00e0\u0002\u00e7\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0003\u00b8\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0004\u001c\u0004"
+            + "\u0092\u0000\u0000\u0005\u0017\u0000\u0000\u0005\u0019\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0005"
+            + "M\u0000\u0000\u0000\u0000\u0005Q\u0000\u0000\u0005\u008e"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u00064\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0007h"
+            + "\u0007z\u0000\u0000\u0000\u0000\u0008\u000c\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0008;\u0000\u0000\u0008_\u0008a"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000Z"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000n\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000x\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u00b8\u0000\u0000\u0000\u00c5"
+            + "\u0000\u00dd\u0000\u00de\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0001\u0008\u0000\u0000\u0001\u000b\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0001\u001a\u0000\u0000\u0001\u001f\u0000\u0000\u0001'"
+            + "\u0000\u0000\u0001*\u0001,\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001E\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001"
+            + "W\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001a"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001s"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0001~\u0000\u0000\u0001\u0092\u0000\u0000\u0000\u0000"
+            + "\u0001\u00c3\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u00d4\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u00dd"
+            + "\u0001\u00ef\u0001\u00f0\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0001\u00fb\u0000\u0000\u0000\u0000\u0002\u001e\u0000\u0000"
+            + "\u0000\u0000\u0002C\u0000\u0000\u0000\u0000\u0002v\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0003\u0090\u0000\u0000\u0003\u00c5\u0003\u00c7\u0000"
+            + "\u0000\u0000\u0000\u0004\u0093\u0000\u0000\u0005\u001a\u0005"
+            + "\u001b\u0000\u0000\u0000\u0000\u0000\u0000\u0005\u001f\u0000"
+            + "\u0000\u0005P\u0005R\u0000\u0000\u0000\u0000\u0006\u001a"
+            + "\u0000\u0000\u00066\u0000\u0000\u0007\u001b\u0000\u0000"
+            + "\u0007\u001d\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0008\n\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0008<\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000?\u0000D\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "f\u0000g\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000{\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0001\u000c\u0001\u0011\u0000\u0000"
+            + "\u0000\u0000\u0001\u0014\u0001\u0016\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0001-\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001T"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0001Y\u0001Z\u0001\\"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001n"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u009f\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0001\u00cf\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u00f1\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0002D\u0000\u0000\u0002\u00df\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0003U\u0000\u0000\u0003\u0091\u0003\u00c8"
+            + "\u0000\u0000\u0005\u0018\u0005\u001c\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0005\u00ab\u0005\u00ec\u00065\u0000\u0000"
+            + "\u0000\u0000\u0007\u001e\u0000\u0000\u0000\u0000\u0007!"
+            + "\u0007\"\u0007\u00a1\u0008\r\u0000\u0000\u0000\u0000\u0008c"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000Y\u0000\u0000\u0000\\\u0000]\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000m\u0000\u0000"
+            + "\u0000\u0000\u0000t\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0091\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u00b6\u0000\u00b7\u0000\u0000\u0001\u0001"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0001\u0013\u0001\u001b\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001I"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001h"
+            + "\u0000\u0000\u0000\u0000\u0001k\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0001u\u0000\u0000\u0001w\u0001y"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0001\u00d6\u0000\u0000\u0000\u0000\u0001\u00d9\u0001\u00db"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00025"
+            + "\u0002<\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0003V\u0003\u00c9\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u00067\u0007\u001c\u0000\u0000\u0007 \u0008\u001a\u0000"
+            + "\u0000\u0008d\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000p\u0000q\u0000\u0000\u0000w\u0000y"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u00a2\u0000\u0000"
+            + "\u0000\u00ba\u0000\u0000\u0001\u0006\u0001\u0007\u0001\u0009"
+            + "\u0001\u0012\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0001B\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0001V\u0000\u0000\u0000\u0000\u0000\u0000\u0001c\u0000"
+            + "\u0000\u0001f\u0000\u0000\u0001j\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0001p\u0000\u0000\u0000\u0000\u0001|\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001\u00c8\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001"
+            + "\u00d8\u0000\u0000\u0001\u00fa\u0000\u0000\u0000\u0000\u0002"
+            + "V\u0002\u00e8\u0002\u00e9\u0000\u0000\u0005\u001d\u0000"
+            + "\u0000\u0000\u0000\u0007\u001f\u0008\u001b\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "z\u0000|\u0000\u0000\u0000\u0000\u0000\u0000\u0001&\u0001)"
+            + "\u0000\u0000\u0001A\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0001]\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0001\u00ab\u0001\u00c4\u0000\u0000"
+            + "\u0000\u0000\u0001\u00cd\u0001\u00ce\u0001\u00d0\u0001\u00d7"
+            + "\u0001\u00f8\u0000\u0000\u0002\u0005\u0002\u00ea\u0000\u0000"
+            + "\u0005N\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000j\u0000\u0000"
+            + "\u0000\u0000\u0000v\u0000\u0000\u0000\u0000\u0001\u0004"
+            + "\u0001@\u0000\u0000\u0000\u0000\u0000\u0000\u0001U\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001l\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0001\u00cb\u0001\u00fc\u0005\u001e\u0000-\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "h\u0000\u0000\u0000l\u0000\u0092\u0000\u0000\u0000\u0000"
+            + "\u0001D\u0001N\u0001X\u0001^\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0001o\u0000\u0000\u0000\u0000\u0001\u0091\u0001"
+            + "\u00c5\u0000\u0000\u0000>\u0000\u0000\u0000\u0000\u0000d"
+            + "\u0000\u0000\u0000\u00a3\u0001C\u0000\u0000\u0001i\u0001m"
+            + "\u0000\u0000\u0001v\u0000\u0000\u0000\u0000\u0000[\u0000"
+            + "\u0000\u0000\u0000\u0001q\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0001e\u0000=\u0000\u0000\u0000k\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "G");
 
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+package nu.validator.htmlparser.impl;
+
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+
+/**
+ * Unpacks the generated tables of <code>NamedCharacters</code> and 
+ * <code>NamedCharactersAccel</code>. The tables are stored as string 
+ * constants whose characters are the big-endian bytes of the table entries. 
+ * Such a string only contains Latin-1 characters, so it can be turned into a 
+ * byte array and then into the table with bulk copies. This keeps the class 
+ * files and their static initializers small and avoids running a large 
+ * array initializer in the interpreter when the tables are first needed.
+ * 
+ * @version $Id$
+ */
+final class PackedTables {
+
+    private PackedTables() {
+    }
+
+    /**
+     * Unpacks a table of 16-bit entries.
+     * 
+     * @param packed
+     *            two characters per entry, high byte first
+     * @return the table
+     */
+    static char[] unpackChars(String packed) {
+        byte[] bytes = toBytes(packed);
+        char[] chars = new char[bytes.length / 2];
+        ByteBuffer.wrap(bytes).asCharBuffer().get(chars);
+        return chars;
+    }
+
+    /**
+     * Unpacks a table of 32-bit entries.
+     * 
+     * @param packed
+     *            four characters per entry, high byte first
+     * @return the table
+     */
+    static int[] unpackInts(String packed) {
+        byte[] bytes = toBytes(packed);
+        int[] ints = new int[bytes.length / 4];
+        ByteBuffer.wrap(bytes).asIntBuffer().get(ints);
+        return ints;
+    }
+
+    private static byte[] toBytes(String packed) {
+        try {
+            return packed.getBytes("ISO-8859-1");
+        } catch (UnsupportedEncodingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -36,7 +36,10 @@ public final class Portability {
      * calling <code>releaseLocal</code> on the return value balances the refcount set by this method.
      */
     public static @Local String newLocalNameFromBuffer(@NoLength char[] buf, int offset, int length, Interner interner) {
-        return new String(buf, offset, length).intern();
+        if (interner == null) {
+            interner = CachingInterner.getSharedInstance();
+        }
+        return interner.intern(buf, offset, length);
     }
 
     public static String newStringFromBuffer(@NoLength char[] buf, int offset, int length
@@ -28,24 +28,44 @@ import nu.validator.htmlparser.annotation.Local;
 import nu.validator.htmlparser.annotation.NsUri;
 
 final class StackNode<T> {
-    final int flags;
+    // Index where this stack node is stored in the tree builder's list of
+    // stack nodes. A value of -1 indicates that the stack node is not owned
+    // by a tree builder and must delete itself when its refcount reaches
+    // zero.
+    final int idxInTreeBuilder;
 
-    final @Local String name;
+    int flags;
 
-    final @Local String popName;
+    @Local String name;
 
-    final @NsUri String ns;
+    @Local String popName;
 
-    final T node;
+    @NsUri String ns;
+
+    T node;
 
     // Only used on the list of formatting elements
     HtmlAttributes attributes;
 
-    private int refcount = 1;
+    private int refcount = 0;
+
+    // Position of this node on the tree builder's stack of open elements.
+    // Only meaningful while the stack slot at this position holds this node,
+    // which the tree builder checks before trusting it.
+    int stackIdx;
+
+    // Position of this node on the tree builder's list of active formatting
+    // elements. Only meaningful while the list slot at this position holds
+    // this node.
+    int listIdx;
 
     // [NOCPP[
 
-    private final TaintableLocatorImpl locator;
+    private TaintableLocatorImpl locator;
+
+    // Key of the bucket of the tree builder's Noah's Ark index that holds
+    // this node or null if no bucket does.
+    Integer noahsArkKey;
     
     public TaintableLocatorImpl getLocator() {
         return locator;
@@ -85,8 +105,25 @@ final class StackNode<T> {
     
     // ]NOCPP]
 
+    StackNode(int idxInTreeBuilder) {
+        this.idxInTreeBuilder = idxInTreeBuilder;
+        this.flags = 0;
+        this.name = null;
+        this.popName = null;
+        this.ns = null;
+        this.node = null;
+        this.attributes = null;
+        this.refcount = 0;
+        this.stackIdx = -1;
+        this.listIdx = -1;
+        // [NOCPP[
+        this.locator = null;
+        this.noahsArkKey = null;
+        // ]NOCPP]
+    }
+
     /**
-     * Constructor for copying. This doesn't take another <code>StackNode</code>
+     * Setter for copying. This doesn't take another <code>StackNode</code>
      * because in C++ the caller is reponsible for reobtaining the local names
      * from another interner.
      * 
@@ -97,12 +134,13 @@ final class StackNode<T> {
      * @param popName
      * @param attributes
      */
-    StackNode(int flags, @NsUri String ns, @Local String name, T node,
+    void setValues(int flags, @NsUri String ns, @Local String name, T node,
             @Local String popName, HtmlAttributes attributes
             // [NOCPP[
             , TaintableLocatorImpl locator
     // ]NOCPP]
     ) {
+        assert isUnused();
         this.flags = flags;
         this.name = name;
         this.popName = popName;
@@ -121,11 +159,12 @@ final class StackNode<T> {
      * @param elementName
      * @param node
      */
-    StackNode(ElementName elementName, T node
+    void setValues(ElementName elementName, T node
     // [NOCPP[
             , TaintableLocatorImpl locator
     // ]NOCPP]
     ) {
+        assert isUnused();
         this.flags = elementName.getFlags();
         this.name = elementName.name;
         this.popName = elementName.name;
@@ -133,24 +172,25 @@ final class StackNode<T> {
         this.node = node;
         this.attributes = null;
         this.refcount = 1;
-        assert !elementName.isCustom() : "Don't use this constructor for custom elements.";
+        assert !elementName.isCustom() : "Don't use this setter for custom elements.";
         // [NOCPP[
         this.locator = locator;
         // ]NOCPP]
     }
 
     /**
-     * Constructor for HTML formatting elements.
+     * Setter for HTML formatting elements.
      * 
      * @param elementName
      * @param node
      * @param attributes
      */
-    StackNode(ElementName elementName, T node, HtmlAttributes attributes
+    void setValues(ElementName elementName, T node, HtmlAttributes attributes
     // [NOCPP[
             , TaintableLocatorImpl locator
     // ]NOCPP]
     ) {
+        assert isUnused();
         this.flags = elementName.getFlags();
         this.name = elementName.name;
         this.popName = elementName.name;
@@ -158,24 +198,25 @@ final class StackNode<T> {
         this.node = node;
         this.attributes = attributes;
         this.refcount = 1;
-        assert !elementName.isCustom() : "Don't use this constructor for custom elements.";
+        assert !elementName.isCustom() : "Don't use this setter for custom elements.";
         // [NOCPP[
         this.locator = locator;
         // ]NOCPP]
     }
 
     /**
-     * The common-case HTML constructor.
+     * The common-case HTML setter.
      * 
      * @param elementName
      * @param node
      * @param popName
      */
-    StackNode(ElementName elementName, T node, @Local String popName
+    void setValues(ElementName elementName, T node, @Local String popName
     // [NOCPP[
             , TaintableLocatorImpl locator
     // ]NOCPP]
     ) {
+        assert isUnused();
         this.flags = elementName.getFlags();
         this.name = elementName.name;
         this.popName = popName;
@@ -189,8 +230,8 @@ final class StackNode<T> {
     }
 
     /**
-     * Constructor for SVG elements. Note that the order of the arguments is
-     * what distinguishes this from the HTML constructor. This is ugly, but
+     * Setter for SVG elements. Note that the order of the arguments is
+     * what distinguishes this from the HTML setter. This is ugly, but
      * AFAICT the least disruptive way to make this work with Java's generics
      * and without unnecessary branches. :-(
      * 
@@ -198,11 +239,12 @@ final class StackNode<T> {
      * @param popName
      * @param node
      */
-    StackNode(ElementName elementName, @Local String popName, T node
+    void setValues(ElementName elementName, @Local String popName, T node
     // [NOCPP[
             , TaintableLocatorImpl locator
     // ]NOCPP]
     ) {
+        assert isUnused();
         this.flags = prepareSvgFlags(elementName.getFlags());
         this.name = elementName.name;
         this.popName = popName;
@@ -216,19 +258,20 @@ final class StackNode<T> {
     }
 
     /**
-     * Constructor for MathML.
+     * Setter for MathML.
      * 
      * @param elementName
      * @param node
      * @param popName
      * @param markAsIntegrationPoint
      */
-    StackNode(ElementName elementName, T node, @Local String popName,
+    void setValues(ElementName elementName, T node, @Local String popName,
             boolean markAsIntegrationPoint
             // [NOCPP[
             , TaintableLocatorImpl locator
     // ]NOCPP]
     ) {
+        assert isUnused();
         this.flags = prepareMathFlags(elementName.getFlags(),
                 markAsIntegrationPoint);
         this.name = elementName.name;
@@ -264,10 +307,6 @@ final class StackNode<T> {
         return flags;
     }
 
-    @SuppressWarnings("unused") private void destructor() {
-        Portability.delete(attributes);
-    }
-
     public void dropAttributes() {
         attributes = null;
     }
@@ -286,10 +325,27 @@ final class StackNode<T> {
         refcount++;
     }
 
-    public void release() {
+    public void release(TreeBuilder<T> owningTreeBuilder) {
         refcount--;
+        assert refcount >= 0;
         if (refcount == 0) {
-            Portability.delete(this);
+            Portability.delete(attributes);
+            if (idxInTreeBuilder >= 0) {
+                // Drop the references so that a pooled node does not keep
+                // the tree of a previous document alive.
+                node = null;
+                attributes = null;
+                // [NOCPP[
+                locator = null;
+                // ]NOCPP]
+                owningTreeBuilder.notifyUnusedStackNode(idxInTreeBuilder);
+            } else {
+                Portability.delete(this);
+            }
         }
     }
+
+    boolean isUnused() {
+        return refcount == 0;
+    }
 }
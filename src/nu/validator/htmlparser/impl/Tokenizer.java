@@ -36,13 +36,13 @@
 package nu.validator.htmlparser.impl;
 
 import nu.validator.htmlparser.annotation.Auto;
-import nu.validator.htmlparser.annotation.CharacterName;
 import nu.validator.htmlparser.annotation.Const;
 import nu.validator.htmlparser.annotation.Inline;
 import nu.validator.htmlparser.annotation.Local;
 import nu.validator.htmlparser.annotation.NoLength;
 import nu.validator.htmlparser.common.EncodingDeclarationHandler;
 import nu.validator.htmlparser.common.Interner;
+import nu.validator.htmlparser.common.ParseStatistics;
 import nu.validator.htmlparser.common.TokenHandler;
 import nu.validator.htmlparser.common.XmlViolationPolicy;
 
@@ -333,6 +333,12 @@ public class Tokenizer implements Locator {
      */
     protected ErrorHandler errorHandler;
 
+    /**
+     * The statistics of the current parse or <code>null</code> if not
+     * collecting.
+     */
+    private ParseStatistics statistics;
+
     // ]NOCPP]
 
     /**
@@ -350,13 +356,9 @@ public class Tokenizer implements Locator {
 
     private char additional;
 
-    private int entCol;
-
     private int firstCharKey;
 
-    private int lo;
-
-    private int hi;
+    private int charRefNode;
 
     private int candidate;
 
@@ -386,6 +388,20 @@ public class Tokenizer implements Locator {
      */
     private @Auto char[] strBuf;
 
+    // [NOCPP[
+    /**
+     * The largest buffer length that the tokenizer and the tree builder keep
+     * across documents. Larger buffers are left to the garbage collector.
+     */
+    static final int MAX_RETAINED_BUFFER_LENGTH = 65536;
+
+    /**
+     * The maximum number of recycled attributes objects kept for reuse.
+     */
+    private static final int MAX_RECYCLED_ATTRIBUTES = 1024;
+
+    // ]NOCPP]
+
     /**
      * Number of significant <code>char</code>s in <code>strBuf</code>.
      */
@@ -493,6 +509,21 @@ public class Tokenizer implements Locator {
 
     private int mappingLangToXmlLang;
 
+    private AttributeValueCache attributeValueCache;
+
+    /**
+     * Attributes handed back through <code>recycleAttributes()</code>.
+     */
+    private HtmlAttributes[] recycledAttributes;
+
+    private int recycledAttributesLength;
+
+    /**
+     * The array of the buffer being tokenized or <code>null</code> when
+     * <code>tokenizeBuffer()</code> is not running.
+     */
+    private char[] currentBuffer;
+
     // ]NOCPP]
 
     private final boolean newAttributesEachTime;
@@ -611,6 +642,35 @@ public class Tokenizer implements Locator {
         return this.errorHandler;
     }
 
+    /**
+     * Sets the statistics object for the next parse. The token handler can
+     * pick it up in <code>startTokenization()</code>.
+     * 
+     * @param statistics
+     *            the statistics or <code>null</code> to not collect any
+     */
+    public void setStatistics(ParseStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    /**
+     * Returns the statistics object of the current parse.
+     * 
+     * @return the statistics or <code>null</code>
+     */
+    public ParseStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Returns the handler that this tokenizer emits tokens to.
+     * 
+     * @return the token handler
+     */
+    public TokenHandler getTokenHandler() {
+        return tokenHandler;
+    }
+
     /**
      * Sets the commentPolicy.
      * 
@@ -673,6 +733,71 @@ public class Tokenizer implements Locator {
         this.html4ModeCompatibleWithXhtml1Schemata = html4ModeCompatibleWithXhtml1Schemata;
     }
 
+    /**
+     * Hands an attributes object that was passed to the token handler back
+     * for reuse on a later tag. Only has an effect when the tokenizer
+     * allocates new attributes for each tag. The object is cleared but keeps
+     * the capacity of its arrays. The caller must not use the object (or let
+     * anything else use it) afterwards; recycling the same object twice is
+     * harmless.
+     * 
+     * @param attributes
+     *            the attributes to recycle
+     */
+    public void recycleAttributes(HtmlAttributes attributes) {
+        if (!newAttributesEachTime || attributes == null
+                || attributes == HtmlAttributes.EMPTY_ATTRIBUTES
+                || attributes == this.attributes || attributes.recycled) {
+            return;
+        }
+        if (recycledAttributes == null) {
+            recycledAttributes = new HtmlAttributes[16];
+        } else if (recycledAttributesLength == recycledAttributes.length) {
+            if (recycledAttributesLength == MAX_RECYCLED_ATTRIBUTES) {
+                return;
+            }
+            HtmlAttributes[] newPool = new HtmlAttributes[recycledAttributesLength << 1];
+            System.arraycopy(recycledAttributes, 0, newPool, 0,
+                    recycledAttributesLength);
+            recycledAttributes = newPool;
+        }
+        attributes.clear(mappingLangToXmlLang);
+        attributes.recycled = true;
+        recycledAttributes[recycledAttributesLength++] = attributes;
+    }
+
+    /**
+     * Returns the array of the buffer being tokenized. Characters reported
+     * from this array stay valid until <code>tokenizeBuffer()</code> returns.
+     * 
+     * @return the array or <code>null</code> outside
+     *         <code>tokenizeBuffer()</code>
+     */
+    char[] getCurrentBuffer() {
+        return currentBuffer;
+    }
+
+    private HtmlAttributes newAttributes() {
+        if (recycledAttributesLength == 0) {
+            return new HtmlAttributes(mappingLangToXmlLang);
+        }
+        HtmlAttributes attrs = recycledAttributes[--recycledAttributesLength];
+        recycledAttributes[recycledAttributesLength] = null;
+        attrs.recycled = false;
+        attrs.clear(mappingLangToXmlLang);
+        return attrs;
+    }
+
+    /**
+     * Sets the cache that attribute values are looked up in.
+     * 
+     * @param attributeValueCache
+     *            the cache or <code>null</code> to allocate each value
+     */
+    public void setAttributeValueCache(AttributeValueCache attributeValueCache) {
+        this.attributeValueCache = attributeValueCache;
+    }
+
     // ]NOCPP]
 
     // For the token handler to call
@@ -754,7 +879,8 @@ public class Tokenizer implements Locator {
     }
 
     /**
-     * For C++ use only.
+     * Sets the line number. Used by C++ and, in Java, when replaying tokens
+     * that were recorded by a speculative tokenizer.
      */
     public void setLineNumber(int line) {
         this.line = line;
@@ -809,7 +935,7 @@ public class Tokenizer implements Locator {
     HtmlAttributes emptyAttributes() {
         // [NOCPP[
         if (newAttributesEachTime) {
-            return new HtmlAttributes(mappingLangToXmlLang);
+            return newAttributes();
         } else {
             // ]NOCPP]
             return HtmlAttributes.EMPTY_ATTRIBUTES;
@@ -1129,7 +1255,10 @@ public class Tokenizer implements Locator {
                 , interner);
 
         if (attributes == null) {
-            attributes = new HtmlAttributes(mappingLangToXmlLang);
+            // [NOCPP[
+            attributes = newAttributes();
+            // ]NOCPP]
+            // CPPONLY: attributes = new HtmlAttributes(mappingLangToXmlLang);
         }
 
         /*
@@ -1203,7 +1332,12 @@ public class Tokenizer implements Locator {
         }
         // ]NOCPP]
         if (attributeName != null) {
-            String val = strBufToString(); // Ownership transferred to
+            // [NOCPP[
+            String val = attributeValueCache == null ? strBufToString()
+                    : attributeValueCache.get(attributeName, strBuf, 0,
+                            strBufLen);
+            // ]NOCPP]
+            // CPPONLY: String val = strBufToString(); // Ownership transferred to
             // HtmlAttributes
             // CPPONLY: if (mViewSource) {
             // CPPONLY:   mViewSource.MaybeLinkifyAttributeValue(attributeName, val);
@@ -1301,6 +1435,15 @@ public class Tokenizer implements Locator {
             case SCRIPT_DATA_DOUBLE_ESCAPE_END:
                 cstart = start;
                 break;
+            case AMBIGUOUS_AMPERSAND:
+                // The alphanumerics after the ampersand are text unless they
+                // are in an attribute value.
+                if ((returnState & DATA_AND_RCDATA_MASK) == 0) {
+                    cstart = start;
+                } else {
+                    cstart = Integer.MAX_VALUE;
+                }
+                break;
             default:
                 cstart = Integer.MAX_VALUE;
                 break;
@@ -1319,8 +1462,14 @@ public class Tokenizer implements Locator {
         // CPPONLY:   pos = stateLoop(state, c, pos, buffer.getBuffer(), false, returnState, buffer.getEnd());
         // CPPONLY: }
         // [NOCPP[
-        pos = stateLoop(state, c, pos, buffer.getBuffer(), false, returnState,
+        currentBuffer = buffer.getBuffer();
+        pos = stateLoop(state, c, pos, currentBuffer, false, returnState,
                 end);
+        currentBuffer = null;
+        if (tokenHandler instanceof TreeBuilder<?>) {
+            // The caller may overwrite the buffer once this method returns.
+            ((TreeBuilder<?>) tokenHandler).bufferConsumed();
+        }
         // ]NOCPP]
         if (pos == end) {
             // exiting due to end of buffer
@@ -1478,6 +1627,9 @@ public class Tokenizer implements Locator {
                                  * 
                                  * Stay in the data state.
                                  */
+                                // [NOCPP[
+                                pos = skipText(buf, pos, endPos, '<', '&');
+                                // ]NOCPP]
                                 continue;
                         }
                     }
@@ -2040,6 +2192,11 @@ public class Tokenizer implements Locator {
                                  * character to the current attribute's value.
                                  */
                                 appendStrBuf(c);
+                                // [NOCPP[
+                                int runEnd = skipText(buf, pos, endPos, '\"', '&');
+                                appendStrBuf(buf, pos + 1, runEnd - pos);
+                                pos = runEnd;
+                                // ]NOCPP]
                                 /*
                                  * Stay in the attribute value (double-quoted)
                                  * state.
@@ -3065,6 +3222,11 @@ public class Tokenizer implements Locator {
                                  * character to the current attribute's value.
                                  */
                                 appendStrBuf(c);
+                                // [NOCPP[
+                                int runEnd = skipText(buf, pos, endPos, '\'', '&');
+                                appendStrBuf(buf, pos + 1, runEnd - pos);
+                                pos = runEnd;
+                                // ]NOCPP]
                                 /*
                                  * Stay in the attribute value (double-quoted)
                                  * state.
@@ -3119,6 +3281,10 @@ public class Tokenizer implements Locator {
                              * SIGN.
                              */
                             appendCharRefBuf('#');
+                            // Reset here, too, in case the input ends before
+                            // CONSUME_NCR gets to look at the next character.
+                            value = 0;
+                            seenDigits = false;
                             state = transition(state, Tokenizer.CONSUME_NCR, reconsume, pos);
                             continue stateloop;
                         default:
@@ -3160,6 +3326,15 @@ public class Tokenizer implements Locator {
                         /*
                          * The data structure is as follows:
                          * 
+                         * The names of the character references form a trie
+                         * whose nodes are numbered breadth-first. TRIE_LABELS
+                         * gives the character on the edge leading to each
+                         * node, the children of node n are the nodes from
+                         * TRIE_FIRST_CHILD[n] to TRIE_FIRST_CHILD[n + 1] - 1
+                         * sorted by label and TRIE_MATCHES gives one plus the
+                         * index in VALUES of the name that ends at each node
+                         * (or zero if no name ends there).
+                         * 
                          * HILO_ACCEL is a two-dimensional int array whose major
                          * index corresponds to the second character of the
                          * character reference (code point as index) and the
@@ -3173,27 +3348,15 @@ public class Tokenizer implements Locator {
                          * 
                          * The int value HILO_ACCEL (by these indeces) is zero
                          * if there exists no character reference starting with
-                         * that two-letter prefix. Otherwise, the value is an
-                         * int that packs two shorts so that the higher short is
-                         * the index of the highest character reference name
-                         * with that prefix in NAMES and the lower short
-                         * corresponds to the index of the lowest character
-                         * reference name with that prefix. (It happens that the
-                         * first two character reference names share their
-                         * prefix so the packed int cannot be 0 by packing the
-                         * two shorts.)
+                         * that two-letter prefix. Otherwise, the value is the
+                         * trie node reached after the two-letter prefix. (The
+                         * root is node zero, so a prefix node cannot be 0.)
                          * 
-                         * NAMES is an array of byte arrays where each byte
-                         * array encodes the name of a character references as
-                         * ASCII. The names omit the first two letters of the
-                         * name. (Since storing the first two letters would be
-                         * redundant with the data contained in HILO_ACCEL.) The
-                         * entries are lexically sorted.
-                         * 
-                         * For a given index in NAMES, the same index in VALUES
-                         * contains the corresponding expansion as an array of
-                         * two UTF-16 code units (either the character and
-                         * U+0000 or a suggogate pair).
+                         * VALUES is indexed by the position of the name among
+                         * the lexically sorted names. Each entry contains the
+                         * corresponding expansion as an array of two UTF-16
+                         * code units (either the character and U+0000 or a
+                         * suggogate pair).
                          */
                         int hilo = 0;
                         if (c <= 'z') {
@@ -3213,9 +3376,7 @@ public class Tokenizer implements Locator {
                         }
                         // Didn't fail yet
                         appendCharRefBuf(c);
-                        lo = hilo & 0xFFFF;
-                        hi = hilo >> 16;
-                        entCol = -1;
+                        charRefNode = hilo;
                         candidate = -1;
                         charRefBufMark = 0;
                         state = transition(state, Tokenizer.CHARACTER_REFERENCE_TAIL, reconsume, pos);
@@ -3230,7 +3391,6 @@ public class Tokenizer implements Locator {
                         if (c == '\u0000') {
                             break stateloop;
                         }
-                        entCol++;
                         /*
                          * Consume the maximum number of characters possible,
                          * with the consumed characters matching one of the
@@ -3238,55 +3398,36 @@ public class Tokenizer implements Locator {
                          * character references table (in a case-sensitive
                          * manner).
                          */
-                        loloop: for (;;) {
-                            if (hi < lo) {
-                                break outer;
-                            }
-                            if (entCol == NamedCharacters.NAMES[lo].length()) {
-                                candidate = lo;
-                                charRefBufMark = charRefBufLen;
-                                lo++;
-                            } else if (entCol > NamedCharacters.NAMES[lo].length()) {
+                        if (NamedCharactersAccel.TRIE_MATCHES[charRefNode] != 0) {
+                            candidate = charRefNode;
+                            charRefBufMark = charRefBufLen;
+                        }
+                        int child = NamedCharactersAccel.TRIE_FIRST_CHILD[charRefNode];
+                        int lastChild = NamedCharactersAccel.TRIE_FIRST_CHILD[charRefNode + 1];
+                        childloop: for (;;) {
+                            if (child == lastChild) {
                                 break outer;
-                            } else if (c > NamedCharacters.NAMES[lo].charAt(entCol)) {
-                                lo++;
-                            } else {
-                                break loloop;
                             }
-                        }
-
-                        hiloop: for (;;) {
-                            if (hi < lo) {
+                            char label = NamedCharactersAccel.TRIE_LABELS[child];
+                            if (label == c) {
+                                break childloop;
+                            } else if (label > c) {
                                 break outer;
                             }
-                            if (entCol == NamedCharacters.NAMES[hi].length()) {
-                                break hiloop;
-                            }
-                            if (entCol > NamedCharacters.NAMES[hi].length()) {
-                                break outer;
-                            } else if (c < NamedCharacters.NAMES[hi].charAt(entCol)) {
-                                hi--;
-                            } else {
-                                break hiloop;
-                            }
+                            child++;
                         }
 
                         if (c == ';') {
                             // If we see a semicolon, there cannot be a 
                             // longer match. Break the loop. However, before
-                            // breaking, take the longest match so far as the 
-                            // candidate, if we are just about to complete a 
-                            // match.
-                            if (entCol + 1 == NamedCharacters.NAMES[lo].length()) {
-                                candidate = lo;
-                                charRefBufMark = charRefBufLen;
-                            }                            
-                            break outer;
-                        }
-                        
-                        if (hi < lo) {
+                            // breaking, take the name that the semicolon 
+                            // completes as the candidate.
+                            candidate = child;
+                            charRefBufMark = charRefBufLen;
                             break outer;
                         }
+
+                        charRefNode = child;
                         appendCharRefBuf(c);
                         continue;
                     }
@@ -3302,9 +3443,9 @@ public class Tokenizer implements Locator {
                         continue stateloop;
                     } else {
                         // c can't be CR, LF or nul if we got here
-                        @Const @CharacterName String candidateName = NamedCharacters.NAMES[candidate];
-                        if (candidateName.length() == 0
-                                || candidateName.charAt(candidateName.length() - 1) != ';') {
+                        // candidate is the trie node where the match ended, 
+                        // so its label is the last character matched
+                        if (NamedCharactersAccel.TRIE_LABELS[candidate] != ';') {
                             /*
                              * If the last character matched is not a U+003B
                              * SEMICOLON (;), there is a parse error.
@@ -3356,7 +3497,12 @@ public class Tokenizer implements Locator {
                          * table).
                          */
                         // CPPONLY: completedNamedCharacterReference();
-                        @Const @NoLength char[] val = NamedCharacters.VALUES[candidate];
+                        // [NOCPP[
+                        if (statistics != null) {
+                            statistics.countNamedCharacterReference();
+                        }
+                        // ]NOCPP]
+                        @Const @NoLength char[] val = NamedCharacters.VALUES[NamedCharactersAccel.TRIE_MATCHES[candidate] - 1];
                         if (
                         // [NOCPP[
                         val.length == 1
@@ -3400,12 +3546,19 @@ public class Tokenizer implements Locator {
                     }
                     // XXX reorder point
                 case AMBIGUOUS_AMPERSAND:
+                    /*
+                     * Consumes the alphanumerics that follow an ampersand that
+                     * did not start a character reference. In text, they are
+                     * part of the current run of characters. In an attribute
+                     * value, they are appended to the value.
+                     */
                     ampersandloop: for (;;) {
                         if (reconsume) {
+                            reconsume = false;
+                        } else {
                             if (++pos == endPos) {
                                 break stateloop;
                             }
-                            pos--;
                             c = checkChar(buf, pos);
                         }
                         if (c == ';') {
@@ -3413,10 +3566,12 @@ public class Tokenizer implements Locator {
                         } else if ((c >= '0' && c <= '9')
                                 || (c >= 'A' && c <= 'Z')
                                 || (c >= 'a' && c <= 'z')) {
-                            appendStrBuf(c);
-                            pos++;
+                            if ((returnState & DATA_AND_RCDATA_MASK) != 0) {
+                                appendStrBuf(c);
+                            }
                             continue;
                         }
+                        reconsume = true;
                         state = transition(state, returnState, reconsume, pos);
                         continue stateloop;
                     }
@@ -3658,6 +3813,9 @@ public class Tokenizer implements Locator {
                                  * character as a character token. Stay in the
                                  * RAWTEXT state.
                                  */
+                                // [NOCPP[
+                                pos = skipText(buf, pos, endPos, '\u0000', '\u0000');
+                                // ]NOCPP]
                                 continue;
                         }
                     }
@@ -3784,6 +3942,9 @@ public class Tokenizer implements Locator {
                                  * Emit the current input character as a
                                  * character token. Stay in the RCDATA state.
                                  */
+                                // [NOCPP[
+                                pos = skipText(buf, pos, endPos, '<', '&');
+                                // ]NOCPP]
                                 continue;
                         }
                     }
@@ -3823,6 +3984,9 @@ public class Tokenizer implements Locator {
                                  * Emit the current input character as a
                                  * character token. Stay in the RAWTEXT state.
                                  */
+                                // [NOCPP[
+                                pos = skipText(buf, pos, endPos, '<', '<');
+                                // ]NOCPP]
                                 continue;
                         }
                     }
@@ -4092,6 +4256,9 @@ public class Tokenizer implements Locator {
                                  * character as a character token. Stay in the
                                  * script data state.
                                  */
+                                // [NOCPP[
+                                pos = skipText(buf, pos, endPos, '<', '<');
+                                // ]NOCPP]
                                 continue;
                         }
                     }
@@ -6066,6 +6233,11 @@ public class Tokenizer implements Locator {
     }
 
     private void handleNcrValue(int returnState) throws SAXException {
+        // [NOCPP[
+        if (statistics != null) {
+            statistics.countNumericCharacterReference();
+        }
+        // ]NOCPP]
         /*
          * If one or more characters match the range, then take them all and
          * interpret the string of characters as a number (either hexadecimal or
@@ -6499,52 +6671,15 @@ public class Tokenizer implements Locator {
                     state = returnState;
                     continue;
                 case CHARACTER_REFERENCE_TAIL:
-                    outer: for (;;) {
-                        char c = '\u0000';
-                        entCol++;
+                    {
                         /*
-                         * Consume the maximum number of characters possible,
-                         * with the consumed characters matching one of the
-                         * identifiers in the first column of the named
-                         * character references table (in a case-sensitive
-                         * manner).
+                         * Take the name ending at the current node, if any, as
+                         * the longest match.
                          */
-                        hiloop: for (;;) {
-                            if (hi == -1) {
-                                break hiloop;
-                            }
-                            if (entCol == NamedCharacters.NAMES[hi].length()) {
-                                break hiloop;
-                            }
-                            if (entCol > NamedCharacters.NAMES[hi].length()) {
-                                break outer;
-                            } else if (c < NamedCharacters.NAMES[hi].charAt(entCol)) {
-                                hi--;
-                            } else {
-                                break hiloop;
-                            }
-                        }
-
-                        loloop: for (;;) {
-                            if (hi < lo) {
-                                break outer;
-                            }
-                            if (entCol == NamedCharacters.NAMES[lo].length()) {
-                                candidate = lo;
-                                charRefBufMark = charRefBufLen;
-                                lo++;
-                            } else if (entCol > NamedCharacters.NAMES[lo].length()) {
-                                break outer;
-                            } else if (c > NamedCharacters.NAMES[lo].charAt(entCol)) {
-                                lo++;
-                            } else {
-                                break loloop;
-                            }
+                        if (NamedCharactersAccel.TRIE_MATCHES[charRefNode] != 0) {
+                            candidate = charRefNode;
+                            charRefBufMark = charRefBufLen;
                         }
-                        if (hi < lo) {
-                            break outer;
-                        }
-                        continue;
                     }
 
                     if (candidate == -1) {
@@ -6552,9 +6687,9 @@ public class Tokenizer implements Locator {
                         state = returnState;
                         continue eofloop;
                     } else {
-                        @Const @CharacterName String candidateName = NamedCharacters.NAMES[candidate];
-                        if (candidateName.length() == 0
-                                || candidateName.charAt(candidateName.length() - 1) != ';') {
+                        // candidate is the trie node where the match ended, 
+                        // so its label is the last character matched
+                        if (NamedCharactersAccel.TRIE_LABELS[candidate] != ';') {
                             /*
                              * If the last character matched is not a U+003B
                              * SEMICOLON (;), there is a parse error.
@@ -6603,7 +6738,12 @@ public class Tokenizer implements Locator {
                          * second column of the named character references
                          * table).
                          */
-                        @Const @NoLength char[] val = NamedCharacters.VALUES[candidate];
+                        // [NOCPP[
+                        if (statistics != null) {
+                            statistics.countNamedCharacterReference();
+                        }
+                        // ]NOCPP]
+                        @Const @NoLength char[] val = NamedCharacters.VALUES[NamedCharactersAccel.TRIE_MATCHES[candidate] - 1];
                         if (
                         // [NOCPP[
                         val.length == 1
@@ -6696,6 +6836,59 @@ public class Tokenizer implements Locator {
         return buf[pos];
     }
 
+    // [NOCPP[
+
+    /**
+     * Skips over a run of text that a text-like state (data, RCDATA, RAWTEXT,
+     * script data, PLAINTEXT or a quoted attribute value) consumes without
+     * acting on it. Called after <code>buf[pos]</code> has been consumed.
+     * Returns the position of the last character of the run so that the next
+     * <code>++pos</code> of the state loop lands on <code>endPos</code> or on
+     * a character the state has to act on: <code>stop</code>,
+     * <code>otherStop</code>, CR or U+0000. Line feeds in the run are
+     * counted.
+     * 
+     * <p>The stop characters are at most <code>&lt;</code>, so the common
+     * case is a single comparison per character.
+     * 
+     * @param buf
+     *            the buffer
+     * @param pos
+     *            the position of the last consumed character
+     * @param endPos
+     *            the end of the valid data in the buffer
+     * @param stop
+     *            a character that ends the run
+     * @param otherStop
+     *            another character that ends the run
+     * @return the position of the last character of the run
+     */
+    protected int skipText(@NoLength char[] buf, int pos, int endPos,
+            char stop, char otherStop) {
+        while (++pos < endPos) {
+            char c = buf[pos];
+            if (c > '<') {
+                continue;
+            }
+            if (c == stop || c == otherStop) {
+                return pos - 1;
+            }
+            switch (c) {
+                case '\r':
+                case '\u0000':
+                    return pos - 1;
+                case '\n':
+                    silentLineFeed();
+                    continue;
+                default:
+                    continue;
+            }
+        }
+        return pos - 1;
+    }
+
+    // ]NOCPP]
+
     public boolean internalEncodingDeclaration(String internalCharset)
             throws SAXException {
         if (encodingDeclarationHandler != null) {
@@ -6728,7 +6921,13 @@ public class Tokenizer implements Locator {
     }
 
     public void end() throws SAXException {
-        strBuf = null;
+        // [NOCPP[
+        if (strBuf != null && strBuf.length > MAX_RETAINED_BUFFER_LENGTH) {
+            strBuf = null;
+        }
+        currentBuffer = null;
+        // ]NOCPP]
+        // CPPONLY: strBuf = null;
         doctypeName = null;
         if (systemIdentifier != null) {
             Portability.releaseString(systemIdentifier);
@@ -6811,10 +7010,8 @@ public class Tokenizer implements Locator {
         index = 0;
         forceQuirks = false;
         additional = '\u0000';
-        entCol = -1;
         firstCharKey = -1;
-        lo = 0;
-        hi = 0; // will always be overwritten before use anyway
+        charRefNode = 0;
         candidate = -1;
         charRefBufMark = 0;
         value = 0;
@@ -6857,10 +7054,8 @@ public class Tokenizer implements Locator {
         index = other.index;
         forceQuirks = other.forceQuirks;
         additional = other.additional;
-        entCol = other.entCol;
         firstCharKey = other.firstCharKey;
-        lo = other.lo;
-        hi = other.hi;
+        charRefNode = other.charRefNode;
         candidate = other.candidate;
         charRefBufMark = other.charRefBufMark;
         value = other.value;
@@ -6917,7 +7112,7 @@ public class Tokenizer implements Locator {
 
     public void initializeWithoutStarting() throws SAXException {
         confident = false;
-        strBuf = null;
+        // CPPONLY: strBuf = null;
         line = 1;
         // [NOCPP[
         html4 = false;
@@ -35,6 +35,7 @@
 
 package nu.validator.htmlparser.impl;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
@@ -56,6 +57,7 @@ import nu.validator.htmlparser.common.DoctypeExpectation;
 import nu.validator.htmlparser.common.DocumentMode;
 import nu.validator.htmlparser.common.DocumentModeHandler;
 import nu.validator.htmlparser.common.Interner;
+import nu.validator.htmlparser.common.ParseStatistics;
 import nu.validator.htmlparser.common.TokenHandler;
 import nu.validator.htmlparser.common.XmlViolationPolicy;
 
@@ -67,6 +69,11 @@ public abstract class TreeBuilder<T> implements TokenHandler,
      */
     private static final @NoLength char[] REPLACEMENT_CHARACTER = { '\uFFFD' };
 
+    /**
+     * The maximum number of stack nodes a tree builder keeps for recycling.
+     */
+    private static final int STACK_NODES_POOL_LIMIT = 1024;
+
     // Start dispatch groups
 
     final static int OTHER = 0;
@@ -403,6 +410,12 @@ public abstract class TreeBuilder<T> implements TokenHandler,
 
     private boolean wantingComments;
 
+    /**
+     * The statistics of the current parse or <code>null</code> if not
+     * collecting.
+     */
+    private ParseStatistics statistics;
+
     // ]NOCPP]
 
     private boolean fragment;
@@ -431,6 +444,38 @@ public abstract class TreeBuilder<T> implements TokenHandler,
 
     private int listPtr = -1;
 
+    /**
+     * Placeholder that takes the slot of an entry that is removed from the
+     * middle of the list of active formatting elements, so that removals do
+     * not shift the rest of the list. It is retained once for each slot that
+     * holds it and never matches a name.
+     */
+    private StackNode<T> listHole;
+
+    /**
+     * The number of slots on the list of active formatting elements that
+     * hold <code>listHole</code>.
+     */
+    private int listHoleCount = 0;
+
+    /**
+     * The stack nodes owned by this tree builder. A stack node whose
+     * refcount drops to zero is recycled instead of becoming garbage.
+     */
+    private @Auto StackNode<T>[] stackNodes;
+
+    /**
+     * Index of the earliest possible unused stack node in
+     * <code>stackNodes</code>.
+     */
+    private int stackNodesIdx = -1;
+
+    /**
+     * Number of stack nodes that have been allocated into
+     * <code>stackNodes</code>.
+     */
+    private int numStackNodes = 0;
+
     private T formPointer;
 
     private T headPointer;
@@ -444,6 +489,22 @@ public abstract class TreeBuilder<T> implements TokenHandler,
 
     protected int charBufferLen = 0;
 
+    // [NOCPP[
+
+    /**
+     * The array of a character run that has been accumulated as a view into
+     * the tokenizer's input buffer instead of being copied into
+     * <code>charBuffer</code> or <code>null</code> if there is no such run.
+     * Only set while <code>charBufferLen</code> is zero.
+     */
+    private char[] charView = null;
+
+    private int charViewStart = 0;
+
+    private int charViewLength = 0;
+
+    // ]NOCPP]
+
     private boolean quirks = false;
 
     private boolean isSrcdocDocument = false;
@@ -456,6 +517,21 @@ public abstract class TreeBuilder<T> implements TokenHandler,
 
     private final Map<String, LocatorImpl> idLocations = new HashMap<String, LocatorImpl>();
 
+    /**
+     * Index of the Noah's Ark clause over the list of active formatting
+     * elements. The key combines the element name, the attributes and the
+     * number of markers in front of an entry, so the entries that a new
+     * element has to be compared with are in the bucket of its own key.
+     * Buckets are not updated when entries leave the list; such stale nodes
+     * are dropped the next time their bucket is looked at.
+     */
+    private final Map<Integer, ArrayList<StackNode<T>>> noahsArk = new HashMap<Integer, ArrayList<StackNode<T>>>();
+
+    /**
+     * The number of markers on the list of active formatting elements.
+     */
+    private int markerCount = 0;
+
     private boolean html4;
 
     // ]NOCPP]
@@ -581,25 +657,48 @@ public abstract class TreeBuilder<T> implements TokenHandler,
 
     @SuppressWarnings("unchecked") public final void startTokenization(Tokenizer self) throws SAXException {
         tokenizer = self;
-        stack = new StackNode[64];
-        templateModeStack = new int[64];
-        listOfActiveFormattingElements = new StackNode[64];
+        // [NOCPP[
+        if (stack == null) {
+            stack = new StackNode[64];
+            templateModeStack = new int[64];
+            listOfActiveFormattingElements = new StackNode[64];
+        }
+        // ]NOCPP]
+        // CPPONLY: stack = new StackNode[64];
+        // CPPONLY: templateModeStack = new int[64];
+        // CPPONLY: listOfActiveFormattingElements = new StackNode[64];
+        if (stackNodes == null) {
+            stackNodes = new StackNode[64];
+            numStackNodes = 0;
+        }
+        stackNodesIdx = 0;
         needToDropLF = false;
         originalMode = INITIAL;
         templateModePtr = -1;
         currentPtr = -1;
         listPtr = -1;
+        listHole = new StackNode<T>(-1);
+        listHole.setValues(0, null, null, null, null, null
+                // [NOCPP[
+                , null
+                // ]NOCPP]
+        );
+        listHoleCount = 0;
         formPointer = null;
         headPointer = null;
         deepTreeSurrogateParent = null;
         // [NOCPP[
         html4 = false;
         idLocations.clear();
+        noahsArk.clear();
+        markerCount = 0;
         wantingComments = wantsComments();
+        charView = null;
+        statistics = self.getStatistics();
         // ]NOCPP]
         start(fragment);
         charBufferLen = 0;
-        charBuffer = null;
+        // CPPONLY: charBuffer = null;
         framesetOk = true;
         if (fragment) {
             T elt;
@@ -628,7 +727,7 @@ public abstract class TreeBuilder<T> implements TokenHandler,
                     elementName = ElementName.FOREIGNOBJECT;
                 }
                 // This is the SVG variant of the StackNode constructor.
-                StackNode<T> node = new StackNode<T>(elementName,
+                StackNode<T> node = createStackNode(elementName,
                         elementName.camelCaseName, elt
                         // [NOCPP[
                         , errorHandler == null ? null
@@ -637,6 +736,7 @@ public abstract class TreeBuilder<T> implements TokenHandler,
                 );
                 currentPtr++;
                 stack[currentPtr] = node;
+                node.stackIdx = currentPtr;
                 tokenizer.setStateAndEndTagExpectation(Tokenizer.DATA,
                         contextName);
                 // The frameset-ok flag is set even though <frameset> never
@@ -659,7 +759,7 @@ public abstract class TreeBuilder<T> implements TokenHandler,
                     // is resolved.
                 }
                 // This is the MathML variant of the StackNode constructor.
-                StackNode<T> node = new StackNode<T>(elementName, elt,
+                StackNode<T> node = createStackNode(elementName, elt,
                         elementName.name, false
                         // [NOCPP[
                         , errorHandler == null ? null
@@ -668,13 +768,14 @@ public abstract class TreeBuilder<T> implements TokenHandler,
                 );
                 currentPtr++;
                 stack[currentPtr] = node;
+                node.stackIdx = currentPtr;
                 tokenizer.setStateAndEndTagExpectation(Tokenizer.DATA,
                         contextName);
                 // The frameset-ok flag is set even though <frameset> never
                 // ends up being allowed as HTML frameset in the fragment case.
                 mode = FRAMESET_OK;
             } else { // html
-                StackNode<T> node = new StackNode<T>(ElementName.HTML, elt
+                StackNode<T> node = createStackNode(ElementName.HTML, elt
                 // [NOCPP[
                         , errorHandler == null ? null
                                 : new TaintableLocatorImpl(tokenizer)
@@ -682,6 +783,7 @@ public abstract class TreeBuilder<T> implements TokenHandler,
                 );
                 currentPtr++;
                 stack[currentPtr] = node;
+                node.stackIdx = currentPtr;
                 if ("template" == contextName) {
                     pushTemplateMode(IN_TEMPLATE);
                 }
@@ -717,11 +819,12 @@ public abstract class TreeBuilder<T> implements TokenHandler,
             // CPPONLY: T elt = createElement("http://www.w3.org/2000/svg",
             // CPPONLY: "svg",
             // CPPONLY: tokenizer.emptyAttributes(), null);
-            // CPPONLY: StackNode<T> node = new StackNode<T>(ElementName.SVG,
+            // CPPONLY: StackNode<T> node = createStackNode(ElementName.SVG,
             // CPPONLY: "svg",
             // CPPONLY: elt);
             // CPPONLY: currentPtr++;
             // CPPONLY: stack[currentPtr] = node;
+            // CPPONLY: node.stackIdx = currentPtr;
             // CPPONLY: }
         }
     }
@@ -984,6 +1087,11 @@ public abstract class TreeBuilder<T> implements TokenHandler,
         // CPPONLY: if (tokenizer.isViewingXmlSource()) {
         // CPPONLY: return;
         // CPPONLY: }
+        // [NOCPP[
+        if (statistics != null) {
+            statistics.countCharacterRun();
+        }
+        // ]NOCPP]
         if (needToDropLF) {
             needToDropLF = false;
             if (buf[start] == '\n') {
@@ -1574,35 +1682,74 @@ public abstract class TreeBuilder<T> implements TokenHandler,
         formPointer = null;
         headPointer = null;
         deepTreeSurrogateParent = null;
-        templateModeStack = null;
+        // CPPONLY: templateModeStack = null;
         if (stack != null) {
             while (currentPtr > -1) {
-                stack[currentPtr].release();
+                stack[currentPtr].release(this);
                 currentPtr--;
             }
-            stack = null;
+            // CPPONLY: stack = null;
         }
         if (listOfActiveFormattingElements != null) {
             while (listPtr > -1) {
                 if (listOfActiveFormattingElements[listPtr] != null) {
-                    listOfActiveFormattingElements[listPtr].release();
+                    listOfActiveFormattingElements[listPtr].release(this);
                 }
                 listPtr--;
             }
-            listOfActiveFormattingElements = null;
+            // CPPONLY: listOfActiveFormattingElements = null;
+        }
+        if (listHole != null) {
+            listHole.release(this);
+            listHole = null;
+            listHoleCount = 0;
         }
         // [NOCPP[
         idLocations.clear();
+        noahsArk.clear();
+        prepareBuffersForReuse();
         // ]NOCPP]
-        charBuffer = null;
+        // CPPONLY: charBuffer = null;
         end();
     }
 
+    // [NOCPP[
+
+    /**
+     * Prepares the stacks and the character buffer for reuse by the next
+     * document. Stale references are cleared so that the previous document
+     * can be collected and buffers that grew too large are dropped.
+     */
+    private void prepareBuffersForReuse() {
+        if (stack != null) {
+            if (stack.length > STACK_NODES_POOL_LIMIT
+                    || listOfActiveFormattingElements.length > STACK_NODES_POOL_LIMIT
+                    || templateModeStack.length > STACK_NODES_POOL_LIMIT) {
+                stack = null;
+                listOfActiveFormattingElements = null;
+                templateModeStack = null;
+            } else {
+                Arrays.fill(stack, null);
+                Arrays.fill(listOfActiveFormattingElements, null);
+            }
+        }
+        if (charBuffer != null
+                && charBuffer.length > Tokenizer.MAX_RETAINED_BUFFER_LENGTH) {
+            charBuffer = null;
+        }
+        charView = null;
+    }
+
+    // ]NOCPP]
+
     public final void startTag(ElementName elementName,
             HtmlAttributes attributes, boolean selfClosing) throws SAXException {
         flushCharacters();
 
         // [NOCPP[
+        if (statistics != null) {
+            statistics.countStartTag(attributes.getLength());
+        }
         if (errorHandler != null) {
             // ID uniqueness
             @IdType String id = attributes.getId();
@@ -2172,7 +2319,7 @@ public abstract class TreeBuilder<T> implements TokenHandler,
                                     if (activeAPos != -1) {
                                         removeFromListOfActiveFormattingElements(activeAPos);
                                     }
-                                    activeA.release();
+                                    activeA.release(this);
                                 }
                                 reconstructTheActiveFormattingElements();
                                 appendToCurrentNodeAndPushFormattingElementMayFoster(
@@ -3330,6 +3477,11 @@ public abstract class TreeBuilder<T> implements TokenHandler,
 
     public final void endTag(ElementName elementName) throws SAXException {
         flushCharacters();
+        // [NOCPP[
+        if (statistics != null) {
+            statistics.countEndTag();
+        }
+        // ]NOCPP]
         needToDropLF = false;
         int eltPos;
         int group = elementName.getGroup();
@@ -4536,25 +4688,173 @@ public abstract class TreeBuilder<T> implements TokenHandler,
         templateModeStack[templateModePtr] = mode;
     }
 
+    /**
+     * Returns a stack node that is not in use. Recycles the earliest unused
+     * node owned by this tree builder. Once the tree builder owns
+     * <code>STACK_NODES_POOL_LIMIT</code> nodes and all of them are in use,
+     * returns a node that is not owned by the tree builder.
+     * 
+     * @return an unused stack node
+     */
+    @SuppressWarnings("unchecked") private StackNode<T> getUnusedStackNode() {
+        // Search for an unused stack node.
+        while (stackNodesIdx < numStackNodes) {
+            if (stackNodes[stackNodesIdx].isUnused()) {
+                return stackNodes[stackNodesIdx];
+            }
+            stackNodesIdx++;
+        }
+
+        if (numStackNodes == STACK_NODES_POOL_LIMIT) {
+            // The pool is full and every node in it is in use.
+            return new StackNode<T>(-1);
+        }
+
+        if (stackNodesIdx == stackNodes.length) {
+            // The storage array is full, so grow it.
+            StackNode<T>[] newStackNodes = new StackNode[stackNodes.length + 64];
+            System.arraycopy(stackNodes, 0, newStackNodes, 0, stackNodes.length);
+            stackNodes = newStackNodes;
+        }
+
+        // Create a new stack node and return it.
+        stackNodes[stackNodesIdx] = new StackNode<T>(stackNodesIdx);
+        numStackNodes++;
+        return stackNodes[stackNodesIdx];
+    }
+
+    private StackNode<T> createStackNode(int flags, @NsUri String ns, @Local String name, T node,
+            @Local String popName, HtmlAttributes attributes
+            // [NOCPP[
+            , TaintableLocatorImpl locator
+            // ]NOCPP]
+    ) {
+        StackNode<T> instance = getUnusedStackNode();
+        instance.setValues(flags, ns, name, node, popName, attributes
+                // [NOCPP[
+                , locator
+                // ]NOCPP]
+        );
+        return instance;
+    }
+
+    private StackNode<T> createStackNode(ElementName elementName, T node
+            // [NOCPP[
+            , TaintableLocatorImpl locator
+            // ]NOCPP]
+    ) {
+        StackNode<T> instance = getUnusedStackNode();
+        instance.setValues(elementName, node
+                // [NOCPP[
+                , locator
+                // ]NOCPP]
+        );
+        return instance;
+    }
+
+    private StackNode<T> createStackNode(ElementName elementName, T node, HtmlAttributes attributes
+            // [NOCPP[
+            , TaintableLocatorImpl locator
+            // ]NOCPP]
+    ) {
+        StackNode<T> instance = getUnusedStackNode();
+        instance.setValues(elementName, node, attributes
+                // [NOCPP[
+                , locator
+                // ]NOCPP]
+        );
+        return instance;
+    }
+
+    private StackNode<T> createStackNode(ElementName elementName, T node, @Local String popName
+            // [NOCPP[
+            , TaintableLocatorImpl locator
+            // ]NOCPP]
+    ) {
+        StackNode<T> instance = getUnusedStackNode();
+        instance.setValues(elementName, node, popName
+                // [NOCPP[
+                , locator
+                // ]NOCPP]
+        );
+        return instance;
+    }
+
+    private StackNode<T> createStackNode(ElementName elementName, @Local String popName, T node
+            // [NOCPP[
+            , TaintableLocatorImpl locator
+            // ]NOCPP]
+    ) {
+        StackNode<T> instance = getUnusedStackNode();
+        instance.setValues(elementName, popName, node
+                // [NOCPP[
+                , locator
+                // ]NOCPP]
+        );
+        return instance;
+    }
+
+    private StackNode<T> createStackNode(ElementName elementName, T node, @Local String popName,
+            boolean markAsIntegrationPoint
+            // [NOCPP[
+            , TaintableLocatorImpl locator
+            // ]NOCPP]
+    ) {
+        StackNode<T> instance = getUnusedStackNode();
+        instance.setValues(elementName, node, popName, markAsIntegrationPoint
+                // [NOCPP[
+                , locator
+                // ]NOCPP]
+        );
+        return instance;
+    }
+
+    /**
+     * Called by a stack node owned by this tree builder when its refcount
+     * drops to zero.
+     * 
+     * @param idxOfStackNode
+     *            the index of the node in <code>stackNodes</code>
+     */
+    void notifyUnusedStackNode(int idxOfStackNode) {
+        // stackNodesIdx is the earliest possible index of a stack node that
+        // might be unused, so update the index if necessary.
+        if (idxOfStackNode < stackNodesIdx) {
+            stackNodesIdx = idxOfStackNode;
+        }
+    }
+
     @SuppressWarnings("unchecked") private void push(StackNode<T> node) throws SAXException {
         currentPtr++;
+        // [NOCPP[
+        if (statistics != null) {
+            statistics.recordStackDepth(currentPtr + 1);
+        }
+        // ]NOCPP]
         if (currentPtr == stack.length) {
             StackNode<T>[] newStack = new StackNode[stack.length + 64];
             System.arraycopy(stack, 0, newStack, 0, stack.length);
             stack = newStack;
         }
         stack[currentPtr] = node;
+        node.stackIdx = currentPtr;
         elementPushed(node.ns, node.popName, node.node);
     }
 
     @SuppressWarnings("unchecked") private void silentPush(StackNode<T> node) throws SAXException {
         currentPtr++;
+        // [NOCPP[
+        if (statistics != null) {
+            statistics.recordStackDepth(currentPtr + 1);
+        }
+        // ]NOCPP]
         if (currentPtr == stack.length) {
             StackNode<T>[] newStack = new StackNode[stack.length + 64];
             System.arraycopy(stack, 0, newStack, 0, stack.length);
             stack = newStack;
         }
         stack[currentPtr] = node;
+        node.stackIdx = currentPtr;
     }
 
     @SuppressWarnings("unchecked") private void append(StackNode<T> node) {
@@ -4566,19 +4866,34 @@ public abstract class TreeBuilder<T> implements TokenHandler,
             listOfActiveFormattingElements = newList;
         }
         listOfActiveFormattingElements[listPtr] = node;
+        if (node != null) {
+            node.listIdx = listPtr;
+            // [NOCPP[
+            addToNoahsArk(node, markerCount);
+            // ]NOCPP]
+        }
     }
 
     @Inline private void insertMarker() {
         append(null);
+        // [NOCPP[
+        markerCount++;
+        // ]NOCPP]
     }
 
     private void clearTheListOfActiveFormattingElementsUpToTheLastMarker() {
         while (listPtr > -1) {
             if (listOfActiveFormattingElements[listPtr] == null) {
                 --listPtr;
+                // [NOCPP[
+                markerCount--;
+                // ]NOCPP]
                 return;
             }
-            listOfActiveFormattingElements[listPtr].release();
+            if (listOfActiveFormattingElements[listPtr] == listHole) {
+                listHoleCount--;
+            }
+            listOfActiveFormattingElements[listPtr].release(this);
             --listPtr;
         }
     }
@@ -4593,10 +4908,11 @@ public abstract class TreeBuilder<T> implements TokenHandler,
             pop();
         } else {
             fatal();
-            stack[pos].release();
+            stack[pos].release(this);
             System.arraycopy(stack, pos + 1, stack, pos, currentPtr - pos);
             assert debugOnlyClearLastStackSlot();
             currentPtr--;
+            reindexStack(pos);
         }
     }
 
@@ -4604,34 +4920,138 @@ public abstract class TreeBuilder<T> implements TokenHandler,
         if (stack[currentPtr] == node) {
             pop();
         } else {
-            int pos = currentPtr - 1;
-            while (pos >= 0 && stack[pos] != node) {
-                pos--;
-            }
+            int pos = findInStack(node);
             if (pos == -1) {
                 // dead code?
                 return;
             }
             fatal();
-            node.release();
+            node.release(this);
             System.arraycopy(stack, pos + 1, stack, pos, currentPtr - pos);
             currentPtr--;
+            reindexStack(pos);
+        }
+    }
+
+    /**
+     * Refreshes the position hints of the stack nodes from <code>from</code>
+     * to the top of the stack after the stack has been shifted.
+     */
+    private void reindexStack(int from) {
+        for (int i = from; i <= currentPtr; i++) {
+            stack[i].stackIdx = i;
+        }
+    }
+
+    /**
+     * Refreshes the position hints of the entries from <code>from</code> to
+     * <code>to</code> inclusive on the list of active formatting elements
+     * after those entries have been moved.
+     */
+    private void reindexListOfActiveFormattingElements(int from, int to) {
+        for (int i = from; i <= to; i++) {
+            StackNode<T> node = listOfActiveFormattingElements[i];
+            if (node != null) {
+                node.listIdx = i;
+            }
         }
     }
 
     private void removeFromListOfActiveFormattingElements(int pos) {
         assert listOfActiveFormattingElements[pos] != null;
-        listOfActiveFormattingElements[pos].release();
+        assert listOfActiveFormattingElements[pos] != listHole;
         if (pos == listPtr) {
+            listOfActiveFormattingElements[pos].release(this);
             assert debugOnlyClearLastListSlot();
             listPtr--;
             return;
         }
         assert pos < listPtr;
-        System.arraycopy(listOfActiveFormattingElements, pos + 1,
-                listOfActiveFormattingElements, pos, listPtr - pos);
-        assert debugOnlyClearLastListSlot();
-        listPtr--;
+        makeListHole(pos);
+        maybeCompactListOfActiveFormattingElements();
+    }
+
+    /**
+     * Replaces the entry at <code>pos</code> with <code>listHole</code>
+     * instead of shifting the rest of the list of active formatting elements
+     * over it.
+     */
+    private void makeListHole(int pos) {
+        listOfActiveFormattingElements[pos].release(this);
+        listOfActiveFormattingElements[pos] = listHole;
+        listHole.retain();
+        listHoleCount++;
+    }
+
+    /**
+     * Returns true if the slots from <code>from</code> to <code>to</code>
+     * exclusive on the list of active formatting elements are all holes.
+     */
+    private boolean onlyListHolesBetween(int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (listOfActiveFormattingElements[i] != listHole) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the position of the last entry before <code>pos</code> on the
+     * list of active formatting elements that is not a hole.
+     */
+    private int previousListEntry(int pos) {
+        do {
+            pos--;
+        } while (pos >= 0 && listOfActiveFormattingElements[pos] == listHole);
+        return pos;
+    }
+
+    /**
+     * Returns the position of the first entry at or after <code>pos</code> on
+     * the list of active formatting elements that is not a hole or
+     * <code>listPtr</code> if there is none.
+     */
+    private int nextListEntry(int pos) {
+        while (pos < listPtr && listOfActiveFormattingElements[pos] == listHole) {
+            pos++;
+        }
+        if (pos > listPtr) {
+            return listPtr;
+        }
+        return pos;
+    }
+
+    /**
+     * Compacts the list of active formatting elements once holes take up more
+     * than half of it, so that removals cost amortized constant time and
+     * walks over the list at most twice as long as without holes.
+     */
+    private void maybeCompactListOfActiveFormattingElements() {
+        if (listHoleCount > (listPtr + 1) / 2) {
+            compactListOfActiveFormattingElements();
+        }
+    }
+
+    private void compactListOfActiveFormattingElements() {
+        if (listHoleCount == 0) {
+            return;
+        }
+        int to = 0;
+        for (int from = 0; from <= listPtr; from++) {
+            StackNode<T> node = listOfActiveFormattingElements[from]; // weak ref
+            if (node == listHole) {
+                listHole.release(this);
+            } else {
+                listOfActiveFormattingElements[to] = node;
+                if (node != null) {
+                    node.listIdx = to;
+                }
+                to++;
+            }
+        }
+        listPtr = to - 1;
+        listHoleCount = 0;
     }
 
     /**
@@ -4644,6 +5064,11 @@ public abstract class TreeBuilder<T> implements TokenHandler,
      * @throws SAXException
      */
     private boolean adoptionAgencyEndTag(@Local String name) throws SAXException {
+        // [NOCPP[
+        if (statistics != null) {
+            statistics.countAdoptionAgency();
+        }
+        // ]NOCPP]
         // This check intends to ensure that for properly nested tags, closing tags will match
         // against the stack instead of the listOfActiveFormattingElements.
         if (stack[currentPtr].ns == "http://www.w3.org/1999/xhtml" &&
@@ -4661,6 +5086,11 @@ public abstract class TreeBuilder<T> implements TokenHandler,
         // If you crash around here, perhaps some stack node variable claimed to
         // be a weak ref isn't.
         for (int i = 0; i < 8; ++i) {
+            // [NOCPP[
+            if (statistics != null) {
+                statistics.countAdoptionAgencyIterations(1);
+            }
+            // ]NOCPP]
             int formattingEltListPos = listPtr;
             while (formattingEltListPos > -1) {
                 StackNode<T> listNode = listOfActiveFormattingElements[formattingEltListPos]; // weak ref
@@ -4677,22 +5107,19 @@ public abstract class TreeBuilder<T> implements TokenHandler,
             }
             // this *looks* like a weak ref to the list of formatting elements
             StackNode<T> formattingElt = listOfActiveFormattingElements[formattingEltListPos];
-            int formattingEltStackPos = currentPtr;
-            boolean inScope = true;
-            while (formattingEltStackPos > -1) {
-                StackNode<T> node = stack[formattingEltStackPos]; // weak ref
-                if (node == formattingElt) {
-                    break;
-                } else if (node.isScoping()) {
-                    inScope = false;
-                }
-                formattingEltStackPos--;
-            }
+            int formattingEltStackPos = findInStack(formattingElt);
             if (formattingEltStackPos == -1) {
                 errNoElementToCloseButEndTagSeen(name);
                 removeFromListOfActiveFormattingElements(formattingEltListPos);
                 return true;
             }
+            boolean inScope = true;
+            for (int k = currentPtr; k > formattingEltStackPos; k--) {
+                if (stack[k].isScoping()) {
+                    inScope = false;
+                    break;
+                }
+            }
             if (!inScope) {
                 errNoElementToCloseButEndTagSeen(name);
                 return true;
@@ -4724,6 +5151,12 @@ public abstract class TreeBuilder<T> implements TokenHandler,
             int bookmark = formattingEltListPos;
             int nodePos = furthestBlockPos;
             StackNode<T> lastNode = furthestBlock; // weak ref
+            // Nodes removed from the stack by the inner loop leave a null
+            // slot behind and the stack is compacted once after the loop,
+            // because shifting the stack for each removal is quadratic in
+            // the number of misnested elements. Only slots above nodePos
+            // are affected, and the loop never looks at those again.
+            boolean stackHasHoles = false;
             int j = 0;
             for (;;) {
                 ++j;
@@ -4735,16 +5168,15 @@ public abstract class TreeBuilder<T> implements TokenHandler,
                 int nodeListPos = findInListOfActiveFormattingElements(node);
 
                 if (j > 3 && nodeListPos != -1) {
-                    removeFromListOfActiveFormattingElements(nodeListPos);
-
-                    // Adjust the indices into the list to account
-                    // for the removal of nodeListPos.
-                    if (nodeListPos <= formattingEltListPos) {
-                        formattingEltListPos--;
-                    }
-                    if (nodeListPos <= bookmark) {
-                        bookmark--;
+                    // Leaving a hole on the list keeps formattingEltListPos
+                    // and bookmark where they are. Only a removal of the
+                    // first entry at or after the bookmark moves the bookmark
+                    // back by an entry.
+                    if (nodeListPos >= bookmark
+                            && onlyListHolesBetween(bookmark, nodeListPos)) {
+                        bookmark = previousListEntry(bookmark);
                     }
+                    makeListHole(nodeListPos);
 
                     // Update position to reflect removal from list.
                     nodeListPos = -1;
@@ -4752,9 +5184,14 @@ public abstract class TreeBuilder<T> implements TokenHandler,
 
                 if (nodeListPos == -1) {
                     assert formattingEltStackPos < nodePos;
-                    assert bookmark < nodePos;
+                    // Holes make positions on the list incomparable with
+                    // positions on the stack.
+                    assert listHoleCount > 0 || bookmark < nodePos;
                     assert furthestBlockPos > nodePos;
-                    removeFromStack(nodePos); // node is now a bad pointer in C++
+                    fatal();
+                    stack[nodePos] = null;
+                    stackHasHoles = true;
+                    node.release(this); // node is now a bad pointer in C++
                     furthestBlockPos--;
                     continue;
                 }
@@ -4767,7 +5204,7 @@ public abstract class TreeBuilder<T> implements TokenHandler,
                 assert node == stack[nodePos];
                 T clone = createElement("http://www.w3.org/1999/xhtml",
                         node.name, node.attributes.cloneAttributes(null), commonAncestor.node);
-                StackNode<T> newNode = new StackNode<T>(node.getFlags(), node.ns,
+                StackNode<T> newNode = createStackNode(node.getFlags(), node.ns,
                         node.name, clone, node.popName, node.attributes
                         // [NOCPP[
                         , node.getLocator()
@@ -4775,16 +5212,39 @@ public abstract class TreeBuilder<T> implements TokenHandler,
                 ); // creation ownership goes to stack
                 node.dropAttributes(); // adopt ownership to newNode
                 stack[nodePos] = newNode;
+                newNode.stackIdx = nodePos;
                 newNode.retain(); // retain for list
                 listOfActiveFormattingElements[nodeListPos] = newNode;
-                node.release(); // release from stack
-                node.release(); // release from list
+                newNode.listIdx = nodeListPos;
+                // [NOCPP[
+                replaceInNoahsArk(node, newNode);
+                // ]NOCPP]
+                node.release(this); // release from stack
+                node.release(this); // release from list
                 node = newNode;
                 // } XXX AAA CHANGE
                 detachFromParent(lastNode.node);
                 appendElement(lastNode.node, node.node);
                 lastNode = node;
             }
+            // [NOCPP[
+            if (statistics != null) {
+                statistics.countAdoptionAgencyIterations(j);
+            }
+            // ]NOCPP]
+            if (stackHasHoles) {
+                int to = formattingEltStackPos + 1;
+                for (int from = to; from <= currentPtr; from++) {
+                    StackNode<T> node = stack[from]; // weak ref
+                    if (node != null) {
+                        stack[to] = node;
+                        node.stackIdx = to;
+                        to++;
+                    }
+                }
+                currentPtr = to - 1;
+                assert stack[furthestBlockPos] == furthestBlock;
+            }
             if (commonAncestor.isFosterParenting()) {
                 fatal();
                 detachFromParent(lastNode.node);
@@ -4796,7 +5256,7 @@ public abstract class TreeBuilder<T> implements TokenHandler,
             T clone = createElement("http://www.w3.org/1999/xhtml",
                     formattingElt.name,
                     formattingElt.attributes.cloneAttributes(null), furthestBlock.node);
-            StackNode<T> formattingClone = new StackNode<T>(
+            StackNode<T> formattingClone = createStackNode(
                     formattingElt.getFlags(), formattingElt.ns,
                     formattingElt.name, clone, formattingElt.popName,
                     formattingElt.attributes
@@ -4808,8 +5268,9 @@ public abstract class TreeBuilder<T> implements TokenHandler,
                                             // formattingClone
             appendChildrenToNewParent(furthestBlock.node, clone);
             appendElement(clone, furthestBlock.node);
-            removeFromListOfActiveFormattingElements(formattingEltListPos);
-            insertIntoListOfActiveFormattingElements(formattingClone, bookmark);
+            moveToBookmarkInListOfActiveFormattingElements(formattingEltListPos,
+                    formattingClone, bookmark);
+            maybeCompactListOfActiveFormattingElements();
             assert formattingEltStackPos < furthestBlockPos;
             removeFromStack(formattingEltStackPos);
             // furthestBlockPos is now off by one and points to the slot after
@@ -4830,31 +5291,85 @@ public abstract class TreeBuilder<T> implements TokenHandler,
                     (currentPtr - position) + 1);
             currentPtr++;
             stack[position] = node;
+            reindexStack(position);
         }
     }
 
-    private void insertIntoListOfActiveFormattingElements(
+    /**
+     * Removes the entry at <code>pos</code> from the list of active formatting
+     * elements and inserts <code>formattingClone</code> at the bookmark of the
+     * adoption agency algorithm. Only the entries between the two positions
+     * move.
+     */
+    private void moveToBookmarkInListOfActiveFormattingElements(int pos,
             StackNode<T> formattingClone, int bookmark) {
+        StackNode<T> formattingElt = listOfActiveFormattingElements[pos]; // weak ref
+        assert formattingElt != null;
+        if (bookmark > pos) {
+            // The bookmark is a position on the list as it is after the
+            // removal, so it is one entry further along than it seems.
+            bookmark = nextListEntry(bookmark);
+        }
+        assert bookmark <= listPtr;
         formattingClone.retain();
-        assert listPtr + 1 < listOfActiveFormattingElements.length;
-        if (bookmark <= listPtr) {
+        // [NOCPP[
+        replaceInNoahsArk(formattingElt, formattingClone);
+        // ]NOCPP]
+        formattingElt.release(this);
+        if (bookmark > pos) {
+            System.arraycopy(listOfActiveFormattingElements, pos + 1,
+                    listOfActiveFormattingElements, pos, bookmark - pos);
+            listOfActiveFormattingElements[bookmark] = formattingClone;
+            reindexListOfActiveFormattingElements(pos, bookmark);
+        } else {
             System.arraycopy(listOfActiveFormattingElements, bookmark,
-                    listOfActiveFormattingElements, bookmark + 1,
-                    (listPtr - bookmark) + 1);
+                    listOfActiveFormattingElements, bookmark + 1, pos - bookmark);
+            listOfActiveFormattingElements[bookmark] = formattingClone;
+            reindexListOfActiveFormattingElements(bookmark, pos);
         }
-        listPtr++;
-        listOfActiveFormattingElements[bookmark] = formattingClone;
     }
 
     private int findInListOfActiveFormattingElements(StackNode<T> node) {
+        // The position hint is only trusted if the slot it points to still
+        // holds the node, so stale hints of popped or removed nodes are
+        // harmless.
+        int pos = node.listIdx;
+        if (pos >= 0 && pos <= listPtr
+                && listOfActiveFormattingElements[pos] == node) {
+            return pos;
+        }
+        assert debugOnlyNotInListOfActiveFormattingElements(node);
+        return -1;
+    }
+
+    private boolean debugOnlyNotInListOfActiveFormattingElements(
+            StackNode<T> node) {
         for (int i = listPtr; i >= 0; i--) {
             if (node == listOfActiveFormattingElements[i]) {
-                return i;
+                return false;
             }
         }
+        return true;
+    }
+
+    private int findInStack(StackNode<T> node) {
+        int pos = node.stackIdx;
+        if (pos >= 0 && pos <= currentPtr && stack[pos] == node) {
+            return pos;
+        }
+        assert debugOnlyNotInStack(node);
         return -1;
     }
 
+    private boolean debugOnlyNotInStack(StackNode<T> node) {
+        for (int i = currentPtr; i >= 0; i--) {
+            if (node == stack[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private int findInListOfActiveFormattingElementsContainsBetweenEndAndLastMarker(
             @Local String name) {
         for (int i = listPtr; i >= 0; i--) {
@@ -4871,6 +5386,23 @@ public abstract class TreeBuilder<T> implements TokenHandler,
 
     private void maybeForgetEarlierDuplicateFormattingElement(
             @Local String name, HtmlAttributes attributes) throws SAXException {
+        // [NOCPP[
+        int candidate = findEarlierDuplicateFormattingElementInNoahsArk(name, attributes);
+        assert candidate == findEarlierDuplicateFormattingElement(name, attributes);
+        // ]NOCPP]
+        // CPPONLY: int candidate = findEarlierDuplicateFormattingElement(name, attributes);
+        if (candidate != -1) {
+            removeFromListOfActiveFormattingElements(candidate);
+        }
+    }
+
+    /**
+     * Returns the position of the earliest entry after the last marker that
+     * has the given name and attributes if there are at least three such
+     * entries and -1 otherwise.
+     */
+    private int findEarlierDuplicateFormattingElement(@Local String name,
+            HtmlAttributes attributes) {
         int candidate = -1;
         int count = 0;
         for (int i = listPtr; i >= 0; i--) {
@@ -4884,10 +5416,113 @@ public abstract class TreeBuilder<T> implements TokenHandler,
             }
         }
         if (count >= 3) {
-            removeFromListOfActiveFormattingElements(candidate);
+            return candidate;
         }
+        return -1;
     }
 
+    // [NOCPP[
+
+    /**
+     * Does what <code>findEarlierDuplicateFormattingElement()</code> does
+     * without walking the part of the list after the last marker.
+     */
+    private int findEarlierDuplicateFormattingElementInNoahsArk(
+            @Local String name, HtmlAttributes attributes) {
+        Integer key = Integer.valueOf(noahsArkKey(name, attributes, markerCount));
+        ArrayList<StackNode<T>> bucket = noahsArk.get(key);
+        if (bucket == null) {
+            return -1;
+        }
+        int candidate = -1;
+        int count = 0;
+        for (int i = bucket.size() - 1; i >= 0; i--) {
+            StackNode<T> node = bucket.get(i);
+            assert key.equals(node.noahsArkKey);
+            int pos = findInListOfActiveFormattingElements(node);
+            if (pos == -1) {
+                bucket.set(i, bucket.get(bucket.size() - 1));
+                bucket.remove(bucket.size() - 1);
+                node.noahsArkKey = null;
+            } else if (node.name == name
+                    && node.attributes.equalsAnother(attributes)) {
+                if (candidate == -1 || pos < candidate) {
+                    candidate = pos;
+                }
+                ++count;
+            }
+        }
+        if (bucket.isEmpty()) {
+            noahsArk.remove(key);
+        }
+        if (count >= 3) {
+            return candidate;
+        }
+        return -1;
+    }
+
+    /**
+     * Computes the Noah's Ark key of an element. The attributes are hashed
+     * independently of their order and by local name, like
+     * <code>HtmlAttributes.equalsAnother()</code> compares them.
+     */
+    private static int noahsArkKey(@Local String name,
+            HtmlAttributes attributes, int markers) {
+        int attributesHash = 0;
+        for (int i = 0; i < attributes.getLength(); i++) {
+            attributesHash += 31
+                    * attributes.getAttributeNameNoBoundsCheck(i).getLocal(
+                            AttributeName.HTML).hashCode()
+                    + attributes.getValueNoBoundsCheck(i).hashCode();
+        }
+        return (31 * name.hashCode() + attributesHash) * 31 + markers;
+    }
+
+    /**
+     * Indexes an entry of the list of active formatting elements that has
+     * <code>markers</code> markers in front of it. Only the elements that
+     * the Noah's Ark clause applies to are indexed.
+     */
+    private void addToNoahsArk(StackNode<T> node, int markers) {
+        int group = node.getGroup();
+        if (group != B_OR_BIG_OR_CODE_OR_EM_OR_I_OR_S_OR_SMALL_OR_STRIKE_OR_STRONG_OR_TT_OR_U
+                && group != FONT) {
+            return;
+        }
+        addToNoahsArk(node, Integer.valueOf(noahsArkKey(node.name,
+                node.attributes, markers)));
+    }
+
+    private void addToNoahsArk(StackNode<T> node, Integer key) {
+        if (node.noahsArkKey != null) {
+            // A recycled stack node that is still in the bucket of the entry
+            // it was before.
+            ArrayList<StackNode<T>> stale = noahsArk.get(node.noahsArkKey);
+            if (stale != null) {
+                stale.remove(node);
+            }
+        }
+        ArrayList<StackNode<T>> bucket = noahsArk.get(key);
+        if (bucket == null) {
+            bucket = new ArrayList<StackNode<T>>(4);
+            noahsArk.put(key, bucket);
+        }
+        bucket.add(node);
+        node.noahsArkKey = key;
+    }
+
+    /**
+     * Indexes an entry that replaces <code>oldNode</code> at the same
+     * position on the list of active formatting elements.
+     */
+    private void replaceInNoahsArk(StackNode<T> oldNode, StackNode<T> newNode) {
+        if (oldNode.noahsArkKey != null) {
+            addToNoahsArk(newNode, oldNode.noahsArkKey);
+        }
+    }
+
+    // ]NOCPP]
+
     private int findLastOrRoot(@Local String name) {
         for (int i = currentPtr; i > 0; i--) {
             if (stack[i].ns == "http://www.w3.org/1999/xhtml" && stack[i].name == name) {
@@ -4939,7 +5574,7 @@ public abstract class TreeBuilder<T> implements TokenHandler,
         assert headPointer != null;
         assert mode == AFTER_HEAD;
         fatal();
-        silentPush(new StackNode<T>(ElementName.HEAD, headPointer
+        silentPush(createStackNode(ElementName.HEAD, headPointer
         // [NOCPP[
                 , errorHandler == null ? null : new TaintableLocatorImpl(tokenizer)
         // ]NOCPP]
@@ -4974,6 +5609,9 @@ public abstract class TreeBuilder<T> implements TokenHandler,
         while (entryPos < listPtr) {
             entryPos++;
             StackNode<T> entry = listOfActiveFormattingElements[entryPos];
+            if (entry == listHole) {
+                continue;
+            }
             StackNode<T> currentNode = stack[currentPtr];
 
             T clone;
@@ -4986,7 +5624,7 @@ public abstract class TreeBuilder<T> implements TokenHandler,
                 appendElement(clone, currentNode.node);
             }
 
-            StackNode<T> entryClone = new StackNode<T>(entry.getFlags(),
+            StackNode<T> entryClone = createStackNode(entry.getFlags(),
                     entry.ns, entry.name, clone, entry.popName,
                     entry.attributes
                     // [NOCPP[
@@ -4999,8 +5637,12 @@ public abstract class TreeBuilder<T> implements TokenHandler,
             push(entryClone);
             // stack takes ownership of the local variable
             listOfActiveFormattingElements[entryPos] = entryClone;
+            entryClone.listIdx = entryPos;
+            // [NOCPP[
+            replaceInNoahsArk(entry, entryClone);
+            // ]NOCPP]
             // overwriting the old entry on the list, so release & retain
-            entry.release();
+            entry.release(this);
             entryClone.retain();
         }
     }
@@ -5014,6 +5656,11 @@ public abstract class TreeBuilder<T> implements TokenHandler,
             return;
         }
 
+        // [NOCPP[
+        if (statistics != null) {
+            statistics.countFosterParenting();
+        }
+        // ]NOCPP]
         StackNode<T> node = stack[tablePos];
         insertFosterParentedChild(child, node.node, stack[tablePos - 1].node);
     }
@@ -5034,17 +5681,17 @@ public abstract class TreeBuilder<T> implements TokenHandler,
             return child;
         }
 
+        // [NOCPP[
+        if (statistics != null) {
+            statistics.countFosterParenting();
+        }
+        // ]NOCPP]
         StackNode<T> node = stack[tablePos];
         return createAndInsertFosterParentedElement(ns, name, attributes, form, node.node, stack[tablePos - 1].node);
     }
 
     private boolean isInStack(StackNode<T> node) {
-        for (int i = currentPtr; i >= 0; i--) {
-            if (stack[i] == node) {
-                return true;
-            }
-        }
-        return false;
+        return findInStack(node) != -1;
     }
 
     private void popTemplateMode() {
@@ -5056,14 +5703,14 @@ public abstract class TreeBuilder<T> implements TokenHandler,
         assert debugOnlyClearLastStackSlot();
         currentPtr--;
         elementPopped(node.ns, node.popName, node.node);
-        node.release();
+        node.release(this);
     }
 
     private void silentPop() throws SAXException {
         StackNode<T> node = stack[currentPtr];
         assert debugOnlyClearLastStackSlot();
         currentPtr--;
-        node.release();
+        node.release(this);
     }
 
     private void popOnEof() throws SAXException {
@@ -5072,7 +5719,7 @@ public abstract class TreeBuilder<T> implements TokenHandler,
         currentPtr--;
         markMalformedIfScript(node.node);
         elementPopped(node.ns, node.popName, node.node);
-        node.release();
+        node.release(this);
     }
 
     // [NOCPP[
@@ -5174,7 +5821,7 @@ public abstract class TreeBuilder<T> implements TokenHandler,
         checkAttributes(attributes, "http://www.w3.org/1999/xhtml");
         // ]NOCPP]
         T elt = createHtmlElementSetAsRoot(attributes);
-        StackNode<T> node = new StackNode<T>(ElementName.HTML,
+        StackNode<T> node = createStackNode(ElementName.HTML,
                 elt
                 // [NOCPP[
                 , errorHandler == null ? null : new TaintableLocatorImpl(tokenizer)
@@ -5196,7 +5843,7 @@ public abstract class TreeBuilder<T> implements TokenHandler,
         T elt = createElement("http://www.w3.org/1999/xhtml", "head", attributes, currentNode);
         appendElement(elt, currentNode);
         headPointer = elt;
-        StackNode<T> node = new StackNode<T>(ElementName.HEAD,
+        StackNode<T> node = createStackNode(ElementName.HEAD,
                 elt
                 // [NOCPP[
                 , errorHandler == null ? null : new TaintableLocatorImpl(tokenizer)
@@ -5235,7 +5882,7 @@ public abstract class TreeBuilder<T> implements TokenHandler,
             formPointer = elt;
         }
 
-        StackNode<T> node = new StackNode<T>(ElementName.FORM,
+        StackNode<T> node = createStackNode(ElementName.FORM,
                 elt
                 // [NOCPP[
                 , errorHandler == null ? null : new TaintableLocatorImpl(tokenizer)
@@ -5263,7 +5910,7 @@ public abstract class TreeBuilder<T> implements TokenHandler,
             elt = createElement("http://www.w3.org/1999/xhtml", elementName.name, attributes, current.node);
             appendElement(elt, current.node);
         }
-        StackNode<T> node = new StackNode<T>(elementName, elt, clone
+        StackNode<T> node = createStackNode(elementName, elt, clone
                 // [NOCPP[
                 , errorHandler == null ? null : new TaintableLocatorImpl(tokenizer)
         // ]NOCPP]
@@ -5286,7 +5933,7 @@ public abstract class TreeBuilder<T> implements TokenHandler,
         if (ElementName.TEMPLATE == elementName) {
             elt = getDocumentFragmentForTemplate(elt);
         }
-        StackNode<T> node = new StackNode<T>(elementName, elt
+        StackNode<T> node = createStackNode(elementName, elt
                 // [NOCPP[
                 , errorHandler == null ? null : new TaintableLocatorImpl(tokenizer)
         // ]NOCPP]
@@ -5313,7 +5960,7 @@ public abstract class TreeBuilder<T> implements TokenHandler,
             elt = createElement("http://www.w3.org/1999/xhtml", popName, attributes, current.node);
             appendElement(elt, current.node);
         }
-        StackNode<T> node = new StackNode<T>(elementName, elt, popName
+        StackNode<T> node = createStackNode(elementName, elt, popName
                 // [NOCPP[
                 , errorHandler == null ? null : new TaintableLocatorImpl(tokenizer)
         // ]NOCPP]
@@ -5347,7 +5994,7 @@ public abstract class TreeBuilder<T> implements TokenHandler,
             elt  = createElement("http://www.w3.org/1998/Math/MathML", popName, attributes, current.node);
             appendElement(elt, current.node);
         }
-        StackNode<T> node = new StackNode<T>(elementName, elt, popName,
+        StackNode<T> node = createStackNode(elementName, elt, popName,
                 markAsHtmlIntegrationPoint
                 // [NOCPP[
                 , errorHandler == null ? null : new TaintableLocatorImpl(tokenizer)
@@ -5396,7 +6043,7 @@ public abstract class TreeBuilder<T> implements TokenHandler,
             elt = createElement("http://www.w3.org/2000/svg", popName, attributes, current.node);
             appendElement(elt, current.node);
         }
-        StackNode<T> node = new StackNode<T>(elementName, popName, elt
+        StackNode<T> node = createStackNode(elementName, popName, elt
                 // [NOCPP[
                 , errorHandler == null ? null : new TaintableLocatorImpl(tokenizer)
         // ]NOCPP]
@@ -5423,7 +6070,7 @@ public abstract class TreeBuilder<T> implements TokenHandler,
                     attributes, formOwner, current.node);
             appendElement(elt, current.node);
         }
-        StackNode<T> node = new StackNode<T>(elementName, elt
+        StackNode<T> node = createStackNode(elementName, elt
                 // [NOCPP[
                 , errorHandler == null ? null : new TaintableLocatorImpl(tokenizer)
         // ]NOCPP]
@@ -5554,10 +6201,68 @@ public abstract class TreeBuilder<T> implements TokenHandler,
 
     private final void accumulateCharactersForced(@Const @NoLength char[] buf,
             int start, int length) throws SAXException {
+        materializeCharView();
         System.arraycopy(buf, start, charBuffer, charBufferLen, length);
         charBufferLen += length;
     }
 
+    /**
+     * Accumulates characters as a view into the tokenizer's input buffer if
+     * they are in that buffer and nothing has been copied into
+     * <code>charBuffer</code> yet. The view is copied into
+     * <code>charBuffer</code> only if more characters that cannot extend it
+     * are accumulated or if the tokenizer is about to leave the buffer before
+     * the characters have been flushed.
+     * 
+     * @param buf
+     *            the buffer
+     * @param start
+     *            the offset of the run
+     * @param length
+     *            the length of the run
+     * @return <code>true</code> if the characters were accumulated and
+     *         <code>false</code> if the caller needs to copy them
+     */
+    protected final boolean accumulateCharView(char[] buf, int start,
+            int length) {
+        if (charBufferLen != 0 || buf != tokenizer.getCurrentBuffer()) {
+            return false;
+        }
+        if (charView == null) {
+            charView = buf;
+            charViewStart = start;
+            charViewLength = length;
+            return true;
+        }
+        if (charView == buf && charViewStart + charViewLength == start) {
+            charViewLength += length;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Copies the pending view of the input buffer, if any, into
+     * <code>charBuffer</code>.
+     */
+    protected final void materializeCharView() {
+        if (charView != null) {
+            System.arraycopy(charView, charViewStart, charBuffer,
+                    charBufferLen, charViewLength);
+            charBufferLen += charViewLength;
+            charView = null;
+        }
+    }
+
+    /**
+     * Called by the tokenizer before it returns from
+     * <code>tokenizeBuffer()</code>, after which the input buffer may be
+     * overwritten.
+     */
+    final void bufferConsumed() {
+        materializeCharView();
+    }
+
     @Override public void ensureBufferSpace(int inputLength)
             throws SAXException {
         // TODO: Unify Tokenizer.strBuf and TreeBuilder.charBuffer so that
@@ -5842,6 +6547,20 @@ public abstract class TreeBuilder<T> implements TokenHandler,
      * @throws SAXException
      */
     public final void flushCharacters() throws SAXException {
+        // [NOCPP[
+        if (charView != null) {
+            if (mode == IN_TABLE || mode == IN_TABLE_BODY || mode == IN_ROW) {
+                // May need foster parenting, which looks at charBuffer.
+                materializeCharView();
+            } else {
+                char[] view = charView;
+                charView = null;
+                appendCharacters(currentNode(), view, charViewStart,
+                        charViewLength);
+                return;
+            }
+        }
+        // ]NOCPP]
         if (charBufferLen > 0) {
             if ((mode == IN_TABLE || mode == IN_TABLE_BODY || mode == IN_ROW)
                     && charBufferContainsNonWhitespace()) {
@@ -5864,6 +6583,11 @@ public abstract class TreeBuilder<T> implements TokenHandler,
                     return;
                 }
 
+                // [NOCPP[
+                if (statistics != null) {
+                    statistics.countFosterParenting();
+                }
+                // ]NOCPP]
                 StackNode<T> tableElt = stack[tablePos];
                 insertFosterParentedCharacters(charBuffer, 0, charBufferLen,
                         tableElt.node, stack[tablePos - 1].node);
@@ -5902,11 +6626,13 @@ public abstract class TreeBuilder<T> implements TokenHandler,
      */
     @SuppressWarnings("unchecked") public TreeBuilderState<T> newSnapshot()
             throws SAXException {
+        compactListOfActiveFormattingElements();
         StackNode<T>[] listCopy = new StackNode[listPtr + 1];
         for (int i = 0; i < listCopy.length; i++) {
             StackNode<T> node = listOfActiveFormattingElements[i];
             if (node != null) {
-                StackNode<T> newNode = new StackNode<T>(node.getFlags(), node.ns,
+                StackNode<T> newNode = new StackNode<T>(-1);
+                newNode.setValues(node.getFlags(), node.ns,
                         node.name, node.node, node.popName,
                         node.attributes.cloneAttributes(null)
                         // [NOCPP[
@@ -5923,7 +6649,8 @@ public abstract class TreeBuilder<T> implements TokenHandler,
             StackNode<T> node = stack[i];
             int listIndex = findInListOfActiveFormattingElements(node);
             if (listIndex == -1) {
-                StackNode<T> newNode = new StackNode<T>(node.getFlags(), node.ns,
+                StackNode<T> newNode = new StackNode<T>(-1);
+                newNode.setValues(node.getFlags(), node.ns,
                         node.name, node.node, node.popName,
                         null
                         // [NOCPP[
@@ -5945,6 +6672,7 @@ public abstract class TreeBuilder<T> implements TokenHandler,
     }
 
     public boolean snapshotMatches(TreeBuilderState<T> snapshot) {
+        compactListOfActiveFormattingElements();
         StackNode<T>[] stackCopy = snapshot.getStack();
         int stackLen = snapshot.getStackLength();
         StackNode<T>[] listCopy = snapshot.getListOfActiveFormattingElements();
@@ -6003,16 +6731,17 @@ public abstract class TreeBuilder<T> implements TokenHandler,
 
         for (int i = 0; i <= listPtr; i++) {
             if (listOfActiveFormattingElements[i] != null) {
-                listOfActiveFormattingElements[i].release();
+                listOfActiveFormattingElements[i].release(this);
             }
         }
+        listHoleCount = 0;
         if (listOfActiveFormattingElements.length < listLen) {
             listOfActiveFormattingElements = new StackNode[listLen];
         }
         listPtr = listLen - 1;
 
         for (int i = 0; i <= currentPtr; i++) {
-            stack[i].release();
+            stack[i].release(this);
         }
         if (stack.length < stackLen) {
             stack = new StackNode[stackLen];
@@ -6024,10 +6753,14 @@ public abstract class TreeBuilder<T> implements TokenHandler,
         }
         templateModePtr = templateModeStackLen - 1;
 
+        // [NOCPP[
+        noahsArk.clear();
+        markerCount = 0;
+        // ]NOCPP]
         for (int i = 0; i < listLen; i++) {
             StackNode<T> node = listCopy[i];
             if (node != null) {
-                StackNode<T> newNode = new StackNode<T>(node.getFlags(), node.ns,
+                StackNode<T> newNode = createStackNode(node.getFlags(), node.ns,
                         Portability.newLocalFromLocal(node.name, interner), node.node,
                         Portability.newLocalFromLocal(node.popName, interner),
                         node.attributes.cloneAttributes(null)
@@ -6036,15 +6769,22 @@ public abstract class TreeBuilder<T> implements TokenHandler,
                 // ]NOCPP]
                 );
                 listOfActiveFormattingElements[i] = newNode;
+                newNode.listIdx = i;
+                // [NOCPP[
+                addToNoahsArk(newNode, markerCount);
+                // ]NOCPP]
             } else {
                 listOfActiveFormattingElements[i] = null;
+                // [NOCPP[
+                markerCount++;
+                // ]NOCPP]
             }
         }
         for (int i = 0; i < stackLen; i++) {
             StackNode<T> node = stackCopy[i];
             int listIndex = findInArray(node, listCopy);
             if (listIndex == -1) {
-                StackNode<T> newNode = new StackNode<T>(node.getFlags(), node.ns,
+                StackNode<T> newNode = createStackNode(node.getFlags(), node.ns,
                         Portability.newLocalFromLocal(node.name, interner), node.node,
                         Portability.newLocalFromLocal(node.popName, interner),
                         null
@@ -6057,6 +6797,7 @@ public abstract class TreeBuilder<T> implements TokenHandler,
                 stack[i] = listOfActiveFormattingElements[listIndex];
                 stack[i].retain();
             }
+            stack[i].stackIdx = i;
         }
         System.arraycopy(templateModeStackCopy, 0, templateModeStack, 0, templateModeStackLen);
         formPointer = snapshot.getFormPointer();
@@ -6107,6 +6848,7 @@ public abstract class TreeBuilder<T> implements TokenHandler,
      * @see nu.validator.htmlparser.impl.TreeBuilderState#getListOfActiveFormattingElements()
      */
     public StackNode<T>[] getListOfActiveFormattingElements() {
+        compactListOfActiveFormattingElements();
         return listOfActiveFormattingElements;
     }
 
@@ -6173,6 +6915,7 @@ public abstract class TreeBuilder<T> implements TokenHandler,
      * @see nu.validator.htmlparser.impl.TreeBuilderState#getListOfActiveFormattingElementsLength()
      */
     public int getListOfActiveFormattingElementsLength() {
+        compactListOfActiveFormattingElements();
         return listPtr + 1;
     }
 
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+package nu.validator.htmlparser.io;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The thread-safe machinery shared by the parser pools of the SAX, DOM and
+ * XOM front ends. Idle parsers are kept in a lock-free queue whose size is
+ * bounded. A parser is only taken back if its configuration fingerprint still
+ * matches the fingerprint of the parsers this pool creates, so callers that
+ * change the configuration of a parser they checked out do not affect later
+ * callers.
+ * 
+ * @version $Id$
+ * @param <P>
+ *            the front end type
+ */
+public abstract class AbstractParserPool<P extends ParserConfiguration> {
+
+    /**
+     * The default maximum number of idle parsers.
+     */
+    public static final int DEFAULT_MAX_SIZE = 64;
+
+    private final ConcurrentLinkedQueue<P> idleParsers = new ConcurrentLinkedQueue<P>();
+
+    /**
+     * The number of parsers in <code>idleParsers</code>. Tracked separately,
+     * because <code>ConcurrentLinkedQueue.size()</code> is not constant-time.
+     */
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    private final int maxSize;
+
+    /**
+     * The fingerprint of the configuration of the parsers created by this
+     * pool. Computed from the first parser created.
+     */
+    private volatile Object fingerprint;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private final AtomicLong discards = new AtomicLong();
+
+    /**
+     * Instantiates the pool.
+     * 
+     * @param maxSize
+     *            the maximum number of idle parsers to keep
+     */
+    protected AbstractParserPool(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Negative pool size.");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Checks out an idle parser or creates a new one if none is available.
+     * 
+     * @return a parser for the exclusive use of the caller until released
+     */
+    public P acquire() {
+        P parser = idleParsers.poll();
+        if (parser != null) {
+            idleCount.decrementAndGet();
+            hits.incrementAndGet();
+            return parser;
+        }
+        misses.incrementAndGet();
+        parser = newParser();
+        if (fingerprint == null) {
+            fingerprint = fingerprint(parser);
+        }
+        return parser;
+    }
+
+    /**
+     * Resets a parser and returns it to the pool. The parser is dropped if
+     * the pool is full or if its configuration no longer matches the
+     * configuration of the parsers created by this pool.
+     * 
+     * @param parser
+     *            a parser obtained from <code>acquire()</code> that is no
+     *            longer parsing
+     */
+    public void release(P parser) {
+        reset(parser);
+        if (!fingerprint(parser).equals(fingerprint)) {
+            discards.incrementAndGet();
+            return;
+        }
+        if (idleCount.incrementAndGet() > maxSize) {
+            idleCount.decrementAndGet();
+            discards.incrementAndGet();
+            return;
+        }
+        idleParsers.offer(parser);
+    }
+
+    /**
+     * Returns the number of checkouts that were served by an idle parser.
+     * 
+     * @return the number of hits
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the number of checkouts that required creating a parser.
+     * 
+     * @return the number of misses
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Returns the number of released parsers that were not kept, because the
+     * pool was full or because their configuration had been changed.
+     * 
+     * @return the number of discarded parsers
+     */
+    public long getDiscards() {
+        return discards.get();
+    }
+
+    /**
+     * Returns the number of idle parsers currently in the pool.
+     * 
+     * @return the number of idle parsers
+     */
+    public int getIdleCount() {
+        return idleCount.get();
+    }
+
+    /**
+     * Returns the maximum number of idle parsers kept.
+     * 
+     * @return the maximum size
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Creates a parser when no idle parser is available. Subclasses
+     * overriding this method to configure the parsers must configure every
+     * parser the same way.
+     * 
+     * @return a new parser
+     */
+    protected abstract P newParser();
+
+    /**
+     * Clears the per-use state of a parser that is being released.
+     * 
+     * @param parser
+     *            the parser
+     */
+    protected abstract void reset(P parser);
+
+    /**
+     * Computes a value that is equal for two parsers if and only if they
+     * are configured the same way. This implementation covers the settings
+     * in <code>ParserConfiguration</code>. Subclasses for front ends with
+     * further settings extend the fingerprint with those.
+     * 
+     * @param parser
+     *            the parser
+     * @return the fingerprint
+     */
+    protected Object fingerprint(P parser) {
+        return Arrays.asList(parser.getContentSpacePolicy(),
+                parser.getContentNonXmlCharPolicy(),
+                parser.getCommentPolicy(), parser.getNamePolicy(),
+                parser.getXmlnsPolicy(),
+                parser.getStreamabilityViolationPolicy(),
+                parser.getHeuristics(), parser.isScriptingEnabled(),
+                parser.getDoctypeExpectation(),
+                parser.isCheckingNormalization(),
+                parser.isHtml4ModeCompatibleWithXhtml1Schemata(),
+                parser.isMappingLangToXmlLang(), parser.isReportingDoctype(),
+                parser.getInputBufferSize(), parser.isAdaptiveInputBuffer(),
+                parser.getInterner(), parser.getAttributeValueCache(),
+                parser.getSpeculativeExecutor(),
+                parser.getSpeculativeChunkSize(), parser.getParserMetrics());
+    }
+}
@@ -0,0 +1,371 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+package nu.validator.htmlparser.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+import nu.validator.htmlparser.common.ByteReadable;
+import nu.validator.htmlparser.common.Heuristics;
+import nu.validator.htmlparser.common.ParseStatistics.EncodingSource;
+import nu.validator.htmlparser.extra.ChardetSniffer;
+import nu.validator.htmlparser.extra.IcuDetectorSniffer;
+import nu.validator.htmlparser.impl.Tokenizer;
+
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.Locator;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+
+/**
+ * The counterpart of <code>HtmlInputStreamReader</code> for input that is
+ * already in memory. Sniffs and decodes straight from a <code>ByteBuffer</code>
+ * (heap or direct) into the driver's buffer without copying the bytes first.
+ * Since all the bytes remain available, starting over with another encoding
+ * is just a reposition.
+ * 
+ * @version $Id$
+ */
+final class ByteBufferDecoder implements ByteReadable, Locator {
+
+    private static final int SNIFFING_LIMIT = 1024;
+
+    /**
+     * A private view of the caller's buffer.
+     */
+    private final ByteBuffer bytes;
+
+    /**
+     * The position of the first byte of input in <code>bytes</code>.
+     */
+    private final int start;
+
+    /**
+     * The position after the last byte of input in <code>bytes</code>.
+     */
+    private final int end;
+
+    private final ErrorHandler errorHandler;
+
+    private final Tokenizer tokenizer;
+
+    private final Driver driver;
+
+    private CharsetDecoder decoder = null;
+
+    private int sniffingPosition;
+
+    private boolean needToNotifyTokenizer = false;
+
+    private boolean charsetBoundaryPassed = false;
+
+    private boolean flushing = false;
+
+    private boolean hasPendingReplacementCharacter = false;
+
+    private int line = -1;
+
+    private int col = -1;
+
+    private int lineColPos;
+
+    private boolean nextCharOnNewLine;
+
+    private boolean prevWasCR;
+
+    /**
+     * @param bytes
+     *            the input from its position to its limit; the position and
+     *            the limit of the buffer are left untouched
+     * @param errorHandler
+     *            the error handler or <code>null</code>
+     * @param tokenizer
+     *            the tokenizer for line and column tracking
+     * @param driver
+     *            the driver to notify about the encoding and the meta
+     *            boundary
+     */
+    ByteBufferDecoder(ByteBuffer bytes, ErrorHandler errorHandler,
+            Tokenizer tokenizer, Driver driver) {
+        this.bytes = bytes.duplicate();
+        this.start = this.bytes.position();
+        this.end = this.bytes.limit();
+        this.errorHandler = errorHandler;
+        this.tokenizer = tokenizer;
+        this.driver = driver;
+    }
+
+    /**
+     * Runs the BOM sniffing, the meta prescan and the optional heuristics on
+     * the first bytes, reports the result to the driver and prepares for
+     * decoding from the start of the input.
+     * 
+     * @param heuristics
+     *            the heuristics to use when there is no BOM or meta
+     * @throws SAXException
+     * @throws IOException
+     */
+    void sniff(Heuristics heuristics) throws SAXException, IOException {
+        sniffingPosition = start;
+        Encoding encoding = (new BomSniffer(this)).sniff();
+        EncodingSource source = EncodingSource.BOM;
+        if (encoding == null) {
+            sniffingPosition = start;
+            encoding = (new MetaSniffer(errorHandler, this)).sniff(this);
+            boolean declared = true;
+            source = EncodingSource.PRESCAN;
+            if (encoding == null) {
+                declared = false;
+                source = EncodingSource.HEURISTICS;
+            } else if (encoding != Encoding.UTF8) {
+                warn("Legacy encoding \u201C" + encoding.getCanonName()
+                        + "\u201D used. Documents should use UTF-8.");
+            }
+            if (encoding == null
+                    && (heuristics == Heuristics.CHARDET || heuristics == Heuristics.ALL)) {
+                int length = sniffingLimit() - start;
+                byte[] head = new byte[length];
+                ByteBuffer view = bytes.duplicate();
+                view.limit(start + length);
+                view.get(head);
+                encoding = (new ChardetSniffer(head, length)).sniff();
+            }
+            if (encoding == null
+                    && (heuristics == Heuristics.ICU || heuristics == Heuristics.ALL)) {
+                sniffingPosition = start;
+                encoding = (new IcuDetectorSniffer(this)).sniff();
+            }
+            if (encoding == null) {
+                encoding = Encoding.WINDOWS1252;
+                source = EncodingSource.DEFAULT;
+            }
+            if (!declared) {
+                err("The character encoding was not declared. Proceeding using \u201C"
+                        + encoding.getCanonName() + "\u201D.");
+            }
+            driver.setEncoding(encoding, Confidence.TENTATIVE);
+        } else {
+            if (encoding == Encoding.UTF8) {
+                driver.setEncoding(Encoding.UTF8, Confidence.CERTAIN);
+            } else {
+                warn("Legacy encoding \u201C" + encoding.getCanonName()
+                        + "\u201D used. Documents should use UTF-8.");
+                driver.setEncoding(Encoding.UTF16, Confidence.CERTAIN);
+            }
+        }
+        driver.recordEncodingSource(source);
+        start(encoding);
+    }
+
+    /**
+     * Prepares for decoding from the start of the input. Called again when
+     * the driver reparses with another encoding.
+     * 
+     * @param encoding
+     *            the encoding
+     */
+    void start(Encoding encoding) {
+        decoder = encoding.newDecoder();
+        decoder.onMalformedInput(CodingErrorAction.REPORT);
+        decoder.onUnmappableCharacter(CodingErrorAction.REPORT);
+        driver.recordDecoder(decoder);
+        bytes.limit(sniffingLimit());
+        bytes.position(start);
+        needToNotifyTokenizer = false;
+        charsetBoundaryPassed = false;
+        flushing = false;
+        hasPendingReplacementCharacter = false;
+    }
+
+    private int sniffingLimit() {
+        return end - start > SNIFFING_LIMIT ? start + SNIFFING_LIMIT : end;
+    }
+
+    /**
+     * Decodes the next chunk of input.
+     * 
+     * @param charArray
+     *            the buffer to fill
+     * @return the number of UTF-16 code units written or -1 at the end of
+     *         the input
+     * @throws SAXException
+     *             if the error handler threw
+     */
+    int read(char[] charArray) throws SAXException {
+        lineColPos = 0;
+        if (needToNotifyTokenizer) {
+            driver.notifyAboutMetaBoundary();
+            needToNotifyTokenizer = false;
+        }
+        CharBuffer charBuffer = CharBuffer.wrap(charArray);
+        if (flushing) {
+            decoder.flush(charBuffer);
+            int cPos = charBuffer.position();
+            return cPos == 0 ? -1 : cPos;
+        }
+        if (hasPendingReplacementCharacter) {
+            charBuffer.put('\uFFFD');
+            hasPendingReplacementCharacter = false;
+        }
+        boolean finalDecode = false;
+        for (;;) {
+            int oldBytePos = bytes.position();
+            CoderResult cr = decoder.decode(bytes, charBuffer, finalDecode);
+            driver.countBytesDecoded(bytes.position() - oldBytePos);
+            if (cr == CoderResult.OVERFLOW) {
+                // Decoder will remember surrogates
+                return charBuffer.position();
+            } else if (cr == CoderResult.UNDERFLOW) {
+                int cPos = charBuffer.position();
+                if (!charsetBoundaryPassed
+                        && bytes.limit() - start == SNIFFING_LIMIT) {
+                    // All of the first SNIFFING_LIMIT bytes have been seen.
+                    // Let the tokenizer know before decoding further.
+                    needToNotifyTokenizer = true;
+                    charsetBoundaryPassed = true;
+                    bytes.limit(end);
+                    if (cPos != 0) {
+                        return cPos;
+                    }
+                } else if (flushing) {
+                    return cPos == 0 ? -1 : cPos;
+                } else {
+                    // All bytes are in view. Whatever is left isn't something
+                    // that would be consumed in the middle of the stream.
+                    // Rerun once in the final mode.
+                    finalDecode = true;
+                    flushing = true;
+                }
+            } else {
+                // The result is in error. No need to test.
+                StringBuilder sb = new StringBuilder();
+                for (int i = 0; i < cr.length(); i++) {
+                    if (i > 0) {
+                        sb.append(", ");
+                    }
+                    sb.append('\u201C');
+                    sb.append(Integer.toHexString(bytes.get() & 0xFF));
+                    sb.append('\u201D');
+                }
+                if (charBuffer.hasRemaining()) {
+                    charBuffer.put('\uFFFD');
+                } else {
+                    hasPendingReplacementCharacter = true;
+                }
+                calculateLineAndCol(charBuffer);
+                if (cr.isMalformed()) {
+                    err("Malformed byte sequence: " + sb + ".");
+                } else if (cr.isUnmappable()) {
+                    err("Unmappable byte sequence: " + sb + ".");
+                } else {
+                    throw new RuntimeException(
+                            "CoderResult was none of overflow, underflow, malformed or unmappable.");
+                }
+                if (finalDecode) {
+                    // These were the last bytes of input. Return without
+                    // relooping.
+                    int cPos = charBuffer.position();
+                    return cPos == 0 ? -1 : cPos;
+                }
+            }
+        }
+    }
+
+    private void calculateLineAndCol(CharBuffer charBuffer) {
+        if (lineColPos == 0) {
+            line = tokenizer.getLine();
+            col = tokenizer.getCol();
+            nextCharOnNewLine = tokenizer.isNextCharOnNewLine();
+            prevWasCR = tokenizer.isPrevCR();
+        }
+        char[] charArray = charBuffer.array();
+        int i = lineColPos;
+        while (i < charBuffer.position()) {
+            if (nextCharOnNewLine) {
+                line++;
+                col = 1;
+                nextCharOnNewLine = false;
+            } else {
+                col++;
+            }
+            switch (charArray[i]) {
+                case '\r':
+                    nextCharOnNewLine = true;
+                    prevWasCR = true;
+                    break;
+                case '\n':
+                    if (prevWasCR) {
+                        col--;
+                    } else {
+                        nextCharOnNewLine = true;
+                    }
+                    break;
+            }
+            i++;
+        }
+        lineColPos = i;
+    }
+
+    /**
+     * @see nu.validator.htmlparser.common.ByteReadable#readByte()
+     */
+    public int readByte() {
+        if (sniffingPosition == sniffingLimit()) {
+            return -1;
+        }
+        return bytes.get(sniffingPosition++) & 0xFF;
+    }
+
+    public int getColumnNumber() {
+        return col;
+    }
+
+    public int getLineNumber() {
+        return line;
+    }
+
+    public String getPublicId() {
+        return tokenizer.getPublicId();
+    }
+
+    public String getSystemId() {
+        return tokenizer.getSystemId();
+    }
+
+    private void err(String message) throws SAXException {
+        if (errorHandler != null) {
+            SAXParseException spe = new SAXParseException(message, this);
+            errorHandler.error(spe);
+        }
+    }
+
+    private void warn(String message) throws SAXException {
+        if (errorHandler != null) {
+            SAXParseException spe = new SAXParseException(message, this);
+            errorHandler.warning(spe);
+        }
+    }
+}
@@ -23,17 +23,31 @@
 
 package nu.validator.htmlparser.io;
 
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
 import java.nio.charset.UnsupportedCharsetException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import nu.validator.htmlparser.common.CharacterHandler;
 import nu.validator.htmlparser.common.EncodingDeclarationHandler;
 import nu.validator.htmlparser.common.Heuristics;
+import nu.validator.htmlparser.common.Interner;
+import nu.validator.htmlparser.common.ParseStatistics;
+import nu.validator.htmlparser.common.ParseStatistics.EncodingSource;
+import nu.validator.htmlparser.common.ParserMetrics;
 import nu.validator.htmlparser.common.TransitionHandler;
 import nu.validator.htmlparser.common.XmlViolationPolicy;
 import nu.validator.htmlparser.extra.NormalizationChecker;
+import nu.validator.htmlparser.impl.AttributeValueCache;
+import nu.validator.htmlparser.impl.CachingInterner;
 import nu.validator.htmlparser.impl.ErrorReportingTokenizer;
 import nu.validator.htmlparser.impl.Tokenizer;
 import nu.validator.htmlparser.impl.UTF16Buffer;
@@ -59,6 +73,12 @@ public class Driver implements EncodingDeclarationHandler {
      */
     private RewindableInputStream rewindableInputStream;
 
+    /**
+     * The decoder for in-memory input. <code>null</code> when reading from
+     * <code>reader</code>.
+     */
+    private ByteBufferDecoder byteDecoder;
+
     private boolean swallowBom;
 
     private Encoding characterEncoding;
@@ -77,6 +97,79 @@ public class Driver implements EncodingDeclarationHandler {
      */
     private CharacterHandler[] characterHandlers = new CharacterHandler[0];
 
+    /**
+     * The default size of the UTF-16 read buffer.
+     */
+    public static final int DEFAULT_INPUT_BUFFER_SIZE = 2048;
+
+    /**
+     * The size up to which the read buffer grows in the adaptive mode. Kept
+     * small enough for the tokenizer and tree builder buffers that grow with
+     * the chunk size to remain reusable across documents.
+     */
+    public static final int MAX_ADAPTIVE_INPUT_BUFFER_SIZE = 32768;
+
+    private int inputBufferSize = DEFAULT_INPUT_BUFFER_SIZE;
+
+    private boolean adaptiveInputBuffer = false;
+
+    /**
+     * The UTF-16 read buffer. Kept across documents so that reusing a driver
+     * does not reallocate it.
+     */
+    private char[] buffer = new char[DEFAULT_INPUT_BUFFER_SIZE];
+
+    /**
+     * The view of <code>buffer</code> handed to the tokenizer.
+     */
+    private UTF16Buffer bufr = new UTF16Buffer(buffer, 0, 0);
+
+    /**
+     * Whether the previous read filled <code>buffer</code>.
+     */
+    private boolean previousReadFilledBuffer;
+
+    /**
+     * The default number of UTF-16 code units after which the input is split
+     * for speculative tokenization.
+     */
+    public static final int DEFAULT_SPECULATIVE_CHUNK_SIZE = 256 * 1024;
+
+    private ExecutorService speculativeExecutor;
+
+    private int speculativeChunkSize = DEFAULT_SPECULATIVE_CHUNK_SIZE;
+
+    /*
+     * The tokenizer configuration that speculative tokenizers need to copy.
+     * The policies are null until set.
+     */
+
+    private XmlViolationPolicy commentPolicy;
+
+    private XmlViolationPolicy contentNonXmlCharPolicy;
+
+    private XmlViolationPolicy contentSpacePolicy;
+
+    private XmlViolationPolicy namePolicy;
+
+    private XmlViolationPolicy xmlnsPolicy;
+
+    private boolean html4ModeCompatibleWithXhtml1Schemata;
+
+    private boolean mappingLangToXmlLang;
+
+    private Interner interner;
+
+    private boolean hasTransitionHandler;
+
+    private ParserMetrics parserMetrics;
+
+    /**
+     * The statistics of the current parse. <code>null</code> when no
+     * metrics are set.
+     */
+    private ParseStatistics statistics;
+
     public Driver(Tokenizer tokenizer) {
         this.tokenizer = tokenizer;
         tokenizer.setEncodingDeclarationHandler(this);
@@ -176,10 +269,12 @@ public class Driver implements EncodingDeclarationHandler {
         if (is == null) {
             throw new IllegalArgumentException("InputSource was null.");
         }
+        startStatistics();
         tokenizer.start();
         confidence = Confidence.TENTATIVE;
         swallowBom = true;
         rewindableInputStream = null;
+        byteDecoder = null;
         tokenizer.initLocation(is.getPublicId(), is.getSystemId());
         this.reader = is.getCharacterStream();
         this.characterEncoding = encodingFromExternalDeclaration(is.getEncoding());
@@ -201,13 +296,117 @@ public class Driver implements EncodingDeclarationHandler {
                             + this.characterEncoding.getCanonName()
                             + "\u201D used. Documents should use UTF-8.");
                 }
+                recordEncodingSource(EncodingSource.TRANSPORT);
                 becomeConfident();
                 this.reader = new HtmlInputStreamReader(inputStream,
                         tokenizer.getErrorHandler(), tokenizer, this, this.characterEncoding);
             }
         } else {
+            recordEncodingSource(EncodingSource.CHARACTER_STREAM);
             becomeConfident();
         }
+        run();
+    }
+
+    /**
+     * Runs the tokenization on bytes that are already in memory. The bytes
+     * are sniffed and decoded straight from the buffer without going
+     * through a <code>Reader</code> and, if the encoding changes, reparsed
+     * without rewinding a stream.
+     * 
+     * @param bytes
+     *            the input from the position of the buffer to its limit;
+     *            the position and the limit are left untouched
+     * @param encoding
+     *            the encoding label from the transport layer or
+     *            <code>null</code> to sniff
+     * @param publicId
+     *            the public id for locators or <code>null</code>
+     * @param systemId
+     *            the system id for locators or <code>null</code>
+     * @throws SAXException
+     *             on fatal error (if configured to treat XML violations as
+     *             fatal) or if the token handler threw
+     * @throws IOException
+     *             if a character handler threw
+     */
+    public void tokenize(ByteBuffer bytes, String encoding, String publicId,
+            String systemId) throws SAXException, IOException {
+        if (bytes == null) {
+            throw new IllegalArgumentException("ByteBuffer was null.");
+        }
+        startStatistics();
+        tokenizer.start();
+        confidence = Confidence.TENTATIVE;
+        swallowBom = true;
+        rewindableInputStream = null;
+        tokenizer.initLocation(publicId, systemId);
+        this.characterEncoding = encodingFromExternalDeclaration(encoding);
+        this.byteDecoder = new ByteBufferDecoder(bytes,
+                tokenizer.getErrorHandler(), tokenizer, this);
+        if (this.characterEncoding == null) {
+            byteDecoder.sniff(heuristics);
+        } else {
+            if (this.characterEncoding != Encoding.UTF8) {
+                warnWithoutLocation("Legacy encoding \u201C"
+                        + this.characterEncoding.getCanonName()
+                        + "\u201D used. Documents should use UTF-8.");
+            }
+            recordEncodingSource(EncodingSource.TRANSPORT);
+            becomeConfident();
+            byteDecoder.start(this.characterEncoding);
+        }
+        run();
+    }
+
+    /**
+     * Runs the tokenization on a file by mapping it into memory. The mapped
+     * bytes are sniffed and decoded like in-memory input, so no stream
+     * copies are made and reparsing with another encoding is a reposition.
+     * 
+     * @param file
+     *            the file, which must not be larger than 2 GB
+     * @param encoding
+     *            the encoding label from the transport layer or
+     *            <code>null</code> to sniff
+     * @throws SAXException
+     *             on fatal error (if configured to treat XML violations as
+     *             fatal) or if the token handler threw
+     * @throws IOException
+     *             if the file could not be mapped
+     */
+    public void tokenize(File file, String encoding) throws SAXException,
+            IOException {
+        FileInputStream in = new FileInputStream(file);
+        ByteBuffer bytes;
+        try {
+            FileChannel channel = in.getChannel();
+            // The mapping stays valid after the channel has been closed.
+            bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                    channel.size());
+        } finally {
+            in.close();
+        }
+        tokenize(bytes, encoding, null, file.toURI().toASCIIString());
+    }
+
+    /**
+     * Starts collecting statistics for a parse if metrics are set. Must be
+     * called before starting the tokenizer.
+     */
+    private void startStatistics() {
+        if (parserMetrics == null) {
+            statistics = null;
+        } else {
+            statistics = new ParseStatistics();
+        }
+        tokenizer.setStatistics(statistics);
+    }
+
+    private void run() throws SAXException, IOException {
+        if (statistics != null) {
+            statistics.recordSniffingDone();
+        }
         Throwable t = null;
         try {
             for (;;) {
@@ -219,7 +418,14 @@ public class Driver implements EncodingDeclarationHandler {
                     runStates();
                     break;
                 } catch (ReparseException e) {
-                    if (rewindableInputStream == null) {
+                    if (statistics != null) {
+                        statistics.countReparse();
+                        statistics.recordEncodingSource(EncodingSource.DECLARATION);
+                    }
+                    if (byteDecoder != null && allowRewinding) {
+                        becomeConfident();
+                        byteDecoder.start(this.characterEncoding);
+                    } else if (rewindableInputStream == null) {
                         throw new ChangingEncodingException(
                                 tokenizer.getErrorHandler(), tokenizer);
                     } else {
@@ -236,15 +442,32 @@ public class Driver implements EncodingDeclarationHandler {
             t = tr;
         } finally {
             try {
+                if (statistics != null) {
+                    statistics.recordParsingDone();
+                }
                 tokenizer.end();
+                if (statistics != null && characterEncoding != null
+                        && statistics.getDecoder() != null) {
+                    statistics.recordEncoding(characterEncoding.getCanonName());
+                }
                 characterEncoding = null;
                 for (int i = 0; i < characterHandlers.length; i++) {
                     CharacterHandler ch = characterHandlers[i];
                     ch.end();
                 }
-                reader.close();
-                reader = null;
+                if (reader != null) {
+                    reader.close();
+                    reader = null;
+                }
+                byteDecoder = null;
                 rewindableInputStream = null;
+                if (statistics != null) {
+                    ParseStatistics done = statistics;
+                    statistics = null;
+                    tokenizer.setStatistics(null);
+                    done.recordFinishingDone();
+                    parserMetrics.parsed(done);
+                }
             } catch (Throwable tr) {
                 if (t == null) {
                     t = tr;
@@ -272,11 +495,20 @@ public class Driver implements EncodingDeclarationHandler {
     }
 
     private void runStates() throws SAXException, IOException {
-        char[] buffer = new char[2048];
-        UTF16Buffer bufr = new UTF16Buffer(buffer, 0, 0);
+        if (speculativeExecutor != null && confidence == Confidence.CERTAIN
+                && tokenizer.getErrorHandler() == null && !hasTransitionHandler
+                && !(tokenizer instanceof ErrorReportingTokenizer)) {
+            runSpeculatively();
+            return;
+        }
+        if (buffer.length < inputBufferSize
+                || (!adaptiveInputBuffer && buffer.length != inputBufferSize)) {
+            setBuffer(new char[inputBufferSize]);
+        }
+        previousReadFilledBuffer = false;
         boolean lastWasCR = false;
         int len = -1;
-        if ((len = reader.read(buffer)) != -1) {
+        if ((len = read()) != -1) {
             assert len > 0;
             int streamOffset = 0;
             int offset = 0;
@@ -305,7 +537,7 @@ public class Driver implements EncodingDeclarationHandler {
                 }
             }
             streamOffset = length;
-            while ((len = reader.read(buffer)) != -1) {
+            while ((len = read()) != -1) {
                 assert len > 0;
                 for (int i = 0; i < characterHandlers.length; i++) {
                     CharacterHandler ch = characterHandlers[i];
@@ -327,6 +559,167 @@ public class Driver implements EncodingDeclarationHandler {
         tokenizer.eof();
     }
 
+    /**
+     * Reads the whole input, tokenizes the first chunk while the other chunks
+     * are tokenized speculatively on the executor and then, chunk by chunk,
+     * replays the speculative tokens if the tokenizer is in the data state at
+     * the start of the chunk and the recording is usable, or else tokenizes
+     * the chunk again.
+     */
+    private void runSpeculatively() throws SAXException, IOException {
+        previousReadFilledBuffer = false;
+        char[] input = new char[Math.max(buffer.length, speculativeChunkSize)];
+        int length = 0;
+        int len;
+        while ((len = read()) != -1) {
+            if (length + len > input.length) {
+                char[] newInput = new char[Math.max(length + len,
+                        input.length << 1)];
+                System.arraycopy(input, 0, newInput, 0, length);
+                input = newInput;
+            }
+            System.arraycopy(buffer, 0, input, length, len);
+            length += len;
+        }
+        int offset = 0;
+        if (swallowBom && length > 0 && input[0] == '\uFEFF') {
+            offset = 1;
+        }
+        if (length > offset) {
+            for (int i = 0; i < characterHandlers.length; i++) {
+                CharacterHandler ch = characterHandlers[i];
+                ch.characters(input, offset, length - offset);
+            }
+        }
+        int[] bounds = new int[length / speculativeChunkSize + 2];
+        int chunks = 0;
+        int start = offset;
+        bounds[0] = start;
+        while (length - start > speculativeChunkSize * 2) {
+            int gt = start + speculativeChunkSize;
+            while (gt < length && input[gt] != '>') {
+                gt++;
+            }
+            if (length - gt <= speculativeChunkSize) {
+                break;
+            }
+            start = gt + 1;
+            bounds[++chunks] = start;
+        }
+        bounds[++chunks] = length;
+        Future<?>[] futures = new Future<?>[chunks];
+        try {
+            if (chunks > 1) {
+                boolean wantsComments = tokenizer.getTokenHandler().wantsComments();
+                for (int i = 1; i < chunks; i++) {
+                    futures[i] = speculativeExecutor.submit(new TokenRecorder(
+                            this, input, bounds[i], bounds[i + 1],
+                            wantsComments, statistics != null));
+                }
+            }
+            tokenizeRange(input, bounds[0], bounds[1]);
+            for (int i = 1; i < chunks; i++) {
+                TokenRecorder recorder = null;
+                if (tokenizer.isInDataState()) {
+                    try {
+                        recorder = (TokenRecorder) futures[i].get();
+                    } catch (ExecutionException e) {
+                        // Tokenize for real.
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                } else {
+                    futures[i].cancel(false);
+                }
+                futures[i] = null;
+                if (recorder != null && recorder.isUsable()) {
+                    recorder.replay(tokenizer);
+                    if (statistics != null) {
+                        recorder.countCharacterReferences(statistics);
+                    }
+                } else {
+                    tokenizeRange(input, bounds[i], bounds[i + 1]);
+                }
+            }
+        } finally {
+            for (int i = 1; i < chunks; i++) {
+                if (futures[i] != null) {
+                    futures[i].cancel(false);
+                }
+            }
+        }
+        tokenizer.eof();
+    }
+
+    private void tokenizeRange(char[] input, int start, int end)
+            throws SAXException {
+        UTF16Buffer range = new UTF16Buffer(input, start, end);
+        boolean lastWasCR = false;
+        while (range.hasMore()) {
+            range.adjust(lastWasCR);
+            lastWasCR = false;
+            if (range.hasMore()) {
+                lastWasCR = tokenizer.tokenizeBuffer(range);
+            }
+        }
+    }
+
+    /**
+     * Applies the configuration of the tokenizer of this driver to a
+     * tokenizer used for speculative tokenization. The attribute value cache
+     * is not shared, since it is not thread-safe. Neither is the interner,
+     * since a caller-supplied one need not be thread-safe. The shared
+     * <code>CachingInterner</code> is, and it returns the same canonical
+     * strings as any other interner.
+     * 
+     * @param speculative
+     *            the speculative tokenizer
+     */
+    void configureSpeculativeTokenizer(Tokenizer speculative) {
+        if (commentPolicy != null) {
+            speculative.setCommentPolicy(commentPolicy);
+        }
+        if (contentNonXmlCharPolicy != null) {
+            speculative.setContentNonXmlCharPolicy(contentNonXmlCharPolicy);
+        }
+        if (contentSpacePolicy != null) {
+            speculative.setContentSpacePolicy(contentSpacePolicy);
+        }
+        if (namePolicy != null) {
+            speculative.setNamePolicy(namePolicy);
+        }
+        if (xmlnsPolicy != null) {
+            speculative.setXmlnsPolicy(xmlnsPolicy);
+        }
+        speculative.setHtml4ModeCompatibleWithXhtml1Schemata(html4ModeCompatibleWithXhtml1Schemata);
+        speculative.setMappingLangToXmlLang(mappingLangToXmlLang);
+        speculative.setInterner(CachingInterner.getSharedInstance());
+    }
+
+    private int read() throws SAXException, IOException {
+        if (previousReadFilledBuffer && adaptiveInputBuffer
+                && buffer.length < MAX_ADAPTIVE_INPUT_BUFFER_SIZE) {
+            // The source keeps up with the buffer, so fewer larger chunks
+            // mean fewer trips through the tokenizer's state loop. The
+            // previous chunk has been consumed completely at this point.
+            setBuffer(new char[Math.min(buffer.length * 2,
+                    MAX_ADAPTIVE_INPUT_BUFFER_SIZE)]);
+        }
+        int len;
+        if (byteDecoder != null) {
+            len = byteDecoder.read(buffer);
+        } else {
+            len = reader.read(buffer);
+        }
+        previousReadFilledBuffer = (len == buffer.length);
+        return len;
+    }
+
+    private void setBuffer(char[] newBuffer) {
+        buffer = newBuffer;
+        bufr = new UTF16Buffer(buffer, 0, 0);
+    }
+
     public void setEncoding(Encoding encoding, Confidence confidence) {
         this.characterEncoding = encoding;
         if (confidence == Confidence.CERTAIN) {
@@ -506,11 +899,30 @@ public class Driver implements EncodingDeclarationHandler {
         tokenizer.notifyAboutMetaBoundary();
     }
 
+    void recordEncodingSource(EncodingSource source) {
+        if (statistics != null) {
+            statistics.recordEncodingSource(source);
+        }
+    }
+
+    void recordDecoder(CharsetDecoder decoder) {
+        if (statistics != null) {
+            statistics.recordDecoder(decoder.getClass().getName());
+        }
+    }
+
+    void countBytesDecoded(int count) {
+        if (statistics != null) {
+            statistics.countBytesDecoded(count);
+        }
+    }
+
     /**
      * @param commentPolicy
      * @see nu.validator.htmlparser.impl.Tokenizer#setCommentPolicy(nu.validator.htmlparser.common.XmlViolationPolicy)
      */
     public void setCommentPolicy(XmlViolationPolicy commentPolicy) {
+        this.commentPolicy = commentPolicy;
         tokenizer.setCommentPolicy(commentPolicy);
     }
 
@@ -520,6 +932,7 @@ public class Driver implements EncodingDeclarationHandler {
      */
     public void setContentNonXmlCharPolicy(
             XmlViolationPolicy contentNonXmlCharPolicy) {
+        this.contentNonXmlCharPolicy = contentNonXmlCharPolicy;
         tokenizer.setContentNonXmlCharPolicy(contentNonXmlCharPolicy);
     }
 
@@ -528,6 +941,7 @@ public class Driver implements EncodingDeclarationHandler {
      * @see nu.validator.htmlparser.impl.Tokenizer#setContentSpacePolicy(nu.validator.htmlparser.common.XmlViolationPolicy)
      */
     public void setContentSpacePolicy(XmlViolationPolicy contentSpacePolicy) {
+        this.contentSpacePolicy = contentSpacePolicy;
         tokenizer.setContentSpacePolicy(contentSpacePolicy);
     }
 
@@ -546,7 +960,171 @@ public class Driver implements EncodingDeclarationHandler {
         }
     }
     
+    /**
+     * Sets the size of the buffer that input is decoded into and handed to
+     * the tokenizer in. In the adaptive mode, this is the initial size.
+     * 
+     * @param inputBufferSize
+     *            the size in UTF-16 code units, at least 2
+     */
+    public void setInputBufferSize(int inputBufferSize) {
+        if (inputBufferSize < 2) {
+            throw new IllegalArgumentException(
+                    "The input buffer size must be at least 2.");
+        }
+        this.inputBufferSize = inputBufferSize;
+    }
+
+    /**
+     * Returns the input buffer size.
+     * 
+     * @return the input buffer size
+     */
+    public int getInputBufferSize() {
+        return inputBufferSize;
+    }
+
+    /**
+     * Sets whether the input buffer doubles in size (up to
+     * <code>MAX_ADAPTIVE_INPUT_BUFFER_SIZE</code>) whenever the source fills
+     * it completely.
+     * 
+     * @param adaptiveInputBuffer
+     *            <code>true</code> to grow the buffer
+     */
+    public void setAdaptiveInputBuffer(boolean adaptiveInputBuffer) {
+        this.adaptiveInputBuffer = adaptiveInputBuffer;
+    }
+
+    /**
+     * Sets the executor for the experimental speculative tokenization of
+     * large documents. The decoded input is split after a <code>&gt;</code>
+     * roughly every <code>getSpeculativeChunkSize()</code> code units, the
+     * chunks are tokenized concurrently assuming that they start in the data
+     * state and the tokens are fed to the tree builder in order. A chunk is
+     * tokenized again if the assumption turns out wrong or if it contains a
+     * token in response to which the tree builder changes the tokenizer
+     * state, so the result is the same as without speculation.
+     * 
+     * <p>Speculation is only used when the encoding is certain (character
+     * input or an encoding from the transport layer) and when neither an
+     * error handler nor a transition handler is set. The line numbers of the
+     * document locator in replayed chunks are restored from the recording.
+     * Speculation is not used when the tokenizer tracks columns as well
+     * (that is, when an <code>ErrorReportingTokenizer</code> is in use
+     * because of the content non-XML character policy or an error handler
+     * set earlier), since the column state cannot be restored. The speculative
+     * tokenizers use the shared <code>CachingInterner</code> rather than
+     * the interner set with <code>setInterner()</code>, so only the parsing
+     * thread calls the latter.
+     * 
+     * @param speculativeExecutor
+     *            the executor or <code>null</code> to tokenize sequentially
+     */
+    public void setSpeculativeExecutor(ExecutorService speculativeExecutor) {
+        this.speculativeExecutor = speculativeExecutor;
+    }
+
+    /**
+     * Returns the executor for speculative tokenization.
+     * 
+     * @return the executor or <code>null</code>
+     */
+    public ExecutorService getSpeculativeExecutor() {
+        return speculativeExecutor;
+    }
+
+    /**
+     * Sets the minimum chunk size for speculative tokenization. Inputs
+     * shorter than twice this size are tokenized sequentially.
+     * 
+     * @param speculativeChunkSize
+     *            the size in UTF-16 code units, at least 1
+     */
+    public void setSpeculativeChunkSize(int speculativeChunkSize) {
+        if (speculativeChunkSize < 1) {
+            throw new IllegalArgumentException(
+                    "The speculative chunk size must be positive.");
+        }
+        this.speculativeChunkSize = speculativeChunkSize;
+    }
+
+    /**
+     * Returns the minimum chunk size for speculative tokenization.
+     * 
+     * @return the size in UTF-16 code units
+     */
+    public int getSpeculativeChunkSize() {
+        return speculativeChunkSize;
+    }
+
+    /**
+     * Indicates whether the input buffer grows.
+     * 
+     * @return <code>true</code> if the input buffer grows
+     */
+    public boolean isAdaptiveInputBuffer() {
+        return adaptiveInputBuffer;
+    }
+
+    /**
+     * Sets the interner for local names that are not in the static tables.
+     * 
+     * @param interner
+     *            the interner or <code>null</code> for the shared
+     *            <code>CachingInterner</code>
+     * @see nu.validator.htmlparser.impl.Tokenizer#setInterner(Interner)
+     */
+    public void setInterner(Interner interner) {
+        this.interner = interner;
+        tokenizer.setInterner(interner);
+    }
+
+    /**
+     * Sets the cache that attribute values are looked up in.
+     * 
+     * @param attributeValueCache
+     *            the cache or <code>null</code> to allocate each value
+     * @see nu.validator.htmlparser.impl.Tokenizer#setAttributeValueCache(AttributeValueCache)
+     */
+    public void setAttributeValueCache(AttributeValueCache attributeValueCache) {
+        tokenizer.setAttributeValueCache(attributeValueCache);
+    }
+
+    /**
+     * Indicates whether the tokenizer is able to report errors with full
+     * location information, so that an error handler can be set without
+     * replacing the tokenizer.
+     * 
+     * @return <code>true</code> if the tokenizer is an
+     *         <code>ErrorReportingTokenizer</code>
+     */
+    public boolean isErrorReporting() {
+        return tokenizer instanceof ErrorReportingTokenizer;
+    }
+
+    /**
+     * Sets the receiver of the counts and timings of each parse. The
+     * statistics are only collected when this is set.
+     * 
+     * @param parserMetrics
+     *            the metrics or <code>null</code> to collect nothing
+     */
+    public void setParserMetrics(ParserMetrics parserMetrics) {
+        this.parserMetrics = parserMetrics;
+    }
+
+    /**
+     * Returns the receiver of the counts and timings of each parse.
+     * 
+     * @return the metrics or <code>null</code>
+     */
+    public ParserMetrics getParserMetrics() {
+        return parserMetrics;
+    }
+
     public void setTransitionHandler(TransitionHandler transitionHandler) {
+        hasTransitionHandler = transitionHandler != null;
         if (tokenizer instanceof ErrorReportingTokenizer) {
             ErrorReportingTokenizer ert = (ErrorReportingTokenizer) tokenizer;
             ert.setTransitionHandler(transitionHandler);
@@ -561,6 +1139,7 @@ public class Driver implements EncodingDeclarationHandler {
      */
     public void setHtml4ModeCompatibleWithXhtml1Schemata(
             boolean html4ModeCompatibleWithXhtml1Schemata) {
+        this.html4ModeCompatibleWithXhtml1Schemata = html4ModeCompatibleWithXhtml1Schemata;
         tokenizer.setHtml4ModeCompatibleWithXhtml1Schemata(html4ModeCompatibleWithXhtml1Schemata);
     }
 
@@ -569,6 +1148,7 @@ public class Driver implements EncodingDeclarationHandler {
      * @see nu.validator.htmlparser.impl.Tokenizer#setMappingLangToXmlLang(boolean)
      */
     public void setMappingLangToXmlLang(boolean mappingLangToXmlLang) {
+        this.mappingLangToXmlLang = mappingLangToXmlLang;
         tokenizer.setMappingLangToXmlLang(mappingLangToXmlLang);
     }
 
@@ -577,6 +1157,7 @@ public class Driver implements EncodingDeclarationHandler {
      * @see nu.validator.htmlparser.impl.Tokenizer#setNamePolicy(nu.validator.htmlparser.common.XmlViolationPolicy)
      */
     public void setNamePolicy(XmlViolationPolicy namePolicy) {
+        this.namePolicy = namePolicy;
         tokenizer.setNamePolicy(namePolicy);
     }
 
@@ -585,6 +1166,7 @@ public class Driver implements EncodingDeclarationHandler {
      * @see nu.validator.htmlparser.impl.Tokenizer#setXmlnsPolicy(nu.validator.htmlparser.common.XmlViolationPolicy)
      */
     public void setXmlnsPolicy(XmlViolationPolicy xmlnsPolicy) {
+        this.xmlnsPolicy = xmlnsPolicy;
         tokenizer.setXmlnsPolicy(xmlnsPolicy);
     }
 
@@ -79,23 +79,30 @@ public class Encoding {
 
     private final Charset charset;
 
-    private final boolean asciiSuperset;
+    /**
+     * Whether the charset decodes ASCII to Basic Latin: 0 until first asked,
+     * then 1 or -1. Probing a decoder loads the charset's mapping tables, so
+     * this is done lazily instead of for every available charset up front.
+     * The probe is deterministic, so a racy double computation is harmless.
+     */
+    private int asciiSuperset = 0;
 
     private final boolean obscure;
 
     private final boolean shouldNot;
 
-    private final boolean likelyEbcdic;
+    private final boolean ebcdicName;
 
     private Encoding actualHtmlEncoding = null;
 
+    private static final byte[] TEST_BUF = new byte[0x7F];
+
     static {
-        byte[] testBuf = new byte[0x7F];
         for (int i = 0; i < 0x7F; i++) {
             if (isAsciiSupersetnessSensitive(i)) {
-                testBuf[i] = (byte) i;
+                TEST_BUF[i] = (byte) i;
             } else {
-                testBuf[i] = (byte) 0x20;
+                TEST_BUF[i] = (byte) 0x20;
             }
         }
 
@@ -108,10 +115,8 @@ public class Encoding {
             String canonName = toAsciiLowerCase(cs.name());
             if (!isBanned(name)) {
                 name = name.intern();
-                boolean asciiSuperset = asciiMapsToBasicLatin(testBuf, cs);
                 Encoding enc = new Encoding(canonName.intern(), cs,
-                        asciiSuperset, isObscure(name), isShouldNot(name),
-                        isLikelyEbcdic(name, asciiSuperset));
+                        isObscure(name), isShouldNot(name), isEbcdicName(name));
                 encodings.add(enc);
                 Set<String> aliases = cs.aliases();
                 for (String alias : aliases) {
@@ -225,13 +230,8 @@ public class Encoding {
         return true;
     }
 
-    private static boolean isLikelyEbcdic(String canonName,
-            boolean asciiSuperset) {
-        if (!asciiSuperset) {
-            return (canonName.startsWith("cp") || canonName.startsWith("ibm") || canonName.startsWith("xibm"));
-        } else {
-            return false;
-        }
+    private static boolean isEbcdicName(String canonName) {
+        return (canonName.startsWith("cp") || canonName.startsWith("ibm") || canonName.startsWith("xibm"));
     }
 
     public static Encoding forName(String name) {
@@ -282,20 +282,18 @@ public class Encoding {
     /**
      * @param canonName
      * @param charset
-     * @param asciiSuperset
      * @param obscure
      * @param shouldNot
-     * @param likelyEbcdic
+     * @param ebcdicName
      */
     private Encoding(final String canonName, final Charset charset,
-            final boolean asciiSuperset, final boolean obscure,
-            final boolean shouldNot, final boolean likelyEbcdic) {
+            final boolean obscure, final boolean shouldNot,
+            final boolean ebcdicName) {
         this.canonName = canonName;
         this.charset = charset;
-        this.asciiSuperset = asciiSuperset;
         this.obscure = obscure;
         this.shouldNot = shouldNot;
-        this.likelyEbcdic = likelyEbcdic;
+        this.ebcdicName = ebcdicName;
     }
 
     /**
@@ -304,7 +302,12 @@ public class Encoding {
      * @return the asciiSuperset
      */
     public boolean isAsciiSuperset() {
-        return asciiSuperset;
+        int rv = asciiSuperset;
+        if (rv == 0) {
+            rv = asciiMapsToBasicLatin(TEST_BUF, charset) ? 1 : -1;
+            asciiSuperset = rv;
+        }
+        return rv > 0;
     }
 
     /**
@@ -322,7 +325,7 @@ public class Encoding {
      * @return the likelyEbcdic
      */
     public boolean isLikelyEbcdic() {
-        return likelyEbcdic;
+        return ebcdicName && !isAsciiSuperset();
     }
 
     /**
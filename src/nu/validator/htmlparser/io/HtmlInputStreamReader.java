@@ -35,6 +35,7 @@ import java.nio.charset.CodingErrorAction;
 
 import nu.validator.htmlparser.common.ByteReadable;
 import nu.validator.htmlparser.common.Heuristics;
+import nu.validator.htmlparser.common.ParseStatistics.EncodingSource;
 import nu.validator.htmlparser.common.XmlViolationPolicy;
 import nu.validator.htmlparser.extra.ChardetSniffer;
 import nu.validator.htmlparser.extra.IcuDetectorSniffer;
@@ -124,12 +125,15 @@ public final class HtmlInputStreamReader extends Reader implements
         this.driver = driver;
         this.sniffing = true;
         Encoding encoding = (new BomSniffer(this)).sniff();
+        EncodingSource source = EncodingSource.BOM;
         if (encoding == null) {
             position = 0;
             encoding = (new MetaSniffer(errorHandler, this)).sniff(this);
             boolean declared = true;
+            source = EncodingSource.PRESCAN;
             if (encoding == null) {
                 declared = false;
+                source = EncodingSource.HEURISTICS;
             } else if (encoding != Encoding.UTF8) {
                 warn("Legacy encoding \u201C"
                         + encoding.getCanonName()
@@ -147,6 +151,7 @@ public final class HtmlInputStreamReader extends Reader implements
             sniffing = false;
             if (encoding == null) {
                 encoding = Encoding.WINDOWS1252;
+                source = EncodingSource.DEFAULT;
             }
             if (!declared) {
                 err("The character encoding was not declared. Proceeding using \u201C" + encoding.getCanonName() + "\u201D.");
@@ -168,6 +173,9 @@ public final class HtmlInputStreamReader extends Reader implements
                 }
             }
         }
+        if (driver != null) {
+            driver.recordEncodingSource(source);
+        }
         this.decoder = encoding.newDecoder();
         sniffing = false;
         position = 0;
@@ -183,6 +191,9 @@ public final class HtmlInputStreamReader extends Reader implements
     private void initDecoder() {
         this.decoder.onMalformedInput(CodingErrorAction.REPORT);
         this.decoder.onUnmappableCharacter(CodingErrorAction.REPORT);
+        if (driver != null) {
+            driver.recordDecoder(decoder);
+        }
     }
 
     public HtmlInputStreamReader(InputStream inputStream,
@@ -254,6 +265,9 @@ public final class HtmlInputStreamReader extends Reader implements
                 CoderResult cr = decoder.decode(byteBuffer, charBuffer,
                         finalDecode);
                 bytesRead += byteBuffer.position() - oldBytePos;
+                if (driver != null) {
+                    driver.countBytesDecoded(byteBuffer.position() - oldBytePos);
+                }
                 if (cr == CoderResult.OVERFLOW) {
                     // Decoder will remember surrogates
                     return charBuffer.position();
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.io;
+
+import java.util.concurrent.ExecutorService;
+
+import nu.validator.htmlparser.common.DoctypeExpectation;
+import nu.validator.htmlparser.common.Heuristics;
+import nu.validator.htmlparser.common.Interner;
+import nu.validator.htmlparser.common.ParserMetrics;
+import nu.validator.htmlparser.common.XmlViolationPolicy;
+import nu.validator.htmlparser.impl.AttributeValueCache;
+
+/**
+ * The configuration getters that the SAX, DOM and XOM front ends have in
+ * common. <code>AbstractParserPool</code> fingerprints parsers through this
+ * interface, so a setting added to all the front ends needs to be added
+ * here only once to be taken into account by every pool. Handlers and other
+ * per-use state do not belong here; the front ends forget those on
+ * <code>reset()</code>.
+ * 
+ * @version $Id$
+ */
+public interface ParserConfiguration {
+
+    public XmlViolationPolicy getContentSpacePolicy();
+
+    public XmlViolationPolicy getContentNonXmlCharPolicy();
+
+    public XmlViolationPolicy getCommentPolicy();
+
+    public XmlViolationPolicy getNamePolicy();
+
+    public XmlViolationPolicy getXmlnsPolicy();
+
+    public XmlViolationPolicy getStreamabilityViolationPolicy();
+
+    public Heuristics getHeuristics();
+
+    public boolean isScriptingEnabled();
+
+    public DoctypeExpectation getDoctypeExpectation();
+
+    public boolean isCheckingNormalization();
+
+    public boolean isHtml4ModeCompatibleWithXhtml1Schemata();
+
+    public boolean isMappingLangToXmlLang();
+
+    public boolean isReportingDoctype();
+
+    public int getInputBufferSize();
+
+    public boolean isAdaptiveInputBuffer();
+
+    public Interner getInterner();
+
+    public AttributeValueCache getAttributeValueCache();
+
+    public ExecutorService getSpeculativeExecutor();
+
+    public int getSpeculativeChunkSize();
+
+    public ParserMetrics getParserMetrics();
+}
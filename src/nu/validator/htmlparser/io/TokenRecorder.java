@@ -0,0 +1,427 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+package nu.validator.htmlparser.io;
+
+import java.util.concurrent.Callable;
+
+import nu.validator.htmlparser.common.ParseStatistics;
+import nu.validator.htmlparser.common.TokenHandler;
+import nu.validator.htmlparser.impl.ElementName;
+import nu.validator.htmlparser.impl.HtmlAttributes;
+import nu.validator.htmlparser.impl.Tokenizer;
+import nu.validator.htmlparser.impl.UTF16Buffer;
+
+import org.xml.sax.SAXException;
+
+/**
+ * Tokenizes one chunk of the input speculatively on another thread and 
+ * records the tokens so that they can be replayed into the real tree builder 
+ * later. The tokenization assumes that the chunk starts in the data state.
+ * 
+ * <p>The recording is unusable if the chunk contains a token in response to 
+ * which the tree builder could change the state of the tokenizer (the start 
+ * tags of the elements with raw text or RCDATA content, 
+ * <code>plaintext</code> and CDATA sections) or if the chunk does not end in 
+ * the data state. Recording stops at the first such token.
+ * 
+ * @version $Id$
+ */
+final class TokenRecorder implements TokenHandler, Callable<TokenRecorder> {
+
+    private static final int START_TAG = 0;
+
+    private static final int SELF_CLOSING_START_TAG = 1;
+
+    private static final int END_TAG = 2;
+
+    private static final int CHARACTERS = 3;
+
+    private static final int COMMENT = 4;
+
+    private static final int DOCTYPE = 5;
+
+    private static final int FORCE_QUIRKS_DOCTYPE = 6;
+
+    private static final int ZERO_ORIGINATING_REPLACEMENT_CHARACTER = 7;
+
+    private final Driver driver;
+
+    private final char[] input;
+
+    private final int start;
+
+    private final int end;
+
+    private final boolean wantsComments;
+
+    private final boolean counting;
+
+    /**
+     * The counts of the speculative tokenizer or <code>null</code> when the
+     * parse collects no statistics.
+     */
+    private ParseStatistics statistics;
+
+    private Tokenizer tokenizer;
+
+    private int[] kinds = new int[256];
+
+    private int[] offsets = new int[256];
+
+    private int[] lengths = new int[256];
+
+    private Object[] objects = new Object[256];
+
+    /**
+     * The line of each token, counted from 0 at the start of the chunk.
+     */
+    private int[] lines = new int[256];
+
+    /**
+     * The line at the end of the chunk, counted from 0.
+     */
+    private int endLine;
+
+    private int count = 0;
+
+    private char[] chars = new char[1024];
+
+    private int charsLength = 0;
+
+    private boolean unusable = false;
+
+    TokenRecorder(Driver driver, char[] input, int start, int end,
+            boolean wantsComments, boolean counting) {
+        this.driver = driver;
+        this.input = input;
+        this.start = start;
+        this.end = end;
+        this.wantsComments = wantsComments;
+        this.counting = counting;
+    }
+
+    /**
+     * Tokenizes the chunk.
+     * 
+     * @see java.util.concurrent.Callable#call()
+     */
+    public TokenRecorder call() {
+        Tokenizer speculative = new Tokenizer(this, true);
+        driver.configureSpeculativeTokenizer(speculative);
+        if (counting) {
+            statistics = new ParseStatistics();
+            speculative.setStatistics(statistics);
+        }
+        try {
+            speculative.start();
+            try {
+                UTF16Buffer buffer = new UTF16Buffer(input, start, end);
+                boolean lastWasCR = false;
+                while (!unusable && buffer.hasMore()) {
+                    buffer.adjust(lastWasCR);
+                    lastWasCR = false;
+                    if (buffer.hasMore()) {
+                        lastWasCR = speculative.tokenizeBuffer(buffer);
+                    }
+                }
+                endLine = speculative.getLineNumber() - 1;
+                if (!speculative.isInDataState()) {
+                    unusable = true;
+                }
+            } finally {
+                speculative.end();
+            }
+        } catch (SAXException e) {
+            // Fatal XML violations are reported when the chunk is tokenized
+            // for real.
+            unusable = true;
+        } catch (RuntimeException e) {
+            unusable = true;
+        }
+        tokenizer = null;
+        return this;
+    }
+
+    /**
+     * Returns the offset of the chunk in the input.
+     * 
+     * @return the start offset
+     */
+    int getStart() {
+        return start;
+    }
+
+    /**
+     * Returns the end offset of the chunk in the input.
+     * 
+     * @return the end offset
+     */
+    int getEnd() {
+        return end;
+    }
+
+    /**
+     * Indicates whether the recording can be replayed in place of tokenizing 
+     * the chunk, provided that the real tokenizer is in the data state.
+     * 
+     * @return <code>true</code> if the recording can be used
+     */
+    boolean isUsable() {
+        return !unusable;
+    }
+
+    /**
+     * Adds the character references that the speculative tokenizer resolved
+     * to the statistics of the parse. The tree builder counts the replayed
+     * tokens itself, but the replayed characters no longer tell which of them
+     * came from character references.
+     * 
+     * @param parseStatistics
+     *            the statistics of the parse
+     */
+    void countCharacterReferences(ParseStatistics parseStatistics) {
+        if (statistics != null) {
+            parseStatistics.countCharacterReferences(
+                    statistics.getNamedCharacterReferences(),
+                    statistics.getNumericCharacterReferences());
+        }
+    }
+
+    /**
+     * Emits the recorded tokens to the token handler of the real tokenizer. 
+     * The line number of the real tokenizer is set to that of each token as 
+     * it is emitted, so that the document locator reports the same lines as 
+     * without speculation, and to the line at the end of the chunk afterwards.
+     * 
+     * @param real
+     *            the real tokenizer, in the data state at the start of the 
+     *            chunk
+     * @throws SAXException
+     *             if the handler throws
+     */
+    void replay(Tokenizer real) throws SAXException {
+        TokenHandler tokenHandler = real.getTokenHandler();
+        int baseLine = real.getLineNumber();
+        // The worst case of the tokenizer itself for this chunk.
+        tokenHandler.ensureBufferSpace(end - start + 2);
+        for (int i = 0; i < count; i++) {
+            real.setLineNumber(baseLine + lines[i]);
+            switch (kinds[i]) {
+                case START_TAG:
+                case SELF_CLOSING_START_TAG:
+                    Object[] tag = (Object[]) objects[i];
+                    tokenHandler.startTag((ElementName) tag[0],
+                            (HtmlAttributes) tag[1],
+                            kinds[i] == SELF_CLOSING_START_TAG);
+                    break;
+                case END_TAG:
+                    tokenHandler.endTag((ElementName) objects[i]);
+                    break;
+                case CHARACTERS:
+                    tokenHandler.characters(chars, offsets[i], lengths[i]);
+                    break;
+                case COMMENT:
+                    tokenHandler.comment(chars, offsets[i], lengths[i]);
+                    break;
+                case DOCTYPE:
+                case FORCE_QUIRKS_DOCTYPE:
+                    String[] ids = (String[]) objects[i];
+                    tokenHandler.doctype(ids[0], ids[1], ids[2],
+                            kinds[i] == FORCE_QUIRKS_DOCTYPE);
+                    break;
+                case ZERO_ORIGINATING_REPLACEMENT_CHARACTER:
+                    tokenHandler.zeroOriginatingReplacementCharacter();
+                    break;
+            }
+        }
+        real.setLineNumber(baseLine + endLine);
+    }
+
+    private void makeUnusable() {
+        unusable = true;
+        tokenizer.requestSuspension();
+    }
+
+    private void add(int kind, Object object, int offset, int length) {
+        if (count == kinds.length) {
+            int newLength = count << 1;
+            int[] newKinds = new int[newLength];
+            int[] newOffsets = new int[newLength];
+            int[] newLengths = new int[newLength];
+            Object[] newObjects = new Object[newLength];
+            int[] newLines = new int[newLength];
+            System.arraycopy(kinds, 0, newKinds, 0, count);
+            System.arraycopy(offsets, 0, newOffsets, 0, count);
+            System.arraycopy(lengths, 0, newLengths, 0, count);
+            System.arraycopy(objects, 0, newObjects, 0, count);
+            System.arraycopy(lines, 0, newLines, 0, count);
+            kinds = newKinds;
+            offsets = newOffsets;
+            lengths = newLengths;
+            objects = newObjects;
+            lines = newLines;
+        }
+        kinds[count] = kind;
+        objects[count] = object;
+        offsets[count] = offset;
+        lengths[count] = length;
+        lines[count] = tokenizer.getLineNumber() - 1;
+        count++;
+    }
+
+    private int appendChars(char[] buf, int start, int length) {
+        if (charsLength + length > chars.length) {
+            char[] newChars = new char[Math.max(charsLength + length,
+                    chars.length << 1)];
+            System.arraycopy(chars, 0, newChars, 0, charsLength);
+            chars = newChars;
+        }
+        int offset = charsLength;
+        System.arraycopy(buf, start, chars, offset, length);
+        charsLength += length;
+        return offset;
+    }
+
+    /**
+     * @see nu.validator.htmlparser.common.TokenHandler#startTokenization(nu.validator.htmlparser.impl.Tokenizer)
+     */
+    public void startTokenization(Tokenizer self) throws SAXException {
+        tokenizer = self;
+    }
+
+    /**
+     * @see nu.validator.htmlparser.common.TokenHandler#wantsComments()
+     */
+    public boolean wantsComments() throws SAXException {
+        return wantsComments;
+    }
+
+    /**
+     * @see nu.validator.htmlparser.common.TokenHandler#doctype(java.lang.String,
+     *      java.lang.String, java.lang.String, boolean)
+     */
+    public void doctype(String name, String publicIdentifier,
+            String systemIdentifier, boolean forceQuirks) throws SAXException {
+        if (unusable) {
+            return;
+        }
+        add(forceQuirks ? FORCE_QUIRKS_DOCTYPE : DOCTYPE, new String[] { name,
+                publicIdentifier, systemIdentifier }, 0, 0);
+    }
+
+    /**
+     * @see nu.validator.htmlparser.common.TokenHandler#startTag(nu.validator.htmlparser.impl.ElementName,
+     *      nu.validator.htmlparser.impl.HtmlAttributes, boolean)
+     */
+    public void startTag(ElementName eltName, HtmlAttributes attributes,
+            boolean selfClosing) throws SAXException {
+        if (unusable) {
+            return;
+        }
+        if (eltName == ElementName.SCRIPT || eltName == ElementName.STYLE
+                || eltName == ElementName.TITLE
+                || eltName == ElementName.TEXTAREA
+                || eltName == ElementName.XMP || eltName == ElementName.IFRAME
+                || eltName == ElementName.NOEMBED
+                || eltName == ElementName.NOFRAMES
+                || eltName == ElementName.NOSCRIPT
+                || eltName == ElementName.PLAINTEXT) {
+            makeUnusable();
+            return;
+        }
+        add(selfClosing ? SELF_CLOSING_START_TAG : START_TAG, new Object[] {
+                eltName, attributes }, 0, 0);
+    }
+
+    /**
+     * @see nu.validator.htmlparser.common.TokenHandler#endTag(nu.validator.htmlparser.impl.ElementName)
+     */
+    public void endTag(ElementName eltName) throws SAXException {
+        if (unusable) {
+            return;
+        }
+        add(END_TAG, eltName, 0, 0);
+    }
+
+    /**
+     * @see nu.validator.htmlparser.common.TokenHandler#comment(char[], int,
+     *      int)
+     */
+    public void comment(char[] buf, int start, int length) throws SAXException {
+        if (unusable) {
+            return;
+        }
+        add(COMMENT, null, appendChars(buf, start, length), length);
+    }
+
+    /**
+     * @see nu.validator.htmlparser.common.TokenHandler#characters(char[], int,
+     *      int)
+     */
+    public void characters(char[] buf, int start, int length)
+            throws SAXException {
+        if (unusable || length == 0) {
+            return;
+        }
+        // Each call is replayed as is. Merging runs would change the tree,
+        // since the tree builder handles a leading whitespace run apart from
+        // the rest of the text in some insertion modes.
+        add(CHARACTERS, null, appendChars(buf, start, length), length);
+    }
+
+    /**
+     * @see nu.validator.htmlparser.common.TokenHandler#zeroOriginatingReplacementCharacter()
+     */
+    public void zeroOriginatingReplacementCharacter() throws SAXException {
+        if (unusable) {
+            return;
+        }
+        add(ZERO_ORIGINATING_REPLACEMENT_CHARACTER, null, 0, 0);
+    }
+
+    /**
+     * @see nu.validator.htmlparser.common.TokenHandler#eof()
+     */
+    public void eof() throws SAXException {
+    }
+
+    /**
+     * @see nu.validator.htmlparser.common.TokenHandler#endTokenization()
+     */
+    public void endTokenization() throws SAXException {
+    }
+
+    /**
+     * @see nu.validator.htmlparser.common.TokenHandler#cdataSectionAllowed()
+     */
+    public boolean cdataSectionAllowed() throws SAXException {
+        // Depends on the tree.
+        makeUnusable();
+        return false;
+    }
+
+    /**
+     * @see nu.validator.htmlparser.common.TokenHandler#ensureBufferSpace(int)
+     */
+    public void ensureBufferSpace(int inputLength) throws SAXException {
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+package nu.validator.htmlparser.sax;
+
+/**
+ * The aggregated figures of one <code>BatchParser.parseAll()</code> call.
+ * 
+ * @version $Id$
+ */
+public final class BatchMetrics {
+
+    private final long documentCount;
+
+    private final long failureCount;
+
+    private final long parseNanos;
+
+    private final long elapsedNanos;
+
+    private final int maxInFlight;
+
+    BatchMetrics(long documentCount, long failureCount, long parseNanos,
+            long elapsedNanos, int maxInFlight) {
+        this.documentCount = documentCount;
+        this.failureCount = failureCount;
+        this.parseNanos = parseNanos;
+        this.elapsedNanos = elapsedNanos;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Returns the number of documents that were parsed.
+     * 
+     * @return the number of documents including failed ones
+     */
+    public long getDocumentCount() {
+        return documentCount;
+    }
+
+    /**
+     * Returns the number of documents whose parse ended with an exception.
+     * 
+     * @return the number of failures
+     */
+    public long getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * Returns the time spent parsing summed over all documents. Divided by 
+     * <code>getElapsedNanos()</code>, this gives the effective parallelism.
+     * 
+     * @return the total parse time in nanoseconds
+     */
+    public long getParseNanos() {
+        return parseNanos;
+    }
+
+    /**
+     * Returns the wall-clock time of the batch.
+     * 
+     * @return the elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the highest number of documents that were submitted but not 
+     * yet delivered to the handler factory at the same time.
+     * 
+     * @return the peak number of documents in flight
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override public String toString() {
+        return "documents: " + documentCount + ", failures: " + failureCount
+                + ", parse ms: " + (parseNanos / 1000000) + ", elapsed ms: "
+                + (elapsedNanos / 1000000) + ", max in flight: " + maxInFlight;
+    }
+}
@@ -0,0 +1,401 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+package nu.validator.htmlparser.sax;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+import org.xml.sax.ContentHandler;
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.ext.LexicalHandler;
+
+/**
+ * Parses a batch of documents concurrently on a caller-supplied 
+ * <code>ExecutorService</code>, such as a <code>ForkJoinPool</code> or an 
+ * executor of virtual threads.
+ * 
+ * <p>Each document is parsed by a parser checked out from a 
+ * <code>ParserPool</code> for the duration of that document only, so a 
+ * parser (and its tokenizer and tree builder) is never shared by two 
+ * threads at once, is reused across documents and does not stay pinned to a 
+ * worker thread after the batch. The element, attribute and character 
+ * reference tables are static and immutable, so the parsers share them.
+ * 
+ * <p>At most <code>getMaxInFlight()</code> documents are submitted but not 
+ * yet delivered at any time; <code>parseAll()</code> blocks the submitting 
+ * thread until there is room, so the inputs are consumed lazily. By 
+ * default, the results are delivered in the order of the inputs.
+ * 
+ * <p>Instances are thread-safe, but the setters should not be called while 
+ * a batch is running.
+ * 
+ * @version $Id$
+ */
+public class BatchParser {
+
+    /**
+     * Creates the handlers for the documents of a batch and receives the 
+     * outcome of each document.
+     */
+    public interface HandlerFactory {
+
+        /**
+         * Creates the handler for a document. Called on the thread that 
+         * parses the document. If the returned object also implements 
+         * <code>LexicalHandler</code> or <code>ErrorHandler</code>, it is 
+         * used as such, too.
+         * 
+         * @param index
+         *            the position of the input in the batch
+         * @param input
+         *            the input
+         * @return the content handler for the document
+         * @throws SAXException
+         *             to fail the document
+         */
+        ContentHandler newContentHandler(int index, InputSource input)
+                throws SAXException;
+
+        /**
+         * Receives the outcome of a document. When the batch preserves 
+         * order, the calls are made one at a time in the order of the 
+         * inputs. Otherwise they are made as the documents finish and may be 
+         * concurrent.
+         * 
+         * @param index
+         *            the position of the input in the batch
+         * @param input
+         *            the input
+         * @param handler
+         *            the handler returned for the document or 
+         *            <code>null</code> if creating it failed
+         * @param exception
+         *            the exception or error that ended the parse or 
+         *            <code>null</code> if the document was parsed 
+         *            successfully
+         */
+        void documentDone(int index, InputSource input, ContentHandler handler,
+                Throwable exception);
+    }
+
+    private final ExecutorService executor;
+
+    private final ParserPool pool;
+
+    private int maxInFlight;
+
+    private boolean preservingOrder = true;
+
+    /**
+     * Instantiates a batch parser with a new <code>ParserPool</code>.
+     * 
+     * @param executor
+     *            the executor that runs the parses; not shut down by this 
+     *            class
+     */
+    public BatchParser(ExecutorService executor) {
+        this(executor, new ParserPool());
+    }
+
+    /**
+     * Instantiates a batch parser that takes its parsers from a given pool. 
+     * The pool should be able to keep at least as many idle parsers as the 
+     * executor has threads.
+     * 
+     * @param executor
+     *            the executor that runs the parses; not shut down by this 
+     *            class
+     * @param pool
+     *            the pool of parsers
+     */
+    public BatchParser(ExecutorService executor, ParserPool pool) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor must not be null.");
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool must not be null.");
+        }
+        this.executor = executor;
+        this.pool = pool;
+        this.maxInFlight = 4 * Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Returns the pool the parsers are taken from.
+     * 
+     * @return the pool
+     */
+    public ParserPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Sets the maximum number of documents that have been submitted to the 
+     * executor but not yet delivered to the handler factory. When order is 
+     * preserved, this also bounds the number of finished documents held 
+     * back behind a slow one.
+     * 
+     * @param maxInFlight
+     *            the maximum; at least 1
+     */
+    public void setMaxInFlight(int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be positive.");
+        }
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Returns the maximum number of documents in flight.
+     * 
+     * @return the maximum
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * Sets whether the outcomes are delivered in the order of the inputs.
+     * 
+     * @param preservingOrder
+     *            <code>true</code> to deliver in input order (the default) 
+     *            and <code>false</code> to deliver as documents finish
+     */
+    public void setPreservingOrder(boolean preservingOrder) {
+        this.preservingOrder = preservingOrder;
+    }
+
+    /**
+     * Queries whether the outcomes are delivered in the order of the inputs.
+     * 
+     * @return <code>true</code> if the order is preserved
+     */
+    public boolean isPreservingOrder() {
+        return preservingOrder;
+    }
+
+    /**
+     * Parses the inputs and returns when every outcome has been delivered. 
+     * A failing document does not stop the batch, even if its parse ends in 
+     * an <code>Error</code>. Must not be called from a thread of a bounded 
+     * executor that runs the batch.
+     * 
+     * @param inputs
+     *            the inputs; iterated on the calling thread
+     * @param factory
+     *            the handler factory
+     * @return the metrics of the batch
+     * @throws InterruptedException
+     *             if the calling thread is interrupted; documents already 
+     *             submitted are still parsed and delivered
+     */
+    public BatchMetrics parseAll(Iterable<? extends InputSource> inputs,
+            HandlerFactory factory) throws InterruptedException {
+        if (factory == null) {
+            throw new IllegalArgumentException("Factory must not be null.");
+        }
+        Batch batch = new Batch(factory, maxInFlight, preservingOrder);
+        int index = 0;
+        for (Iterator<? extends InputSource> i = inputs.iterator(); i.hasNext();) {
+            InputSource input = i.next();
+            batch.beforeSubmit();
+            try {
+                executor.execute(new Task(batch, index, input));
+            } catch (RejectedExecutionException e) {
+                batch.rejected();
+                throw e;
+            }
+            index++;
+        }
+        return batch.await();
+    }
+
+    private final class Task implements Runnable {
+
+        private final Batch batch;
+
+        private final int index;
+
+        private final InputSource input;
+
+        Task(Batch batch, int index, InputSource input) {
+            this.batch = batch;
+            this.index = index;
+            this.input = input;
+        }
+
+        public void run() {
+            long start = System.nanoTime();
+            ContentHandler handler = null;
+            Throwable exception = null;
+            HtmlParser parser = null;
+            try {
+                parser = pool.acquire();
+                handler = batch.factory.newContentHandler(index, input);
+                parser.setContentHandler(handler);
+                if (handler instanceof LexicalHandler) {
+                    parser.setLexicalHandler((LexicalHandler) handler);
+                }
+                if (handler instanceof ErrorHandler) {
+                    parser.setErrorHandler((ErrorHandler) handler);
+                }
+                parser.parse(input);
+            } catch (Throwable t) {
+                // Errors are reported, too. Otherwise, parseAll() would wait 
+                // forever for a document whose parse ended in, for example, a 
+                // StackOverflowError.
+                exception = t;
+            } finally {
+                try {
+                    // An Error may have left the parser in an inconsistent 
+                    // state, so the parser is not returned to the pool.
+                    if (parser != null && !(exception instanceof Error)) {
+                        pool.release(parser);
+                    }
+                } finally {
+                    batch.completed(index, input, handler, exception,
+                            System.nanoTime() - start);
+                }
+            }
+        }
+    }
+
+    /**
+     * The state of one <code>parseAll()</code> call. Guarded by its own 
+     * monitor.
+     */
+    private static final class Batch {
+
+        final HandlerFactory factory;
+
+        private final Semaphore permits;
+
+        private final boolean preservingOrder;
+
+        private final long start = System.nanoTime();
+
+        /**
+         * Finished documents waiting for an earlier one when preserving 
+         * order.
+         */
+        private final HashMap<Integer, Object[]> held = new HashMap<Integer, Object[]>();
+
+        private int nextToDeliver = 0;
+
+        private int inFlight = 0;
+
+        private int peakInFlight = 0;
+
+        private long documents = 0;
+
+        private long failures = 0;
+
+        private long parseNanos = 0;
+
+        Batch(HandlerFactory factory, int maxInFlight, boolean preservingOrder) {
+            this.factory = factory;
+            this.permits = new Semaphore(maxInFlight);
+            this.preservingOrder = preservingOrder;
+        }
+
+        void beforeSubmit() throws InterruptedException {
+            permits.acquire();
+            synchronized (this) {
+                inFlight++;
+                if (inFlight > peakInFlight) {
+                    peakInFlight = inFlight;
+                }
+            }
+        }
+
+        synchronized void rejected() {
+            inFlight--;
+            permits.release();
+            notifyAll();
+        }
+
+        void completed(int index, InputSource input, ContentHandler handler,
+                Throwable exception, long nanos) {
+            int delivered = 0;
+            synchronized (this) {
+                documents++;
+                parseNanos += nanos;
+                if (exception != null) {
+                    failures++;
+                }
+                if (preservingOrder) {
+                    if (index != nextToDeliver) {
+                        held.put(Integer.valueOf(index), new Object[] { input,
+                                handler, exception });
+                        return;
+                    }
+                    // Deliver while holding the monitor so that the calls 
+                    // are serialized and in order.
+                    deliver(index, input, handler, exception);
+                    delivered++;
+                    Object[] next;
+                    while ((next = held.remove(Integer.valueOf(++nextToDeliver))) != null) {
+                        deliver(nextToDeliver, (InputSource) next[0],
+                                (ContentHandler) next[1], (Throwable) next[2]);
+                        delivered++;
+                    }
+                    finishDeliveries(delivered);
+                    return;
+                }
+            }
+            deliver(index, input, handler, exception);
+            synchronized (this) {
+                finishDeliveries(1);
+            }
+        }
+
+        private void deliver(int index, InputSource input,
+                ContentHandler handler, Throwable exception) {
+            try {
+                factory.documentDone(index, input, handler, exception);
+            } catch (Throwable t) {
+                // Keep the batch going and the in-flight count right. The 
+                // factory is responsible for its own errors.
+            }
+        }
+
+        private void finishDeliveries(int delivered) {
+            inFlight -= delivered;
+            permits.release(delivered);
+            notifyAll();
+        }
+
+        synchronized BatchMetrics await() throws InterruptedException {
+            while (inFlight > 0) {
+                wait();
+            }
+            return new BatchMetrics(documents, failures, parseNanos,
+                    System.nanoTime() - start, peakInFlight);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+package nu.validator.htmlparser.sax;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import nu.validator.htmlparser.impl.AttributeName;
+import nu.validator.htmlparser.impl.ElementName;
+
+/**
+ * Constants and the seed name table shared by <code>BinaryTreeWriter</code> 
+ * and <code>BinaryTreeReader</code>.
+ * 
+ * <p>A stream starts with the magic bytes, the format version and a 
+ * fingerprint of the seed name table. Then come records that each start with 
+ * a tag byte. Numbers are unsigned variable-length integers with seven bits 
+ * per byte, low bits first. Strings are a length followed by UTF-16 code 
+ * units encoded as such numbers. A name is referenced by its index in the 
+ * name table plus one; zero introduces a new name (namespace URI, local name, 
+ * qualified name) that is appended to the table.
+ * 
+ * @version $Id$
+ */
+final class BinaryTreeFormat {
+
+    static final byte[] MAGIC = { 'H', 'T', 'B', 'T' };
+
+    static final int VERSION = 1;
+
+    static final int END = 0;
+
+    static final int START_DOCUMENT = 1;
+
+    static final int END_DOCUMENT = 2;
+
+    static final int START_ELEMENT = 3;
+
+    static final int END_ELEMENT = 4;
+
+    static final int CHARACTERS = 5;
+
+    static final int COMMENT = 6;
+
+    static final int DOCTYPE = 7;
+
+    static final int PROCESSING_INSTRUCTION = 8;
+
+    static final String XHTML_NS = "http://www.w3.org/1999/xhtml";
+
+    static final String SVG_NS = "http://www.w3.org/2000/svg";
+
+    static final String MATHML_NS = "http://www.w3.org/1998/Math/MathML";
+
+    /**
+     * The namespace URIs of the seed names.
+     */
+    static final String[] SEED_URIS;
+
+    /**
+     * The local names of the seed names.
+     */
+    static final String[] SEED_LOCALS;
+
+    /**
+     * The qualified names of the seed names.
+     */
+    static final String[] SEED_QNAMES;
+
+    /**
+     * A fingerprint of the seed names so that streams written by a parser 
+     * with different name tables get rejected.
+     */
+    static final int SEED_FINGERPRINT;
+
+    static {
+        List<String> uris = new ArrayList<String>();
+        List<String> locals = new ArrayList<String>();
+        List<String> qNames = new ArrayList<String>();
+        Set<String> seen = new HashSet<String>();
+        // The common HTML names first so that they get the short indexes.
+        int elementCount = ElementName.getWellKnownCount();
+        for (int i = 0; i < elementCount; i++) {
+            String name = ElementName.getWellKnown(i).name;
+            seed(uris, locals, qNames, seen, XHTML_NS, name, name);
+        }
+        int attributeCount = AttributeName.getWellKnownCount();
+        for (int mode = AttributeName.HTML; mode <= AttributeName.SVG; mode++) {
+            for (int i = 0; i < attributeCount; i++) {
+                AttributeName name = AttributeName.getWellKnown(i);
+                seed(uris, locals, qNames, seen, name.getUri(mode),
+                        name.getLocal(mode), name.getQName(mode));
+            }
+            if (mode == AttributeName.HTML) {
+                for (int i = 0; i < elementCount; i++) {
+                    ElementName name = ElementName.getWellKnown(i);
+                    seed(uris, locals, qNames, seen, SVG_NS,
+                            name.camelCaseName, name.camelCaseName);
+                    seed(uris, locals, qNames, seen, MATHML_NS, name.name,
+                            name.name);
+                }
+            }
+        }
+        SEED_URIS = uris.toArray(new String[uris.size()]);
+        SEED_LOCALS = locals.toArray(new String[locals.size()]);
+        SEED_QNAMES = qNames.toArray(new String[qNames.size()]);
+        int fingerprint = SEED_URIS.length;
+        for (int i = 0; i < SEED_URIS.length; i++) {
+            fingerprint = 31 * fingerprint + SEED_URIS[i].hashCode();
+            fingerprint = 31 * fingerprint + SEED_LOCALS[i].hashCode();
+            fingerprint = 31 * fingerprint + SEED_QNAMES[i].hashCode();
+        }
+        SEED_FINGERPRINT = fingerprint;
+    }
+
+    private static void seed(List<String> uris, List<String> locals,
+            List<String> qNames, Set<String> seen, String uri, String local,
+            String qName) {
+        if (seen.add(uri + ' ' + local + ' ' + qName)) {
+            uris.add(uri);
+            locals.add(local);
+            qNames.add(qName);
+        }
+    }
+
+    private BinaryTreeFormat() {
+    }
+}
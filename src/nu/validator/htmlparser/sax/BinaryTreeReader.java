@@ -0,0 +1,360 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+package nu.validator.htmlparser.sax;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.ext.LexicalHandler;
+import org.xml.sax.helpers.AttributesImpl;
+
+/**
+ * Replays a tree written by <code>BinaryTreeWriter</code> as SAX events. 
+ * Replaying skips tokenization and tree building altogether, so feeding the 
+ * events to <code>nu.validator.htmlparser.dom.Sax2Dom</code>, 
+ * <code>nu.validator.htmlparser.xom.Sax2Xom</code> or 
+ * <code>nu.validator.saxtree.TreeBuilder</code> is a cheap way to 
+ * rebuild a tree that has been parsed before.
+ * 
+ * <p>The names of elements and attributes that the parser knows are reported 
+ * as the same interned strings that the parser uses. Attributes named 
+ * <code>id</code> in no namespace have the type <code>ID</code>.
+ * 
+ * @version $Id$
+ */
+public class BinaryTreeReader {
+
+    private final InputStream in;
+
+    private byte[] buffer;
+
+    private int pos;
+
+    private int limit;
+
+    private char[] chars = new char[1024];
+
+    private String[] uris;
+
+    private String[] locals;
+
+    private String[] qNames;
+
+    private int nameCount;
+
+    private int[] stack = new int[64];
+
+    private final AttributesImpl attributes = new AttributesImpl();
+
+    /**
+     * Constructor for reading from a stream. The stream is not closed.
+     * 
+     * @param in
+     *            the stream to read from
+     */
+    public BinaryTreeReader(InputStream in) {
+        if (in == null) {
+            throw new IllegalArgumentException("InputStream must not be null.");
+        }
+        this.in = in;
+        this.buffer = new byte[8192];
+        this.pos = 0;
+        this.limit = 0;
+    }
+
+    /**
+     * Constructor for reading from memory.
+     * 
+     * @param data
+     *            the bytes written by a <code>BinaryTreeWriter</code>
+     * @param offset
+     *            the offset of the first byte
+     * @param length
+     *            the number of bytes
+     */
+    public BinaryTreeReader(byte[] data, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > data.length) {
+            throw new IndexOutOfBoundsException();
+        }
+        this.in = null;
+        this.buffer = data;
+        this.pos = offset;
+        this.limit = offset + length;
+    }
+
+    private void fill() throws IOException {
+        if (in != null) {
+            int read = in.read(buffer, 0, buffer.length);
+            if (read > 0) {
+                pos = 0;
+                limit = read;
+                return;
+            }
+        }
+        throw new EOFException("Truncated binary tree.");
+    }
+
+    private int readByte() throws IOException {
+        if (pos == limit) {
+            fill();
+        }
+        return buffer[pos++] & 0xFF;
+    }
+
+    private int readNumber() throws IOException {
+        int b = readByte();
+        if (b < 0x80) {
+            return b;
+        }
+        int value = b & 0x7F;
+        int shift = 7;
+        do {
+            if (shift > 28) {
+                throw new IOException("Malformed binary tree.");
+            }
+            b = readByte();
+            if (shift == 28 && (b & 0x7F) > 0x07) {
+                // The number would not fit in a non-negative int.
+                throw new IOException("Malformed binary tree.");
+            }
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b >= 0x80);
+        return value;
+    }
+
+    /**
+     * Reads the given number of code units into <code>chars</code>. Every 
+     * code unit takes at least one byte, so the length read from the data 
+     * cannot exceed the bytes left in memory. When reading from a stream, 
+     * <code>chars</code> grows as the code units arrive, so a corrupt length 
+     * ends in an <code>EOFException</code> rather than a huge allocation.
+     */
+    private void readChars(int length) throws IOException {
+        if (length < 0 || (in == null && length > limit - pos)) {
+            throw new IOException("Malformed binary tree.");
+        }
+        if (in == null && length > chars.length) {
+            chars = new char[Math.max(length, chars.length << 1)];
+        }
+        char[] ch = chars;
+        byte[] buf = buffer;
+        for (int i = 0; i < length; i++) {
+            if (i == ch.length) {
+                char[] newChars = new char[(int) Math.min(length,
+                        (long) ch.length << 1)];
+                System.arraycopy(ch, 0, newChars, 0, i);
+                chars = ch = newChars;
+            }
+            if (limit - pos >= 3) {
+                // Fast path that does not check for the end of the buffer.
+                int b = buf[pos++];
+                if (b >= 0) {
+                    ch[i] = (char) b;
+                    continue;
+                }
+                int c = b & 0x7F;
+                b = buf[pos++];
+                if (b >= 0) {
+                    ch[i] = (char) (c | (b << 7));
+                    continue;
+                }
+                c |= (b & 0x7F) << 7;
+                ch[i] = (char) (c | ((buf[pos++] & 0x03) << 14));
+            } else {
+                ch[i] = (char) readNumber();
+            }
+        }
+    }
+
+    private String readString() throws IOException {
+        int length = readNumber();
+        readChars(length);
+        return new String(chars, 0, length);
+    }
+
+    private String readNullableString() throws IOException {
+        int length = readNumber();
+        if (length == 0) {
+            return null;
+        }
+        readChars(--length);
+        return new String(chars, 0, length);
+    }
+
+    private int readName() throws IOException {
+        int ref = readNumber();
+        if (ref == 0) {
+            if (nameCount == uris.length) {
+                int newLength = nameCount << 1;
+                String[] newUris = new String[newLength];
+                String[] newLocals = new String[newLength];
+                String[] newQNames = new String[newLength];
+                System.arraycopy(uris, 0, newUris, 0, nameCount);
+                System.arraycopy(locals, 0, newLocals, 0, nameCount);
+                System.arraycopy(qNames, 0, newQNames, 0, nameCount);
+                uris = newUris;
+                locals = newLocals;
+                qNames = newQNames;
+            }
+            uris[nameCount] = readString();
+            locals[nameCount] = readString();
+            qNames[nameCount] = readString();
+            return nameCount++;
+        }
+        if (ref > nameCount) {
+            throw new IOException("Malformed binary tree.");
+        }
+        return ref - 1;
+    }
+
+    private void readHeader() throws IOException {
+        byte[] magic = BinaryTreeFormat.MAGIC;
+        for (int i = 0; i < magic.length; i++) {
+            if (readByte() != magic[i]) {
+                throw new IOException("Not a binary tree.");
+            }
+        }
+        if (readNumber() != BinaryTreeFormat.VERSION) {
+            throw new IOException("Unsupported binary tree version.");
+        }
+        int fingerprint = (readByte() << 24) | (readByte() << 16)
+                | (readByte() << 8) | readByte();
+        if (fingerprint != BinaryTreeFormat.SEED_FINGERPRINT) {
+            throw new IOException(
+                    "The binary tree was written by a parser with different name tables.");
+        }
+        int seedCount = BinaryTreeFormat.SEED_URIS.length;
+        int length = seedCount + 64;
+        uris = new String[length];
+        locals = new String[length];
+        qNames = new String[length];
+        System.arraycopy(BinaryTreeFormat.SEED_URIS, 0, uris, 0, seedCount);
+        System.arraycopy(BinaryTreeFormat.SEED_LOCALS, 0, locals, 0, seedCount);
+        System.arraycopy(BinaryTreeFormat.SEED_QNAMES, 0, qNames, 0, seedCount);
+        nameCount = seedCount;
+    }
+
+    /**
+     * Reads the tree and reports it to the given handlers. A reader can only 
+     * be used once.
+     * 
+     * @param contentHandler
+     *            the content handler
+     * @param lexicalHandler
+     *            the lexical handler or <code>null</code> to skip comments 
+     *            and the doctype
+     * @throws SAXException
+     *             if a handler throws
+     * @throws IOException
+     *             if the data is malformed or cannot be read
+     */
+    public void parse(ContentHandler contentHandler,
+            LexicalHandler lexicalHandler) throws SAXException, IOException {
+        if (contentHandler == null) {
+            throw new IllegalArgumentException("ContentHandler must not be null.");
+        }
+        if (uris != null) {
+            throw new IllegalStateException("The binary tree has already been read.");
+        }
+        readHeader();
+        int depth = 0;
+        int length;
+        for (;;) {
+            switch (readByte()) {
+                case BinaryTreeFormat.END:
+                    if (depth != 0) {
+                        throw new IOException("Malformed binary tree.");
+                    }
+                    return;
+                case BinaryTreeFormat.START_DOCUMENT:
+                    contentHandler.startDocument();
+                    continue;
+                case BinaryTreeFormat.END_DOCUMENT:
+                    contentHandler.endDocument();
+                    continue;
+                case BinaryTreeFormat.START_ELEMENT:
+                    int name = readName();
+                    attributes.clear();
+                    int count = readNumber();
+                    for (int i = 0; i < count; i++) {
+                        int attributeName = readName();
+                        String uri = uris[attributeName];
+                        String local = locals[attributeName];
+                        attributes.addAttribute(uri, local,
+                                qNames[attributeName],
+                                (uri.length() == 0 && "id".equals(local)) ? "ID"
+                                        : "CDATA",
+                                readString());
+                    }
+                    if (depth == stack.length) {
+                        int[] newStack = new int[depth << 1];
+                        System.arraycopy(stack, 0, newStack, 0, depth);
+                        stack = newStack;
+                    }
+                    stack[depth++] = name;
+                    contentHandler.startElement(uris[name], locals[name],
+                            qNames[name], attributes);
+                    continue;
+                case BinaryTreeFormat.END_ELEMENT:
+                    if (depth == 0) {
+                        throw new IOException("Malformed binary tree.");
+                    }
+                    name = stack[--depth];
+                    contentHandler.endElement(uris[name], locals[name],
+                            qNames[name]);
+                    continue;
+                case BinaryTreeFormat.CHARACTERS:
+                    length = readNumber();
+                    readChars(length);
+                    contentHandler.characters(chars, 0, length);
+                    continue;
+                case BinaryTreeFormat.COMMENT:
+                    length = readNumber();
+                    readChars(length);
+                    if (lexicalHandler != null) {
+                        lexicalHandler.comment(chars, 0, length);
+                    }
+                    continue;
+                case BinaryTreeFormat.DOCTYPE:
+                    String doctypeName = readNullableString();
+                    String publicId = readNullableString();
+                    String systemId = readNullableString();
+                    if (lexicalHandler != null) {
+                        lexicalHandler.startDTD(doctypeName, publicId, systemId);
+                        lexicalHandler.endDTD();
+                    }
+                    continue;
+                case BinaryTreeFormat.PROCESSING_INSTRUCTION:
+                    String target = readString();
+                    contentHandler.processingInstruction(target,
+                            readNullableString());
+                    continue;
+                default:
+                    throw new IOException("Malformed binary tree.");
+            }
+        }
+    }
+}
@@ -0,0 +1,385 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+package nu.validator.htmlparser.sax;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.Locator;
+import org.xml.sax.SAXException;
+import org.xml.sax.ext.LexicalHandler;
+
+/**
+ * Writes the SAX events of one parse into a compact binary form that 
+ * <code>BinaryTreeReader</code> can replay without tokenizing again. Names 
+ * are written as indexes into a table that is seeded with the element and 
+ * attribute names known to the parser, so common markup takes a byte or two 
+ * per name.
+ * 
+ * <p>Namespace prefix mappings, CDATA section boundaries, entity boundaries 
+ * and ignorable whitespace are not recorded. (The HTML parser does not report 
+ * them.)
+ * 
+ * <p>The stream is finished on <code>endDocument()</code> or when 
+ * <code>finish()</code> is called. Since <code>HtmlParser</code> does not 
+ * report the end of a fragment, <code>finish()</code> needs to be called 
+ * after <code>parseFragment()</code>. The underlying stream is flushed but 
+ * not closed.
+ * 
+ * @version $Id$
+ */
+public class BinaryTreeWriter implements ContentHandler, LexicalHandler {
+
+    private final OutputStream out;
+
+    private final byte[] buffer = new byte[8192];
+
+    private int pos = 0;
+
+    private final HashMap<String, HashMap<String, Integer>> names = new HashMap<String, HashMap<String, Integer>>();
+
+    private int nameCount = 0;
+
+    private boolean started = false;
+
+    private boolean finished = false;
+
+    /**
+     * Constructor.
+     * 
+     * @param out
+     *            the stream to write to
+     */
+    public BinaryTreeWriter(OutputStream out) {
+        if (out == null) {
+            throw new IllegalArgumentException("OutputStream must not be null.");
+        }
+        this.out = out;
+        String[] uris = BinaryTreeFormat.SEED_URIS;
+        for (int i = 0; i < uris.length; i++) {
+            addName(uris[i], BinaryTreeFormat.SEED_QNAMES[i]);
+        }
+    }
+
+    private int addName(String uri, String qName) {
+        HashMap<String, Integer> byQName = names.get(uri);
+        if (byQName == null) {
+            byQName = new HashMap<String, Integer>();
+            names.put(uri, byQName);
+        }
+        int index = nameCount++;
+        byQName.put(qName, Integer.valueOf(index));
+        return index;
+    }
+
+    private void ensureStarted() throws SAXException {
+        if (finished) {
+            throw new SAXException("The binary tree has already been finished.");
+        }
+        if (!started) {
+            started = true;
+            byte[] magic = BinaryTreeFormat.MAGIC;
+            for (int i = 0; i < magic.length; i++) {
+                writeByte(magic[i]);
+            }
+            writeNumber(BinaryTreeFormat.VERSION);
+            int fingerprint = BinaryTreeFormat.SEED_FINGERPRINT;
+            writeByte(fingerprint >> 24);
+            writeByte(fingerprint >> 16);
+            writeByte(fingerprint >> 8);
+            writeByte(fingerprint);
+        }
+    }
+
+    private void flushBuffer() throws SAXException {
+        try {
+            out.write(buffer, 0, pos);
+        } catch (IOException e) {
+            throw new SAXException(e);
+        }
+        pos = 0;
+    }
+
+    private void writeByte(int b) throws SAXException {
+        if (pos == buffer.length) {
+            flushBuffer();
+        }
+        buffer[pos++] = (byte) b;
+    }
+
+    private void writeNumber(int value) throws SAXException {
+        if (buffer.length - pos < 5) {
+            flushBuffer();
+        }
+        while ((value & ~0x7F) != 0) {
+            buffer[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value = (value >> 7) & 0x1FFFFFF;
+        }
+        buffer[pos++] = (byte) value;
+    }
+
+    private void writeChars(char[] ch, int start, int length)
+            throws SAXException {
+        writeNumber(length);
+        int end = start + length;
+        for (int i = start; i < end; i++) {
+            if (buffer.length - pos < 3) {
+                flushBuffer();
+            }
+            char c = ch[i];
+            if (c < 0x80) {
+                buffer[pos++] = (byte) c;
+            } else if (c < 0x4000) {
+                buffer[pos++] = (byte) ((c & 0x7F) | 0x80);
+                buffer[pos++] = (byte) (c >> 7);
+            } else {
+                buffer[pos++] = (byte) ((c & 0x7F) | 0x80);
+                buffer[pos++] = (byte) (((c >> 7) & 0x7F) | 0x80);
+                buffer[pos++] = (byte) (c >> 14);
+            }
+        }
+    }
+
+    private void writeString(String str) throws SAXException {
+        char[] ch = str.toCharArray();
+        writeChars(ch, 0, ch.length);
+    }
+
+    /**
+     * Writes a string that may be <code>null</code> by shifting the length 
+     * up by one.
+     */
+    private void writeNullableString(String str) throws SAXException {
+        if (str == null) {
+            writeNumber(0);
+        } else {
+            char[] ch = str.toCharArray();
+            writeNumber(ch.length + 1);
+            int end = ch.length;
+            for (int i = 0; i < end; i++) {
+                writeNumber(ch[i]);
+            }
+        }
+    }
+
+    private void writeName(String uri, String localName, String qName)
+            throws SAXException {
+        if (uri == null) {
+            uri = "";
+        }
+        if (qName == null || qName.length() == 0) {
+            qName = localName;
+        }
+        HashMap<String, Integer> byQName = names.get(uri);
+        if (byQName != null) {
+            Integer index = byQName.get(qName);
+            if (index != null) {
+                writeNumber(index.intValue() + 1);
+                return;
+            }
+        }
+        addName(uri, qName);
+        writeNumber(0);
+        writeString(uri);
+        writeString(localName);
+        writeString(qName);
+    }
+
+    /**
+     * Writes the end marker and flushes the underlying stream. Further events 
+     * are rejected.
+     * 
+     * @throws SAXException
+     *             if writing fails
+     */
+    public void finish() throws SAXException {
+        if (finished) {
+            return;
+        }
+        ensureStarted();
+        writeByte(BinaryTreeFormat.END);
+        finished = true;
+        flushBuffer();
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new SAXException(e);
+        }
+    }
+
+    /**
+     * @see org.xml.sax.ContentHandler#characters(char[], int, int)
+     */
+    public void characters(char[] ch, int start, int length)
+            throws SAXException {
+        if (length == 0) {
+            return;
+        }
+        ensureStarted();
+        writeByte(BinaryTreeFormat.CHARACTERS);
+        writeChars(ch, start, length);
+    }
+
+    /**
+     * @see org.xml.sax.ContentHandler#endDocument()
+     */
+    public void endDocument() throws SAXException {
+        ensureStarted();
+        writeByte(BinaryTreeFormat.END_DOCUMENT);
+        finish();
+    }
+
+    /**
+     * @see org.xml.sax.ContentHandler#endElement(java.lang.String,
+     *      java.lang.String, java.lang.String)
+     */
+    public void endElement(String uri, String localName, String qName)
+            throws SAXException {
+        ensureStarted();
+        writeByte(BinaryTreeFormat.END_ELEMENT);
+    }
+
+    /**
+     * @see org.xml.sax.ContentHandler#endPrefixMapping(java.lang.String)
+     */
+    public void endPrefixMapping(String prefix) throws SAXException {
+    }
+
+    /**
+     * @see org.xml.sax.ContentHandler#ignorableWhitespace(char[], int, int)
+     */
+    public void ignorableWhitespace(char[] ch, int start, int length)
+            throws SAXException {
+    }
+
+    /**
+     * @see org.xml.sax.ContentHandler#processingInstruction(java.lang.String,
+     *      java.lang.String)
+     */
+    public void processingInstruction(String target, String data)
+            throws SAXException {
+        ensureStarted();
+        writeByte(BinaryTreeFormat.PROCESSING_INSTRUCTION);
+        writeString(target);
+        writeNullableString(data);
+    }
+
+    /**
+     * @see org.xml.sax.ContentHandler#setDocumentLocator(org.xml.sax.Locator)
+     */
+    public void setDocumentLocator(Locator locator) {
+    }
+
+    /**
+     * @see org.xml.sax.ContentHandler#skippedEntity(java.lang.String)
+     */
+    public void skippedEntity(String name) throws SAXException {
+    }
+
+    /**
+     * @see org.xml.sax.ContentHandler#startDocument()
+     */
+    public void startDocument() throws SAXException {
+        ensureStarted();
+        writeByte(BinaryTreeFormat.START_DOCUMENT);
+    }
+
+    /**
+     * @see org.xml.sax.ContentHandler#startElement(java.lang.String,
+     *      java.lang.String, java.lang.String, org.xml.sax.Attributes)
+     */
+    public void startElement(String uri, String localName, String qName,
+            Attributes atts) throws SAXException {
+        ensureStarted();
+        writeByte(BinaryTreeFormat.START_ELEMENT);
+        writeName(uri, localName, qName);
+        int length = atts.getLength();
+        writeNumber(length);
+        for (int i = 0; i < length; i++) {
+            writeName(atts.getURI(i), atts.getLocalName(i), atts.getQName(i));
+            writeString(atts.getValue(i));
+        }
+    }
+
+    /**
+     * @see org.xml.sax.ContentHandler#startPrefixMapping(java.lang.String,
+     *      java.lang.String)
+     */
+    public void startPrefixMapping(String prefix, String uri)
+            throws SAXException {
+    }
+
+    /**
+     * @see org.xml.sax.ext.LexicalHandler#comment(char[], int, int)
+     */
+    public void comment(char[] ch, int start, int length) throws SAXException {
+        ensureStarted();
+        writeByte(BinaryTreeFormat.COMMENT);
+        writeChars(ch, start, length);
+    }
+
+    /**
+     * @see org.xml.sax.ext.LexicalHandler#endCDATA()
+     */
+    public void endCDATA() throws SAXException {
+    }
+
+    /**
+     * @see org.xml.sax.ext.LexicalHandler#endDTD()
+     */
+    public void endDTD() throws SAXException {
+    }
+
+    /**
+     * @see org.xml.sax.ext.LexicalHandler#endEntity(java.lang.String)
+     */
+    public void endEntity(String name) throws SAXException {
+    }
+
+    /**
+     * @see org.xml.sax.ext.LexicalHandler#startCDATA()
+     */
+    public void startCDATA() throws SAXException {
+    }
+
+    /**
+     * @see org.xml.sax.ext.LexicalHandler#startDTD(java.lang.String,
+     *      java.lang.String, java.lang.String)
+     */
+    public void startDTD(String name, String publicId, String systemId)
+            throws SAXException {
+        ensureStarted();
+        writeByte(BinaryTreeFormat.DOCTYPE);
+        writeNullableString(name);
+        writeNullableString(publicId);
+        writeNullableString(systemId);
+    }
+
+    /**
+     * @see org.xml.sax.ext.LexicalHandler#startEntity(java.lang.String)
+     */
+    public void startEntity(String name) throws SAXException {
+    }
+}
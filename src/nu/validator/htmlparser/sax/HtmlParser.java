@@ -23,24 +23,31 @@
 
 package nu.validator.htmlparser.sax;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.HashMap;
 
 import nu.validator.htmlparser.common.CharacterHandler;
 import nu.validator.htmlparser.common.DoctypeExpectation;
 import nu.validator.htmlparser.common.DocumentModeHandler;
 import nu.validator.htmlparser.common.Heuristics;
+import nu.validator.htmlparser.common.Interner;
+import nu.validator.htmlparser.common.ParserMetrics;
 import nu.validator.htmlparser.common.TokenHandler;
 import nu.validator.htmlparser.common.TransitionHandler;
 import nu.validator.htmlparser.common.XmlViolationPolicy;
+import nu.validator.htmlparser.impl.AttributeValueCache;
 import nu.validator.htmlparser.impl.ErrorReportingTokenizer;
 import nu.validator.htmlparser.impl.Tokenizer;
 import nu.validator.htmlparser.impl.TreeBuilder;
 import nu.validator.htmlparser.io.Driver;
+import nu.validator.htmlparser.io.ParserConfiguration;
 import nu.validator.saxtree.Document;
 import nu.validator.saxtree.DocumentFragment;
 import nu.validator.saxtree.TreeParser;
@@ -86,7 +93,7 @@ import org.xml.sax.helpers.DefaultHandler;
  * @version $Id$
  * @author hsivonen
  */
-public class HtmlParser implements XMLReader {
+public class HtmlParser implements XMLReader, ParserConfiguration {
 
     private Driver driver = null;
 
@@ -138,6 +145,20 @@ public class HtmlParser implements XMLReader {
 
     private Heuristics heuristics = Heuristics.NONE;
 
+    private int inputBufferSize = Driver.DEFAULT_INPUT_BUFFER_SIZE;
+
+    private boolean adaptiveInputBuffer = false;
+
+    private ExecutorService speculativeExecutor = null;
+
+    private int speculativeChunkSize = Driver.DEFAULT_SPECULATIVE_CHUNK_SIZE;
+
+    private Interner interner = null;
+
+    private AttributeValueCache attributeValueCache = null;
+
+    private ParserMetrics parserMetrics = null;
+
     private HashMap<String, String> errorProfileMap = null;
 
     private TransitionHandler transitionHandler = null;
@@ -197,6 +218,13 @@ public class HtmlParser implements XMLReader {
             this.driver.setMappingLangToXmlLang(mappingLangToXmlLang);
             this.driver.setXmlnsPolicy(xmlnsPolicy);
             this.driver.setHeuristics(heuristics);
+            this.driver.setInputBufferSize(inputBufferSize);
+            this.driver.setAdaptiveInputBuffer(adaptiveInputBuffer);
+            this.driver.setSpeculativeExecutor(speculativeExecutor);
+            this.driver.setSpeculativeChunkSize(speculativeChunkSize);
+            this.driver.setInterner(interner);
+            this.driver.setAttributeValueCache(attributeValueCache);
+            this.driver.setParserMetrics(parserMetrics);
             for (CharacterHandler characterHandler : characterHandlers) {
                 this.driver.addCharacterHandler(characterHandler);
             }
@@ -285,6 +313,8 @@ public class HtmlParser implements XMLReader {
      * <dd><code>isMappingLangToXmlLang</code></dd>
      * <dt><code>http://validator.nu/features/scripting-enabled</code></dt>
      * <dd><code>isScriptingEnabled</code></dd>
+     * <dt><code>http://validator.nu/features/adaptive-input-buffer</code></dt>
+     * <dd><code>isAdaptiveInputBuffer</code></dd>
      * </dl>
      * 
      * @param name
@@ -331,6 +361,8 @@ public class HtmlParser implements XMLReader {
             return isMappingLangToXmlLang();
         } else if ("http://validator.nu/features/scripting-enabled".equals(name)) {
             return isScriptingEnabled();
+        } else if ("http://validator.nu/features/adaptive-input-buffer".equals(name)) {
+            return isAdaptiveInputBuffer();
         } else {
             throw new SAXNotRecognizedException();
         }
@@ -364,6 +396,10 @@ public class HtmlParser implements XMLReader {
      * <dd><code>getDocumentModeHandler</code></dd>
      * <dt><code>http://validator.nu/properties/doctype-expectation</code></dt>
      * <dd><code>getDoctypeExpectation</code></dd>
+     * <dt><code>http://validator.nu/properties/input-buffer-size</code></dt>
+     * <dd><code>getInputBufferSize</code></dd>
+     * <dt><code>http://validator.nu/properties/attribute-value-cache</code></dt>
+     * <dd><code>getAttributeValueCache</code></dd>
      * <dt><code>http://xml.org/sax/features/unicode-normalization-checking</code></dt>
      * </dl>
      * 
@@ -408,6 +444,10 @@ public class HtmlParser implements XMLReader {
                     "Cannot get a convenience setter.");
         } else if ("http://validator.nu/properties/heuristics".equals(name)) {
             return getHeuristics();
+        } else if ("http://validator.nu/properties/input-buffer-size".equals(name)) {
+            return Integer.valueOf(getInputBufferSize());
+        } else if ("http://validator.nu/properties/attribute-value-cache".equals(name)) {
+            return getAttributeValueCache();
         } else {
             throw new SAXNotRecognizedException();
         }
@@ -422,11 +462,41 @@ public class HtmlParser implements XMLReader {
             treeBuilder.setFragmentContext(null);
             tokenize(input);
         } finally {
-            if (saxTreeBuilder != null) {
-                Document document = saxTreeBuilder.getDocument();
-                if (document != null) {
-                    new TreeParser(contentHandler, lexicalHandler).parse(document);
-                }
+            replayDocument();
+        }
+    }
+
+    /**
+     * Parses a file by mapping it into memory instead of reading it through
+     * a stream.
+     * 
+     * @param file
+     *            the file, which must not be larger than 2 GB
+     * @throws IOException
+     * @throws SAXException
+     * @see nu.validator.htmlparser.io.Driver#tokenize(File, String)
+     */
+    public void parse(File file) throws IOException, SAXException {
+        lazyInit();
+        try {
+            treeBuilder.setFragmentContext(null);
+            driver.tokenize(file, null);
+        } finally {
+            replayDocument();
+        }
+    }
+
+    /**
+     * Reports the document built in the non-streaming mode to the handlers.
+     * 
+     * @throws SAXException
+     */
+    private void replayDocument() throws SAXException {
+        if (saxTreeBuilder != null) {
+            Document document = saxTreeBuilder.getDocument();
+            if (document != null) {
+                new TreeParser(contentHandler, lexicalHandler).parse(document);
+                saxTreeBuilder.recycleAttributes(document);
             }
         }
     }
@@ -449,6 +519,7 @@ public class HtmlParser implements XMLReader {
             if (saxTreeBuilder != null) {
                 DocumentFragment fragment = saxTreeBuilder.getDocumentFragment();
                 new TreeParser(contentHandler, lexicalHandler).parse(fragment);
+                saxTreeBuilder.recycleAttributes(fragment);
             }
         }
     }
@@ -472,6 +543,7 @@ public class HtmlParser implements XMLReader {
             if (saxTreeBuilder != null) {
                 DocumentFragment fragment = saxTreeBuilder.getDocumentFragment();
                 new TreeParser(contentHandler, lexicalHandler).parse(fragment);
+                saxTreeBuilder.recycleAttributes(fragment);
             }
         }
     }
@@ -510,6 +582,84 @@ public class HtmlParser implements XMLReader {
         parse(new InputSource(systemId));
     }
 
+    /**
+     * Parses a document that is already in memory. The bytes are decoded
+     * straight from the buffer without going through an
+     * <code>InputStream</code> or a <code>Reader</code>.
+     * 
+     * @param bytes
+     *            the document from the position of the buffer to its limit;
+     *            heap and direct buffers are supported
+     * @param encoding
+     *            the encoding label from the transport layer or
+     *            <code>null</code> to sniff
+     * @param systemId
+     *            the system id for locators or <code>null</code>
+     * @throws IOException
+     * @throws SAXException
+     */
+    public void parse(ByteBuffer bytes, String encoding, String systemId)
+            throws IOException, SAXException {
+        lazyInit();
+        try {
+            treeBuilder.setFragmentContext(null);
+            driver.tokenize(bytes, encoding, null, systemId);
+        } finally {
+            replayDocument();
+        }
+    }
+
+    /**
+     * Parses a document that is already in memory.
+     * 
+     * @param bytes
+     *            the document
+     * @param encoding
+     *            the encoding label from the transport layer or
+     *            <code>null</code> to sniff
+     * @param systemId
+     *            the system id for locators or <code>null</code>
+     * @throws IOException
+     * @throws SAXException
+     * @see #parse(ByteBuffer, String, String)
+     */
+    public void parse(byte[] bytes, String encoding, String systemId)
+            throws IOException, SAXException {
+        parse(ByteBuffer.wrap(bytes), encoding, systemId);
+    }
+
+    /**
+     * Prepares this parser for parsing another document. The content,
+     * lexical, DTD, error, transition, character and document mode handlers,
+     * the error profile and the entity resolver are forgotten. The
+     * configuration is retained and so are the tokenizer, the tree builder
+     * and the driver, whose buffers have already grown to the size that the
+     * previous documents needed. Setting new handlers after a reset does not
+     * cause the internals to be rebuilt unless a non-error-reporting
+     * tokenizer is in use and an error handler is set. The internals are
+     * rebuilt after a reset that forgets a transition or character handler
+     * or an error profile, because the tokenizer and the driver hold on to
+     * those.
+     */
+    public void reset() {
+        setContentHandler(null);
+        setLexicalHandler(null);
+        setDTDHandler(null);
+        setEntityResolver(null);
+        setErrorHandler(null);
+        documentModeHandler = null;
+        if (treeBuilder != null) {
+            treeBuilder.setDocumentModeHandler(null);
+        }
+        if (transitionHandler != null || !characterHandlers.isEmpty()
+                || errorProfileMap != null) {
+            transitionHandler = null;
+            characterHandlers.clear();
+            errorProfileMap = null;
+            driver = null;
+        }
+    }
+
     /**
      * @see org.xml.sax.XMLReader#setContentHandler(org.xml.sax.ContentHandler)
      */
@@ -555,7 +705,12 @@ public class HtmlParser implements XMLReader {
     public void setErrorHandler(ErrorHandler handler) {
         errorHandler = handler;
         treeBuilderErrorHandler = handler;
-        driver = null;
+        if (driver != null && (handler == null || driver.isErrorReporting())) {
+            driver.setErrorHandler(handler);
+            treeBuilder.setErrorHandler(handler);
+        } else {
+            driver = null;
+        }
     }
 
     public void setTransitionHandler(TransitionHandler handler) {
@@ -590,6 +745,8 @@ public class HtmlParser implements XMLReader {
      * <dd><code>setMappingLangToXmlLang</code></dd>
      * <dt><code>http://validator.nu/features/scripting-enabled</code></dt>
      * <dd><code>setScriptingEnabled</code></dd>
+     * <dt><code>http://validator.nu/features/adaptive-input-buffer</code></dt>
+     * <dd><code>setAdaptiveInputBuffer</code></dd>
      * </dl>
      * 
      * @see org.xml.sax.XMLReader#setFeature(java.lang.String, boolean)
@@ -660,6 +817,8 @@ public class HtmlParser implements XMLReader {
             setMappingLangToXmlLang(value);
         } else if ("http://validator.nu/features/scripting-enabled".equals(name)) {
             setScriptingEnabled(value);
+        } else if ("http://validator.nu/features/adaptive-input-buffer".equals(name)) {
+            setAdaptiveInputBuffer(value);
         } else {
             throw new SAXNotRecognizedException();
         }
@@ -690,6 +849,10 @@ public class HtmlParser implements XMLReader {
      * <dd><code>setDoctypeExpectation</code></dd>
      * <dt><code>http://validator.nu/properties/xml-policy</code></dt>
      * <dd><code>setXmlPolicy</code></dd>
+     * <dt><code>http://validator.nu/properties/input-buffer-size</code></dt>
+     * <dd><code>setInputBufferSize</code></dd>
+     * <dt><code>http://validator.nu/properties/attribute-value-cache</code></dt>
+     * <dd><code>setAttributeValueCache</code></dd>
      * </dl>
      * 
      * @see org.xml.sax.XMLReader#setProperty(java.lang.String,
@@ -729,6 +892,10 @@ public class HtmlParser implements XMLReader {
             setXmlPolicy((XmlViolationPolicy) value);
         } else if ("http://validator.nu/properties/heuristics".equals(name)) {
             setHeuristics((Heuristics) value);
+        } else if ("http://validator.nu/properties/input-buffer-size".equals(name)) {
+            setInputBufferSize(((Integer) value).intValue());
+        } else if ("http://validator.nu/properties/attribute-value-cache".equals(name)) {
+            setAttributeValueCache((AttributeValueCache) value);
         } else {
             throw new SAXNotRecognizedException();
         }
@@ -1047,6 +1214,184 @@ public class HtmlParser implements XMLReader {
         return this.heuristics;
     }
 
+    /**
+     * Sets the size of the buffer that input is decoded into and handed to
+     * the tokenizer in. Larger buffers mean fewer trips through the
+     * tokenizer's state loop for large documents.
+     * 
+     * @param inputBufferSize
+     *            the size in UTF-16 code units, at least 2
+     * @see nu.validator.htmlparser.io.Driver#setInputBufferSize(int)
+     */
+    public void setInputBufferSize(int inputBufferSize) {
+        if (inputBufferSize < 2) {
+            throw new IllegalArgumentException(
+                    "The input buffer size must be at least 2.");
+        }
+        this.inputBufferSize = inputBufferSize;
+        if (driver != null) {
+            driver.setInputBufferSize(inputBufferSize);
+        }
+    }
+
+    /**
+     * Returns the input buffer size.
+     * 
+     * @return the input buffer size
+     */
+    public int getInputBufferSize() {
+        return inputBufferSize;
+    }
+
+    /**
+     * Sets whether the input buffer grows when the input source keeps
+     * filling it.
+     * 
+     * @param adaptiveInputBuffer
+     *            <code>true</code> to grow the buffer
+     * @see nu.validator.htmlparser.io.Driver#setAdaptiveInputBuffer(boolean)
+     */
+    public void setAdaptiveInputBuffer(boolean adaptiveInputBuffer) {
+        this.adaptiveInputBuffer = adaptiveInputBuffer;
+        if (driver != null) {
+            driver.setAdaptiveInputBuffer(adaptiveInputBuffer);
+        }
+    }
+
+    /**
+     * Indicates whether the input buffer grows.
+     * 
+     * @return <code>true</code> if the input buffer grows
+     */
+    public boolean isAdaptiveInputBuffer() {
+        return adaptiveInputBuffer;
+    }
+
+    /**
+     * Sets the executor for the experimental speculative tokenization of
+     * large documents, which splits the input into chunks that are
+     * tokenized concurrently. Only used when the encoding is certain and no
+     * error handler is set.
+     * 
+     * @param speculativeExecutor
+     *            the executor or <code>null</code> to tokenize sequentially
+     * @see nu.validator.htmlparser.io.Driver#setSpeculativeExecutor(ExecutorService)
+     */
+    public void setSpeculativeExecutor(ExecutorService speculativeExecutor) {
+        this.speculativeExecutor = speculativeExecutor;
+        if (driver != null) {
+            driver.setSpeculativeExecutor(speculativeExecutor);
+        }
+    }
+
+    /**
+     * Returns the executor for speculative tokenization.
+     * 
+     * @return the executor or <code>null</code>
+     */
+    public ExecutorService getSpeculativeExecutor() {
+        return speculativeExecutor;
+    }
+
+    /**
+     * Sets the minimum chunk size for speculative tokenization.
+     * 
+     * @param speculativeChunkSize
+     *            the size in UTF-16 code units, at least 1
+     * @see nu.validator.htmlparser.io.Driver#setSpeculativeChunkSize(int)
+     */
+    public void setSpeculativeChunkSize(int speculativeChunkSize) {
+        if (speculativeChunkSize < 1) {
+            throw new IllegalArgumentException(
+                    "The speculative chunk size must be positive.");
+        }
+        this.speculativeChunkSize = speculativeChunkSize;
+        if (driver != null) {
+            driver.setSpeculativeChunkSize(speculativeChunkSize);
+        }
+    }
+
+    /**
+     * Returns the minimum chunk size for speculative tokenization.
+     * 
+     * @return the size in UTF-16 code units
+     */
+    public int getSpeculativeChunkSize() {
+        return speculativeChunkSize;
+    }
+
+    /**
+     * Sets the interner for element and attribute names that are not in the
+     * static tables. An interner can be shared between parsers.
+     * 
+     * @param interner
+     *            the interner or <code>null</code> for the shared
+     *            <code>CachingInterner</code>
+     */
+    public void setInterner(Interner interner) {
+        this.interner = interner;
+        if (driver != null) {
+            driver.setInterner(interner);
+        }
+    }
+
+    /**
+     * Returns the interner.
+     * 
+     * @return the interner or <code>null</code> if the shared one is used
+     */
+    public Interner getInterner() {
+        return interner;
+    }
+
+    /**
+     * Sets the cache that attribute values are looked up in so that repeated
+     * values share one string. A cache created as concurrent can be shared
+     * between parsers.
+     * 
+     * @param attributeValueCache
+     *            the cache or <code>null</code> to allocate each value
+     */
+    public void setAttributeValueCache(AttributeValueCache attributeValueCache) {
+        this.attributeValueCache = attributeValueCache;
+        if (driver != null) {
+            driver.setAttributeValueCache(attributeValueCache);
+        }
+    }
+
+    /**
+     * Returns the attribute value cache.
+     * 
+     * @return the cache or <code>null</code> if none is used
+     */
+    public AttributeValueCache getAttributeValueCache() {
+        return attributeValueCache;
+    }
+
+    /**
+     * Sets the receiver of the counts and timings of each parse. Nothing is
+     * collected when this is <code>null</code>.
+     * 
+     * @param parserMetrics
+     *            the metrics or <code>null</code>
+     * @see nu.validator.htmlparser.io.Driver#setParserMetrics(ParserMetrics)
+     */
+    public void setParserMetrics(ParserMetrics parserMetrics) {
+        this.parserMetrics = parserMetrics;
+        if (driver != null) {
+            driver.setParserMetrics(parserMetrics);
+        }
+    }
+
+    /**
+     * Returns the receiver of the counts and timings of each parse.
+     * 
+     * @return the metrics or <code>null</code>
+     */
+    public ParserMetrics getParserMetrics() {
+        return parserMetrics;
+    }
+
     /**
      * This is a catch-all convenience method for setting name, xmlns, content space, 
      * content non-XML char and comment policies in one go. This does not affect the 
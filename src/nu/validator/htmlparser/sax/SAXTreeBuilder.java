@@ -34,6 +34,7 @@ import nu.validator.saxtree.Element;
 import nu.validator.saxtree.Node;
 import nu.validator.saxtree.ParentNode;
 
+import org.xml.sax.Attributes;
 import org.xml.sax.SAXException;
 
 class SAXTreeBuilder extends TreeBuilder<Element> {
@@ -124,6 +125,33 @@ class SAXTreeBuilder extends TreeBuilder<Element> {
         return rv;
     }
 
+    /**
+     * Hands the attributes of the elements in a tree that has been replayed
+     * back to the tokenizer for reuse. The tree must not be used afterwards.
+     * 
+     * @param root
+     *            the document or fragment
+     */
+    void recycleAttributes(ParentNode root) {
+        Node node = root.getFirstChild();
+        while (node != null) {
+            if (node instanceof Element) {
+                Attributes attributes = node.getAttributes();
+                if (attributes instanceof HtmlAttributes) {
+                    tokenizer.recycleAttributes((HtmlAttributes) attributes);
+                }
+            }
+            Node next = node.getFirstChild();
+            while (next == null && node != root) {
+                next = node.getNextSibling();
+                if (next == null) {
+                    node = node.getParentNode();
+                }
+            }
+            node = next;
+        }
+    }
+
     /**
      * @throws SAXException 
      * @see nu.validator.htmlparser.impl.TreeBuilder#end()
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+package nu.validator.htmlparser.sax;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import nu.validator.htmlparser.common.TextHandler;
+import nu.validator.htmlparser.impl.AttributeName;
+import nu.validator.htmlparser.impl.HtmlAttributes;
+import nu.validator.htmlparser.impl.TreeBuilder;
+
+import org.xml.sax.SAXException;
+
+/**
+ * A tree builder that never builds a tree but streams the text and the link
+ * targets of the document to a <code>TextHandler</code>. Elements are
+ * represented by opaque integer handles that only record whether the
+ * element's content is skipped, so memory use is bounded by the depth of the
+ * stack of open elements rather than by the size of the document.
+ * 
+ * <p>Text is reported in source order. In particular, text that the tree
+ * construction algorithm would foster-parent in front of a table is reported
+ * where it occurs in the source.
+ * 
+ * <p>Use with a <code>Driver</code>:
+ * 
+ * <pre>
+ * TextStreamer streamer = new TextStreamer(handler);
+ * Driver driver = new Driver(new Tokenizer(streamer, false));
+ * driver.tokenize(inputSource);
+ * </pre>
+ * 
+ * @version $Id$
+ */
+public class TextStreamer extends TreeBuilder<Integer> {
+
+    private static final char[] ISINDEX_PROMPT = "This is a searchable index. Enter search keywords: ".toCharArray();
+
+    /**
+     * Elements whose start and end are reported as boundaries.
+     */
+    private static final Set<String> BLOCKS = new HashSet<String>(
+            Arrays.asList(new String[] { "address", "article", "aside",
+                    "blockquote", "br", "caption", "dd", "details", "dialog",
+                    "div", "dl", "dt", "fieldset", "figcaption", "figure",
+                    "footer", "form", "h1", "h2", "h3", "h4", "h5", "h6",
+                    "header", "hgroup", "hr", "li", "main", "menu", "nav",
+                    "ol", "option", "p", "pre", "section", "summary",
+                    "table", "td", "th", "title", "tr", "ul" }));
+
+    private static final int SKIPPED = 1;
+
+    private final TextHandler textHandler;
+
+    private boolean skippingNonText = true;
+
+    private int nextHandle = 0;
+
+    /**
+     * Instantiates the streamer.
+     * 
+     * @param textHandler
+     *            the handler that receives the text and the links
+     */
+    public TextStreamer(TextHandler textHandler) {
+        super();
+        this.textHandler = textHandler;
+    }
+
+    /**
+     * Sets whether the content of <code>script</code>, <code>style</code>
+     * and <code>template</code> elements (and of <code>noscript</code> when
+     * scripting is enabled) is skipped. Defaults to <code>true</code>.
+     * 
+     * @param skippingNonText
+     *            <code>true</code> to skip content that is not rendered as
+     *            text
+     */
+    public void setSkippingNonText(boolean skippingNonText) {
+        this.skippingNonText = skippingNonText;
+    }
+
+    /**
+     * Returns whether content that is not rendered as text is skipped.
+     * 
+     * @return <code>true</code> if content that is not rendered as text is
+     *         skipped
+     */
+    public boolean isSkippingNonText() {
+        return skippingNonText;
+    }
+
+    private Integer newHandle(boolean skipped) {
+        int handle = (nextHandle++ & 0x3FFFFFFF) << 1;
+        return Integer.valueOf(skipped ? handle | SKIPPED : handle);
+    }
+
+    private static boolean isSkipped(Integer handle) {
+        return handle != null && (handle.intValue() & SKIPPED) != 0;
+    }
+
+    private boolean isNonText(String ns, String name) {
+        if (!skippingNonText) {
+            return false;
+        }
+        if ("script" == name || "style" == name) {
+            return true;
+        }
+        if ("http://www.w3.org/1999/xhtml" != ns) {
+            return false;
+        }
+        return "template" == name
+                || ("noscript" == name && isScriptingEnabled());
+    }
+
+    private void link(String ns, String name, HtmlAttributes attributes)
+            throws SAXException {
+        if ("http://www.w3.org/1999/xhtml" == ns
+                && ("a" == name || "area" == name || "link" == name)) {
+            String href = attributes.getValue(AttributeName.HREF);
+            if (href != null) {
+                textHandler.link(name, href);
+            }
+        }
+    }
+
+    @Override protected Integer createElement(String ns, String name,
+            HtmlAttributes attributes, Integer intendedParent)
+            throws SAXException {
+        boolean skipped = isSkipped(intendedParent) || isNonText(ns, name);
+        if (!skipped) {
+            link(ns, name, attributes);
+        }
+        return newHandle(skipped);
+    }
+
+    @Override protected Integer createHtmlElementSetAsRoot(
+            HtmlAttributes attributes) throws SAXException {
+        return newHandle(false);
+    }
+
+    @Override protected Integer createAndInsertFosterParentedElement(
+            String ns, String name, HtmlAttributes attributes, Integer table,
+            Integer stackParent) throws SAXException {
+        return createElement(ns, name, attributes, stackParent);
+    }
+
+    @Override protected void appendCharacters(Integer parent, char[] buf,
+            int start, int length) throws SAXException {
+        if (!isSkipped(parent)) {
+            textHandler.characters(buf, start, length);
+        }
+    }
+
+    @Override protected void insertFosterParentedCharacters(char[] buf,
+            int start, int length, Integer table, Integer stackParent)
+            throws SAXException {
+        appendCharacters(stackParent, buf, start, length);
+    }
+
+    /**
+     * @see nu.validator.htmlparser.impl.TreeBuilder#appendIsindexPrompt(java.lang.Object)
+     */
+    @Override protected void appendIsindexPrompt(Integer parent)
+            throws SAXException {
+        appendCharacters(parent, ISINDEX_PROMPT, 0, ISINDEX_PROMPT.length);
+    }
+
+    @Override protected void elementPushed(String ns, String name,
+            Integer node) throws SAXException {
+        if (!isSkipped(node) && BLOCKS.contains(name)) {
+            textHandler.boundary();
+        }
+    }
+
+    @Override protected void elementPopped(String ns, String name,
+            Integer node) throws SAXException {
+        if (!isSkipped(node) && BLOCKS.contains(name)) {
+            textHandler.boundary();
+        }
+    }
+
+    @Override protected void start(boolean fragment) throws SAXException {
+        nextHandle = 0;
+        textHandler.start();
+    }
+
+    @Override protected void end() throws SAXException {
+        textHandler.end();
+    }
+
+    @Override protected void appendElement(Integer child, Integer newParent)
+            throws SAXException {
+    }
+
+    @Override protected void appendChildrenToNewParent(Integer oldParent,
+            Integer newParent) throws SAXException {
+    }
+
+    @Override protected void detachFromParent(Integer element)
+            throws SAXException {
+    }
+
+    @Override protected boolean hasChildren(Integer element)
+            throws SAXException {
+        return false;
+    }
+
+    @Override protected void insertFosterParentedChild(Integer child,
+            Integer table, Integer stackParent) throws SAXException {
+    }
+
+    @Override protected void addAttributesToElement(Integer element,
+            HtmlAttributes attributes) throws SAXException {
+    }
+
+    @Override protected void appendComment(Integer parent, char[] buf,
+            int start, int length) throws SAXException {
+    }
+
+    @Override protected void appendCommentToDocument(char[] buf, int start,
+            int length) throws SAXException {
+    }
+
+}
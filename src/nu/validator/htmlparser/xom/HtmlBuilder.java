@@ -24,26 +24,31 @@
 package nu.validator.htmlparser.xom;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.io.StringReader;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import nu.validator.htmlparser.common.CharacterHandler;
 import nu.validator.htmlparser.common.DoctypeExpectation;
 import nu.validator.htmlparser.common.DocumentModeHandler;
 import nu.validator.htmlparser.common.Heuristics;
+import nu.validator.htmlparser.common.Interner;
+import nu.validator.htmlparser.common.ParserMetrics;
 import nu.validator.htmlparser.common.TokenHandler;
 import nu.validator.htmlparser.common.TransitionHandler;
 import nu.validator.htmlparser.common.XmlViolationPolicy;
+import nu.validator.htmlparser.impl.AttributeValueCache;
 import nu.validator.htmlparser.impl.ErrorReportingTokenizer;
 import nu.validator.htmlparser.impl.Tokenizer;
 import nu.validator.htmlparser.io.Driver;
+import nu.validator.htmlparser.io.ParserConfiguration;
 import nu.xom.Builder;
 import nu.xom.Document;
 import nu.xom.Nodes;
@@ -82,7 +87,8 @@ import org.xml.sax.SAXParseException;
  * @version $Id$
  * @author hsivonen
  */
-public class HtmlBuilder extends Builder {
+public class HtmlBuilder extends Builder implements
+        ParserConfiguration {
 
     private Driver driver;
 
@@ -126,6 +132,22 @@ public class HtmlBuilder extends Builder {
 
     private Heuristics heuristics = Heuristics.NONE;
 
+    private int inputBufferSize = Driver.DEFAULT_INPUT_BUFFER_SIZE;
+
+    private boolean adaptiveInputBuffer = false;
+
+    private ExecutorService speculativeExecutor = null;
+
+    private int speculativeChunkSize = Driver.DEFAULT_SPECULATIVE_CHUNK_SIZE;
+
+    private Interner interner = null;
+
+    private AttributeValueCache attributeValueCache = null;
+
+    private ParserMetrics parserMetrics = null;
+
+    private boolean directCharacters = false;
+
     private TransitionHandler transitionHandler = null;
     
     /**
@@ -191,6 +213,13 @@ public class HtmlBuilder extends Builder {
             this.driver.setMappingLangToXmlLang(mappingLangToXmlLang);
             this.driver.setXmlnsPolicy(xmlnsPolicy);
             this.driver.setHeuristics(heuristics);
+            this.driver.setInputBufferSize(inputBufferSize);
+            this.driver.setAdaptiveInputBuffer(adaptiveInputBuffer);
+            this.driver.setSpeculativeExecutor(speculativeExecutor);
+            this.driver.setSpeculativeChunkSize(speculativeChunkSize);
+            this.driver.setInterner(interner);
+            this.driver.setAttributeValueCache(attributeValueCache);
+            this.driver.setParserMetrics(parserMetrics);
             for (CharacterHandler characterHandler : characterHandlers) {
                 this.driver.addCharacterHandler(characterHandler);
             }
@@ -249,6 +278,49 @@ public class HtmlBuilder extends Builder {
         return treeBuilder.getDocument();
     }
 
+    /**
+     * Parse a document that is already in memory. The bytes are decoded
+     * straight from the buffer without going through an
+     * <code>InputStream</code> or a <code>Reader</code>.
+     * @param bytes the document from the position of the buffer to its limit
+     * @param encoding the encoding label from the transport layer or 
+     * <code>null</code> to sniff
+     * @param systemId the system id for locators or <code>null</code>
+     * @return the document
+     * @throws ParsingException in case of an XML violation
+     * @throws IOException if a character handler threw
+     */
+    public Document build(ByteBuffer bytes, String encoding, String systemId)
+            throws ParsingException, IOException {
+        lazyInit();
+        treeBuilder.setFragmentContext(null);
+        try {
+            driver.tokenize(bytes, encoding, null, systemId);
+        } catch (SAXParseException e) {
+            throw new ParsingException(e.getMessage(), e.getSystemId(), e.getLineNumber(),
+                    e.getColumnNumber(), e);
+        } catch (SAXException e) {
+            throw new ParsingException(e.getMessage(), e);
+        }
+        return treeBuilder.getDocument();
+    }
+
+    /**
+     * Parse a document that is already in memory.
+     * @param bytes the document
+     * @param encoding the encoding label from the transport layer or 
+     * <code>null</code> to sniff
+     * @param systemId the system id for locators or <code>null</code>
+     * @return the document
+     * @throws ParsingException in case of an XML violation
+     * @throws IOException if a character handler threw
+     * @see #build(ByteBuffer, String, String)
+     */
+    public Document build(byte[] bytes, String encoding, String systemId)
+            throws ParsingException, IOException {
+        return build(ByteBuffer.wrap(bytes), encoding, systemId);
+    }
+
     /**
      * Parse a fragment from SAX <code>InputSource</code> assuming an HTML
      * context.
@@ -284,17 +356,28 @@ public class HtmlBuilder extends Builder {
     }
     
     /**
-     * Parse from <code>File</code>.
-     * @param file the file
+     * Parse from <code>File</code> by mapping it into memory instead of
+     * reading it through a stream.
+     * @param file the file, which must not be larger than 2 GB
      * @return the document
      * @throws ParsingException in case of an XML violation
-     * @throws IOException if IO goes wrang
+     * @throws IOException if the file could not be mapped
      * @see nu.xom.Builder#build(java.io.File)
      */
     @Override
     public Document build(File file) throws ParsingException,
             ValidityException, IOException {
-        return build(new FileInputStream(file), file.toURI().toASCIIString());
+        lazyInit();
+        treeBuilder.setFragmentContext(null);
+        try {
+            driver.tokenize(file, null);
+        } catch (SAXParseException e) {
+            throw new ParsingException(e.getMessage(), e.getSystemId(), e.getLineNumber(),
+                    e.getColumnNumber(), e);
+        } catch (SAXException e) {
+            throw new ParsingException(e.getMessage(), e);
+        }
+        return treeBuilder.getDocument();
     }
 
     /**
@@ -388,6 +471,27 @@ public class HtmlBuilder extends Builder {
         return build(new InputSource(uri));
     }
 
+    /**
+     * Prepares this builder for building another document. The error,
+     * transition, character and document mode handlers and the entity
+     * resolver are forgotten. The configuration is retained and so are the
+     * tokenizer, the tree builder and the driver, whose buffers have already
+     * grown to the size that the previous documents needed.
+     */
+    public void reset() {
+        setEntityResolver(null);
+        setErrorHandler(null);
+        documentModeHandler = null;
+        treeBuilder.setDocumentModeHandler(null);
+        if (transitionHandler != null || !characterHandlers.isEmpty()) {
+            // The tokenizer and the driver hold on to these, so they are
+            // rebuilt.
+            transitionHandler = null;
+            characterHandlers.clear();
+            driver = null;
+        }
+    }
+
     /**
      * Gets the node factory
      */
@@ -408,7 +512,12 @@ public class HtmlBuilder extends Builder {
     public void setErrorHandler(ErrorHandler handler) {
         errorHandler = handler;
         treeBuilderErrorHandler = handler;
-        driver = null;
+        if (driver != null && (handler == null || driver.isErrorReporting())) {
+            driver.setErrorHandler(handler);
+            treeBuilder.setErrorHandler(handler);
+        } else {
+            driver = null;
+        }
     }
     
     public void setTransitionHander(TransitionHandler handler) {
@@ -712,6 +821,210 @@ public class HtmlBuilder extends Builder {
         return this.heuristics;
     }
 
+    /**
+     * Sets the size of the buffer that input is decoded into and handed to
+     * the tokenizer in. Larger buffers mean fewer trips through the
+     * tokenizer's state loop for large documents.
+     * 
+     * @param inputBufferSize
+     *            the size in UTF-16 code units, at least 2
+     * @see nu.validator.htmlparser.io.Driver#setInputBufferSize(int)
+     */
+    public void setInputBufferSize(int inputBufferSize) {
+        if (inputBufferSize < 2) {
+            throw new IllegalArgumentException(
+                    "The input buffer size must be at least 2.");
+        }
+        this.inputBufferSize = inputBufferSize;
+        if (driver != null) {
+            driver.setInputBufferSize(inputBufferSize);
+        }
+    }
+
+    /**
+     * Returns the input buffer size.
+     * 
+     * @return the input buffer size
+     */
+    public int getInputBufferSize() {
+        return inputBufferSize;
+    }
+
+    /**
+     * Sets whether the input buffer grows when the input source keeps
+     * filling it.
+     * 
+     * @param adaptiveInputBuffer
+     *            <code>true</code> to grow the buffer
+     * @see nu.validator.htmlparser.io.Driver#setAdaptiveInputBuffer(boolean)
+     */
+    public void setAdaptiveInputBuffer(boolean adaptiveInputBuffer) {
+        this.adaptiveInputBuffer = adaptiveInputBuffer;
+        if (driver != null) {
+            driver.setAdaptiveInputBuffer(adaptiveInputBuffer);
+        }
+    }
+
+    /**
+     * Indicates whether the input buffer grows.
+     * 
+     * @return <code>true</code> if the input buffer grows
+     */
+    public boolean isAdaptiveInputBuffer() {
+        return adaptiveInputBuffer;
+    }
+
+    /**
+     * Sets the executor for the experimental speculative tokenization of
+     * large documents, which splits the input into chunks that are
+     * tokenized concurrently. Only used when the encoding is certain and no
+     * error handler is set.
+     * 
+     * @param speculativeExecutor
+     *            the executor or <code>null</code> to tokenize sequentially
+     * @see nu.validator.htmlparser.io.Driver#setSpeculativeExecutor(ExecutorService)
+     */
+    public void setSpeculativeExecutor(ExecutorService speculativeExecutor) {
+        this.speculativeExecutor = speculativeExecutor;
+        if (driver != null) {
+            driver.setSpeculativeExecutor(speculativeExecutor);
+        }
+    }
+
+    /**
+     * Returns the executor for speculative tokenization.
+     * 
+     * @return the executor or <code>null</code>
+     */
+    public ExecutorService getSpeculativeExecutor() {
+        return speculativeExecutor;
+    }
+
+    /**
+     * Sets the minimum chunk size for speculative tokenization.
+     * 
+     * @param speculativeChunkSize
+     *            the size in UTF-16 code units, at least 1
+     * @see nu.validator.htmlparser.io.Driver#setSpeculativeChunkSize(int)
+     */
+    public void setSpeculativeChunkSize(int speculativeChunkSize) {
+        if (speculativeChunkSize < 1) {
+            throw new IllegalArgumentException(
+                    "The speculative chunk size must be positive.");
+        }
+        this.speculativeChunkSize = speculativeChunkSize;
+        if (driver != null) {
+            driver.setSpeculativeChunkSize(speculativeChunkSize);
+        }
+    }
+
+    /**
+     * Returns the minimum chunk size for speculative tokenization.
+     * 
+     * @return the size in UTF-16 code units
+     */
+    public int getSpeculativeChunkSize() {
+        return speculativeChunkSize;
+    }
+
+    /**
+     * Sets the interner for element and attribute names that are not in the
+     * static tables. An interner can be shared between parsers.
+     * 
+     * @param interner
+     *            the interner or <code>null</code> for the shared
+     *            <code>CachingInterner</code>
+     */
+    public void setInterner(Interner interner) {
+        this.interner = interner;
+        if (driver != null) {
+            driver.setInterner(interner);
+        }
+    }
+
+    /**
+     * Returns the interner.
+     * 
+     * @return the interner or <code>null</code> if the shared one is used
+     */
+    public Interner getInterner() {
+        return interner;
+    }
+
+    /**
+     * Sets the cache that attribute values are looked up in so that repeated
+     * values share one string. A cache created as concurrent can be shared
+     * between parsers.
+     * 
+     * @param attributeValueCache
+     *            the cache or <code>null</code> to allocate each value
+     */
+    public void setAttributeValueCache(AttributeValueCache attributeValueCache) {
+        this.attributeValueCache = attributeValueCache;
+        if (driver != null) {
+            driver.setAttributeValueCache(attributeValueCache);
+        }
+    }
+
+    /**
+     * Returns the attribute value cache.
+     * 
+     * @return the cache or <code>null</code> if none is used
+     */
+    public AttributeValueCache getAttributeValueCache() {
+        return attributeValueCache;
+    }
+
+    /**
+     * Sets the receiver of the counts and timings of each parse. Nothing is
+     * collected when this is <code>null</code>.
+     * 
+     * @param parserMetrics
+     *            the metrics or <code>null</code>
+     * @see nu.validator.htmlparser.io.Driver#setParserMetrics(ParserMetrics)
+     */
+    public void setParserMetrics(ParserMetrics parserMetrics) {
+        this.parserMetrics = parserMetrics;
+        if (driver != null) {
+            driver.setParserMetrics(parserMetrics);
+        }
+    }
+
+    /**
+     * Returns the receiver of the counts and timings of each parse.
+     * 
+     * @return the metrics or <code>null</code>
+     */
+    public ParserMetrics getParserMetrics() {
+        return parserMetrics;
+    }
+
+    /**
+     * Sets whether text nodes are created straight from the input buffer
+     * when a run of text does not need to be coalesced with other text.
+     * This saves copying most body text once. Off by default.
+     * 
+     * @param directCharacters
+     *            <code>true</code> to create text nodes from the input buffer
+     *            when possible
+     * @see nu.validator.htmlparser.impl.CoalescingTreeBuilder#setDirectCharacters(boolean)
+     */
+    public void setDirectCharacters(boolean directCharacters) {
+        this.directCharacters = directCharacters;
+        treeBuilder.setDirectCharacters(directCharacters);
+    }
+
+    /**
+     * Returns whether text nodes are created from the input buffer when
+     * possible.
+     * 
+     * @return <code>true</code> if text nodes are created from the input
+     *         buffer when possible
+     */
+    public boolean isDirectCharacters() {
+        return directCharacters;
+    }
+
     /**
      * This is a catch-all convenience method for setting name, xmlns, content space, 
      * content non-XML char and comment policies in one go. This does not affect the 
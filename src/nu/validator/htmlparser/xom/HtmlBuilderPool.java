@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+package nu.validator.htmlparser.xom;
+
+import java.util.Arrays;
+
+import nu.validator.htmlparser.common.XmlViolationPolicy;
+import nu.validator.htmlparser.io.AbstractParserPool;
+
+/**
+ * A thread-safe pool of <code>HtmlBuilder</code>s for serving many concurrent
+ * parse requests without constructing a builder per request and without
+ * regrowing its buffers every time.
+ * 
+ * <p>A builder is checked out with <code>acquire()</code> and handed back
+ * with <code>release()</code>, which calls <code>HtmlBuilder.reset()</code>.
+ * Callers should only set handlers on the builders they acquire. A builder
+ * whose configuration was changed is not taken back. Subclasses can
+ * configure new builders by overriding <code>newParser()</code>.
+ * 
+ * @version $Id$
+ */
+public class HtmlBuilderPool extends AbstractParserPool<HtmlBuilder> {
+
+    private final XmlViolationPolicy xmlPolicy;
+
+    /**
+     * Instantiates a pool of builders with a fatal XML violation
+     * policy.
+     */
+    public HtmlBuilderPool() {
+        this(XmlViolationPolicy.FATAL);
+    }
+
+    /**
+     * Instantiates a pool of builders with a specific XML violation policy.
+     * 
+     * @param xmlPolicy
+     *            the policy
+     */
+    public HtmlBuilderPool(XmlViolationPolicy xmlPolicy) {
+        this(xmlPolicy, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Instantiates a pool of builders with a specific XML violation policy and
+     * maximum number of idle builders.
+     * 
+     * @param xmlPolicy
+     *            the policy
+     * @param maxSize
+     *            the maximum number of idle builders to keep
+     */
+    public HtmlBuilderPool(XmlViolationPolicy xmlPolicy, int maxSize) {
+        super(maxSize);
+        this.xmlPolicy = xmlPolicy;
+    }
+
+    /**
+     * @see nu.validator.htmlparser.io.AbstractParserPool#newParser()
+     */
+    @Override protected HtmlBuilder newParser() {
+        return new HtmlBuilder(xmlPolicy);
+    }
+
+    /**
+     * @see nu.validator.htmlparser.io.AbstractParserPool#reset(java.lang.Object)
+     */
+    @Override protected void reset(HtmlBuilder parser) {
+        parser.reset();
+    }
+
+    /**
+     * @see nu.validator.htmlparser.io.AbstractParserPool#fingerprint(java.lang.Object)
+     */
+    @Override protected Object fingerprint(HtmlBuilder parser) {
+        return Arrays.asList(super.fingerprint(parser),
+                parser.isDirectCharacters());
+    }
+}
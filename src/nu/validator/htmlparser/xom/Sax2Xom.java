@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+package nu.validator.htmlparser.xom;
+
+import nu.xom.Attribute;
+import nu.xom.Document;
+import nu.xom.Element;
+import nu.xom.Nodes;
+import nu.xom.ParentNode;
+import nu.xom.XMLException;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.Locator;
+import org.xml.sax.SAXException;
+import org.xml.sax.ext.LexicalHandler;
+
+/**
+ * Builds a XOM tree from the SAX events of the HTML parser or of 
+ * <code>nu.validator.htmlparser.sax.BinaryTreeReader</code> using a 
+ * <code>SimpleNodeFactory</code>. The doctype is not represented.
+ * 
+ * <p>If the events do not start with <code>startDocument()</code>, they are 
+ * taken to be a fragment and the result is available from 
+ * <code>getNodes()</code>.
+ * 
+ * @version $Id$
+ */
+public class Sax2Xom implements ContentHandler, LexicalHandler {
+
+    private static final String FAKE_ROOT_NS = "http://www.xom.nu/fakeRoot";
+
+    private final SimpleNodeFactory nodeFactory;
+
+    private Document document;
+
+    private Element fragmentRoot;
+
+    private Nodes nodes;
+
+    private ParentNode current;
+
+    private final StringBuilder text = new StringBuilder();
+
+    /**
+     * Constructor with a <code>SimpleNodeFactory</code>.
+     */
+    public Sax2Xom() {
+        this(new SimpleNodeFactory());
+    }
+
+    /**
+     * Constructor.
+     * 
+     * @param nodeFactory
+     *            the factory for creating the nodes
+     */
+    public Sax2Xom(SimpleNodeFactory nodeFactory) {
+        if (nodeFactory == null) {
+            throw new IllegalArgumentException(
+                    "SimpleNodeFactory must not be null.");
+        }
+        this.nodeFactory = nodeFactory;
+    }
+
+    /**
+     * Returns the document built from the last events or <code>null</code> 
+     * if the events were a fragment.
+     * 
+     * @return the document
+     */
+    public Document getDocument() {
+        return document;
+    }
+
+    /**
+     * Returns the nodes built from the last events if they were a fragment 
+     * or <code>null</code> otherwise.
+     * 
+     * @return the fragment
+     */
+    public Nodes getNodes() {
+        if (fragmentRoot != null) {
+            appendPendingText();
+            nodes = fragmentRoot.removeChildren();
+            fragmentRoot = null;
+            current = null;
+        }
+        return nodes;
+    }
+
+    private void ensureStarted() {
+        if (current == null) {
+            document = null;
+            nodes = null;
+            fragmentRoot = nodeFactory.makeElement("root", FAKE_ROOT_NS);
+            current = fragmentRoot;
+        }
+    }
+
+    /**
+     * Appends the text that has not been followed by another event yet. The 
+     * HTML parser does not report the end of a fragment.
+     */
+    private void appendPendingText() {
+        if (text.length() > 0 && current != null) {
+            current.appendChild(nodeFactory.makeText(text.toString()));
+            text.setLength(0);
+        }
+    }
+
+    private void flushText() throws SAXException {
+        try {
+            appendPendingText();
+        } catch (XMLException e) {
+            throw new SAXException(e);
+        }
+    }
+
+    /**
+     * @see org.xml.sax.ContentHandler#characters(char[], int, int)
+     */
+    public void characters(char[] ch, int start, int length)
+            throws SAXException {
+        ensureStarted();
+        text.append(ch, start, length);
+    }
+
+    /**
+     * @see org.xml.sax.ContentHandler#endDocument()
+     */
+    public void endDocument() throws SAXException {
+        ensureStarted();
+        flushText();
+        if (fragmentRoot == null) {
+            current = null;
+        } else {
+            getNodes();
+        }
+    }
+
+    /**
+     * @see org.xml.sax.ContentHandler#endElement(java.lang.String,
+     *      java.lang.String, java.lang.String)
+     */
+    public void endElement(String uri, String localName, String qName)
+            throws SAXException {
+        flushText();
+        current = current.getParent();
+    }
+
+    /**
+     * @see org.xml.sax.ContentHandler#endPrefixMapping(java.lang.String)
+     */
+    public void endPrefixMapping(String prefix) throws SAXException {
+    }
+
+    /**
+     * @see org.xml.sax.ContentHandler#ignorableWhitespace(char[], int, int)
+     */
+    public void ignorableWhitespace(char[] ch, int start, int length)
+            throws SAXException {
+        characters(ch, start, length);
+    }
+
+    /**
+     * @see org.xml.sax.ContentHandler#processingInstruction(java.lang.String,
+     *      java.lang.String)
+     */
+    public void processingInstruction(String target, String data)
+            throws SAXException {
+    }
+
+    /**
+     * @see org.xml.sax.ContentHandler#setDocumentLocator(org.xml.sax.Locator)
+     */
+    public void setDocumentLocator(Locator locator) {
+    }
+
+    /**
+     * @see org.xml.sax.ContentHandler#skippedEntity(java.lang.String)
+     */
+    public void skippedEntity(String name) throws SAXException {
+    }
+
+    /**
+     * @see org.xml.sax.ContentHandler#startDocument()
+     */
+    public void startDocument() throws SAXException {
+        document = nodeFactory.makeDocument();
+        fragmentRoot = null;
+        nodes = null;
+        current = document;
+        text.setLength(0);
+    }
+
+    /**
+     * @see org.xml.sax.ContentHandler#startElement(java.lang.String,
+     *      java.lang.String, java.lang.String, org.xml.sax.Attributes)
+     */
+    public void startElement(String uri, String localName, String qName,
+            Attributes atts) throws SAXException {
+        ensureStarted();
+        flushText();
+        try {
+            Element element = nodeFactory.makeElement(localName, uri);
+            for (int i = 0; i < atts.getLength(); i++) {
+                element.addAttribute(nodeFactory.makeAttribute(
+                        atts.getQName(i), atts.getURI(i), atts.getValue(i),
+                        "ID" == atts.getType(i) ? Attribute.Type.ID
+                                : Attribute.Type.CDATA));
+            }
+            if (current == document) {
+                document.setRootElement(element);
+            } else {
+                current.appendChild(element);
+            }
+            current = element;
+        } catch (XMLException e) {
+            throw new SAXException(e);
+        }
+    }
+
+    /**
+     * @see org.xml.sax.ContentHandler#startPrefixMapping(java.lang.String,
+     *      java.lang.String)
+     */
+    public void startPrefixMapping(String prefix, String uri)
+            throws SAXException {
+    }
+
+    /**
+     * @see org.xml.sax.ext.LexicalHandler#comment(char[], int, int)
+     */
+    public void comment(char[] ch, int start, int length) throws SAXException {
+        ensureStarted();
+        flushText();
+        try {
+            String comment = new String(ch, start, length);
+            if (current == document) {
+                Element root = document.getRootElement();
+                if (FAKE_ROOT_NS.equals(root.getNamespaceURI())) {
+                    document.insertChild(nodeFactory.makeComment(comment),
+                            document.indexOf(root));
+                    return;
+                }
+            }
+            current.appendChild(nodeFactory.makeComment(comment));
+        } catch (XMLException e) {
+            throw new SAXException(e);
+        }
+    }
+
+    /**
+     * @see org.xml.sax.ext.LexicalHandler#endCDATA()
+     */
+    public void endCDATA() throws SAXException {
+    }
+
+    /**
+     * @see org.xml.sax.ext.LexicalHandler#endDTD()
+     */
+    public void endDTD() throws SAXException {
+    }
+
+    /**
+     * @see org.xml.sax.ext.LexicalHandler#endEntity(java.lang.String)
+     */
+    public void endEntity(String name) throws SAXException {
+    }
+
+    /**
+     * @see org.xml.sax.ext.LexicalHandler#startCDATA()
+     */
+    public void startCDATA() throws SAXException {
+    }
+
+    /**
+     * @see org.xml.sax.ext.LexicalHandler#startDTD(java.lang.String,
+     *      java.lang.String, java.lang.String)
+     */
+    public void startDTD(String name, String publicId, String systemId)
+            throws SAXException {
+    }
+
+    /**
+     * @see org.xml.sax.ext.LexicalHandler#startEntity(java.lang.String)
+     */
+    public void startEntity(String name) throws SAXException {
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import nu.validator.htmlparser.common.XmlViolationPolicy;
+import nu.validator.htmlparser.sax.BatchMetrics;
+import nu.validator.htmlparser.sax.BatchParser;
+import nu.validator.htmlparser.sax.HtmlParser;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+/**
+ * Parses a batch of documents, some of which fail with a
+ * <code>SAXException</code>, a <code>RuntimeException</code> or an
+ * <code>Error</code>, and checks that every outcome is delivered exactly
+ * once, in input order when order is preserved, that the successful trees
+ * match a sequential parse and that <code>parseAll()</code> returns.
+ */
+public class BatchParserTester {
+
+    private static final int DOCUMENTS = 200;
+
+    private static final long TIMEOUT_MILLIS = 60000;
+
+    /**
+     * Throws when it sees the element that names the failure.
+     */
+    private static class FailingHandler extends TreeDumpContentHandler {
+
+        private final StringWriter writer;
+
+        FailingHandler(StringWriter writer) {
+            super(writer);
+            this.writer = writer;
+        }
+
+        @Override public void startElement(String uri, String localName,
+                String qName, Attributes atts) throws SAXException {
+            if ("assert".equals(localName)) {
+                throw new AssertionError("Failing on purpose.");
+            }
+            if ("sax".equals(localName)) {
+                throw new SAXException("Failing on purpose.");
+            }
+            super.startElement(uri, localName, qName, atts);
+        }
+
+        @Override public String toString() {
+            return writer.toString();
+        }
+    }
+
+    private static class Factory implements BatchParser.HandlerFactory {
+
+        private final List<Integer> order = new ArrayList<Integer>();
+
+        private final Throwable[] outcomes = new Throwable[DOCUMENTS];
+
+        private final String[] trees = new String[DOCUMENTS];
+
+        public ContentHandler newContentHandler(int index, InputSource input)
+                throws SAXException {
+            if (index % 17 == 3) {
+                throw new IllegalStateException("Failing on purpose.");
+            }
+            return new FailingHandler(new StringWriter());
+        }
+
+        public synchronized void documentDone(int index, InputSource input,
+                ContentHandler handler, Throwable exception) {
+            order.add(Integer.valueOf(index));
+            outcomes[index] = exception;
+            if (handler != null) {
+                trees[index] = handler.toString();
+            }
+            if (index % 23 == 5) {
+                throw new AssertionError("Failing on purpose.");
+            }
+        }
+    }
+
+    private static String document(int index) {
+        StringBuilder sb = new StringBuilder("<p>Document ").append(index);
+        if (index % 7 == 0) {
+            // Make some documents slow so that later ones finish first.
+            for (int i = 0; i < 2000; i++) {
+                sb.append("<b><i>x</b></i>");
+            }
+        }
+        if (index % 11 == 1) {
+            sb.append("<assert>");
+        } else if (index % 13 == 2) {
+            sb.append("<sax>");
+        }
+        return sb.toString();
+    }
+
+    private static String expectedFailure(int index) {
+        if (index % 17 == 3) {
+            return IllegalStateException.class.getName();
+        } else if (index % 11 == 1) {
+            return AssertionError.class.getName();
+        } else if (index % 13 == 2) {
+            return SAXException.class.getName();
+        }
+        return null;
+    }
+
+    private static String parseSequentially(String data) throws SAXException,
+            IOException {
+        StringWriter sw = new StringWriter();
+        TreeDumpContentHandler treeDumpContentHandler = new TreeDumpContentHandler(
+                sw);
+        HtmlParser htmlParser = new HtmlParser(XmlViolationPolicy.ALLOW);
+        htmlParser.setContentHandler(treeDumpContentHandler);
+        htmlParser.setLexicalHandler(treeDumpContentHandler);
+        htmlParser.parse(new InputSource(new StringReader(data)));
+        return sw.toString();
+    }
+
+    private static int runBatch(final boolean preservingOrder)
+            throws Exception {
+        final List<InputSource> inputs = new ArrayList<InputSource>();
+        for (int i = 0; i < DOCUMENTS; i++) {
+            inputs.add(new InputSource(new StringReader(document(i))));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        final BatchParser batchParser = new BatchParser(executor);
+        batchParser.setMaxInFlight(8);
+        batchParser.setPreservingOrder(preservingOrder);
+        final Factory factory = new Factory();
+        final BatchMetrics[] metrics = new BatchMetrics[1];
+        Thread submitter = new Thread() {
+            @Override public void run() {
+                try {
+                    metrics[0] = batchParser.parseAll(inputs, factory);
+                } catch (InterruptedException e) {
+                    // Reported as a timeout.
+                }
+            }
+        };
+        submitter.start();
+        submitter.join(TIMEOUT_MILLIS);
+        executor.shutdown();
+        String label = preservingOrder ? "Ordered" : "Unordered";
+        if (metrics[0] == null) {
+            System.err.println("Failure. " + label
+                    + " batch did not finish.");
+            submitter.interrupt();
+            return 1;
+        }
+        int failures = 0;
+        int expectedFailures = 0;
+        synchronized (factory) {
+            if (factory.order.size() != DOCUMENTS) {
+                System.err.println("Failure. " + label + " batch delivered "
+                        + factory.order.size() + " outcomes.");
+                return 1;
+            }
+            boolean[] seen = new boolean[DOCUMENTS];
+            for (int i = 0; i < DOCUMENTS; i++) {
+                int index = factory.order.get(i).intValue();
+                if (preservingOrder && index != i) {
+                    System.err.println("Failure. Document " + index
+                            + " was delivered at position " + i + ".");
+                    failures++;
+                }
+                if (seen[index]) {
+                    System.err.println("Failure. " + label + " batch delivered document "
+                            + index + " twice.");
+                    failures++;
+                }
+                seen[index] = true;
+            }
+            for (int i = 0; i < DOCUMENTS; i++) {
+                String expected = expectedFailure(i);
+                Throwable outcome = factory.outcomes[i];
+                if (expected != null) {
+                    expectedFailures++;
+                    if (outcome == null
+                            || !expected.equals(outcome.getClass().getName())) {
+                        System.err.println("Failure. " + label + " document "
+                                + i + " expected " + expected + " got "
+                                + outcome);
+                        failures++;
+                    }
+                } else if (outcome != null) {
+                    System.err.println("Failure. " + label + " document " + i
+                            + " failed with " + outcome);
+                    failures++;
+                } else if (!parseSequentially(document(i)).equals(
+                        factory.trees[i])) {
+                    System.err.println("Failure. " + label + " document " + i
+                            + " differs from a sequential parse.");
+                    failures++;
+                }
+            }
+        }
+        if (metrics[0].getDocumentCount() != DOCUMENTS
+                || metrics[0].getFailureCount() != expectedFailures) {
+            System.err.println("Failure. " + label + " metrics: "
+                    + metrics[0]);
+            failures++;
+        }
+        return failures;
+    }
+
+    /**
+     * @param args
+     * @throws Exception
+     */
+    public static void main(String[] args) throws Exception {
+        int failures = runBatch(true) + runBatch(false);
+        if (failures > 0) {
+            System.err.println(failures + " failures.");
+            System.exit(1);
+        }
+        System.err.println("Success.");
+    }
+}
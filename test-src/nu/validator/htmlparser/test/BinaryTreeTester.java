@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+
+import nu.validator.htmlparser.common.XmlViolationPolicy;
+import nu.validator.htmlparser.sax.BinaryTreeReader;
+import nu.validator.htmlparser.sax.BinaryTreeWriter;
+import nu.validator.htmlparser.sax.HtmlParser;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.Locator;
+import org.xml.sax.SAXException;
+import org.xml.sax.ext.LexicalHandler;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Checks that writing a parse with <code>BinaryTreeWriter</code> and reading
+ * it back with <code>BinaryTreeReader</code> reports the same SAX events as
+ * the parser did and that corrupt lengths are rejected as malformed. Takes
+ * html5lib tree construction files as arguments and runs built-in documents
+ * without arguments.
+ */
+public class BinaryTreeTester {
+
+    /**
+     * Records the events that the binary tree format keeps, one per line.
+     */
+    private static class EventRecorder extends DefaultHandler implements
+            LexicalHandler {
+
+        private final StringBuilder sb = new StringBuilder();
+
+        @Override public void setDocumentLocator(Locator locator) {
+        }
+
+        @Override public void startDocument() throws SAXException {
+            sb.append("startDocument\n");
+        }
+
+        @Override public void endDocument() throws SAXException {
+            sb.append("endDocument\n");
+        }
+
+        @Override public void startElement(String uri, String localName,
+                String qName, Attributes atts) throws SAXException {
+            sb.append("startElement {").append(uri).append('}').append(
+                    localName).append(' ').append(qName).append('\n');
+            for (int i = 0; i < atts.getLength(); i++) {
+                sb.append("  {").append(atts.getURI(i)).append('}').append(
+                        atts.getLocalName(i)).append(' ').append(
+                        atts.getQName(i)).append(' ').append(atts.getType(i)).append(
+                        "=\"").append(atts.getValue(i)).append("\"\n");
+            }
+        }
+
+        @Override public void endElement(String uri, String localName,
+                String qName) throws SAXException {
+            sb.append("endElement {").append(uri).append('}').append(
+                    localName).append(' ').append(qName).append('\n');
+        }
+
+        @Override public void characters(char[] ch, int start, int length)
+                throws SAXException {
+            sb.append("characters \"").append(ch, start, length).append(
+                    "\"\n");
+        }
+
+        @Override public void processingInstruction(String target,
+                String data) throws SAXException {
+            sb.append("processingInstruction ").append(target).append(' ').append(
+                    data).append('\n');
+        }
+
+        public void comment(char[] ch, int start, int length)
+                throws SAXException {
+            sb.append("comment \"").append(ch, start, length).append("\"\n");
+        }
+
+        public void startDTD(String name, String publicId, String systemId)
+                throws SAXException {
+            sb.append("startDTD ").append(name).append(' ').append(publicId).append(
+                    ' ').append(systemId).append('\n');
+        }
+
+        public void endDTD() throws SAXException {
+            sb.append("endDTD\n");
+        }
+
+        public void startCDATA() throws SAXException {
+        }
+
+        public void endCDATA() throws SAXException {
+        }
+
+        public void startEntity(String name) throws SAXException {
+        }
+
+        public void endEntity(String name) throws SAXException {
+        }
+
+        @Override public String toString() {
+            return sb.toString();
+        }
+    }
+
+    private final HtmlParser parser = new HtmlParser(
+            XmlViolationPolicy.ALLOW);
+
+    private String parseDirectly(String data) throws SAXException,
+            IOException {
+        EventRecorder recorder = new EventRecorder();
+        parser.setContentHandler(recorder);
+        parser.setLexicalHandler(recorder);
+        parser.parse(new InputSource(new StringReader(data)));
+        return recorder.toString();
+    }
+
+    private byte[] write(String data) throws SAXException, IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryTreeWriter writer = new BinaryTreeWriter(out);
+        parser.setContentHandler(writer);
+        parser.setLexicalHandler(writer);
+        parser.parse(new InputSource(new StringReader(data)));
+        return out.toByteArray();
+    }
+
+    private static String read(BinaryTreeReader reader) throws SAXException,
+            IOException {
+        EventRecorder recorder = new EventRecorder();
+        reader.parse(recorder, recorder);
+        return recorder.toString();
+    }
+
+    private static boolean compare(String label, String data,
+            String expected, String actual) {
+        if (!expected.equals(actual)) {
+            System.err.print("Failure. " + label + "\nData:\n" + data
+                    + "\nExpected:\n" + expected + "Got:\n" + actual);
+            return false;
+        }
+        return true;
+    }
+
+    private boolean runTest(String data) throws SAXException, IOException {
+        String expected = parseDirectly(data);
+        byte[] bytes = write(data);
+        boolean ok = compare("Array", data, expected, read(new BinaryTreeReader(
+                bytes, 0, bytes.length)));
+        ok &= compare("Stream", data, expected, read(new BinaryTreeReader(
+                new ByteArrayInputStream(bytes))));
+        return ok;
+    }
+
+    /**
+     * Replaces the length of the comment "ZZZZ" with the given varint bytes,
+     * keeping the rest of the tree.
+     */
+    private byte[] corrupt(byte[] length) throws SAXException, IOException {
+        byte[] bytes = write("<!--ZZZZ--><p>x");
+        for (int i = bytes.length - 6; i >= 0; i--) {
+            if (bytes[i] == 6 && bytes[i + 1] == 4 && bytes[i + 2] == 'Z'
+                    && bytes[i + 5] == 'Z') {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                out.write(bytes, 0, i + 1);
+                out.write(length, 0, length.length);
+                out.write(bytes, i + 2, bytes.length - i - 2);
+                return out.toByteArray();
+            }
+        }
+        throw new IllegalStateException("No comment found.");
+    }
+
+    private static boolean expectMalformed(String label, BinaryTreeReader reader) {
+        try {
+            read(reader);
+        } catch (IOException e) {
+            return true;
+        } catch (Throwable t) {
+            System.err.println("Failure. " + label + " threw " + t);
+            return false;
+        }
+        System.err.println("Failure. " + label + " was read without an error.");
+        return false;
+    }
+
+    private int runCorruptTests() throws SAXException, IOException {
+        byte[][] lengths = {
+                // Integer.MAX_VALUE
+                { (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07 },
+                // Does not fit in an int.
+                { (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F },
+                // 2^28, longer than the data
+                { (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x01 },
+                // 5, runs into the following tokens and then out of data
+                { 0x05 } };
+        int failures = 0;
+        for (int i = 0; i < lengths.length; i++) {
+            byte[] bytes = corrupt(lengths[i]);
+            if (!expectMalformed("Corrupt length " + i + " from an array",
+                    new BinaryTreeReader(bytes, 0, bytes.length))) {
+                failures++;
+            }
+            if (!expectMalformed("Corrupt length " + i + " from a stream",
+                    new BinaryTreeReader(new ByteArrayInputStream(bytes)))) {
+                failures++;
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * @param args
+     * @throws Exception
+     */
+    public static void main(String[] args) throws Exception {
+        BinaryTreeTester tester = new BinaryTreeTester();
+        int failures = tester.runCorruptTests();
+        for (String data : TreeTestDocuments.documents(args)) {
+            if (!tester.runTest(data)) {
+                failures++;
+            }
+        }
+        if (failures > 0) {
+            System.err.println(failures + " failures.");
+            System.exit(1);
+        }
+        System.err.println("Success.");
+    }
+}
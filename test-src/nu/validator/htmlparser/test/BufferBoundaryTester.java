@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import nu.validator.htmlparser.common.XmlViolationPolicy;
+import nu.validator.htmlparser.sax.HtmlParser;
+
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+
+/**
+ * Parses documents with every input buffer size from the smallest allowed
+ * one up to the length of the document and checks that the tree and the
+ * error positions are the same as with a buffer that holds the whole
+ * document. The documents concentrate on ampersands that do not start a
+ * character reference, because the tokenizer state that consumes the
+ * alphanumerics after them used to lose characters at buffer boundaries.
+ */
+public class BufferBoundaryTester {
+
+    private static final String[] DOCUMENTS = {
+            "<p>&foo&notit; &foo; &fooo&amp;x",
+            "<p>text &notin &notit; &noti\n&abc123;&",
+            "<a href=x&foo>y</a><a href=&foo&bar>z</a>",
+            "<a title=&notit;x>z</a><a title=&amp;c&d>e</a>",
+            "<a title='&foo&notit;'>q</a><a title=\"&x1;&y&\">r</a>",
+            "<textarea>&foo&notit;\n&bar</textarea><title>&foo1 &x</title>",
+            "<p id=&foo\n>a&b<br\nclass=&c=d>",
+    };
+
+    private static class PositionRecorder implements ErrorHandler {
+
+        private final StringBuilder sb;
+
+        PositionRecorder(StringBuilder sb) {
+            this.sb = sb;
+        }
+
+        private void record(String kind, SAXParseException e) {
+            sb.append(kind).append(' ').append(e.getLineNumber()).append(':').append(
+                    e.getColumnNumber()).append(' ').append(e.getMessage()).append(
+                    '\n');
+        }
+
+        public void error(SAXParseException e) throws SAXException {
+            record("E", e);
+        }
+
+        public void fatalError(SAXParseException e) throws SAXException {
+            record("F", e);
+        }
+
+        public void warning(SAXParseException e) throws SAXException {
+            record("W", e);
+        }
+    }
+
+    private static String parse(String document, int bufferSize)
+            throws SAXException, IOException {
+        StringWriter sw = new StringWriter();
+        StringBuilder errors = new StringBuilder();
+        TreeDumpContentHandler treeDumpContentHandler = new TreeDumpContentHandler(
+                sw);
+        HtmlParser htmlParser = new HtmlParser(XmlViolationPolicy.ALLOW);
+        htmlParser.setContentHandler(treeDumpContentHandler);
+        htmlParser.setLexicalHandler(treeDumpContentHandler);
+        htmlParser.setErrorHandler(new PositionRecorder(errors));
+        htmlParser.setInputBufferSize(bufferSize);
+        htmlParser.parse(new InputSource(new StringReader(document)));
+        return sw.toString() + errors;
+    }
+
+    /**
+     * @param args
+     * @throws IOException
+     * @throws SAXException
+     */
+    public static void main(String[] args) throws SAXException, IOException {
+        boolean failed = false;
+        for (String document : DOCUMENTS) {
+            String expected = parse(document, 8192);
+            for (int size = 2; size <= document.length() + 1; size++) {
+                String actual = parse(document, size);
+                if (!expected.equals(actual)) {
+                    System.err.println("Failure. Buffer size " + size
+                            + " changed the result for:");
+                    System.err.println(document);
+                    System.err.println("Expected:");
+                    System.err.println(expected);
+                    System.err.println("Got:");
+                    System.err.println(actual);
+                    failed = true;
+                    break;
+                }
+            }
+        }
+        if (failed) {
+            System.exit(1);
+        }
+        System.err.println("Success.");
+    }
+}
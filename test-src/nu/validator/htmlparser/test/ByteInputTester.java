@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+
+import nu.validator.htmlparser.common.XmlViolationPolicy;
+import nu.validator.htmlparser.sax.HtmlParser;
+
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+
+/**
+ * Checks that parsing bytes from a <code>byte[]</code> or a direct
+ * <code>ByteBuffer</code>, which goes through <code>ByteBufferDecoder</code>,
+ * gives the same tree and the same errors as parsing the same bytes from an
+ * <code>InputStream</code>. The cases cover byte order marks, the meta
+ * prescan, a reparse after a late meta, transport encoding labels and
+ * malformed input, each with several input buffer sizes.
+ */
+public class ByteInputTester {
+
+    private static final String LONG_COMMENT;
+
+    static {
+        StringBuilder sb = new StringBuilder("<!--");
+        for (int i = 0; i < 1100; i++) {
+            sb.append('x');
+        }
+        LONG_COMMENT = sb.append("-->").toString();
+    }
+
+    /**
+     * Triples of transport label, charset used to encode the document and
+     * the document.
+     */
+    private static final String[][] CASES = {
+            { null, "UTF-8", "﻿<p>café 中 😀" },
+            { null, "UTF-16LE", "﻿<p>café 中 😀" },
+            { null, "UTF-16BE", "﻿<p>café 中 😀" },
+            { null, "windows-1252",
+                    "<meta charset=windows-1252><p>café €" },
+            { null, "UTF-8",
+                    "<meta http-equiv=content-type content='text/html; charset=utf-8'><p>é中" },
+            { null, "ISO-8859-2",
+                    LONG_COMMENT
+                            + "<meta charset=iso-8859-2><p>ąłż" },
+            { null, "Shift_JIS", "<meta charset=shift_jis><p>日本語" },
+            { null, "windows-1252", "<p>no declaration éÿ" },
+            { "utf-8", "windows-1252", "<p>malformed éÿ end" },
+            { "windows-1252", "UTF-8", "<meta charset=utf-8><p>é" },
+            { "shift_jis", "Shift_JIS", "<p>日本語" },
+    };
+
+    private static final int[] BUFFER_SIZES = { 2, 3, 7, 64, 8192 };
+
+    private static class PositionRecorder implements ErrorHandler {
+
+        private final StringBuilder sb;
+
+        PositionRecorder(StringBuilder sb) {
+            this.sb = sb;
+        }
+
+        private void record(String kind, SAXParseException e) {
+            sb.append(kind).append(' ').append(e.getLineNumber()).append(':').append(
+                    e.getColumnNumber()).append(' ').append(e.getMessage()).append(
+                    '\n');
+        }
+
+        public void error(SAXParseException e) throws SAXException {
+            record("E", e);
+        }
+
+        public void fatalError(SAXParseException e) throws SAXException {
+            record("F", e);
+        }
+
+        public void warning(SAXParseException e) throws SAXException {
+            record("W", e);
+        }
+    }
+
+    private static final int STREAM = 0;
+
+    private static final int ARRAY = 1;
+
+    private static final int DIRECT = 2;
+
+    private static final String[] KINDS = { "stream", "byte[]",
+            "direct ByteBuffer" };
+
+    private static String parse(byte[] bytes, String label, int kind,
+            int bufferSize) throws SAXException, IOException {
+        StringWriter sw = new StringWriter();
+        StringBuilder errors = new StringBuilder();
+        TreeDumpContentHandler treeDumpContentHandler = new TreeDumpContentHandler(
+                sw);
+        HtmlParser htmlParser = new HtmlParser(XmlViolationPolicy.ALLOW);
+        htmlParser.setContentHandler(treeDumpContentHandler);
+        htmlParser.setLexicalHandler(treeDumpContentHandler);
+        htmlParser.setErrorHandler(new PositionRecorder(errors));
+        htmlParser.setInputBufferSize(bufferSize);
+        switch (kind) {
+            case STREAM:
+                InputSource is = new InputSource(new ByteArrayInputStream(
+                        bytes));
+                is.setEncoding(label);
+                htmlParser.parse(is);
+                break;
+            case ARRAY:
+                htmlParser.parse(bytes, label, null);
+                break;
+            default:
+                ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+                direct.put(bytes).flip();
+                htmlParser.parse(direct, label, null);
+                break;
+        }
+        return sw.toString() + errors;
+    }
+
+    /**
+     * @param args
+     * @throws IOException
+     * @throws SAXException
+     */
+    public static void main(String[] args) throws SAXException, IOException {
+        int failures = 0;
+        for (String[] c : CASES) {
+            byte[] bytes = c[2].getBytes(c[1]);
+            loop: for (int size : BUFFER_SIZES) {
+                // The stream path reports the positions of malformed bytes
+                // as the decoder reaches them, which depends on the buffer
+                // size, so the reference is the stream with the same size.
+                String expected = parse(bytes, c[0], STREAM, size);
+                for (int kind = ARRAY; kind <= DIRECT; kind++) {
+                    String actual = parse(bytes, c[0], kind, size);
+                    if (!expected.equals(actual)) {
+                        System.err.println("Failure. " + KINDS[kind]
+                                + " input with buffer size " + size
+                                + " and label " + c[0] + " encoded as "
+                                + c[1] + " changed the result for:");
+                        System.err.println(c[2]);
+                        System.err.println("Expected:");
+                        System.err.println(expected);
+                        System.err.println("Got:");
+                        System.err.println(actual);
+                        failures++;
+                        break loop;
+                    }
+                }
+            }
+        }
+        if (failures > 0) {
+            System.err.println(failures + " failures.");
+            System.exit(1);
+        }
+        System.err.println("Success.");
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import nu.validator.htmlparser.common.DocumentMode;
+import nu.validator.htmlparser.common.DocumentModeHandler;
+import nu.validator.htmlparser.common.XmlViolationPolicy;
+import nu.validator.htmlparser.compact.Compact2Dom;
+import nu.validator.htmlparser.compact.CompactDocument;
+import nu.validator.htmlparser.compact.CompactDocumentBuilder;
+import nu.validator.htmlparser.compact.OffHeapDocument;
+import nu.validator.htmlparser.compact.OffHeapDocumentBuilder;
+import nu.validator.htmlparser.dom.HtmlDocumentBuilder;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+/**
+ * Checks that copying a <code>CompactDocument</code> into a DOM with
+ * <code>Compact2Dom</code> gives the same tree as
+ * <code>HtmlDocumentBuilder</code>, for both the heap and the off-heap
+ * compact documents. Takes html5lib tree construction files as arguments
+ * and runs built-in documents without arguments.
+ */
+public class CompactDocumentTester implements DocumentModeHandler {
+
+    private final HtmlDocumentBuilder domBuilder = new HtmlDocumentBuilder(
+            XmlViolationPolicy.ALTER_INFOSET);
+
+    private final CompactDocumentBuilder heapBuilder = new CompactDocumentBuilder(
+            XmlViolationPolicy.ALTER_INFOSET);
+
+    private final OffHeapDocumentBuilder offHeapBuilder = new OffHeapDocumentBuilder(
+            XmlViolationPolicy.ALTER_INFOSET);
+
+    private final Compact2Dom compact2Dom;
+
+    private DocumentMode domMode;
+
+    private CompactDocumentTester() throws ParserConfigurationException {
+        compact2Dom = new Compact2Dom(
+                DocumentBuilderFactory.newInstance().newDocumentBuilder().getDOMImplementation());
+        domBuilder.setDocumentModeHandler(this);
+    }
+
+    public void documentMode(DocumentMode mode, String publicIdentifier,
+            String systemIdentifier, boolean html4SpecificAdditionalErrorChecks)
+            throws SAXException {
+        domMode = mode;
+    }
+
+    private static void indent(int level, StringBuilder sb) {
+        sb.append("| ");
+        for (int i = 0; i < level; i++) {
+            sb.append("  ");
+        }
+    }
+
+    /**
+     * Dumps the descendants of a node. The walk is iterative, because some
+     * test documents nest deeper than the Java stack allows.
+     */
+    private static String dump(Node root) {
+        StringBuilder sb = new StringBuilder();
+        int level = 0;
+        Node child = root.getFirstChild();
+        while (child != null) {
+            indent(level, sb);
+            switch (child.getNodeType()) {
+                case Node.ELEMENT_NODE:
+                    sb.append('<').append(child.getNamespaceURI()).append(' ').append(
+                            child.getLocalName()).append(">\n");
+                    NamedNodeMap attributes = child.getAttributes();
+                    List<String> lines = new ArrayList<String>();
+                    for (int i = 0; i < attributes.getLength(); i++) {
+                        Attr attr = (Attr) attributes.item(i);
+                        lines.add(attr.getNamespaceURI() + " "
+                                + attr.getLocalName() + "=\""
+                                + attr.getValue() + "\"");
+                    }
+                    Collections.sort(lines);
+                    for (String line : lines) {
+                        indent(level + 1, sb);
+                        sb.append(line).append('\n');
+                    }
+                    break;
+                case Node.TEXT_NODE:
+                    sb.append('"').append(child.getNodeValue()).append("\"\n");
+                    break;
+                case Node.COMMENT_NODE:
+                    sb.append("<!-- ").append(child.getNodeValue()).append(
+                            " -->\n");
+                    break;
+                default:
+                    sb.append("node type ").append(child.getNodeType()).append(
+                            '\n');
+                    break;
+            }
+            if (child.getFirstChild() != null) {
+                child = child.getFirstChild();
+                level++;
+                continue;
+            }
+            while (child != root && child.getNextSibling() == null) {
+                child = child.getParentNode();
+                level--;
+            }
+            child = child == root ? null : child.getNextSibling();
+        }
+        return sb.toString();
+    }
+
+    private boolean compare(String label, String data, String expected,
+            CompactDocument compact) {
+        String actual = dump(compact2Dom.toDocument(compact));
+        if (!expected.equals(actual)) {
+            System.err.print("Failure. " + label + "\nData:\n" + data
+                    + "\nExpected:\n" + expected + "Got:\n" + actual);
+            return false;
+        }
+        if (domMode != compact.getDocumentMode()) {
+            System.err.println("Failure. " + label + "\nData:\n" + data
+                    + "\nExpected mode " + domMode + " got "
+                    + compact.getDocumentMode());
+            return false;
+        }
+        return true;
+    }
+
+    private boolean runTest(String data) throws SAXException, IOException {
+        domMode = null;
+        Document document;
+        try {
+            document = domBuilder.parse(new InputSource(new StringReader(
+                    data)));
+        } catch (SAXException e) {
+            // The DOM implementation rejects some names that the parser
+            // lets through, so there is nothing to compare against.
+            System.err.println("Skipped. " + e.getMessage() + "\nData:\n"
+                    + data);
+            return true;
+        }
+        String expected = dump(document);
+        boolean ok = compare("Heap", data, expected,
+                heapBuilder.parse(new InputSource(new StringReader(data))));
+        OffHeapDocument offHeap = offHeapBuilder.parse(new InputSource(
+                new StringReader(data)));
+        try {
+            ok &= compare("Off-heap", data, expected, offHeap);
+        } finally {
+            offHeap.close();
+        }
+        return ok;
+    }
+
+    /**
+     * @param args
+     * @throws Exception
+     */
+    public static void main(String[] args) throws Exception {
+        CompactDocumentTester tester = new CompactDocumentTester();
+        int failures = 0;
+        for (String data : TreeTestDocuments.documents(args)) {
+            if (!tester.runTest(data)) {
+                failures++;
+            }
+        }
+        if (failures > 0) {
+            System.err.println(failures + " failures.");
+            System.exit(1);
+        }
+        System.err.println("Success.");
+    }
+}
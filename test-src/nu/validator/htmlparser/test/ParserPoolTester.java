@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.HashMap;
+
+import nu.validator.htmlparser.common.CharacterHandler;
+import nu.validator.htmlparser.common.TransitionHandler;
+import nu.validator.htmlparser.common.XmlViolationPolicy;
+import nu.validator.htmlparser.dom.HtmlDocumentBuilder;
+import nu.validator.htmlparser.dom.HtmlDocumentBuilderPool;
+import nu.validator.htmlparser.sax.HtmlParser;
+import nu.validator.htmlparser.sax.ParserPool;
+
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Checks that a parser released to a pool comes back without the handlers
+ * of the previous borrower.
+ */
+public class ParserPoolTester {
+
+    private static final String FIRST = "<p>first tenant";
+
+    private static final String SECOND = "<p>SECOND TENANT SECRET";
+
+    private static class RecordingHandler implements CharacterHandler,
+            TransitionHandler {
+
+        private final StringBuilder characters = new StringBuilder();
+
+        private int transitions = 0;
+
+        public void characters(char[] ch, int start, int length)
+                throws SAXException {
+            characters.append(ch, start, length);
+        }
+
+        public void end() throws SAXException {
+        }
+
+        public void start() throws SAXException {
+        }
+
+        public void transition(int from, int to, boolean reconsume, int pos)
+                throws SAXException {
+            transitions++;
+        }
+    }
+
+    private boolean failed = false;
+
+    private void check(boolean condition, String message) {
+        if (!condition) {
+            System.err.println("Failure. " + message);
+            failed = true;
+        }
+    }
+
+    private void testSax() throws SAXException, IOException {
+        ParserPool pool = new ParserPool(XmlViolationPolicy.ALLOW, 1);
+        RecordingHandler first = new RecordingHandler();
+        HtmlParser parser = pool.acquire();
+        parser.addCharacterHandler(first);
+        parser.setTransitionHandler(first);
+        parser.setErrorProfile(new HashMap<String, String>());
+        parser.setContentHandler(new DefaultHandler());
+        parser.parse(new InputSource(new StringReader(FIRST)));
+        pool.release(parser);
+        int transitions = first.transitions;
+        check(first.characters.toString().equals(FIRST),
+                "SAX: the first borrower did not see its own document.");
+        check(transitions > 0,
+                "SAX: the first borrower did not see its own transitions.");
+
+        HtmlParser again = pool.acquire();
+        check(again == parser, "SAX: the released parser was not reused.");
+        StringBuilder text = new StringBuilder();
+        again.setContentHandler(new TextCollector(text));
+        again.parse(new InputSource(new StringReader(SECOND)));
+        pool.release(again);
+        check(first.characters.toString().equals(FIRST),
+                "SAX: a released character handler saw the next document.");
+        check(first.transitions == transitions,
+                "SAX: a released transition handler saw the next document.");
+        check("SECOND TENANT SECRET".equals(text.toString()),
+                "SAX: the reused parser produced " + text);
+        check(pool.getDiscards() == 0,
+                "SAX: the reset parser was not taken back.");
+    }
+
+    private void testDom() throws SAXException, IOException {
+        HtmlDocumentBuilderPool pool = new HtmlDocumentBuilderPool(
+                XmlViolationPolicy.ALTER_INFOSET, 1);
+        RecordingHandler first = new RecordingHandler();
+        HtmlDocumentBuilder builder = pool.acquire();
+        builder.addCharacterHandler(first);
+        builder.setTransitionHander(first);
+        builder.parse(new InputSource(new StringReader(FIRST)));
+        pool.release(builder);
+        int transitions = first.transitions;
+
+        HtmlDocumentBuilder again = pool.acquire();
+        check(again == builder, "DOM: the released builder was not reused.");
+        Document doc = again.parse(new InputSource(new StringReader(SECOND)));
+        pool.release(again);
+        check(first.characters.toString().equals(FIRST),
+                "DOM: a released character handler saw the next document.");
+        check(first.transitions == transitions,
+                "DOM: a released transition handler saw the next document.");
+        check("SECOND TENANT SECRET".equals(doc.getDocumentElement().getTextContent()),
+                "DOM: the reused builder produced "
+                        + doc.getDocumentElement().getTextContent());
+        check(pool.getDiscards() == 0,
+                "DOM: the reset builder was not taken back.");
+    }
+
+    private static class TextCollector extends DefaultHandler {
+
+        private final StringBuilder text;
+
+        TextCollector(StringBuilder text) {
+            this.text = text;
+        }
+
+        @Override public void characters(char[] ch, int start, int length) {
+            text.append(ch, start, length);
+        }
+    }
+
+    /**
+     * @param args
+     * @throws IOException
+     * @throws SAXException
+     */
+    public static void main(String[] args) throws SAXException, IOException {
+        ParserPoolTester tester = new ParserPoolTester();
+        tester.testSax();
+        tester.testDom();
+        if (tester.failed) {
+            System.exit(1);
+        }
+        System.err.println("Success.");
+    }
+}
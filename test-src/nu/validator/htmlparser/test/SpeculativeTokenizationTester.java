@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import nu.validator.htmlparser.common.Interner;
+import nu.validator.htmlparser.common.ParseStatistics;
+import nu.validator.htmlparser.common.ParserMetrics;
+import nu.validator.htmlparser.common.XmlViolationPolicy;
+import nu.validator.htmlparser.sax.HtmlParser;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.Locator;
+import org.xml.sax.SAXException;
+
+/**
+ * Checks that speculative tokenization gives the same tree as sequential
+ * tokenization. The built-in documents put whitespace followed by character
+ * references at the start of the speculative chunks, where the tree builder
+ * treats whitespace differently from other text; each is parsed with every
+ * chunk size from 1 up to its length. A long document with one element per
+ * line is parsed with chunk sizes 1, 7, 40 and 1024. Documents from html5lib
+ * tree construction files named as arguments are parsed with chunk sizes 1,
+ * 7 and 40 instead. The comparison includes the locator positions of the
+ * SAX element and comment events and the counts of tags and character
+ * references reported to <code>ParserMetrics</code>. Also checks that the
+ * interner set on the parser is only called on the parsing thread.
+ */
+public class SpeculativeTokenizationTester {
+
+    private static final String[] DOCUMENTS = {
+            "<p> &amp;<frameset>",
+            "<p>\n&#x20;x<frameset><frame></frameset>",
+            "<html> &amp; <frameset>",
+            "<head> &lt;</head><frameset>",
+            "<div> &nbsp;</div> &amp;<frameset>",
+            "<table> &amp;<tr> &#32;<td>x</td></tr> &lt;</table>",
+            "<table><tr> \t&amp;x<td>y</td></tr></table>",
+            "<select> &amp;<option> &lt;x</select>",
+            "<ul> &#10;<li> &amp;</li>  &#x9;</ul><frameset>",
+            "<svg> &amp;<g> &#32;</g></svg> &amp;<p>x",
+            "<p>a</p>  &amp;&amp;  <p>b</p> &#65; <frameset>",
+            "<p>&#0;<b>x&#",
+            "<x-a data-b=1> &amp;<x-c x-d> &#32;<x-a>",
+    };
+
+    private static final int[] FILE_CHUNK_SIZES = { 1, 7, 40 };
+
+    private static final int[] LONG_CHUNK_SIZES = { 1, 7, 40, 1024 };
+
+    private static final String LONG_DOCUMENT;
+
+    static {
+        StringBuilder sb = new StringBuilder("<!DOCTYPE html>\n");
+        for (int i = 0; i < 2000; i++) {
+            sb.append("<p class=c").append(i).append(">line &amp; ").append(i).append(
+                    "\r\n");
+            if (i % 100 == 0) {
+                sb.append("<!-- comment\nover lines -->\r");
+            }
+        }
+        LONG_DOCUMENT = sb.toString();
+    }
+
+    /**
+     * Also dumps the locator position of each element and comment event.
+     * Text is left out, because the position of a text run is where the
+     * tokenizer flushed it, which depends on the buffer boundaries even
+     * without speculation.
+     */
+    private static class PositionDumpContentHandler extends
+            TreeDumpContentHandler {
+
+        private final StringBuilder positions = new StringBuilder();
+
+        private Locator locator;
+
+        PositionDumpContentHandler(StringWriter writer) {
+            super(writer);
+        }
+
+        private void position(String event) {
+            positions.append(event).append(' ').append(locator.getLineNumber()).append(
+                    ':').append(locator.getColumnNumber()).append('\n');
+        }
+
+        @Override public void setDocumentLocator(Locator locator) {
+            this.locator = locator;
+            super.setDocumentLocator(locator);
+        }
+
+        @Override public void startElement(String uri, String localName,
+                String qName, Attributes atts) throws SAXException {
+            position("<" + localName + ">");
+            super.startElement(uri, localName, qName, atts);
+        }
+
+        @Override public void endElement(String uri, String localName,
+                String qName) throws SAXException {
+            position("</" + localName + ">");
+            super.endElement(uri, localName, qName);
+        }
+
+        @Override public void comment(char[] ch, int offset, int len)
+                throws SAXException {
+            position("comment");
+            super.comment(ch, offset, len);
+        }
+    }
+
+    /**
+     * Remembers whether it was called on a thread other than the one that
+     * created it.
+     */
+    private static class ThreadCheckingInterner implements Interner {
+
+        private final Thread owner = Thread.currentThread();
+
+        private volatile boolean calledElsewhere = false;
+
+        public String intern(char[] buf, int offset, int length) {
+            if (Thread.currentThread() != owner) {
+                calledElsewhere = true;
+            }
+            return new String(buf, offset, length).intern();
+        }
+    }
+
+    /**
+     * Keeps the statistics of the last parse.
+     */
+    private static class LastMetrics implements ParserMetrics {
+
+        private ParseStatistics last;
+
+        public void parsed(ParseStatistics statistics) {
+            last = statistics;
+        }
+
+        @Override public String toString() {
+            return "Tags " + last.getStartTags() + "/" + last.getEndTags()
+                    + " named " + last.getNamedCharacterReferences()
+                    + " numeric " + last.getNumericCharacterReferences()
+                    + "\n";
+        }
+    }
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    private final ThreadCheckingInterner interner = new ThreadCheckingInterner();
+
+    private String parse(String data, int chunkSize) throws SAXException,
+            IOException {
+        StringWriter sw = new StringWriter();
+        PositionDumpContentHandler treeDumpContentHandler = new PositionDumpContentHandler(
+                sw);
+        HtmlParser htmlParser = new HtmlParser(XmlViolationPolicy.ALLOW);
+        htmlParser.setContentHandler(treeDumpContentHandler);
+        htmlParser.setLexicalHandler(treeDumpContentHandler);
+        htmlParser.setInterner(interner);
+        LastMetrics metrics = new LastMetrics();
+        htmlParser.setParserMetrics(metrics);
+        if (chunkSize > 0) {
+            htmlParser.setSpeculativeExecutor(executor);
+            htmlParser.setSpeculativeChunkSize(chunkSize);
+        }
+        htmlParser.parse(new InputSource(new StringReader(data)));
+        return sw.toString() + treeDumpContentHandler.positions + metrics;
+    }
+
+    private boolean runTest(String data, int[] chunkSizes)
+            throws SAXException, IOException {
+        String expected = parse(data, 0);
+        for (int chunkSize : chunkSizes) {
+            String actual = parse(data, chunkSize);
+            if (!expected.equals(actual)) {
+                System.err.print("Failure. Chunk size " + chunkSize
+                        + " changed the result for:\n" + data
+                        + "\nExpected:\n" + expected + "Got:\n" + actual);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param args
+     * @throws Exception
+     */
+    public static void main(String[] args) throws Exception {
+        SpeculativeTokenizationTester tester = new SpeculativeTokenizationTester();
+        int failures = 0;
+        try {
+            if (args.length == 0) {
+                if (!tester.runTest(LONG_DOCUMENT, LONG_CHUNK_SIZES)) {
+                    failures++;
+                }
+                for (String data : DOCUMENTS) {
+                    int[] chunkSizes = new int[data.length()];
+                    for (int i = 0; i < chunkSizes.length; i++) {
+                        chunkSizes[i] = i + 1;
+                    }
+                    if (!tester.runTest(data, chunkSizes)) {
+                        failures++;
+                    }
+                }
+            } else {
+                for (String data : TreeTestDocuments.documents(args)) {
+                    if (!tester.runTest(data, FILE_CHUNK_SIZES)) {
+                        failures++;
+                    }
+                }
+            }
+        } finally {
+            tester.executor.shutdown();
+        }
+        if (tester.interner.calledElsewhere) {
+            System.err.println("Failure. The interner was called on another thread.");
+            failures++;
+        }
+        if (failures > 0) {
+            System.err.println(failures + " failures.");
+            System.exit(1);
+        }
+        System.err.println("Success.");
+    }
+}
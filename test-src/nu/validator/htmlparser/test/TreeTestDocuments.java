@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.test;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Supplies the documents for testers that compare two ways of parsing or
+ * storing the same document. The documents are the non-fragment
+ * <code>#data</code> sections of the html5lib tree construction files named
+ * on the command line or, without arguments, a built-in set that covers
+ * foster parenting, the adoption agency algorithm, templates, foreign
+ * content, comments and doctypes.
+ */
+public class TreeTestDocuments {
+
+    private static final String[] BUILT_IN = {
+            "",
+            "<!DOCTYPE html><title>t</title><p>One<p>Two",
+            "<!DOCTYPE html PUBLIC \"-//W3C//DTD HTML 4.01//EN\" \"http://www.w3.org/TR/html4/strict.dtd\"><p>strict",
+            "<!doctype html public \"-//W3C//DTD HTML 3.2//EN\"><p>quirks",
+            "<!-- before --><html><!-- in --><body>x<!-- after body --></body></html><!-- end -->",
+            "<table><tr><td>a</td></tr>foster<tr><td>b<table>c</table>",
+            "<b><p>one</b>two</p><a href=x><div>three</a>four",
+            "<b><i><u><s><font><div>deep</b>tail",
+            "<a><p><a>nested</a></p></a>",
+            "<template><tr><td>cell</td></tr></template><template>text<b>bold</template>",
+            "<svg viewBox='0 0 1 1' xlink:href='#a'><foreignObject><p>html</p></foreignObject><rect/></svg>",
+            "<math definitionURL=x><mi>x</mi><annotation-xml encoding='text/html'><div>y</div></annotation-xml></math>",
+            "<p id=a class='b c' data-x=\"&amp;&lt;\" title=&notit;>&copy;&#x1F600;&#0;</p>",
+            "<select><option>1<optgroup><option>2</select><textarea>\n&lt;raw</textarea>",
+            "<script>if (a < b) document.write('</p>')</script><style>p{}</style><xmp><b></xmp>",
+            "<frameset><frame></frameset><noframes>x</noframes>",
+            "<div lang=en xml:lang=en xmlns=http://www.w3.org/1999/xhtml>é中\r\nline</div>",
+            "<ul><li>a<li>b</ul><dl><dt>c<dd>d</dl><h1>e<h2>f</h1>",
+            "<body><p>\u0000null</p></body><body class=late>",
+    };
+
+    private TreeTestDocuments() {
+    }
+
+    /**
+     * Returns the documents for a tester.
+     * 
+     * @param args
+     *            paths to html5lib tree construction files or none
+     * @return the documents
+     * @throws IOException
+     */
+    public static List<String> documents(String[] args) throws IOException {
+        if (args.length == 0) {
+            return Arrays.asList(BUILT_IN);
+        }
+        List<String> documents = new ArrayList<String>();
+        for (int i = 0; i < args.length; i++) {
+            read(args[i], documents);
+        }
+        return documents;
+    }
+
+    private static void read(String path, List<String> documents)
+            throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new FileInputStream(path), "UTF-8"));
+        try {
+            StringBuilder data = null;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if ("#data".equals(line)) {
+                    data = new StringBuilder();
+                } else if ("#errors".equals(line) && data != null) {
+                    // The line break before #errors is not part of the data.
+                    if (data.length() > 0) {
+                        data.setLength(data.length() - 1);
+                    }
+                    documents.add(data.toString());
+                    data = null;
+                } else if (data != null) {
+                    data.append(line).append('\n');
+                } else if ("#document-fragment".equals(line)) {
+                    // The context comes after the data, so the fragment
+                    // case has already been added.
+                    documents.remove(documents.size() - 1);
+                }
+            }
+        } finally {
+            reader.close();
+        }
+    }
+}
@@ -58,8 +58,10 @@ public class SymbolTable {
     public boolean isNotAnAttributeOrElementName(String name) {
         return !("ATTRIBUTE_HASHES".equals(name)
                 || "ATTRIBUTE_NAMES".equals(name)
+                || "ATTRIBUTE_DISPLACEMENTS".equals(name)
                 || "ELEMENT_HASHES".equals(name)
-                || "ELEMENT_NAMES".equals(name) || "ALL_NO_NS".equals(name));
+                || "ELEMENT_NAMES".equals(name)
+                || "ELEMENT_DISPLACEMENTS".equals(name) || "ALL_NO_NS".equals(name));
     }
     
     public void putFieldType(String klazz, String field, Type type) {
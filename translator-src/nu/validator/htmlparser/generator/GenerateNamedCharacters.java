@@ -52,16 +52,6 @@ public class GenerateNamedCharacters {
         }
     }
 
-    private static int charToIndex(char c) {
-        if (c >= 'a' && c <= 'z') {
-            return c - 'a' + 26;
-        } else if (c >= 'A' && c <= 'Z') {
-            return c - 'A';
-        }
-        throw new IllegalArgumentException("Bad char in named character name: "
-                + c);
-    }
-
     private static boolean allZero(int[] arr) {
         for (int i = 0; i < arr.length; i++) {
             if (arr[i] != 0) {
@@ -104,79 +94,118 @@ public class GenerateNamedCharacters {
             }
         }
 
-        // Java initializes arrays to zero. Zero is our magic value for no hilo
-        // value.
-        int[][] hiLoTable = new int['z' + 1]['Z' - 'A' + 1 + 'z' - 'a' + 1];
-
-        String firstName = entities.entrySet().iterator().next().getKey();
-        int firstKey = charToIndex(firstName.charAt(0));
-        int secondKey = firstName.charAt(1);
-        int row = 0;
-        int lo = 0;
-
-        System.out.print("static final @NoLength @CharacterName String[] NAMES = {\n");
+        // Each entry is the length of the value followed by the value.
+        StringBuilder values = new StringBuilder();
         for (Map.Entry<String, String> entity : entities.entrySet()) {
-            String name = entity.getKey();
-            int newFirst = charToIndex(name.charAt(0));
-            int newSecond = name.charAt(1);
-            assert !(newFirst == 0 && newSecond == 0) : "Not prepared for name starting with AA";
-            if (firstKey != newFirst || secondKey != newSecond) {
-                hiLoTable[secondKey][firstKey] = ((row - 1) << 16) | lo;
-                lo = row;
-                firstKey = newFirst;
-                secondKey = newSecond;
-            }
-            System.out.print("\"");
-            System.out.print(name.substring(2));
-            System.out.print("\",\n");
-            row++;
+            String value = entity.getValue();
+            values.append((char) value.length());
+            values.append(value);
         }
-        System.out.print("};\n");
+        System.out.print("private static final int COUNT = "
+                + entities.size() + ";\n");
+        System.out.print("private static final String VALUE_DATA = ");
+        printStringLiteral(packChars(values.toString().toCharArray()));
+        System.out.print(";\n");
 
-        hiLoTable[secondKey][firstKey] = ((entities.size() - 1) << 16) | lo;
+        NamedCharacterTrie trie = new NamedCharacterTrie(entities);
+        int[][] hiLoTable = trie.getHiLoTable();
 
-        System.out.print("static final @NoLength char[][] VALUES = {\n");
-        for (Map.Entry<String, String> entity : entities.entrySet()) {
-            String value = entity.getValue();
-            System.out.print("{");
-            if (value.length() == 1) {
-                char c = value.charAt(0);
-                if (c == '\'') {
-                    System.out.print("\'\\\'\'");
-                } else if (c == '\n') {
-                    System.out.print("\'\\n\'");
-                } else if (c == '\\') {
-                    System.out.print("\'\\\\\'");
-                } else if (c <= 0xFFFF) {
-                    System.out.print("\'");
-                    System.out.print(toUString(c));
-                    System.out.print("\'");
-                }
-            } else {
-                System.out.print("\'");
-                System.out.print(toUString(value.charAt(0)));
-                System.out.print("\', \'");
-                System.out.print(toUString(value.charAt(1)));
-                System.out.print("\'");                
+        // Each non-null row is its index followed by its entries.
+        int rows = 0;
+        for (int i = 0; i < hiLoTable.length; i++) {
+            if (!allZero(hiLoTable[i])) {
+                rows++;
             }
-            System.out.print("},\n");
         }
-        System.out.print("};\n");
-
-        System.out.print("static final @NoLength int[][] HILO_ACCEL = {\n");
+        int[] hiLoRows = new int[rows * (hiLoTable[0].length + 1)];
+        int pos = 0;
         for (int i = 0; i < hiLoTable.length; i++) {
-            if (allZero(hiLoTable[i])) {
-                System.out.print("null,\n");
-            } else {
-                System.out.print("{");
+            if (!allZero(hiLoTable[i])) {
+                hiLoRows[pos++] = i;
                 for (int j = 0; j < hiLoTable[i].length; j++) {
-                    System.out.print(hiLoTable[i][j]);
-                    System.out.print(", ");
+                    hiLoRows[pos++] = hiLoTable[i][j];
                 }
-                System.out.print("},\n");
             }
         }
-        System.out.print("};\n");
+        System.out.print("private static final String HILO_ACCEL_ROWS = ");
+        printStringLiteral(packInts(hiLoRows));
+        System.out.print(";\n");
+
+        printTrieArray("TRIE_LABELS", trie.getLabels());
+        printTrieArray("TRIE_FIRST_CHILD", trie.getFirstChildren());
+        printTrieArray("TRIE_MATCHES", trie.getMatches());
+    }
+
+    /**
+     * Prints a trie table as a packed string constant.
+     */
+    private static void printTrieArray(String name, char[] arr) {
+        System.out.print("static final @NoLength char[] " + name
+                + " = PackedTables.unpackChars(");
+        printStringLiteral(packChars(arr));
+        System.out.print(");\n");
+    }
+
+    /**
+     * Packs 16-bit entries as two Latin-1 characters each, high byte first.
+     */
+    private static char[] packChars(char[] arr) {
+        char[] packed = new char[arr.length * 2];
+        for (int i = 0; i < arr.length; i++) {
+            packed[i * 2] = (char) (arr[i] >> 8);
+            packed[i * 2 + 1] = (char) (arr[i] & 0xFF);
+        }
+        return packed;
+    }
+
+    /**
+     * Packs 32-bit entries as four Latin-1 characters each, high byte first.
+     */
+    private static char[] packInts(int[] arr) {
+        char[] packed = new char[arr.length * 4];
+        for (int i = 0; i < arr.length; i++) {
+            packed[i * 4] = (char) ((arr[i] >> 24) & 0xFF);
+            packed[i * 4 + 1] = (char) ((arr[i] >> 16) & 0xFF);
+            packed[i * 4 + 2] = (char) ((arr[i] >> 8) & 0xFF);
+            packed[i * 4 + 3] = (char) (arr[i] & 0xFF);
+        }
+        return packed;
+    }
+
+    /**
+     * Prints a string literal split into concatenated lines. Large tables 
+     * are emitted as string constants, since array initializers this large 
+     * would not fit in the static initializer of a class.
+     */
+    private static void printStringLiteral(char[] arr) {
+        System.out.print("\"");
+        int lineLength = 0;
+        for (int i = 0; i < arr.length; i++) {
+            char c = arr[i];
+            String escaped;
+            // Unicode escapes are processed before string literals, so
+            // line terminators, quotes and backslashes need the short form.
+            if (c == '\n') {
+                escaped = "\\n";
+            } else if (c == '\r') {
+                escaped = "\\r";
+            } else if (c == '"') {
+                escaped = "\\\"";
+            } else if (c == '\\') {
+                escaped = "\\\\";
+            } else if (c >= ' ' && c <= '~') {
+                escaped = String.valueOf(c);
+            } else {
+                escaped = toUString(c);
+            }
+            if (lineLength + escaped.length() > 60) {
+                System.out.print("\"\n+ \"");
+                lineLength = 0;
+            }
+            System.out.print(escaped);
+            lineLength += escaped.length();
+        }
+        System.out.print("\"");
     }
 
 }
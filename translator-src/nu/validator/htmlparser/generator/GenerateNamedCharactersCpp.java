@@ -166,31 +166,8 @@ public class GenerateNamedCharactersCpp {
                 + "NamedCharactersAccel.h\"\n");
         out.write("\n");
 
-        // Java initializes arrays to zero. Zero is our magic value for no hilo
-        // value.
-        int[][] hiLoTable = new int['z' + 1]['Z' - 'A' + 1 + 'z' - 'a' + 1];
-
-        String firstName = entities.entrySet().iterator().next().getKey();
-        int firstKey = charToIndex(firstName.charAt(0));
-        int secondKey = firstName.charAt(1);
-        int row = 0;
-        int lo = 0;
-
-        for (Map.Entry<String, String> entity : entities.entrySet()) {
-            String name = entity.getKey();
-            int newFirst = charToIndex(name.charAt(0));
-            int newSecond = name.charAt(1);
-            assert !(newFirst == 0 && newSecond == 0) : "Not prepared for name starting with AA";
-            if (firstKey != newFirst || secondKey != newSecond) {
-                hiLoTable[secondKey][firstKey] = ((row - 1) << 16) | lo;
-                lo = row;
-                firstKey = newFirst;
-                secondKey = newSecond;
-            }
-            row++;
-        }
-
-        hiLoTable[secondKey][firstKey] = ((entities.size() - 1) << 16) | lo;
+        NamedCharacterTrie trie = new NamedCharacterTrie(entities);
+        int[][] hiLoTable = trie.getHiLoTable();
 
         for (int i = 0; i < hiLoTable.length; i++) {
             if (!allZero(hiLoTable[i])) {
@@ -220,10 +197,29 @@ public class GenerateNamedCharactersCpp {
         }
         out.write("\n};\n\n");
 
+        writeTrieArray(out, cppTypes, "TRIE_LABELS", trie.getLabels());
+        writeTrieArray(out, cppTypes, "TRIE_FIRST_CHILD",
+                trie.getFirstChildren());
+        writeTrieArray(out, cppTypes, "TRIE_MATCHES", trie.getMatches());
+
         out.flush();
         out.close();
     }
 
+    private static void writeTrieArray(Writer out, CppTypes cppTypes,
+            String name, char[] arr) throws IOException {
+        out.write("const " + cppTypes.charType() + " "
+                + cppTypes.classPrefix() + "NamedCharactersAccel::" + name
+                + "[] = {\n");
+        for (int i = 0; i < arr.length; i++) {
+            if (i != 0) {
+                out.write((i % 10 == 0) ? ",\n" : ", ");
+            }
+            out.write(toHexString(arr[i]));
+        }
+        out.write("\n};\n\n");
+    }
+
     private static void generateAccelH(File targetDirectory, CppTypes cppTypes,
             TreeMap<String, String> entities) throws IOException {
         File hFile = new File(targetDirectory, cppTypes.classPrefix()
@@ -248,6 +244,12 @@ public class GenerateNamedCharactersCpp {
         out.write("  public:\n");
         out.write("    static const " + cppTypes.intType()
                 + "* const HILO_ACCEL[];\n");
+        out.write("    static const " + cppTypes.charType()
+                + " TRIE_LABELS[];\n");
+        out.write("    static const " + cppTypes.charType()
+                + " TRIE_FIRST_CHILD[];\n");
+        out.write("    static const " + cppTypes.charType()
+                + " TRIE_MATCHES[];\n");
         out.write("};\n");
 
         out.write("\n#endif // " + cppTypes.classPrefix()
@@ -413,16 +415,6 @@ public class GenerateNamedCharactersCpp {
                 + name + ";\n");
     }
 
-    private static int charToIndex(char c) {
-        if (c >= 'a' && c <= 'z') {
-            return c - 'a' + 26;
-        } else if (c >= 'A' && c <= 'Z') {
-            return c - 'A';
-        }
-        throw new IllegalArgumentException("Bad char in named character name: "
-                + c);
-    }
-
     private static boolean allZero(int[] arr) {
         for (int i = 0; i < arr.length; i++) {
             if (arr[i] != 0) {
@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+package nu.validator.htmlparser.generator;
+
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Generates the minimal perfect hash tables that <code>ElementName</code> and
+ * <code>AttributeName</code> use for looking up well-known names.
+ * 
+ * <p>The hash of each well-known name (as computed by the class's own
+ * <code>bufToHash</code>) selects a bucket whose displacement is mixed back
+ * into the hash to select a slot. Displacements are searched for the buckets
+ * in descending order of size until every name has a slot of its own. The
+ * tables of names, hashes and displacements then replace the end of the
+ * source file starting at the names table.
+ * 
+ * <p>Run with the compiled parser on the class path and the directory
+ * containing <code>ElementName.java</code> and <code>AttributeName.java</code>
+ * as the argument.
+ * 
+ * @version $Id$
+ */
+public class GeneratePerfectHashes {
+
+    private static final int MAX_DISPLACEMENT = 1 << 24;
+
+    private static class Entry {
+        final String constName;
+
+        final int hash;
+
+        Entry(String constName, int hash) {
+            this.constName = constName;
+            this.hash = hash;
+        }
+    }
+
+    /**
+     * Must match <code>bucket()</code> in <code>ElementName</code> and
+     * <code>AttributeName</code>.
+     */
+    static int bucket(int hash, int bucketCount) {
+        return (hash ^ (hash >> 10) ^ (hash >> 20)) & (bucketCount - 1);
+    }
+
+    /**
+     * Must match <code>slot()</code> in <code>ElementName</code> and
+     * <code>AttributeName</code>.
+     */
+    static int slot(int hash, int displacement, int size) {
+        int mixed = hash ^ displacement;
+        mixed ^= mixed >> 16;
+        mixed ^= mixed >> 7;
+        return (mixed & 0x7FFFFFFF) % size;
+    }
+
+    /**
+     * @param args
+     *            the directory that contains the sources to rewrite
+     * @throws Exception
+     */
+    public static void main(String[] args) throws Exception {
+        String dir = args[0];
+        generate(dir + "/ElementName.java",
+                "nu.validator.htmlparser.impl.ElementName", "ELEMENT");
+        generate(dir + "/AttributeName.java",
+                "nu.validator.htmlparser.impl.AttributeName", "ATTRIBUTE");
+    }
+
+    private static void generate(String path, String className, String prefix)
+            throws Exception {
+        Class<?> klass = Class.forName(className);
+        Field namesField = klass.getDeclaredField(prefix + "_NAMES");
+        namesField.setAccessible(true);
+        Object[] names = (Object[]) namesField.get(null);
+        Method bufToHash = klass.getDeclaredMethod("bufToHash", char[].class,
+                int.class);
+        bufToHash.setAccessible(true);
+
+        List<Entry> entries = new ArrayList<Entry>();
+        for (Object name : names) {
+            String local = localName(klass, name);
+            int hash = ((Integer) bufToHash.invoke(null, local.toCharArray(),
+                    Integer.valueOf(local.length()))).intValue();
+            entries.add(new Entry(constName(klass, name), hash));
+        }
+        Collections.sort(entries, new Comparator<Entry>() {
+            public int compare(Entry a, Entry b) {
+                return a.hash < b.hash ? -1 : (a.hash == b.hash ? 0 : 1);
+            }
+        });
+        for (int i = 1; i < entries.size(); i++) {
+            if (entries.get(i).hash == entries.get(i - 1).hash) {
+                throw new RuntimeException("Hash collision: "
+                        + entries.get(i).constName + ", "
+                        + entries.get(i - 1).constName);
+            }
+        }
+
+        int size = entries.size();
+        int bucketCount = Integer.highestOneBit(size);
+        int[] displacements = null;
+        Entry[] slots = null;
+        while (displacements == null) {
+            slots = new Entry[size];
+            displacements = place(entries, bucketCount, slots);
+            bucketCount <<= 1;
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("    private final static @NoLength ").append(
+                klass.getSimpleName()).append("[] ").append(prefix).append(
+                "_NAMES = {\n");
+        for (Entry entry : slots) {
+            sb.append("    ").append(entry.constName).append(",\n");
+        }
+        sb.append("    };\n");
+        sb.append("    private final static int[] ").append(prefix).append(
+                "_HASHES = {\n");
+        for (Entry entry : slots) {
+            sb.append("    ").append(entry.hash).append(",\n");
+        }
+        sb.append("    };\n");
+        sb.append("    private final static int[] ").append(prefix).append(
+                "_DISPLACEMENTS = {\n");
+        for (int displacement : displacements) {
+            sb.append("    ").append(displacement).append(",\n");
+        }
+        sb.append("    };\n");
+        sb.append("}\n");
+
+        String source = read(path);
+        String marker = "    private final static @NoLength "
+                + klass.getSimpleName() + "[] " + prefix + "_NAMES = {";
+        int index = source.indexOf(marker);
+        if (index == -1) {
+            throw new RuntimeException("Names table not found in " + path);
+        }
+        write(path, source.substring(0, index) + sb);
+        System.err.println(klass.getSimpleName() + ": " + size + " names, "
+                + displacements.length + " buckets.");
+    }
+
+    private static int[] place(List<Entry> entries, int bucketCount,
+            Entry[] slots) {
+        List<List<Entry>> buckets = new ArrayList<List<Entry>>();
+        for (int i = 0; i < bucketCount; i++) {
+            buckets.add(new ArrayList<Entry>());
+        }
+        for (Entry entry : entries) {
+            buckets.get(bucket(entry.hash, bucketCount)).add(entry);
+        }
+        Integer[] order = new Integer[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            order[i] = Integer.valueOf(i);
+        }
+        final List<List<Entry>> finalBuckets = buckets;
+        Arrays.sort(order, new Comparator<Integer>() {
+            public int compare(Integer a, Integer b) {
+                int diff = finalBuckets.get(b.intValue()).size()
+                        - finalBuckets.get(a.intValue()).size();
+                return diff != 0 ? diff : a.intValue() - b.intValue();
+            }
+        });
+        int size = slots.length;
+        int[] displacements = new int[bucketCount];
+        int[] candidate = new int[size];
+        for (Integer b : order) {
+            List<Entry> bucket = buckets.get(b.intValue());
+            if (bucket.isEmpty()) {
+                break;
+            }
+            int displacement = 0;
+            search: for (;;) {
+                if (displacement == MAX_DISPLACEMENT) {
+                    return null;
+                }
+                for (int i = 0; i < bucket.size(); i++) {
+                    int s = slot(bucket.get(i).hash, displacement, size);
+                    if (slots[s] != null) {
+                        displacement++;
+                        continue search;
+                    }
+                    for (int j = 0; j < i; j++) {
+                        if (candidate[j] == s) {
+                            displacement++;
+                            continue search;
+                        }
+                    }
+                    candidate[i] = s;
+                }
+                break;
+            }
+            for (int i = 0; i < bucket.size(); i++) {
+                slots[candidate[i]] = bucket.get(i);
+            }
+            displacements[b.intValue()] = displacement;
+        }
+        return displacements;
+    }
+
+    private static String localName(Class<?> klass, Object name)
+            throws Exception {
+        if ("ElementName".equals(klass.getSimpleName())) {
+            return (String) klass.getField("name").get(name);
+        }
+        return (String) klass.getMethod("getLocal", int.class).invoke(name,
+                Integer.valueOf(0));
+    }
+
+    private static String constName(Class<?> klass, Object name)
+            throws Exception {
+        for (Field field : klass.getFields()) {
+            int modifiers = field.getModifiers();
+            if (Modifier.isStatic(modifiers) && Modifier.isFinal(modifiers)
+                    && field.getType() == klass && field.get(null) == name) {
+                return field.getName();
+            }
+        }
+        throw new RuntimeException("No constant for a well-known name.");
+    }
+
+    private static String read(String path) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        Reader reader = new InputStreamReader(new FileInputStream(path),
+                "utf-8");
+        try {
+            char[] buf = new char[4096];
+            int len;
+            while ((len = reader.read(buf)) != -1) {
+                sb.append(buf, 0, len);
+            }
+        } finally {
+            reader.close();
+        }
+        return sb.toString();
+    }
+
+    private static void write(String path, String source) throws IOException {
+        Writer writer = new OutputStreamWriter(new FileOutputStream(path),
+                "utf-8");
+        try {
+            writer.write(source);
+        } finally {
+            writer.close();
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026 Mozilla Foundation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a 
+ * copy of this software and associated documentation files (the "Software"), 
+ * to deal in the Software without restriction, including without limitation 
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense, 
+ * and/or sell copies of the Software, and to permit persons to whom the 
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in 
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR 
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, 
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL 
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER 
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING 
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER 
+ * DEALINGS IN THE SOFTWARE.
+ */
+package nu.validator.htmlparser.generator;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Builds the trie that the tokenizer walks when matching named character
+ * references. Nodes are numbered breadth-first so that the children of each 
+ * node are contiguous and sorted by label and so that the children of node 
+ * <code>n + 1</code> directly follow those of node <code>n</code>. This lets 
+ * the tables be three parallel arrays:
+ * 
+ * <ul>
+ * <li><code>TRIE_LABELS[n]</code> is the character on the edge leading to 
+ * node <code>n</code>.</li>
+ * <li>The children of node <code>n</code> are the nodes from 
+ * <code>TRIE_FIRST_CHILD[n]</code> (inclusive) to 
+ * <code>TRIE_FIRST_CHILD[n + 1]</code> (exclusive).</li>
+ * <li><code>TRIE_MATCHES[n]</code> is one plus the index in 
+ * <code>NAMES</code>/<code>VALUES</code> of the name that ends at node 
+ * <code>n</code> or zero if no name ends there.</li>
+ * </ul>
+ * 
+ * <p>The first two characters of each name are looked up through 
+ * <code>HILO_ACCEL</code> whose non-zero entries are the nodes reached after 
+ * those two characters.
+ * 
+ * @version $Id$
+ */
+final class NamedCharacterTrie {
+
+    private static final class Node {
+
+        final char label;
+
+        final SortedMap<Character, Node> children = new TreeMap<Character, Node>();
+
+        int match = -1;
+
+        int number;
+
+        Node(char label) {
+            this.label = label;
+        }
+    }
+
+    private final char[] labels;
+
+    private final char[] firstChildren;
+
+    private final char[] matches;
+
+    private final int[][] hiLoTable;
+
+    NamedCharacterTrie(SortedMap<String, String> entities) {
+        Node root = new Node('\u0000');
+        int index = 0;
+        for (Iterator<String> iter = entities.keySet().iterator(); iter.hasNext();) {
+            String name = iter.next();
+            Node node = root;
+            for (int i = 0; i < name.length(); i++) {
+                Character c = Character.valueOf(name.charAt(i));
+                Node child = node.children.get(c);
+                if (child == null) {
+                    child = new Node(name.charAt(i));
+                    node.children.put(c, child);
+                }
+                node = child;
+            }
+            node.match = index;
+            index++;
+        }
+
+        List<Node> nodes = new ArrayList<Node>();
+        nodes.add(root);
+        for (int i = 0; i < nodes.size(); i++) {
+            Node node = nodes.get(i);
+            node.number = i;
+            nodes.addAll(node.children.values());
+        }
+        if (nodes.size() + 1 > 0xFFFF || entities.size() + 1 > 0xFFFF) {
+            throw new RuntimeException("Too many nodes for 16-bit tables.");
+        }
+
+        labels = new char[nodes.size()];
+        firstChildren = new char[nodes.size() + 1];
+        matches = new char[nodes.size()];
+        int next = 1;
+        for (int i = 0; i < nodes.size(); i++) {
+            Node node = nodes.get(i);
+            labels[i] = node.label;
+            firstChildren[i] = (char) next;
+            next += node.children.size();
+            matches[i] = (char) (node.match + 1);
+        }
+        firstChildren[nodes.size()] = (char) next;
+
+        // Java initializes arrays to zero. Zero is our magic value for no
+        // node, since the root is never a two-character prefix.
+        hiLoTable = new int['z' + 1]['Z' - 'A' + 1 + 'z' - 'a' + 1];
+        for (Iterator<Node> iter = root.children.values().iterator(); iter.hasNext();) {
+            Node first = iter.next();
+            for (Iterator<Node> inner = first.children.values().iterator(); inner.hasNext();) {
+                Node second = inner.next();
+                hiLoTable[second.label][charToIndex(first.label)] = second.number;
+            }
+        }
+    }
+
+    private static int charToIndex(char c) {
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a' + 26;
+        } else if (c >= 'A' && c <= 'Z') {
+            return c - 'A';
+        }
+        throw new IllegalArgumentException("Bad char in named character name: "
+                + c);
+    }
+
+    /**
+     * Returns the edge labels indexed by node.
+     * 
+     * @return the labels
+     */
+    char[] getLabels() {
+        return labels;
+    }
+
+    /**
+     * Returns the index of the first child of each node followed by one past 
+     * the last node.
+     * 
+     * @return the first children
+     */
+    char[] getFirstChildren() {
+        return firstChildren;
+    }
+
+    /**
+     * Returns one plus the index of the name ending at each node or zero.
+     * 
+     * @return the matches
+     */
+    char[] getMatches() {
+        return matches;
+    }
+
+    /**
+     * Returns the two-character prefix table indexed by the second character 
+     * and then by the packed first character.
+     * 
+     * @return the prefix table
+     */
+    int[][] getHiLoTable() {
+        return hiLoTable;
+    }
+
+    /**
+     * Returns the number of nodes.
+     * 
+     * @return the node count
+     */
+    int getNodeCount() {
+        return labels.length;
+    }
+}